@@ -231,9 +231,8 @@ public abstract class SecureApi {
         return true;
       }
 
-      List<UUID> tenantIds = getUUIDValuesForAuthoritiesWithPrefix(authentication, "TENANT_");
-
-      return tenantIds.contains(tenantId);
+      // Compare the authorities directly rather than parsing every tenant authority as a UUID
+      return hasAuthority("TENANT_" + tenantId);
     } else {
       return true;
     }
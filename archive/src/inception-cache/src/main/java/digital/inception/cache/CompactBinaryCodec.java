@@ -0,0 +1,906 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+/**
+ * The <b>CompactBinaryCodec</b> class implements a compact, versioned binary codec for object
+ * graphs made up of registered entity classes, e.g. JPA entities, which are held in a distributed
+ * in-memory cache.
+ *
+ * <p>Unlike Java serialization, the codec does not write class descriptors or field names. The
+ * fields for each registered class are written in a fixed order, which is derived from the class
+ * using reflection, and the classes are identified using their index in the list of registered
+ * classes. Strings, UUIDs, numbers, dates, enums and collections are written using compact
+ * encodings, and values of any other serializable type fall back to Java serialization.
+ *
+ * <p>Every value starts with the format version and a fingerprint for the layout of the registered
+ * classes. A value that was written using a different format version or a different version of the
+ * registered classes is rejected when it is read, rather than being decoded incorrectly.
+ *
+ * @author Marcus Portmann
+ */
+public final class CompactBinaryCodec {
+
+  /** The version of the binary format written by the codec. */
+  public static final int FORMAT_VERSION = 1;
+
+  private static final int TAG_BIG_DECIMAL = 14;
+
+  private static final int TAG_BIG_INTEGER = 15;
+
+  private static final int TAG_BYTE = 11;
+
+  private static final int TAG_BYTES = 27;
+
+  private static final int TAG_CHARACTER = 12;
+
+  private static final int TAG_DOUBLE = 8;
+
+  private static final int TAG_ENTITY = 2;
+
+  private static final int TAG_ENUM = 22;
+
+  private static final int TAG_ENUM_WITH_CLASS = 23;
+
+  private static final int TAG_FALSE = 5;
+
+  private static final int TAG_FLOAT = 9;
+
+  private static final int TAG_INSTANT = 20;
+
+  private static final int TAG_INTEGER = 6;
+
+  private static final int TAG_LIST = 24;
+
+  private static final int TAG_LOCAL_DATE = 16;
+
+  private static final int TAG_LOCAL_DATE_TIME = 17;
+
+  private static final int TAG_LOCAL_TIME = 18;
+
+  private static final int TAG_LONG = 7;
+
+  private static final int TAG_MAP = 26;
+
+  private static final int TAG_NULL = 0;
+
+  private static final int TAG_OFFSET_DATE_TIME = 19;
+
+  private static final int TAG_REFERENCE = 1;
+
+  private static final int TAG_SERIALIZABLE = 28;
+
+  private static final int TAG_SET = 25;
+
+  private static final int TAG_SHORT = 10;
+
+  private static final int TAG_STRING = 3;
+
+  private static final int TAG_TRUE = 4;
+
+  private static final int TAG_UUID = 13;
+
+  /** The class loader used to resolve enum classes and Java serialized values. */
+  private final ClassLoader classLoader;
+
+  /** The fingerprint for the layout of the registered classes. */
+  private final int fingerprint;
+
+  /** The schemas for the registered classes indexed by class. */
+  private final Map<Class<?>, TypeSchema> schemasByType = new HashMap<>();
+
+  /** The schemas for the registered classes in the order the classes were registered. */
+  private final List<TypeSchema> schemas = new ArrayList<>();
+
+  /**
+   * Constructs a new <b>CompactBinaryCodec</b>.
+   *
+   * @param types the classes that are written by the codec, which must have a no-arguments
+   *     constructor, sorted in the same order on every cluster member
+   * @param classLoader the class loader used to resolve enum classes and Java serialized values
+   */
+  public CompactBinaryCodec(List<Class<?>> types, ClassLoader classLoader) {
+    this.classLoader = classLoader;
+
+    StringBuilder layout = new StringBuilder().append(FORMAT_VERSION);
+
+    for (Class<?> type : types) {
+      TypeSchema schema = new TypeSchema(schemas.size(), type);
+
+      schemas.add(schema);
+      schemasByType.put(type, schema);
+
+      layout.append(';').append(type.getName());
+
+      for (FieldSchema fieldSchema : schema.fields) {
+        layout
+            .append(',')
+            .append(fieldSchema.field.getName())
+            .append(':')
+            .append(fieldSchema.field.getGenericType().getTypeName());
+      }
+    }
+
+    CRC32 crc32 = new CRC32();
+    crc32.update(layout.toString().getBytes(StandardCharsets.UTF_8));
+    this.fingerprint = (int) crc32.getValue();
+  }
+
+  /**
+   * Find the JPA entity and embeddable classes in the specified packages, sorted by name so that
+   * the classes are registered with the compact binary codec in the same order on every cluster
+   * member.
+   *
+   * @param packages the packages
+   * @return the JPA entity and embeddable classes
+   */
+  public static List<Class<?>> findEntityClasses(List<String> packages) {
+    ClassPathScanningCandidateComponentProvider scanner =
+        new ClassPathScanningCandidateComponentProvider(false);
+
+    scanner.addIncludeFilter(
+        (metadataReader, metadataReaderFactory) ->
+            metadataReader.getAnnotationMetadata().hasAnnotation("javax.persistence.Entity")
+                || metadataReader
+                    .getAnnotationMetadata()
+                    .hasAnnotation("javax.persistence.Embeddable"));
+
+    List<Class<?>> entityClasses = new ArrayList<>();
+
+    for (String packageToScan : packages) {
+      for (BeanDefinition beanDefinition : scanner.findCandidateComponents(packageToScan)) {
+        try {
+          Class<?> entityClass = ClassUtils.forName(beanDefinition.getBeanClassName(), null);
+
+          if (!entityClasses.contains(entityClass)) {
+            entityClasses.add(entityClass);
+          }
+        } catch (Throwable e) {
+          throw new RuntimeException(
+              "Failed to load the entity class (" + beanDefinition.getBeanClassName() + ")", e);
+        }
+      }
+    }
+
+    entityClasses.sort(Comparator.comparing(Class::getName));
+
+    return entityClasses;
+  }
+
+  private static Object newCollection(Class<?> fieldType, Collection<?> elements)
+      throws IOException {
+    if (fieldType.isInstance(elements)) {
+      return elements;
+    }
+
+    try {
+      @SuppressWarnings("unchecked")
+      Collection<Object> collection =
+          (Collection<Object>) fieldType.getDeclaredConstructor().newInstance();
+
+      collection.addAll(elements);
+
+      return collection;
+    } catch (Throwable e) {
+      throw new InvalidClassException(
+          fieldType.getName(), "Failed to create a collection of this type: " + e.getMessage());
+    }
+  }
+
+  private static BigInteger readBigInteger(DataInput in) throws IOException {
+    byte[] bytes = new byte[readVarInt(in)];
+    in.readFully(bytes);
+    return new BigInteger(bytes);
+  }
+
+  private static String readString(DataInput in) throws IOException {
+    byte[] bytes = new byte[readVarInt(in)];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static int readVarInt(DataInput in) throws IOException {
+    return (int) readVarLong(in);
+  }
+
+  private static long readVarLong(DataInput in) throws IOException {
+    long value = 0;
+
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = in.readUnsignedByte();
+
+      value |= (long) (b & 0x7F) << shift;
+
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+
+    throw new StreamCorruptedException("Invalid variable-length integer");
+  }
+
+  private static long readZigZagLong(DataInput in) throws IOException {
+    long value = readVarLong(in);
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static void writeBigInteger(DataOutput out, BigInteger value) throws IOException {
+    byte[] bytes = value.toByteArray();
+    writeVarInt(out, bytes.length);
+    out.write(bytes);
+  }
+
+  private static void writeString(DataOutput out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeVarInt(out, bytes.length);
+    out.write(bytes);
+  }
+
+  private static void writeVarInt(DataOutput out, int value) throws IOException {
+    writeVarLong(out, value & 0xFFFFFFFFL);
+  }
+
+  private static void writeVarLong(DataOutput out, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+
+    out.writeByte((int) value);
+  }
+
+  private static void writeZigZagLong(DataOutput out, long value) throws IOException {
+    writeVarLong(out, (value << 1) ^ (value >> 63));
+  }
+
+  /**
+   * Returns the fingerprint for the layout of the registered classes.
+   *
+   * @return the fingerprint for the layout of the registered classes
+   */
+  public int getFingerprint() {
+    return fingerprint;
+  }
+
+  /**
+   * Returns the classes that are written by the codec.
+   *
+   * @return the classes that are written by the codec
+   */
+  public List<Class<?>> getTypes() {
+    List<Class<?>> types = new ArrayList<>(schemas.size());
+
+    for (TypeSchema schema : schemas) {
+      types.add(schema.type);
+    }
+
+    return types;
+  }
+
+  /**
+   * Read a value that was written by the codec.
+   *
+   * @param in the input the value should be read from
+   * @return the value
+   * @throws IOException if the value could not be read or was written using a different format
+   *     version or a different version of the registered classes
+   */
+  public Object read(DataInput in) throws IOException {
+    int formatVersion = in.readUnsignedByte();
+
+    if (formatVersion != FORMAT_VERSION) {
+      throw new StreamCorruptedException(
+          "The value was written using the unsupported format version (" + formatVersion + ")");
+    }
+
+    int valueFingerprint = in.readInt();
+
+    if (valueFingerprint != fingerprint) {
+      throw new InvalidClassException(
+          "The value was written using a different version of the registered classes ("
+              + Integer.toHexString(valueFingerprint)
+              + " != "
+              + Integer.toHexString(fingerprint)
+              + ")");
+    }
+
+    return readValue(in, null, new ArrayList<>());
+  }
+
+  /**
+   * Write a value using the codec.
+   *
+   * @param out the output the value should be written to
+   * @param value the value
+   * @throws IOException if the value could not be written
+   */
+  public void write(DataOutput out, Object value) throws IOException {
+    out.writeByte(FORMAT_VERSION);
+    out.writeInt(fingerprint);
+
+    writeValue(out, value, null, new IdentityHashMap<>());
+  }
+
+  private Object readEntity(DataInput in, List<Object> handles) throws IOException {
+    int index = readVarInt(in);
+
+    if (index >= schemas.size()) {
+      throw new StreamCorruptedException("Invalid registered class index (" + index + ")");
+    }
+
+    TypeSchema schema = schemas.get(index);
+
+    Object entity;
+
+    try {
+      entity = schema.constructor.newInstance();
+    } catch (Throwable e) {
+      throw new InvalidClassException(
+          schema.type.getName(), "Failed to create an instance of this type: " + e.getMessage());
+    }
+
+    // Register the handle before reading the fields so that back references can be resolved
+    handles.add(entity);
+
+    for (FieldSchema fieldSchema : schema.fields) {
+      readField(in, entity, fieldSchema, handles);
+    }
+
+    return entity;
+  }
+
+  private void readField(DataInput in, Object entity, FieldSchema fieldSchema, List<Object> handles)
+      throws IOException {
+    Field field = fieldSchema.field;
+    Class<?> fieldType = field.getType();
+
+    try {
+      if (fieldType == int.class) {
+        field.setInt(entity, (int) readZigZagLong(in));
+      } else if (fieldType == long.class) {
+        field.setLong(entity, readZigZagLong(in));
+      } else if (fieldType == boolean.class) {
+        field.setBoolean(entity, in.readBoolean());
+      } else if (fieldType == double.class) {
+        field.setDouble(entity, in.readDouble());
+      } else if (fieldType == float.class) {
+        field.setFloat(entity, in.readFloat());
+      } else if (fieldType == short.class) {
+        field.setShort(entity, (short) readZigZagLong(in));
+      } else if (fieldType == byte.class) {
+        field.setByte(entity, in.readByte());
+      } else if (fieldType == char.class) {
+        field.setChar(entity, in.readChar());
+      } else {
+        Object value = readValue(in, fieldSchema.valueType, handles);
+
+        if (value instanceof Collection) {
+          Object currentValue = field.get(entity);
+
+          // Retain the collection created by the constructor, e.g. a sorted set, where possible
+          if ((currentValue instanceof Collection) && (currentValue != value)) {
+            @SuppressWarnings("unchecked")
+            Collection<Object> collection = (Collection<Object>) currentValue;
+
+            collection.clear();
+            collection.addAll((Collection<?>) value);
+          } else {
+            field.set(entity, newCollection(fieldType, (Collection<?>) value));
+          }
+        } else {
+          field.set(entity, value);
+        }
+      }
+    } catch (IllegalAccessException | IllegalArgumentException e) {
+      throw new InvalidClassException(
+          field.getDeclaringClass().getName(),
+          "Failed to set the field (" + field.getName() + "): " + e.getMessage());
+    }
+  }
+
+  private Object readValue(DataInput in, Class<?> valueType, List<Object> handles)
+      throws IOException {
+    int tag = in.readUnsignedByte();
+
+    switch (tag) {
+      case TAG_NULL:
+        return null;
+
+      case TAG_REFERENCE:
+        int handle = readVarInt(in);
+
+        if (handle >= handles.size()) {
+          throw new StreamCorruptedException("Invalid back reference (" + handle + ")");
+        }
+
+        return handles.get(handle);
+
+      case TAG_ENTITY:
+        return readEntity(in, handles);
+
+      case TAG_STRING:
+        return readString(in);
+
+      case TAG_TRUE:
+        return Boolean.TRUE;
+
+      case TAG_FALSE:
+        return Boolean.FALSE;
+
+      case TAG_INTEGER:
+        return (int) readZigZagLong(in);
+
+      case TAG_LONG:
+        return readZigZagLong(in);
+
+      case TAG_DOUBLE:
+        return in.readDouble();
+
+      case TAG_FLOAT:
+        return in.readFloat();
+
+      case TAG_SHORT:
+        return (short) readZigZagLong(in);
+
+      case TAG_BYTE:
+        return in.readByte();
+
+      case TAG_CHARACTER:
+        return in.readChar();
+
+      case TAG_UUID:
+        return new UUID(in.readLong(), in.readLong());
+
+      case TAG_BIG_DECIMAL:
+        int scale = (int) readZigZagLong(in);
+        return new BigDecimal(readBigInteger(in), scale);
+
+      case TAG_BIG_INTEGER:
+        return readBigInteger(in);
+
+      case TAG_LOCAL_DATE:
+        return LocalDate.ofEpochDay(readZigZagLong(in));
+
+      case TAG_LOCAL_DATE_TIME:
+        return LocalDateTime.of(
+            LocalDate.ofEpochDay(readZigZagLong(in)), LocalTime.ofNanoOfDay(readVarLong(in)));
+
+      case TAG_LOCAL_TIME:
+        return LocalTime.ofNanoOfDay(readVarLong(in));
+
+      case TAG_OFFSET_DATE_TIME:
+        return OffsetDateTime.of(
+            LocalDate.ofEpochDay(readZigZagLong(in)),
+            LocalTime.ofNanoOfDay(readVarLong(in)),
+            ZoneOffset.ofTotalSeconds((int) readZigZagLong(in)));
+
+      case TAG_INSTANT:
+        return Instant.ofEpochSecond(readZigZagLong(in), readVarInt(in));
+
+      case TAG_ENUM:
+        if ((valueType == null) || (!valueType.isEnum())) {
+          throw new StreamCorruptedException("Enum value without a known enum type");
+        }
+
+        return readEnum(valueType, readString(in));
+
+      case TAG_ENUM_WITH_CLASS:
+        String enumClassName = readString(in);
+
+        try {
+          return readEnum(Class.forName(enumClassName, false, classLoader), readString(in));
+        } catch (ClassNotFoundException e) {
+          throw new InvalidClassException(enumClassName, "Failed to load the enum class");
+        }
+
+      case TAG_LIST:
+      case TAG_SET:
+        int size = readVarInt(in);
+
+        Collection<Object> collection =
+            (tag == TAG_LIST) ? new ArrayList<>(size) : new LinkedHashSet<>(size * 2);
+
+        for (int i = 0; i < size; i++) {
+          collection.add(readValue(in, valueType, handles));
+        }
+
+        return collection;
+
+      case TAG_MAP:
+        int entryCount = readVarInt(in);
+
+        Map<Object, Object> map = new LinkedHashMap<>(entryCount * 2);
+
+        for (int i = 0; i < entryCount; i++) {
+          Object key = readValue(in, null, handles);
+          map.put(key, readValue(in, null, handles));
+        }
+
+        return map;
+
+      case TAG_BYTES:
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return bytes;
+
+      case TAG_SERIALIZABLE:
+        byte[] serializedBytes = new byte[readVarInt(in)];
+        in.readFully(serializedBytes);
+
+        try (ObjectInputStream objectInputStream =
+            new ClassLoaderObjectInputStream(
+                new ByteArrayInputStream(serializedBytes), classLoader)) {
+          return objectInputStream.readObject();
+        } catch (ClassNotFoundException e) {
+          throw new InvalidClassException(
+              e.getMessage(), "Failed to load the class for the Java serialized value");
+        }
+
+      default:
+        throw new StreamCorruptedException("Invalid value tag (" + tag + ")");
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Object readEnum(Class<?> enumType, String name) throws IOException {
+    try {
+      return Enum.valueOf((Class<? extends Enum>) enumType.asSubclass(Enum.class), name);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidClassException(enumType.getName(), "Unknown enum constant (" + name + ")");
+    }
+  }
+
+  private void writeEntity(
+      DataOutput out, Object entity, TypeSchema schema, Map<Object, Integer> handles)
+      throws IOException {
+    out.writeByte(TAG_ENTITY);
+    writeVarInt(out, schema.index);
+
+    handles.put(entity, handles.size());
+
+    for (FieldSchema fieldSchema : schema.fields) {
+      Field field = fieldSchema.field;
+      Class<?> fieldType = field.getType();
+
+      try {
+        if (fieldType == int.class) {
+          writeZigZagLong(out, field.getInt(entity));
+        } else if (fieldType == long.class) {
+          writeZigZagLong(out, field.getLong(entity));
+        } else if (fieldType == boolean.class) {
+          out.writeBoolean(field.getBoolean(entity));
+        } else if (fieldType == double.class) {
+          out.writeDouble(field.getDouble(entity));
+        } else if (fieldType == float.class) {
+          out.writeFloat(field.getFloat(entity));
+        } else if (fieldType == short.class) {
+          writeZigZagLong(out, field.getShort(entity));
+        } else if (fieldType == byte.class) {
+          out.writeByte(field.getByte(entity));
+        } else if (fieldType == char.class) {
+          out.writeChar(field.getChar(entity));
+        } else {
+          writeValue(out, field.get(entity), fieldSchema.valueType, handles);
+        }
+      } catch (IllegalAccessException e) {
+        throw new InvalidClassException(
+            field.getDeclaringClass().getName(),
+            "Failed to get the field (" + field.getName() + "): " + e.getMessage());
+      }
+    }
+  }
+
+  private void writeValue(
+      DataOutput out, Object value, Class<?> valueType, Map<Object, Integer> handles)
+      throws IOException {
+    if (value == null) {
+      out.writeByte(TAG_NULL);
+      return;
+    }
+
+    Class<?> type = value.getClass();
+
+    TypeSchema schema = schemasByType.get(type);
+
+    if (schema != null) {
+      Integer handle = handles.get(value);
+
+      if (handle != null) {
+        out.writeByte(TAG_REFERENCE);
+        writeVarInt(out, handle);
+      } else {
+        writeEntity(out, value, schema, handles);
+      }
+    } else if (type == String.class) {
+      out.writeByte(TAG_STRING);
+      writeString(out, (String) value);
+    } else if (type == UUID.class) {
+      UUID uuid = (UUID) value;
+
+      out.writeByte(TAG_UUID);
+      out.writeLong(uuid.getMostSignificantBits());
+      out.writeLong(uuid.getLeastSignificantBits());
+    } else if (type == Integer.class) {
+      out.writeByte(TAG_INTEGER);
+      writeZigZagLong(out, (Integer) value);
+    } else if (type == Long.class) {
+      out.writeByte(TAG_LONG);
+      writeZigZagLong(out, (Long) value);
+    } else if (type == Boolean.class) {
+      out.writeByte(((Boolean) value) ? TAG_TRUE : TAG_FALSE);
+    } else if (type == Double.class) {
+      out.writeByte(TAG_DOUBLE);
+      out.writeDouble((Double) value);
+    } else if (type == Float.class) {
+      out.writeByte(TAG_FLOAT);
+      out.writeFloat((Float) value);
+    } else if (type == Short.class) {
+      out.writeByte(TAG_SHORT);
+      writeZigZagLong(out, (Short) value);
+    } else if (type == Byte.class) {
+      out.writeByte(TAG_BYTE);
+      out.writeByte((Byte) value);
+    } else if (type == Character.class) {
+      out.writeByte(TAG_CHARACTER);
+      out.writeChar((Character) value);
+    } else if (type == BigDecimal.class) {
+      BigDecimal bigDecimal = (BigDecimal) value;
+
+      out.writeByte(TAG_BIG_DECIMAL);
+      writeZigZagLong(out, bigDecimal.scale());
+      writeBigInteger(out, bigDecimal.unscaledValue());
+    } else if (type == BigInteger.class) {
+      out.writeByte(TAG_BIG_INTEGER);
+      writeBigInteger(out, (BigInteger) value);
+    } else if (type == LocalDate.class) {
+      out.writeByte(TAG_LOCAL_DATE);
+      writeZigZagLong(out, ((LocalDate) value).toEpochDay());
+    } else if (type == LocalDateTime.class) {
+      LocalDateTime localDateTime = (LocalDateTime) value;
+
+      out.writeByte(TAG_LOCAL_DATE_TIME);
+      writeZigZagLong(out, localDateTime.toLocalDate().toEpochDay());
+      writeVarLong(out, localDateTime.toLocalTime().toNanoOfDay());
+    } else if (type == LocalTime.class) {
+      out.writeByte(TAG_LOCAL_TIME);
+      writeVarLong(out, ((LocalTime) value).toNanoOfDay());
+    } else if (type == OffsetDateTime.class) {
+      OffsetDateTime offsetDateTime = (OffsetDateTime) value;
+
+      out.writeByte(TAG_OFFSET_DATE_TIME);
+      writeZigZagLong(out, offsetDateTime.toLocalDate().toEpochDay());
+      writeVarLong(out, offsetDateTime.toLocalTime().toNanoOfDay());
+      writeZigZagLong(out, offsetDateTime.getOffset().getTotalSeconds());
+    } else if (type == Instant.class) {
+      Instant instant = (Instant) value;
+
+      out.writeByte(TAG_INSTANT);
+      writeZigZagLong(out, instant.getEpochSecond());
+      writeVarInt(out, instant.getNano());
+    } else if (value instanceof Enum) {
+      Enum<?> enumValue = (Enum<?>) value;
+
+      if (enumValue.getDeclaringClass() == valueType) {
+        out.writeByte(TAG_ENUM);
+      } else {
+        out.writeByte(TAG_ENUM_WITH_CLASS);
+        writeString(out, enumValue.getDeclaringClass().getName());
+      }
+
+      writeString(out, enumValue.name());
+    } else if (value instanceof Collection) {
+      Collection<?> collection = (Collection<?>) value;
+
+      out.writeByte((value instanceof Set) ? TAG_SET : TAG_LIST);
+      writeVarInt(out, collection.size());
+
+      for (Object element : collection) {
+        writeValue(out, element, valueType, handles);
+      }
+    } else if (value instanceof Map) {
+      Map<?, ?> map = (Map<?, ?>) value;
+
+      out.writeByte(TAG_MAP);
+      writeVarInt(out, map.size());
+
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        writeValue(out, entry.getKey(), null, handles);
+        writeValue(out, entry.getValue(), null, handles);
+      }
+    } else if (type == byte[].class) {
+      byte[] bytes = (byte[]) value;
+
+      out.writeByte(TAG_BYTES);
+      writeVarInt(out, bytes.length);
+      out.write(bytes);
+    } else if (value instanceof Serializable) {
+      ByteArrayOutputStream serializedBytes = new ByteArrayOutputStream();
+
+      try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(serializedBytes)) {
+        objectOutputStream.writeObject(value);
+      }
+
+      out.writeByte(TAG_SERIALIZABLE);
+      writeVarInt(out, serializedBytes.size());
+      out.write(serializedBytes.toByteArray());
+    } else {
+      throw new NotSerializableException(type.getName());
+    }
+  }
+
+  /**
+   * The <b>ClassLoaderObjectInputStream</b> class implements an object input stream that resolves
+   * classes using a specific class loader.
+   */
+  private static class ClassLoaderObjectInputStream extends ObjectInputStream {
+
+    private final ClassLoader classLoader;
+
+    ClassLoaderObjectInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+      super(in);
+      this.classLoader = classLoader;
+    }
+
+    @Override
+    protected Class<?> resolveClass(ObjectStreamClass desc)
+        throws IOException, ClassNotFoundException {
+      try {
+        return Class.forName(desc.getName(), false, classLoader);
+      } catch (ClassNotFoundException e) {
+        return super.resolveClass(desc);
+      }
+    }
+  }
+
+  /** The <b>FieldSchema</b> class holds the schema for a field of a registered class. */
+  private static class FieldSchema {
+
+    /** The field. */
+    final Field field;
+
+    /**
+     * The type of the value held by the field, or the type of the elements for a collection field,
+     * which allows enum values to be written without their class name.
+     */
+    final Class<?> valueType;
+
+    FieldSchema(Field field) {
+      this.field = field;
+
+      Class<?> type = field.getType();
+
+      if (Collection.class.isAssignableFrom(type)
+          && (field.getGenericType() instanceof ParameterizedType)) {
+        Type elementType = ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+
+        this.valueType = (elementType instanceof Class) ? (Class<?>) elementType : null;
+      } else {
+        this.valueType = type;
+      }
+    }
+
+    boolean isContainer() {
+      return Collection.class.isAssignableFrom(field.getType())
+          || Map.class.isAssignableFrom(field.getType());
+    }
+  }
+
+  /** The <b>TypeSchema</b> class holds the schema for a registered class. */
+  private static class TypeSchema {
+
+    /** The no-arguments constructor for the registered class. */
+    final Constructor<?> constructor;
+
+    /**
+     * The fields for the registered class, with the fields for superclasses first and the scalar
+     * fields for each class before its collection and map fields, so that the identifying fields
+     * for an entity have been read before any back references to the entity from the elements of a
+     * hash-based collection are resolved.
+     */
+    final List<FieldSchema> fields = new ArrayList<>();
+
+    /** The index for the registered class. */
+    final int index;
+
+    /** The registered class. */
+    final Class<?> type;
+
+    TypeSchema(int index, Class<?> type) {
+      this.index = index;
+      this.type = type;
+
+      try {
+        this.constructor = type.getDeclaredConstructor();
+        this.constructor.setAccessible(true);
+      } catch (NoSuchMethodException e) {
+        throw new IllegalArgumentException(
+            "The class (" + type.getName() + ") does not have a no-arguments constructor");
+      }
+
+      List<Class<?>> hierarchy = new ArrayList<>();
+
+      for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+        hierarchy.add(0, current);
+      }
+
+      for (Class<?> current : hierarchy) {
+        List<FieldSchema> declaredFields = new ArrayList<>();
+
+        for (Field field : current.getDeclaredFields()) {
+          if (Modifier.isStatic(field.getModifiers())
+              || Modifier.isTransient(field.getModifiers())
+              || field.isSynthetic()) {
+            continue;
+          }
+
+          field.setAccessible(true);
+
+          declaredFields.add(new FieldSchema(field));
+        }
+
+        declaredFields.sort(
+            Comparator.comparing(FieldSchema::isContainer)
+                .thenComparing(fieldSchema -> fieldSchema.field.getName()));
+
+        fields.addAll(declaredFields);
+      }
+    }
+  }
+}
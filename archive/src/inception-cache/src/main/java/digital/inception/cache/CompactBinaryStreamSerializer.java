@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.cache;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.StreamSerializer;
+import java.io.IOException;
+
+/**
+ * The <b>CompactBinaryStreamSerializer</b> class implements the Hazelcast stream serializer that
+ * uses the <b>CompactBinaryCodec</b> to serialize the values held in the distributed in-memory
+ * caches.
+ *
+ * @author Marcus Portmann
+ */
+public class CompactBinaryStreamSerializer implements StreamSerializer<Object> {
+
+  /** The Hazelcast type ID for the compact binary stream serializer. */
+  public static final int TYPE_ID = 1000;
+
+  /** The compact binary codec. */
+  private final CompactBinaryCodec codec;
+
+  /**
+   * Constructs a new <b>CompactBinaryStreamSerializer</b>.
+   *
+   * @param codec the compact binary codec
+   */
+  public CompactBinaryStreamSerializer(CompactBinaryCodec codec) {
+    this.codec = codec;
+  }
+
+  /**
+   * Returns the compact binary codec.
+   *
+   * @return the compact binary codec
+   */
+  public CompactBinaryCodec getCodec() {
+    return codec;
+  }
+
+  @Override
+  public int getTypeId() {
+    return TYPE_ID;
+  }
+
+  @Override
+  public Object read(ObjectDataInput in) throws IOException {
+    return codec.read(in);
+  }
+
+  @Override
+  public void write(ObjectDataOutput out, Object object) throws IOException {
+    codec.write(out, object);
+  }
+}
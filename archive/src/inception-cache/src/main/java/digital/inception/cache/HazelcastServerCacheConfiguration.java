@@ -26,13 +26,17 @@ import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MaxSizePolicy;
 import com.hazelcast.config.MulticastConfig;
 import com.hazelcast.config.NetworkConfig;
+import com.hazelcast.config.SerializerConfig;
 import com.hazelcast.config.TcpIpConfig;
 import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
 
 /**
  * The <b>HazelcastServerCacheConfiguration</b> class provides the Hazelcast server cache
@@ -46,12 +50,22 @@ import org.springframework.context.annotation.Configuration;
 @ConfigurationProperties("inception.cache.hazelcast.server")
 public class HazelcastServerCacheConfiguration {
 
+  /* Logger */
+  private static final Logger logger =
+      LoggerFactory.getLogger(HazelcastServerCacheConfiguration.class);
+
   /** The distributed in-memory caches. */
   private List<CacheConfig> caches;
 
   /** The distributed in-memory cache cluster configuration. */
   private ClusterConfig cluster;
 
+  /**
+   * The packages containing the JPA entity classes that should be serialized using the compact
+   * binary codec instead of Java serialization.
+   */
+  private List<String> compactSerializationPackages;
+
   /** Is the Hazelcast server cache enabled? */
   private boolean enabled;
 
@@ -76,6 +90,17 @@ public class HazelcastServerCacheConfiguration {
     return cluster;
   }
 
+  /**
+   * Returns the packages containing the JPA entity classes that should be serialized using the
+   * compact binary codec instead of Java serialization.
+   *
+   * @return the packages containing the JPA entity classes that should be serialized using the
+   *     compact binary codec instead of Java serialization
+   */
+  public List<String> getCompactSerializationPackages() {
+    return compactSerializationPackages;
+  }
+
   /**
    * Returns whether port auto increment is enabled.
    *
@@ -160,6 +185,31 @@ public class HazelcastServerCacheConfiguration {
       mapConfig.setReadBackupData(cacheConfig.getReadBackupData());
     }
 
+    // Register the compact binary serializer for the JPA entity classes
+    if ((compactSerializationPackages != null) && (!compactSerializationPackages.isEmpty())) {
+      List<Class<?>> entityClasses =
+          CompactBinaryCodec.findEntityClasses(compactSerializationPackages);
+
+      CompactBinaryStreamSerializer compactBinaryStreamSerializer =
+          new CompactBinaryStreamSerializer(
+              new CompactBinaryCodec(entityClasses, ClassUtils.getDefaultClassLoader()));
+
+      for (Class<?> entityClass : entityClasses) {
+        config
+            .getSerializationConfig()
+            .addSerializerConfig(
+                new SerializerConfig()
+                    .setImplementation(compactBinaryStreamSerializer)
+                    .setTypeClass(entityClass));
+      }
+
+      logger.info(
+          "Registered the compact binary serializer for "
+              + entityClasses.size()
+              + " entity classes with the fingerprint "
+              + Integer.toHexString(compactBinaryStreamSerializer.getCodec().getFingerprint()));
+    }
+
     // HazelcastInstanceFactory
 
     return config;
@@ -201,6 +251,17 @@ public class HazelcastServerCacheConfiguration {
     this.enabled = enabled;
   }
 
+  /**
+   * Set the packages containing the JPA entity classes that should be serialized using the compact
+   * binary codec instead of Java serialization.
+   *
+   * @param compactSerializationPackages the packages containing the JPA entity classes that should
+   *     be serialized using the compact binary codec instead of Java serialization
+   */
+  public void setCompactSerializationPackages(List<String> compactSerializationPackages) {
+    this.compactSerializationPackages = compactSerializationPackages;
+  }
+
   /**
    * Set whether port auto increment is enabled.
    *
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.cache.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import digital.inception.cache.CompactBinaryCodec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The <b>CompactBinaryCodecTest</b> class contains the implementation of the JUnit tests for the
+ * <b>CompactBinaryCodec</b> class.
+ *
+ * @author Marcus Portmann
+ */
+public class CompactBinaryCodecTest {
+
+  /**
+   * Create a test parent with a value for every field, apart from the optional fields, and three
+   * test children, two of which are favourite test children.
+   *
+   * @return the test parent
+   */
+  static TestParent createTestParent() {
+    TestParent parent = new TestParent();
+    parent.setAmount(new BigDecimal("-12345.6789"));
+    parent.setCreated(LocalDateTime.of(2022, 3, 14, 15, 9, 26, 535897932));
+    parent.setDateOfBirth(LocalDate.of(1976, 3, 7));
+    parent.setId(UUID.randomUUID());
+    parent.setLastAccessed(Instant.ofEpochSecond(1647270566L, 123456789));
+    parent.setName("Test Parent");
+    parent.setPreferredContactTime(LocalTime.of(9, 30, 15, 1000));
+    parent.setStatus(TestStatus.ACTIVE);
+    parent.setUpdated(
+        OffsetDateTime.of(2022, 3, 15, 8, 0, 0, 999, ZoneOffset.ofHoursMinutes(-5, -30)));
+    parent.setVersion(Long.MAX_VALUE);
+
+    parent.getAttributes().put("Count", 42);
+    parent.getAttributes().put("Status", TestStatus.SUSPENDED);
+    parent.getAttributes().put("Effective", LocalDate.of(2022, 1, 1));
+    parent.getAttributes().put("Codes", Arrays.asList("A", null, "C"));
+    parent.getAttributes().put("Missing", null);
+
+    parent.getStatusHistory().add(TestStatus.INACTIVE);
+    parent.getStatusHistory().add(null);
+    parent.getStatusHistory().add(TestStatus.ACTIVE);
+
+    parent.getTags().add("Tag 2");
+    parent.getTags().add("Tag 1");
+
+    parent.addChild(new TestChild(UUID.randomUUID(), "Test Child 1"), true);
+    parent.addChild(new TestChild(UUID.randomUUID(), "Test Child 2"), false);
+    parent.addChild(new TestChild(UUID.randomUUID(), "Test Child 3"), true);
+
+    return parent;
+  }
+
+  /**
+   * Check that the test parent read using the codec is the same as the test parent that was
+   * written.
+   *
+   * @param parent the test parent that was written
+   * @param readParent the test parent that was read
+   */
+  static void compareTestParents(TestParent parent, TestParent readParent) {
+    assertEquals(parent.getAmount(), readParent.getAmount(), "The amount values do not match");
+    assertEquals(parent.getCreated(), readParent.getCreated(), "The created values do not match");
+    assertEquals(
+        parent.getDateOfBirth(),
+        readParent.getDateOfBirth(),
+        "The date of birth values do not match");
+    assertEquals(parent.getId(), readParent.getId(), "The ID values do not match");
+    assertEquals(
+        parent.getLastAccessed(),
+        readParent.getLastAccessed(),
+        "The last accessed values do not match");
+    assertEquals(parent.getName(), readParent.getName(), "The name values do not match");
+    assertNull(readParent.getNickname(), "The nickname value is not null");
+    assertEquals(
+        parent.getPreferredContactTime(),
+        readParent.getPreferredContactTime(),
+        "The preferred contact time values do not match");
+    assertNull(readParent.getPreviousStatus(), "The previous status value is not null");
+    assertSame(parent.getStatus(), readParent.getStatus(), "The status values do not match");
+    assertEquals(parent.getUpdated(), readParent.getUpdated(), "The updated values do not match");
+    assertEquals(parent.getVersion(), readParent.getVersion(), "The version values do not match");
+
+    assertEquals(parent.getAttributes(), readParent.getAttributes(), "The attributes do not match");
+    assertEquals(
+        new ArrayList<>(parent.getAttributes().keySet()),
+        new ArrayList<>(readParent.getAttributes().keySet()),
+        "The order of the attributes does not match");
+    assertTrue(
+        readParent.getAttributes().containsKey("Missing"),
+        "The attribute with a null value was not read");
+
+    assertEquals(
+        parent.getStatusHistory(),
+        readParent.getStatusHistory(),
+        "The status history values do not match");
+
+    assertEquals(parent.getTags(), readParent.getTags(), "The tags do not match");
+    assertTrue(
+        readParent.getTags() instanceof TreeSet,
+        "The sorted set created by the constructor was not retained");
+
+    assertEquals(
+        parent.getChildren().size(),
+        readParent.getChildren().size(),
+        "The number of children does not match");
+
+    for (int i = 0; i < parent.getChildren().size(); i++) {
+      TestChild child = parent.getChildren().get(i);
+      TestChild readChild = readParent.getChildren().get(i);
+
+      assertEquals(child.getId(), readChild.getId(), "The child ID values do not match");
+      assertEquals(child.getName(), readChild.getName(), "The child name values do not match");
+      assertSame(
+          readParent, readChild.getParent(), "The back reference to the parent was not resolved");
+    }
+
+    assertEquals(
+        parent.getFavouriteChildren(),
+        readParent.getFavouriteChildren(),
+        "The favourite children do not match");
+
+    for (TestChild favouriteChild : readParent.getFavouriteChildren()) {
+      assertTrue(
+          readParent.getChildren().stream().anyMatch(child -> child == favouriteChild),
+          "The favourite child is not the same instance as the child");
+    }
+  }
+
+  /** Test that a value written using a different format version is rejected. */
+  @Test
+  public void formatVersionMismatchTest() throws IOException {
+    CompactBinaryCodec codec = createCodec(List.of(TestChild.class, TestParent.class));
+
+    byte[] data = write(codec, createTestParent());
+
+    data[0] = (byte) (CompactBinaryCodec.FORMAT_VERSION + 1);
+
+    assertThrows(
+        StreamCorruptedException.class,
+        () -> read(codec, data),
+        "The value written using a different format version was not rejected");
+  }
+
+  /** Test that a value written using a different version of the registered classes is rejected. */
+  @Test
+  public void fingerprintMismatchTest() throws IOException {
+    CompactBinaryCodec writeCodec = createCodec(List.of(TestChild.class, TestParent.class));
+    CompactBinaryCodec readCodec = createCodec(List.of(TestParent.class, TestChild.class));
+
+    assertNotEquals(
+        writeCodec.getFingerprint(),
+        readCodec.getFingerprint(),
+        "The fingerprints for the different registered classes match");
+
+    byte[] data = write(writeCodec, createTestParent());
+
+    assertThrows(
+        InvalidClassException.class,
+        () -> read(readCodec, data),
+        "The value written using a different version of the registered classes was not rejected");
+  }
+
+  /** Test writing and reading a null value and values that are not registered classes. */
+  @Test
+  public void nonEntityValuesTest() throws IOException {
+    CompactBinaryCodec codec = createCodec(List.of(TestChild.class, TestParent.class));
+
+    assertNull(read(codec, write(codec, null)), "The null value was not read");
+
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("String", "Value");
+    map.put("Long", -1L);
+    map.put("Boolean", Boolean.TRUE);
+    map.put("Status", TestStatus.INACTIVE);
+    map.put("Instant", Instant.EPOCH);
+    map.put("Set", Set.of(1));
+    map.put(null, null);
+
+    assertEquals(map, read(codec, write(codec, map)), "The map was not read correctly");
+  }
+
+  /** Test writing and reading an object graph made up of registered classes. */
+  @Test
+  public void roundTripTest() throws IOException {
+    CompactBinaryCodec codec = createCodec(List.of(TestChild.class, TestParent.class));
+
+    TestParent parent = createTestParent();
+
+    TestParent readParent = (TestParent) read(codec, write(codec, parent));
+
+    compareTestParents(parent, readParent);
+  }
+
+  /**
+   * Test writing and reading an object graph, starting from an entity with a back reference to an
+   * entity that references the starting entity.
+   */
+  @Test
+  public void roundTripFromChildTest() throws IOException {
+    CompactBinaryCodec codec = createCodec(List.of(TestChild.class, TestParent.class));
+
+    TestParent parent = createTestParent();
+
+    TestChild readChild = (TestChild) read(codec, write(codec, parent.getChildren().get(1)));
+
+    assertEquals(
+        parent.getChildren().get(1).getId(), readChild.getId(), "The child ID values do not match");
+
+    compareTestParents(parent, readChild.getParent());
+
+    assertSame(
+        readChild,
+        readChild.getParent().getChildren().get(1),
+        "The back reference to the child was not resolved");
+  }
+
+  private static CompactBinaryCodec createCodec(List<Class<?>> types) {
+    return new CompactBinaryCodec(types, Thread.currentThread().getContextClassLoader());
+  }
+
+  private static Object read(CompactBinaryCodec codec, byte[] data) throws IOException {
+    return codec.read(new DataInputStream(new ByteArrayInputStream(data)));
+  }
+
+  private static byte[] write(CompactBinaryCodec codec, Object value) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+    codec.write(new DataOutputStream(baos), value);
+
+    return baos.toByteArray();
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.cache.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.config.SerializerConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.nio.serialization.HazelcastSerializationException;
+import digital.inception.cache.CompactBinaryCodec;
+import digital.inception.cache.CompactBinaryStreamSerializer;
+import java.io.InvalidClassException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The <b>CompactBinaryStreamSerializerTest</b> class contains the implementation of the JUnit tests
+ * for the <b>CompactBinaryStreamSerializer</b> class.
+ *
+ * @author Marcus Portmann
+ */
+public class CompactBinaryStreamSerializerTest {
+
+  /**
+   * Test that a value written by a cluster member with a different version of the registered
+   * classes is rejected.
+   */
+  @Test
+  public void fingerprintMismatchTest() {
+    SerializationService writeSerializationService =
+        createSerializationService(List.of(TestChild.class, TestParent.class));
+    SerializationService readSerializationService =
+        createSerializationService(List.of(TestParent.class, TestChild.class));
+
+    Data data = writeSerializationService.toData(CompactBinaryCodecTest.createTestParent());
+
+    HazelcastSerializationException exception =
+        assertThrows(
+            HazelcastSerializationException.class,
+            () -> readSerializationService.toObject(data),
+            "The value written using a different version of the registered classes was not"
+                + " rejected");
+
+    assertInstanceOf(
+        InvalidClassException.class,
+        exception.getCause(),
+        "The value was not rejected by the compact binary codec");
+  }
+
+  /** Test writing and reading an object graph made up of registered classes using Hazelcast. */
+  @Test
+  public void roundTripTest() {
+    SerializationService serializationService =
+        createSerializationService(List.of(TestChild.class, TestParent.class));
+
+    TestParent parent = CompactBinaryCodecTest.createTestParent();
+
+    Data data = serializationService.toData(parent);
+
+    assertEquals(
+        CompactBinaryStreamSerializer.TYPE_ID,
+        data.getType(),
+        "The value was not written using the compact binary stream serializer");
+
+    TestParent readParent = serializationService.toObject(data);
+
+    CompactBinaryCodecTest.compareTestParents(parent, readParent);
+
+    TestChild readChild =
+        serializationService.toObject(serializationService.toData(parent.getChildren().get(0)));
+
+    assertSame(
+        readChild,
+        readChild.getParent().getChildren().get(0),
+        "The back reference to the child was not resolved");
+  }
+
+  private static SerializationService createSerializationService(List<Class<?>> types) {
+    CompactBinaryStreamSerializer compactBinaryStreamSerializer =
+        new CompactBinaryStreamSerializer(
+            new CompactBinaryCodec(types, Thread.currentThread().getContextClassLoader()));
+
+    SerializationConfig serializationConfig = new SerializationConfig();
+
+    for (Class<?> type : types) {
+      serializationConfig.addSerializerConfig(
+          new SerializerConfig()
+              .setImplementation(compactBinaryStreamSerializer)
+              .setTypeClass(type));
+    }
+
+    return new DefaultSerializationServiceBuilder().setConfig(serializationConfig).build();
+  }
+}
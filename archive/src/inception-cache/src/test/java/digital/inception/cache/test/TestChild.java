@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.cache.test;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * The <b>TestChild</b> class holds the information for a test child, which references its parent,
+ * and is used to test the back-reference support of the compact binary codec.
+ *
+ * @author Marcus Portmann
+ */
+public class TestChild {
+
+  /** The ID for the test child. */
+  private UUID id;
+
+  /** The name of the test child. */
+  private String name;
+
+  /** The test parent the test child is associated with. */
+  private TestParent parent;
+
+  /** Constructs a new <b>TestChild</b>. */
+  public TestChild() {}
+
+  /**
+   * Constructs a new <b>TestChild</b>.
+   *
+   * @param id the ID for the test child
+   * @param name the name of the test child
+   */
+  public TestChild(UUID id, String name) {
+    this.id = id;
+    this.name = name;
+  }
+
+  /**
+   * Indicates whether some other object is "equal to" this one.
+   *
+   * @param object the reference object with which to compare
+   * @return <b>true</b> if this object is the same as the object argument otherwise <b>false</b>
+   */
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+
+    if (object == null) {
+      return false;
+    }
+
+    if (getClass() != object.getClass()) {
+      return false;
+    }
+
+    TestChild other = (TestChild) object;
+
+    return Objects.equals(id, other.id);
+  }
+
+  /**
+   * Returns the ID for the test child.
+   *
+   * @return the ID for the test child
+   */
+  public UUID getId() {
+    return id;
+  }
+
+  /**
+   * Returns the name of the test child.
+   *
+   * @return the name of the test child
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the test parent the test child is associated with.
+   *
+   * @return the test parent the test child is associated with
+   */
+  public TestParent getParent() {
+    return parent;
+  }
+
+  /**
+   * Returns a hash code value for the object.
+   *
+   * @return a hash code value for the object
+   */
+  @Override
+  public int hashCode() {
+    return (id == null) ? 0 : id.hashCode();
+  }
+
+  /**
+   * Set the test parent the test child is associated with.
+   *
+   * @param parent the test parent the test child is associated with
+   */
+  public void setParent(TestParent parent) {
+    this.parent = parent;
+  }
+}
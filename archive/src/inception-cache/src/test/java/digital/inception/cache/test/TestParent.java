@@ -0,0 +1,373 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.cache.test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * The <b>TestParent</b> class holds the information for a test parent, which is used to test the
+ * compact binary codec with the scalar, date and time, enum, collection and map values and the back
+ * references found in the JPA entities held in the distributed in-memory caches.
+ *
+ * @author Marcus Portmann
+ */
+public class TestParent {
+
+  /** The amount for the test parent. */
+  private BigDecimal amount;
+
+  /** The attributes for the test parent. */
+  private final Map<String, Object> attributes = new LinkedHashMap<>();
+
+  /** The test children for the test parent. */
+  private final List<TestChild> children = new ArrayList<>();
+
+  /** The date and time the test parent was created. */
+  private LocalDateTime created;
+
+  /** The date of birth for the test parent. */
+  private LocalDate dateOfBirth;
+
+  /** The favourite test children for the test parent. */
+  private final Set<TestChild> favouriteChildren = new HashSet<>();
+
+  /** The ID for the test parent. */
+  private UUID id;
+
+  /** The instant the test parent was last accessed. */
+  private Instant lastAccessed;
+
+  /** The name of the test parent. */
+  private String name;
+
+  /** The optional nickname for the test parent. */
+  private String nickname;
+
+  /** The preferred contact time for the test parent. */
+  private LocalTime preferredContactTime;
+
+  /** The optional previous status for the test parent. */
+  private TestStatus previousStatus;
+
+  /** The status for the test parent. */
+  private TestStatus status;
+
+  /** The status history for the test parent. */
+  private final List<TestStatus> statusHistory = new ArrayList<>();
+
+  /** The tags for the test parent. */
+  private final Set<String> tags = new TreeSet<>();
+
+  /** The date and time the test parent was last updated. */
+  private OffsetDateTime updated;
+
+  /** The version of the test parent. */
+  private long version;
+
+  /** Constructs a new <b>TestParent</b>. */
+  public TestParent() {}
+
+  /**
+   * Add the test child to the test parent.
+   *
+   * @param child the test child
+   * @param favourite is the test child one of the favourite test children for the test parent
+   */
+  public void addChild(TestChild child, boolean favourite) {
+    child.setParent(this);
+
+    children.add(child);
+
+    if (favourite) {
+      favouriteChildren.add(child);
+    }
+  }
+
+  /**
+   * Returns the amount for the test parent.
+   *
+   * @return the amount for the test parent
+   */
+  public BigDecimal getAmount() {
+    return amount;
+  }
+
+  /**
+   * Returns the attributes for the test parent.
+   *
+   * @return the attributes for the test parent
+   */
+  public Map<String, Object> getAttributes() {
+    return attributes;
+  }
+
+  /**
+   * Returns the test children for the test parent.
+   *
+   * @return the test children for the test parent
+   */
+  public List<TestChild> getChildren() {
+    return children;
+  }
+
+  /**
+   * Returns the date and time the test parent was created.
+   *
+   * @return the date and time the test parent was created
+   */
+  public LocalDateTime getCreated() {
+    return created;
+  }
+
+  /**
+   * Returns the date of birth for the test parent.
+   *
+   * @return the date of birth for the test parent
+   */
+  public LocalDate getDateOfBirth() {
+    return dateOfBirth;
+  }
+
+  /**
+   * Returns the favourite test children for the test parent.
+   *
+   * @return the favourite test children for the test parent
+   */
+  public Set<TestChild> getFavouriteChildren() {
+    return favouriteChildren;
+  }
+
+  /**
+   * Returns the ID for the test parent.
+   *
+   * @return the ID for the test parent
+   */
+  public UUID getId() {
+    return id;
+  }
+
+  /**
+   * Returns the instant the test parent was last accessed.
+   *
+   * @return the instant the test parent was last accessed
+   */
+  public Instant getLastAccessed() {
+    return lastAccessed;
+  }
+
+  /**
+   * Returns the name of the test parent.
+   *
+   * @return the name of the test parent
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the optional nickname for the test parent.
+   *
+   * @return the optional nickname for the test parent
+   */
+  public String getNickname() {
+    return nickname;
+  }
+
+  /**
+   * Returns the preferred contact time for the test parent.
+   *
+   * @return the preferred contact time for the test parent
+   */
+  public LocalTime getPreferredContactTime() {
+    return preferredContactTime;
+  }
+
+  /**
+   * Returns the optional previous status for the test parent.
+   *
+   * @return the optional previous status for the test parent
+   */
+  public TestStatus getPreviousStatus() {
+    return previousStatus;
+  }
+
+  /**
+   * Returns the status for the test parent.
+   *
+   * @return the status for the test parent
+   */
+  public TestStatus getStatus() {
+    return status;
+  }
+
+  /**
+   * Returns the status history for the test parent.
+   *
+   * @return the status history for the test parent
+   */
+  public List<TestStatus> getStatusHistory() {
+    return statusHistory;
+  }
+
+  /**
+   * Returns the tags for the test parent.
+   *
+   * @return the tags for the test parent
+   */
+  public Set<String> getTags() {
+    return tags;
+  }
+
+  /**
+   * Returns the date and time the test parent was last updated.
+   *
+   * @return the date and time the test parent was last updated
+   */
+  public OffsetDateTime getUpdated() {
+    return updated;
+  }
+
+  /**
+   * Returns the version of the test parent.
+   *
+   * @return the version of the test parent
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Set the amount for the test parent.
+   *
+   * @param amount the amount for the test parent
+   */
+  public void setAmount(BigDecimal amount) {
+    this.amount = amount;
+  }
+
+  /**
+   * Set the date and time the test parent was created.
+   *
+   * @param created the date and time the test parent was created
+   */
+  public void setCreated(LocalDateTime created) {
+    this.created = created;
+  }
+
+  /**
+   * Set the date of birth for the test parent.
+   *
+   * @param dateOfBirth the date of birth for the test parent
+   */
+  public void setDateOfBirth(LocalDate dateOfBirth) {
+    this.dateOfBirth = dateOfBirth;
+  }
+
+  /**
+   * Set the ID for the test parent.
+   *
+   * @param id the ID for the test parent
+   */
+  public void setId(UUID id) {
+    this.id = id;
+  }
+
+  /**
+   * Set the instant the test parent was last accessed.
+   *
+   * @param lastAccessed the instant the test parent was last accessed
+   */
+  public void setLastAccessed(Instant lastAccessed) {
+    this.lastAccessed = lastAccessed;
+  }
+
+  /**
+   * Set the name of the test parent.
+   *
+   * @param name the name of the test parent
+   */
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Set the optional nickname for the test parent.
+   *
+   * @param nickname the optional nickname for the test parent
+   */
+  public void setNickname(String nickname) {
+    this.nickname = nickname;
+  }
+
+  /**
+   * Set the preferred contact time for the test parent.
+   *
+   * @param preferredContactTime the preferred contact time for the test parent
+   */
+  public void setPreferredContactTime(LocalTime preferredContactTime) {
+    this.preferredContactTime = preferredContactTime;
+  }
+
+  /**
+   * Set the optional previous status for the test parent.
+   *
+   * @param previousStatus the optional previous status for the test parent
+   */
+  public void setPreviousStatus(TestStatus previousStatus) {
+    this.previousStatus = previousStatus;
+  }
+
+  /**
+   * Set the status for the test parent.
+   *
+   * @param status the status for the test parent
+   */
+  public void setStatus(TestStatus status) {
+    this.status = status;
+  }
+
+  /**
+   * Set the date and time the test parent was last updated.
+   *
+   * @param updated the date and time the test parent was last updated
+   */
+  public void setUpdated(OffsetDateTime updated) {
+    this.updated = updated;
+  }
+
+  /**
+   * Set the version of the test parent.
+   *
+   * @param version the version of the test parent
+   */
+  public void setVersion(long version) {
+    this.version = version;
+  }
+}
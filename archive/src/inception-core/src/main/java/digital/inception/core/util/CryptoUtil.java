@@ -16,19 +16,25 @@
 
 package digital.inception.core.util;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.Key;
 import java.security.KeyFactory;
 import java.security.KeyPair;
 import java.security.KeyStore;
 import java.security.MessageDigest;
+import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
 import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
 import java.util.UUID;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
@@ -321,6 +327,44 @@ public class CryptoUtil {
     return passwordToAESKey(password.getBytes(), salt.getBytes(), AES_KEY_SIZE);
   }
 
+  /**
+   * Read the PKCS#8 PEM encoded private key.
+   *
+   * @param location the location of the PKCS#8 PEM encoded private key
+   * @param algorithm the key algorithm e.g. RSA, EC, etc
+   * @return the private key
+   * @throws GeneralSecurityException if the private key could not be read
+   */
+  public static PrivateKey readPemEncodedPrivateKey(Resource location, String algorithm)
+      throws GeneralSecurityException {
+    try {
+      return KeyFactory.getInstance(algorithm)
+          .generatePrivate(new PKCS8EncodedKeySpec(readPemEncodedKey(location)));
+    } catch (Throwable e) {
+      throw new GeneralSecurityException(
+          "Failed to read the " + algorithm + " private key (" + location + ")", e);
+    }
+  }
+
+  /**
+   * Read the X.509 PEM encoded public key.
+   *
+   * @param location the location of the X.509 PEM encoded public key
+   * @param algorithm the key algorithm e.g. RSA, EC, etc
+   * @return the public key
+   * @throws GeneralSecurityException if the public key could not be read
+   */
+  public static PublicKey readPemEncodedPublicKey(Resource location, String algorithm)
+      throws GeneralSecurityException {
+    try {
+      return KeyFactory.getInstance(algorithm)
+          .generatePublic(new X509EncodedKeySpec(readPemEncodedKey(location)));
+    } catch (Throwable e) {
+      throw new GeneralSecurityException(
+          "Failed to read the " + algorithm + " public key (" + location + ")", e);
+    }
+  }
+
   private static byte[] hashPasswordAndSalt(byte[] password, byte[] salt) {
     try {
       // Concatenate password and salt.
@@ -367,4 +411,13 @@ public class CryptoUtil {
       throw new CryptoException("Failed to convert the password to an AES key", e);
     }
   }
+
+  private static byte[] readPemEncodedKey(Resource location) throws IOException {
+    try (InputStream inputStream = location.getInputStream()) {
+      String pem = new String(inputStream.readAllBytes(), StandardCharsets.US_ASCII);
+
+      return Base64.getMimeDecoder()
+          .decode(pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").trim());
+    }
+  }
 }
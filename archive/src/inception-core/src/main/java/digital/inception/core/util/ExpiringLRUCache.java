@@ -0,0 +1,136 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.core.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The <b>ExpiringLRUCache</b> class provides a bounded, local cache whose entries expire at a fixed
+ * time and that evicts the least recently used entry when the maximum number of entries is
+ * exceeded.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author Marcus Portmann
+ */
+public class ExpiringLRUCache<K, V> {
+
+  /** The cached entries, in access order, keyed by the cache key. */
+  private final LinkedHashMap<K, Entry<V>> entries;
+
+  /** The maximum number of entries to cache. */
+  private final int maxEntries;
+
+  /**
+   * Constructs a new <b>ExpiringLRUCache</b>.
+   *
+   * @param maxEntries the maximum number of entries to cache
+   */
+  public ExpiringLRUCache(int maxEntries) {
+    this.maxEntries = maxEntries;
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            return size() > ExpiringLRUCache.this.maxEntries;
+          }
+        };
+  }
+
+  /** Remove all the cached entries. */
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  /**
+   * Retrieve the cached value for the key.
+   *
+   * @param key the key
+   * @return the cached value for the key or <b>null</b> if there is no cached value for the key or
+   *     the cached value has expired
+   */
+  public synchronized V get(K key) {
+    Entry<V> entry = entries.get(key);
+
+    if (entry == null) {
+      return null;
+    }
+
+    if (entry.expiry <= System.currentTimeMillis()) {
+      entries.remove(key);
+
+      return null;
+    }
+
+    return entry.value;
+  }
+
+  /**
+   * Cache the value for the key, replacing any existing cached value for the key.
+   *
+   * <p>The value is not cached if the maximum number of entries is zero or the expiry time has
+   * already passed.
+   *
+   * @param key the key
+   * @param value the value
+   * @param expiry the time the cached value expires in milliseconds since the epoch
+   */
+  public synchronized void put(K key, V value, long expiry) {
+    if ((maxEntries <= 0) || (expiry <= System.currentTimeMillis())) {
+      return;
+    }
+
+    entries.put(key, new Entry<>(value, expiry));
+  }
+
+  /**
+   * Remove the cached value for the key.
+   *
+   * @param key the key
+   */
+  public synchronized void remove(K key) {
+    entries.remove(key);
+  }
+
+  /**
+   * Returns the number of cached entries, which may include entries that have expired but have not
+   * been removed yet.
+   *
+   * @return the number of cached entries
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /** The <b>Entry</b> class holds a cached value. */
+  private static final class Entry<V> {
+
+    /** The time the value expires in milliseconds since the epoch. */
+    private final long expiry;
+
+    /** The value. */
+    private final V value;
+
+    private Entry(V value, long expiry) {
+      this.value = value;
+      this.expiry = expiry;
+    }
+  }
+}
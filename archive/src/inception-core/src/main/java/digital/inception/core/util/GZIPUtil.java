@@ -0,0 +1,65 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.core.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The <b>GZIPUtil</b> class provides utility functions for compressing and decompressing data using
+ * GZIP.
+ *
+ * @author Marcus Portmann
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class GZIPUtil {
+
+  private GZIPUtil() {}
+
+  /**
+   * Compress the data using GZIP.
+   *
+   * @param data the data
+   * @return the GZIP compressed data
+   * @throws IOException if the data could not be compressed
+   */
+  public static byte[] compress(byte[] data) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+    try (GZIPOutputStream out = new GZIPOutputStream(baos)) {
+      out.write(data);
+    }
+
+    return baos.toByteArray();
+  }
+
+  /**
+   * Decompress the GZIP compressed data.
+   *
+   * @param data the GZIP compressed data
+   * @return the data
+   * @throws IOException if the data could not be decompressed
+   */
+  public static byte[] decompress(byte[] data) throws IOException {
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+      return in.readAllBytes();
+    }
+  }
+}
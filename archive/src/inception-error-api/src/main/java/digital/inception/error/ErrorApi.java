@@ -138,6 +138,10 @@ public class ErrorApi extends SecureApi {
    * @param sortDirection the optional sort direction to apply to the error reports
    * @param pageIndex the optional page index
    * @param pageSize the optional page size
+   * @param cursor the optional opaque cursor returned with the previous page, or an empty string to
+   *     retrieve the first page, which enables keyset pagination instead of offset pagination
+   * @param includeTotal should the total number of error report summaries be retrieved when using
+   *     keyset pagination, which requires an additional query
    * @return the error report summaries
    * @throws InvalidArgumentException if an argument is invalid
    * @throws ServiceUnavailableException if the error report summaries could not be retrieved
@@ -177,7 +181,8 @@ public class ErrorApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Error.ErrorAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Error.ErrorAdministration')")
   public ErrorReportSummaries getErrorReportSummaries(
       @Parameter(name = "filter", description = "The optional filter to apply to the error reports")
           @RequestParam(value = "filter", required = false)
@@ -198,7 +203,22 @@ public class ErrorApi extends SecureApi {
           Integer pageIndex,
       @Parameter(name = "pageSize", description = "The optional page size", example = "10")
           @RequestParam(value = "pageSize", required = false, defaultValue = "10")
-          Integer pageSize)
+          Integer pageSize,
+      @Parameter(
+              name = "cursor",
+              description =
+                  "The optional opaque cursor returned with the previous page, or an empty string"
+                      + " to retrieve the first page, which enables keyset pagination instead of"
+                      + " offset pagination")
+          @RequestParam(value = "cursor", required = false)
+          String cursor,
+      @Parameter(
+              name = "includeTotal",
+              description =
+                  "Should the total number of error report summaries be retrieved when using keyset"
+                      + " pagination")
+          @RequestParam(value = "includeTotal", required = false, defaultValue = "false")
+          boolean includeTotal)
       throws InvalidArgumentException, ServiceUnavailableException {
     if (pageIndex == null) {
       pageIndex = 0;
@@ -207,6 +227,11 @@ public class ErrorApi extends SecureApi {
       pageSize = 10;
     }
 
+    if (cursor != null) {
+      return errorService.getErrorReportSummaries(
+          filter, sortBy, sortDirection, cursor, pageSize, includeTotal);
+    }
+
     return errorService.getErrorReportSummaries(filter, sortBy, sortDirection, pageIndex, pageSize);
   }
 }
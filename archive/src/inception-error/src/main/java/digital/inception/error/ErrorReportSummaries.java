@@ -46,7 +46,8 @@ import javax.xml.bind.annotation.XmlType;
   "sortBy",
   "sortDirection",
   "pageIndex",
-  "pageSize"
+  "pageSize",
+  "nextCursor"
 })
 @XmlRootElement(name = "ErrorReportSummaries", namespace = "http://inception.digital/error")
 @XmlType(
@@ -59,7 +60,8 @@ import javax.xml.bind.annotation.XmlType;
       "sortBy",
       "sortDirection",
       "pageIndex",
-      "pageSize"
+      "pageSize",
+      "nextCursor"
     })
 @XmlAccessorType(XmlAccessType.FIELD)
 @SuppressWarnings({"unused"})
@@ -80,6 +82,15 @@ public class ErrorReportSummaries implements Serializable {
   @XmlElement(name = "Filter")
   private String filter;
 
+  /** The optional opaque cursor used to retrieve the next page when keyset pagination is used. */
+  @Schema(
+      description =
+          "The optional opaque cursor used to retrieve the next page when keyset pagination is"
+              + " used")
+  @JsonProperty
+  @XmlElement(name = "NextCursor")
+  private String nextCursor;
+
   /** The optional page index. */
   @Schema(description = "The optional page index")
   @JsonProperty
@@ -105,8 +116,15 @@ public class ErrorReportSummaries implements Serializable {
   @XmlElement(name = "SortDirection")
   private SortDirection sortDirection;
 
-  /** The total number of error report summaries. */
-  @Schema(description = "The total number of error report summaries", required = true)
+  /**
+   * The total number of error report summaries or -1 if the total was not retrieved when using
+   * keyset pagination.
+   */
+  @Schema(
+      description =
+          "The total number of error report summaries or -1 if the total was not retrieved when"
+              + " using keyset pagination",
+      required = true)
   @JsonProperty(required = true)
   @XmlElement(name = "Total", required = true)
   private long total;
@@ -142,6 +160,35 @@ public class ErrorReportSummaries implements Serializable {
     this.pageSize = pageSize;
   }
 
+  /**
+   * Constructs a new <b>ErrorReportSummaries</b>.
+   *
+   * @param errorReportSummaries the error report summaries
+   * @param total the total number of error report summaries or -1 if the total was not retrieved
+   * @param filter the optional filter that was applied to the error reports
+   * @param sortBy the optional method used to sort the error reports e.g. by who submitted them
+   * @param sortDirection the optional sort direction that was applied to the error reports
+   * @param pageSize the optional page size
+   * @param nextCursor the optional opaque cursor used to retrieve the next page when keyset
+   *     pagination is used
+   */
+  public ErrorReportSummaries(
+      List<ErrorReportSummary> errorReportSummaries,
+      long total,
+      String filter,
+      ErrorReportSortBy sortBy,
+      SortDirection sortDirection,
+      Integer pageSize,
+      String nextCursor) {
+    this.errorReportSummaries = errorReportSummaries;
+    this.total = total;
+    this.filter = filter;
+    this.sortBy = sortBy;
+    this.sortDirection = sortDirection;
+    this.pageSize = pageSize;
+    this.nextCursor = nextCursor;
+  }
+
   /**
    * Returns the error report summaries.
    *
@@ -160,6 +207,17 @@ public class ErrorReportSummaries implements Serializable {
     return filter;
   }
 
+  /**
+   * Returns the optional opaque cursor used to retrieve the next page when keyset pagination is
+   * used.
+   *
+   * @return the optional opaque cursor used to retrieve the next page when keyset pagination is
+   *     used or <b>null</b> if there are no more pages
+   */
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
   /**
    * Returns the optional page index.
    *
@@ -199,7 +257,8 @@ public class ErrorReportSummaries implements Serializable {
   /**
    * Returns the total number of error report summaries.
    *
-   * @return the total number of error report summaries
+   * @return the total number of error report summaries or -1 if the total was not retrieved when
+   *     using keyset pagination
    */
   public Long getTotal() {
     return total;
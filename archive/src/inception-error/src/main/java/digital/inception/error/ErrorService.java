@@ -21,10 +21,14 @@ import digital.inception.core.service.InvalidArgumentException;
 import digital.inception.core.service.ServiceUnavailableException;
 import digital.inception.core.service.ValidationError;
 import digital.inception.core.sorting.SortDirection;
+import digital.inception.jpa.KeysetPage;
+import digital.inception.jpa.KeysetQuery;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import javax.validation.ConstraintViolation;
 import javax.validation.Validator;
 import org.slf4j.Logger;
@@ -65,6 +69,10 @@ public class ErrorService implements IErrorService {
   /** The JSR-303 validator. */
   private final Validator validator;
 
+  /* Entity Manager */
+  @PersistenceContext(unitName = "error")
+  private EntityManager entityManager;
+
   /** Is debugging enabled for the Inception Framework? */
   @Value("${inception.debug.enabled:#{false}}")
   private boolean inDebugMode;
@@ -263,6 +271,68 @@ public class ErrorService implements IErrorService {
     }
   }
 
+  @Override
+  public ErrorReportSummaries getErrorReportSummaries(
+      String filter,
+      ErrorReportSortBy sortBy,
+      SortDirection sortDirection,
+      String cursor,
+      Integer pageSize,
+      boolean includeTotal)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    if ((pageSize != null) && (pageSize <= 0)) {
+      throw new InvalidArgumentException("pageSize");
+    }
+
+    if (sortBy == null) {
+      sortBy = ErrorReportSortBy.CREATED;
+    }
+
+    if (sortDirection == null) {
+      sortDirection = SortDirection.ASCENDING;
+    }
+
+    if (pageSize == null) {
+      pageSize = MAX_FILTERED_ERROR_REPORT_SUMMARIES;
+    }
+
+    try {
+      KeysetQuery<ErrorReportSummary> query;
+
+      if (StringUtils.hasText(filter)) {
+        query =
+            new KeysetQuery<>(
+                    entityManager, ErrorReportSummary.class, "lower(e.who) like lower(:filter)")
+                .setParameter("filter", "%" + filter + "%");
+      } else {
+        query = new KeysetQuery<>(entityManager, ErrorReportSummary.class, null);
+      }
+
+      KeysetPage<ErrorReportSummary> page =
+          query.getPage(
+              (sortBy == ErrorReportSortBy.WHO) ? "who" : "created",
+              sortDirection,
+              cursor,
+              Math.min(pageSize, MAX_FILTERED_ERROR_REPORT_SUMMARIES));
+
+      return new ErrorReportSummaries(
+          page.getEntities(),
+          includeTotal ? query.count() : -1,
+          filter,
+          sortBy,
+          sortDirection,
+          pageSize,
+          page.getNextCursor());
+    } catch (InvalidArgumentException e) {
+      throw e;
+    } catch (Throwable e) {
+      logger.error("Failed to retrieve the filtered error report summaries", e);
+
+      throw new ServiceUnavailableException(
+          "Failed to retrieve the filtered error report summaries", e);
+    }
+  }
+
   @Override
   public ErrorReportSummary getErrorReportSummary(UUID errorReportId)
       throws InvalidArgumentException, ErrorReportNotFoundException, ServiceUnavailableException {
@@ -73,6 +73,30 @@ public interface IErrorService {
       Integer pageSize)
       throws InvalidArgumentException, ServiceUnavailableException;
 
+  /**
+   * Retrieve the error report summaries using keyset pagination.
+   *
+   * @param filter the optional filter to apply to the error reports
+   * @param sortBy the optional method used to sort the error reports e.g. by who submitted them
+   * @param sortDirection the optional sort direction to apply to the error reports
+   * @param cursor the optional opaque cursor returned with the previous page or <b>null</b> or an
+   *     empty string to retrieve the first page
+   * @param pageSize the optional page size
+   * @param includeTotal should the total number of error report summaries be retrieved, which
+   *     requires an additional query
+   * @return the error report summaries
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the error report summaries could not be retrieved
+   */
+  ErrorReportSummaries getErrorReportSummaries(
+      String filter,
+      ErrorReportSortBy sortBy,
+      SortDirection sortDirection,
+      String cursor,
+      Integer pageSize,
+      boolean includeTotal)
+      throws InvalidArgumentException, ServiceUnavailableException;
+
   /**
    * Retrieve the summary for the error report.
    *
@@ -116,6 +116,64 @@ public class ErrorServiceTest {
         errorReport, filteredErrorReportSummaries.getErrorReportSummaries().get(0));
   }
 
+  /** Test the functionality to retrieve the error report summaries using keyset pagination. */
+  @Test
+  public void getErrorReportSummariesUsingKeysetPaginationTest() throws Exception {
+    String who = "Keyset " + UuidCreator.getShortPrefixComb();
+
+    List<ErrorReport> errorReports = new ArrayList<>();
+
+    for (int i = 0; i < 7; i++) {
+      ErrorReport errorReport = getTestErrorReport();
+      errorReport.setWho(who);
+
+      errorService.createErrorReport(errorReport);
+
+      errorReports.add(errorReport);
+
+      Thread.sleep(10L);
+    }
+
+    List<ErrorReportSummary> errorReportSummaries = new ArrayList<>();
+
+    String cursor = "";
+
+    do {
+      ErrorReportSummaries filteredErrorReportSummaries =
+          errorService.getErrorReportSummaries(
+              who, ErrorReportSortBy.CREATED, SortDirection.DESCENDING, cursor, 3, false);
+
+      assertEquals(
+          -1L,
+          filteredErrorReportSummaries.getTotal(),
+          "The total number of filtered error report summaries was retrieved");
+
+      errorReportSummaries.addAll(filteredErrorReportSummaries.getErrorReportSummaries());
+
+      cursor = filteredErrorReportSummaries.getNextCursor();
+    } while (cursor != null);
+
+    assertEquals(
+        errorReports.size(),
+        errorReportSummaries.size(),
+        "The number of error report summaries is incorrect");
+
+    for (int i = 0; i < errorReports.size(); i++) {
+      assertEquals(
+          errorReports.get((errorReports.size() - 1) - i).getId(),
+          errorReportSummaries.get(i).getId(),
+          "The error report summary does not match the error report");
+    }
+
+    assertEquals(
+        7L,
+        errorService
+            .getErrorReportSummaries(
+                who, ErrorReportSortBy.WHO, SortDirection.ASCENDING, "", 3, true)
+            .getTotal(),
+        "The total number of filtered error report summaries is incorrect");
+  }
+
   /** Test the functionality to retrieve the most recent error report summaries. */
   @Test
   public void getMostRecentErrorReportSummariesTest() throws Exception {
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.jpa;
+
+import java.util.List;
+
+/**
+ * The <b>KeysetPage</b> class holds a page of entities retrieved using keyset pagination.
+ *
+ * @param <T> the entity type
+ * @author Marcus Portmann
+ */
+public final class KeysetPage<T> {
+
+  /** The entities for the page. */
+  private final List<T> entities;
+
+  /** The opaque cursor used to retrieve the next page or <b>null</b> if there are no more pages. */
+  private final String nextCursor;
+
+  /**
+   * Constructs a new <b>KeysetPage</b>.
+   *
+   * @param entities the entities for the page
+   * @param nextCursor the opaque cursor used to retrieve the next page or <b>null</b> if there are
+   *     no more pages
+   */
+  KeysetPage(List<T> entities, String nextCursor) {
+    this.entities = entities;
+    this.nextCursor = nextCursor;
+  }
+
+  /**
+   * Returns the entities for the page.
+   *
+   * @return the entities for the page
+   */
+  public List<T> getEntities() {
+    return entities;
+  }
+
+  /**
+   * Returns the opaque cursor used to retrieve the next page.
+   *
+   * @return the opaque cursor used to retrieve the next page or <b>null</b> if there are no more
+   *     pages
+   */
+  public String getNextCursor() {
+    return nextCursor;
+  }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.jpa;
+
+import digital.inception.core.service.InvalidArgumentException;
+import digital.inception.core.sorting.SortDirection;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.SingularAttribute;
+import org.springframework.util.StringUtils;
+
+/**
+ * The <b>KeysetQuery</b> class retrieves pages of entities using keyset (seek) pagination.
+ *
+ * <p>Rather than skipping a number of rows using an offset, which requires the database to read and
+ * discard every row before the page, each page is retrieved using a predicate on the sort value and
+ * ID for the last entity on the previous page, which allows the database to seek directly to the
+ * start of the page using an index. The position is returned to the caller as an opaque cursor,
+ * which encodes the sort attribute, sort direction, sort value and ID.
+ *
+ * <p>Entities are ordered by the sort attribute and then by their <b>id</b> attribute, which must
+ * be unique, to ensure a stable order when sort values are duplicated. The keyset predicate takes
+ * the form <i>a &gt;= :a and (a &gt; :a or id &gt; :id)</i>, so that a composite index on the
+ * columns for the restriction, the sort attribute and the ID can be used to seek to the start of
+ * the page.
+ *
+ * <p>Nullable <b>String</b> sort attributes are ordered as if <b>null</b> values were empty
+ * strings, which requires an expression index on databases that support them. Sort attributes that
+ * are not nullable are compared directly. Keyset pagination is not supported for other nullable
+ * sort attributes.
+ *
+ * @param <T> the entity type
+ * @author Marcus Portmann
+ */
+public final class KeysetQuery<T> {
+
+  /** The separator for the fields in a cursor. */
+  private static final char CURSOR_FIELD_SEPARATOR = '\n';
+
+  /** The entity class. */
+  private final Class<T> entityClass;
+
+  /** The entity manager. */
+  private final EntityManager entityManager;
+
+  /** The JPA entity type. */
+  private final EntityType<T> entityType;
+
+  /** The parameters for the predicate. */
+  private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+  /**
+   * The optional JPQL predicate used to restrict the entities, which references the entity using
+   * the alias <b>e</b>.
+   */
+  private final String predicate;
+
+  /**
+   * Constructs a new <b>KeysetQuery</b>.
+   *
+   * @param entityManager the entity manager
+   * @param entityClass the entity class
+   * @param predicate the optional JPQL predicate used to restrict the entities, which references
+   *     the entity using the alias <b>e</b>, e.g. <i>e.tenantId = :tenantId</i>
+   */
+  public KeysetQuery(EntityManager entityManager, Class<T> entityClass, String predicate) {
+    this.entityManager = entityManager;
+    this.entityClass = entityClass;
+    this.entityType = entityManager.getMetamodel().entity(entityClass);
+    this.predicate = predicate;
+  }
+
+  /**
+   * Returns the number of entities matching the predicate.
+   *
+   * @return the number of entities matching the predicate
+   */
+  public long count() {
+    TypedQuery<Long> query =
+        entityManager.createQuery(
+            "select count(e) from " + entityType.getName() + " e" + whereClause(null), Long.class);
+
+    parameters.forEach(query::setParameter);
+
+    return query.getSingleResult();
+  }
+
+  /**
+   * Retrieve a page of entities.
+   *
+   * @param sortAttribute the name of the attribute to sort the entities on
+   * @param sortDirection the sort direction
+   * @param cursor the opaque cursor returned with the previous page or <b>null</b> or an empty
+   *     string to retrieve the first page
+   * @param pageSize the maximum number of entities to retrieve
+   * @return the page of entities
+   * @throws InvalidArgumentException if the cursor is invalid or was not issued for the sort
+   *     attribute and sort direction
+   */
+  public KeysetPage<T> getPage(
+      String sortAttribute, SortDirection sortDirection, String cursor, int pageSize)
+      throws InvalidArgumentException {
+    Attribute<? super T, ?> attribute = entityType.getAttribute(sortAttribute);
+
+    Class<?> sortAttributeType = attribute.getJavaType();
+
+    String sortExpression;
+
+    if (isOptional(attribute)) {
+      if (sortAttributeType != String.class) {
+        throw new IllegalArgumentException(
+            "Keyset pagination is not supported for the nullable sort attribute ("
+                + sortAttribute
+                + ")");
+      }
+
+      sortExpression = "coalesce(e." + sortAttribute + ", '')";
+    } else {
+      sortExpression = "e." + sortAttribute;
+    }
+
+    String order = (sortDirection == SortDirection.DESCENDING) ? "desc" : "asc";
+
+    Object[] position = null;
+
+    String keysetPredicate = null;
+
+    if (StringUtils.hasText(cursor)) {
+      position = decodeCursor(cursor, sortAttribute, sortDirection, sortAttributeType);
+
+      String operator = (sortDirection == SortDirection.DESCENDING) ? "<" : ">";
+
+      keysetPredicate =
+          "(("
+              + sortExpression
+              + " "
+              + operator
+              + "= :keysetSortValue) and (("
+              + sortExpression
+              + " "
+              + operator
+              + " :keysetSortValue) or (e.id "
+              + operator
+              + " :keysetId)))";
+    }
+
+    TypedQuery<Object[]> query =
+        entityManager.createQuery(
+            "select e, "
+                + sortExpression
+                + ", e.id from "
+                + entityType.getName()
+                + " e"
+                + whereClause(keysetPredicate)
+                + " order by "
+                + sortExpression
+                + " "
+                + order
+                + ", e.id "
+                + order,
+            Object[].class);
+
+    parameters.forEach(query::setParameter);
+
+    if (position != null) {
+      query.setParameter("keysetSortValue", position[0]);
+      query.setParameter("keysetId", position[1]);
+    }
+
+    // Retrieve one additional row to determine whether there is a next page
+    query.setMaxResults(pageSize + 1);
+
+    List<Object[]> rows = query.getResultList();
+
+    List<T> entities = new ArrayList<>(Math.min(rows.size(), pageSize));
+
+    for (int i = 0; (i < rows.size()) && (i < pageSize); i++) {
+      entities.add(entityClass.cast(rows.get(i)[0]));
+    }
+
+    String nextCursor = null;
+
+    if (rows.size() > pageSize) {
+      Object[] lastRow = rows.get(pageSize - 1);
+
+      nextCursor = encodeCursor(sortAttribute, sortDirection, lastRow[1], lastRow[2]);
+    }
+
+    return new KeysetPage<>(entities, nextCursor);
+  }
+
+  /**
+   * Set the value of a parameter for the predicate.
+   *
+   * @param name the name of the parameter
+   * @param value the value of the parameter
+   * @return the keyset query
+   */
+  public KeysetQuery<T> setParameter(String name, Object value) {
+    parameters.put(name, value);
+
+    return this;
+  }
+
+  private static boolean isOptional(Attribute<?, ?> attribute) {
+    return (attribute instanceof SingularAttribute)
+        && ((SingularAttribute<?, ?>) attribute).isOptional()
+        && (!attribute.getJavaType().isPrimitive());
+  }
+
+  private static Object parseSortValue(String value, Class<?> type) {
+    if (type == String.class) {
+      return value;
+    } else if (type == LocalDateTime.class) {
+      return LocalDateTime.parse(value);
+    } else if (type == LocalDate.class) {
+      return LocalDate.parse(value);
+    } else if (type == OffsetDateTime.class) {
+      return OffsetDateTime.parse(value);
+    } else if (type == UUID.class) {
+      return UUID.fromString(value);
+    } else if ((type == Long.class) || (type == long.class)) {
+      return Long.valueOf(value);
+    } else if ((type == Integer.class) || (type == int.class)) {
+      return Integer.valueOf(value);
+    } else {
+      throw new IllegalArgumentException(
+          "Keyset pagination is not supported for sort attributes with the type (" + type + ")");
+    }
+  }
+
+  private Object[] decodeCursor(
+      String cursor, String sortAttribute, SortDirection sortDirection, Class<?> sortAttributeType)
+      throws InvalidArgumentException {
+    String[] fields;
+
+    try {
+      // The sort value is the last field and may itself contain the field separator
+      fields =
+          new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+              .split(String.valueOf(CURSOR_FIELD_SEPARATOR), 4);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidArgumentException("cursor");
+    }
+
+    if ((fields.length != 4)
+        || (!fields[0].equals(sortAttribute))
+        || (!fields[1].equals(sortDirection.code()))) {
+      throw new InvalidArgumentException("cursor");
+    }
+
+    try {
+      return new Object[] {
+        parseSortValue(fields[3], sortAttributeType), UUID.fromString(fields[2])
+      };
+    } catch (RuntimeException e) {
+      throw new InvalidArgumentException("cursor");
+    }
+  }
+
+  private String encodeCursor(
+      String sortAttribute, SortDirection sortDirection, Object sortValue, Object id) {
+    String cursor =
+        sortAttribute
+            + CURSOR_FIELD_SEPARATOR
+            + sortDirection.code()
+            + CURSOR_FIELD_SEPARATOR
+            + id
+            + CURSOR_FIELD_SEPARATOR
+            + sortValue;
+
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private String whereClause(String keysetPredicate) {
+    if (StringUtils.hasText(predicate) && (keysetPredicate != null)) {
+      return " where (" + predicate + ") and " + keysetPredicate;
+    } else if (StringUtils.hasText(predicate)) {
+      return " where (" + predicate + ")";
+    } else if (keysetPredicate != null) {
+      return " where " + keysetPredicate;
+    } else {
+      return "";
+    }
+  }
+}
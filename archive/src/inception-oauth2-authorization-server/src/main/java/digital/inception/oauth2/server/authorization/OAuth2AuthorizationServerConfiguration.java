@@ -16,10 +16,18 @@
 
 package digital.inception.oauth2.server.authorization;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import digital.inception.core.util.CryptoUtil;
+import digital.inception.oauth2.server.authorization.token.TokenSigningKeys;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import org.springframework.beans.factory.BeanInitializationException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
 
 /**
  * The <b>OAuth2AuthorizationServerConfiguration</b> class provides the Spring configuration for the
@@ -30,11 +38,59 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class OAuth2AuthorizationServerConfiguration {
 
-  /* The RSA private key used to sign the JWTs. */
-  @Value("${inception.oauth2.authorization-server.jwt.rsa-private-key-location}")
+  /* The optional location of the PKCS#8 PEM encoded P-256 EC private key used to sign the JWTs. */
+  @Value("${inception.oauth2.authorization-server.jwt.ec-private-key-location:#{null}}")
+  private Resource ecPrivateKeyLocation;
+
+  /* The optional location of the X.509 PEM encoded P-256 EC public key used to verify the JWTs. */
+  @Value("${inception.oauth2.authorization-server.jwt.ec-public-key-location:#{null}}")
+  private Resource ecPublicKeyLocation;
+
+  /* The optional RSA private key used to sign the JWTs. */
+  @Value("${inception.oauth2.authorization-server.jwt.rsa-private-key-location:#{null}}")
   private RSAPrivateKey rsaPrivateKey;
 
-  /* The RSA public key used to verify the JWTs. */
-  @Value("${inception.oauth2.authorization-server.jwt.rsa-public-key-location}")
+  /* The optional RSA public key used to verify the JWTs. */
+  @Value("${inception.oauth2.authorization-server.jwt.rsa-public-key-location:#{null}}")
   private RSAPublicKey rsaPublicKey;
+
+  /* The algorithm used to sign the JWTs, either RS256 or ES256. */
+  @Value("${inception.oauth2.authorization-server.jwt.signing-algorithm:RS256}")
+  private String signingAlgorithm;
+
+  /**
+   * Returns the keys used to sign and verify the JWTs issued by the OAuth2 Authorization Server.
+   *
+   * @return the keys used to sign and verify the JWTs issued by the OAuth2 Authorization Server
+   */
+  @Bean
+  TokenSigningKeys tokenSigningKeys() {
+    try {
+      ECPrivateKey ecPrivateKey = null;
+
+      if (ecPrivateKeyLocation != null) {
+        ecPrivateKey =
+            (ECPrivateKey) CryptoUtil.readPemEncodedPrivateKey(ecPrivateKeyLocation, "EC");
+      }
+
+      ECPublicKey ecPublicKey = null;
+
+      if (ecPublicKeyLocation != null) {
+        ecPublicKey = (ECPublicKey) CryptoUtil.readPemEncodedPublicKey(ecPublicKeyLocation, "EC");
+      }
+
+      return new TokenSigningKeys(
+          JWSAlgorithm.parse(signingAlgorithm),
+          rsaPrivateKey,
+          rsaPublicKey,
+          ecPrivateKey,
+          ecPublicKey);
+    } catch (Throwable e) {
+      throw new BeanInitializationException(
+          "Failed to initialize the TokenSigningKeys bean using the signing algorithm ("
+              + signingAlgorithm
+              + ")",
+          e);
+    }
+  }
 }
@@ -22,18 +22,28 @@ import digital.inception.oauth2.server.authorization.token.OAuth2AccessToken;
 import digital.inception.oauth2.server.authorization.token.OAuth2RefreshToken;
 import digital.inception.oauth2.server.authorization.token.RefreshedOAuth2Tokens;
 import digital.inception.security.AuthenticationFailedException;
+import digital.inception.security.AuthenticationOverloadedException;
 import digital.inception.security.ExpiredPasswordException;
 import digital.inception.security.ISecurityService;
 import digital.inception.security.UserLockedException;
 import digital.inception.security.UserNotFoundException;
 import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Controller;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -50,6 +60,12 @@ import org.springframework.web.bind.annotation.RequestParam;
 @CrossOrigin
 public class AuthorizationServerController {
 
+  /**
+   * The number of seconds after which a client should retry a request that was rejected because the
+   * authorization server was overloaded.
+   */
+  private static final String RETRY_AFTER_SECONDS = "1";
+
   /* Logger */
   private static final Logger logger = LoggerFactory.getLogger(AuthorizationServerController.class);
 
@@ -59,6 +75,23 @@ public class AuthorizationServerController {
   /* Token Service */
   private final ITokenService tokenService;
 
+  /**
+   * The executor used to issue the OAuth2 tokens once users have been authenticated, so that token
+   * issuing does not consume the threads of the password hashing executor of the Security Service.
+   */
+  private ThreadPoolExecutor tokenIssuingExecutor;
+
+  /** The maximum number of token issuing tasks waiting to be executed. */
+  @Value("${inception.oauth2.authorization-server.token-issuing.queue-size:#{100}}")
+  private int tokenIssuingQueueSize;
+
+  /**
+   * The number of threads used to issue the OAuth2 tokens or 0 to use the number of available
+   * processors.
+   */
+  @Value("${inception.oauth2.authorization-server.token-issuing.threads:#{0}}")
+  private int tokenIssuingThreads;
+
   /**
    * Constructs a new <b>AuthorizationServerController</b>.
    *
@@ -71,26 +104,68 @@ public class AuthorizationServerController {
     this.tokenService = tokenService;
   }
 
+  /** Initialize the Authorization Server Controller. */
+  @PostConstruct
+  public void init() {
+    CustomizableThreadFactory threadFactory =
+        new CustomizableThreadFactory("oauth2-token-issuing-");
+    threadFactory.setDaemon(true);
+
+    int threads =
+        (tokenIssuingThreads > 0)
+            ? tokenIssuingThreads
+            : Runtime.getRuntime().availableProcessors();
+
+    tokenIssuingExecutor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            1,
+            TimeUnit.MINUTES,
+            new ArrayBlockingQueue<>(Math.max(1, tokenIssuingQueueSize)),
+            threadFactory,
+            new ThreadPoolExecutor.AbortPolicy());
+    tokenIssuingExecutor.allowCoreThreadTimeOut(true);
+  }
+
+  /** Shutdown the Authorization Server Controller. */
+  @PreDestroy
+  public void shutdown() {
+    if (tokenIssuingExecutor != null) {
+      tokenIssuingExecutor.shutdown();
+    }
+  }
+
   /**
    * The "token" endpoint that supports the Resource Owner Password Grant.
    *
+   * <p>The request is processed asynchronously, so that the request processing thread is released
+   * while the user is authenticated using the bounded password hashing executor of the Security
+   * Service. The tokens are then issued using the bounded token issuing executor.
+   *
    * @param request the HTTP servlet request
    * @param parameters the request parameter s
-   * @return the token response
+   * @return the future for the token response
    */
   @PostMapping(value = "/token", produces = "application/json")
-  public ResponseEntity<String> token(
+  public CompletableFuture<ResponseEntity<String>> token(
       HttpServletRequest request, @RequestParam Map<String, String> parameters) {
 
     // TODO: Implement OAuth2 client authentication -- MARCUS
 
-    Response response = processAccessTokenRequest(request, parameters);
+    return processAccessTokenRequest(request, parameters)
+        .thenApply(
+            response -> {
+              HttpHeaders httpHeaders = new HttpHeaders();
+              httpHeaders.set("Cache-Control", "no-cache, no-store, max-age=0, must-revalidate");
+              httpHeaders.set("Pragma", "no-cache");
 
-    HttpHeaders httpHeaders = new HttpHeaders();
-    httpHeaders.set("Cache-Control", "no-cache, no-store, max-age=0, must-revalidate");
-    httpHeaders.set("Pragma", "no-cache");
+              if (response instanceof TemporarilyUnavailableErrorResponse) {
+                httpHeaders.set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+              }
 
-    return new ResponseEntity<>(response.getBody(), httpHeaders, response.getStatus());
+              return new ResponseEntity<>(response.getBody(), httpHeaders, response.getStatus());
+            });
   }
 
   private boolean authenticateClient(HttpServletRequest request) {
@@ -104,7 +179,7 @@ public class AuthorizationServerController {
     return true;
   }
 
-  private Response processAccessTokenRequest(
+  private CompletableFuture<Response> processAccessTokenRequest(
       HttpServletRequest request, Map<String, String> parameters) {
 
     // Retrieve the grant type associated with the request
@@ -112,14 +187,16 @@ public class AuthorizationServerController {
 
     // If no grant type is specified return an error
     if (!StringUtils.hasText(grantType)) {
-      return new InvalidRequestErrorResponse(
-          "Missing '" + GrantRequest.GRANT_TYPE_PARAMETER + "' parameter");
+      return CompletableFuture.completedFuture(
+          new InvalidRequestErrorResponse(
+              "Missing '" + GrantRequest.GRANT_TYPE_PARAMETER + "' parameter"));
     }
 
     if (grantType.equals(ResourceOwnerPasswordCredentialsGrantRequest.GRANT_TYPE)) {
       if (!ResourceOwnerPasswordCredentialsGrantRequest.isValid(parameters)) {
-        return new InvalidRequestErrorResponse(
-            "Invalid 'Resource Owner Password Credentials Grant' request");
+        return CompletableFuture.completedFuture(
+            new InvalidRequestErrorResponse(
+                "Invalid 'Resource Owner Password Credentials Grant' request"));
       }
 
       ResourceOwnerPasswordCredentialsGrantRequest grantRequest =
@@ -128,14 +205,15 @@ public class AuthorizationServerController {
       return processResourceOwnerPasswordCredentialsGrantRequest(grantRequest);
     } else if (grantType.equals(RefreshAccessTokenGrantRequest.GRANT_TYPE)) {
       if (!RefreshAccessTokenGrantRequest.isValid(parameters)) {
-        return new InvalidRequestErrorResponse("Invalid 'Refresh Access Token Grant' request");
+        return CompletableFuture.completedFuture(
+            new InvalidRequestErrorResponse("Invalid 'Refresh Access Token Grant' request"));
       }
 
       RefreshAccessTokenGrantRequest grantRequest = new RefreshAccessTokenGrantRequest(parameters);
 
-      return processRefreshAccessTokenGrantRequest(grantRequest);
+      return CompletableFuture.completedFuture(processRefreshAccessTokenGrantRequest(grantRequest));
     } else {
-      return new UnsupportedGrantTypeErrorResponse(grantType);
+      return CompletableFuture.completedFuture(new UnsupportedGrantTypeErrorResponse(grantType));
     }
   }
 
@@ -163,44 +241,86 @@ public class AuthorizationServerController {
     }
   }
 
-  private Response processResourceOwnerPasswordCredentialsGrantRequest(
+  private CompletableFuture<Response> processResourceOwnerPasswordCredentialsGrantRequest(
       ResourceOwnerPasswordCredentialsGrantRequest request) {
-
     try {
-      UUID userDirectoryId =
-          securityService.authenticate(request.getUsername(), request.getPassword());
-
-      OAuth2AccessToken oAuth2AccessToken =
-          tokenService.issueOAuth2AccessToken(
-              request.getUsername(),
-              (request.getScope() != null) ? Set.of(request.getScope().split(" ")) : null);
-
-      OAuth2RefreshToken oAuth2RefreshToken =
-          tokenService.issueOAuth2RefreshToken(
-              oAuth2AccessToken.getSubject(),
-              (request.getScope() != null) ? Set.of(request.getScope().split(" ")) : null);
-
-      return new ResourceOwnerPasswordCredentialsGrantResponse(
-          oAuth2AccessToken.getTokenValue(),
-          oAuth2AccessToken.getExpiresIn(),
-          oAuth2RefreshToken.getTokenValue());
-    } catch (AuthenticationFailedException | UserNotFoundException e) {
+      return securityService
+          .authenticateAsync(request.getUsername(), request.getPassword())
+          .handleAsync(
+              (userDirectoryId, throwable) -> {
+                if (throwable != null) {
+                  return resourceOwnerPasswordCredentialsGrantErrorResponse(
+                      request, unwrapCompletionException(throwable));
+                }
+
+                try {
+                  OAuth2AccessToken oAuth2AccessToken =
+                      tokenService.issueOAuth2AccessToken(
+                          request.getUsername(),
+                          (request.getScope() != null)
+                              ? Set.of(request.getScope().split(" "))
+                              : null);
+
+                  OAuth2RefreshToken oAuth2RefreshToken =
+                      tokenService.issueOAuth2RefreshToken(
+                          oAuth2AccessToken.getSubject(),
+                          (request.getScope() != null)
+                              ? Set.of(request.getScope().split(" "))
+                              : null);
+
+                  return new ResourceOwnerPasswordCredentialsGrantResponse(
+                      oAuth2AccessToken.getTokenValue(),
+                      oAuth2AccessToken.getExpiresIn(),
+                      oAuth2RefreshToken.getTokenValue());
+                } catch (Throwable e) {
+                  return resourceOwnerPasswordCredentialsGrantErrorResponse(request, e);
+                }
+              },
+              tokenIssuingExecutor)
+          .exceptionally(
+              throwable ->
+                  resourceOwnerPasswordCredentialsGrantErrorResponse(
+                      request, unwrapCompletionException(throwable)));
+    } catch (Throwable e) {
+      return CompletableFuture.completedFuture(
+          resourceOwnerPasswordCredentialsGrantErrorResponse(request, e));
+    }
+  }
+
+  private Response resourceOwnerPasswordCredentialsGrantErrorResponse(
+      ResourceOwnerPasswordCredentialsGrantRequest request, Throwable cause) {
+    if ((cause instanceof AuthenticationFailedException)
+        || (cause instanceof UserNotFoundException)) {
       return new InvalidGrantErrorResponse("Bad credentials");
-    } catch (UserLockedException e) {
+    } else if (cause instanceof UserLockedException) {
       return new InvalidGrantErrorResponse("User locked");
-    } catch (ExpiredPasswordException e) {
+    } else if (cause instanceof ExpiredPasswordException) {
       return new InvalidGrantErrorResponse("Credentials expired");
-    } catch (Throwable e) {
+    } else if ((cause instanceof AuthenticationOverloadedException)
+        || (cause instanceof RejectedExecutionException)) {
+      logger.warn(
+          "Rejected the 'Resource Owner Password Credentials Grant' request for the user ("
+              + request.getUsername()
+              + ") because the authorization server is overloaded");
+      return new TemporarilyUnavailableErrorResponse(
+          "The authorization server is temporarily unable to handle the request");
+    } else {
       logger.error(
           "Failed to process the 'Resource Owner Password Credentials Grant' request for the user ("
               + request.getUsername()
               + ")",
-          e);
+          cause);
       return new SystemUnavailableResponse(
           "Failed to process the 'Resource Owner Password Credentials Grant' request for the user '"
               + request.getUsername()
               + "'",
-          e);
+          cause);
     }
   }
+
+  private Throwable unwrapCompletionException(Throwable throwable) {
+    return ((throwable instanceof CompletionException) && (throwable.getCause() != null))
+        ? throwable.getCause()
+        : throwable;
+  }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.oauth2.server.authorization.controller;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * The <b>TemporarilyUnavailableErrorResponse</b> class holds the information for an OAuth2
+ * temporarily unavailable error response, which is returned when the authorization server is
+ * currently unable to handle the request due to a temporary overloading.
+ *
+ * @author Marcus Portmann
+ */
+public class TemporarilyUnavailableErrorResponse extends ErrorResponse {
+
+  /** The error code for the OAuth2 temporarily unavailable error response. */
+  public static final String ERROR_CODE = "temporarily_unavailable";
+
+  /**
+   * Constructs a new <b>TemporarilyUnavailableErrorResponse</b>.
+   *
+   * @param errorDescription the optional human-readable ASCII text description of the error
+   */
+  public TemporarilyUnavailableErrorResponse(String errorDescription) {
+    super(HttpStatus.SERVICE_UNAVAILABLE, ERROR_CODE, errorDescription);
+  }
+}
@@ -16,22 +16,12 @@
 
 package digital.inception.oauth2.server.authorization.token;
 
-import com.nimbusds.jose.JWSAlgorithm;
-import com.nimbusds.jose.JWSHeader;
-import com.nimbusds.jose.JWSSigner;
-import com.nimbusds.jose.crypto.RSASSASigner;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.JWTClaimsSet.Builder;
-import com.nimbusds.jwt.SignedJWT;
-import digital.inception.security.User;
-import java.security.interfaces.RSAPrivateKey;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Arrays;
 import java.util.Date;
-import java.util.List;
 import java.util.Set;
-import java.util.UUID;
 import org.springframework.util.StringUtils;
 
 /**
@@ -95,49 +85,35 @@ public class OAuth2AccessToken extends org.springframework.security.oauth2.core.
   /**
    * Build a new <b>OAuth2AccessToken</b>.
    *
-   * @param user the User the token is being issued for
-   * @param roleCodes the role codes for the user the token is being issued for
-   * @param functionCodes the function codes for the user the token is being issued for
-   * @param tenantIds the IDs for the tenants that the user the token is being issued for is
-   *     associated with
+   * @param tokenClaims the user-specific claims for the user the token is being issued for
    * @param scopes the optional scope(s) associated to the token
    * @param issuer the optional issuer of the token, which can be <b>null</b>
    * @param validFor the number of seconds the token should be valid for
-   * @param rsaPrivateKey the RSA private key used to sign the token
+   * @param signingKeys the keys used to sign the token
    * @return the OAuth2 access token
    */
   public static OAuth2AccessToken build(
-      User user,
-      List<String> roleCodes,
-      List<String> functionCodes,
-      List<UUID> tenantIds,
+      TokenClaims tokenClaims,
       Set<String> scopes,
       String issuer,
       int validFor,
-      RSAPrivateKey rsaPrivateKey) {
+      TokenSigningKeys signingKeys) {
     try {
       Instant issuedAt = Instant.now();
       Instant expiresAt = issuedAt.plusSeconds(validFor);
 
-      JWSSigner signer = new RSASSASigner(rsaPrivateKey);
-
       JWTClaimsSet.Builder jwtClaimsSetBuilder = new Builder();
 
-      jwtClaimsSetBuilder.subject(user.getUsername());
+      jwtClaimsSetBuilder.subject(tokenClaims.getUsername());
 
       if (StringUtils.hasText(issuer)) {
         jwtClaimsSetBuilder.issuer(issuer);
       }
 
-      if (StringUtils.hasText(user.getName())) {
-        jwtClaimsSetBuilder.claim(NAME_CLAIM, user.getName());
-      } else if (StringUtils.hasText(user.getEmail())) {
-        jwtClaimsSetBuilder.claim(NAME_CLAIM, user.getEmail());
-      } else {
-        jwtClaimsSetBuilder.claim(NAME_CLAIM, user.getUsername());
-      }
+      jwtClaimsSetBuilder.claim(NAME_CLAIM, tokenClaims.getName());
 
-      jwtClaimsSetBuilder.claim(USER_DIRECTORY_ID_CLAIM, user.getUserDirectoryId().toString());
+      jwtClaimsSetBuilder.claim(
+          USER_DIRECTORY_ID_CLAIM, tokenClaims.getUserDirectoryId().toString());
 
       jwtClaimsSetBuilder.issueTime(Date.from(issuedAt));
 
@@ -145,27 +121,26 @@ public class OAuth2AccessToken extends org.springframework.security.oauth2.core.
 
       jwtClaimsSetBuilder.claim(
           TENANTS_CLAIM,
-          Arrays.stream(tenantIds.toArray(new UUID[0]))
-              .map(Object::toString)
-              .toArray(String[]::new));
+          tokenClaims.getTenantIds().stream().map(Object::toString).toArray(String[]::new));
 
-      jwtClaimsSetBuilder.claim(ROLES_CLAIM, roleCodes);
+      jwtClaimsSetBuilder.claim(ROLES_CLAIM, tokenClaims.getRoleCodes());
 
-      jwtClaimsSetBuilder.claim(FUNCTIONS_CLAIM, functionCodes);
+      jwtClaimsSetBuilder.claim(FUNCTIONS_CLAIM, tokenClaims.getFunctionCodes());
 
       if ((scopes != null) && (!scopes.isEmpty())) {
         jwtClaimsSetBuilder.claim(
             SCOPE_CLAIM, StringUtils.collectionToDelimitedString(scopes, " "));
       }
 
-      SignedJWT signedJWT =
-          new SignedJWT(
-              new JWSHeader.Builder(JWSAlgorithm.RS256).build(), jwtClaimsSetBuilder.build());
-
-      signedJWT.sign(signer);
+      String tokenValue = signingKeys.sign(jwtClaimsSetBuilder.build());
 
       return new OAuth2AccessToken(
-          TokenType.BEARER, signedJWT.serialize(), user.getUsername(), issuedAt, expiresAt, scopes);
+                    TokenType.BEARER,
+          tokenValue,
+          tokenClaims.getUsername(),
+          issuedAt,
+          expiresAt,
+          scopes);
 
     } catch (Throwable e) {
       throw new OAuth2AccessTokenException("Failed to build the OAuth2 access token", e);
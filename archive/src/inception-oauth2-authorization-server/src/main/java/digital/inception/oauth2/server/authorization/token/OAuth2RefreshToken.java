@@ -16,14 +16,8 @@
 
 package digital.inception.oauth2.server.authorization.token;
 
-import com.nimbusds.jose.JWSAlgorithm;
-import com.nimbusds.jose.JWSHeader;
-import com.nimbusds.jose.JWSSigner;
-import com.nimbusds.jose.crypto.RSASSASigner;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.JWTClaimsSet.Builder;
-import com.nimbusds.jwt.SignedJWT;
-import java.security.interfaces.RSAPrivateKey;
 import java.time.Instant;
 import java.util.Date;
 import java.util.Set;
@@ -58,17 +52,15 @@ public class OAuth2RefreshToken
    * @param username the username for the user the token is being issued for
    * @param scopes the optional scope(s) associated to the token
    * @param validFor the number of seconds the token should be valid for
-   * @param rsaPrivateKey the RSA private key used to sign the token
+   * @param signingKeys the keys used to sign the token
    * @return the OAuth2 refresh token
    */
   public static OAuth2RefreshToken build(
-      String username, Set<String> scopes, int validFor, RSAPrivateKey rsaPrivateKey) {
+      String username, Set<String> scopes, int validFor, TokenSigningKeys signingKeys) {
     try {
       Instant issuedAt = Instant.now();
       Instant expiresAt = issuedAt.plusSeconds(validFor);
 
-      JWSSigner signer = new RSASSASigner(rsaPrivateKey);
-
       JWTClaimsSet.Builder jwtClaimsSetBuilder = new Builder();
 
       jwtClaimsSetBuilder.subject(username);
@@ -82,13 +74,9 @@ public class OAuth2RefreshToken
 
       jwtClaimsSetBuilder.expirationTime(Date.from(expiresAt));
 
-      SignedJWT signedJWT =
-          new SignedJWT(
-              new JWSHeader.Builder(JWSAlgorithm.RS256).build(), jwtClaimsSetBuilder.build());
-
-      signedJWT.sign(signer);
+      String tokenValue = signingKeys.sign(jwtClaimsSetBuilder.build());
 
-      return new OAuth2RefreshToken(signedJWT.serialize(), issuedAt);
+      return new OAuth2RefreshToken(tokenValue, issuedAt);
     } catch (Throwable e) {
       throw new OAuth2AccessTokenException("Failed to build the OAuth2 refresh token", e);
     }
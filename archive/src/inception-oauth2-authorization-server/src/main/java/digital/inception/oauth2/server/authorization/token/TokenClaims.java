@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package digital.inception.oauth2.server.authorization.token;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The <b>TokenClaims</b> class holds the immutable user-specific claims included in the OAuth2
+ * access tokens issued for a user.
+ *
+ * @author Marcus Portmann
+ */
+public final class TokenClaims {
+
+  /** The function codes for the user. */
+  private final List<String> functionCodes;
+
+  /** The name of the user. */
+  private final String name;
+
+  /** The role codes for the user. */
+  private final List<String> roleCodes;
+
+  /** The IDs for the tenants the user is associated with. */
+  private final List<UUID> tenantIds;
+
+  /** The ID for the user directory the user is associated with. */
+  private final UUID userDirectoryId;
+
+  /** The username for the user. */
+  private final String username;
+
+  /**
+   * Constructs a new <b>TokenClaims</b>.
+   *
+   * @param username the username for the user
+   * @param name the name of the user
+   * @param userDirectoryId the ID for the user directory the user is associated with
+   * @param roleCodes the role codes for the user
+   * @param functionCodes the function codes for the user
+   * @param tenantIds the IDs for the tenants the user is associated with
+   */
+  public TokenClaims(
+      String username,
+      String name,
+      UUID userDirectoryId,
+      List<String> roleCodes,
+      List<String> functionCodes,
+      List<UUID> tenantIds) {
+    this.username = username;
+    this.name = name;
+    this.userDirectoryId = userDirectoryId;
+    this.roleCodes = List.copyOf(roleCodes);
+    this.functionCodes = List.copyOf(functionCodes);
+    this.tenantIds = List.copyOf(tenantIds);
+  }
+
+  /**
+   * Returns the function codes for the user.
+   *
+   * @return the function codes for the user
+   */
+  public List<String> getFunctionCodes() {
+    return functionCodes;
+  }
+
+  /**
+   * Returns the name of the user.
+   *
+   * @return the name of the user
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the role codes for the user.
+   *
+   * @return the role codes for the user
+   */
+  public List<String> getRoleCodes() {
+    return roleCodes;
+  }
+
+  /**
+   * Returns the IDs for the tenants the user is associated with.
+   *
+   * @return the IDs for the tenants the user is associated with
+   */
+  public List<UUID> getTenantIds() {
+    return tenantIds;
+  }
+
+  /**
+   * Returns the ID for the user directory the user is associated with.
+   *
+   * @return the ID for the user directory the user is associated with
+   */
+  public UUID getUserDirectoryId() {
+    return userDirectoryId;
+  }
+
+  /**
+   * Returns the username for the user.
+   *
+   * @return the username for the user
+   */
+  public String getUsername() {
+    return username;
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package digital.inception.oauth2.server.authorization.token;
+
+import digital.inception.core.service.InvalidArgumentException;
+import digital.inception.core.service.ServiceUnavailableException;
+import digital.inception.core.util.ExpiringLRUCache;
+import digital.inception.security.ISecurityService;
+import digital.inception.security.User;
+import digital.inception.security.UserAuthorization;
+import digital.inception.security.UserDirectoryNotFoundException;
+import digital.inception.security.UserNotFoundException;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * The <b>TokenClaimsAssembler</b> class assembles the user-specific claims for the OAuth2 access
+ * tokens issued for users.
+ *
+ * <p>Assembling the claims requires the effective authorization and details for the user, which for
+ * users in external user directories, e.g. LDAP, requires several round trips to the directory. The
+ * claims are cached per user for a short time to live, so that issuing and refreshing access tokens
+ * for active sessions does not scale the load on the user directories linearly with the number of
+ * sessions. The cached claims are discarded when the Security Service reports that the effective
+ * authorization or details for the user have changed. The least recently used claims are discarded
+ * when the maximum number of users to cache the claims for is exceeded.
+ *
+ * @author Marcus Portmann
+ */
+@Component
+public class TokenClaimsAssembler {
+
+  /** The Security Service. */
+  private final ISecurityService securityService;
+
+  /**
+   * The current version of the cache, which is incremented whenever cached claims are invalidated
+   * so that claims that were being assembled when the invalidation occurred are not cached.
+   */
+  private final AtomicLong version = new AtomicLong();
+
+  /** The cached claims keyed by the lowercase username. */
+  private ExpiringLRUCache<String, TokenClaims> entries;
+
+  /** The maximum number of users to cache the claims for. */
+  @Value("${inception.oauth2.authorization-server.token-claims-cache.max-entries:#{10000}}")
+  private int maxEntries;
+
+  /** The number of seconds to cache the claims for a user. */
+  @Value("${inception.oauth2.authorization-server.token-claims-cache.time-to-live:#{300}}")
+  private int timeToLive;
+
+  /**
+   * Constructs a new <b>TokenClaimsAssembler</b>.
+   *
+   * @param securityService the Security Service
+   */
+  public TokenClaimsAssembler(ISecurityService securityService) {
+    this.securityService = securityService;
+
+    securityService.addUserAuthorizationChangeListener(this::invalidate);
+  }
+
+  private static String key(String username) {
+    return username.toLowerCase(Locale.ROOT);
+  }
+
+  /** Initialize the Token Claims Assembler. */
+  @PostConstruct
+  public void init() {
+    entries = new ExpiringLRUCache<>(maxEntries);
+  }
+
+  /**
+   * Retrieve the claims for the user.
+   *
+   * @param username the username for the user
+   * @return the claims for the user
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws UserDirectoryNotFoundException if the user directory for the user could not be found
+   * @throws UserNotFoundException if the user could not be found
+   * @throws ServiceUnavailableException if the claims for the user could not be retrieved
+   */
+  public TokenClaims getTokenClaims(String username)
+      throws InvalidArgumentException, UserDirectoryNotFoundException, UserNotFoundException,
+          ServiceUnavailableException {
+    if (!StringUtils.hasText(username)) {
+      throw new InvalidArgumentException("username");
+    }
+
+    String key = key(username);
+
+    TokenClaims cachedTokenClaims = entries.get(key);
+
+    if (cachedTokenClaims != null) {
+      return cachedTokenClaims;
+    }
+
+    long now = System.currentTimeMillis();
+
+    long computedVersion = version.get();
+
+    // Retrieve the effective authorization for the user
+    UserAuthorization userAuthorization = securityService.getUserAuthorization(username);
+
+    // Retrieve the details for the user
+    User user = securityService.getUser(userAuthorization.getUserDirectoryId(), username);
+
+    TokenClaims tokenClaims =
+        new TokenClaims(
+            user.getUsername(),
+            getName(user),
+            user.getUserDirectoryId(),
+            userAuthorization.getRoleCodes(),
+            userAuthorization.getFunctionCodes(),
+            userAuthorization.getTenantIds());
+
+    if (computedVersion == version.get()) {
+      entries.put(key, tokenClaims, now + (timeToLive * 1000L));
+    }
+
+    return tokenClaims;
+  }
+
+  /**
+   * Discard the cached claims for the user or for all users.
+   *
+   * @param username the username for the user or <b>null</b> to discard the cached claims for all
+   *     users
+   */
+  public void invalidate(String username) {
+    version.incrementAndGet();
+
+    if (username == null) {
+      entries.clear();
+    } else {
+      entries.remove(key(username));
+    }
+  }
+
+  private String getName(User user) {
+    if (StringUtils.hasText(user.getName())) {
+      return user.getName();
+    } else if (StringUtils.hasText(user.getEmail())) {
+      return user.getEmail();
+    } else {
+      return user.getUsername();
+    }
+  }
+}
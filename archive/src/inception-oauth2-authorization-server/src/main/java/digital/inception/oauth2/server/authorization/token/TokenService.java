@@ -16,19 +16,11 @@
 
 package digital.inception.oauth2.server.authorization.token;
 
-import com.nimbusds.jose.crypto.RSASSAVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import digital.inception.core.service.ServiceUnavailableException;
-import digital.inception.security.ISecurityService;
-import digital.inception.security.User;
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
 import java.time.Instant;
-import java.util.List;
-import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -53,28 +45,25 @@ public class TokenService implements ITokenService {
   /** The refresh token validity in seconds. */
   public static final int REFRESH_TOKEN_VALIDITY = 365 * 24 * 60 * 60;
 
-  /* Security Service */
-  private final ISecurityService securityService;
+  /* The Token Claims Assembler. */
+  private final TokenClaimsAssembler tokenClaimsAssembler;
+
+  /* The keys used to sign and verify the JWTs. */
+  private final TokenSigningKeys signingKeys;
 
   /* The application name. */
   @Value("${spring.application.name:#{null}}")
   private String applicationName;
 
-  /* The RSA private key used to sign the JWTs. */
-  @Value("${inception.oauth2.authorization-server.jwt.rsa-private-key-location}")
-  private RSAPrivateKey rsaPrivateKey;
-
-  /* The RSA public key used to verify the JWTs. */
-  @Value("${inception.oauth2.authorization-server.jwt.rsa-public-key-location}")
-  private RSAPublicKey rsaPublicKey;
-
   /**
    * Constructs a new <b>TokenService</b>.
    *
-   * @param securityService the Security Service
+   * @param tokenClaimsAssembler the Token Claims Assembler
+   * @param signingKeys the keys used to sign and verify the JWTs
    */
-  public TokenService(ISecurityService securityService) {
-    this.securityService = securityService;
+  public TokenService(TokenClaimsAssembler tokenClaimsAssembler, TokenSigningKeys signingKeys) {
+    this.tokenClaimsAssembler = tokenClaimsAssembler;
+    this.signingKeys = signingKeys;
   }
 
   /**
@@ -122,9 +111,7 @@ public class TokenService implements ITokenService {
     try {
       SignedJWT signedJWT = SignedJWT.parse(encodedOAuth2RefreshToken);
 
-      RSASSAVerifier verifier = new RSASSAVerifier(rsaPublicKey);
-
-      if (!signedJWT.verify(verifier)) {
+      if (!signingKeys.verify(signedJWT)) {
         throw new InvalidOAuth2RefreshTokenException();
       }
 
@@ -162,38 +149,12 @@ public class TokenService implements ITokenService {
   private OAuth2AccessToken createOAuth2AccessToken(String username, Set<String> scopes)
       throws TokenCreationException {
     try {
-      Optional<UUID> userDirectoryIdOptional = securityService.getUserDirectoryIdForUser(username);
+      // Retrieve the user-specific claims for the user, which are cached
+      TokenClaims tokenClaims = tokenClaimsAssembler.getTokenClaims(username);
 
-      if (userDirectoryIdOptional.isEmpty()) {
-        throw new TokenCreationException(
-            "Failed to retrieve the user directory ID for the user (" + username + ")");
-      } else {
-        UUID userDirectoryId = userDirectoryIdOptional.get();
-
-        // Retrieve the details for the user
-        User user = securityService.getUser(userDirectoryId, username);
-
-        // Retrieve the function codes for the user
-        List<String> functionCodes =
-            securityService.getFunctionCodesForUser(userDirectoryId, username);
-
-        // Retrieve the list of IDs for the tenants the user is associated with
-        List<UUID> tenantIds = securityService.getTenantIdsForUserDirectory(userDirectoryId);
-
-        // Retrieve the list of roles for the user
-        List<String> roleCodes = securityService.getRoleCodesForUser(userDirectoryId, username);
-
-        // Build the OAuth2 access token
-        return OAuth2AccessToken.build(
-            user,
-            roleCodes,
-            functionCodes,
-            tenantIds,
-            scopes,
-            applicationName,
-            ACCESS_TOKEN_VALIDITY,
-            rsaPrivateKey);
-      }
+      // Build the OAuth2 access token
+      return OAuth2AccessToken.build(
+          tokenClaims, scopes, applicationName, ACCESS_TOKEN_VALIDITY, signingKeys);
     } catch (Throwable e) {
       throw new TokenCreationException("Failed to create the OAuth2 access token", e);
     }
@@ -202,7 +163,7 @@ public class TokenService implements ITokenService {
   private OAuth2RefreshToken createOAuth2RefreshToken(String username, Set<String> scopes)
       throws TokenCreationException {
     try {
-      return OAuth2RefreshToken.build(username, scopes, REFRESH_TOKEN_VALIDITY, rsaPrivateKey);
+      return OAuth2RefreshToken.build(username, scopes, REFRESH_TOKEN_VALIDITY, signingKeys);
     } catch (Throwable e) {
       throw new TokenCreationException("Failed to create the OAuth2 refresh token", e);
     }
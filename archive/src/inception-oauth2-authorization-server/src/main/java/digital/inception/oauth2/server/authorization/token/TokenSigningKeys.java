@@ -0,0 +1,219 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package digital.inception.oauth2.server.authorization.token;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The <b>TokenSigningKeys</b> class holds the keys used to sign and verify the JWTs issued by the
+ * OAuth2 Authorization Server.
+ *
+ * <p>Tokens are signed using the key for the configured signing algorithm, either RS256 or ES256,
+ * and the ID of the key, which is the JWK thumbprint of the public key, is included in the JWS
+ * header. Tokens signed using any of the configured keys are accepted, which allows the signing
+ * algorithm to be changed while tokens signed using the previous algorithm are still in use. Tokens
+ * issued before key IDs were added to the JWS header are verified using the key for their
+ * algorithm.
+ *
+ * <p>The signer and verifiers are created once and reused, since they are thread-safe and creating
+ * them, particularly for RSA keys, is relatively expensive.
+ *
+ * @author Marcus Portmann
+ */
+public class TokenSigningKeys {
+
+  /** The public keys used to verify the JWTs. */
+  private final JWKSet publicKeys;
+
+  /** The ID of the key used to sign the JWTs. */
+  private final String signingKeyId;
+
+  /** The algorithm used to sign the JWTs. */
+  private final JWSAlgorithm signingAlgorithm;
+
+  /** The signer used to sign the JWTs. */
+  private final JWSSigner signer;
+
+  /** The verifiers used to verify the JWTs keyed by algorithm. */
+  private final Map<JWSAlgorithm, JWSVerifier> verifiersByAlgorithm = new HashMap<>();
+
+  /** The verifiers used to verify the JWTs keyed by key ID. */
+  private final Map<String, JWSVerifier> verifiersByKeyId = new HashMap<>();
+
+  /**
+   * Constructs a new <b>TokenSigningKeys</b>.
+   *
+   * @param signingAlgorithm the algorithm used to sign the JWTs, either RS256 or ES256
+   * @param rsaPrivateKey the optional RSA private key used to sign the JWTs
+   * @param rsaPublicKey the optional RSA public key used to verify the JWTs
+   * @param ecPrivateKey the optional P-256 EC private key used to sign the JWTs
+   * @param ecPublicKey the optional P-256 EC public key used to verify the JWTs
+   * @throws JOSEException if the keys could not be initialized
+   */
+  public TokenSigningKeys(
+      JWSAlgorithm signingAlgorithm,
+      RSAPrivateKey rsaPrivateKey,
+      RSAPublicKey rsaPublicKey,
+      ECPrivateKey ecPrivateKey,
+      ECPublicKey ecPublicKey)
+      throws JOSEException {
+    List<JWK> keys = new ArrayList<>();
+
+    String rsaKeyId = null;
+
+    if (rsaPublicKey != null) {
+      RSAKey rsaKey = new RSAKey.Builder(rsaPublicKey).keyIDFromThumbprint().build();
+
+      rsaKeyId = rsaKey.getKeyID();
+
+      addVerifier(JWSAlgorithm.RS256, rsaKeyId, new RSASSAVerifier(rsaPublicKey));
+
+      keys.add(rsaKey);
+    }
+
+    String ecKeyId = null;
+
+    if (ecPublicKey != null) {
+      ECKey ecKey = new ECKey.Builder(Curve.P_256, ecPublicKey).keyIDFromThumbprint().build();
+
+      ecKeyId = ecKey.getKeyID();
+
+      addVerifier(JWSAlgorithm.ES256, ecKeyId, new ECDSAVerifier(ecPublicKey));
+
+      keys.add(ecKey);
+    }
+
+    if (JWSAlgorithm.RS256.equals(signingAlgorithm)) {
+      if ((rsaPrivateKey == null) || (rsaKeyId == null)) {
+        throw new JOSEException(
+            "Both an RSA private key and an RSA public key are required to sign JWTs using RS256");
+      }
+
+      this.signer = new RSASSASigner(rsaPrivateKey);
+      this.signingKeyId = rsaKeyId;
+    } else if (JWSAlgorithm.ES256.equals(signingAlgorithm)) {
+      if ((ecPrivateKey == null) || (ecKeyId == null)) {
+        throw new JOSEException(
+            "Both an EC private key and an EC public key are required to sign JWTs using ES256");
+      }
+
+      this.signer = new ECDSASigner(ecPrivateKey, Curve.P_256);
+      this.signingKeyId = ecKeyId;
+    } else {
+      throw new JOSEException(
+          "The JWS algorithm ("
+              + signingAlgorithm
+              + ") is not supported, only RS256 and ES256 are supported");
+    }
+
+    this.signingAlgorithm = signingAlgorithm;
+    this.publicKeys = new JWKSet(keys);
+  }
+
+  /**
+   * Returns the public keys used to verify the JWTs.
+   *
+   * @return the public keys used to verify the JWTs
+   */
+  public JWKSet getPublicKeys() {
+    return publicKeys;
+  }
+
+  /**
+   * Returns the algorithm used to sign the JWTs.
+   *
+   * @return the algorithm used to sign the JWTs
+   */
+  public JWSAlgorithm getSigningAlgorithm() {
+    return signingAlgorithm;
+  }
+
+  /**
+   * Returns the ID of the key used to sign the JWTs.
+   *
+   * @return the ID of the key used to sign the JWTs
+   */
+  public String getSigningKeyId() {
+    return signingKeyId;
+  }
+
+  /**
+   * Sign the JWT claims set.
+   *
+   * @param claimsSet the JWT claims set
+   * @return the serialized signed JWT
+   * @throws JOSEException if the JWT claims set could not be signed
+   */
+  public String sign(JWTClaimsSet claimsSet) throws JOSEException {
+    SignedJWT signedJWT =
+        new SignedJWT(
+            new JWSHeader.Builder(signingAlgorithm).keyID(signingKeyId).build(), claimsSet);
+
+    signedJWT.sign(signer);
+
+    return signedJWT.serialize();
+  }
+
+  /**
+   * Verify the signature for the signed JWT.
+   *
+   * @param signedJWT the signed JWT
+   * @return <b>true</b> if the signature for the signed JWT is valid or <b>false</b> otherwise
+   * @throws JOSEException if the signature for the signed JWT could not be verified
+   */
+  public boolean verify(SignedJWT signedJWT) throws JOSEException {
+    JWSHeader header = signedJWT.getHeader();
+
+    JWSVerifier verifier =
+        (header.getKeyID() != null)
+            ? verifiersByKeyId.get(header.getKeyID())
+            : verifiersByAlgorithm.get(header.getAlgorithm());
+
+    if ((verifier == null) || (!verifier.supportedJWSAlgorithms().contains(header.getAlgorithm()))) {
+      return false;
+    }
+
+    return signedJWT.verify(verifier);
+  }
+
+  private void addVerifier(JWSAlgorithm algorithm, String keyId, JWSVerifier verifier) {
+    verifiersByAlgorithm.put(algorithm, verifier);
+    verifiersByKeyId.put(keyId, verifier);
+  }
+}
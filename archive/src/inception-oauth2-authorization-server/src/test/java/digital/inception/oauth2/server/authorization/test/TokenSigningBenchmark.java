@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package digital.inception.oauth2.server.authorization.test;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import digital.inception.oauth2.server.authorization.token.TokenSigningKeys;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The <b>TokenSigningBenchmark</b> class contains the JMH benchmarks that compare the throughput
+ * when issuing and verifying JWTs using the supported signing algorithms.
+ *
+ * <p>Run the benchmarks using the <b>main</b> method, after compiling the test classes, e.g. from
+ * an IDE or using <i>mvn exec:java</i> with the test classpath.
+ *
+ * @author Marcus Portmann
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenSigningBenchmark {
+
+  /** The signing algorithm. */
+  @Param({"RS256", "ES256"})
+  public String algorithm;
+
+  /** The claims set for the JWTs that are issued. */
+  private JWTClaimsSet claimsSet;
+
+  /** The keys used to sign and verify the JWTs. */
+  private TokenSigningKeys signingKeys;
+
+  /** The JWT that is verified. */
+  private String tokenValue;
+
+  /**
+   * Run the benchmarks.
+   *
+   * @param args the command-line arguments
+   */
+  public static void main(String[] args) throws Exception {
+    new Runner(new OptionsBuilder().include(TokenSigningBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+
+  /**
+   * Benchmark issuing a JWT.
+   *
+   * @return the JWT
+   */
+  @Benchmark
+  public String issue() throws Exception {
+    return signingKeys.sign(claimsSet);
+  }
+
+  /** Initialize the keys and the JWT that is verified. */
+  @Setup
+  public void setup() throws Exception {
+    KeyPairGenerator rsaKeyPairGenerator = KeyPairGenerator.getInstance("RSA");
+    rsaKeyPairGenerator.initialize(2048);
+    KeyPair rsaKeyPair = rsaKeyPairGenerator.generateKeyPair();
+
+    KeyPairGenerator ecKeyPairGenerator = KeyPairGenerator.getInstance("EC");
+    ecKeyPairGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+    KeyPair ecKeyPair = ecKeyPairGenerator.generateKeyPair();
+
+    signingKeys =
+        new TokenSigningKeys(
+            JWSAlgorithm.parse(algorithm),
+            (RSAPrivateKey) rsaKeyPair.getPrivate(),
+            (RSAPublicKey) rsaKeyPair.getPublic(),
+            (ECPrivateKey) ecKeyPair.getPrivate(),
+            (ECPublicKey) ecKeyPair.getPublic());
+
+    Instant issuedAt = Instant.now();
+
+    claimsSet =
+        new JWTClaimsSet.Builder()
+            .subject("Administrator")
+            .claim("name", "Administrator")
+            .claim("user_directory_id", UUID.randomUUID().toString())
+            .claim("tenants", List.of(UUID.randomUUID().toString()))
+            .claim("roles", List.of("Administrator"))
+            .claim("functions", List.of("Application.Dashboard", "Security.UserAdministration"))
+            .issueTime(Date.from(issuedAt))
+            .expirationTime(Date.from(issuedAt.plusSeconds(300)))
+            .build();
+
+    tokenValue = signingKeys.sign(claimsSet);
+  }
+
+  /**
+   * Benchmark verifying a JWT.
+   *
+   * @return <b>true</b> if the JWT is valid or <b>false</b> otherwise
+   */
+  @Benchmark
+  public boolean verify() throws Exception {
+    return signingKeys.verify(SignedJWT.parse(tokenValue));
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package digital.inception.oauth2.server.resource;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * The <b>CachedJwt</b> class holds a verified JWT that has been cached by the {@link
+ * CachingJwtDecoder} along with the granted authorities extracted from it, so that the authorities
+ * are only extracted once for each token rather than once for each request.
+ *
+ * @author Marcus Portmann
+ */
+final class CachedJwt extends Jwt {
+
+  private static final long serialVersionUID = 1000000;
+
+  /** The immutable granted authorities extracted from the JWT. */
+  private transient volatile Collection<GrantedAuthority> grantedAuthorities;
+
+  /**
+   * Constructs a new <b>CachedJwt</b>.
+   *
+   * @param jwt the verified JWT
+   */
+  CachedJwt(Jwt jwt) {
+    super(
+        jwt.getTokenValue(),
+        jwt.getIssuedAt(),
+        jwt.getExpiresAt(),
+        jwt.getHeaders(),
+        jwt.getClaims());
+  }
+
+  /**
+   * Returns the immutable granted authorities extracted from the JWT, extracting them the first
+   * time this method is invoked.
+   *
+   * @param extractor the function used to extract the granted authorities from the JWT
+   * @return the immutable granted authorities extracted from the JWT
+   */
+  Collection<GrantedAuthority> getGrantedAuthorities(
+      Function<Jwt, Collection<GrantedAuthority>> extractor) {
+    Collection<GrantedAuthority> authorities = grantedAuthorities;
+
+    if (authorities == null) {
+      authorities = List.copyOf(extractor.apply(this));
+
+      grantedAuthorities = authorities;
+    }
+
+    return authorities;
+  }
+}
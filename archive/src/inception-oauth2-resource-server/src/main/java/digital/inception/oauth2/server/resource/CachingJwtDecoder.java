@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package digital.inception.oauth2.server.resource;
+
+import digital.inception.core.util.ExpiringLRUCache;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * The <b>CachingJwtDecoder</b> class decorates a {@link JwtDecoder} with a bounded cache of
+ * verified JWTs keyed by the SHA-256 hash of the token.
+ *
+ * <p>The signature verification and claim parsing performed by the delegate decoder are expensive,
+ * and the same token is typically presented with every request a client makes until it expires.
+ * Caching the verified JWT means this work is performed once per token rather than once per
+ * request. Cached JWTs are discarded when the token expires, or after the maximum time to live if
+ * this is earlier, after which the token is verified again by the delegate decoder. The least
+ * recently used JWTs are discarded when the maximum number of cached JWTs is exceeded.
+ *
+ * @author Marcus Portmann
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+  /** The message digest used to hash the tokens for the current thread. */
+  private static final ThreadLocal<MessageDigest> messageDigest =
+      ThreadLocal.withInitial(
+          () -> {
+            try {
+              return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+              throw new IllegalStateException("The SHA-256 message digest is not available", e);
+            }
+          });
+
+  /** The delegate decoder used to verify and decode JWTs that are not cached. */
+  private final JwtDecoder delegate;
+
+  /** The cached verified JWTs keyed by the SHA-256 hash of the token. */
+  private final ExpiringLRUCache<String, CachedJwt> entries;
+
+  /** The maximum number of verified JWTs to cache. */
+  private final int maxEntries;
+
+  /** The maximum number of milliseconds to cache a verified JWT. */
+  private final long maxTimeToLive;
+
+  /**
+   * Constructs a new <b>CachingJwtDecoder</b>.
+   *
+   * @param delegate the delegate decoder used to verify and decode JWTs that are not cached
+   * @param maxEntries the maximum number of verified JWTs to cache
+   * @param maxTimeToLive the maximum number of milliseconds to cache a verified JWT
+   */
+  public CachingJwtDecoder(JwtDecoder delegate, int maxEntries, long maxTimeToLive) {
+    this.delegate = delegate;
+    this.maxEntries = maxEntries;
+    this.maxTimeToLive = maxTimeToLive;
+    this.entries = new ExpiringLRUCache<>(maxEntries);
+  }
+
+  private static String hash(String token) {
+    MessageDigest digest = messageDigest.get();
+
+    digest.reset();
+
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+  }
+
+  /** Remove all the cached verified JWTs. */
+  public void clear() {
+    entries.clear();
+  }
+
+  /**
+   * Decode and verify the JWT, returning the cached verified JWT if the token has already been
+   * verified and has not expired.
+   *
+   * @param token the JWT value
+   * @return the verified JWT
+   * @throws JwtException if the JWT could not be decoded or verified
+   */
+  @Override
+  public Jwt decode(String token) throws JwtException {
+    if ((maxEntries <= 0) || (maxTimeToLive <= 0)) {
+      return delegate.decode(token);
+    }
+
+    String key = hash(token);
+
+    CachedJwt jwt = entries.get(key);
+
+    if (jwt != null) {
+      return jwt;
+    }
+
+    long now = System.currentTimeMillis();
+
+    jwt = new CachedJwt(delegate.decode(token));
+
+    long expiry = now + maxTimeToLive;
+
+    Instant expiresAt = jwt.getExpiresAt();
+
+    if (expiresAt != null) {
+      expiry = Math.min(expiry, expiresAt.toEpochMilli());
+    }
+
+    entries.put(key, jwt, expiry);
+
+    return jwt;
+  }
+}
@@ -46,11 +46,22 @@ public class JwtGrantedAuthoritiesConverter
   /**
    * Extract {@link GrantedAuthority}s from the given {@link Jwt}.
    *
+   * <p>The authorities for a JWT cached by the {@link CachingJwtDecoder} are only extracted once
+   * and the same immutable collection is returned for every subsequent request using the token.
+   *
    * @param jwt the {@link Jwt} token
    * @return the {@link GrantedAuthority authorities} read from the token scopes
    */
   @Override
   public Collection<GrantedAuthority> convert(Jwt jwt) {
+    if (jwt instanceof CachedJwt) {
+      return ((CachedJwt) jwt).getGrantedAuthorities(this::extractGrantedAuthorities);
+    }
+
+    return List.copyOf(extractGrantedAuthorities(jwt));
+  }
+
+  private Collection<GrantedAuthority> extractGrantedAuthorities(Jwt jwt) {
     Collection<GrantedAuthority> grantedAuthorities = new ArrayList<>();
 
     // Function claims
@@ -16,12 +16,28 @@
 
 package digital.inception.oauth2.server.resource;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import digital.inception.core.util.CryptoUtil;
+import java.security.interfaces.ECPublicKey;
 import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import org.springframework.beans.factory.BeanInitializationException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.core.io.Resource;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 
@@ -29,32 +45,85 @@ import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
  * The <b>OAuth2ResourceServerConfiguration</b> class provides the Spring configuration for the
  * OAuth2 Resource Server module.
  *
+ * <p>JWTs signed using RS256 and ES256 are accepted for whichever of the RSA and EC public keys are
+ * configured, which allows the signing algorithm used by the OAuth2 Authorization Server to be
+ * changed without rejecting the tokens that have already been issued.
+ *
  * @author Marcus Portmann
  */
 @Configuration
 public class OAuth2ResourceServerConfiguration {
 
-  /* The RSA public key used to verify the JWTs. */
-  @Value("${inception.oauth2.resource-server.jwt.rsa-public-key-location}")
+  /* The optional location of the X.509 PEM encoded P-256 EC public key used to verify the JWTs. */
+  @Value("${inception.oauth2.resource-server.jwt.ec-public-key-location:#{null}}")
+  private Resource ecPublicKeyLocation;
+
+  /* Should verified JWTs be cached to avoid verifying the signature for every request? */
+  @Value("${inception.oauth2.resource-server.jwt.cache.enabled:#{true}}")
+  private boolean jwtCacheEnabled;
+
+  /* The maximum number of verified JWTs to cache. */
+  @Value("${inception.oauth2.resource-server.jwt.cache.max-entries:#{10000}}")
+  private int jwtCacheMaxEntries;
+
+  /* The maximum number of seconds to cache a verified JWT, which is capped at its expiry time. */
+  @Value("${inception.oauth2.resource-server.jwt.cache.max-time-to-live:#{300}}")
+  private int jwtCacheMaxTimeToLive;
+
+  /* The optional RSA public key used to verify the JWTs. */
+  @Value("${inception.oauth2.resource-server.jwt.rsa-public-key-location:#{null}}")
   private RSAPublicKey rsaPublicKey;
 
   @Bean
-  JwtDecoder jwtDecoderByRSAPublicKeyValue() throws Exception {
-    if (rsaPublicKey == null) {
+  JwtDecoder jwtDecoderByPublicKeyValue() throws Exception {
+    if ((rsaPublicKey == null) && (ecPublicKeyLocation == null)) {
       throw new BeanInitializationException(
-          "Failed to retrieve the RSA public key using the "
-              + "inception.oauth2.resource-server.jwt.rsa-public-key-location property "
+          "Failed to retrieve the public key using the "
+              + "inception.oauth2.resource-server.jwt.rsa-public-key-location or "
+              + "inception.oauth2.resource-server.jwt.ec-public-key-location properties "
               + "to initialize the JwtDecoder bean");
     }
 
     try {
-      return NimbusJwtDecoder.withPublicKey(rsaPublicKey)
-          .signatureAlgorithm(SignatureAlgorithm.from("RS256"))
-          .build();
+      List<JWK> keys = new ArrayList<>();
+      Set<JWSAlgorithm> algorithms = new HashSet<>();
+
+      if (rsaPublicKey != null) {
+        keys.add(new RSAKey.Builder(rsaPublicKey).keyIDFromThumbprint().build());
+        algorithms.add(JWSAlgorithm.RS256);
+      }
+
+      if (ecPublicKeyLocation != null) {
+        keys.add(
+            new ECKey.Builder(
+                    Curve.P_256,
+                    (ECPublicKey) CryptoUtil.readPemEncodedPublicKey(ecPublicKeyLocation, "EC"))
+                .keyIDFromThumbprint()
+                .build());
+        algorithms.add(JWSAlgorithm.ES256);
+      }
+
+      DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+      jwtProcessor.setJWSKeySelector(
+          new JWSVerificationKeySelector<>(algorithms, new ImmutableJWKSet<>(new JWKSet(keys))));
+
+      // The claims are validated by the NimbusJwtDecoder
+      jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {});
+
+      JwtDecoder jwtDecoder = new NimbusJwtDecoder(jwtProcessor);
+
+      if (jwtCacheEnabled) {
+        jwtDecoder =
+            new CachingJwtDecoder(jwtDecoder, jwtCacheMaxEntries, jwtCacheMaxTimeToLive * 1000L);
+      }
+
+      return jwtDecoder;
     } catch (Throwable e) {
       throw new BeanInitializationException(
           "Failed to initialize the JwtDecoder bean using the RSA public key ("
               + rsaPublicKey
+              + ") and the EC public key ("
+              + ecPublicKeyLocation
               + ")",
           e);
     }
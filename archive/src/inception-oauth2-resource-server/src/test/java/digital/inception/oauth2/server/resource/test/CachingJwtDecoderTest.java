@@ -0,0 +1,205 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.oauth2.server.resource.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import digital.inception.oauth2.server.resource.CachingJwtDecoder;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * The <b>CachingJwtDecoderTest</b> class contains the implementation of the JUnit tests for the
+ * <b>CachingJwtDecoder</b> class.
+ *
+ * @author Marcus Portmann
+ */
+public class CachingJwtDecoderTest {
+
+  /** Test that a verified JWT is returned from the cache when the token is decoded again. */
+  @Test
+  public void cacheHitTest() {
+    FakeJwtDecoder delegate = new FakeJwtDecoder();
+
+    delegate.addToken("token1", Instant.now().plusSeconds(3600));
+
+    CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, 60000);
+
+    Jwt jwt = decoder.decode("token1");
+
+    assertSame(jwt, decoder.decode("token1"), "The cached JWT was not returned");
+    assertEquals(1, delegate.getDecodeCount(), "The token was verified more than once");
+  }
+
+  /** Test that the JWTs are not cached when caching is disabled. */
+  @Test
+  public void cachingDisabledTest() {
+    FakeJwtDecoder delegate = new FakeJwtDecoder();
+
+    delegate.addToken("token1", Instant.now().plusSeconds(3600));
+
+    CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 0, 60000);
+
+    decoder.decode("token1");
+    decoder.decode("token1");
+
+    assertEquals(2, delegate.getDecodeCount(), "The token was not verified each time");
+  }
+
+  /** Test that the least recently used JWT is discarded when the cache is full. */
+  @Test
+  public void maxEntriesTest() {
+    FakeJwtDecoder delegate = new FakeJwtDecoder();
+
+    for (int i = 1; i <= 3; i++) {
+      delegate.addToken("token" + i, Instant.now().plusSeconds(3600));
+    }
+
+    CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 2, 60000);
+
+    decoder.decode("token1");
+    decoder.decode("token2");
+
+    // Use the first token so that the second token is the least recently used
+    decoder.decode("token1");
+
+    decoder.decode("token3");
+
+    assertEquals(3, delegate.getDecodeCount(), "The tokens were not verified once each");
+
+    decoder.decode("token1");
+
+    assertEquals(
+        3, delegate.getDecodeCount(), "The most recently used token was discarded from the cache");
+
+    decoder.decode("token2");
+
+    assertEquals(
+        4,
+        delegate.getDecodeCount(),
+        "The least recently used token was not discarded from the cache");
+  }
+
+  /** Test that a cached JWT is discarded after the maximum time to live. */
+  @Test
+  public void maxTimeToLiveTest() throws Exception {
+    FakeJwtDecoder delegate = new FakeJwtDecoder();
+
+    delegate.addToken("token1", Instant.now().plusSeconds(3600));
+
+    CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, 100);
+
+    Jwt jwt = decoder.decode("token1");
+
+    Thread.sleep(200);
+
+    assertNotSame(
+        jwt,
+        decoder.decode("token1"),
+        "The cached JWT was returned after the maximum time to live");
+    assertEquals(
+        2,
+        delegate.getDecodeCount(),
+        "The token was not verified again after the maximum time to live");
+  }
+
+  /** Test that a cached JWT is discarded when the token expires and the token is then rejected. */
+  @Test
+  public void tokenExpiryTest() throws Exception {
+    FakeJwtDecoder delegate = new FakeJwtDecoder();
+
+    delegate.addToken("token1", Instant.now().plusMillis(200));
+
+    CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, 60000);
+
+    decoder.decode("token1");
+    decoder.decode("token1");
+
+    assertEquals(1, delegate.getDecodeCount(), "The token was verified more than once");
+
+    Thread.sleep(300);
+
+    assertThrows(
+        JwtException.class,
+        () -> decoder.decode("token1"),
+        "The cached JWT was returned after the token expired");
+    assertEquals(2, delegate.getDecodeCount(), "The token was not verified again after it expired");
+  }
+
+  /**
+   * The <b>FakeJwtDecoder</b> class provides a JWT decoder that decodes known tokens and, like the
+   * JWT timestamp validator, rejects tokens that have expired.
+   */
+  private static class FakeJwtDecoder implements JwtDecoder {
+
+    /** The number of times a token has been decoded. */
+    private final AtomicInteger decodeCount = new AtomicInteger();
+
+    /** The expiry times for the known tokens keyed by the token value. */
+    private final Map<String, Instant> tokens = new ConcurrentHashMap<>();
+
+    /**
+     * Add a known token.
+     *
+     * @param token the token value
+     * @param expiresAt the time the token expires
+     */
+    void addToken(String token, Instant expiresAt) {
+      tokens.put(token, expiresAt);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+      decodeCount.incrementAndGet();
+
+      Instant expiresAt = tokens.get(token);
+
+      if (expiresAt == null) {
+        throw new JwtException("Unknown token");
+      }
+
+      if (!Instant.now().isBefore(expiresAt)) {
+        throw new JwtException("Jwt expired at " + expiresAt);
+      }
+
+      return Jwt.withTokenValue(token)
+          .header("alg", "none")
+          .subject("test")
+          .issuedAt(expiresAt.minusSeconds(7200))
+          .expiresAt(expiresAt)
+          .build();
+    }
+
+    /**
+     * Returns the number of times a token has been decoded.
+     *
+     * @return the number of times a token has been decoded
+     */
+    int getDecodeCount() {
+      return decodeCount.get();
+    }
+  }
+}
@@ -16,9 +16,15 @@
 
 package digital.inception.party;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import digital.inception.api.ProblemDetails;
 import digital.inception.api.SecureApi;
 import digital.inception.core.service.InvalidArgumentException;
+import digital.inception.core.service.ServiceException;
 import digital.inception.core.service.ServiceUnavailableException;
 import digital.inception.core.sorting.SortDirection;
 import io.swagger.v3.oas.annotations.Operation;
@@ -28,12 +34,25 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -43,6 +62,7 @@ import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * The <b>PartyApi</b> class.
@@ -57,6 +77,9 @@ import org.springframework.web.bind.annotation.RestController;
 // @el (isSecurityDisabled: digital.inception.api.ApiSecurityExpressionRoot.isSecurityEnabled)
 public class PartyApi extends SecureApi {
 
+  /** The Jackson 2 object mapper. */
+  private final ObjectMapper objectMapper;
+
   /** The Party Service. */
   private final IPartyService partyService;
 
@@ -64,11 +87,16 @@ public class PartyApi extends SecureApi {
    * Constructs a new <b>PartyRestController</b>.
    *
    * @param applicationContext the Spring application context
+   * @param objectMapper the Jackson 2 object mapper
    * @param partyService the Party Service
    */
-  public PartyApi(ApplicationContext applicationContext, IPartyService partyService) {
+  public PartyApi(
+      ApplicationContext applicationContext,
+      ObjectMapper objectMapper,
+      IPartyService partyService) {
     super(applicationContext);
 
+    this.objectMapper = objectMapper;
     this.partyService = partyService;
   }
 
@@ -131,7 +159,9 @@ public class PartyApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration') or hasAuthority('FUNCTION_Party.AssociationAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.AssociationAdministration')")
   public void createAssociation(
       @Parameter(
               name = "Tenant-ID",
@@ -213,7 +243,9 @@ public class PartyApi extends SecureApi {
   @RequestMapping(value = "/mandates", method = RequestMethod.POST, produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration') or hasAuthority('FUNCTION_Party.MandateAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.MandateAdministration')")
   public void createMandate(
       @Parameter(
               name = "Tenant-ID",
@@ -292,7 +324,9 @@ public class PartyApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration') or hasAuthority('FUNCTION_Party.OrganizationAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.OrganizationAdministration')")
   public void createOrganization(
       @Parameter(
               name = "Tenant-ID",
@@ -365,7 +399,9 @@ public class PartyApi extends SecureApi {
   @RequestMapping(value = "/persons", method = RequestMethod.POST, produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration') or hasAuthority('FUNCTION_Party.PersonAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.PersonAdministration')")
   public void createPerson(
       @Parameter(
               name = "Tenant-ID",
@@ -442,7 +478,9 @@ public class PartyApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration') or hasAuthority('FUNCTION_Party.AssociationAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.AssociationAdministration')")
   public void deleteAssociation(
       @Parameter(
               name = "Tenant-ID",
@@ -512,7 +550,9 @@ public class PartyApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration') or hasAuthority('FUNCTION_Party.MandateAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.MandateAdministration')")
   public void deleteMandate(
       @Parameter(
               name = "Tenant-ID",
@@ -581,7 +621,9 @@ public class PartyApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration') or hasAuthority('FUNCTION_Party.OrganizationAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.OrganizationAdministration')")
   public void deleteOrganization(
       @Parameter(
               name = "Tenant-ID",
@@ -651,7 +693,9 @@ public class PartyApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration') or hasAuthority('FUNCTION_Party.PersonAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.PersonAdministration')")
   public void deletePerson(
       @Parameter(
               name = "Tenant-ID",
@@ -669,6 +713,131 @@ public class PartyApi extends SecureApi {
     partyService.deletePerson(tenantId, personId);
   }
 
+  /**
+   * Export the parties, e.g. persons and organizations, for the tenant ordered by ID.
+   *
+   * @param tenantId the ID for the tenant
+   * @param format the optional export format, which defaults to <b>NDJSON</b>
+   * @param fetchPlan the optional fetch plan used to determine which information is retrieved for
+   *     the parties, which defaults to <b>FULL</b>
+   * @param fields the optional names of the fields to export for each party in addition to the ID
+   *     and party type
+   * @param cursor the optional ID for the last party received by a previous export, after which
+   *     this export should start
+   * @return the streaming response body the parties are written to
+   * @throws InvalidArgumentException if an argument is invalid
+   */
+  @Operation(
+      summary = "Export the parties",
+      description =
+          "Export the parties ordered by ID as newline-delimited JSON or CSV, streaming the"
+              + " parties as they are read")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid argument",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Access denied",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "500",
+            description =
+                "An error has occurred and the request could not be processed at this time",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class)))
+      })
+  @RequestMapping(
+      value = "/parties/export",
+      method = RequestMethod.GET,
+      produces = {"application/x-ndjson", "text/csv"})
+  @PreAuthorize(
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration')")
+  public ResponseEntity<StreamingResponseBody> exportParties(
+      @Parameter(
+              name = "Tenant-ID",
+              description = "The ID for the tenant",
+              example = "00000000-0000-0000-0000-000000000000")
+          @RequestHeader(
+              name = "Tenant-ID",
+              defaultValue = "00000000-0000-0000-0000-000000000000",
+              required = false)
+          UUID tenantId,
+      @Parameter(name = "format", description = "The optional export format")
+          @RequestParam(value = "format", required = false, defaultValue = "ndjson")
+          PartyExportFormat format,
+      @Parameter(
+              name = "fetchPlan",
+              description =
+                  "The optional fetch plan used to determine which information is retrieved for the"
+                      + " parties")
+          @RequestParam(value = "fetchPlan", required = false, defaultValue = "full")
+          PartyFetchPlan fetchPlan,
+      @Parameter(
+              name = "fields",
+              description =
+                  "The optional names of the fields to export for each party in addition to the ID"
+                      + " and party type")
+          @RequestParam(value = "fields", required = false)
+          List<String> fields,
+      @Parameter(
+              name = "cursor",
+              description =
+                  "The optional ID for the last party received by a previous export, after which"
+                      + " this export should start")
+          @RequestParam(value = "cursor", required = false)
+          UUID cursor)
+      throws InvalidArgumentException {
+    UUID exportTenantId = (tenantId == null) ? IPartyService.DEFAULT_TENANT_ID : tenantId;
+
+    if (!hasAccessToTenant(exportTenantId)) {
+      throw new AccessDeniedException("Access denied to the tenant (" + exportTenantId + ")");
+    }
+
+    if (format == null) {
+      throw new InvalidArgumentException("format");
+    }
+
+    if (fetchPlan == null) {
+      throw new InvalidArgumentException("fetchPlan");
+    }
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(
+        MediaType.parseMediaType(
+            (format == PartyExportFormat.CSV) ? "text/csv" : "application/x-ndjson"));
+    headers.add("Cache-Control", "no-cache, no-store, must-revalidate");
+    headers.add("Pragma", "no-cache");
+    headers.add("Expires", "0");
+
+    String filename = "parties." + format.code();
+    headers.setContentDispositionFormData(filename, filename);
+
+    return new ResponseEntity<>(
+        outputStream -> {
+          try {
+            partyService.exportParties(
+                exportTenantId, format, fetchPlan, fields, cursor, outputStream);
+          } catch (ServiceException e) {
+            throw new IOException(e);
+          }
+        },
+        headers,
+        HttpStatus.OK);
+  }
+
   /**
    * Retrieve the association.
    *
@@ -719,7 +888,9 @@ public class PartyApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration') or hasAuthority('FUNCTION_Party.AssociationAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.AssociationAdministration')")
   public Association getAssociation(
       @Parameter(
               name = "Tenant-ID",
@@ -746,6 +917,110 @@ public class PartyApi extends SecureApi {
     return partyService.getAssociation(tenantId, associationId);
   }
 
+  /**
+   * Retrieve the association graph for the party.
+   *
+   * @param tenantId the ID for the tenant
+   * @param partyId the ID for the party the traversal starts from
+   * @param maxDepth the optional maximum number of associations to follow from the party
+   * @param associationTypes the optional codes for the association types to follow
+   * @param traversalOrder the optional order in which the parties are visited
+   * @return the association graph for the party
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws PartyNotFoundException if the party could not be found
+   * @throws ServiceUnavailableException if the association graph for the party could not be
+   *     retrieved
+   */
+  @Operation(
+      summary = "Retrieve the association graph for the party",
+      description = "Retrieve the association graph for the party")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid argument",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Access denied",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "404",
+            description = "The party could not be found",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "500",
+            description =
+                "An error has occurred and the request could not be processed at this time",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class)))
+      })
+  @RequestMapping(
+      value = "/parties/{partyId}/association-graph",
+      method = RequestMethod.GET,
+      produces = "application/json")
+  @ResponseStatus(HttpStatus.OK)
+  @PreAuthorize(
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.OrganizationAdministration') or"
+          + " hasAuthority('FUNCTION_Party.PersonAdministration') or"
+          + " hasAuthority('FUNCTION_Party.AssociationAdministration')")
+  public AssociationGraph getAssociationGraph(
+      @Parameter(
+              name = "Tenant-ID",
+              description = "The ID for the tenant",
+              example = "00000000-0000-0000-0000-000000000000")
+          @RequestHeader(
+              name = "Tenant-ID",
+              defaultValue = "00000000-0000-0000-0000-000000000000",
+              required = false)
+          UUID tenantId,
+      @Parameter(
+              name = "partyId",
+              description = "The ID for the party the traversal starts from",
+              required = true)
+          @PathVariable
+          UUID partyId,
+      @Parameter(
+              name = "maxDepth",
+              description = "The optional maximum number of associations to follow from the party",
+              example = "3")
+          @RequestParam(value = "maxDepth", required = false)
+          Integer maxDepth,
+      @Parameter(
+              name = "associationTypes",
+              description = "The optional codes for the association types to follow")
+          @RequestParam(value = "associationTypes", required = false)
+          List<String> associationTypes,
+      @Parameter(
+              name = "traversalOrder",
+              description = "The optional order in which the parties are visited")
+          @RequestParam(value = "traversalOrder", required = false)
+          AssociationTraversalOrder traversalOrder)
+      throws InvalidArgumentException, PartyNotFoundException, ServiceUnavailableException {
+    tenantId = (tenantId == null) ? IPartyService.DEFAULT_TENANT_ID : tenantId;
+
+    if (!hasAccessToTenant(tenantId)) {
+      throw new AccessDeniedException("Access denied to the tenant (" + tenantId + ")");
+    }
+
+    return partyService.getAssociationGraph(
+        tenantId, partyId, maxDepth, associationTypes, traversalOrder);
+  }
+
   /**
    * Retrieve the associations for the party.
    *
@@ -802,7 +1077,11 @@ public class PartyApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration') or hasAuthority('FUNCTION_Party.OrganizationAdministration') or hasAuthority('FUNCTION_Party.PersonAdministration') or hasAuthority('FUNCTION_Party.AssociationAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.OrganizationAdministration') or"
+          + " hasAuthority('FUNCTION_Party.PersonAdministration') or"
+          + " hasAuthority('FUNCTION_Party.AssociationAdministration')")
   public AssociationsForParty getAssociationsForParty(
       @Parameter(
               name = "Tenant-ID",
@@ -898,7 +1177,9 @@ public class PartyApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration') or hasAuthority('FUNCTION_Party.MandateAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.MandateAdministration')")
   public Mandate getMandate(
       @Parameter(
               name = "Tenant-ID",
@@ -978,7 +1259,11 @@ public class PartyApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration') or hasAuthority('FUNCTION_Party.OrganizationAdministration') or hasAuthority('FUNCTION_Party.PersonAdministration') or hasAuthority('FUNCTION_Party.MandateAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.OrganizationAdministration') or"
+          + " hasAuthority('FUNCTION_Party.PersonAdministration') or"
+          + " hasAuthority('FUNCTION_Party.MandateAdministration')")
   public MandatesForParty getMandatesForParty(
       @Parameter(
               name = "Tenant-ID",
@@ -1029,6 +1314,8 @@ public class PartyApi extends SecureApi {
    *
    * @param tenantId the ID for the tenant
    * @param organizationId the ID for the organization
+   * @param fetchPlan the optional fetch plan used to determine which information is retrieved for
+   *     the organization, which defaults to <b>FULL</b>
    * @return the organization
    * @throws InvalidArgumentException if an argument is invalid
    * @throws OrganizationNotFoundException if the organization could not be found
@@ -1074,7 +1361,9 @@ public class PartyApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration') or hasAuthority('FUNCTION_Party.OrganizationAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.OrganizationAdministration')")
   public Organization getOrganization(
       @Parameter(
               name = "Tenant-ID",
@@ -1090,7 +1379,14 @@ public class PartyApi extends SecureApi {
               description = "The ID for the organization",
               required = true)
           @PathVariable
-          UUID organizationId)
+          UUID organizationId,
+      @Parameter(
+              name = "fetchPlan",
+              description =
+                  "The optional fetch plan used to determine which information is retrieved for the"
+                      + " organization")
+          @RequestParam(value = "fetchPlan", required = false, defaultValue = "full")
+          PartyFetchPlan fetchPlan)
       throws InvalidArgumentException, OrganizationNotFoundException, ServiceUnavailableException {
     tenantId = (tenantId == null) ? IPartyService.DEFAULT_TENANT_ID : tenantId;
 
@@ -1098,7 +1394,7 @@ public class PartyApi extends SecureApi {
       throw new AccessDeniedException("Access denied to the tenant (" + tenantId + ")");
     }
 
-    return partyService.getOrganization(tenantId, organizationId);
+    return partyService.getOrganization(tenantId, organizationId, fetchPlan);
   }
 
   /**
@@ -1110,6 +1406,12 @@ public class PartyApi extends SecureApi {
    * @param sortDirection the optional sort direction to apply to the organizations
    * @param pageIndex the optional page index
    * @param pageSize the optional page size
+   * @param fetchPlan the optional fetch plan used to determine which information is retrieved for
+   *     the organizations, which defaults to <b>SUMMARY</b>
+   * @param cursor the optional opaque cursor returned with the previous page, or an empty string to
+   *     retrieve the first page, which enables keyset pagination instead of offset pagination
+   * @param includeTotal should the total number of organizations be retrieved when using keyset
+   *     pagination, which requires an additional query
    * @return the organizations
    * @throws InvalidArgumentException if an argument is invalid
    * @throws ServiceUnavailableException if the organizations could not be retrieved
@@ -1147,7 +1449,9 @@ public class PartyApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration') or hasAuthority('FUNCTION_Party.OrganizationAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.OrganizationAdministration')")
   public Organizations getOrganizations(
       @Parameter(
               name = "Tenant-ID",
@@ -1176,7 +1480,29 @@ public class PartyApi extends SecureApi {
           Integer pageIndex,
       @Parameter(name = "pageSize", description = "The optional page size", example = "10")
           @RequestParam(value = "pageSize", required = false, defaultValue = "10")
-          Integer pageSize)
+          Integer pageSize,
+      @Parameter(
+              name = "fetchPlan",
+              description =
+                  "The optional fetch plan used to determine which information is retrieved for the"
+                      + " organizations")
+          @RequestParam(value = "fetchPlan", required = false, defaultValue = "summary")
+          PartyFetchPlan fetchPlan,
+      @Parameter(
+              name = "cursor",
+              description =
+                  "The optional opaque cursor returned with the previous page, or an empty string"
+                      + " to retrieve the first page, which enables keyset pagination instead of"
+                      + " offset pagination")
+          @RequestParam(value = "cursor", required = false)
+          String cursor,
+      @Parameter(
+              name = "includeTotal",
+              description =
+                  "Should the total number of organizations be retrieved when using keyset"
+                      + " pagination")
+          @RequestParam(value = "includeTotal", required = false, defaultValue = "false")
+          boolean includeTotal)
       throws InvalidArgumentException, ServiceUnavailableException {
     tenantId = (tenantId == null) ? IPartyService.DEFAULT_TENANT_ID : tenantId;
 
@@ -1191,8 +1517,13 @@ public class PartyApi extends SecureApi {
       pageSize = 10;
     }
 
+    if (cursor != null) {
+      return partyService.getOrganizations(
+          tenantId, filter, sortBy, sortDirection, cursor, pageSize, fetchPlan, includeTotal);
+    }
+
     return partyService.getOrganizations(
-        tenantId, filter, sortBy, sortDirection, pageIndex, pageSize);
+        tenantId, filter, sortBy, sortDirection, pageIndex, pageSize, fetchPlan);
   }
 
   /**
@@ -1204,6 +1535,10 @@ public class PartyApi extends SecureApi {
    * @param sortDirection the optional sort direction to apply to the parties
    * @param pageIndex the optional page index
    * @param pageSize the optional page size
+   * @param cursor the optional opaque cursor returned with the previous page, or an empty string to
+   *     retrieve the first page, which enables keyset pagination instead of offset pagination
+   * @param includeTotal should the total number of parties be retrieved when using keyset
+   *     pagination, which requires an additional query
    * @return the parties
    * @throws InvalidArgumentException if an argument is invalid
    * @throws ServiceUnavailableException if the parties could not be retrieved
@@ -1238,7 +1573,8 @@ public class PartyApi extends SecureApi {
   @RequestMapping(value = "/parties", method = RequestMethod.GET, produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration')")
   public Parties getParties(
       @Parameter(
               name = "Tenant-ID",
@@ -1267,7 +1603,21 @@ public class PartyApi extends SecureApi {
           Integer pageIndex,
       @Parameter(name = "pageSize", description = "The optional page size", example = "10")
           @RequestParam(value = "pageSize", required = false, defaultValue = "10")
-          Integer pageSize)
+          Integer pageSize,
+      @Parameter(
+              name = "cursor",
+              description =
+                  "The optional opaque cursor returned with the previous page, or an empty string"
+                      + " to retrieve the first page, which enables keyset pagination instead of"
+                      + " offset pagination")
+          @RequestParam(value = "cursor", required = false)
+          String cursor,
+      @Parameter(
+              name = "includeTotal",
+              description =
+                  "Should the total number of parties be retrieved when using keyset pagination")
+          @RequestParam(value = "includeTotal", required = false, defaultValue = "false")
+          boolean includeTotal)
       throws InvalidArgumentException, ServiceUnavailableException {
     tenantId = (tenantId == null) ? IPartyService.DEFAULT_TENANT_ID : tenantId;
 
@@ -1282,6 +1632,11 @@ public class PartyApi extends SecureApi {
       pageSize = 10;
     }
 
+    if (cursor != null) {
+      return partyService.getParties(
+          tenantId, filter, sortBy, sortDirection, cursor, pageSize, includeTotal);
+    }
+
     return partyService.getParties(tenantId, filter, sortBy, sortDirection, pageIndex, pageSize);
   }
 
@@ -1335,7 +1690,8 @@ public class PartyApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration')")
   public Party getParty(
       @Parameter(
               name = "Tenant-ID",
@@ -1359,11 +1715,90 @@ public class PartyApi extends SecureApi {
     return partyService.getParty(tenantId, partyId);
   }
 
+  /**
+   * Retrieve the purge of the party data for the tenant.
+   *
+   * @param tenantId the ID for the tenant
+   * @param purgeId the ID for the purge
+   * @return the purge
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws PartyPurgeNotFoundException if the purge could not be found
+   * @throws ServiceUnavailableException if the purge could not be retrieved
+   */
+  @Operation(
+      summary = "Retrieve the purge of the party data",
+      description = "Retrieve the purge of the party data, which reports the progress of the purge")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid argument",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Access denied",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "404",
+            description = "The purge could not be found",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "500",
+            description =
+                "An error has occurred and the request could not be processed at this time",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class)))
+      })
+  @RequestMapping(
+      value = "/party-purges/{purgeId}",
+      method = RequestMethod.GET,
+      produces = "application/json")
+  @ResponseStatus(HttpStatus.OK)
+  @PreAuthorize(
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration')")
+  public PartyPurge getPartyPurge(
+      @Parameter(
+              name = "Tenant-ID",
+              description = "The ID for the tenant",
+              example = "00000000-0000-0000-0000-000000000000")
+          @RequestHeader(
+              name = "Tenant-ID",
+              defaultValue = "00000000-0000-0000-0000-000000000000",
+              required = false)
+          UUID tenantId,
+      @Parameter(name = "purgeId", description = "The ID for the purge", required = true)
+          @PathVariable
+          UUID purgeId)
+      throws InvalidArgumentException, PartyPurgeNotFoundException, ServiceUnavailableException {
+    tenantId = (tenantId == null) ? IPartyService.DEFAULT_TENANT_ID : tenantId;
+
+    if (!hasAccessToTenant(tenantId)) {
+      throw new AccessDeniedException("Access denied to the tenant (" + tenantId + ")");
+    }
+
+    return partyService.getPartyPurge(tenantId, purgeId);
+  }
+
   /**
    * Retrieve the person.
    *
    * @param tenantId the ID for the tenant
    * @param personId the ID for the person
+   * @param fetchPlan the optional fetch plan used to determine which information is retrieved for
+   *     the person, which defaults to <b>FULL</b>
    * @return the person
    * @throws InvalidArgumentException if an argument is invalid
    * @throws PersonNotFoundException if the person could not be found
@@ -1409,7 +1844,9 @@ public class PartyApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration') or hasAuthority('FUNCTION_Party.PersonAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.PersonAdministration')")
   public Person getPerson(
       @Parameter(
               name = "Tenant-ID",
@@ -1422,7 +1859,14 @@ public class PartyApi extends SecureApi {
           UUID tenantId,
       @Parameter(name = "personId", description = "The ID for the person", required = true)
           @PathVariable
-          UUID personId)
+          UUID personId,
+      @Parameter(
+              name = "fetchPlan",
+              description =
+                  "The optional fetch plan used to determine which information is retrieved for the"
+                      + " person")
+          @RequestParam(value = "fetchPlan", required = false, defaultValue = "full")
+          PartyFetchPlan fetchPlan)
       throws InvalidArgumentException, PersonNotFoundException, ServiceUnavailableException {
     tenantId = (tenantId == null) ? IPartyService.DEFAULT_TENANT_ID : tenantId;
 
@@ -1430,7 +1874,7 @@ public class PartyApi extends SecureApi {
       throw new AccessDeniedException("Access denied to the tenant (" + tenantId + ")");
     }
 
-    return partyService.getPerson(tenantId, personId);
+    return partyService.getPerson(tenantId, personId, fetchPlan);
   }
 
   /**
@@ -1442,6 +1886,12 @@ public class PartyApi extends SecureApi {
    * @param sortDirection the optional sort direction to apply to the persons
    * @param pageIndex the optional page index
    * @param pageSize the optional page size
+   * @param fetchPlan the optional fetch plan used to determine which information is retrieved for
+   *     the persons, which defaults to <b>SUMMARY</b>
+   * @param cursor the optional opaque cursor returned with the previous page, or an empty string to
+   *     retrieve the first page, which enables keyset pagination instead of offset pagination
+   * @param includeTotal should the total number of persons be retrieved when using keyset
+   *     pagination, which requires an additional query
    * @return the persons
    * @throws InvalidArgumentException if an argument is invalid
    * @throws ServiceUnavailableException if the persons could not be retrieved
@@ -1476,7 +1926,9 @@ public class PartyApi extends SecureApi {
   @RequestMapping(value = "/persons", method = RequestMethod.GET, produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration') or hasAuthority('FUNCTION_Party.PersonAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.PersonAdministration')")
   public Persons getPersons(
       @Parameter(
               name = "Tenant-ID",
@@ -1505,7 +1957,28 @@ public class PartyApi extends SecureApi {
           Integer pageIndex,
       @Parameter(name = "pageSize", description = "The optional page size", example = "10")
           @RequestParam(value = "pageSize", required = false, defaultValue = "10")
-          Integer pageSize)
+          Integer pageSize,
+      @Parameter(
+              name = "fetchPlan",
+              description =
+                  "The optional fetch plan used to determine which information is retrieved for the"
+                      + " persons")
+          @RequestParam(value = "fetchPlan", required = false, defaultValue = "summary")
+          PartyFetchPlan fetchPlan,
+      @Parameter(
+              name = "cursor",
+              description =
+                  "The optional opaque cursor returned with the previous page, or an empty string"
+                      + " to retrieve the first page, which enables keyset pagination instead of"
+                      + " offset pagination")
+          @RequestParam(value = "cursor", required = false)
+          String cursor,
+      @Parameter(
+              name = "includeTotal",
+              description =
+                  "Should the total number of persons be retrieved when using keyset pagination")
+          @RequestParam(value = "includeTotal", required = false, defaultValue = "false")
+          boolean includeTotal)
       throws InvalidArgumentException, ServiceUnavailableException {
     tenantId = (tenantId == null) ? IPartyService.DEFAULT_TENANT_ID : tenantId;
 
@@ -1520,7 +1993,13 @@ public class PartyApi extends SecureApi {
       pageSize = 10;
     }
 
-    return partyService.getPersons(tenantId, filter, sortBy, sortDirection, pageIndex, pageSize);
+    if (cursor != null) {
+      return partyService.getPersons(
+          tenantId, filter, sortBy, sortDirection, cursor, pageSize, fetchPlan, includeTotal);
+    }
+
+    return partyService.getPersons(
+        tenantId, filter, sortBy, sortDirection, pageIndex, pageSize, fetchPlan);
   }
 
   /**
@@ -1568,7 +2047,8 @@ public class PartyApi extends SecureApi {
   @RequestMapping(value = "/snapshots", method = RequestMethod.GET, produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration')")
   public Snapshots getSnapshots(
       @Parameter(
               name = "Tenant-ID",
@@ -1620,6 +2100,291 @@ public class PartyApi extends SecureApi {
         tenantId, entityType, entityId, from, to, sortDirection, pageIndex, pageSize);
   }
 
+  /**
+   * Asynchronously purge the party data, i.e. the parties, associations, mandates and snapshots,
+   * for the tenant.
+   *
+   * @param tenantId the ID for the tenant
+   * @param archiveFormat the optional format for the archive the party data for the tenant is
+   *     exported to before being deleted, which must be NDJSON
+   * @return the purge, which can be used to retrieve the progress of the purge
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the purge could not be started
+   */
+  @Operation(
+      summary = "Purge the party data",
+      description =
+          "Asynchronously purge the parties, associations, mandates and snapshots for the tenant,"
+              + " optionally archiving the party data first")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "202", description = "The purge was accepted"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid argument",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Access denied",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "500",
+            description =
+                "An error has occurred and the request could not be processed at this time",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class)))
+      })
+  @RequestMapping(
+      value = "/parties/purge",
+      method = RequestMethod.POST,
+      produces = "application/json")
+  @ResponseStatus(HttpStatus.ACCEPTED)
+  @PreAuthorize(
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration')")
+  public PartyPurge purgeParties(
+      @Parameter(
+              name = "Tenant-ID",
+              description = "The ID for the tenant",
+              example = "00000000-0000-0000-0000-000000000000")
+          @RequestHeader(
+              name = "Tenant-ID",
+              defaultValue = "00000000-0000-0000-0000-000000000000",
+              required = false)
+          UUID tenantId,
+      @Parameter(
+              name = "archiveFormat",
+              description =
+                  "The optional format for the archive the party data for the tenant is exported"
+                      + " to before being deleted, which must be NDJSON")
+          @RequestParam(value = "archiveFormat", required = false)
+          PartyExportFormat archiveFormat)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    tenantId = (tenantId == null) ? IPartyService.DEFAULT_TENANT_ID : tenantId;
+
+    if (!hasAccessToTenant(tenantId)) {
+      throw new AccessDeniedException("Access denied to the tenant (" + tenantId + ")");
+    }
+
+    return partyService.purgeParties(tenantId, archiveFormat);
+  }
+
+  /**
+   * Rebuild the association graph index for the tenant.
+   *
+   * @param tenantId the ID for the tenant
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the association graph index could not be rebuilt
+   */
+  @Operation(
+      summary = "Rebuild the association graph index",
+      description = "Rebuild the association graph index")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "204",
+            description = "The association graph index was rebuilt successfully"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid argument",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Access denied",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "500",
+            description =
+                "An error has occurred and the request could not be processed at this time",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class)))
+      })
+  @RequestMapping(
+      value = "/association-graph/rebuild",
+      method = RequestMethod.POST,
+      produces = "application/json")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  @PreAuthorize(
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration')")
+  public void rebuildAssociationGraph(
+      @Parameter(
+              name = "Tenant-ID",
+              description = "The ID for the tenant",
+              example = "00000000-0000-0000-0000-000000000000")
+          @RequestHeader(
+              name = "Tenant-ID",
+              defaultValue = "00000000-0000-0000-0000-000000000000",
+              required = false)
+          UUID tenantId)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    tenantId = (tenantId == null) ? IPartyService.DEFAULT_TENANT_ID : tenantId;
+
+    if (!hasAccessToTenant(tenantId)) {
+      throw new AccessDeniedException("Access denied to the tenant (" + tenantId + ")");
+    }
+
+    partyService.rebuildAssociationGraph(tenantId);
+  }
+
+  /**
+   * Rebuild the full-text search index for the tenant.
+   *
+   * @param tenantId the ID for the tenant
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the full-text search index could not be rebuilt
+   */
+  @Operation(
+      summary = "Rebuild the full-text search index",
+      description = "Rebuild the full-text search index")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "204",
+            description = "The full-text search index was rebuilt successfully"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid argument",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Access denied",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "500",
+            description =
+                "An error has occurred and the request could not be processed at this time",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class)))
+      })
+  @RequestMapping(
+      value = "/search-index/rebuild",
+      method = RequestMethod.POST,
+      produces = "application/json")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  @PreAuthorize(
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration')")
+  public void rebuildSearchIndex(
+      @Parameter(
+              name = "Tenant-ID",
+              description = "The ID for the tenant",
+              example = "00000000-0000-0000-0000-000000000000")
+          @RequestHeader(
+              name = "Tenant-ID",
+              defaultValue = "00000000-0000-0000-0000-000000000000",
+              required = false)
+          UUID tenantId)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    tenantId = (tenantId == null) ? IPartyService.DEFAULT_TENANT_ID : tenantId;
+
+    if (!hasAccessToTenant(tenantId)) {
+      throw new AccessDeniedException("Access denied to the tenant (" + tenantId + ")");
+    }
+
+    partyService.rebuildSearchIndex(tenantId);
+  }
+
+  /**
+   * Search for the persons and organizations matching the search query.
+   *
+   * @param tenantId the ID for the tenant
+   * @param query the search query
+   * @param maxResults the optional maximum number of search results to return
+   * @return the search results
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the search failed
+   */
+  @Operation(
+      summary = "Search for the persons and organizations",
+      description = "Search for the persons and organizations")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid argument",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Access denied",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "500",
+            description =
+                "An error has occurred and the request could not be processed at this time",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class)))
+      })
+  @RequestMapping(
+      value = "/parties/search",
+      method = RequestMethod.GET,
+      produces = "application/json")
+  @ResponseStatus(HttpStatus.OK)
+  @PreAuthorize(
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration')")
+  public PartySearchResults searchParties(
+      @Parameter(
+              name = "Tenant-ID",
+              description = "The ID for the tenant",
+              example = "00000000-0000-0000-0000-000000000000")
+          @RequestHeader(
+              name = "Tenant-ID",
+              defaultValue = "00000000-0000-0000-0000-000000000000",
+              required = false)
+          UUID tenantId,
+      @Parameter(name = "query", description = "The search query", required = true)
+          @RequestParam(value = "query")
+          String query,
+      @Parameter(
+              name = "maxResults",
+              description = "The optional maximum number of search results to return",
+              example = "10")
+          @RequestParam(value = "maxResults", required = false)
+          Integer maxResults)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    tenantId = (tenantId == null) ? IPartyService.DEFAULT_TENANT_ID : tenantId;
+
+    if (!hasAccessToTenant(tenantId)) {
+      throw new AccessDeniedException("Access denied to the tenant (" + tenantId + ")");
+    }
+
+    return partyService.searchParties(tenantId, query, maxResults);
+  }
+
   /**
    * Update the association.
    *
@@ -1654,7 +2419,8 @@ public class PartyApi extends SecureApi {
         @ApiResponse(
             responseCode = "404",
             description =
-                "The association could not be found or one or more parties for the association could not be found",
+                "The association could not be found or one or more parties for the association"
+                    + " could not be found",
             content =
                 @Content(
                     mediaType = "application/problem+json",
@@ -1674,7 +2440,9 @@ public class PartyApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration') or hasAuthority('FUNCTION_Party.AssociationAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.AssociationAdministration')")
   public void updateAssociation(
       @Parameter(
               name = "Tenant-ID",
@@ -1751,7 +2519,8 @@ public class PartyApi extends SecureApi {
         @ApiResponse(
             responseCode = "404",
             description =
-                "The mandate could not be found or one or more parties for the mandate could not be found",
+                "The mandate could not be found or one or more parties for the mandate could not be"
+                    + " found",
             content =
                 @Content(
                     mediaType = "application/problem+json",
@@ -1771,7 +2540,9 @@ public class PartyApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration') or hasAuthority('FUNCTION_Party.MandateAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.MandateAdministration')")
   public void updateMandate(
       @Parameter(
               name = "Tenant-ID",
@@ -1865,7 +2636,9 @@ public class PartyApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration') or hasAuthority('FUNCTION_Party.OrganizationAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.OrganizationAdministration')")
   public void updateOrganization(
       @Parameter(
               name = "Tenant-ID",
@@ -1959,7 +2732,9 @@ public class PartyApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Party.PartyAdministration') or hasAuthority('FUNCTION_Party.PersonAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration') or"
+          + " hasAuthority('FUNCTION_Party.PersonAdministration')")
   public void updatePerson(
       @Parameter(
               name = "Tenant-ID",
@@ -1999,4 +2774,217 @@ public class PartyApi extends SecureApi {
 
     partyService.updatePerson(tenantId, person);
   }
+
+  /**
+   * Create or update the parties, e.g. persons and organizations, as part of a bulk upsert.
+   *
+   * <p>The parties are read and processed in chunks of up to <b>MAX_UPSERT_PARTIES</b> parties, and
+   * the outcome of creating or updating each party in a chunk is streamed back, as
+   * newline-delimited JSON in the order the parties were provided, as soon as the chunk has been
+   * processed. The results for the chunks that have been processed are therefore not lost if a
+   * later chunk fails, and the results for a large bulk upsert are not accumulated in memory.
+   *
+   * @param tenantId the ID for the tenant
+   * @param data the newline-delimited JSON data for the parties
+   * @return the streaming response body the outcome of creating or updating each party is written
+   *     to
+   * @throws InvalidArgumentException if an argument is invalid
+   */
+  @Operation(
+      summary = "Create or update the parties",
+      description =
+          "Create or update the parties provided as newline-delimited JSON, where each line"
+              + " contains a person or organization with a type of person or organization, and"
+              + " stream the outcome of creating or updating each party as newline-delimited JSON"
+              + " as each chunk of parties is processed")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "The parties were processed successfully"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid argument",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Access denied",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "500",
+            description =
+                "An error has occurred and the request could not be processed at this time",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class)))
+      })
+  @RequestMapping(
+      value = "/parties/upsert",
+      method = RequestMethod.POST,
+      consumes = "application/x-ndjson",
+      produces = "application/x-ndjson")
+  @PreAuthorize(
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Party.PartyAdministration')")
+  public ResponseEntity<StreamingResponseBody> upsertParties(
+      @Parameter(
+              name = "Tenant-ID",
+              description = "The ID for the tenant",
+              example = "00000000-0000-0000-0000-000000000000")
+          @RequestHeader(
+              name = "Tenant-ID",
+              defaultValue = "00000000-0000-0000-0000-000000000000",
+              required = false)
+          UUID tenantId,
+      @Parameter(hidden = true) InputStream data)
+      throws InvalidArgumentException {
+    UUID upsertTenantId = (tenantId == null) ? IPartyService.DEFAULT_TENANT_ID : tenantId;
+
+    if (!hasAccessToTenant(upsertTenantId)) {
+      throw new AccessDeniedException("Access denied to the tenant (" + upsertTenantId + ")");
+    }
+
+    if (data == null) {
+      throw new InvalidArgumentException("data");
+    }
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.parseMediaType("application/x-ndjson"));
+    headers.add("Cache-Control", "no-cache, no-store, must-revalidate");
+    headers.add("Pragma", "no-cache");
+    headers.add("Expires", "0");
+
+    return new ResponseEntity<>(
+        outputStream -> {
+          try {
+            upsertParties(upsertTenantId, data, outputStream);
+          } catch (ServiceException e) {
+            throw new IOException(e);
+          }
+        },
+        headers,
+        HttpStatus.OK);
+  }
+
+  /**
+   * Read the parties for a bulk upsert, create or update the parties in chunks and write the
+   * outcome of creating or updating each party to the output stream as each chunk is processed.
+   *
+   * @param tenantId the ID for the tenant
+   * @param data the newline-delimited JSON data for the parties
+   * @param outputStream the output stream to write the outcome of creating or updating each party
+   *     to
+   * @throws IOException if the parties could not be read or the results could not be written
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the parties could not be created or updated
+   */
+  private void upsertParties(UUID tenantId, InputStream data, OutputStream outputStream)
+      throws IOException, InvalidArgumentException, ServiceUnavailableException {
+    List<PartyUpsertResult> results = new ArrayList<>();
+
+    List<PartyBase> parties = new ArrayList<>();
+    List<Integer> partyIndexes = new ArrayList<>();
+
+    try (BufferedReader reader =
+            new BufferedReader(new InputStreamReader(data, StandardCharsets.UTF_8));
+        JsonGenerator generator =
+            objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+      int index = 0;
+      String line;
+
+      while ((line = reader.readLine()) != null) {
+        if (!StringUtils.hasText(line)) {
+          continue;
+        }
+
+        try {
+          ObjectNode partyNode = (ObjectNode) objectMapper.readTree(line);
+
+          JsonNode typeNode = partyNode.remove("type");
+
+          PartyBase party;
+
+          if ((typeNode != null) && typeNode.asText().equals(PartyType.PERSON.code())) {
+            party = objectMapper.treeToValue(partyNode, Person.class);
+          } else if ((typeNode != null)
+              && typeNode.asText().equals(PartyType.ORGANIZATION.code())) {
+            party = objectMapper.treeToValue(partyNode, Organization.class);
+          } else {
+            throw new IllegalArgumentException("The party type is not supported");
+          }
+
+          if (party.getTenantId() == null) {
+            party.setTenantId(tenantId);
+          }
+
+          parties.add(party);
+          partyIndexes.add(index);
+        } catch (Throwable e) {
+          results.add(
+              new PartyUpsertResult(
+                  index, null, null, "The party could not be parsed: " + e.getMessage(), null));
+        }
+
+        index++;
+
+        if (parties.size() == IPartyService.MAX_UPSERT_PARTIES) {
+          upsertParties(tenantId, parties, partyIndexes, results, generator);
+        }
+      }
+
+      upsertParties(tenantId, parties, partyIndexes, results, generator);
+    }
+  }
+
+  /**
+   * Create or update the chunk of parties read as part of a bulk upsert and write the outcome of
+   * creating or updating each party in the chunk, along with the parties in the chunk that could
+   * not be parsed, ordered by index.
+   *
+   * @param tenantId the ID for the tenant
+   * @param parties the chunk of parties, which is cleared once the parties have been processed
+   * @param partyIndexes the zero-based indexes of the parties in the bulk upsert, which are cleared
+   *     once the parties have been processed
+   * @param results the outcome for the parties in the chunk that could not be parsed, which is
+   *     cleared once the results have been written
+   * @param generator the JSON generator used to write the results
+   * @throws IOException if the results could not be written
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the parties could not be created or updated
+   */
+  private void upsertParties(
+      UUID tenantId,
+      List<PartyBase> parties,
+      List<Integer> partyIndexes,
+      List<PartyUpsertResult> results,
+      JsonGenerator generator)
+      throws IOException, InvalidArgumentException, ServiceUnavailableException {
+    if (!parties.isEmpty()) {
+      for (PartyUpsertResult result : partyService.upsertParties(tenantId, parties)) {
+        result.setIndex(partyIndexes.get(result.getIndex()));
+
+        results.add(result);
+      }
+    }
+
+    results.sort(Comparator.comparingInt(PartyUpsertResult::getIndex));
+
+    for (PartyUpsertResult result : results) {
+      generator.writeObject(result);
+      generator.writeRaw('\n');
+    }
+
+    generator.flush();
+
+    parties.clear();
+    partyIndexes.clear();
+    results.clear();
+  }
 }
@@ -30,8 +30,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.context.ApplicationContext;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -53,6 +58,9 @@ import org.springframework.web.bind.annotation.RestController;
 // @el (isSecurityDisabled: digital.inception.api.ApiSecurityExpressionRoot.isSecurityEnabled)
 public class PartyReferenceApi extends SecureApi {
 
+  /** The suffix for the entity tag for the GZIP compressed representation of a bundle. */
+  private static final String GZIP_ENTITY_TAG_SUFFIX = "-gzip";
+
   /** The Party Reference Service. */
   private final IPartyReferenceService partyReferenceService;
 
@@ -69,6 +77,46 @@ public class PartyReferenceApi extends SecureApi {
     this.partyReferenceService = partyReferenceService;
   }
 
+  /**
+   * Evict the party and general reference data from the caches, so that the reference data is
+   * reloaded on all the nodes after it has been changed in the database.
+   */
+  @Operation(
+      summary = "Evict the reference data from the caches",
+      description =
+          "Evict the party and general reference data from the caches, so that the reference data"
+              + " is reloaded on all the nodes after it has been changed in the database")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "204",
+            description = "The reference data was evicted from the caches successfully"),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Access denied",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "500",
+            description =
+                "An error has occurred and the request could not be processed at this time",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class)))
+      })
+  @RequestMapping(
+      value = "/evict-reference-data",
+      method = RequestMethod.POST,
+      produces = "application/json")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  @PreAuthorize("isSecurityDisabled() or hasRole('Administrator')")
+  public void evictReferenceData() {
+    partyReferenceService.evictReferenceData();
+  }
+
   /**
    * Retrieve the association property type reference data for a specific locale.
    *
@@ -2220,6 +2268,111 @@ public class PartyReferenceApi extends SecureApi {
     return partyReferenceService.getRaces(tenantId, localeId);
   }
 
+  /**
+   * Retrieve all the party and general reference data for a specific locale as a single bundle.
+   *
+   * <p>The bundle is returned with an entity tag derived from its content and is GZIP compressed if
+   * the client accepts the GZIP content encoding. A client that supplies the entity tag for the
+   * bundle it already holds in the <i>If-None-Match</i> header receives a 304 (Not Modified)
+   * response with no content if the bundle has not changed.
+   *
+   * @param tenantId the ID for the tenant the reference data is specific to
+   * @param localeId the Unicode locale identifier for the locale to retrieve the reference data for
+   * @param ifNoneMatch the optional entity tags for the bundles held by the client
+   * @param acceptEncoding the optional content encodings accepted by the client
+   * @return the reference data bundle
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the reference data bundle could not be retrieved
+   */
+  @Operation(
+      summary = "Retrieve all the reference data for a specific locale as a single bundle",
+      description = "Retrieve all the reference data for a specific locale as a single bundle")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(
+            responseCode = "304",
+            description = "The reference data bundle has not changed"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid argument",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "500",
+            description =
+                "An error has occurred and the request could not be processed at this time",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class)))
+      })
+  @RequestMapping(value = "/bundle", method = RequestMethod.GET, produces = "application/json")
+  @PreAuthorize("isSecurityDisabled() or isAuthenticated()")
+  public ResponseEntity<byte[]> getReferenceDataBundle(
+      @Parameter(
+              name = "Tenant-ID",
+              description = "The ID for the tenant the reference data is specific to",
+              example = "00000000-0000-0000-0000-000000000000")
+          @RequestHeader(
+              name = "Tenant-ID",
+              defaultValue = "00000000-0000-0000-0000-000000000000",
+              required = false)
+          UUID tenantId,
+      @Parameter(
+              name = "localeId",
+              description =
+                  "The Unicode locale identifier for the locale to retrieve the reference data for",
+              example = IPartyReferenceService.DEFAULT_LOCALE_ID)
+          @RequestParam(
+              value = "localeId",
+              required = false,
+              defaultValue = IPartyReferenceService.DEFAULT_LOCALE_ID)
+          String localeId,
+      @Parameter(
+              name = "If-None-Match",
+              description = "The optional entity tags for the bundles held by the client")
+          @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false)
+          String ifNoneMatch,
+      @Parameter(hidden = true) @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false)
+          String acceptEncoding)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    tenantId = (tenantId == null) ? IPartyReferenceService.DEFAULT_TENANT_ID : tenantId;
+
+    ReferenceDataBundle referenceDataBundle =
+        partyReferenceService.getReferenceDataBundle(tenantId, localeId);
+
+    boolean compress = acceptsGzip(acceptEncoding);
+
+    // The compressed and uncompressed representations must have different strong entity tags
+    String eTag =
+        "\""
+            + referenceDataBundle.getContentHash()
+            + (compress ? GZIP_ENTITY_TAG_SUFFIX : "")
+            + "\"";
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setETag(eTag);
+    headers.setCacheControl(CacheControl.noCache());
+    headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING, "Tenant-ID"));
+
+    if (matchesEntityTag(ifNoneMatch, referenceDataBundle.getContentHash())) {
+      return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+    }
+
+    headers.setContentType(MediaType.APPLICATION_JSON);
+
+    if (compress) {
+      headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+      return new ResponseEntity<>(referenceDataBundle.getCompressedData(), headers, HttpStatus.OK);
+    } else {
+      return new ResponseEntity<>(referenceDataBundle.getData(), headers, HttpStatus.OK);
+    }
+  }
+
   /**
    * Retrieve the residence permit type reference data for a specific locale.
    *
@@ -3251,4 +3404,75 @@ public class PartyReferenceApi extends SecureApi {
       throws InvalidArgumentException, ServiceUnavailableException {
     return partyReferenceService.getTitles(tenantId, localeId);
   }
+
+  /**
+   * Returns whether the client accepts the GZIP content encoding.
+   *
+   * @param acceptEncoding the value of the Accept-Encoding header
+   * @return <b>true</b> if the client accepts the GZIP content encoding or <b>false</b> otherwise
+   */
+  private static boolean acceptsGzip(String acceptEncoding) {
+    if (!StringUtils.hasText(acceptEncoding)) {
+      return false;
+    }
+
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.split(";");
+
+      if (parts[0].trim().equalsIgnoreCase("gzip")) {
+        for (int i = 1; i < parts.length; i++) {
+          String parameter = parts[i].trim().replace(" ", "");
+
+          if (parameter.matches("(?i)q=0(\\.0*)?")) {
+            return false;
+          }
+        }
+
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns whether one of the entity tags in the If-None-Match header matches the content hash,
+   * ignoring the weak indicator and the suffix for the GZIP compressed representation.
+   *
+   * @param ifNoneMatch the value of the If-None-Match header
+   * @param contentHash the content hash
+   * @return <b>true</b> if one of the entity tags matches the content hash or <b>false</b>
+   *     otherwise
+   */
+  private static boolean matchesEntityTag(String ifNoneMatch, String contentHash) {
+    if (!StringUtils.hasText(ifNoneMatch)) {
+      return false;
+    }
+
+    for (String eTag : ifNoneMatch.split(",")) {
+      eTag = eTag.trim();
+
+      if (eTag.equals("*")) {
+        return true;
+      }
+
+      if (eTag.startsWith("W/")) {
+        eTag = eTag.substring(2);
+      }
+
+      if ((eTag.length() >= 2) && eTag.startsWith("\"") && eTag.endsWith("\"")) {
+        eTag = eTag.substring(1, eTag.length() - 1);
+      }
+
+      if (eTag.endsWith(GZIP_ENTITY_TAG_SUFFIX)) {
+        eTag = eTag.substring(0, eTag.length() - GZIP_ENTITY_TAG_SUFFIX.length());
+      }
+
+      if (eTag.equals(contentHash)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
 }
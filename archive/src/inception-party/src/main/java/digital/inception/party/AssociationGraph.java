@@ -0,0 +1,233 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package digital.inception.party;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * The <b>AssociationGraph</b> class holds the parties, and the associations linking them, that were
+ * reached by traversing the associations for a party up to a maximum depth.
+ *
+ * @author Marcus Portmann
+ */
+@Schema(
+    description =
+        "The parties, and the associations linking them, that were reached by traversing the"
+            + " associations for a party")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+  "tenantId",
+  "partyId",
+  "maxDepth",
+  "traversalOrder",
+  "parties",
+  "links",
+  "cycleDetected",
+  "truncated"
+})
+@XmlRootElement(name = "AssociationGraph", namespace = "http://inception.digital/party")
+@XmlType(
+    name = "AssociationGraph",
+    namespace = "http://inception.digital/party",
+    propOrder = {
+      "tenantId",
+      "partyId",
+      "maxDepth",
+      "traversalOrder",
+      "parties",
+      "links",
+      "cycleDetected",
+      "truncated"
+    })
+@XmlAccessorType(XmlAccessType.FIELD)
+@SuppressWarnings({"unused"})
+public class AssociationGraph implements Serializable {
+
+  private static final long serialVersionUID = 1000000;
+
+  /** Was a cycle detected in the graph. */
+  @Schema(description = "Was a cycle detected in the graph", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "CycleDetected", required = true)
+  private boolean cycleDetected;
+
+  /** The associations linking the parties in the graph. */
+  @Schema(description = "The associations linking the parties in the graph", required = true)
+  @JsonProperty(required = true)
+  @XmlElementWrapper(name = "Links", required = true)
+  @XmlElement(name = "Link", required = true)
+  private List<AssociationGraphLink> links;
+
+  /** The maximum number of associations that were followed from the party. */
+  @Schema(
+      description = "The maximum number of associations that were followed from the party",
+      required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "MaxDepth", required = true)
+  private int maxDepth;
+
+  /** The parties in the graph in the order they were visited. */
+  @Schema(description = "The parties in the graph in the order they were visited", required = true)
+  @JsonProperty(required = true)
+  @XmlElementWrapper(name = "Parties", required = true)
+  @XmlElement(name = "Party", required = true)
+  private List<AssociationGraphParty> parties;
+
+  /** The ID for the party the traversal started from. */
+  @Schema(description = "The ID for the party the traversal started from", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "PartyId", required = true)
+  private UUID partyId;
+
+  /** The ID for the tenant the parties are associated with. */
+  @Schema(description = "The ID for the tenant the parties are associated with", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "TenantId", required = true)
+  private UUID tenantId;
+
+  /** The order in which the parties in the graph were visited. */
+  @Schema(description = "The order in which the parties in the graph were visited", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "TraversalOrder", required = true)
+  private AssociationTraversalOrder traversalOrder;
+
+  /** Was the traversal stopped because the maximum number of parties was reached. */
+  @Schema(
+      description = "Was the traversal stopped because the maximum number of parties was reached",
+      required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "Truncated", required = true)
+  private boolean truncated;
+
+  /** Constructs a new <b>AssociationGraph</b>. */
+  public AssociationGraph() {}
+
+  /**
+   * Constructs a new <b>AssociationGraph</b>.
+   *
+   * @param tenantId the ID for the tenant the parties are associated with
+   * @param partyId the ID for the party the traversal started from
+   * @param maxDepth the maximum number of associations that were followed from the party
+   * @param traversalOrder the order in which the parties in the graph were visited
+   * @param parties the parties in the graph in the order they were visited
+   * @param links the associations linking the parties in the graph
+   * @param cycleDetected was a cycle detected in the graph
+   * @param truncated was the traversal stopped because the maximum number of parties was reached
+   */
+  public AssociationGraph(
+      UUID tenantId,
+      UUID partyId,
+      int maxDepth,
+      AssociationTraversalOrder traversalOrder,
+      List<AssociationGraphParty> parties,
+      List<AssociationGraphLink> links,
+      boolean cycleDetected,
+      boolean truncated) {
+    this.tenantId = tenantId;
+    this.partyId = partyId;
+    this.maxDepth = maxDepth;
+    this.traversalOrder = traversalOrder;
+    this.parties = parties;
+    this.links = links;
+    this.cycleDetected = cycleDetected;
+    this.truncated = truncated;
+  }
+
+  /**
+   * Returns the associations linking the parties in the graph.
+   *
+   * @return the associations linking the parties in the graph
+   */
+  public List<AssociationGraphLink> getLinks() {
+    return links;
+  }
+
+  /**
+   * Returns the maximum number of associations that were followed from the party.
+   *
+   * @return the maximum number of associations that were followed from the party
+   */
+  public int getMaxDepth() {
+    return maxDepth;
+  }
+
+  /**
+   * Returns the parties in the graph in the order they were visited.
+   *
+   * @return the parties in the graph in the order they were visited
+   */
+  public List<AssociationGraphParty> getParties() {
+    return parties;
+  }
+
+  /**
+   * Returns the ID for the party the traversal started from.
+   *
+   * @return the ID for the party the traversal started from
+   */
+  public UUID getPartyId() {
+    return partyId;
+  }
+
+  /**
+   * Returns the ID for the tenant the parties are associated with.
+   *
+   * @return the ID for the tenant the parties are associated with
+   */
+  public UUID getTenantId() {
+    return tenantId;
+  }
+
+  /**
+   * Returns the order in which the parties in the graph were visited.
+   *
+   * @return the order in which the parties in the graph were visited
+   */
+  public AssociationTraversalOrder getTraversalOrder() {
+    return traversalOrder;
+  }
+
+  /**
+   * Returns whether a cycle was detected in the graph.
+   *
+   * @return <b>true</b> if a cycle was detected in the graph or <b>false</b> otherwise
+   */
+  public boolean isCycleDetected() {
+    return cycleDetected;
+  }
+
+  /**
+   * Returns whether the traversal was stopped because the maximum number of parties was reached.
+   *
+   * @return <b>true</b> if the traversal was stopped because the maximum number of parties was
+   *     reached or <b>false</b> otherwise
+   */
+  public boolean isTruncated() {
+    return truncated;
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package digital.inception.party;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.Serializable;
+import java.util.UUID;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * The <b>AssociationGraphLink</b> class holds the information for an association that links two
+ * parties in an association graph.
+ *
+ * @author Marcus Portmann
+ */
+@Schema(description = "An association that links two parties in an association graph")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"associationId", "type", "firstPartyId", "secondPartyId", "cyclic"})
+@XmlRootElement(name = "AssociationGraphLink", namespace = "http://inception.digital/party")
+@XmlType(
+    name = "AssociationGraphLink",
+    namespace = "http://inception.digital/party",
+    propOrder = {"associationId", "type", "firstPartyId", "secondPartyId", "cyclic"})
+@XmlAccessorType(XmlAccessType.FIELD)
+@SuppressWarnings({"unused"})
+public class AssociationGraphLink implements Serializable {
+
+  private static final long serialVersionUID = 1000000;
+
+  /** The ID for the association. */
+  @Schema(description = "The ID for the association", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "AssociationId", required = true)
+  private UUID associationId;
+
+  /** Does the association link two parties that are already connected in the graph. */
+  @Schema(
+      description = "Does the association link two parties that are already connected in the graph",
+      required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "Cyclic", required = true)
+  private boolean cyclic;
+
+  /** The ID for the first party for the association. */
+  @Schema(description = "The ID for the first party for the association", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "FirstPartyId", required = true)
+  private UUID firstPartyId;
+
+  /** The ID for the second party for the association. */
+  @Schema(description = "The ID for the second party for the association", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "SecondPartyId", required = true)
+  private UUID secondPartyId;
+
+  /** The code for the association type. */
+  @Schema(description = "The code for the association type", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "Type", required = true)
+  private String type;
+
+  /** Constructs a new <b>AssociationGraphLink</b>. */
+  public AssociationGraphLink() {}
+
+  /**
+   * Constructs a new <b>AssociationGraphLink</b>.
+   *
+   * @param associationId the ID for the association
+   * @param type the code for the association type
+   * @param firstPartyId the ID for the first party for the association
+   * @param secondPartyId the ID for the second party for the association
+   */
+  public AssociationGraphLink(
+      UUID associationId, String type, UUID firstPartyId, UUID secondPartyId) {
+    this.associationId = associationId;
+    this.type = type;
+    this.firstPartyId = firstPartyId;
+    this.secondPartyId = secondPartyId;
+  }
+
+  /**
+   * Returns the ID for the association.
+   *
+   * @return the ID for the association
+   */
+  public UUID getAssociationId() {
+    return associationId;
+  }
+
+  /**
+   * Returns the ID for the first party for the association.
+   *
+   * @return the ID for the first party for the association
+   */
+  public UUID getFirstPartyId() {
+    return firstPartyId;
+  }
+
+  /**
+   * Returns the ID for the second party for the association.
+   *
+   * @return the ID for the second party for the association
+   */
+  public UUID getSecondPartyId() {
+    return secondPartyId;
+  }
+
+  /**
+   * Returns the code for the association type.
+   *
+   * @return the code for the association type
+   */
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * Returns whether the association closes a cycle in the graph.
+   *
+   * @return <b>true</b> if the association closes a cycle in the graph or <b>false</b> otherwise
+   */
+  public boolean isCyclic() {
+    return cyclic;
+  }
+
+  /**
+   * Set whether the association closes a cycle in the graph.
+   *
+   * @param cyclic <b>true</b> if the association closes a cycle in the graph or <b>false</b>
+   *     otherwise
+   */
+  public void setCyclic(boolean cyclic) {
+    this.cyclic = cyclic;
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package digital.inception.party;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.Serializable;
+import java.util.UUID;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * The <b>AssociationGraphParty</b> class holds the information for a party that was reached when
+ * traversing an association graph.
+ *
+ * @author Marcus Portmann
+ */
+@Schema(description = "A party that was reached when traversing an association graph")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"partyId", "depth", "parentPartyId", "associationId"})
+@XmlRootElement(name = "AssociationGraphParty", namespace = "http://inception.digital/party")
+@XmlType(
+    name = "AssociationGraphParty",
+    namespace = "http://inception.digital/party",
+    propOrder = {"partyId", "depth", "parentPartyId", "associationId"})
+@XmlAccessorType(XmlAccessType.FIELD)
+@SuppressWarnings({"unused"})
+public class AssociationGraphParty implements Serializable {
+
+  private static final long serialVersionUID = 1000000;
+
+  /** The ID for the association the party was reached through. */
+  @Schema(description = "The ID for the association the party was reached through")
+  @JsonProperty
+  @XmlElement(name = "AssociationId")
+  private UUID associationId;
+
+  /** The number of associations between the party and the party the traversal started from. */
+  @Schema(
+      description =
+          "The number of associations between the party and the party the traversal started from",
+      required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "Depth", required = true)
+  private int depth;
+
+  /** The ID for the party the party was reached from. */
+  @Schema(description = "The ID for the party the party was reached from")
+  @JsonProperty
+  @XmlElement(name = "ParentPartyId")
+  private UUID parentPartyId;
+
+  /** The ID for the party. */
+  @Schema(description = "The ID for the party", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "PartyId", required = true)
+  private UUID partyId;
+
+  /** Constructs a new <b>AssociationGraphParty</b>. */
+  public AssociationGraphParty() {}
+
+  /**
+   * Constructs a new <b>AssociationGraphParty</b>.
+   *
+   * @param partyId the ID for the party
+   * @param depth the number of associations between the party and the party the traversal started
+   *     from
+   * @param parentPartyId the ID for the party the party was reached from
+   * @param associationId the ID for the association the party was reached through
+   */
+  public AssociationGraphParty(UUID partyId, int depth, UUID parentPartyId, UUID associationId) {
+    this.partyId = partyId;
+    this.depth = depth;
+    this.parentPartyId = parentPartyId;
+    this.associationId = associationId;
+  }
+
+  /**
+   * Returns the ID for the association the party was reached through.
+   *
+   * @return the ID for the association the party was reached through
+   */
+  public UUID getAssociationId() {
+    return associationId;
+  }
+
+  /**
+   * Returns the number of associations between the party and the party the traversal started from.
+   *
+   * @return the number of associations between the party and the party the traversal started from
+   */
+  public int getDepth() {
+    return depth;
+  }
+
+  /**
+   * Returns the ID for the party the party was reached from.
+   *
+   * @return the ID for the party the party was reached from
+   */
+  public UUID getParentPartyId() {
+    return parentPartyId;
+  }
+
+  /**
+   * Returns the ID for the party.
+   *
+   * @return the ID for the party
+   */
+  public UUID getPartyId() {
+    return partyId;
+  }
+}
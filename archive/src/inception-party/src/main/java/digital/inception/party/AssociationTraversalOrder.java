@@ -0,0 +1,103 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * The <b>AssociationTraversalOrder</b> enumeration defines the possible orders in which the parties
+ * in an association graph are visited.
+ *
+ * @author Marcus Portmann
+ */
+@Schema(description = "The order in which the parties in an association graph are visited")
+@XmlEnum
+@XmlType(name = "AssociationTraversalOrder", namespace = "http://inception.digital/party")
+public enum AssociationTraversalOrder {
+  /** Visit all the parties at one depth before the parties at the next depth. */
+  @XmlEnumValue("BreadthFirst")
+  BREADTH_FIRST("breadth_first", "Breadth First"),
+
+  /** Follow each chain of associations as far as possible before backtracking. */
+  @XmlEnumValue("DepthFirst")
+  DEPTH_FIRST("depth_first", "Depth First");
+
+  private final String code;
+
+  private final String description;
+
+  AssociationTraversalOrder(String code, String description) {
+    this.code = code;
+    this.description = description;
+  }
+
+  /**
+   * Returns the association traversal order given by the specified code value.
+   *
+   * @param code the code for the association traversal order
+   * @return the association traversal order given by the specified code value
+   */
+  @JsonCreator
+  public static AssociationTraversalOrder fromCode(String code) {
+    switch (code) {
+      case "breadth_first":
+        return AssociationTraversalOrder.BREADTH_FIRST;
+
+      case "depth_first":
+        return AssociationTraversalOrder.DEPTH_FIRST;
+
+      default:
+        throw new RuntimeException(
+            "Failed to determine the association traversal order with the invalid code ("
+                + code
+                + ")");
+    }
+  }
+
+  /**
+   * Returns the code for the association traversal order.
+   *
+   * @return the code for the association traversal order
+   */
+  @JsonValue
+  public String code() {
+    return code;
+  }
+
+  /**
+   * Returns the description for the association traversal order.
+   *
+   * @return the description for the association traversal order
+   */
+  public String description() {
+    return description;
+  }
+
+  /**
+   * Return the string representation of the association traversal order enumeration value.
+   *
+   * @return the string representation of the association traversal order enumeration value
+   */
+  public String toString() {
+    return description;
+  }
+}
@@ -20,8 +20,13 @@ import digital.inception.core.service.InvalidArgumentException;
 import digital.inception.core.service.ServiceUnavailableException;
 import digital.inception.core.sorting.SortDirection;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * The <b>IPartyDataStore</b> interface defines the functionality provided by a party data store,
@@ -136,6 +141,40 @@ public interface IPartyDataStore {
   void deletePerson(UUID tenantId, UUID personId)
       throws PersonNotFoundException, ServiceUnavailableException;
 
+  /**
+   * Export the parties for the tenant ordered by ID.
+   *
+   * <p>The parties are read using a forward-only cursor and passed to the consumer one at a time,
+   * so the number of parties held in memory does not depend on the number of parties for the
+   * tenant. This method must be invoked in a transaction.
+   *
+   * @param tenantId the ID for the tenant
+   * @param afterPartyId the optional ID for the party after which the export should start
+   * @param fetchPlan the fetch plan used to determine which information is retrieved for the
+   *     parties
+   * @param consumer the consumer the parties are passed to
+   * @throws ServiceUnavailableException if the parties could not be exported
+   */
+  void exportParties(
+      UUID tenantId, UUID afterPartyId, PartyFetchPlan fetchPlan, Consumer<PartyBase> consumer)
+      throws ServiceUnavailableException;
+
+  /**
+   * Export the party data for the tenant for the archive for a purge.
+   *
+   * <p>The pending snapshots for the tenant are written first. An archive entry, holding the entity
+   * and all the snapshots for the entity, is then passed to the consumer for each of the mandates,
+   * associations and parties for the tenant, in that order, followed by an entry for each entity
+   * that has been deleted but still has snapshots. The entities are read using a forward-only
+   * cursor and retrieved in batches. This method must be invoked in a transaction.
+   *
+   * @param tenantId the ID for the tenant
+   * @param consumer the consumer the archive entries are passed to
+   * @throws ServiceUnavailableException if the party data for the tenant could not be exported
+   */
+  void exportPartyArchive(UUID tenantId, Consumer<PartyArchiveEntry> consumer)
+      throws ServiceUnavailableException;
+
   /**
    * Retrieve the association.
    *
@@ -148,6 +187,19 @@ public interface IPartyDataStore {
   Association getAssociation(UUID tenantId, UUID associationId)
       throws AssociationNotFoundException, ServiceUnavailableException;
 
+  /**
+   * Retrieve the links for all the associations for the tenant.
+   *
+   * <p>The links are read using a forward-only cursor and passed to the consumer one at a time,
+   * without retrieving the associations themselves. This method must be invoked in a transaction.
+   *
+   * @param tenantId the ID for the tenant
+   * @param consumer the consumer the links are passed to
+   * @throws ServiceUnavailableException if the links for the associations could not be retrieved
+   */
+  void getAssociationLinks(UUID tenantId, Consumer<AssociationGraphLink> consumer)
+      throws ServiceUnavailableException;
+
   /**
    * Retrieve the associations for the party.
    *
@@ -209,11 +261,13 @@ public interface IPartyDataStore {
    *
    * @param tenantId the ID for the tenant
    * @param organizationId the ID for the organization
+   * @param fetchPlan the fetch plan used to determine which information is retrieved for the
+   *     organization
    * @return the organization
    * @throws OrganizationNotFoundException if the organization could not be found
    * @throws ServiceUnavailableException if the organization could not be retrieved
    */
-  Organization getOrganization(UUID tenantId, UUID organizationId)
+  Organization getOrganization(UUID tenantId, UUID organizationId, PartyFetchPlan fetchPlan)
       throws OrganizationNotFoundException, ServiceUnavailableException;
 
   /**
@@ -225,6 +279,8 @@ public interface IPartyDataStore {
    * @param sortDirection the optional sort direction to apply to the organizations
    * @param pageIndex the optional page index
    * @param pageSize the optional page size
+   * @param fetchPlan the fetch plan used to determine which information is retrieved for the
+   *     organizations
    * @return the organizations
    * @throws ServiceUnavailableException if the organizations could not be retrieved
    */
@@ -234,9 +290,39 @@ public interface IPartyDataStore {
       OrganizationSortBy sortBy,
       SortDirection sortDirection,
       Integer pageIndex,
-      Integer pageSize)
+      Integer pageSize,
+      PartyFetchPlan fetchPlan)
       throws ServiceUnavailableException;
 
+  /**
+   * Retrieve the organizations using keyset pagination.
+   *
+   * @param tenantId the ID for the tenant
+   * @param filter the optional filter to apply to the organizations
+   * @param sortBy the optional method used to sort the organizations e.g. by name
+   * @param sortDirection the optional sort direction to apply to the organizations
+   * @param cursor the optional opaque cursor returned with the previous page or <b>null</b> or an
+   *     empty string to retrieve the first page
+   * @param pageSize the page size
+   * @param fetchPlan the fetch plan used to determine which information is retrieved for the
+   *     organizations
+   * @param includeTotal should the total number of organizations be retrieved, which requires an
+   *     additional query
+   * @return the organizations
+   * @throws InvalidArgumentException if the cursor is invalid
+   * @throws ServiceUnavailableException if the organizations could not be retrieved
+   */
+  Organizations getOrganizations(
+      UUID tenantId,
+      String filter,
+      OrganizationSortBy sortBy,
+      SortDirection sortDirection,
+      String cursor,
+      int pageSize,
+      PartyFetchPlan fetchPlan,
+      boolean includeTotal)
+      throws InvalidArgumentException, ServiceUnavailableException;
+
   /**
    * Retrieve the parties.
    *
@@ -258,6 +344,32 @@ public interface IPartyDataStore {
       Integer pageSize)
       throws ServiceUnavailableException;
 
+  /**
+   * Retrieve the parties using keyset pagination.
+   *
+   * @param tenantId the ID for the tenant
+   * @param filter the optional filter to apply to the parties
+   * @param sortBy the optional method used to sort the parties e.g. by name
+   * @param sortDirection the optional sort direction to apply to the parties
+   * @param cursor the optional opaque cursor returned with the previous page or <b>null</b> or an
+   *     empty string to retrieve the first page
+   * @param pageSize the page size
+   * @param includeTotal should the total number of parties be retrieved, which requires an
+   *     additional query
+   * @return the parties
+   * @throws InvalidArgumentException if the cursor is invalid
+   * @throws ServiceUnavailableException if the parties could not be retrieved
+   */
+  Parties getParties(
+      UUID tenantId,
+      String filter,
+      PartySortBy sortBy,
+      SortDirection sortDirection,
+      String cursor,
+      int pageSize,
+      boolean includeTotal)
+      throws InvalidArgumentException, ServiceUnavailableException;
+
   /**
    * Retrieve the party.
    *
@@ -270,16 +382,32 @@ public interface IPartyDataStore {
   Party getParty(UUID tenantId, UUID partyId)
       throws PartyNotFoundException, ServiceUnavailableException;
 
+  /**
+   * Retrieve the IDs for the parties with the external references.
+   *
+   * @param tenantId the ID for the tenant
+   * @param externalReferences the values for the external references keyed by the code for the
+   *     external reference type
+   * @return the IDs for the parties with the external references keyed by the code for the external
+   *     reference type and the value for the external reference
+   * @throws ServiceUnavailableException if the IDs for the parties with the external references
+   *     could not be retrieved
+   */
+  Map<String, Map<String, Set<UUID>>> getPartyIdsForExternalReferences(
+      UUID tenantId, Map<String, Set<String>> externalReferences)
+      throws ServiceUnavailableException;
+
   /**
    * Retrieve the person.
    *
    * @param tenantId the ID for the tenant
    * @param personId the ID for the person
+   * @param fetchPlan the fetch plan used to determine which information is retrieved for the person
    * @return the person
    * @throws PersonNotFoundException if the person could not be found
    * @throws ServiceUnavailableException if the person could not be retrieved
    */
-  Person getPerson(UUID tenantId, UUID personId)
+  Person getPerson(UUID tenantId, UUID personId, PartyFetchPlan fetchPlan)
       throws PersonNotFoundException, ServiceUnavailableException;
 
   /**
@@ -291,6 +419,8 @@ public interface IPartyDataStore {
    * @param sortDirection the optional sort direction to apply to the persons
    * @param pageIndex the optional page index
    * @param pageSize the optional page size
+   * @param fetchPlan the fetch plan used to determine which information is retrieved for the
+   *     persons
    * @return the persons
    * @throws ServiceUnavailableException if the persons could not be retrieved
    */
@@ -300,12 +430,47 @@ public interface IPartyDataStore {
       PersonSortBy sortBy,
       SortDirection sortDirection,
       Integer pageIndex,
-      Integer pageSize)
+      Integer pageSize,
+      PartyFetchPlan fetchPlan)
       throws ServiceUnavailableException;
 
+  /**
+   * Retrieve the persons using keyset pagination.
+   *
+   * @param tenantId the ID for the tenant
+   * @param filter the optional filter to apply to the persons
+   * @param sortBy the optional method used to sort the persons e.g. by name
+   * @param sortDirection the optional sort direction to apply to the persons
+   * @param cursor the optional opaque cursor returned with the previous page or <b>null</b> or an
+   *     empty string to retrieve the first page
+   * @param pageSize the page size
+   * @param fetchPlan the fetch plan used to determine which information is retrieved for the
+   *     persons
+   * @param includeTotal should the total number of persons be retrieved, which requires an
+   *     additional query
+   * @return the persons
+   * @throws InvalidArgumentException if the cursor is invalid
+   * @throws ServiceUnavailableException if the persons could not be retrieved
+   */
+  Persons getPersons(
+      UUID tenantId,
+      String filter,
+      PersonSortBy sortBy,
+      SortDirection sortDirection,
+      String cursor,
+      int pageSize,
+      PartyFetchPlan fetchPlan,
+      boolean includeTotal)
+      throws InvalidArgumentException, ServiceUnavailableException;
+
   /**
    * Retrieve the snapshots for an entity.
    *
+   * <p>Snapshots are written to the snapshot store in the background, so any pending snapshots for
+   * the entity are written, in a separate transaction, before the snapshots are retrieved. This
+   * ensures that the snapshots reflect every committed change to the entity, at the cost of a write
+   * when the entity has changed since the background snapshot writer last ran.
+   *
    * @param tenantId the ID for the tenant
    * @param entityType the type of entity
    * @param entityId the ID for the entity
@@ -352,6 +517,70 @@ public interface IPartyDataStore {
   Optional<PartyType> getTypeForParty(UUID tenantId, UUID partyId)
       throws InvalidArgumentException, ServiceUnavailableException;
 
+  /**
+   * Retrieve the party types for the existing parties.
+   *
+   * @param tenantId the ID for the tenant
+   * @param partyIds the IDs for the parties
+   * @return the party types keyed by the ID for the party, which exclude the parties that could not
+   *     be found
+   * @throws ServiceUnavailableException if the party types for the parties could not be retrieved
+   */
+  Map<UUID, PartyType> getTypesForParties(UUID tenantId, Collection<UUID> partyIds)
+      throws ServiceUnavailableException;
+
+  /**
+   * Delete a chunk of the archived party data for the tenant.
+   *
+   * <p>Only the entities identified by the archive entries, and their snapshots, are deleted. The
+   * rows for the entities are locked first and an entity is retained, rather than deleted, if it
+   * has pending snapshots or a later snapshot version than the version recorded in the archive,
+   * i.e. it was changed after it was archived. A party is also retained if it is still referenced
+   * by an association or mandate that was not deleted, since these would otherwise be deleted with
+   * the party without having been archived.
+   *
+   * @param tenantId the ID for the tenant
+   * @param entries the archive entries for the entities to delete, in the order they were archived
+   * @param deletedRows the number of rows deleted from each table, keyed by table name, which is
+   *     updated with the rows deleted for the chunk
+   * @param deletedPartyIds the IDs for the parties deleted for the chunk, which is populated with
+   *     the IDs for the parties that were deleted
+   * @param retainedEntityIds the IDs for the entities retained for the chunk, which is populated
+   *     with the IDs for the entities that were changed after they were archived
+   * @throws ServiceUnavailableException if the chunk of the archived party data for the tenant
+   *     could not be deleted
+   */
+  void purgeArchivedParties(
+      UUID tenantId,
+      List<PartyArchiveEntry> entries,
+      Map<String, Long> deletedRows,
+      List<UUID> deletedPartyIds,
+      List<UUID> retainedEntityIds)
+      throws ServiceUnavailableException;
+
+  /**
+   * Delete the next chunk of the party data for the tenant.
+   *
+   * <p>The mandates, associations, parties, pending snapshots and snapshots for the tenant are
+   * deleted in that order, with the rows in the child tables for a chunk being deleted before the
+   * rows they reference, so that each chunk can be deleted and committed in its own short
+   * transaction.
+   *
+   * @param tenantId the ID for the tenant
+   * @param chunkSize the maximum number of mandates, associations, parties or snapshots to delete
+   * @param deletedRows the number of rows deleted from each table, keyed by table name, which is
+   *     updated with the rows deleted for the chunk
+   * @param deletedPartyIds the IDs for the parties deleted for the chunk, which is populated with
+   *     the IDs for the parties that were deleted
+   * @return <b>true</b> if a chunk of the party data for the tenant was deleted or <b>false</b> if
+   *     no party data remains for the tenant
+   * @throws ServiceUnavailableException if the chunk of the party data for the tenant could not be
+   *     deleted
+   */
+  boolean purgeParties(
+      UUID tenantId, int chunkSize, Map<String, Long> deletedRows, List<UUID> deletedPartyIds)
+      throws ServiceUnavailableException;
+
   /**
    * Update the association.
    *
@@ -401,4 +630,19 @@ public interface IPartyDataStore {
    */
   Person updatePerson(UUID tenantId, Person person)
       throws PersonNotFoundException, ServiceUnavailableException;
+
+  /**
+   * Create or update the parties, e.g. persons and organizations, which have already been
+   * validated.
+   *
+   * <p>The changes for all the parties are flushed to the database together so that they can be
+   * written using JDBC batches.
+   *
+   * @param tenantId the ID for the tenant
+   * @param parties the parties
+   * @param existingPartyIds the IDs for the parties that already exist and should be updated
+   * @throws ServiceUnavailableException if the parties could not be created or updated
+   */
+  void upsertParties(UUID tenantId, List<PartyBase> parties, Set<UUID> existingPartyIds)
+      throws ServiceUnavailableException;
 }
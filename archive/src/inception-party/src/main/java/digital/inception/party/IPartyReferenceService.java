@@ -35,6 +35,17 @@ public interface IPartyReferenceService {
   /** The ID for the default tenant. */
   UUID DEFAULT_TENANT_ID = UUID.fromString("00000000-0000-0000-0000-000000000000");
 
+  /**
+   * Evict the party and general reference data from the caches.
+   *
+   * <p>This must be invoked after the reference data is changed in the database, so that the
+   * reference data is reloaded and the hash indexes, reference data bundles and validation plans
+   * derived from it are rebuilt. When the reference cache is a distributed cache, the other nodes
+   * rebuild the values they have derived from the reference data the next time they check the
+   * cluster-wide generation of the reference data, which is stored in the reference cache.
+   */
+  void evictReferenceData();
+
   /**
    * Retrieve the association property type with the specified code for the association type with
    * the specified code for the tenant with the specified ID for the first matching locale.
@@ -1360,6 +1371,22 @@ public interface IPartyReferenceService {
    */
   List<Race> getRaces() throws ServiceUnavailableException;
 
+  /**
+   * Retrieve all the party and general reference data for a specific tenant and locale as a single
+   * serialized bundle.
+   *
+   * <p>The bundle is only serialized again after the reference data is evicted from the caches, and
+   * the hash of its content can be used by clients to detect whether the bundle has changed.
+   *
+   * @param tenantId the ID for the tenant the reference data is specific to
+   * @param localeId the Unicode locale identifier for the locale to retrieve the reference data for
+   * @return the reference data bundle
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the reference data bundle could not be retrieved
+   */
+  ReferenceDataBundle getReferenceDataBundle(UUID tenantId, String localeId)
+      throws InvalidArgumentException, ServiceUnavailableException;
+
   /**
    * Retrieve the residence permit type reference data for a specific locale.
    *
@@ -1928,6 +1955,19 @@ public interface IPartyReferenceService {
    */
   List<Title> getTitles() throws ServiceUnavailableException;
 
+  /**
+   * Retrieve the validation plan for the tenant, which holds the reference data required to
+   * validate the parties associated with the tenant compiled into immutable hash indexes.
+   *
+   * <p>The validation plan is compiled once and reused until the reference data is evicted from the
+   * caches, and can safely be shared by threads validating parties in parallel.
+   *
+   * @param tenantId the ID for the tenant
+   * @return the validation plan for the tenant
+   * @throws ServiceUnavailableException if the validation plan could not be retrieved
+   */
+  PartyValidationPlan getValidationPlan(UUID tenantId) throws ServiceUnavailableException;
+
   /**
    * Check whether the code is a valid code for an association property type for the association
    * type.
@@ -19,7 +19,9 @@ package digital.inception.party;
 import digital.inception.core.service.InvalidArgumentException;
 import digital.inception.core.service.ServiceUnavailableException;
 import digital.inception.core.sorting.SortDirection;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -37,6 +39,9 @@ public interface IPartyService {
   /** The ID for the default tenant. */
   UUID DEFAULT_TENANT_ID = UUID.fromString("00000000-0000-0000-0000-000000000000");
 
+  /** The maximum number of parties that can be created or updated by a single bulk upsert. */
+  int MAX_UPSERT_PARTIES = 1000;
+
   /**
    * Create the new association.
    *
@@ -153,6 +158,34 @@ public interface IPartyService {
   void deletePerson(UUID tenantId, UUID personId)
       throws InvalidArgumentException, PersonNotFoundException, ServiceUnavailableException;
 
+  /**
+   * Export the parties, e.g. persons and organizations, for the tenant ordered by ID.
+   *
+   * <p>The parties are read using a forward-only cursor and written to the output stream as they
+   * are read, so the memory used does not depend on the number of parties for the tenant. An
+   * interrupted export can be resumed by passing the ID for the last party received as the cursor.
+   *
+   * @param tenantId the ID for the tenant
+   * @param format the export format
+   * @param fetchPlan the fetch plan used to determine which information is retrieved for the
+   *     parties
+   * @param fields the optional names of the fields to export for each party in addition to the ID
+   *     and party type, or <b>null</b> to export all the fields retrieved by the fetch plan
+   * @param cursor the optional ID for the last party received by a previous export, after which
+   *     this export should start
+   * @param outputStream the output stream to write the parties to, which is flushed but not closed
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the parties could not be exported
+   */
+  void exportParties(
+      UUID tenantId,
+      PartyExportFormat format,
+      PartyFetchPlan fetchPlan,
+      List<String> fields,
+      UUID cursor,
+      OutputStream outputStream)
+      throws InvalidArgumentException, ServiceUnavailableException;
+
   /**
    * Retrieve the association.
    *
@@ -166,6 +199,33 @@ public interface IPartyService {
   Association getAssociation(UUID tenantId, UUID associationId)
       throws InvalidArgumentException, AssociationNotFoundException, ServiceUnavailableException;
 
+  /**
+   * Retrieve the association graph for the party, i.e. the parties that can be reached by following
+   * the associations for the party, in either direction, up to a maximum depth.
+   *
+   * <p>The association graph index is held on each node and reflects the changes made on this node
+   * immediately, and the changes made on other nodes once the index has been rebuilt, which is done
+   * in the background when the rebuild interval has elapsed since the index was built.
+   *
+   * @param tenantId the ID for the tenant
+   * @param partyId the ID for the party the traversal starts from
+   * @param maxDepth the optional maximum number of associations to follow from the party
+   * @param associationTypes the optional codes for the association types to follow
+   * @param traversalOrder the optional order in which the parties are visited
+   * @return the association graph for the party
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws PartyNotFoundException if the party could not be found
+   * @throws ServiceUnavailableException if the association graph for the party could not be
+   *     retrieved
+   */
+  AssociationGraph getAssociationGraph(
+      UUID tenantId,
+      UUID partyId,
+      Integer maxDepth,
+      List<String> associationTypes,
+      AssociationTraversalOrder traversalOrder)
+      throws InvalidArgumentException, PartyNotFoundException, ServiceUnavailableException;
+
   /**
    * Retrieve the associations for the party.
    *
@@ -238,6 +298,21 @@ public interface IPartyService {
   Organization getOrganization(UUID tenantId, UUID organizationId)
       throws InvalidArgumentException, OrganizationNotFoundException, ServiceUnavailableException;
 
+  /**
+   * Retrieve the organization using the specified fetch plan.
+   *
+   * @param tenantId the ID for the tenant
+   * @param organizationId the ID for the organization
+   * @param fetchPlan the optional fetch plan used to determine which information is retrieved for
+   *     the organization, which defaults to <b>FULL</b>
+   * @return the organization
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws OrganizationNotFoundException if the organization could not be found
+   * @throws ServiceUnavailableException if the organization could not be retrieved
+   */
+  Organization getOrganization(UUID tenantId, UUID organizationId, PartyFetchPlan fetchPlan)
+      throws InvalidArgumentException, OrganizationNotFoundException, ServiceUnavailableException;
+
   /**
    * Retrieve the organizations.
    *
@@ -260,6 +335,60 @@ public interface IPartyService {
       Integer pageSize)
       throws InvalidArgumentException, ServiceUnavailableException;
 
+  /**
+   * Retrieve the organizations using the specified fetch plan.
+   *
+   * @param tenantId the ID for the tenant
+   * @param filter the optional filter to apply to the organizations
+   * @param sortBy the optional method used to sort the organizations e.g. by name
+   * @param sortDirection the optional sort direction to apply to the organizations
+   * @param pageIndex the optional page index
+   * @param pageSize the optional page size
+   * @param fetchPlan the optional fetch plan used to determine which information is retrieved for
+   *     the organizations, which defaults to <b>FULL</b>
+   * @return the organizations
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the organizations could not be retrieved
+   */
+  Organizations getOrganizations(
+      UUID tenantId,
+      String filter,
+      OrganizationSortBy sortBy,
+      SortDirection sortDirection,
+      Integer pageIndex,
+      Integer pageSize,
+      PartyFetchPlan fetchPlan)
+      throws InvalidArgumentException, ServiceUnavailableException;
+
+  /**
+   * Retrieve the organizations using keyset pagination.
+   *
+   * @param tenantId the ID for the tenant
+   * @param filter the optional filter to apply to the organizations
+   * @param sortBy the optional method used to sort the organizations e.g. by name
+   * @param sortDirection the optional sort direction to apply to the organizations
+   * @param cursor the optional opaque cursor returned with the previous page or <b>null</b> or an
+   *     empty string to retrieve the first page
+   * @param pageSize the optional page size
+   * @param fetchPlan the optional fetch plan used to determine which information is retrieved for
+   *     the organizations, which defaults to <b>SUMMARY</b>
+   * @param includeTotal should the total number of organizations be retrieved, which requires an
+   *     additional query
+   * @return the organizations
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the organizations could not be retrieved
+   */
+  Organizations getOrganizations(
+      UUID tenantId,
+      String filter,
+      OrganizationSortBy sortBy,
+      SortDirection sortDirection,
+      String cursor,
+      Integer pageSize,
+      PartyFetchPlan fetchPlan,
+      boolean includeTotal)
+      throws InvalidArgumentException, ServiceUnavailableException;
+
   /**
    * Retrieve the parties.
    *
@@ -282,6 +411,32 @@ public interface IPartyService {
       Integer pageSize)
       throws InvalidArgumentException, ServiceUnavailableException;
 
+  /**
+   * Retrieve the parties using keyset pagination.
+   *
+   * @param tenantId the ID for the tenant
+   * @param filter the optional filter to apply to the parties
+   * @param sortBy the optional method used to sort the parties e.g. by name
+   * @param sortDirection the optional sort direction to apply to the parties
+   * @param cursor the optional opaque cursor returned with the previous page or <b>null</b> or an
+   *     empty string to retrieve the first page
+   * @param pageSize the optional page size
+   * @param includeTotal should the total number of parties be retrieved, which requires an
+   *     additional query
+   * @return the parties
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the parties could not be retrieved
+   */
+  Parties getParties(
+      UUID tenantId,
+      String filter,
+      PartySortBy sortBy,
+      SortDirection sortDirection,
+      String cursor,
+      Integer pageSize,
+      boolean includeTotal)
+      throws InvalidArgumentException, ServiceUnavailableException;
+
   /**
    * Retrieve the party.
    *
@@ -295,6 +450,19 @@ public interface IPartyService {
   Party getParty(UUID tenantId, UUID partyId)
       throws InvalidArgumentException, PartyNotFoundException, ServiceUnavailableException;
 
+  /**
+   * Retrieve the purge of the party data for the tenant.
+   *
+   * @param tenantId the ID for the tenant
+   * @param purgeId the ID for the purge
+   * @return the purge, which reflects the progress of the purge at the time it was retrieved
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws PartyPurgeNotFoundException if the purge could not be found
+   * @throws ServiceUnavailableException if the purge could not be retrieved
+   */
+  PartyPurge getPartyPurge(UUID tenantId, UUID purgeId)
+      throws InvalidArgumentException, PartyPurgeNotFoundException, ServiceUnavailableException;
+
   /**
    * Retrieve the person.
    *
@@ -308,6 +476,21 @@ public interface IPartyService {
   Person getPerson(UUID tenantId, UUID personId)
       throws InvalidArgumentException, PersonNotFoundException, ServiceUnavailableException;
 
+  /**
+   * Retrieve the person using the specified fetch plan.
+   *
+   * @param tenantId the ID for the tenant
+   * @param personId the ID for the person
+   * @param fetchPlan the optional fetch plan used to determine which information is retrieved for
+   *     the person, which defaults to <b>FULL</b>
+   * @return the person
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws PersonNotFoundException if the person could not be found
+   * @throws ServiceUnavailableException if the person could not be retrieved
+   */
+  Person getPerson(UUID tenantId, UUID personId, PartyFetchPlan fetchPlan)
+      throws InvalidArgumentException, PersonNotFoundException, ServiceUnavailableException;
+
   /**
    * Retrieve the persons.
    *
@@ -330,9 +513,68 @@ public interface IPartyService {
       Integer pageSize)
       throws InvalidArgumentException, ServiceUnavailableException;
 
+  /**
+   * Retrieve the persons using the specified fetch plan.
+   *
+   * @param tenantId the ID for the tenant
+   * @param filter the optional filter to apply to the persons
+   * @param sortBy the optional method used to sort the persons e.g. by name
+   * @param sortDirection the optional sort direction to apply to the persons
+   * @param pageIndex the optional page index
+   * @param pageSize the optional page size
+   * @param fetchPlan the optional fetch plan used to determine which information is retrieved for
+   *     the persons, which defaults to <b>FULL</b>
+   * @return the persons
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the persons could not be retrieved
+   */
+  Persons getPersons(
+      UUID tenantId,
+      String filter,
+      PersonSortBy sortBy,
+      SortDirection sortDirection,
+      Integer pageIndex,
+      Integer pageSize,
+      PartyFetchPlan fetchPlan)
+      throws InvalidArgumentException, ServiceUnavailableException;
+
+  /**
+   * Retrieve the persons using keyset pagination.
+   *
+   * @param tenantId the ID for the tenant
+   * @param filter the optional filter to apply to the persons
+   * @param sortBy the optional method used to sort the persons e.g. by name
+   * @param sortDirection the optional sort direction to apply to the persons
+   * @param cursor the optional opaque cursor returned with the previous page or <b>null</b> or an
+   *     empty string to retrieve the first page
+   * @param pageSize the optional page size
+   * @param fetchPlan the optional fetch plan used to determine which information is retrieved for
+   *     the persons, which defaults to <b>SUMMARY</b>
+   * @param includeTotal should the total number of persons be retrieved, which requires an
+   *     additional query
+   * @return the persons
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the persons could not be retrieved
+   */
+  Persons getPersons(
+      UUID tenantId,
+      String filter,
+      PersonSortBy sortBy,
+      SortDirection sortDirection,
+      String cursor,
+      Integer pageSize,
+      PartyFetchPlan fetchPlan,
+      boolean includeTotal)
+      throws InvalidArgumentException, ServiceUnavailableException;
+
   /**
    * Retrieve the snapshots for an entity.
    *
+   * <p>Snapshots are written to the snapshot store in the background, so any pending snapshots for
+   * the entity are written, in a separate transaction, before the snapshots are retrieved. This
+   * ensures that the snapshots reflect every committed change to the entity, at the cost of a write
+   * when the entity has changed since the background snapshot writer last ran.
+   *
    * @param tenantId the ID for the tenant
    * @param entityType the type of entity
    * @param entityId the ID for the entity
@@ -382,6 +624,86 @@ public interface IPartyService {
   Optional<PartyType> getTypeForParty(UUID tenantId, UUID partyId)
       throws InvalidArgumentException, ServiceUnavailableException;
 
+  /**
+   * Asynchronously purge the party data, i.e. the parties, associations, mandates and snapshots,
+   * for the tenant.
+   *
+   * <p>The party data for the tenant is optionally exported to a compressed NDJSON archive file, in
+   * the directory configured using the <b>inception.party.purge.archive-directory</b> property,
+   * before it is deleted. Each line of the archive holds a mandate, association or party, including
+   * all its information, together with the snapshots for the entity. The archive file is forced to
+   * the storage device and verified before any party data is deleted. Only the entities written to
+   * the archive are then deleted, and an entity that was changed after it was archived is retained.
+   * The party data is deleted in chunks, each in its own transaction, with the size of the chunks
+   * adapted to keep the duration of each transaction short, so that the purge does not impact the
+   * other work being done by the data store. If a purge is already queued or in progress for the
+   * tenant, that purge is returned instead of starting a new one. A purge that fails can safely be
+   * requested again, since it only deletes the party data that remains.
+   *
+   * @param tenantId the ID for the tenant
+   * @param archiveFormat the optional format for the archive the party data for the tenant is
+   *     exported to before being deleted, which must be NDJSON, or <b>null</b> if the party data
+   *     should not be archived
+   * @return the purge, which can be used to retrieve the progress of the purge
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the purge could not be started, e.g. because the parties
+   *     should be archived and no archive directory has been configured
+   */
+  PartyPurge purgeParties(UUID tenantId, PartyExportFormat archiveFormat)
+      throws InvalidArgumentException, ServiceUnavailableException;
+
+  /**
+   * Rebuild the association graph index for the tenant from the party data store.
+   *
+   * <p>The index is only rebuilt on this node. The index on each node is also rebuilt in the
+   * background when the rebuild interval has elapsed, so that the changes made on other nodes are
+   * reflected in the index.
+   *
+   * @param tenantId the ID for the tenant
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the association graph index for the tenant could not be
+   *     rebuilt
+   */
+  void rebuildAssociationGraph(UUID tenantId)
+      throws InvalidArgumentException, ServiceUnavailableException;
+
+  /**
+   * Rebuild the full-text search index for the tenant from the party data store.
+   *
+   * <p>The index is only rebuilt on this node. The index on each node is also rebuilt in the
+   * background when the rebuild interval has elapsed, so that the changes made on other nodes are
+   * reflected in the index.
+   *
+   * @param tenantId the ID for the tenant
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the full-text search index for the tenant could not be
+   *     rebuilt
+   */
+  void rebuildSearchIndex(UUID tenantId)
+      throws InvalidArgumentException, ServiceUnavailableException;
+
+  /**
+   * Search for the persons and organizations matching the search query using the full-text search
+   * index for the tenant.
+   *
+   * <p>The names of the parties, and the values of their identity documents, tax numbers, external
+   * references and contact mechanisms, are searched. Each word in the search query must match, as a
+   * whole word, as the prefix of a word or approximately.
+   *
+   * <p>The full-text search index is held on each node and reflects the changes made on this node
+   * immediately, and the changes made on other nodes once the index has been rebuilt, which is done
+   * in the background when the rebuild interval has elapsed since the index was built.
+   *
+   * @param tenantId the ID for the tenant
+   * @param query the search query
+   * @param maxResults the optional maximum number of results to return
+   * @return the parties matching the search query ordered by descending relevance
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the search failed
+   */
+  PartySearchResults searchParties(UUID tenantId, String query, Integer maxResults)
+      throws InvalidArgumentException, ServiceUnavailableException;
+
   /**
    * Update the association.
    *
@@ -438,6 +760,23 @@ public interface IPartyService {
   Person updatePerson(UUID tenantId, Person person)
       throws InvalidArgumentException, PersonNotFoundException, ServiceUnavailableException;
 
+  /**
+   * Create or update the parties, e.g. persons and organizations, as part of a bulk upsert.
+   *
+   * <p>A party is matched to an existing party using its ID or, failing that, one of its external
+   * references. Where the same party appears more than once, the last occurrence is applied and the
+   * earlier occurrences are superseded. A party that fails validation does not prevent the other
+   * parties from being created or updated.
+   *
+   * @param tenantId the ID for the tenant
+   * @param parties the parties, up to a maximum of <b>MAX_UPSERT_PARTIES</b>
+   * @return the outcome of creating or updating each party, in the same order as the parties
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the parties could not be created or updated
+   */
+  List<PartyUpsertResult> upsertParties(UUID tenantId, List<PartyBase> parties)
+      throws InvalidArgumentException, ServiceUnavailableException;
+
   /**
    * Validate the association.
    *
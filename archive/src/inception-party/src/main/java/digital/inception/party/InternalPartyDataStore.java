@@ -16,15 +16,49 @@
 
 package digital.inception.party;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import digital.inception.core.service.InvalidArgumentException;
 import digital.inception.core.service.ServiceUnavailableException;
 import digital.inception.core.sorting.SortDirection;
+import digital.inception.core.util.GZIPUtil;
+import digital.inception.jpa.KeysetPage;
+import digital.inception.jpa.KeysetQuery;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.jpa.QueryHints;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort.Direction;
@@ -41,9 +75,81 @@ public class InternalPartyDataStore implements IPartyDataStore {
   /* Logger */
   private static final Logger logger = LoggerFactory.getLogger(InternalPartyDataStore.class);
 
+  /** The maximum number of parameters for an IN clause in a query. */
+  private static final int MAX_IN_CLAUSE_PARAMETERS = 500;
+
+  /**
+   * The tables and ID columns the rows are deleted from, in order, when purging a chunk of the
+   * associations for a tenant.
+   */
+  private static final String[][] PURGE_ASSOCIATION_TABLES = {
+    {"association_properties", "association_id"}, {"associations", "id"}
+  };
+
+  /**
+   * The tables and ID columns the rows are deleted from, in order, when purging a chunk of the
+   * mandates for a tenant.
+   */
+  private static final String[][] PURGE_MANDATE_TABLES = {
+    {"mandate_links", "mandate_id"},
+    {"mandataries", "mandate_id"},
+    {"mandate_properties", "mandate_id"},
+    {"mandates", "id"}
+  };
+
+  /**
+   * The tables and ID columns the rows are deleted from, in order, when purging a chunk of the
+   * parties for a tenant.
+   */
+  private static final String[][] PURGE_PARTY_TABLES = {
+    {"attributes", "party_id"},
+    {"contact_mechanisms", "party_id"},
+    {"external_references", "party_id"},
+    {"identity_documents", "party_id"},
+    {"locks", "party_id"},
+    {"physical_addresses", "party_id"},
+    {"preferences", "party_id"},
+    {"roles", "party_id"},
+    {"segment_allocations", "party_id"},
+    {"statuses", "party_id"},
+    {"tax_numbers", "party_id"},
+    {"consents", "person_id"},
+    {"educations", "person_id"},
+    {"employments", "person_id"},
+    {"language_proficiencies", "person_id"},
+    {"next_of_kin", "person_id"},
+    {"residence_permits", "person_id"},
+    {"skills", "person_id"},
+    {"sources_of_funds", "person_id"},
+    {"sources_of_wealth", "person_id"},
+    {"industry_allocations", "organization_id"},
+    {"persons", "id"},
+    {"organizations", "id"},
+    {"parties", "id"}
+  };
+
+  /**
+   * The tables and ID columns the rows are deleted from when purging a chunk of the pending
+   * snapshots for a tenant.
+   */
+  private static final String[][] PURGE_PENDING_SNAPSHOT_TABLES = {{"pending_snapshots", "id"}};
+
+  /**
+   * The tables and ID columns the rows are deleted from when purging a chunk of the snapshots for a
+   * tenant.
+   */
+  private static final String[][] PURGE_SNAPSHOT_TABLES = {{"snapshots", "id"}};
+
   /** The Association Repository. */
   private final AssociationRepository associationRepository;
 
+  /**
+   * The number of parties retrieved together when exporting the parties for a tenant, which is also
+   * used as the JDBC fetch size for the cursor used to read the parties.
+   */
+  @Value("${inception.party.export-batch-size:#{500}}")
+  private int exportBatchSize;
+
   /** The Mandate Repository. */
   private final MandateRepository mandateRepository;
 
@@ -62,6 +168,13 @@ public class InternalPartyDataStore implements IPartyDataStore {
   /** The Snapshot Repository. */
   private final SnapshotRepository snapshotRepository;
 
+  /** The Snapshot Writer. */
+  private final SnapshotWriter snapshotWriter;
+
+  /* Entity Manager */
+  @PersistenceContext(unitName = "party")
+  private EntityManager entityManager;
+
   /**
    * Constructs a new <b>InternalPartyDataStore</b>.
    *
@@ -72,6 +185,7 @@ public class InternalPartyDataStore implements IPartyDataStore {
    * @param personRepository the Person Repository
    * @param associationRepository the Association Repository
    * @param snapshotRepository the Snapshot Repository
+   * @param snapshotWriter the Snapshot Writer
    */
   public InternalPartyDataStore(
       ObjectMapper objectMapper,
@@ -80,7 +194,8 @@ public class InternalPartyDataStore implements IPartyDataStore {
       PartyRepository partyRepository,
       PersonRepository personRepository,
       AssociationRepository associationRepository,
-      SnapshotRepository snapshotRepository) {
+      SnapshotRepository snapshotRepository,
+      SnapshotWriter snapshotWriter) {
 
     this.objectMapper = objectMapper;
     this.mandateRepository = mandateRepository;
@@ -89,6 +204,7 @@ public class InternalPartyDataStore implements IPartyDataStore {
     this.personRepository = personRepository;
     this.associationRepository = associationRepository;
     this.snapshotRepository = snapshotRepository;
+    this.snapshotWriter = snapshotWriter;
   }
 
   @Override
@@ -112,8 +228,8 @@ public class InternalPartyDataStore implements IPartyDataStore {
 
       associationRepository.saveAndFlush(association);
 
-      snapshotRepository.saveAndFlush(
-          new Snapshot(tenantId, EntityType.ASSOCIATION, association.getId(), associationJson));
+      snapshotWriter.recordSnapshot(
+          tenantId, EntityType.ASSOCIATION, association.getId(), associationJson);
 
       return association;
     } catch (DuplicateAssociationException | PartyNotFoundException e) {
@@ -148,8 +264,7 @@ public class InternalPartyDataStore implements IPartyDataStore {
 
       mandateRepository.saveAndFlush(mandate);
 
-      snapshotRepository.saveAndFlush(
-          new Snapshot(tenantId, EntityType.MANDATE, mandate.getId(), mandateJson));
+      snapshotWriter.recordSnapshot(tenantId, EntityType.MANDATE, mandate.getId(), mandateJson);
 
       return mandate;
     } catch (DuplicateMandateException | PartyNotFoundException e) {
@@ -178,8 +293,8 @@ public class InternalPartyDataStore implements IPartyDataStore {
 
       organizationRepository.saveAndFlush(organization);
 
-      snapshotRepository.saveAndFlush(
-          new Snapshot(tenantId, EntityType.ORGANIZATION, organization.getId(), organizationJson));
+      snapshotWriter.recordSnapshot(
+          tenantId, EntityType.ORGANIZATION, organization.getId(), organizationJson);
 
       return organization;
     } catch (DuplicateOrganizationException e) {
@@ -208,8 +323,7 @@ public class InternalPartyDataStore implements IPartyDataStore {
 
       personRepository.saveAndFlush(person);
 
-      snapshotRepository.saveAndFlush(
-          new Snapshot(tenantId, EntityType.PERSON, person.getId(), personJson));
+      snapshotWriter.recordSnapshot(tenantId, EntityType.PERSON, person.getId(), personJson);
 
       return person;
     } catch (DuplicatePersonException e) {
@@ -316,6 +430,116 @@ public class InternalPartyDataStore implements IPartyDataStore {
     }
   }
 
+  @Override
+  public void exportParties(
+      UUID tenantId, UUID afterPartyId, PartyFetchPlan fetchPlan, Consumer<PartyBase> consumer)
+      throws ServiceUnavailableException {
+    TypedQuery<Object[]> query =
+        entityManager
+            .createQuery(
+                "select p.id, p.type from Party p where p.tenantId = :tenantId"
+                    + ((afterPartyId != null) ? " and p.id > :afterPartyId" : "")
+                    + " order by p.id",
+                Object[].class)
+            .setParameter("tenantId", tenantId)
+            .setHint(QueryHints.HINT_FETCH_SIZE, exportBatchSize)
+            .setHint(QueryHints.HINT_READONLY, true);
+
+    if (afterPartyId != null) {
+      query.setParameter("afterPartyId", afterPartyId);
+    }
+
+    /*
+     * Read the IDs and types for the parties using a forward-only cursor and retrieve the parties
+     * in batches, which allows the collections for the parties in a batch to be batch fetched.
+     * The persistence context is cleared after each batch so the parties are not retained.
+     */
+    try (Stream<Object[]> rows = query.getResultStream()) {
+      List<Object[]> batch = new ArrayList<>(exportBatchSize);
+
+      Iterator<Object[]> iterator = rows.iterator();
+
+      while (iterator.hasNext()) {
+        batch.add(iterator.next());
+
+        if ((batch.size() == exportBatchSize) || (!iterator.hasNext())) {
+          exportPartiesBatch(batch, fetchPlan, consumer);
+
+          batch.clear();
+
+          entityManager.clear();
+        }
+      }
+    } catch (UncheckedIOException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to export the parties for the tenant (" + tenantId + ")", e);
+    }
+  }
+
+  @Override
+  public void exportPartyArchive(UUID tenantId, Consumer<PartyArchiveEntry> consumer)
+      throws ServiceUnavailableException {
+    try {
+      // Write the pending snapshots for the tenant so that every committed change is archived
+      snapshotWriter.writePendingSnapshots(tenantId);
+
+      exportArchiveEntries(
+          tenantId,
+          getResultStreamForTenant(
+                  "select m.id from Mandate m where m.tenantId = :tenantId order by m.id",
+                  UUID.class,
+                  tenantId)
+              .map(mandateId -> Map.entry(mandateId, EntityType.MANDATE)),
+          consumer);
+
+      exportArchiveEntries(
+          tenantId,
+          getResultStreamForTenant(
+                  "select a.id from Association a where a.tenantId = :tenantId order by a.id",
+                  UUID.class,
+                  tenantId)
+              .map(associationId -> Map.entry(associationId, EntityType.ASSOCIATION)),
+          consumer);
+
+      exportArchiveEntries(
+          tenantId,
+          getResultStreamForTenant(
+                  "select p.id, p.type from Party p where p.tenantId = :tenantId order by p.id",
+                  Object[].class,
+                  tenantId)
+              .map(
+                  row ->
+                      Map.entry(
+                          (UUID) row[0],
+                          (row[1] == PartyType.ORGANIZATION)
+                              ? EntityType.ORGANIZATION
+                              : EntityType.PERSON)),
+          consumer);
+
+      // Archive the snapshots for the entities that have already been deleted
+      exportArchiveEntries(
+          tenantId,
+          getResultStreamForTenant(
+                  "select distinct s.entityId, s.entityType from Snapshot s"
+                      + " where s.tenantId = :tenantId"
+                      + " and not exists (select m.id from Mandate m where m.id = s.entityId)"
+                      + " and not exists (select a.id from Association a where a.id = s.entityId)"
+                      + " and not exists (select p.id from Party p where p.id = s.entityId)"
+                      + " order by s.entityId",
+                  Object[].class,
+                  tenantId)
+              .map(row -> Map.entry((UUID) row[0], (EntityType) row[1])),
+          consumer);
+    } catch (UncheckedIOException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to export the party data for the archive for the tenant (" + tenantId + ")", e);
+    }
+  }
+
   @Override
   public Association getAssociation(UUID tenantId, UUID associationId)
       throws AssociationNotFoundException, ServiceUnavailableException {
@@ -341,6 +565,31 @@ public class InternalPartyDataStore implements IPartyDataStore {
     }
   }
 
+  @Override
+  public void getAssociationLinks(UUID tenantId, Consumer<AssociationGraphLink> consumer)
+      throws ServiceUnavailableException {
+    TypedQuery<Object[]> query =
+        entityManager
+            .createQuery(
+                "select a.id, a.type, a.firstPartyId, a.secondPartyId from Association a"
+                    + " where a.tenantId = :tenantId",
+                Object[].class)
+            .setParameter("tenantId", tenantId)
+            .setHint(QueryHints.HINT_FETCH_SIZE, exportBatchSize)
+            .setHint(QueryHints.HINT_READONLY, true);
+
+    try (Stream<Object[]> rows = query.getResultStream()) {
+      rows.forEach(
+          row ->
+              consumer.accept(
+                  new AssociationGraphLink(
+                      (UUID) row[0], (String) row[1], (UUID) row[2], (UUID) row[3])));
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to retrieve the links for the associations for the tenant (" + tenantId + ")", e);
+    }
+  }
+
   @Override
   public AssociationsForParty getAssociationsForParty(
       UUID tenantId,
@@ -477,13 +726,15 @@ public class InternalPartyDataStore implements IPartyDataStore {
   }
 
   @Override
-  public Organization getOrganization(UUID tenantId, UUID organizationId)
+  public Organization getOrganization(UUID tenantId, UUID organizationId, PartyFetchPlan fetchPlan)
       throws OrganizationNotFoundException, ServiceUnavailableException {
     try {
       Optional<Organization> organizationOptional =
           organizationRepository.findByTenantIdAndId(tenantId, organizationId);
 
       if (organizationOptional.isPresent()) {
+        initializeOrganization(organizationOptional.get(), fetchPlan);
+
         return organizationOptional.get();
       } else {
         throw new OrganizationNotFoundException(tenantId, organizationId);
@@ -508,7 +759,8 @@ public class InternalPartyDataStore implements IPartyDataStore {
       OrganizationSortBy sortBy,
       SortDirection sortDirection,
       Integer pageIndex,
-      Integer pageSize)
+      Integer pageSize,
+      PartyFetchPlan fetchPlan)
       throws ServiceUnavailableException {
     try {
       PageRequest pageRequest;
@@ -537,6 +789,10 @@ public class InternalPartyDataStore implements IPartyDataStore {
         organizationPage = organizationRepository.findByTenantId(tenantId, pageRequest);
       }
 
+      for (Organization organization : organizationPage) {
+        initializeOrganization(organization, fetchPlan);
+      }
+
       return new Organizations(
           tenantId,
           organizationPage.toList(),
@@ -552,6 +808,57 @@ public class InternalPartyDataStore implements IPartyDataStore {
     }
   }
 
+  @Override
+  public Organizations getOrganizations(
+      UUID tenantId,
+      String filter,
+      OrganizationSortBy sortBy,
+      SortDirection sortDirection,
+      String cursor,
+      int pageSize,
+      PartyFetchPlan fetchPlan,
+      boolean includeTotal)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    try {
+      KeysetQuery<Organization> query;
+
+      if (StringUtils.hasText(filter)) {
+        query =
+            new KeysetQuery<>(
+                    entityManager,
+                    Organization.class,
+                    "(e.tenantId = :tenantId) and (lower(e.name) like lower(:filter))")
+                .setParameter("tenantId", tenantId)
+                .setParameter("filter", "%" + filter + "%");
+      } else {
+        query =
+            new KeysetQuery<>(entityManager, Organization.class, "e.tenantId = :tenantId")
+                .setParameter("tenantId", tenantId);
+      }
+
+      KeysetPage<Organization> page = query.getPage("name", sortDirection, cursor, pageSize);
+
+      for (Organization organization : page.getEntities()) {
+        initializeOrganization(organization, fetchPlan);
+      }
+
+      return new Organizations(
+          tenantId,
+          page.getEntities(),
+          includeTotal ? query.count() : -1,
+          filter,
+          sortBy,
+          sortDirection,
+          pageSize,
+          page.getNextCursor());
+    } catch (InvalidArgumentException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to retrieve the filtered organizations for the tenant (" + tenantId + ")", e);
+    }
+  }
+
   @Override
   public Parties getParties(
       UUID tenantId,
@@ -587,6 +894,52 @@ public class InternalPartyDataStore implements IPartyDataStore {
     }
   }
 
+  @Override
+  public Parties getParties(
+      UUID tenantId,
+      String filter,
+      PartySortBy sortBy,
+      SortDirection sortDirection,
+      String cursor,
+      int pageSize,
+      boolean includeTotal)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    try {
+      KeysetQuery<Party> query;
+
+      if (StringUtils.hasText(filter)) {
+        query =
+            new KeysetQuery<>(
+                    entityManager,
+                    Party.class,
+                    "(e.tenantId = :tenantId) and (lower(e.name) like lower(:filter))")
+                .setParameter("tenantId", tenantId)
+                .setParameter("filter", "%" + filter + "%");
+      } else {
+        query =
+            new KeysetQuery<>(entityManager, Party.class, "e.tenantId = :tenantId")
+                .setParameter("tenantId", tenantId);
+      }
+
+      KeysetPage<Party> page = query.getPage("name", sortDirection, cursor, pageSize);
+
+      return new Parties(
+          tenantId,
+          page.getEntities(),
+          includeTotal ? query.count() : -1,
+          filter,
+          sortBy,
+          sortDirection,
+          pageSize,
+          page.getNextCursor());
+    } catch (InvalidArgumentException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to retrieve the filtered parties for the tenant (" + tenantId + ")", e);
+    }
+  }
+
   @Override
   public Party getParty(UUID tenantId, UUID partyId)
       throws PartyNotFoundException, ServiceUnavailableException {
@@ -607,12 +960,59 @@ public class InternalPartyDataStore implements IPartyDataStore {
   }
 
   @Override
-  public Person getPerson(UUID tenantId, UUID personId)
+  public Map<String, Map<String, Set<UUID>>> getPartyIdsForExternalReferences(
+      UUID tenantId, Map<String, Set<String>> externalReferences)
+      throws ServiceUnavailableException {
+    try {
+      Map<String, Map<String, Set<UUID>>> partyIds = new HashMap<>();
+
+      for (Map.Entry<String, Set<String>> externalReferencesWithType :
+          externalReferences.entrySet()) {
+        List<String> values = new ArrayList<>(externalReferencesWithType.getValue());
+
+        for (int i = 0; i < values.size(); i += MAX_IN_CLAUSE_PARAMETERS) {
+          List<Object[]> rows =
+              entityManager
+                  .createQuery(
+                      "select er.value, er.party.id from ExternalReference er "
+                          + "where er.party.tenantId = :tenantId and er.type = :type "
+                          + "and er.value in :values",
+                      Object[].class)
+                  .setParameter("tenantId", tenantId)
+                  .setParameter("type", externalReferencesWithType.getKey())
+                  .setParameter(
+                      "values",
+                      values.subList(i, Math.min(i + MAX_IN_CLAUSE_PARAMETERS, values.size())))
+                  .getResultList();
+
+          for (Object[] row : rows) {
+            partyIds
+                .computeIfAbsent(externalReferencesWithType.getKey(), type -> new HashMap<>())
+                .computeIfAbsent((String) row[0], value -> new HashSet<>())
+                .add((UUID) row[1]);
+          }
+        }
+      }
+
+      return partyIds;
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to retrieve the IDs for the parties with the external references for the tenant ("
+              + tenantId
+              + ")",
+          e);
+    }
+  }
+
+  @Override
+  public Person getPerson(UUID tenantId, UUID personId, PartyFetchPlan fetchPlan)
       throws PersonNotFoundException, ServiceUnavailableException {
     try {
       Optional<Person> personOptional = personRepository.findByTenantIdAndId(tenantId, personId);
 
       if (personOptional.isPresent()) {
+        initializePerson(personOptional.get(), fetchPlan);
+
         return personOptional.get();
       } else {
         throw new PersonNotFoundException(tenantId, personId);
@@ -632,7 +1032,8 @@ public class InternalPartyDataStore implements IPartyDataStore {
       PersonSortBy sortBy,
       SortDirection sortDirection,
       Integer pageIndex,
-      Integer pageSize)
+      Integer pageSize,
+      PartyFetchPlan fetchPlan)
       throws ServiceUnavailableException {
     try {
       PageRequest pageRequest;
@@ -660,6 +1061,10 @@ public class InternalPartyDataStore implements IPartyDataStore {
         personPage = personRepository.findByTenantId(tenantId, pageRequest);
       }
 
+      for (Person person : personPage) {
+        initializePerson(person, fetchPlan);
+      }
+
       return new Persons(
           tenantId,
           personPage.toList(),
@@ -675,6 +1080,62 @@ public class InternalPartyDataStore implements IPartyDataStore {
     }
   }
 
+  @Override
+  public Persons getPersons(
+      UUID tenantId,
+      String filter,
+      PersonSortBy sortBy,
+      SortDirection sortDirection,
+      String cursor,
+      int pageSize,
+      PartyFetchPlan fetchPlan,
+      boolean includeTotal)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    try {
+      KeysetQuery<Person> query;
+
+      if (StringUtils.hasText(filter)) {
+        query =
+            new KeysetQuery<>(
+                    entityManager,
+                    Person.class,
+                    "(e.tenantId = :tenantId) and (lower(e.name) like lower(:filter))")
+                .setParameter("tenantId", tenantId)
+                .setParameter("filter", "%" + filter + "%");
+      } else {
+        query =
+            new KeysetQuery<>(entityManager, Person.class, "e.tenantId = :tenantId")
+                .setParameter("tenantId", tenantId);
+      }
+
+      KeysetPage<Person> page =
+          query.getPage(
+              (sortBy == PersonSortBy.PREFERRED_NAME) ? "preferredName" : "name",
+              sortDirection,
+              cursor,
+              pageSize);
+
+      for (Person person : page.getEntities()) {
+        initializePerson(person, fetchPlan);
+      }
+
+      return new Persons(
+          tenantId,
+          page.getEntities(),
+          includeTotal ? query.count() : -1,
+          filter,
+          sortBy,
+          sortDirection,
+          pageSize,
+          page.getNextCursor());
+    } catch (InvalidArgumentException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to retrieve the filtered persons for the tenant (" + tenantId + ")", e);
+    }
+  }
+
   @Override
   public Snapshots getSnapshots(
       UUID tenantId,
@@ -694,28 +1155,41 @@ public class InternalPartyDataStore implements IPartyDataStore {
               pageIndex,
               pageSize,
               (sortDirection == SortDirection.ASCENDING) ? Direction.ASC : Direction.DESC,
-              "timestamp");
+              "timestamp",
+              "id");
+
+      // Write any pending snapshots for the entity so that every committed change is included
+      snapshotWriter.writePendingSnapshots(tenantId, entityType, entityId);
 
       Page<Snapshot> snapshotPage;
 
+      // The date range is inclusive, so the snapshots are retrieved up to the start of the day
+      // after the "to" date.
       if ((from != null) && (to != null)) {
         snapshotPage =
-            snapshotRepository.findByTenantIdAndEntityTypeAndEntityId(
-                tenantId, entityType, entityId, pageRequest);
+            snapshotRepository.findByEntityFromTo(
+                tenantId,
+                entityType,
+                entityId,
+                from.atStartOfDay(),
+                to.plusDays(1).atStartOfDay(),
+                pageRequest);
       } else if (from != null) {
         snapshotPage =
-            snapshotRepository.findByTenantIdAndEntityTypeAndEntityId(
-                tenantId, entityType, entityId, pageRequest);
+            snapshotRepository.findByEntityFrom(
+                tenantId, entityType, entityId, from.atStartOfDay(), pageRequest);
       } else if (to != null) {
         snapshotPage =
-            snapshotRepository.findByTenantIdAndEntityTypeAndEntityId(
-                tenantId, entityType, entityId, pageRequest);
+            snapshotRepository.findByEntityTo(
+                tenantId, entityType, entityId, to.plusDays(1).atStartOfDay(), pageRequest);
       } else {
         snapshotPage =
             snapshotRepository.findByTenantIdAndEntityTypeAndEntityId(
                 tenantId, entityType, entityId, pageRequest);
       }
 
+      reconstructSnapshotData(tenantId, entityType, entityId, snapshotPage.getContent());
+
       return new Snapshots(
           tenantId,
           snapshotPage.toList(),
@@ -766,6 +1240,158 @@ public class InternalPartyDataStore implements IPartyDataStore {
     }
   }
 
+  @Override
+  public Map<UUID, PartyType> getTypesForParties(UUID tenantId, Collection<UUID> partyIds)
+      throws ServiceUnavailableException {
+    try {
+      Map<UUID, PartyType> types = new HashMap<>();
+
+      List<UUID> ids = new ArrayList<>(partyIds);
+
+      for (int i = 0; i < ids.size(); i += MAX_IN_CLAUSE_PARAMETERS) {
+        List<Object[]> rows =
+            entityManager
+                .createQuery(
+                    "select p.id, p.type from Party p "
+                        + "where p.tenantId = :tenantId and p.id in :ids",
+                    Object[].class)
+                .setParameter("tenantId", tenantId)
+                .setParameter(
+                    "ids", ids.subList(i, Math.min(i + MAX_IN_CLAUSE_PARAMETERS, ids.size())))
+                .getResultList();
+
+        for (Object[] row : rows) {
+          types.put((UUID) row[0], (PartyType) row[1]);
+        }
+      }
+
+      return types;
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to retrieve the types for the parties for the tenant (" + tenantId + ")", e);
+    }
+  }
+
+  @Override
+  public void purgeArchivedParties(
+      UUID tenantId,
+      List<PartyArchiveEntry> entries,
+      Map<String, Long> deletedRows,
+      List<UUID> deletedPartyIds,
+      List<UUID> retainedEntityIds)
+      throws ServiceUnavailableException {
+    try {
+      for (int i = 0; i < entries.size(); i += MAX_IN_CLAUSE_PARAMETERS) {
+        List<PartyArchiveEntry> chunkEntries =
+            entries.subList(i, Math.min(i + MAX_IN_CLAUSE_PARAMETERS, entries.size()));
+
+        // Delete the mandates and associations before the parties they reference
+        purgeArchivedEntities(
+            tenantId,
+            getArchiveEntries(chunkEntries, EntityType.MANDATE),
+            "select m from Mandate m where m.tenantId = :tenantId and m.id in :ids",
+            Mandate.class,
+            Mandate::getId,
+            PURGE_MANDATE_TABLES,
+            false,
+            deletedRows,
+            null,
+            retainedEntityIds);
+
+        purgeArchivedEntities(
+            tenantId,
+            getArchiveEntries(chunkEntries, EntityType.ASSOCIATION),
+            "select a from Association a where a.tenantId = :tenantId and a.id in :ids",
+            Association.class,
+            Association::getId,
+            PURGE_ASSOCIATION_TABLES,
+            false,
+            deletedRows,
+            null,
+            retainedEntityIds);
+
+        purgeArchivedEntities(
+            tenantId,
+            getArchiveEntries(chunkEntries, EntityType.ORGANIZATION, EntityType.PERSON),
+            "select p from Party p where p.tenantId = :tenantId and p.id in :ids",
+            Party.class,
+            Party::getId,
+            PURGE_PARTY_TABLES,
+            true,
+            deletedRows,
+            deletedPartyIds,
+            retainedEntityIds);
+      }
+
+      entityManager.clear();
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to purge the archived party data for the tenant (" + tenantId + ")", e);
+    }
+  }
+
+  @Override
+  public boolean purgeParties(
+      UUID tenantId, int chunkSize, Map<String, Long> deletedRows, List<UUID> deletedPartyIds)
+      throws ServiceUnavailableException {
+    try {
+      int maxResults = Math.max(1, Math.min(chunkSize, MAX_IN_CLAUSE_PARAMETERS));
+
+      List<UUID> mandateIds =
+          getIdsForTenant(
+              "select m.id from Mandate m where m.tenantId = :tenantId", tenantId, maxResults);
+
+      if (!mandateIds.isEmpty()) {
+        deleteRows(PURGE_MANDATE_TABLES, mandateIds, deletedRows);
+        return true;
+      }
+
+      List<UUID> associationIds =
+          getIdsForTenant(
+              "select a.id from Association a where a.tenantId = :tenantId", tenantId, maxResults);
+
+      if (!associationIds.isEmpty()) {
+        deleteRows(PURGE_ASSOCIATION_TABLES, associationIds, deletedRows);
+        return true;
+      }
+
+      List<UUID> partyIds =
+          getIdsForTenant(
+              "select p.id from Party p where p.tenantId = :tenantId", tenantId, maxResults);
+
+      if (!partyIds.isEmpty()) {
+        deleteRows(PURGE_PARTY_TABLES, partyIds, deletedRows);
+        deletedPartyIds.addAll(partyIds);
+        return true;
+      }
+
+      List<UUID> pendingSnapshotIds =
+          getIdsForTenant(
+              "select ps.id from PendingSnapshot ps where ps.tenantId = :tenantId",
+              tenantId,
+              maxResults);
+
+      if (!pendingSnapshotIds.isEmpty()) {
+        deleteRows(PURGE_PENDING_SNAPSHOT_TABLES, pendingSnapshotIds, deletedRows);
+        return true;
+      }
+
+      List<UUID> snapshotIds =
+          getIdsForTenant(
+              "select s.id from Snapshot s where s.tenantId = :tenantId", tenantId, maxResults);
+
+      if (!snapshotIds.isEmpty()) {
+        deleteRows(PURGE_SNAPSHOT_TABLES, snapshotIds, deletedRows);
+        return true;
+      }
+
+      return false;
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to purge the party data for the tenant (" + tenantId + ")", e);
+    }
+  }
+
   @Override
   public Association updateAssociation(UUID tenantId, Association association)
       throws AssociationNotFoundException, ServiceUnavailableException {
@@ -779,8 +1405,8 @@ public class InternalPartyDataStore implements IPartyDataStore {
 
       associationRepository.saveAndFlush(association);
 
-      snapshotRepository.saveAndFlush(
-          new Snapshot(tenantId, EntityType.ASSOCIATION, association.getId(), associationJson));
+      snapshotWriter.recordSnapshot(
+          tenantId, EntityType.ASSOCIATION, association.getId(), associationJson);
 
       return association;
     } catch (AssociationNotFoundException e) {
@@ -815,8 +1441,7 @@ public class InternalPartyDataStore implements IPartyDataStore {
 
       mandateRepository.saveAndFlush(mandate);
 
-      snapshotRepository.saveAndFlush(
-          new Snapshot(tenantId, EntityType.MANDATE, mandate.getId(), mandateJson));
+      snapshotWriter.recordSnapshot(tenantId, EntityType.MANDATE, mandate.getId(), mandateJson);
 
       return mandate;
     } catch (MandateNotFoundException | PartyNotFoundException e) {
@@ -845,8 +1470,8 @@ public class InternalPartyDataStore implements IPartyDataStore {
 
       organizationRepository.saveAndFlush(organization);
 
-      snapshotRepository.saveAndFlush(
-          new Snapshot(tenantId, EntityType.ORGANIZATION, organization.getId(), organizationJson));
+      snapshotWriter.recordSnapshot(
+          tenantId, EntityType.ORGANIZATION, organization.getId(), organizationJson);
 
       return organization;
     } catch (OrganizationNotFoundException e) {
@@ -875,8 +1500,7 @@ public class InternalPartyDataStore implements IPartyDataStore {
 
       personRepository.saveAndFlush(person);
 
-      snapshotRepository.saveAndFlush(
-          new Snapshot(tenantId, EntityType.PERSON, person.getId(), personJson));
+      snapshotWriter.recordSnapshot(tenantId, EntityType.PERSON, person.getId(), personJson);
 
       return person;
     } catch (PersonNotFoundException e) {
@@ -887,4 +1511,616 @@ public class InternalPartyDataStore implements IPartyDataStore {
           e);
     }
   }
+
+  @Override
+  public void upsertParties(UUID tenantId, List<PartyBase> parties, Set<UUID> existingPartyIds)
+      throws ServiceUnavailableException {
+    try {
+      for (PartyBase party : parties) {
+        EntityType entityType =
+            (party.getType() == PartyType.ORGANIZATION)
+                ? EntityType.ORGANIZATION
+                : EntityType.PERSON;
+
+        // Serialize the party object as JSON
+        String partyJson = objectMapper.writeValueAsString(party);
+
+        if (existingPartyIds.contains(party.getId())) {
+          entityManager.merge(party);
+        } else {
+          entityManager.persist(party);
+        }
+
+        snapshotWriter.recordSnapshot(tenantId, entityType, party.getId(), partyJson);
+      }
+
+      /*
+       * Flush the changes for all the parties together, which allows Hibernate to order the
+       * inserts and updates by table and write them using JDBC batches, and then detach the
+       * parties so the persistence context does not grow with the size of the bulk upsert.
+       */
+      entityManager.flush();
+      entityManager.clear();
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to upsert the parties for the tenant (" + tenantId + ")", e);
+    }
+  }
+
+  /**
+   * Delete the rows with the specified IDs from each of the tables in turn.
+   *
+   * @param tables the names of the tables and the ID column for each table, in the order the rows
+   *     must be deleted
+   * @param ids the IDs for the rows to delete
+   * @param deletedRows the number of rows deleted from each table, which is updated with the rows
+   *     deleted by this call
+   */
+  private void deleteRows(String[][] tables, List<UUID> ids, Map<String, Long> deletedRows) {
+    String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+
+    entityManager
+        .unwrap(Session.class)
+        .doWork(
+            connection -> {
+              for (String[] table : tables) {
+                try (PreparedStatement statement =
+                    connection.prepareStatement(
+                        "DELETE FROM party."
+                            + table[0]
+                            + " WHERE "
+                            + table[1]
+                            + " IN ("
+                            + placeholders
+                            + ")")) {
+                  for (int i = 0; i < ids.size(); i++) {
+                    statement.setObject(i + 1, ids.get(i));
+                  }
+
+                  int rows = statement.executeUpdate();
+
+                  if (rows > 0) {
+                    deletedRows.merge(table[0], (long) rows, Long::sum);
+                  }
+                }
+              }
+            });
+  }
+
+  /**
+   * Retrieve the batch of entities being archived, and the snapshots for the entities, and pass the
+   * archive entries for the entities to the consumer in the same order as the batch.
+   *
+   * @param tenantId the ID for the tenant
+   * @param batch the types of the entities keyed by entity ID
+   * @param consumer the consumer the archive entries are passed to
+   * @throws IOException if the JSON data for a snapshot could not be reconstructed
+   */
+  private void exportArchiveBatch(
+      UUID tenantId, Map<UUID, EntityType> batch, Consumer<PartyArchiveEntry> consumer)
+      throws IOException {
+    Set<EntityType> entityTypes = EnumSet.copyOf(batch.values());
+
+    /*
+     * Retrieve the latest versions of the entities before the entities themselves, so that a
+     * change made to an entity while the batch is being archived results in a later version than
+     * the version that is archived, and the entity is retained when the archive is purged.
+     */
+    Map<UUID, Integer> latestVersions = getLatestVersions(tenantId, entityTypes, batch.keySet());
+
+    Map<EntityType, List<UUID>> entityIdsByType = new EnumMap<>(EntityType.class);
+
+    batch.forEach(
+        (entityId, entityType) ->
+            entityIdsByType.computeIfAbsent(entityType, key -> new ArrayList<>()).add(entityId));
+
+    Map<UUID, Object> entities = new HashMap<>();
+
+    for (Map.Entry<EntityType, List<UUID>> entityIds : entityIdsByType.entrySet()) {
+      switch (entityIds.getKey()) {
+        case ASSOCIATION:
+          associationRepository
+              .findAllById(entityIds.getValue())
+              .forEach(association -> entities.put(association.getId(), association));
+          break;
+
+        case MANDATE:
+          mandateRepository
+              .findAllById(entityIds.getValue())
+              .forEach(mandate -> entities.put(mandate.getId(), mandate));
+          break;
+
+        case ORGANIZATION:
+          for (Organization organization :
+              organizationRepository.findAllById(entityIds.getValue())) {
+            initializeOrganization(organization, PartyFetchPlan.FULL);
+
+            entities.put(organization.getId(), organization);
+          }
+          break;
+
+        case PERSON:
+          for (Person person : personRepository.findAllById(entityIds.getValue())) {
+            initializePerson(person, PartyFetchPlan.FULL);
+
+            entities.put(person.getId(), person);
+          }
+          break;
+      }
+    }
+
+    Map<UUID, List<Snapshot>> snapshots = new HashMap<>();
+
+    for (Snapshot snapshot :
+        entityManager
+            .createQuery(
+                "select s from Snapshot s where s.tenantId = :tenantId"
+                    + " and s.entityType in :entityTypes and s.entityId in :entityIds"
+                    + " order by s.timestamp, s.id",
+                Snapshot.class)
+            .setParameter("tenantId", tenantId)
+            .setParameter("entityTypes", entityTypes)
+            .setParameter("entityIds", batch.keySet())
+            .getResultList()) {
+      snapshots.computeIfAbsent(snapshot.getEntityId(), key -> new ArrayList<>()).add(snapshot);
+    }
+
+    for (Map.Entry<UUID, EntityType> entity : batch.entrySet()) {
+      List<Snapshot> entitySnapshots =
+          snapshots.computeIfAbsent(entity.getKey(), key -> new ArrayList<>());
+
+      reconstructSnapshotData(tenantId, entity.getValue(), entity.getKey(), entitySnapshots);
+
+      consumer.accept(
+          new PartyArchiveEntry(
+              entity.getValue(),
+              entity.getKey(),
+              latestVersions.getOrDefault(entity.getKey(), 0),
+              entities.get(entity.getKey()),
+              entitySnapshots));
+    }
+  }
+
+  /**
+   * Archive the entities, retrieving the entities and their snapshots in batches.
+   *
+   * <p>The persistence context is cleared after each batch so the entities are not retained.
+   *
+   * @param tenantId the ID for the tenant
+   * @param entities the stream of the types of the entities keyed by entity ID, which is closed
+   *     once the entities have been archived
+   * @param consumer the consumer the archive entries are passed to
+   * @throws IOException if the JSON data for a snapshot could not be reconstructed
+   */
+  private void exportArchiveEntries(
+      UUID tenantId,
+      Stream<Map.Entry<UUID, EntityType>> entities,
+      Consumer<PartyArchiveEntry> consumer)
+      throws IOException {
+    int batchSize = Math.max(1, Math.min(exportBatchSize, MAX_IN_CLAUSE_PARAMETERS));
+
+    try (entities) {
+      Map<UUID, EntityType> batch = new LinkedHashMap<>();
+
+      Iterator<Map.Entry<UUID, EntityType>> iterator = entities.iterator();
+
+      while (iterator.hasNext()) {
+        Map.Entry<UUID, EntityType> entity = iterator.next();
+
+        batch.put(entity.getKey(), entity.getValue());
+
+        if ((batch.size() == batchSize) || (!iterator.hasNext())) {
+          exportArchiveBatch(tenantId, batch, consumer);
+
+          batch.clear();
+
+          entityManager.clear();
+        }
+      }
+    }
+  }
+
+  /**
+   * Retrieve the batch of parties being exported and pass them to the consumer in the same order as
+   * the batch.
+   *
+   * @param batch the IDs and types for the parties
+   * @param fetchPlan the fetch plan used to determine which information is retrieved for the
+   *     parties
+   * @param consumer the consumer the parties are passed to
+   */
+  private void exportPartiesBatch(
+      List<Object[]> batch, PartyFetchPlan fetchPlan, Consumer<PartyBase> consumer) {
+    List<UUID> organizationIds = new ArrayList<>();
+    List<UUID> personIds = new ArrayList<>();
+
+    for (Object[] row : batch) {
+      if (row[1] == PartyType.ORGANIZATION) {
+        organizationIds.add((UUID) row[0]);
+      } else if (row[1] == PartyType.PERSON) {
+        personIds.add((UUID) row[0]);
+      }
+    }
+
+    Map<UUID, PartyBase> parties = new HashMap<>();
+
+    if (!organizationIds.isEmpty()) {
+      for (Organization organization : organizationRepository.findAllById(organizationIds)) {
+        parties.put(organization.getId(), organization);
+      }
+    }
+
+    if (!personIds.isEmpty()) {
+      for (Person person : personRepository.findAllById(personIds)) {
+        parties.put(person.getId(), person);
+      }
+    }
+
+    for (Object[] row : batch) {
+      PartyBase party = parties.get((UUID) row[0]);
+
+      if (party instanceof Organization) {
+        initializeOrganization((Organization) party, fetchPlan);
+
+        consumer.accept(party);
+      } else if (party instanceof Person) {
+        initializePerson((Person) party, fetchPlan);
+
+        consumer.accept(party);
+      }
+    }
+  }
+
+  /**
+   * Returns the archive entries for the entities of the specified types.
+   *
+   * @param entries the archive entries
+   * @param entityTypes the types of entities
+   * @return the archive entries for the entities of the specified types
+   */
+  private List<PartyArchiveEntry> getArchiveEntries(
+      List<PartyArchiveEntry> entries, EntityType... entityTypes) {
+    Set<EntityType> types = EnumSet.copyOf(Arrays.asList(entityTypes));
+
+    return entries.stream()
+        .filter(entry -> types.contains(entry.getEntityType()))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Retrieve the IDs returned by the query for the tenant.
+   *
+   * @param queryString the JPQL query that retrieves the IDs, with a <b>tenantId</b> parameter
+   * @param tenantId the ID for the tenant
+   * @param maxResults the maximum number of IDs to retrieve
+   * @return the IDs returned by the query for the tenant
+   */
+  private List<UUID> getIdsForTenant(String queryString, UUID tenantId, int maxResults) {
+    return entityManager
+        .createQuery(queryString, UUID.class)
+        .setParameter("tenantId", tenantId)
+        .setMaxResults(maxResults)
+        .getResultList();
+  }
+
+  /**
+   * Retrieve the latest versions of the entities captured by snapshots.
+   *
+   * @param tenantId the ID for the tenant
+   * @param entityTypes the types of the entities
+   * @param entityIds the IDs for the entities
+   * @return the latest versions of the entities captured by snapshots keyed by entity ID, which
+   *     excludes the entities with no versioned snapshots
+   */
+  private Map<UUID, Integer> getLatestVersions(
+      UUID tenantId, Collection<EntityType> entityTypes, Collection<UUID> entityIds) {
+    Map<UUID, Integer> latestVersions = new HashMap<>();
+
+    for (Object[] row :
+        entityManager
+            .createQuery(
+                "select s.entityId, max(s.version) from Snapshot s where s.tenantId = :tenantId"
+                    + " and s.entityType in :entityTypes and s.entityId in :entityIds"
+                    + " group by s.entityId",
+                Object[].class)
+            .setParameter("tenantId", tenantId)
+            .setParameter("entityTypes", entityTypes)
+            .setParameter("entityIds", entityIds)
+            .getResultList()) {
+      if (row[1] != null) {
+        latestVersions.put((UUID) row[0], (Integer) row[1]);
+      }
+    }
+
+    return latestVersions;
+  }
+
+  /**
+   * Retrieve the results of the query for the tenant using a forward-only cursor.
+   *
+   * @param queryString the JPQL query, with a <b>tenantId</b> parameter
+   * @param resultClass the type of the query results
+   * @param tenantId the ID for the tenant
+   * @param <T> the type of the query results
+   * @return the stream of the query results, which must be closed
+   */
+  private <T> Stream<T> getResultStreamForTenant(
+      String queryString, Class<T> resultClass, UUID tenantId) {
+    return entityManager
+        .createQuery(queryString, resultClass)
+        .setParameter("tenantId", tenantId)
+        .setHint(QueryHints.HINT_FETCH_SIZE, exportBatchSize)
+        .setHint(QueryHints.HINT_READONLY, true)
+        .getResultStream();
+  }
+
+  /**
+   * Initialize the lazily loaded collections for the organization that are included in the fetch
+   * plan.
+   *
+   * <p>The collections are batch fetched, so initializing a collection for one of the organizations
+   * retrieved by a query also initializes the same collection for the other organizations retrieved
+   * by the query.
+   *
+   * @param organization the organization
+   * @param fetchPlan the fetch plan
+   */
+  private void initializeOrganization(Organization organization, PartyFetchPlan fetchPlan) {
+    if (fetchPlan == PartyFetchPlan.SUMMARY) {
+      return;
+    }
+
+    Hibernate.initialize(organization.getContactMechanisms());
+    Hibernate.initialize(organization.getExternalReferences());
+    Hibernate.initialize(organization.getIdentityDocuments());
+    Hibernate.initialize(organization.getPhysicalAddresses());
+    Hibernate.initialize(organization.getRoles());
+    Hibernate.initialize(organization.getStatuses());
+    Hibernate.initialize(organization.getTaxNumbers());
+
+    if (fetchPlan == PartyFetchPlan.FULL) {
+      Hibernate.initialize(organization.getAttributes());
+      Hibernate.initialize(organization.getIndustryAllocations());
+      Hibernate.initialize(organization.getLocks());
+      Hibernate.initialize(organization.getPreferences());
+      Hibernate.initialize(organization.getSegmentAllocations());
+    }
+  }
+
+  /**
+   * Initialize the lazily loaded collections for the person that are included in the fetch plan.
+   *
+   * <p>The collections are batch fetched, so initializing a collection for one of the persons
+   * retrieved by a query also initializes the same collection for the other persons retrieved by
+   * the query.
+   *
+   * @param person the person
+   * @param fetchPlan the fetch plan
+   */
+  private void initializePerson(Person person, PartyFetchPlan fetchPlan) {
+    if (fetchPlan == PartyFetchPlan.SUMMARY) {
+      return;
+    }
+
+    Hibernate.initialize(person.getContactMechanisms());
+    Hibernate.initialize(person.getExternalReferences());
+    Hibernate.initialize(person.getIdentityDocuments());
+    Hibernate.initialize(person.getPhysicalAddresses());
+    Hibernate.initialize(person.getRoles());
+    Hibernate.initialize(person.getStatuses());
+    Hibernate.initialize(person.getTaxNumbers());
+
+    if (fetchPlan == PartyFetchPlan.FULL) {
+      Hibernate.initialize(person.getAttributes());
+      Hibernate.initialize(person.getConsents());
+      Hibernate.initialize(person.getEducations());
+      Hibernate.initialize(person.getEmployments());
+      Hibernate.initialize(person.getLanguageProficiencies());
+      Hibernate.initialize(person.getLocks());
+      Hibernate.initialize(person.getNextOfKin());
+      Hibernate.initialize(person.getPreferences());
+      Hibernate.initialize(person.getResidencePermits());
+      Hibernate.initialize(person.getSegmentAllocations());
+      Hibernate.initialize(person.getSkills());
+      Hibernate.initialize(person.getSourcesOfFunds());
+      Hibernate.initialize(person.getSourcesOfWealth());
+    }
+  }
+
+  /**
+   * Delete the archived entities of one kind, i.e. mandates, associations or parties, and their
+   * snapshots, retaining the entities that were changed after they were archived.
+   *
+   * @param tenantId the ID for the tenant
+   * @param entries the archive entries for the entities
+   * @param lockQueryString the JPQL query, with <b>tenantId</b> and <b>ids</b> parameters, that
+   *     retrieves the entities so that their rows can be locked
+   * @param entityClass the entity class
+   * @param idFunction the function that returns the ID for an entity
+   * @param tables the tables and ID columns the rows for the entities are deleted from, in order
+   * @param parties are the entities parties, which are retained if they are still referenced by an
+   *     association or mandate
+   * @param deletedRows the number of rows deleted from each table, keyed by table name, which is
+   *     updated with the rows deleted for the entities
+   * @param deletedIds the optional list that is populated with the IDs for the entities that were
+   *     deleted
+   * @param retainedEntityIds the list that is populated with the IDs for the entities that were
+   *     retained
+   * @param <T> the entity type
+   */
+  private <T> void purgeArchivedEntities(
+      UUID tenantId,
+      List<PartyArchiveEntry> entries,
+      String lockQueryString,
+      Class<T> entityClass,
+      Function<T, UUID> idFunction,
+      String[][] tables,
+      boolean parties,
+      Map<String, Long> deletedRows,
+      List<UUID> deletedIds,
+      List<UUID> retainedEntityIds) {
+    if (entries.isEmpty()) {
+      return;
+    }
+
+    List<UUID> ids =
+        entries.stream().map(PartyArchiveEntry::getEntityId).collect(Collectors.toList());
+
+    // Lock the rows for the entities that still exist so they cannot be changed until deleted
+    Set<UUID> existingIds =
+        entityManager
+            .createQuery(lockQueryString, entityClass)
+            .setParameter("tenantId", tenantId)
+            .setParameter("ids", ids)
+            .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+            .getResultStream()
+            .map(idFunction)
+            .collect(Collectors.toSet());
+
+    Map<UUID, Integer> latestVersions =
+        getLatestVersions(
+            tenantId,
+            entries.stream().map(PartyArchiveEntry::getEntityType).collect(Collectors.toSet()),
+            ids);
+
+    // Retain the entities with changes that have not been written to the snapshot store yet
+    Set<UUID> retainedIds =
+        new HashSet<>(
+            entityManager
+                .createQuery(
+                    "select distinct ps.entityId from PendingSnapshot ps"
+                        + " where ps.tenantId = :tenantId and ps.entityId in :ids",
+                    UUID.class)
+                .setParameter("tenantId", tenantId)
+                .setParameter("ids", ids)
+                .getResultList());
+
+    /*
+     * Retain the parties that are still referenced by an association or mandate, e.g. one that was
+     * created after the archive, since these would otherwise be deleted with the party.
+     */
+    if (parties && (!existingIds.isEmpty())) {
+      for (String queryString :
+          List.of(
+              "select a.firstPartyId from Association a where a.firstPartyId in :ids",
+              "select a.secondPartyId from Association a where a.secondPartyId in :ids",
+              "select m.partyId from Mandatary m where m.partyId in :ids")) {
+        retainedIds.addAll(
+            entityManager
+                .createQuery(queryString, UUID.class)
+                .setParameter("ids", existingIds)
+                .getResultList());
+      }
+    }
+
+    List<UUID> purgeIds = new ArrayList<>();
+
+    for (PartyArchiveEntry entry : entries) {
+      if (retainedIds.contains(entry.getEntityId())
+          || (latestVersions.getOrDefault(entry.getEntityId(), 0) != entry.getVersion())) {
+        retainedEntityIds.add(entry.getEntityId());
+      } else {
+        purgeIds.add(entry.getEntityId());
+      }
+    }
+
+    if (purgeIds.isEmpty()) {
+      return;
+    }
+
+    deleteRows(tables, purgeIds, deletedRows);
+
+    List<UUID> snapshotIds =
+        entityManager
+            .createQuery(
+                "select s.id from Snapshot s where s.tenantId = :tenantId"
+                    + " and s.entityType in :entityTypes and s.entityId in :entityIds",
+                UUID.class)
+            .setParameter("tenantId", tenantId)
+            .setParameter(
+                "entityTypes",
+                entries.stream().map(PartyArchiveEntry::getEntityType).collect(Collectors.toSet()))
+            .setParameter("entityIds", purgeIds)
+            .getResultList();
+
+    for (int i = 0; i < snapshotIds.size(); i += MAX_IN_CLAUSE_PARAMETERS) {
+      deleteRows(
+          PURGE_SNAPSHOT_TABLES,
+          snapshotIds.subList(i, Math.min(i + MAX_IN_CLAUSE_PARAMETERS, snapshotIds.size())),
+          deletedRows);
+    }
+
+    if (deletedIds != null) {
+      purgeIds.stream().filter(existingIds::contains).forEach(deletedIds::add);
+    }
+  }
+
+  /**
+   * Reconstruct the JSON data for the snapshots for the entity.
+   *
+   * <p>The JSON data for a checkpoint snapshot is decompressed. The JSON data for every other
+   * versioned snapshot is reconstructed by applying its JSON Patch to the JSON data for the most
+   * recent checkpoint snapshot, which is retrieved once for all the snapshots that share it.
+   *
+   * @param tenantId the ID for the tenant
+   * @param entityType the type of entity
+   * @param entityId the ID for the entity
+   * @param snapshots the snapshots for the entity
+   * @throws IOException if the JSON data for a snapshot could not be reconstructed
+   */
+  private void reconstructSnapshotData(
+      UUID tenantId, EntityType entityType, UUID entityId, List<Snapshot> snapshots)
+      throws IOException {
+    int minDeltaVersion = Integer.MAX_VALUE;
+    int maxDeltaVersion = Integer.MIN_VALUE;
+
+    for (Snapshot snapshot : snapshots) {
+      if (snapshot.getContent() == null) {
+        snapshot.setData(snapshot.getUncompressedData());
+      } else if (snapshot.isCheckpoint()) {
+        snapshot.setData(
+            new String(GZIPUtil.decompress(snapshot.getContent()), StandardCharsets.UTF_8));
+      } else {
+        minDeltaVersion = Math.min(minDeltaVersion, snapshot.getVersion());
+        maxDeltaVersion = Math.max(maxDeltaVersion, snapshot.getVersion());
+      }
+    }
+
+    if (minDeltaVersion > maxDeltaVersion) {
+      return;
+    }
+
+    List<Snapshot> baseCheckpoints =
+        snapshotRepository.findLatestCheckpoints(
+            tenantId, entityType, entityId, minDeltaVersion, PageRequest.of(0, 1));
+
+    if (baseCheckpoints.isEmpty()) {
+      throw new IllegalStateException(
+          "Failed to find the checkpoint snapshot for version ("
+              + minDeltaVersion
+              + ") of the entity ("
+              + entityId
+              + ")");
+    }
+
+    TreeMap<Integer, JsonNode> checkpoints = new TreeMap<>();
+
+    for (Snapshot checkpoint :
+        snapshotRepository.findCheckpoints(
+            tenantId, entityType, entityId, baseCheckpoints.get(0).getVersion(), maxDeltaVersion)) {
+      checkpoints.put(
+          checkpoint.getVersion(),
+          objectMapper.readTree(GZIPUtil.decompress(checkpoint.getContent())));
+    }
+
+    for (Snapshot snapshot : snapshots) {
+      if ((snapshot.getContent() != null) && (!snapshot.isCheckpoint())) {
+        JsonNode checkpointData = checkpoints.floorEntry(snapshot.getVersion()).getValue();
+
+        JsonNode patch = objectMapper.readTree(GZIPUtil.decompress(snapshot.getContent()));
+
+        snapshot.setData(objectMapper.writeValueAsString(JsonPatch.apply(checkpointData, patch)));
+      }
+    }
+  }
 }
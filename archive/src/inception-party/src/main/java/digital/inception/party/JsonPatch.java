@@ -0,0 +1,212 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The <b>JsonPatch</b> class creates and applies RFC 6902 JSON Patch documents using the
+ * <i>add</i>, <i>remove</i> and <i>replace</i> operations.
+ *
+ * <p>Objects are compared field by field and arrays element by element, with elements appended to
+ * or removed from the end of an array when its length changes, so that a small change to a large
+ * document produces a small patch.
+ *
+ * @author Marcus Portmann
+ */
+final class JsonPatch {
+
+  private JsonPatch() {}
+
+  /**
+   * Apply the JSON Patch to the source document.
+   *
+   * @param source the source document, which is not modified
+   * @param patch the JSON Patch
+   * @return the patched document
+   * @throws IllegalArgumentException if the JSON Patch could not be applied
+   */
+  static JsonNode apply(JsonNode source, JsonNode patch) {
+    JsonNode target = source.deepCopy();
+
+    for (JsonNode operation : patch) {
+      String op = operation.path("op").asText();
+      List<String> tokens = parsePath(operation.path("path").asText());
+      JsonNode value = operation.get("value");
+
+      if (tokens.isEmpty()) {
+        if (op.equals("add") || op.equals("replace")) {
+          target = value.deepCopy();
+          continue;
+        }
+
+        throw new IllegalArgumentException("Invalid JSON Patch operation (" + op + ") for root");
+      }
+
+      JsonNode parent = target;
+
+      for (String token : tokens.subList(0, tokens.size() - 1)) {
+        parent = parent.isArray() ? parent.get(Integer.parseInt(token)) : parent.get(token);
+
+        if (parent == null) {
+          throw new IllegalArgumentException(
+              "Invalid JSON Patch path (" + operation.path("path").asText() + ")");
+        }
+      }
+
+      String last = tokens.get(tokens.size() - 1);
+
+      if (parent instanceof ObjectNode) {
+        ObjectNode object = (ObjectNode) parent;
+
+        switch (op) {
+          case "add":
+          case "replace":
+            object.set(last, value.deepCopy());
+            break;
+          case "remove":
+            object.remove(last);
+            break;
+          default:
+            throw new IllegalArgumentException("Unsupported JSON Patch operation (" + op + ")");
+        }
+      } else if (parent instanceof ArrayNode) {
+        ArrayNode array = (ArrayNode) parent;
+
+        switch (op) {
+          case "add":
+            if (last.equals("-")) {
+              array.add(value.deepCopy());
+            } else {
+              array.insert(Integer.parseInt(last), value.deepCopy());
+            }
+            break;
+          case "replace":
+            array.set(Integer.parseInt(last), value.deepCopy());
+            break;
+          case "remove":
+            array.remove(Integer.parseInt(last));
+            break;
+          default:
+            throw new IllegalArgumentException("Unsupported JSON Patch operation (" + op + ")");
+        }
+      } else {
+        throw new IllegalArgumentException(
+            "Invalid JSON Patch path (" + operation.path("path").asText() + ")");
+      }
+    }
+
+    return target;
+  }
+
+  /**
+   * Create the JSON Patch that transforms the source document into the target document.
+   *
+   * @param source the source document
+   * @param target the target document
+   * @return the JSON Patch
+   */
+  static ArrayNode diff(JsonNode source, JsonNode target) {
+    ArrayNode patch = JsonNodeFactory.instance.arrayNode();
+
+    diff("", source, target, patch);
+
+    return patch;
+  }
+
+  private static void diff(String path, JsonNode source, JsonNode target, ArrayNode patch) {
+    if (source.equals(target)) {
+      return;
+    }
+
+    if (source.isObject() && target.isObject()) {
+      Iterator<String> sourceFieldNames = source.fieldNames();
+
+      while (sourceFieldNames.hasNext()) {
+        String fieldName = sourceFieldNames.next();
+
+        if (!target.has(fieldName)) {
+          patch.addObject().put("op", "remove").put("path", path + "/" + escape(fieldName));
+        }
+      }
+
+      Iterator<Map.Entry<String, JsonNode>> targetFields = target.fields();
+
+      while (targetFields.hasNext()) {
+        Map.Entry<String, JsonNode> targetField = targetFields.next();
+
+        String fieldPath = path + "/" + escape(targetField.getKey());
+        JsonNode sourceValue = source.get(targetField.getKey());
+
+        if (sourceValue == null) {
+          patch
+              .addObject()
+              .put("op", "add")
+              .put("path", fieldPath)
+              .set("value", targetField.getValue());
+        } else {
+          diff(fieldPath, sourceValue, targetField.getValue(), patch);
+        }
+      }
+    } else if (source.isArray() && target.isArray()) {
+      int common = Math.min(source.size(), target.size());
+
+      for (int i = 0; i < common; i++) {
+        diff(path + "/" + i, source.get(i), target.get(i), patch);
+      }
+
+      for (int i = common; i < target.size(); i++) {
+        patch.addObject().put("op", "add").put("path", path + "/-").set("value", target.get(i));
+      }
+
+      for (int i = source.size() - 1; i >= common; i--) {
+        patch.addObject().put("op", "remove").put("path", path + "/" + i);
+      }
+    } else {
+      patch.addObject().put("op", "replace").put("path", path).set("value", target);
+    }
+  }
+
+  private static String escape(String token) {
+    return token.replace("~", "~0").replace("/", "~1");
+  }
+
+  private static List<String> parsePath(String path) {
+    List<String> tokens = new ArrayList<>();
+
+    if (path.isEmpty()) {
+      return tokens;
+    }
+
+    if (path.charAt(0) != '/') {
+      throw new IllegalArgumentException("Invalid JSON Patch path (" + path + ")");
+    }
+
+    for (String token : path.substring(1).split("/", -1)) {
+      tokens.add(token.replace("~1", "/").replace("~0", "~"));
+    }
+
+    return tokens;
+  }
+}
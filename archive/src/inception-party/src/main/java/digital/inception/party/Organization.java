@@ -48,6 +48,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.util.StringUtils;
 
 /**
@@ -133,8 +134,9 @@ public class Organization extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<Attribute> attributes = new HashSet<>();
 
@@ -143,8 +145,9 @@ public class Organization extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<ContactMechanism> contactMechanisms = new HashSet<>();
 
@@ -153,8 +156,9 @@ public class Organization extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<ExternalReference> externalReferences = new HashSet<>();
 
@@ -163,8 +167,9 @@ public class Organization extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<IdentityDocument> identityDocuments = new HashSet<>();
 
@@ -173,8 +178,9 @@ public class Organization extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "organization",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("system, industry")
   private final Set<IndustryAllocation> industryAllocations = new HashSet<>();
 
@@ -183,8 +189,9 @@ public class Organization extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<Lock> locks = new HashSet<>();
 
@@ -193,8 +200,9 @@ public class Organization extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   private final Set<PhysicalAddress> physicalAddresses = new HashSet<>();
 
   /** The preferences for the organization. */
@@ -202,8 +210,9 @@ public class Organization extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<Preference> preferences = new HashSet<>();
 
@@ -212,8 +221,9 @@ public class Organization extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<Role> roles = new HashSet<>();
 
@@ -222,8 +232,9 @@ public class Organization extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("segment")
   private final Set<SegmentAllocation> segmentAllocations = new HashSet<>();
 
@@ -232,8 +243,9 @@ public class Organization extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<Status> statuses = new HashSet<>();
 
@@ -242,8 +254,9 @@ public class Organization extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<TaxNumber> taxNumbers = new HashSet<>();
 
@@ -500,6 +513,9 @@ public class Organization extends PartyBase implements Serializable {
    */
   @Schema(description = "The attributes for the organization")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("attributeReference")
   @XmlElementWrapper(name = "Attributes")
   @XmlElement(name = "Attribute")
@@ -545,6 +561,9 @@ public class Organization extends PartyBase implements Serializable {
    */
   @Schema(description = "The contact mechanisms for the organization")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("contactMechanismReference")
   @XmlElementWrapper(name = "ContactMechanisms")
   @XmlElement(name = "ContactMechanism")
@@ -588,6 +607,9 @@ public class Organization extends PartyBase implements Serializable {
    */
   @Schema(description = "The external references for the organization")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("externalReferenceReference")
   @XmlElementWrapper(name = "ExternalReferences")
   @XmlElement(name = "ExternalReference")
@@ -640,6 +662,9 @@ public class Organization extends PartyBase implements Serializable {
    */
   @Schema(description = "The identity documents for the organization")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("identityDocumentReference")
   @XmlElementWrapper(name = "IdentityDocuments")
   @XmlElement(name = "IdentityDocument")
@@ -674,6 +699,9 @@ public class Organization extends PartyBase implements Serializable {
    */
   @Schema(description = "The industry allocations for the organization")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("industryAllocationReference")
   @XmlElementWrapper(name = "IndustryAllocations")
   @XmlElement(name = "IndustryAllocation")
@@ -699,6 +727,9 @@ public class Organization extends PartyBase implements Serializable {
    */
   @Schema(description = "The locks applied to the organization")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("lockReference")
   @XmlElementWrapper(name = "Locks")
   @XmlElement(name = "Lock")
@@ -757,6 +788,9 @@ public class Organization extends PartyBase implements Serializable {
    */
   @Schema(description = "The physical addresses for the organization")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("physicalAddressReference")
   @XmlElementWrapper(name = "PhysicalAddresses")
   @XmlElement(name = "PhysicalAddress")
@@ -784,6 +818,9 @@ public class Organization extends PartyBase implements Serializable {
    */
   @Schema(description = "The preferences for the organization")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("preferenceReference")
   @XmlElementWrapper(name = "Preferences")
   @XmlElement(name = "Preference")
@@ -810,6 +847,9 @@ public class Organization extends PartyBase implements Serializable {
    */
   @Schema(description = "The roles assigned directly to the organization")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("roleReference")
   @XmlElementWrapper(name = "Roles")
   @XmlElement(name = "Role")
@@ -837,6 +877,9 @@ public class Organization extends PartyBase implements Serializable {
    */
   @Schema(description = "The segment allocations for the organization")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("segmentAllocationReference")
   @XmlElementWrapper(name = "SegmentAllocations")
   @XmlElement(name = "SegmentAllocation")
@@ -862,6 +905,9 @@ public class Organization extends PartyBase implements Serializable {
    */
   @Schema(description = "The statuses assigned to the organization")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("statusReference")
   @XmlElementWrapper(name = "Statuses")
   @XmlElement(name = "Status")
@@ -889,6 +935,9 @@ public class Organization extends PartyBase implements Serializable {
    */
   @Schema(description = "The tax numbers for the organization")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("taxNumberReference")
   @XmlElementWrapper(name = "TaxNumbers")
   @XmlElement(name = "TaxNumber")
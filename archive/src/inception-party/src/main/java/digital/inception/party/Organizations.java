@@ -47,7 +47,8 @@ import javax.xml.bind.annotation.XmlType;
   "sortBy",
   "sortDirection",
   "pageIndex",
-  "pageSize"
+  "pageSize",
+  "nextCursor"
 })
 @XmlRootElement(name = "Organizations", namespace = "http://inception.digital/party")
 @XmlType(
@@ -61,7 +62,8 @@ import javax.xml.bind.annotation.XmlType;
       "sortBy",
       "sortDirection",
       "pageIndex",
-      "pageSize"
+      "pageSize",
+      "nextCursor"
     })
 @XmlAccessorType(XmlAccessType.FIELD)
 @SuppressWarnings({"unused"})
@@ -82,6 +84,15 @@ public class Organizations implements Serializable {
   @XmlElement(name = "Organization", required = true)
   private List<Organization> organizations;
 
+  /** The optional opaque cursor used to retrieve the next page when keyset pagination is used. */
+  @Schema(
+      description =
+          "The optional opaque cursor used to retrieve the next page when keyset pagination is"
+              + " used")
+  @JsonProperty
+  @XmlElement(name = "NextCursor")
+  private String nextCursor;
+
   /** The optional page index. */
   @Schema(description = "The optional page index")
   @JsonProperty
@@ -114,8 +125,15 @@ public class Organizations implements Serializable {
   @XmlElement(name = "TenantId", required = true)
   private UUID tenantId;
 
-  /** The total number of organizations. */
-  @Schema(description = "The total number of organizations", required = true)
+  /**
+   * The total number of organizations or -1 if the total was not retrieved when using keyset
+   * pagination.
+   */
+  @Schema(
+      description =
+          "The total number of organizations or -1 if the total was not retrieved when using keyset"
+              + " pagination",
+      required = true)
   @JsonProperty(required = true)
   @XmlElement(name = "Total", required = true)
   private long total;
@@ -154,6 +172,38 @@ public class Organizations implements Serializable {
     this.pageSize = pageSize;
   }
 
+  /**
+   * Constructs a new <b>Organizations</b>.
+   *
+   * @param tenantId the ID for the tenant the organizations are associated with
+   * @param organizations the organizations
+   * @param total the total number of organizations or -1 if the total was not retrieved
+   * @param filter the optional filter that was applied to the organizations
+   * @param sortBy the optional method used to sort the organizations e.g. by name
+   * @param sortDirection the optional sort direction that was applied to the organizations
+   * @param pageSize the optional page size
+   * @param nextCursor the optional opaque cursor used to retrieve the next page when keyset
+   *     pagination is used
+   */
+  public Organizations(
+      UUID tenantId,
+      List<Organization> organizations,
+      long total,
+      String filter,
+      OrganizationSortBy sortBy,
+      SortDirection sortDirection,
+      Integer pageSize,
+      String nextCursor) {
+    this.tenantId = tenantId;
+    this.organizations = organizations;
+    this.total = total;
+    this.filter = filter;
+    this.sortBy = sortBy;
+    this.sortDirection = sortDirection;
+    this.pageSize = pageSize;
+    this.nextCursor = nextCursor;
+  }
+
   /**
    * Returns the optional filter that was applied to the organizations.
    *
@@ -172,6 +222,17 @@ public class Organizations implements Serializable {
     return organizations;
   }
 
+  /**
+   * Returns the optional opaque cursor used to retrieve the next page when keyset pagination is
+   * used.
+   *
+   * @return the optional opaque cursor used to retrieve the next page when keyset pagination is
+   *     used or <b>null</b> if there are no more pages
+   */
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
   /**
    * Returns the optional page index.
    *
@@ -220,7 +281,8 @@ public class Organizations implements Serializable {
   /**
    * Returns the total number of organizations.
    *
-   * @return the total number of organizations
+   * @return the total number of organizations or -1 if the total was not retrieved when using
+   *     keyset pagination
    */
   public Long getTotal() {
     return total;
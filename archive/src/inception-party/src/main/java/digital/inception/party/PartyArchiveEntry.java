@@ -0,0 +1,148 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The <b>PartyArchiveEntry</b> class holds an entity, i.e. a mandate, association, organization or
+ * person, for a tenant and the snapshots for the entity, which are written to the archive for a
+ * purge of the party data for the tenant as a single line of JSON.
+ *
+ * <p>The latest version of the entity captured by a snapshot is recorded before the entity is
+ * retrieved, which allows the purge to determine whether the entity has changed since it was
+ * archived. An entry for an entity that has been deleted, but still has snapshots, does not include
+ * the entity.
+ *
+ * @author Marcus Portmann
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"entityType", "entityId", "version", "entity", "snapshots"})
+@SuppressWarnings({"unused"})
+public class PartyArchiveEntry implements Serializable {
+
+  private static final long serialVersionUID = 1000000;
+
+  /** The entity. */
+  @JsonProperty private Object entity;
+
+  /** The ID for the entity. */
+  @JsonProperty(required = true)
+  private UUID entityId;
+
+  /** The type of entity. */
+  @JsonProperty(required = true)
+  private EntityType entityType;
+
+  /** The snapshots for the entity. */
+  @JsonProperty private List<Snapshot> snapshots;
+
+  /**
+   * The latest version of the entity captured by a snapshot when the entity was archived, or zero
+   * if no versioned snapshots existed for the entity.
+   */
+  @JsonProperty(required = true)
+  private int version;
+
+  /** Constructs a new <b>PartyArchiveEntry</b>. */
+  public PartyArchiveEntry() {}
+
+  /**
+   * Constructs a new <b>PartyArchiveEntry</b> that identifies an archived entity without the entity
+   * or its snapshots.
+   *
+   * @param entityType the type of entity
+   * @param entityId the ID for the entity
+   * @param version the latest version of the entity captured by a snapshot when the entity was
+   *     archived
+   */
+  public PartyArchiveEntry(EntityType entityType, UUID entityId, int version) {
+    this.entityType = entityType;
+    this.entityId = entityId;
+    this.version = version;
+  }
+
+  /**
+   * Constructs a new <b>PartyArchiveEntry</b>.
+   *
+   * @param entityType the type of entity
+   * @param entityId the ID for the entity
+   * @param version the latest version of the entity captured by a snapshot when the entity was
+   *     archived
+   * @param entity the entity or <b>null</b> if the entity no longer exists
+   * @param snapshots the snapshots for the entity
+   */
+  public PartyArchiveEntry(
+      EntityType entityType, UUID entityId, int version, Object entity, List<Snapshot> snapshots) {
+    this.entityType = entityType;
+    this.entityId = entityId;
+    this.version = version;
+    this.entity = entity;
+    this.snapshots = snapshots;
+  }
+
+  /**
+   * Returns the entity.
+   *
+   * @return the entity or <b>null</b> if the entity no longer exists or was not retrieved
+   */
+  public Object getEntity() {
+    return entity;
+  }
+
+  /**
+   * Returns the ID for the entity.
+   *
+   * @return the ID for the entity
+   */
+  public UUID getEntityId() {
+    return entityId;
+  }
+
+  /**
+   * Returns the type of entity.
+   *
+   * @return the type of entity
+   */
+  public EntityType getEntityType() {
+    return entityType;
+  }
+
+  /**
+   * Returns the snapshots for the entity.
+   *
+   * @return the snapshots for the entity or <b>null</b> if the snapshots were not retrieved
+   */
+  public List<Snapshot> getSnapshots() {
+    return snapshots;
+  }
+
+  /**
+   * Returns the latest version of the entity captured by a snapshot when the entity was archived.
+   *
+   * @return the latest version of the entity captured by a snapshot when the entity was archived,
+   *     or zero if no versioned snapshots existed for the entity
+   */
+  public int getVersion() {
+    return version;
+  }
+}
@@ -0,0 +1,805 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * The <b>PartyAssociationGraph</b> class provides an in-process adjacency index over the
+ * associations between parties, which is partitioned by tenant, and supports the breadth-first and
+ * depth-first traversal of the associations for a party.
+ *
+ * <p>Parties and association types are assigned integer indexes when they are added to the index
+ * for a tenant and the associations are held in parallel primitive arrays, with the associations
+ * for each party held as an array of association indexes. This keeps the memory required for each
+ * association small and allows a traversal to follow associations without any object lookups.
+ * Associations are followed in both directions and a party is only held in the index while it has
+ * at least one association.
+ *
+ * <p>The index for a tenant is built from the party data store the first time it is required and is
+ * kept up to date as associations are created, updated and deleted, and as parties are deleted, on
+ * this node. The changes made on other nodes are reflected once the index is rebuilt, which is
+ * requested when the rebuild interval has elapsed since the index was built.
+ *
+ * @author Marcus Portmann
+ */
+final class PartyAssociationGraph {
+
+  /** The initial capacity of the arrays for the index for a tenant. */
+  private static final int INITIAL_CAPACITY = 64;
+
+  /** The indexes for the tenants. */
+  private final TenantIndexes<TenantGraph> tenantGraphs;
+
+  /**
+   * Constructs a new <b>PartyAssociationGraph</b>.
+   *
+   * @param rebuildInterval the number of milliseconds after which the index for a tenant is rebuilt
+   *     from the data store, so that the changes made on other nodes are reflected in the index, or
+   *     zero if the index is never rebuilt
+   */
+  PartyAssociationGraph(long rebuildInterval) {
+    this.tenantGraphs = new TenantIndexes<>(TenantGraph::new, rebuildInterval);
+  }
+
+  /**
+   * Add or replace the association in the index for the tenant.
+   *
+   * <p>If the index for the tenant has not been built the association is ignored, since it will be
+   * retrieved from the data store when the index is built.
+   *
+   * @param tenantId the ID for the tenant
+   * @param link the association
+   */
+  void add(UUID tenantId, AssociationGraphLink link) {
+    tenantGraphs.update(tenantId, tenantGraph -> tenantGraph.add(link));
+  }
+
+  /**
+   * Build or rebuild the index for the tenant.
+   *
+   * <p>The index is built into a new instance, which replaces the existing index for the tenant
+   * once all the associations have been loaded, so traversals are not blocked while the index is
+   * rebuilt.
+   *
+   * @param tenantId the ID for the tenant
+   * @param loader the loader used to retrieve the associations for the tenant from the data store
+   * @param force should the index be rebuilt if it has already been built
+   * @throws Exception if the associations for the tenant could not be loaded
+   */
+  void build(UUID tenantId, LinkLoader loader, boolean force) throws Exception {
+    tenantGraphs.build(tenantId, tenantGraph -> loader.load(tenantGraph::add), force);
+  }
+
+  /**
+   * Returns whether the index for the tenant has been built.
+   *
+   * @param tenantId the ID for the tenant
+   * @return <b>true</b> if the index for the tenant has been built or <b>false</b> otherwise
+   */
+  boolean isBuilt(UUID tenantId) {
+    return tenantGraphs.isBuilt(tenantId);
+  }
+
+  /**
+   * Withdraw the rebuild requested for the index for the tenant because it could not be scheduled.
+   *
+   * @param tenantId the ID for the tenant
+   */
+  void rebuildRejected(UUID tenantId) {
+    tenantGraphs.rebuildRejected(tenantId);
+  }
+
+  /**
+   * Remove the association from the index.
+   *
+   * @param tenantId the ID for the tenant
+   * @param associationId the ID for the association
+   */
+  void remove(UUID tenantId, UUID associationId) {
+    tenantGraphs.update(
+        tenantId,
+        tenantGraph -> {
+          Integer edge = tenantGraph.edgeIndexes.get(associationId);
+
+          if (edge != null) {
+            tenantGraph.removeEdge(edge);
+          }
+        });
+  }
+
+  /**
+   * Remove the party, and all the associations for the party, from the index.
+   *
+   * @param tenantId the ID for the tenant
+   * @param partyId the ID for the party
+   */
+  void removeParty(UUID tenantId, UUID partyId) {
+    tenantGraphs.update(
+        tenantId,
+        tenantGraph -> {
+          Integer node = tenantGraph.nodeIndexes.get(partyId);
+
+          if (node != null) {
+            // The node is released when its last edge is removed
+            while (tenantGraph.nodePartyIds[node] != null) {
+              tenantGraph.removeEdge(
+                  tenantGraph.nodeEdges[node][tenantGraph.nodeDegrees[node] - 1]);
+            }
+          }
+        });
+  }
+
+  /**
+   * Returns whether the index for the tenant must be rebuilt because the rebuild interval has
+   * elapsed since it was built, in which case the caller is responsible for rebuilding the index or
+   * invoking {@link #rebuildRejected(UUID)}.
+   *
+   * @param tenantId the ID for the tenant
+   * @return <b>true</b> if the caller must rebuild the index for the tenant or <b>false</b>
+   *     otherwise
+   */
+  boolean requestRebuild(UUID tenantId) {
+    return tenantGraphs.requestRebuild(tenantId);
+  }
+
+  /**
+   * Traverse the associations for the party.
+   *
+   * <p>A party is visited at the smallest depth at which it can be reached within the maximum
+   * depth. The associations in the graph are the associations, with one of the specified types,
+   * followed from the visited parties that are less than the maximum depth from the party the
+   * traversal started from, and which link two visited parties. An association that is not the
+   * association through which a party was first reached closes a cycle.
+   *
+   * @param tenantId the ID for the tenant
+   * @param partyId the ID for the party the traversal starts from
+   * @param maxDepth the maximum number of associations to follow from the party
+   * @param associationTypes the codes for the association types to follow, or an empty collection
+   *     to follow all associations
+   * @param traversalOrder the order in which the parties are visited
+   * @param maxParties the maximum number of parties to visit
+   * @return the association graph
+   */
+  AssociationGraph traverse(
+      UUID tenantId,
+      UUID partyId,
+      int maxDepth,
+      Collection<String> associationTypes,
+      AssociationTraversalOrder traversalOrder,
+      int maxParties) {
+    return tenantGraphs.read(
+        tenantId,
+        tenantGraph ->
+            traverse(
+                tenantGraph,
+                tenantId,
+                partyId,
+                maxDepth,
+                associationTypes,
+                traversalOrder,
+                maxParties),
+        () -> singlePartyGraph(tenantId, partyId, maxDepth, traversalOrder));
+  }
+
+  /**
+   * Returns the association graph containing only the party the traversal started from.
+   *
+   * @param tenantId the ID for the tenant
+   * @param partyId the ID for the party the traversal starts from
+   * @param maxDepth the maximum number of associations to follow from the party
+   * @param traversalOrder the order in which the parties are visited
+   * @return the association graph containing only the party
+   */
+  private static AssociationGraph singlePartyGraph(
+      UUID tenantId, UUID partyId, int maxDepth, AssociationTraversalOrder traversalOrder) {
+    return new AssociationGraph(
+        tenantId,
+        partyId,
+        maxDepth,
+        traversalOrder,
+        List.of(new AssociationGraphParty(partyId, 0, null, null)),
+        List.of(),
+        false,
+        false);
+  }
+
+  /**
+   * Traverse the associations for the party using the index for a tenant.
+   *
+   * @param tenantGraph the index for the tenant
+   * @param tenantId the ID for the tenant
+   * @param partyId the ID for the party the traversal starts from
+   * @param maxDepth the maximum number of associations to follow from the party
+   * @param associationTypes the codes for the association types to follow, or an empty collection
+   *     to follow all associations
+   * @param traversalOrder the order in which the parties are visited
+   * @param maxParties the maximum number of parties to visit
+   * @return the association graph
+   */
+  private static AssociationGraph traverse(
+      TenantGraph tenantGraph,
+      UUID tenantId,
+      UUID partyId,
+      int maxDepth,
+      Collection<String> associationTypes,
+      AssociationTraversalOrder traversalOrder,
+      int maxParties) {
+    Integer startNode = tenantGraph.nodeIndexes.get(partyId);
+
+    if (startNode == null) {
+      return singlePartyGraph(tenantId, partyId, maxDepth, traversalOrder);
+    }
+
+    BitSet typeFilter = null;
+
+    if (!associationTypes.isEmpty()) {
+      typeFilter = new BitSet();
+
+      for (String associationType : associationTypes) {
+        Integer type = tenantGraph.typeIndexes.get(associationType);
+
+        if (type != null) {
+          typeFilter.set(type);
+        }
+      }
+    }
+
+    Traversal traversal = new Traversal(tenantGraph, typeFilter, maxDepth, maxParties);
+
+    if (traversalOrder == AssociationTraversalOrder.DEPTH_FIRST) {
+      traversal.depthFirst(startNode);
+    } else {
+      traversal.breadthFirst(startNode);
+    }
+
+    return traversal.toAssociationGraph(tenantId, partyId, traversalOrder);
+  }
+
+  /**
+   * The <b>LinkLoader</b> interface is implemented by functions that retrieve all the associations
+   * for a tenant from the data store.
+   */
+  @FunctionalInterface
+  interface LinkLoader {
+
+    /**
+     * Load the associations.
+     *
+     * @param consumer the consumer the associations are passed to
+     * @throws Exception if the associations could not be loaded
+     */
+    void load(Consumer<AssociationGraphLink> consumer) throws Exception;
+  }
+
+  /**
+   * The <b>IntIntMap</b> class provides a minimal open-addressing hash map with non-negative
+   * <b>int</b> keys and <b>int</b> values, which avoids boxing the node and edge indexes visited by
+   * a traversal.
+   */
+  private static final class IntIntMap {
+
+    private int[] keys = new int[32];
+
+    private int size;
+
+    private int[] values = new int[32];
+
+    private IntIntMap() {
+      Arrays.fill(keys, -1);
+    }
+
+    private int get(int key, int defaultValue) {
+      int mask = keys.length - 1;
+
+      for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+        if (keys[i] == key) {
+          return values[i];
+        } else if (keys[i] == -1) {
+          return defaultValue;
+        }
+      }
+    }
+
+    private int mix(int key) {
+      int hash = key * 0x9E3779B9;
+
+      return hash ^ (hash >>> 16);
+    }
+
+    private void put(int key, int value) {
+      if ((size + 1) * 2 > keys.length) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+
+        keys = new int[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        Arrays.fill(keys, -1);
+        size = 0;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+          if (oldKeys[i] != -1) {
+            put(oldKeys[i], oldValues[i]);
+          }
+        }
+      }
+
+      int mask = keys.length - 1;
+
+      for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+        if (keys[i] == key) {
+          values[i] = value;
+          return;
+        } else if (keys[i] == -1) {
+          keys[i] = key;
+          values[i] = value;
+          size++;
+          return;
+        }
+      }
+    }
+  }
+
+  /** The <b>TenantGraph</b> class holds the index for a tenant. */
+  private static final class TenantGraph {
+
+    /** The edge indexes keyed by association ID. */
+    private final Map<UUID, Integer> edgeIndexes = new HashMap<>();
+
+    /** The node indexes keyed by party ID. */
+    private final Map<UUID, Integer> nodeIndexes = new HashMap<>();
+
+    /** The type indexes keyed by association type code. */
+    private final Map<String, Integer> typeIndexes = new HashMap<>();
+
+    /** The association type codes by type index. */
+    private final List<String> types = new ArrayList<>();
+
+    /** The association IDs by edge index, which are null for released edges. */
+    private UUID[] edgeAssociationIds;
+
+    /** The number of edge indexes that have been allocated. */
+    private int edgeCount;
+
+    /** The first nodes by edge index. */
+    private int[] edgeFirstNodes;
+
+    /** The second nodes by edge index. */
+    private int[] edgeSecondNodes;
+
+    /** The type indexes by edge index. */
+    private int[] edgeTypes;
+
+    /** The released edge indexes available for reuse. */
+    private int[] freeEdges;
+
+    /** The number of released edge indexes available for reuse. */
+    private int freeEdgeCount;
+
+    /** The released node indexes available for reuse. */
+    private int[] freeNodes;
+
+    /** The number of released node indexes available for reuse. */
+    private int freeNodeCount;
+
+    /** The number of node indexes that have been allocated. */
+    private int nodeCount;
+
+    /** The number of edges for each node by node index. */
+    private int[] nodeDegrees;
+
+    /** The edge indexes for each node by node index. */
+    private int[][] nodeEdges;
+
+    /** The party IDs by node index, which are null for released nodes. */
+    private UUID[] nodePartyIds;
+
+    private TenantGraph() {
+      edgeAssociationIds = new UUID[INITIAL_CAPACITY];
+      edgeFirstNodes = new int[INITIAL_CAPACITY];
+      edgeSecondNodes = new int[INITIAL_CAPACITY];
+      edgeTypes = new int[INITIAL_CAPACITY];
+      freeEdges = new int[INITIAL_CAPACITY];
+
+      nodePartyIds = new UUID[INITIAL_CAPACITY];
+      nodeDegrees = new int[INITIAL_CAPACITY];
+      nodeEdges = new int[INITIAL_CAPACITY][];
+      freeNodes = new int[INITIAL_CAPACITY];
+    }
+
+    private void add(AssociationGraphLink link) {
+      Integer existingEdge = edgeIndexes.get(link.getAssociationId());
+
+      if (existingEdge != null) {
+        removeEdge(existingEdge);
+      }
+
+      int firstNode = allocateNode(link.getFirstPartyId());
+      int secondNode = allocateNode(link.getSecondPartyId());
+
+      int edge;
+
+      if (freeEdgeCount > 0) {
+        edge = freeEdges[--freeEdgeCount];
+      } else {
+        if (edgeCount == edgeAssociationIds.length) {
+          int capacity = edgeCount * 2;
+
+          edgeAssociationIds = Arrays.copyOf(edgeAssociationIds, capacity);
+          edgeFirstNodes = Arrays.copyOf(edgeFirstNodes, capacity);
+          edgeSecondNodes = Arrays.copyOf(edgeSecondNodes, capacity);
+          edgeTypes = Arrays.copyOf(edgeTypes, capacity);
+        }
+
+        edge = edgeCount++;
+      }
+
+      Integer type = typeIndexes.get(link.getType());
+
+      if (type == null) {
+        type = types.size();
+        types.add(link.getType());
+        typeIndexes.put(link.getType(), type);
+      }
+
+      edgeAssociationIds[edge] = link.getAssociationId();
+      edgeFirstNodes[edge] = firstNode;
+      edgeSecondNodes[edge] = secondNode;
+      edgeTypes[edge] = type;
+
+      edgeIndexes.put(link.getAssociationId(), edge);
+
+      addNodeEdge(firstNode, edge);
+
+      if (secondNode != firstNode) {
+        addNodeEdge(secondNode, edge);
+      }
+    }
+
+    private void addNodeEdge(int node, int edge) {
+      int[] edges = nodeEdges[node];
+
+      if (nodeDegrees[node] == edges.length) {
+        edges = Arrays.copyOf(edges, Math.max(4, edges.length * 2));
+        nodeEdges[node] = edges;
+      }
+
+      edges[nodeDegrees[node]++] = edge;
+    }
+
+    private int allocateNode(UUID partyId) {
+      Integer existingNode = nodeIndexes.get(partyId);
+
+      if (existingNode != null) {
+        return existingNode;
+      }
+
+      int node;
+
+      if (freeNodeCount > 0) {
+        node = freeNodes[--freeNodeCount];
+      } else {
+        if (nodeCount == nodePartyIds.length) {
+          int capacity = nodeCount * 2;
+
+          nodePartyIds = Arrays.copyOf(nodePartyIds, capacity);
+          nodeDegrees = Arrays.copyOf(nodeDegrees, capacity);
+          nodeEdges = Arrays.copyOf(nodeEdges, capacity);
+        }
+
+        node = nodeCount++;
+        nodeEdges[node] = new int[2];
+      }
+
+      nodePartyIds[node] = partyId;
+      nodeDegrees[node] = 0;
+
+      nodeIndexes.put(partyId, node);
+
+      return node;
+    }
+
+    private void releaseNode(int node) {
+      nodeIndexes.remove(nodePartyIds[node]);
+      nodePartyIds[node] = null;
+
+      if (freeNodeCount == freeNodes.length) {
+        freeNodes = Arrays.copyOf(freeNodes, freeNodes.length * 2);
+      }
+
+      freeNodes[freeNodeCount++] = node;
+    }
+
+    private void removeEdge(int edge) {
+      int firstNode = edgeFirstNodes[edge];
+      int secondNode = edgeSecondNodes[edge];
+
+      removeNodeEdge(firstNode, edge);
+
+      if (secondNode != firstNode) {
+        removeNodeEdge(secondNode, edge);
+      }
+
+      edgeIndexes.remove(edgeAssociationIds[edge]);
+      edgeAssociationIds[edge] = null;
+
+      if (freeEdgeCount == freeEdges.length) {
+        freeEdges = Arrays.copyOf(freeEdges, freeEdges.length * 2);
+      }
+
+      freeEdges[freeEdgeCount++] = edge;
+    }
+
+    private void removeNodeEdge(int node, int edge) {
+      int[] edges = nodeEdges[node];
+      int degree = nodeDegrees[node];
+
+      for (int i = 0; i < degree; i++) {
+        if (edges[i] == edge) {
+          edges[i] = edges[degree - 1];
+          nodeDegrees[node] = --degree;
+          break;
+        }
+      }
+
+      if (degree == 0) {
+        releaseNode(node);
+      }
+    }
+  }
+
+  /**
+   * The <b>Traversal</b> class holds the state for a traversal of the index for a tenant.
+   *
+   * <p>Each visited node is assigned a slot, in the order the nodes are visited, which holds the
+   * depth of the node and the edge through which the node was reached.
+   */
+  private static final class Traversal {
+
+    /** The maximum depth. */
+    private final int maxDepth;
+
+    /** The maximum number of nodes to visit. */
+    private final int maxParties;
+
+    /** The slots for the visited nodes keyed by node index. */
+    private final IntIntMap slots = new IntIntMap();
+
+    /** The index for the tenant. */
+    private final TenantGraph tenantGraph;
+
+    /** The type indexes for the edges to follow, or null to follow all edges. */
+    private final BitSet typeFilter;
+
+    /** The number of slots that have been allocated. */
+    private int slotCount;
+
+    /** The depths by slot. */
+    private int[] slotDepths = new int[16];
+
+    /** The nodes by slot. */
+    private int[] slotNodes = new int[16];
+
+    /** The edges through which the nodes were reached by slot, or -1 for the start node. */
+    private int[] slotParentEdges = new int[16];
+
+    /** Was the traversal stopped because the maximum number of nodes was reached? */
+    private boolean truncated;
+
+    private Traversal(TenantGraph tenantGraph, BitSet typeFilter, int maxDepth, int maxParties) {
+      this.tenantGraph = tenantGraph;
+      this.typeFilter = typeFilter;
+      this.maxDepth = maxDepth;
+      this.maxParties = maxParties;
+    }
+
+    private void breadthFirst(int startNode) {
+      allocateSlot(startNode, 0, -1);
+
+      // The slots are allocated in the order the nodes are discovered and serve as the queue
+      for (int slot = 0; slot < slotCount; slot++) {
+        int node = slotNodes[slot];
+        int depth = slotDepths[slot];
+
+        if (depth == maxDepth) {
+          continue;
+        }
+
+        int[] edges = tenantGraph.nodeEdges[node];
+
+        for (int i = 0; i < tenantGraph.nodeDegrees[node]; i++) {
+          int edge = edges[i];
+
+          if (!isFollowed(edge)) {
+            continue;
+          }
+
+          int otherNode = otherNode(edge, node);
+
+          if (slots.get(otherNode, -1) == -1) {
+            if (slotCount == maxParties) {
+              truncated = true;
+              return;
+            }
+
+            allocateSlot(otherNode, depth + 1, edge);
+          }
+        }
+      }
+    }
+
+    private void depthFirst(int startNode) {
+      int[] stackNodes = new int[16];
+      int[] stackDepths = new int[16];
+      int[] stackEdges = new int[16];
+      int stackSize = 0;
+
+      stackNodes[stackSize] = startNode;
+      stackDepths[stackSize] = 0;
+      stackEdges[stackSize++] = -1;
+
+      while (stackSize > 0) {
+        int node = stackNodes[--stackSize];
+        int depth = stackDepths[stackSize];
+        int parentEdge = stackEdges[stackSize];
+
+        int slot = slots.get(node, -1);
+
+        if (slot == -1) {
+          if (slotCount == maxParties) {
+            truncated = true;
+            continue;
+          }
+
+          allocateSlot(node, depth, parentEdge);
+        } else if (depth < slotDepths[slot]) {
+          // A shorter path to the node was found so expand the node again from the new depth
+          slotDepths[slot] = depth;
+          slotParentEdges[slot] = parentEdge;
+        } else {
+          continue;
+        }
+
+        if (depth == maxDepth) {
+          continue;
+        }
+
+        int[] edges = tenantGraph.nodeEdges[node];
+
+        // Push the edges in reverse order so they are followed in the order they were added
+        for (int i = tenantGraph.nodeDegrees[node] - 1; i >= 0; i--) {
+          int edge = edges[i];
+
+          if ((edge == parentEdge) || (!isFollowed(edge))) {
+            continue;
+          }
+
+          if (stackSize == stackNodes.length) {
+            stackNodes = Arrays.copyOf(stackNodes, stackSize * 2);
+            stackDepths = Arrays.copyOf(stackDepths, stackSize * 2);
+            stackEdges = Arrays.copyOf(stackEdges, stackSize * 2);
+          }
+
+          stackNodes[stackSize] = otherNode(edge, node);
+          stackDepths[stackSize] = depth + 1;
+          stackEdges[stackSize++] = edge;
+        }
+      }
+    }
+
+    private void allocateSlot(int node, int depth, int parentEdge) {
+      if (slotCount == slotNodes.length) {
+        slotNodes = Arrays.copyOf(slotNodes, slotCount * 2);
+        slotDepths = Arrays.copyOf(slotDepths, slotCount * 2);
+        slotParentEdges = Arrays.copyOf(slotParentEdges, slotCount * 2);
+      }
+
+      slotNodes[slotCount] = node;
+      slotDepths[slotCount] = depth;
+      slotParentEdges[slotCount] = parentEdge;
+
+      slots.put(node, slotCount++);
+    }
+
+    private boolean isFollowed(int edge) {
+      return (typeFilter == null) || typeFilter.get(tenantGraph.edgeTypes[edge]);
+    }
+
+    private int otherNode(int edge, int node) {
+      int firstNode = tenantGraph.edgeFirstNodes[edge];
+
+      return (firstNode == node) ? tenantGraph.edgeSecondNodes[edge] : firstNode;
+    }
+
+    private AssociationGraph toAssociationGraph(
+        UUID tenantId, UUID partyId, AssociationTraversalOrder traversalOrder) {
+      List<AssociationGraphParty> parties = new ArrayList<>(slotCount);
+
+      IntIntMap treeEdges = new IntIntMap();
+
+      for (int slot = 0; slot < slotCount; slot++) {
+        int node = slotNodes[slot];
+        int parentEdge = slotParentEdges[slot];
+
+        if (parentEdge == -1) {
+          parties.add(new AssociationGraphParty(tenantGraph.nodePartyIds[node], 0, null, null));
+        } else {
+          treeEdges.put(parentEdge, slot);
+
+          parties.add(
+              new AssociationGraphParty(
+                  tenantGraph.nodePartyIds[node],
+                  slotDepths[slot],
+                  tenantGraph.nodePartyIds[otherNode(parentEdge, node)],
+                  tenantGraph.edgeAssociationIds[parentEdge]));
+        }
+      }
+
+      List<AssociationGraphLink> links = new ArrayList<>();
+
+      IntIntMap reportedEdges = new IntIntMap();
+
+      boolean cycleDetected = false;
+
+      for (int slot = 0; slot < slotCount; slot++) {
+        if (slotDepths[slot] == maxDepth) {
+          continue;
+        }
+
+        int node = slotNodes[slot];
+        int[] edges = tenantGraph.nodeEdges[node];
+
+        for (int i = 0; i < tenantGraph.nodeDegrees[node]; i++) {
+          int edge = edges[i];
+
+          if ((!isFollowed(edge))
+              || (reportedEdges.get(edge, -1) != -1)
+              || (slots.get(otherNode(edge, node), -1) == -1)) {
+            continue;
+          }
+
+          reportedEdges.put(edge, links.size());
+
+          AssociationGraphLink link =
+              new AssociationGraphLink(
+                  tenantGraph.edgeAssociationIds[edge],
+                  tenantGraph.types.get(tenantGraph.edgeTypes[edge]),
+                  tenantGraph.nodePartyIds[tenantGraph.edgeFirstNodes[edge]],
+                  tenantGraph.nodePartyIds[tenantGraph.edgeSecondNodes[edge]]);
+
+          if (treeEdges.get(edge, -1) == -1) {
+            link.setCyclic(true);
+            cycleDetected = true;
+          }
+
+          links.add(link);
+        }
+      }
+
+      return new AssociationGraph(
+          tenantId, partyId, maxDepth, traversalOrder, parties, links, cycleDetected, truncated);
+    }
+  }
+}
@@ -17,13 +17,17 @@
 package digital.inception.party;
 
 import digital.inception.jpa.JpaUtil;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
 import javax.sql.DataSource;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 /**
@@ -37,6 +41,9 @@ import org.springframework.transaction.PlatformTransactionManager;
     basePackages = {"digital.inception.party"})
 public class PartyConfiguration {
 
+  /** The maximum number of statements in a JDBC batch. */
+  private static final int JDBC_BATCH_SIZE = 50;
+
   /** The Spring application context. */
   private final ApplicationContext applicationContext;
 
@@ -60,7 +67,98 @@ public class PartyConfiguration {
   public LocalContainerEntityManagerFactoryBean partyEntityManagerFactory(
       @Qualifier("applicationDataSource") DataSource dataSource,
       PlatformTransactionManager platformTransactionManager) {
-    return JpaUtil.createEntityManager(
-        "party", dataSource, platformTransactionManager, "digital.inception.party");
+    LocalContainerEntityManagerFactoryBean entityManagerFactoryBean =
+        JpaUtil.createEntityManager(
+            "party", dataSource, platformTransactionManager, "digital.inception.party");
+
+    /*
+     * Write the inserts and updates for the parties and their associated information using JDBC
+     * batches, ordering the statements by table so that the changes for many parties that are
+     * flushed together, e.g. as part of a bulk upsert, can be batched.
+     */
+    Map<String, Object> jpaPropertyMap = entityManagerFactoryBean.getJpaPropertyMap();
+    jpaPropertyMap.put("hibernate.jdbc.batch_size", JDBC_BATCH_SIZE);
+    jpaPropertyMap.put("hibernate.order_inserts", "true");
+    jpaPropertyMap.put("hibernate.order_updates", "true");
+
+    return entityManagerFactoryBean;
+  }
+
+  /**
+   * Returns the executor used to rebuild the in-process indexes for the tenants in the background.
+   *
+   * <p>The executor uses a single thread, so that the rebuilds do not compete with requests for
+   * database connections, and a bounded queue. A rebuild that cannot be queued is rejected and
+   * requested again the next time the index is used. The executor is shut down when the application
+   * context is closed.
+   *
+   * @param queueCapacity the maximum number of rebuilds that can be queued
+   * @return the executor used to rebuild the in-process indexes for the tenants in the background
+   */
+  @Bean
+  public ThreadPoolTaskExecutor partyIndexRebuildExecutor(
+      @Value("${inception.party.index-rebuild.queue-capacity:#{100}}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(Math.max(1, queueCapacity));
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    executor.setThreadNamePrefix("party-index-rebuild-");
+    executor.setDaemon(true);
+
+    return executor;
+  }
+
+  /**
+   * Returns the executor used to purge the party data for the tenants.
+   *
+   * <p>The executor uses a single thread, so that only one purge is in progress at a time, and a
+   * bounded queue. A purge that cannot be queued is rejected rather than being run on the thread
+   * that requested it. The executor is shut down, interrupting the purge in progress, when the
+   * application context is closed.
+   *
+   * @param queueCapacity the maximum number of purges that can be queued
+   * @return the executor used to purge the party data for the tenants
+   */
+  @Bean
+  public ThreadPoolTaskExecutor partyPurgeExecutor(
+      @Value("${inception.party.purge.queue-capacity:#{100}}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(Math.max(1, queueCapacity));
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    executor.setThreadNamePrefix("party-purge-");
+    executor.setDaemon(true);
+
+    return executor;
+  }
+
+  /**
+   * Returns the executor used to validate the parties for a bulk upsert in parallel.
+   *
+   * <p>The executor is shared by all bulk upserts and has a fixed number of threads and a bounded
+   * queue. When the queue is full, a party is validated on the thread processing the bulk upsert,
+   * which throttles concurrent bulk upserts instead of failing them. The executor is shut down when
+   * the application context is closed.
+   *
+   * @param threads the number of threads used to validate the parties, where zero indicates the
+   *     number of available processors should be used
+   * @return the executor used to validate the parties for a bulk upsert in parallel
+   */
+  @Bean
+  public ThreadPoolTaskExecutor partyUpsertValidationExecutor(
+      @Value("${inception.party.upsert-validation-threads:#{0}}") int threads) {
+    int poolSize = (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(IPartyService.MAX_UPSERT_PARTIES);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setThreadNamePrefix("party-upsert-validation-");
+    executor.setDaemon(true);
+
+    return executor;
   }
 }
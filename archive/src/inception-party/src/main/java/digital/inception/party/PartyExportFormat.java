@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * The <b>PartyExportFormat</b> enumeration defines the possible formats for an export of the
+ * parties for a tenant.
+ *
+ * @author Marcus Portmann
+ */
+@Schema(description = "The format for an export of the parties for a tenant")
+@XmlEnum
+@XmlType(name = "PartyExportFormat", namespace = "http://inception.digital/party")
+public enum PartyExportFormat {
+  /**
+   * Newline-delimited JSON, with one party per line, in the format accepted by a bulk upsert of
+   * parties.
+   */
+  @XmlEnumValue("NDJSON")
+  NDJSON("ndjson", "NDJSON"),
+
+  /**
+   * Comma-separated values, with a header row and one party per row, where information that is not
+   * a single value, e.g. the contact mechanisms for a party, is written as JSON.
+   */
+  @XmlEnumValue("CSV")
+  CSV("csv", "CSV");
+
+  private final String code;
+
+  private final String description;
+
+  PartyExportFormat(String code, String description) {
+    this.code = code;
+    this.description = description;
+  }
+
+  /**
+   * Returns the party export format given by the specified code value.
+   *
+   * @param code the code for the party export format
+   * @return the party export format given by the specified code value
+   */
+  @JsonCreator
+  public static PartyExportFormat fromCode(String code) {
+    switch (code) {
+      case "ndjson":
+        return PartyExportFormat.NDJSON;
+
+      case "csv":
+        return PartyExportFormat.CSV;
+
+      default:
+        throw new RuntimeException(
+            "Failed to determine the party export format with the invalid code (" + code + ")");
+    }
+  }
+
+  /**
+   * Returns the code for the party export format.
+   *
+   * @return the code for the party export format
+   */
+  @JsonValue
+  public String code() {
+    return code;
+  }
+
+  /**
+   * Returns the description for the party export format.
+   *
+   * @return the description for the party export format
+   */
+  public String description() {
+    return description;
+  }
+
+  /**
+   * Return the string representation of the party export format enumeration value.
+   *
+   * @return the string representation of the party export format enumeration value
+   */
+  public String toString() {
+    return description;
+  }
+}
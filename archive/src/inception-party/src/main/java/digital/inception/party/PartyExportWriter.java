@@ -0,0 +1,190 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * The <b>PartyExportWriter</b> class writes the parties for an export to an output stream in the
+ * NDJSON or CSV format.
+ *
+ * <p>Each party is written as soon as it is received, starting with the ID and the code for the
+ * party type, followed by either the selected fields or all the fields for the party. The output
+ * stream is flushed, but not closed, when the writer is closed.
+ *
+ * @author Marcus Portmann
+ */
+final class PartyExportWriter implements AutoCloseable {
+
+  /** The fields written for each party when no fields are selected for a CSV export. */
+  private static final List<String> DEFAULT_CSV_FIELDS = List.of("id", "type", "tenantId", "name");
+
+  /** The names of the fields written for each party, or <b>null</b> to write all the fields. */
+  private final List<String> fields;
+
+  /** The JSON generator used to write the parties for an NDJSON export. */
+  private final JsonGenerator generator;
+
+  /** The Jackson 2 object mapper. */
+  private final ObjectMapper objectMapper;
+
+  /** The writer used to write the parties for a CSV export. */
+  private final Writer writer;
+
+  /**
+   * Constructs a new <b>PartyExportWriter</b>.
+   *
+   * @param objectMapper the Jackson 2 object mapper
+   * @param format the export format
+   * @param fields the optional names of the fields to write for each party in addition to the ID
+   *     and party type
+   * @param outputStream the output stream to write the parties to
+   * @throws IOException if the writer could not be created
+   */
+  PartyExportWriter(
+      ObjectMapper objectMapper,
+      PartyExportFormat format,
+      List<String> fields,
+      OutputStream outputStream)
+      throws IOException {
+    this.objectMapper = objectMapper;
+
+    if ((fields == null) || fields.isEmpty()) {
+      this.fields = (format == PartyExportFormat.CSV) ? DEFAULT_CSV_FIELDS : null;
+    } else {
+      this.fields = Stream.concat(Stream.of("id", "type"), fields.stream()).distinct().toList();
+    }
+
+    if (format == PartyExportFormat.CSV) {
+      generator = null;
+      writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+      writeCsvRow(this.fields);
+    } else {
+      generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      writer = null;
+    }
+  }
+
+  /**
+   * Flush the parties that have been written to the output stream without closing it.
+   *
+   * @throws IOException if the parties could not be flushed
+   */
+  @Override
+  public void close() throws IOException {
+    if (generator != null) {
+      generator.close();
+    } else {
+      writer.flush();
+    }
+  }
+
+  /**
+   * Write the party.
+   *
+   * @param party the party
+   * @throws IOException if the party could not be written
+   */
+  void write(PartyBase party) throws IOException {
+    ObjectNode partyNode = objectMapper.valueToTree(party);
+
+    ObjectNode exportNode = objectMapper.createObjectNode();
+
+    exportNode.put("id", party.getId().toString());
+    exportNode.put("type", party.getType().code());
+
+    if (fields == null) {
+      Iterator<Map.Entry<String, JsonNode>> partyFields = partyNode.fields();
+
+      while (partyFields.hasNext()) {
+        Map.Entry<String, JsonNode> partyField = partyFields.next();
+
+        if (!exportNode.has(partyField.getKey())) {
+          exportNode.set(partyField.getKey(), partyField.getValue());
+        }
+      }
+    } else {
+      for (String field : fields) {
+        if ((!exportNode.has(field)) && partyNode.has(field)) {
+          exportNode.set(field, partyNode.get(field));
+        }
+      }
+    }
+
+    if (generator != null) {
+      generator.writeTree(exportNode);
+      generator.writeRaw('\n');
+    } else {
+      List<String> values =
+          fields.stream()
+              .map(
+                  field -> {
+                    JsonNode value = exportNode.get(field);
+
+                    if ((value == null) || value.isNull()) {
+                      return "";
+                    } else if (value.isContainerNode()) {
+                      return value.toString();
+                    } else {
+                      return value.asText();
+                    }
+                  })
+              .toList();
+
+      writeCsvRow(values);
+    }
+  }
+
+  private void writeCsvRow(List<String> values) throws IOException {
+    for (int i = 0; i < values.size(); i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+
+      String value = values.get(i);
+
+      if ((value.indexOf(',') >= 0)
+          || (value.indexOf('"') >= 0)
+          || (value.indexOf('\n') >= 0)
+          || (value.indexOf('\r') >= 0)) {
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+      } else {
+        writer.write(value);
+      }
+    }
+
+    writer.write("\r\n");
+  }
+}
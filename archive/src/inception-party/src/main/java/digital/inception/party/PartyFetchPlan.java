@@ -0,0 +1,117 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * The <b>PartyFetchPlan</b> enumeration defines the possible fetch plans used to determine which
+ * information is retrieved when retrieving a party, e.g. a person or organization.
+ *
+ * <p>The information for a party that is not included in the fetch plan is not retrieved and is
+ * omitted when the party is serialized.
+ *
+ * @author Marcus Portmann
+ */
+@Schema(
+    description =
+        "The fetch plan used to determine which information is retrieved when retrieving a party")
+@XmlEnum
+@XmlType(name = "PartyFetchPlan", namespace = "http://inception.digital/party")
+public enum PartyFetchPlan {
+  /** Retrieve only the information held directly by the party, e.g. the name for a person. */
+  @XmlEnumValue("Summary")
+  SUMMARY("summary", "Summary"),
+
+  /**
+   * Retrieve the information held directly by the party and the contact mechanisms, external
+   * references, identity documents, physical addresses, roles, statuses and tax numbers for the
+   * party.
+   */
+  @XmlEnumValue("Core")
+  CORE("core", "Core"),
+
+  /** Retrieve all the information for the party. */
+  @XmlEnumValue("Full")
+  FULL("full", "Full");
+
+  private final String code;
+
+  private final String description;
+
+  PartyFetchPlan(String code, String description) {
+    this.code = code;
+    this.description = description;
+  }
+
+  /**
+   * Returns the party fetch plan given by the specified code value.
+   *
+   * @param code the code for the party fetch plan
+   * @return the party fetch plan given by the specified code value
+   */
+  @JsonCreator
+  public static PartyFetchPlan fromCode(String code) {
+    switch (code) {
+      case "summary":
+        return PartyFetchPlan.SUMMARY;
+
+      case "core":
+        return PartyFetchPlan.CORE;
+
+      case "full":
+        return PartyFetchPlan.FULL;
+
+      default:
+        throw new RuntimeException(
+            "Failed to determine the party fetch plan with the invalid code (" + code + ")");
+    }
+  }
+
+  /**
+   * Returns the code for the party fetch plan.
+   *
+   * @return the code for the party fetch plan
+   */
+  @JsonValue
+  public String code() {
+    return code;
+  }
+
+  /**
+   * Returns the description for the party fetch plan.
+   *
+   * @return the description for the party fetch plan
+   */
+  public String description() {
+    return description;
+  }
+
+  /**
+   * Return the string representation of the party fetch plan enumeration value.
+   *
+   * @return the string representation of the party fetch plan enumeration value
+   */
+  public String toString() {
+    return description;
+  }
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * The <b>PartyPurge</b> class holds the information for, and reports the progress of, an
+ * asynchronous purge of the party data for a tenant, which optionally exports the parties for the
+ * tenant to an archive before they are deleted.
+ *
+ * @author Marcus Portmann
+ */
+@Schema(
+    description =
+        "The information for, and the progress of, an asynchronous purge of the party data for a"
+            + " tenant")
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+@JsonPropertyOrder({
+  "id",
+  "tenantId",
+  "status",
+  "archiveFormat",
+  "archiveFile",
+  "deletedParties",
+  "deletedRows",
+  "retainedEntities",
+  "requested",
+  "started",
+  "completed",
+  "message"
+})
+@XmlRootElement(name = "PartyPurge", namespace = "http://inception.digital/party")
+@XmlType(
+    name = "PartyPurge",
+    namespace = "http://inception.digital/party",
+    propOrder = {
+      "id",
+      "tenantId",
+      "status",
+      "archiveFormat",
+      "archiveFile",
+      "deletedParties",
+      "deletedRows",
+      "retainedEntities",
+      "requested",
+      "started",
+      "completed",
+      "message"
+    })
+@XmlAccessorType(XmlAccessType.FIELD)
+@SuppressWarnings({"unused"})
+public class PartyPurge implements Serializable {
+
+  private static final long serialVersionUID = 1000000;
+
+  /** The path to the archive file the parties for the tenant were exported to. */
+  @Schema(description = "The path to the archive file the parties for the tenant were exported to")
+  @JsonProperty
+  @XmlElement(name = "ArchiveFile")
+  private String archiveFile;
+
+  /** The format for the archive the parties for the tenant are exported to before being deleted. */
+  @Schema(
+      description =
+          "The format for the archive the parties for the tenant are exported to before being"
+              + " deleted")
+  @JsonProperty
+  @XmlElement(name = "ArchiveFormat")
+  private PartyExportFormat archiveFormat;
+
+  /** The date and time the purge finished. */
+  @Schema(description = "The date and time the purge finished")
+  @JsonProperty
+  @XmlElement(name = "Completed")
+  private LocalDateTime completed;
+
+  /** The number of parties deleted. */
+  @Schema(description = "The number of parties deleted", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "DeletedParties", required = true)
+  private long deletedParties;
+
+  /** The number of rows deleted from each table, keyed by table name. */
+  @Schema(description = "The number of rows deleted from each table, keyed by table name")
+  @JsonProperty
+  @XmlElement(name = "DeletedRows")
+  private Map<String, Long> deletedRows = new TreeMap<>();
+
+  /** The ID for the purge. */
+  @Schema(description = "The ID for the purge", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "Id", required = true)
+  private UUID id;
+
+  /** The message describing why the purge failed. */
+  @Schema(description = "The message describing why the purge failed")
+  @JsonProperty
+  @XmlElement(name = "Message")
+  private String message;
+
+  /** The date and time the purge was requested. */
+  @Schema(description = "The date and time the purge was requested", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "Requested", required = true)
+  private LocalDateTime requested;
+
+  /**
+   * The number of archived entities that were retained since they were changed after they were
+   * archived.
+   */
+  @Schema(
+      description =
+          "The number of archived entities that were retained since they were changed after they"
+              + " were archived")
+  @JsonProperty
+  @XmlElement(name = "RetainedEntities")
+  private long retainedEntities;
+
+  /** The date and time the purge started. */
+  @Schema(description = "The date and time the purge started")
+  @JsonProperty
+  @XmlElement(name = "Started")
+  private LocalDateTime started;
+
+  /** The status for the purge. */
+  @Schema(description = "The status for the purge", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "Status", required = true)
+  private PartyPurgeStatus status;
+
+  /** The ID for the tenant the party data is purged for. */
+  @Schema(description = "The ID for the tenant the party data is purged for", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "TenantId", required = true)
+  private UUID tenantId;
+
+  /** Constructs a new <b>PartyPurge</b>. */
+  public PartyPurge() {}
+
+  /**
+   * Constructs a new <b>PartyPurge</b>.
+   *
+   * @param id the ID for the purge
+   * @param tenantId the ID for the tenant the party data is purged for
+   * @param archiveFormat the optional format for the archive the parties for the tenant are
+   *     exported to before being deleted
+   */
+  public PartyPurge(UUID id, UUID tenantId, PartyExportFormat archiveFormat) {
+    this.id = id;
+    this.tenantId = tenantId;
+    this.archiveFormat = archiveFormat;
+    this.status = PartyPurgeStatus.QUEUED;
+    this.requested = LocalDateTime.now();
+  }
+
+  /**
+   * Returns the path to the archive file the parties for the tenant were exported to.
+   *
+   * @return the path to the archive file the parties for the tenant were exported to
+   */
+  public String getArchiveFile() {
+    return archiveFile;
+  }
+
+  /**
+   * Returns the format for the archive the parties for the tenant are exported to before being
+   * deleted.
+   *
+   * @return the format for the archive the parties for the tenant are exported to before being
+   *     deleted or <b>null</b> if the parties are not archived
+   */
+  public PartyExportFormat getArchiveFormat() {
+    return archiveFormat;
+  }
+
+  /**
+   * Returns the date and time the purge finished.
+   *
+   * @return the date and time the purge finished
+   */
+  public LocalDateTime getCompleted() {
+    return completed;
+  }
+
+  /**
+   * Returns the number of parties deleted.
+   *
+   * @return the number of parties deleted
+   */
+  public long getDeletedParties() {
+    return deletedParties;
+  }
+
+  /**
+   * Returns the number of rows deleted from each table, keyed by table name.
+   *
+   * @return the number of rows deleted from each table, keyed by table name
+   */
+  public Map<String, Long> getDeletedRows() {
+    return deletedRows;
+  }
+
+  /**
+   * Returns the ID for the purge.
+   *
+   * @return the ID for the purge
+   */
+  public UUID getId() {
+    return id;
+  }
+
+  /**
+   * Returns the message describing why the purge failed.
+   *
+   * @return the message describing why the purge failed
+   */
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * Returns the date and time the purge was requested.
+   *
+   * @return the date and time the purge was requested
+   */
+  public LocalDateTime getRequested() {
+    return requested;
+  }
+
+  /**
+   * Returns the number of archived entities that were retained since they were changed after they
+   * were archived.
+   *
+   * @return the number of archived entities that were retained since they were changed after they
+   *     were archived
+   */
+  public long getRetainedEntities() {
+    return retainedEntities;
+  }
+
+  /**
+   * Returns the date and time the purge started.
+   *
+   * @return the date and time the purge started
+   */
+  public LocalDateTime getStarted() {
+    return started;
+  }
+
+  /**
+   * Returns the status for the purge.
+   *
+   * @return the status for the purge
+   */
+  public PartyPurgeStatus getStatus() {
+    return status;
+  }
+
+  /**
+   * Returns the ID for the tenant the party data is purged for.
+   *
+   * @return the ID for the tenant the party data is purged for
+   */
+  public UUID getTenantId() {
+    return tenantId;
+  }
+
+  /**
+   * Record that the party data for the tenant is being exported to the archive file.
+   *
+   * @param archiveFile the path to the archive file
+   */
+  synchronized void archiving(String archiveFile) {
+    this.status = PartyPurgeStatus.ARCHIVING;
+    this.started = LocalDateTime.now();
+    this.archiveFile = archiveFile;
+  }
+
+  /** Record that the purge completed successfully. */
+  synchronized void completed() {
+    this.status = PartyPurgeStatus.COMPLETED;
+    this.completed = LocalDateTime.now();
+  }
+
+  /**
+   * Returns a copy of the purge, which reflects the progress of the purge at the time the copy was
+   * made.
+   *
+   * @return a copy of the purge
+   */
+  synchronized PartyPurge copy() {
+    PartyPurge copy = new PartyPurge();
+
+    copy.archiveFile = archiveFile;
+    copy.archiveFormat = archiveFormat;
+    copy.completed = completed;
+    copy.deletedParties = deletedParties;
+    copy.deletedRows = new TreeMap<>(deletedRows);
+    copy.id = id;
+    copy.message = message;
+    copy.requested = requested;
+    copy.retainedEntities = retainedEntities;
+    copy.started = started;
+    copy.status = status;
+    copy.tenantId = tenantId;
+
+    return copy;
+  }
+
+  /**
+   * Record that the purge failed.
+   *
+   * @param message the message describing why the purge failed
+   */
+  synchronized void failed(String message) {
+    this.status = PartyPurgeStatus.FAILED;
+    this.completed = LocalDateTime.now();
+    this.message = message;
+  }
+
+  /**
+   * Record the rows and parties deleted, and the entities retained, for a chunk of the party data
+   * for the tenant.
+   *
+   * @param chunkDeletedRows the number of rows deleted from each table for the chunk
+   * @param chunkDeletedParties the number of parties deleted for the chunk
+   * @param chunkRetainedEntities the number of archived entities retained for the chunk
+   */
+  synchronized void purged(
+      Map<String, Long> chunkDeletedRows, int chunkDeletedParties, int chunkRetainedEntities) {
+    chunkDeletedRows.forEach((table, rows) -> deletedRows.merge(table, rows, Long::sum));
+    deletedParties += chunkDeletedParties;
+    retainedEntities += chunkRetainedEntities;
+  }
+
+  /** Record that the party data for the tenant is being deleted. */
+  synchronized void purging() {
+    this.status = PartyPurgeStatus.PURGING;
+
+    if (started == null) {
+      started = LocalDateTime.now();
+    }
+  }
+
+  /**
+   * Returns whether the purge is queued or in progress.
+   *
+   * @return <b>true</b> if the purge is queued or in progress or <b>false</b> otherwise
+   */
+  synchronized boolean isActive() {
+    return !status.isFinished();
+  }
+}
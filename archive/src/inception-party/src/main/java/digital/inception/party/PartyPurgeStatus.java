@@ -0,0 +1,131 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * The <b>PartyPurgeStatus</b> enumeration defines the possible statuses for a purge of the party
+ * data for a tenant.
+ *
+ * @author Marcus Portmann
+ */
+@Schema(description = "The status for a purge of the party data for a tenant")
+@XmlEnum
+@XmlType(name = "PartyPurgeStatus", namespace = "http://inception.digital/party")
+public enum PartyPurgeStatus {
+  /** The purge is waiting to be started. */
+  @XmlEnumValue("Queued")
+  QUEUED("queued", "Queued"),
+
+  /** The party data for the tenant is being exported to the archive. */
+  @XmlEnumValue("Archiving")
+  ARCHIVING("archiving", "Archiving"),
+
+  /** The party data for the tenant is being deleted. */
+  @XmlEnumValue("Purging")
+  PURGING("purging", "Purging"),
+
+  /** The party data for the tenant was deleted. */
+  @XmlEnumValue("Completed")
+  COMPLETED("completed", "Completed"),
+
+  /** The purge failed. */
+  @XmlEnumValue("Failed")
+  FAILED("failed", "Failed");
+
+  private final String code;
+
+  private final String description;
+
+  PartyPurgeStatus(String code, String description) {
+    this.code = code;
+    this.description = description;
+  }
+
+  /**
+   * Returns the party purge status given by the specified code value.
+   *
+   * @param code the code for the party purge status
+   * @return the party purge status given by the specified code value
+   */
+  @JsonCreator
+  public static PartyPurgeStatus fromCode(String code) {
+    switch (code) {
+      case "queued":
+        return PartyPurgeStatus.QUEUED;
+
+      case "archiving":
+        return PartyPurgeStatus.ARCHIVING;
+
+      case "purging":
+        return PartyPurgeStatus.PURGING;
+
+      case "completed":
+        return PartyPurgeStatus.COMPLETED;
+
+      case "failed":
+        return PartyPurgeStatus.FAILED;
+
+      default:
+        throw new RuntimeException(
+            "Failed to determine the party purge status with the invalid code (" + code + ")");
+    }
+  }
+
+  /**
+   * Returns the code for the party purge status.
+   *
+   * @return the code for the party purge status
+   */
+  @JsonValue
+  public String code() {
+    return code;
+  }
+
+  /**
+   * Returns the description for the party purge status.
+   *
+   * @return the description for the party purge status
+   */
+  public String description() {
+    return description;
+  }
+
+  /**
+   * Returns whether the purge has finished, either successfully or unsuccessfully.
+   *
+   * @return <b>true</b> if the purge has finished or <b>false</b> otherwise
+   */
+  public boolean isFinished() {
+    return (this == COMPLETED) || (this == FAILED);
+  }
+
+  /**
+   * Return the string representation of the party purge status enumeration value.
+   *
+   * @return the string representation of the party purge status enumeration value
+   */
+  public String toString() {
+    return description;
+  }
+}
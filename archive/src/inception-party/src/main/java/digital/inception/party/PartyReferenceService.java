@@ -16,15 +16,30 @@
 
 package digital.inception.party;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import digital.inception.core.service.InvalidArgumentException;
 import digital.inception.core.service.ServiceUnavailableException;
+import digital.inception.core.util.GZIPUtil;
+import digital.inception.reference.IReferenceService;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.domain.Sort;
@@ -40,6 +55,9 @@ import org.springframework.util.StringUtils;
 @Service
 public class PartyReferenceService implements IPartyReferenceService {
 
+  /** The key for the cluster-wide generation of the reference data in the reference cache. */
+  private static final String CLUSTER_REFERENCE_DATA_GENERATION_KEY = "referenceDataGeneration";
+
   /** The Spring application context. */
   private final ApplicationContext applicationContext;
 
@@ -121,6 +139,9 @@ public class PartyReferenceService implements IPartyReferenceService {
   /** The Next Of Kin Type Repository. */
   private final NextOfKinTypeRepository nextOfKinTypeRepository;
 
+  /** The Jackson2 object mapper. */
+  private final ObjectMapper objectMapper;
+
   /** The Occupation Repository. */
   private final OccupationRepository occupationRepository;
 
@@ -145,6 +166,9 @@ public class PartyReferenceService implements IPartyReferenceService {
   /** The Race Repository. */
   private final RaceRepository raceRepository;
 
+  /** The Reference Service. */
+  private final IReferenceService referenceService;
+
   /** The Residence Permit Type Repository. */
   private final ResidencePermitTypeRepository residencePermitTypeRepository;
 
@@ -197,6 +221,54 @@ public class PartyReferenceService implements IPartyReferenceService {
   /** The Title Repository. */
   private final TitleRepository titleRepository;
 
+  /** The reference data bundles keyed by tenant ID and locale ID. */
+  private final Map<String, ReferenceDataSnapshot<ReferenceDataBundle>> referenceDataBundles =
+      new ConcurrentHashMap<>();
+
+  /**
+   * The generation of the cached reference data, which is incremented each time the reference data
+   * is evicted from the caches on this node or any other node.
+   */
+  private final AtomicLong referenceDataGeneration = new AtomicLong();
+
+  /**
+   * The cluster-wide generation of the reference data last seen by this node, which is stored in
+   * the reference cache, e.g. a distributed Hazelcast cache, and replaced each time the reference
+   * data is evicted from the caches on any node.
+   */
+  private volatile UUID clusterReferenceDataGeneration;
+
+  /**
+   * The number of milliseconds between checks of the cluster-wide generation of the reference data,
+   * which bounds how long the hash indexes, reference data bundles and validation plans on this
+   * node can remain stale after the reference data is evicted from the caches on another node.
+   */
+  @Value("${inception.party.reference-data-generation-check-interval:#{1000}}")
+  private long clusterReferenceDataGenerationCheckInterval;
+
+  /** The time the cluster-wide generation of the reference data was last checked. */
+  private volatile long clusterReferenceDataGenerationChecked;
+
+  /** The reference cache, which is resolved lazily, or <b>null</b> if caching is not enabled. */
+  private volatile Cache referenceCache;
+
+  /** Has the reference cache been resolved. */
+  private volatile boolean referenceCacheResolved;
+
+  /** The hash indexes for the reference data types keyed by the name of the reference data type. */
+  private final Map<String, ReferenceDataSnapshot<ReferenceDataIndex<?>>> referenceDataIndexes =
+      new ConcurrentHashMap<>();
+
+  /**
+   * The validation plans keyed by tenant ID, where the key for the validation plan for parties that
+   * are not associated with a tenant is "null".
+   */
+  private final Map<String, ReferenceDataSnapshot<PartyValidationPlan>> validationPlans =
+      new ConcurrentHashMap<>();
+
+  /** The internal reference to the Party Reference Service to enable caching. */
+  private volatile IPartyReferenceService partyReferenceService;
+
   /**
    * Constructs a new <b>PartyReferenceService</b>.
    *
@@ -227,6 +299,7 @@ public class PartyReferenceService implements IPartyReferenceService {
    * @param maritalStatusRepository the Marital Status Repository
    * @param marriageTypeRepository the Marriage Type Repository
    * @param nextOfKinTypeRepository the Next Of Kin Repository
+   * @param objectMapper the Jackson2 object mapper
    * @param occupationRepository the Occupation Repository
    * @param physicalAddressPurposeRepository the Physical Address Purpose Repository
    * @param physicalAddressRoleRepository the Physical Address Role Repository
@@ -235,6 +308,7 @@ public class PartyReferenceService implements IPartyReferenceService {
    * @param preferenceTypeRepository the Preference Type Repository
    * @param qualificationTypeRepository the Qualification Type Repository
    * @param raceRepository the Race Repository
+   * @param referenceService the Reference Service
    * @param residencePermitTypeRepository the Residence Permit Type Repository
    * @param residencyStatusRepository the Residency Status Repository
    * @param residentialTypeRepository the Residential Type Repository
@@ -283,6 +357,7 @@ public class PartyReferenceService implements IPartyReferenceService {
       MaritalStatusRepository maritalStatusRepository,
       MarriageTypeRepository marriageTypeRepository,
       NextOfKinTypeRepository nextOfKinTypeRepository,
+      ObjectMapper objectMapper,
       OccupationRepository occupationRepository,
       PhysicalAddressPurposeRepository physicalAddressPurposeRepository,
       PhysicalAddressRoleRepository physicalAddressRoleRepository,
@@ -291,6 +366,7 @@ public class PartyReferenceService implements IPartyReferenceService {
       PreferenceTypeRepository preferenceTypeRepository,
       QualificationTypeRepository qualificationTypeRepository,
       RaceRepository raceRepository,
+      IReferenceService referenceService,
       ResidencePermitTypeRepository residencePermitTypeRepository,
       ResidencyStatusRepository residencyStatusRepository,
       ResidentialTypeRepository residentialTypeRepository,
@@ -335,6 +411,7 @@ public class PartyReferenceService implements IPartyReferenceService {
     this.maritalStatusRepository = maritalStatusRepository;
     this.marriageTypeRepository = marriageTypeRepository;
     this.nextOfKinTypeRepository = nextOfKinTypeRepository;
+    this.objectMapper = objectMapper;
     this.occupationRepository = occupationRepository;
     this.physicalAddressPurposeRepository = physicalAddressPurposeRepository;
     this.physicalAddressRoleRepository = physicalAddressRoleRepository;
@@ -343,6 +420,7 @@ public class PartyReferenceService implements IPartyReferenceService {
     this.preferenceTypeRepository = preferenceTypeRepository;
     this.qualificationTypeRepository = qualificationTypeRepository;
     this.raceRepository = raceRepository;
+    this.referenceService = referenceService;
     this.residencePermitTypeRepository = residencePermitTypeRepository;
     this.residencyStatusRepository = residencyStatusRepository;
     this.residentialTypeRepository = residentialTypeRepository;
@@ -362,6 +440,36 @@ public class PartyReferenceService implements IPartyReferenceService {
     this.titleRepository = titleRepository;
   }
 
+  @Override
+  @CacheEvict(
+      cacheNames = {"reference", "attributeTypesValueTypes"},
+      allEntries = true,
+      beforeInvocation = true)
+  public void evictReferenceData() {
+    /*
+     * The caches are cleared before the generation is incremented, so anything derived from the
+     * cached reference data and tagged with the new generation is built from the reloaded data.
+     */
+    invalidateDerivedReferenceData();
+
+    /*
+     * Publish a new cluster-wide generation, so that the other nodes discard the values they have
+     * derived from the reference data the next time they check the cluster-wide generation.
+     */
+    Cache referenceCache = getReferenceCache();
+
+    if (referenceCache != null) {
+      synchronized (this) {
+        UUID generation = UUID.randomUUID();
+
+        referenceCache.put(CLUSTER_REFERENCE_DATA_GENERATION_KEY, generation);
+
+        clusterReferenceDataGeneration = generation;
+        clusterReferenceDataGenerationChecked = System.currentTimeMillis();
+      }
+    }
+  }
+
   @Override
   public Optional<AssociationPropertyType> getAssociationPropertyType(
       UUID tenantId, String associationTypeCode, String associationPropertyTypeCode)
@@ -370,16 +478,16 @@ public class PartyReferenceService implements IPartyReferenceService {
       return Optional.empty();
     }
 
-    return getPartyReferenceService().getAssociationPropertyTypes().stream()
-        .filter(
+    return getReferenceDataIndex(
+            "associationPropertyTypes",
+            getPartyReferenceService()::getAssociationPropertyTypes,
+            AssociationPropertyType::getTenantId,
+            AssociationPropertyType::getCode)
+        .findFirst(
+            tenantId,
+            associationPropertyTypeCode,
             associationPropertyType ->
-                (associationPropertyType.getTenantId() == null
-                        || associationPropertyType.getTenantId().equals(tenantId))
-                    && Objects.equals(
-                        associationPropertyType.getAssociationType(), associationTypeCode)
-                    && Objects.equals(
-                        associationPropertyType.getCode(), associationPropertyTypeCode))
-        .findFirst();
+                Objects.equals(associationPropertyType.getAssociationType(), associationTypeCode));
   }
 
   @Override
@@ -428,13 +536,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return Optional.empty();
     }
 
-    return getPartyReferenceService().getAssociationTypes().stream()
-        .filter(
-            associationType ->
-                (associationType.getTenantId() == null
-                        || Objects.equals(associationType.getTenantId(), tenantId))
-                    && Objects.equals(associationType.getCode(), associationTypeCode))
-        .findFirst();
+    return getReferenceDataIndex(
+            "associationTypes",
+            getPartyReferenceService()::getAssociationTypes,
+            AssociationType::getTenantId,
+            AssociationType::getCode)
+        .findFirst(tenantId, associationTypeCode);
   }
 
   @Override
@@ -479,14 +586,15 @@ public class PartyReferenceService implements IPartyReferenceService {
   public Optional<AttributeType> getAttributeType(
       UUID tenantId, String partyTypeCode, String attributeTypeCode)
       throws ServiceUnavailableException {
-    return getPartyReferenceService().getAttributeTypes().stream()
-        .filter(
-            attributeType ->
-                (attributeType.getTenantId() == null
-                        || attributeType.getTenantId().equals(tenantId))
-                    && Objects.equals(attributeType.getCode(), attributeTypeCode)
-                    && attributeType.isValidForPartyType(partyTypeCode))
-        .findFirst();
+    return getReferenceDataIndex(
+            "attributeTypes",
+            getPartyReferenceService()::getAttributeTypes,
+            AttributeType::getTenantId,
+            AttributeType::getCode)
+        .findFirst(
+            tenantId,
+            attributeTypeCode,
+            attributeType -> attributeType.isValidForPartyType(partyTypeCode));
   }
 
   @Override
@@ -666,17 +774,19 @@ public class PartyReferenceService implements IPartyReferenceService {
       String contactMechanismTypeCode,
       String contactMechanismRoleCode)
       throws ServiceUnavailableException {
-    return getPartyReferenceService().getContactMechanismRoles().stream()
-        .filter(
+    return getReferenceDataIndex(
+            "contactMechanismRoles",
+            getPartyReferenceService()::getContactMechanismRoles,
+            ContactMechanismRole::getTenantId,
+            ContactMechanismRole::getCode)
+        .findFirst(
+            tenantId,
+            contactMechanismRoleCode,
             contactMechanismRole ->
-                (contactMechanismRole.getTenantId() == null
-                        || Objects.equals(contactMechanismRole.getTenantId(), tenantId))
-                    && contactMechanismRole.isValidForPartyType(partyTypeCode)
+                contactMechanismRole.isValidForPartyType(partyTypeCode)
                     && contactMechanismRole
                         .getContactMechanismType()
-                        .equals(contactMechanismTypeCode)
-                    && Objects.equals(contactMechanismRole.getCode(), contactMechanismRoleCode))
-        .findFirst();
+                        .equals(contactMechanismTypeCode));
   }
 
   @Override
@@ -720,13 +830,12 @@ public class PartyReferenceService implements IPartyReferenceService {
   @Override
   public Optional<ContactMechanismType> getContactMechanismType(
       UUID tenantId, String contactMechanismTypeCode) throws ServiceUnavailableException {
-    return getPartyReferenceService().getContactMechanismTypes().stream()
-        .filter(
-            contactMechanismType ->
-                (contactMechanismType.getTenantId() == null
-                        || Objects.equals(contactMechanismType.getTenantId(), tenantId))
-                    && Objects.equals(contactMechanismType.getCode(), contactMechanismTypeCode))
-        .findFirst();
+    return getReferenceDataIndex(
+            "contactMechanismTypes",
+            getPartyReferenceService()::getContactMechanismTypes,
+            ContactMechanismType::getTenantId,
+            ContactMechanismType::getCode)
+        .findFirst(tenantId, contactMechanismTypeCode);
   }
 
   @Override
@@ -1262,14 +1371,16 @@ public class PartyReferenceService implements IPartyReferenceService {
       return Optional.empty();
     }
 
-    return getPartyReferenceService().getMandatePropertyTypes().stream()
-        .filter(
+    return getReferenceDataIndex(
+            "mandatePropertyTypes",
+            getPartyReferenceService()::getMandatePropertyTypes,
+            MandatePropertyType::getTenantId,
+            MandatePropertyType::getCode)
+        .findFirst(
+            tenantId,
+            mandatePropertyTypeCode,
             mandatePropertyType ->
-                (mandatePropertyType.getTenantId() == null
-                        || mandatePropertyType.getTenantId().equals(tenantId))
-                    && Objects.equals(mandatePropertyType.getMandateType(), mandateTypeCode)
-                    && Objects.equals(mandatePropertyType.getCode(), mandatePropertyTypeCode))
-        .findFirst();
+                Objects.equals(mandatePropertyType.getMandateType(), mandateTypeCode));
   }
 
   @Override
@@ -1618,14 +1729,15 @@ public class PartyReferenceService implements IPartyReferenceService {
   public Optional<PreferenceType> getPreferenceType(
       UUID tenantId, String partyTypeCode, String preferenceTypeCode)
       throws ServiceUnavailableException {
-    return getPartyReferenceService().getPreferenceTypes().stream()
-        .filter(
-            preferenceType ->
-                (preferenceType.getTenantId() == null
-                        || preferenceType.getTenantId().equals(tenantId))
-                    && Objects.equals(preferenceType.getCode(), preferenceTypeCode)
-                    && preferenceType.isValidForPartyType(partyTypeCode))
-        .findFirst();
+    return getReferenceDataIndex(
+            "preferenceTypes",
+            getPartyReferenceService()::getPreferenceTypes,
+            PreferenceType::getTenantId,
+            PreferenceType::getCode)
+        .findFirst(
+            tenantId,
+            preferenceTypeCode,
+            preferenceType -> preferenceType.isValidForPartyType(partyTypeCode));
   }
 
   @Override
@@ -1776,6 +1888,395 @@ public class PartyReferenceService implements IPartyReferenceService {
         .collect(Collectors.toList());
   }
 
+  @Override
+  public ReferenceDataBundle getReferenceDataBundle(UUID tenantId, String localeId)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    if (tenantId == null) {
+      throw new InvalidArgumentException("tenantId");
+    }
+
+    if (!StringUtils.hasText(localeId)) {
+      throw new InvalidArgumentException("localeId");
+    }
+
+    String bundleKey = tenantId + "." + localeId;
+
+    /*
+     * If the reference data has not been evicted from the caches since the bundle was built, the
+     * previously serialized bundle is returned without retrieving the cached reference data.
+     */
+    long generation = getReferenceDataGeneration();
+
+    ReferenceDataSnapshot<ReferenceDataBundle> referenceDataBundleSnapshot =
+        referenceDataBundles.get(bundleKey);
+
+    if ((referenceDataBundleSnapshot != null)
+        && (referenceDataBundleSnapshot.generation == generation)) {
+      return referenceDataBundleSnapshot.value;
+    }
+
+    Map<String, Object> referenceData = new LinkedHashMap<>();
+
+    addReferenceData(
+        referenceData,
+        "associationPropertyTypes",
+        getPartyReferenceService().getAssociationPropertyTypes(localeId),
+        tenantId,
+        AssociationPropertyType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "associationTypes",
+        getPartyReferenceService().getAssociationTypes(localeId),
+        tenantId,
+        AssociationType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "attributeTypeCategories",
+        getPartyReferenceService().getAttributeTypeCategories(localeId),
+        tenantId,
+        AttributeTypeCategory::getTenantId);
+    addReferenceData(
+        referenceData,
+        "attributeTypes",
+        getPartyReferenceService().getAttributeTypes(localeId),
+        tenantId,
+        AttributeType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "consentTypes",
+        getPartyReferenceService().getConsentTypes(localeId),
+        tenantId,
+        ConsentType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "contactMechanismPurposes",
+        getPartyReferenceService().getContactMechanismPurposes(localeId),
+        tenantId,
+        ContactMechanismPurpose::getTenantId);
+    addReferenceData(
+        referenceData,
+        "contactMechanismRoles",
+        getPartyReferenceService().getContactMechanismRoles(localeId),
+        tenantId,
+        ContactMechanismRole::getTenantId);
+    addReferenceData(
+        referenceData,
+        "contactMechanismTypes",
+        getPartyReferenceService().getContactMechanismTypes(localeId),
+        tenantId,
+        ContactMechanismType::getTenantId);
+    addReferenceData(
+        referenceData, "countries", referenceService.getCountries(localeId), null, null);
+    addReferenceData(
+        referenceData,
+        "employmentStatuses",
+        getPartyReferenceService().getEmploymentStatuses(localeId),
+        tenantId,
+        EmploymentStatus::getTenantId);
+    addReferenceData(
+        referenceData,
+        "employmentTypes",
+        getPartyReferenceService().getEmploymentTypes(localeId),
+        tenantId,
+        EmploymentType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "externalReferenceTypes",
+        getPartyReferenceService().getExternalReferenceTypes(localeId),
+        tenantId,
+        ExternalReferenceType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "fieldsOfStudy",
+        getPartyReferenceService().getFieldsOfStudy(localeId),
+        tenantId,
+        FieldOfStudy::getTenantId);
+    addReferenceData(
+        referenceData,
+        "genders",
+        getPartyReferenceService().getGenders(localeId),
+        tenantId,
+        Gender::getTenantId);
+    addReferenceData(
+        referenceData,
+        "identityDocumentTypes",
+        getPartyReferenceService().getIdentityDocumentTypes(localeId),
+        tenantId,
+        IdentityDocumentType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "industryClassificationCategories",
+        getPartyReferenceService().getIndustryClassificationCategories(localeId),
+        tenantId,
+        IndustryClassificationCategory::getTenantId);
+    addReferenceData(
+        referenceData,
+        "industryClassificationSystems",
+        getPartyReferenceService().getIndustryClassificationSystems(localeId),
+        tenantId,
+        IndustryClassificationSystem::getTenantId);
+    addReferenceData(
+        referenceData,
+        "industryClassifications",
+        getPartyReferenceService().getIndustryClassifications(localeId),
+        tenantId,
+        IndustryClassification::getTenantId);
+    addReferenceData(
+        referenceData, "languages", referenceService.getLanguages(localeId), null, null);
+    addReferenceData(
+        referenceData,
+        "linkTypes",
+        getPartyReferenceService().getLinkTypes(localeId),
+        tenantId,
+        LinkType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "lockTypeCategories",
+        getPartyReferenceService().getLockTypeCategories(localeId),
+        tenantId,
+        LockTypeCategory::getTenantId);
+    addReferenceData(
+        referenceData,
+        "lockTypes",
+        getPartyReferenceService().getLockTypes(localeId),
+        tenantId,
+        LockType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "mandataryRoles",
+        getPartyReferenceService().getMandataryRoles(localeId),
+        tenantId,
+        MandataryRole::getTenantId);
+    addReferenceData(
+        referenceData,
+        "mandatePropertyTypes",
+        getPartyReferenceService().getMandatePropertyTypes(localeId),
+        tenantId,
+        MandatePropertyType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "mandateTypes",
+        getPartyReferenceService().getMandateTypes(localeId),
+        tenantId,
+        MandateType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "maritalStatuses",
+        getPartyReferenceService().getMaritalStatuses(localeId),
+        tenantId,
+        MaritalStatus::getTenantId);
+    addReferenceData(
+        referenceData,
+        "marriageTypes",
+        getPartyReferenceService().getMarriageTypes(localeId),
+        tenantId,
+        MarriageType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "measurementSystems",
+        referenceService.getMeasurementSystems(localeId),
+        null,
+        null);
+    addReferenceData(
+        referenceData,
+        "measurementUnitTypes",
+        referenceService.getMeasurementUnitTypes(localeId),
+        null,
+        null);
+    addReferenceData(
+        referenceData,
+        "measurementUnits",
+        referenceService.getMeasurementUnits(localeId),
+        null,
+        null);
+    addReferenceData(
+        referenceData,
+        "nextOfKinTypes",
+        getPartyReferenceService().getNextOfKinTypes(localeId),
+        tenantId,
+        NextOfKinType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "occupations",
+        getPartyReferenceService().getOccupations(localeId),
+        tenantId,
+        Occupation::getTenantId);
+    addReferenceData(
+        referenceData,
+        "physicalAddressPurposes",
+        getPartyReferenceService().getPhysicalAddressPurposes(localeId),
+        tenantId,
+        PhysicalAddressPurpose::getTenantId);
+    addReferenceData(
+        referenceData,
+        "physicalAddressRoles",
+        getPartyReferenceService().getPhysicalAddressRoles(localeId),
+        tenantId,
+        PhysicalAddressRole::getTenantId);
+    addReferenceData(
+        referenceData,
+        "physicalAddressTypes",
+        getPartyReferenceService().getPhysicalAddressTypes(localeId),
+        tenantId,
+        PhysicalAddressType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "preferenceTypeCategories",
+        getPartyReferenceService().getPreferenceTypeCategories(localeId),
+        tenantId,
+        PreferenceTypeCategory::getTenantId);
+    addReferenceData(
+        referenceData,
+        "preferenceTypes",
+        getPartyReferenceService().getPreferenceTypes(localeId),
+        tenantId,
+        PreferenceType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "qualificationTypes",
+        getPartyReferenceService().getQualificationTypes(localeId),
+        tenantId,
+        QualificationType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "races",
+        getPartyReferenceService().getRaces(localeId),
+        tenantId,
+        Race::getTenantId);
+    addReferenceData(referenceData, "regions", referenceService.getRegions(localeId), null, null);
+    addReferenceData(
+        referenceData,
+        "residencePermitTypes",
+        getPartyReferenceService().getResidencePermitTypes(localeId),
+        tenantId,
+        ResidencePermitType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "residencyStatuses",
+        getPartyReferenceService().getResidencyStatuses(localeId),
+        tenantId,
+        ResidencyStatus::getTenantId);
+    addReferenceData(
+        referenceData,
+        "residentialTypes",
+        getPartyReferenceService().getResidentialTypes(localeId),
+        tenantId,
+        ResidentialType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "rolePurposes",
+        getPartyReferenceService().getRolePurposes(localeId),
+        tenantId,
+        RolePurpose::getTenantId);
+    addReferenceData(
+        referenceData,
+        "roleTypeAttributeTypeConstraints",
+        getPartyReferenceService().getRoleTypeAttributeTypeConstraints(),
+        null,
+        null);
+    addReferenceData(
+        referenceData,
+        "roleTypePreferenceTypeConstraints",
+        getPartyReferenceService().getRoleTypePreferenceTypeConstraints(),
+        null,
+        null);
+    addReferenceData(
+        referenceData,
+        "roleTypes",
+        getPartyReferenceService().getRoleTypes(localeId),
+        tenantId,
+        RoleType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "segmentationTypes",
+        getPartyReferenceService().getSegmentationTypes(localeId),
+        tenantId,
+        SegmentationType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "segments",
+        getPartyReferenceService().getSegments(localeId),
+        tenantId,
+        Segment::getTenantId);
+    addReferenceData(
+        referenceData,
+        "skillTypes",
+        getPartyReferenceService().getSkillTypes(localeId),
+        tenantId,
+        SkillType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "sourceOfFundsTypes",
+        getPartyReferenceService().getSourceOfFundsTypes(localeId),
+        tenantId,
+        SourceOfFundsType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "sourceOfWealthTypes",
+        getPartyReferenceService().getSourceOfWealthTypes(localeId),
+        tenantId,
+        SourceOfWealthType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "statusTypeCategories",
+        getPartyReferenceService().getStatusTypeCategories(localeId),
+        tenantId,
+        StatusTypeCategory::getTenantId);
+    addReferenceData(
+        referenceData,
+        "statusTypes",
+        getPartyReferenceService().getStatusTypes(localeId),
+        tenantId,
+        StatusType::getTenantId);
+    addReferenceData(
+        referenceData,
+        "taxNumberTypes",
+        getPartyReferenceService().getTaxNumberTypes(localeId),
+        tenantId,
+        TaxNumberType::getTenantId);
+    addReferenceData(
+        referenceData, "timeZones", referenceService.getTimeZones(localeId), null, null);
+    addReferenceData(
+        referenceData,
+        "timesToContact",
+        getPartyReferenceService().getTimesToContact(localeId),
+        tenantId,
+        TimeToContact::getTenantId);
+    addReferenceData(
+        referenceData,
+        "titles",
+        getPartyReferenceService().getTitles(localeId),
+        tenantId,
+        Title::getTenantId);
+
+    try {
+      byte[] data = objectMapper.writeValueAsBytes(referenceData);
+
+      ReferenceDataBundle referenceDataBundle =
+          new ReferenceDataBundle(
+              tenantId,
+              localeId,
+              data,
+              GZIPUtil.compress(data),
+              Base64.getUrlEncoder()
+                  .withoutPadding()
+                  .encodeToString(MessageDigest.getInstance("SHA-256").digest(data)));
+
+      referenceDataBundles.put(
+          bundleKey, new ReferenceDataSnapshot<>(generation, referenceDataBundle));
+
+      return referenceDataBundle;
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to create the reference data bundle for the tenant ("
+              + tenantId
+              + ") and locale ("
+              + localeId
+              + ")",
+          e);
+    }
+  }
+
   @Override
   @Cacheable(cacheNames = "reference", key = "'residencePermitTypes.' + #localeId")
   public List<ResidencePermitType> getResidencePermitTypes(String localeId)
@@ -2401,6 +2902,33 @@ public class PartyReferenceService implements IPartyReferenceService {
         .collect(Collectors.toList());
   }
 
+  @Override
+  public PartyValidationPlan getValidationPlan(UUID tenantId) throws ServiceUnavailableException {
+    String validationPlanKey = String.valueOf(tenantId);
+
+    long generation = getReferenceDataGeneration();
+
+    ReferenceDataSnapshot<PartyValidationPlan> validationPlanSnapshot =
+        validationPlans.get(validationPlanKey);
+
+    if ((validationPlanSnapshot != null) && (validationPlanSnapshot.generation == generation)) {
+      return validationPlanSnapshot.value;
+    }
+
+    try {
+      PartyValidationPlan validationPlan =
+          new PartyValidationPlan(tenantId, getPartyReferenceService(), referenceService);
+
+      validationPlans.put(
+          validationPlanKey, new ReferenceDataSnapshot<>(generation, validationPlan));
+
+      return validationPlan;
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to compile the validation plan for the tenant (" + tenantId + ")", e);
+    }
+  }
+
   @Override
   public boolean isValidAssociationPropertyType(
       UUID tenantId, String associationTypeCode, String associationPropertyTypeCode)
@@ -2409,15 +2937,16 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getAssociationPropertyTypes().stream()
+    return getReferenceDataIndex(
+            "associationPropertyTypes",
+            getPartyReferenceService()::getAssociationPropertyTypes,
+            AssociationPropertyType::getTenantId,
+            AssociationPropertyType::getCode)
         .anyMatch(
+            tenantId,
+            associationPropertyTypeCode,
             associationPropertyType ->
-                (associationPropertyType.getTenantId() == null
-                        || associationPropertyType.getTenantId().equals(tenantId))
-                    && Objects.equals(
-                        associationPropertyType.getAssociationType(), associationTypeCode)
-                    && Objects.equals(
-                        associationPropertyType.getCode(), associationPropertyTypeCode));
+                Objects.equals(associationPropertyType.getAssociationType(), associationTypeCode));
   }
 
   @Override
@@ -2427,12 +2956,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getAssociationTypes().stream()
-        .anyMatch(
-            associationType ->
-                (associationType.getTenantId() == null
-                        || Objects.equals(associationType.getTenantId(), tenantId))
-                    && Objects.equals(associationType.getCode(), associationTypeCode));
+    return getReferenceDataIndex(
+            "associationTypes",
+            getPartyReferenceService()::getAssociationTypes,
+            AssociationType::getTenantId,
+            AssociationType::getCode)
+        .contains(tenantId, associationTypeCode);
   }
 
   @Override
@@ -2442,13 +2971,15 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getAttributeTypes().stream()
+    return getReferenceDataIndex(
+            "attributeTypes",
+            getPartyReferenceService()::getAttributeTypes,
+            AttributeType::getTenantId,
+            AttributeType::getCode)
         .anyMatch(
-            attributeType ->
-                (attributeType.getTenantId() == null
-                        || attributeType.getTenantId().equals(tenantId))
-                    && Objects.equals(attributeType.getCode(), attributeTypeCode)
-                    && attributeType.isValidForPartyType(partyTypeCode));
+            tenantId,
+            attributeTypeCode,
+            attributeType -> attributeType.isValidForPartyType(partyTypeCode));
   }
 
   @Override
@@ -2458,12 +2989,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getAttributeTypeCategories().stream()
-        .anyMatch(
-            attributeTypeCategory ->
-                (attributeTypeCategory.getTenantId() == null
-                        || Objects.equals(attributeTypeCategory.getTenantId(), tenantId))
-                    && Objects.equals(attributeTypeCategory.getCode(), attributeTypeCategoryCode));
+    return getReferenceDataIndex(
+            "attributeTypeCategories",
+            getPartyReferenceService()::getAttributeTypeCategories,
+            AttributeTypeCategory::getTenantId,
+            AttributeTypeCategory::getCode)
+        .contains(tenantId, attributeTypeCategoryCode);
   }
 
   @Override
@@ -2473,12 +3004,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getConsentTypes().stream()
-        .anyMatch(
-            consentType ->
-                (consentType.getTenantId() == null
-                        || Objects.equals(consentType.getTenantId(), tenantId))
-                    && Objects.equals(consentType.getCode(), consentTypeCode));
+    return getReferenceDataIndex(
+            "consentTypes",
+            getPartyReferenceService()::getConsentTypes,
+            ConsentType::getTenantId,
+            ConsentType::getCode)
+        .contains(tenantId, consentTypeCode);
   }
 
   @Override
@@ -2492,16 +3023,18 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getContactMechanismPurposes().stream()
+    return getReferenceDataIndex(
+            "contactMechanismPurposes",
+            getPartyReferenceService()::getContactMechanismPurposes,
+            ContactMechanismPurpose::getTenantId,
+            ContactMechanismPurpose::getCode)
         .anyMatch(
+            tenantId,
+            contactMechanismPurposeCode,
             contactMechanismPurpose ->
-                (contactMechanismPurpose.getTenantId() == null
-                        || Objects.equals(contactMechanismPurpose.getTenantId(), tenantId))
-                    && contactMechanismPurpose.isValidForPartyType(partyTypeCode)
+                contactMechanismPurpose.isValidForPartyType(partyTypeCode)
                     && contactMechanismPurpose.isValidForContactMechanismType(
-                        contactMechanismTypeCode)
-                    && Objects.equals(
-                        contactMechanismPurpose.getCode(), contactMechanismPurposeCode));
+                        contactMechanismTypeCode));
   }
 
   @Override
@@ -2519,16 +3052,19 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getContactMechanismRoles().stream()
+    return getReferenceDataIndex(
+            "contactMechanismRoles",
+            getPartyReferenceService()::getContactMechanismRoles,
+            ContactMechanismRole::getTenantId,
+            ContactMechanismRole::getCode)
         .anyMatch(
+            tenantId,
+            contactMechanismRoleCode,
             contactMechanismRole ->
-                (contactMechanismRole.getTenantId() == null
-                        || Objects.equals(contactMechanismRole.getTenantId(), tenantId))
-                    && contactMechanismRole.isValidForPartyType(partyTypeCode)
+                contactMechanismRole.isValidForPartyType(partyTypeCode)
                     && contactMechanismRole
                         .getContactMechanismType()
-                        .equals(contactMechanismTypeCode)
-                    && Objects.equals(contactMechanismRole.getCode(), contactMechanismRoleCode));
+                        .equals(contactMechanismTypeCode));
   }
 
   @Override
@@ -2538,12 +3074,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getContactMechanismTypes().stream()
-        .anyMatch(
-            contactMechanismType ->
-                (contactMechanismType.getTenantId() == null
-                        || Objects.equals(contactMechanismType.getTenantId(), tenantId))
-                    && Objects.equals(contactMechanismType.getCode(), contactMechanismTypeCode));
+    return getReferenceDataIndex(
+            "contactMechanismTypes",
+            getPartyReferenceService()::getContactMechanismTypes,
+            ContactMechanismType::getTenantId,
+            ContactMechanismType::getCode)
+        .contains(tenantId, contactMechanismTypeCode);
   }
 
   @Override
@@ -2553,12 +3089,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getEmploymentStatuses().stream()
-        .anyMatch(
-            employmentStatus ->
-                (employmentStatus.getTenantId() == null
-                        || Objects.equals(employmentStatus.getTenantId(), tenantId))
-                    && Objects.equals(employmentStatus.getCode(), employmentStatusCode));
+    return getReferenceDataIndex(
+            "employmentStatuses",
+            getPartyReferenceService()::getEmploymentStatuses,
+            EmploymentStatus::getTenantId,
+            EmploymentStatus::getCode)
+        .contains(tenantId, employmentStatusCode);
   }
 
   @Override
@@ -2569,13 +3105,16 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getEmploymentTypes().stream()
+    return getReferenceDataIndex(
+            "employmentTypes",
+            getPartyReferenceService()::getEmploymentTypes,
+            EmploymentType::getTenantId,
+            EmploymentType::getCode)
         .anyMatch(
+            tenantId,
+            employmentTypeCode,
             employmentType ->
-                (employmentType.getTenantId() == null
-                        || Objects.equals(employmentType.getTenantId(), tenantId))
-                    && Objects.equals(employmentType.getCode(), employmentTypeCode)
-                    && Objects.equals(employmentType.getEmploymentStatus(), employmentStatusCode));
+                Objects.equals(employmentType.getEmploymentStatus(), employmentStatusCode));
   }
 
   @Override
@@ -2585,12 +3124,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getEmploymentTypes().stream()
-        .anyMatch(
-            employmentType ->
-                (employmentType.getTenantId() == null
-                        || Objects.equals(employmentType.getTenantId(), tenantId))
-                    && Objects.equals(employmentType.getCode(), employmentTypeCode));
+    return getReferenceDataIndex(
+            "employmentTypes",
+            getPartyReferenceService()::getEmploymentTypes,
+            EmploymentType::getTenantId,
+            EmploymentType::getCode)
+        .contains(tenantId, employmentTypeCode);
   }
 
   @Override
@@ -2601,13 +3140,16 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getExternalReferenceTypes().stream()
+    return getReferenceDataIndex(
+            "externalReferenceTypes",
+            getPartyReferenceService()::getExternalReferenceTypes,
+            ExternalReferenceType::getTenantId,
+            ExternalReferenceType::getCode)
         .anyMatch(
+            tenantId,
+            externalReferenceTypeCode,
             externalReferenceType -> {
-              if ((externalReferenceType.getTenantId() == null
-                      || Objects.equals(externalReferenceType.getTenantId(), tenantId))
-                  && Objects.equals(externalReferenceType.getCode(), externalReferenceTypeCode)
-                  && externalReferenceType.isValidForPartyType(partyTypeCode)) {
+              if (externalReferenceType.isValidForPartyType(partyTypeCode)) {
                 if (StringUtils.hasText(externalReferenceType.getPattern())) {
                   Pattern pattern = externalReferenceType.getCompiledPattern();
 
@@ -2631,13 +3173,15 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getExternalReferenceTypes().stream()
+    return getReferenceDataIndex(
+            "externalReferenceTypes",
+            getPartyReferenceService()::getExternalReferenceTypes,
+            ExternalReferenceType::getTenantId,
+            ExternalReferenceType::getCode)
         .anyMatch(
-            externalReferenceType ->
-                (externalReferenceType.getTenantId() == null
-                        || Objects.equals(externalReferenceType.getTenantId(), tenantId))
-                    && Objects.equals(externalReferenceType.getCode(), externalReferenceTypeCode)
-                    && externalReferenceType.isValidForPartyType(partyTypeCode));
+            tenantId,
+            externalReferenceTypeCode,
+            externalReferenceType -> externalReferenceType.isValidForPartyType(partyTypeCode));
   }
 
   @Override
@@ -2647,12 +3191,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getFieldsOfStudy().stream()
-        .anyMatch(
-            fieldOfStudy ->
-                (fieldOfStudy.getTenantId() == null
-                        || Objects.equals(fieldOfStudy.getTenantId(), tenantId))
-                    && Objects.equals(fieldOfStudy.getCode(), fieldOfStudyCode));
+    return getReferenceDataIndex(
+            "fieldsOfStudy",
+            getPartyReferenceService()::getFieldsOfStudy,
+            FieldOfStudy::getTenantId,
+            FieldOfStudy::getCode)
+        .contains(tenantId, fieldOfStudyCode);
   }
 
   @Override
@@ -2662,11 +3206,9 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getGenders().stream()
-        .anyMatch(
-            gender ->
-                (gender.getTenantId() == null || Objects.equals(gender.getTenantId(), tenantId))
-                    && Objects.equals(gender.getCode(), genderCode));
+    return getReferenceDataIndex(
+            "genders", getPartyReferenceService()::getGenders, Gender::getTenantId, Gender::getCode)
+        .contains(tenantId, genderCode);
   }
 
   @Override
@@ -2677,13 +3219,16 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getIdentityDocumentTypes().stream()
+    return getReferenceDataIndex(
+            "identityDocumentTypes",
+            getPartyReferenceService()::getIdentityDocumentTypes,
+            IdentityDocumentType::getTenantId,
+            IdentityDocumentType::getCode)
         .anyMatch(
+            tenantId,
+            identityDocumentTypeCode,
             identityDocumentType -> {
-              if ((identityDocumentType.getTenantId() == null
-                      || Objects.equals(identityDocumentType.getTenantId(), tenantId))
-                  && Objects.equals(identityDocumentType.getCode(), identityDocumentTypeCode)
-                  && identityDocumentType.isValidForPartyType(partyTypeCode)) {
+              if (identityDocumentType.isValidForPartyType(partyTypeCode)) {
                 if (StringUtils.hasText(identityDocumentType.getPattern())) {
                   Pattern pattern = identityDocumentType.getCompiledPattern();
 
@@ -2707,13 +3252,15 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getIdentityDocumentTypes().stream()
+    return getReferenceDataIndex(
+            "identityDocumentTypes",
+            getPartyReferenceService()::getIdentityDocumentTypes,
+            IdentityDocumentType::getTenantId,
+            IdentityDocumentType::getCode)
         .anyMatch(
-            identityDocumentType ->
-                (identityDocumentType.getTenantId() == null
-                        || Objects.equals(identityDocumentType.getTenantId(), tenantId))
-                    && Objects.equals(identityDocumentType.getCode(), identityDocumentTypeCode)
-                    && identityDocumentType.isValidForPartyType(partyTypeCode));
+            tenantId,
+            identityDocumentTypeCode,
+            identityDocumentType -> identityDocumentType.isValidForPartyType(partyTypeCode));
   }
 
   @Override
@@ -2744,12 +3291,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getLockTypes().stream()
-        .anyMatch(
-            lockType ->
-                (lockType.getTenantId() == null || Objects.equals(lockType.getTenantId(), tenantId))
-                    && Objects.equals(lockType.getCode(), lockTypeCode)
-                    && lockType.isValidForPartyType(partyTypeCode));
+    return getReferenceDataIndex(
+            "lockTypes",
+            getPartyReferenceService()::getLockTypes,
+            LockType::getTenantId,
+            LockType::getCode)
+        .anyMatch(tenantId, lockTypeCode, lockType -> lockType.isValidForPartyType(partyTypeCode));
   }
 
   @Override
@@ -2759,12 +3306,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getLockTypeCategories().stream()
-        .anyMatch(
-            lockTypeCategory ->
-                (lockTypeCategory.getTenantId() == null
-                        || Objects.equals(lockTypeCategory.getTenantId(), tenantId))
-                    && Objects.equals(lockTypeCategory.getCode(), lockTypeCategoryCode));
+    return getReferenceDataIndex(
+            "lockTypeCategories",
+            getPartyReferenceService()::getLockTypeCategories,
+            LockTypeCategory::getTenantId,
+            LockTypeCategory::getCode)
+        .contains(tenantId, lockTypeCategoryCode);
   }
 
   @Override
@@ -2774,12 +3321,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getMandateTypes().stream()
-        .anyMatch(
-            mandateType ->
-                (mandateType.getTenantId() == null
-                        || Objects.equals(mandateType.getTenantId(), tenantId))
-                    && Objects.equals(mandateType.getCode(), mandateTypeCode));
+    return getReferenceDataIndex(
+            "mandateTypes",
+            getPartyReferenceService()::getMandateTypes,
+            MandateType::getTenantId,
+            MandateType::getCode)
+        .contains(tenantId, mandateTypeCode);
   }
 
   @Override
@@ -2789,12 +3336,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getMaritalStatuses().stream()
-        .anyMatch(
-            maritalStatus ->
-                (maritalStatus.getTenantId() == null
-                        || Objects.equals(maritalStatus.getTenantId(), tenantId))
-                    && Objects.equals(maritalStatus.getCode(), maritalStatusCode));
+    return getReferenceDataIndex(
+            "maritalStatuses",
+            getPartyReferenceService()::getMaritalStatuses,
+            MaritalStatus::getTenantId,
+            MaritalStatus::getCode)
+        .contains(tenantId, maritalStatusCode);
   }
 
   @Override
@@ -2837,15 +3384,18 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getAttributeTypes().stream()
+    return getReferenceDataIndex(
+            "attributeTypes",
+            getPartyReferenceService()::getAttributeTypes,
+            AttributeType::getTenantId,
+            AttributeType::getCode)
         .anyMatch(
+            tenantId,
+            attributeTypeCode,
             attributeType ->
-                (attributeType.getTenantId() == null
-                        || Objects.equals(attributeType.getTenantId(), tenantId))
-                    && Objects.equals(attributeType.getCode(), attributeTypeCode)
-                    && Objects.equals(
-                        attributeType.getUnitType(),
-                        measurementUnit == null ? null : measurementUnit.getType()));
+                Objects.equals(
+                    attributeType.getUnitType(),
+                    measurementUnit == null ? null : measurementUnit.getType()));
   }
 
   @Override
@@ -2855,12 +3405,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getNextOfKinTypes().stream()
-        .anyMatch(
-            nextOfKinType ->
-                (nextOfKinType.getTenantId() == null
-                        || Objects.equals(nextOfKinType.getTenantId(), tenantId))
-                    && Objects.equals(nextOfKinType.getCode(), nextOfKinTypeCode));
+    return getReferenceDataIndex(
+            "nextOfKinTypes",
+            getPartyReferenceService()::getNextOfKinTypes,
+            NextOfKinType::getTenantId,
+            NextOfKinType::getCode)
+        .contains(tenantId, nextOfKinTypeCode);
   }
 
   @Override
@@ -2870,12 +3420,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getOccupations().stream()
-        .anyMatch(
-            occupation ->
-                (occupation.getTenantId() == null
-                        || Objects.equals(occupation.getTenantId(), tenantId))
-                    && Objects.equals(occupation.getCode(), occupationCode));
+    return getReferenceDataIndex(
+            "occupations",
+            getPartyReferenceService()::getOccupations,
+            Occupation::getTenantId,
+            Occupation::getCode)
+        .contains(tenantId, occupationCode);
   }
 
   @Override
@@ -2886,13 +3436,15 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getPhysicalAddressPurposes().stream()
+    return getReferenceDataIndex(
+            "physicalAddressPurposes",
+            getPartyReferenceService()::getPhysicalAddressPurposes,
+            PhysicalAddressPurpose::getTenantId,
+            PhysicalAddressPurpose::getCode)
         .anyMatch(
-            physicalAddressPurpose ->
-                (physicalAddressPurpose.getTenantId() == null
-                        || Objects.equals(physicalAddressPurpose.getTenantId(), tenantId))
-                    && Objects.equals(physicalAddressPurpose.getCode(), physicalAddressPurposeCode)
-                    && physicalAddressPurpose.isValidForPartyType(partyTypeCode));
+            tenantId,
+            physicalAddressPurposeCode,
+            physicalAddressPurpose -> physicalAddressPurpose.isValidForPartyType(partyTypeCode));
   }
 
   @Override
@@ -2902,13 +3454,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getPhysicalAddressPurposes().stream()
-        .anyMatch(
-            physicalAddressPurpose ->
-                (physicalAddressPurpose.getTenantId() == null
-                        || Objects.equals(physicalAddressPurpose.getTenantId(), tenantId))
-                    && Objects.equals(
-                        physicalAddressPurpose.getCode(), physicalAddressPurposeCode));
+    return getReferenceDataIndex(
+            "physicalAddressPurposes",
+            getPartyReferenceService()::getPhysicalAddressPurposes,
+            PhysicalAddressPurpose::getTenantId,
+            PhysicalAddressPurpose::getCode)
+        .contains(tenantId, physicalAddressPurposeCode);
   }
 
   @Override
@@ -2919,13 +3470,15 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getPhysicalAddressRoles().stream()
+    return getReferenceDataIndex(
+            "physicalAddressRoles",
+            getPartyReferenceService()::getPhysicalAddressRoles,
+            PhysicalAddressRole::getTenantId,
+            PhysicalAddressRole::getCode)
         .anyMatch(
-            physicalAddressRole ->
-                (physicalAddressRole.getTenantId() == null
-                        || Objects.equals(physicalAddressRole.getTenantId(), tenantId))
-                    && Objects.equals(physicalAddressRole.getCode(), physicalAddressRoleCode)
-                    && physicalAddressRole.isValidForPartyType(partyTypeCode));
+            tenantId,
+            physicalAddressRoleCode,
+            physicalAddressRole -> physicalAddressRole.isValidForPartyType(partyTypeCode));
   }
 
   @Override
@@ -2935,12 +3488,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getPhysicalAddressRoles().stream()
-        .anyMatch(
-            physicalAddressRole ->
-                (physicalAddressRole.getTenantId() == null
-                        || Objects.equals(physicalAddressRole.getTenantId(), tenantId))
-                    && Objects.equals(physicalAddressRole.getCode(), physicalAddressRoleCode));
+    return getReferenceDataIndex(
+            "physicalAddressRoles",
+            getPartyReferenceService()::getPhysicalAddressRoles,
+            PhysicalAddressRole::getTenantId,
+            PhysicalAddressRole::getCode)
+        .contains(tenantId, physicalAddressRoleCode);
   }
 
   @Override
@@ -2950,12 +3503,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getPhysicalAddressTypes().stream()
-        .anyMatch(
-            physicalAddressType ->
-                (physicalAddressType.getTenantId() == null
-                        || Objects.equals(physicalAddressType.getTenantId(), tenantId))
-                    && Objects.equals(physicalAddressType.getCode(), physicalAddressTypeCode));
+    return getReferenceDataIndex(
+            "physicalAddressTypes",
+            getPartyReferenceService()::getPhysicalAddressTypes,
+            PhysicalAddressType::getTenantId,
+            PhysicalAddressType::getCode)
+        .contains(tenantId, physicalAddressTypeCode);
   }
 
   @Override
@@ -2966,13 +3519,15 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getPreferenceTypes().stream()
+    return getReferenceDataIndex(
+            "preferenceTypes",
+            getPartyReferenceService()::getPreferenceTypes,
+            PreferenceType::getTenantId,
+            PreferenceType::getCode)
         .anyMatch(
-            preferenceType ->
-                (preferenceType.getTenantId() == null
-                        || Objects.equals(preferenceType.getTenantId(), tenantId))
-                    && Objects.equals(preferenceType.getCode(), preferenceTypeCode)
-                    && preferenceType.isValidForPartyType(partyTypeCode));
+            tenantId,
+            preferenceTypeCode,
+            preferenceType -> preferenceType.isValidForPartyType(partyTypeCode));
   }
 
   @Override
@@ -2982,13 +3537,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getPreferenceTypeCategories().stream()
-        .anyMatch(
-            preferenceTypeCategory ->
-                (preferenceTypeCategory.getTenantId() == null
-                        || Objects.equals(preferenceTypeCategory.getTenantId(), tenantId))
-                    && Objects.equals(
-                        preferenceTypeCategory.getCode(), preferenceTypeCategoryCode));
+    return getReferenceDataIndex(
+            "preferenceTypeCategories",
+            getPartyReferenceService()::getPreferenceTypeCategories,
+            PreferenceTypeCategory::getTenantId,
+            PreferenceTypeCategory::getCode)
+        .contains(tenantId, preferenceTypeCategoryCode);
   }
 
   @Override
@@ -2998,12 +3552,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getQualificationTypes().stream()
-        .anyMatch(
-            qualificationType ->
-                (qualificationType.getTenantId() == null
-                        || Objects.equals(qualificationType.getTenantId(), tenantId))
-                    && Objects.equals(qualificationType.getCode(), qualificationTypeCode));
+    return getReferenceDataIndex(
+            "qualificationTypes",
+            getPartyReferenceService()::getQualificationTypes,
+            QualificationType::getTenantId,
+            QualificationType::getCode)
+        .contains(tenantId, qualificationTypeCode);
   }
 
   @Override
@@ -3012,11 +3566,9 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getRaces().stream()
-        .anyMatch(
-            race ->
-                (race.getTenantId() == null || Objects.equals(race.getTenantId(), tenantId))
-                    && Objects.equals(race.getCode(), raceCode));
+    return getReferenceDataIndex(
+            "races", getPartyReferenceService()::getRaces, Race::getTenantId, Race::getCode)
+        .contains(tenantId, raceCode);
   }
 
   @Override
@@ -3027,23 +3579,23 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getResidencePermitTypes().stream()
+    return getReferenceDataIndex(
+            "residencePermitTypes",
+            getPartyReferenceService()::getResidencePermitTypes,
+            ResidencePermitType::getTenantId,
+            ResidencePermitType::getCode)
         .anyMatch(
+            tenantId,
+            residencePermitTypeCode,
             residencePermitType -> {
-              if ((residencePermitType.getTenantId() == null
-                      || Objects.equals(residencePermitType.getTenantId(), tenantId))
-                  && Objects.equals(residencePermitType.getCode(), residencePermitTypeCode)) {
-                if (StringUtils.hasText(residencePermitType.getPattern())) {
-                  Pattern pattern = residencePermitType.getCompiledPattern();
+              if (StringUtils.hasText(residencePermitType.getPattern())) {
+                Pattern pattern = residencePermitType.getCompiledPattern();
 
-                  Matcher matcher = pattern.matcher(number);
+                Matcher matcher = pattern.matcher(number);
 
-                  return matcher.matches();
-                } else {
-                  return true;
-                }
+                return matcher.matches();
               } else {
-                return false;
+                return true;
               }
             });
   }
@@ -3055,12 +3607,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getResidencePermitTypes().stream()
-        .anyMatch(
-            residencePermitType ->
-                (residencePermitType.getTenantId() == null
-                        || Objects.equals(residencePermitType.getTenantId(), tenantId))
-                    && Objects.equals(residencePermitType.getCode(), residencePermitTypeCode));
+    return getReferenceDataIndex(
+            "residencePermitTypes",
+            getPartyReferenceService()::getResidencePermitTypes,
+            ResidencePermitType::getTenantId,
+            ResidencePermitType::getCode)
+        .contains(tenantId, residencePermitTypeCode);
   }
 
   @Override
@@ -3070,12 +3622,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getResidencyStatuses().stream()
-        .anyMatch(
-            residencyStatus ->
-                (residencyStatus.getTenantId() == null
-                        || Objects.equals(residencyStatus.getTenantId(), tenantId))
-                    && Objects.equals(residencyStatus.getCode(), residencyStatusCode));
+    return getReferenceDataIndex(
+            "residencyStatuses",
+            getPartyReferenceService()::getResidencyStatuses,
+            ResidencyStatus::getTenantId,
+            ResidencyStatus::getCode)
+        .contains(tenantId, residencyStatusCode);
   }
 
   @Override
@@ -3085,12 +3637,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getResidentialTypes().stream()
-        .anyMatch(
-            residentialType ->
-                (residentialType.getTenantId() == null
-                        || Objects.equals(residentialType.getTenantId(), tenantId))
-                    && Objects.equals(residentialType.getCode(), residentialTypeCode));
+    return getReferenceDataIndex(
+            "residentialTypes",
+            getPartyReferenceService()::getResidentialTypes,
+            ResidentialType::getTenantId,
+            ResidentialType::getCode)
+        .contains(tenantId, residentialTypeCode);
   }
 
   @Override
@@ -3100,12 +3652,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getRolePurposes().stream()
-        .anyMatch(
-            rolePurpose ->
-                (rolePurpose.getTenantId() == null
-                        || (Objects.equals(rolePurpose.getTenantId(), tenantId)))
-                    && Objects.equals(rolePurpose.getCode(), rolePurposeCode));
+    return getReferenceDataIndex(
+            "rolePurposes",
+            getPartyReferenceService()::getRolePurposes,
+            RolePurpose::getTenantId,
+            RolePurpose::getCode)
+        .contains(tenantId, rolePurposeCode);
   }
 
   @Override
@@ -3115,12 +3667,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getRoleTypes().stream()
-        .anyMatch(
-            roleType ->
-                (roleType.getTenantId() == null || Objects.equals(roleType.getTenantId(), tenantId))
-                    && Objects.equals(roleType.getCode(), roleTypeCode)
-                    && roleType.isValidForPartyType(partyTypeCode));
+    return getReferenceDataIndex(
+            "roleTypes",
+            getPartyReferenceService()::getRoleTypes,
+            RoleType::getTenantId,
+            RoleType::getCode)
+        .anyMatch(tenantId, roleTypeCode, roleType -> roleType.isValidForPartyType(partyTypeCode));
   }
 
   @Override
@@ -3130,11 +3682,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getSegments().stream()
-        .anyMatch(
-            segment ->
-                (segment.getTenantId() == null || Objects.equals(segment.getTenantId(), tenantId))
-                    && Objects.equals(segment.getCode(), segmentCode));
+    return getReferenceDataIndex(
+            "segments",
+            getPartyReferenceService()::getSegments,
+            Segment::getTenantId,
+            Segment::getCode)
+        .contains(tenantId, segmentCode);
   }
 
   @Override
@@ -3144,12 +3697,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getSkillTypes().stream()
-        .anyMatch(
-            skillType ->
-                (skillType.getTenantId() == null
-                        || Objects.equals(skillType.getTenantId(), tenantId))
-                    && Objects.equals(skillType.getCode(), skillTypeCode));
+    return getReferenceDataIndex(
+            "skillTypes",
+            getPartyReferenceService()::getSkillTypes,
+            SkillType::getTenantId,
+            SkillType::getCode)
+        .contains(tenantId, skillTypeCode);
   }
 
   @Override
@@ -3159,12 +3712,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getSourceOfFundsTypes().stream()
-        .anyMatch(
-            sourceOfFunds ->
-                (sourceOfFunds.getTenantId() == null
-                        || Objects.equals(sourceOfFunds.getTenantId(), tenantId))
-                    && Objects.equals(sourceOfFunds.getCode(), sourceOfFundsTypeCode));
+    return getReferenceDataIndex(
+            "sourceOfFundsTypes",
+            getPartyReferenceService()::getSourceOfFundsTypes,
+            SourceOfFundsType::getTenantId,
+            SourceOfFundsType::getCode)
+        .contains(tenantId, sourceOfFundsTypeCode);
   }
 
   @Override
@@ -3174,12 +3727,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getSourceOfWealthTypes().stream()
-        .anyMatch(
-            sourceOfWealth ->
-                (sourceOfWealth.getTenantId() == null
-                        || Objects.equals(sourceOfWealth.getTenantId(), tenantId))
-                    && Objects.equals(sourceOfWealth.getCode(), sourceOfWealthTypeCode));
+    return getReferenceDataIndex(
+            "sourceOfWealthTypes",
+            getPartyReferenceService()::getSourceOfWealthTypes,
+            SourceOfWealthType::getTenantId,
+            SourceOfWealthType::getCode)
+        .contains(tenantId, sourceOfWealthTypeCode);
   }
 
   @Override
@@ -3189,13 +3742,13 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getStatusTypes().stream()
+    return getReferenceDataIndex(
+            "statusTypes",
+            getPartyReferenceService()::getStatusTypes,
+            StatusType::getTenantId,
+            StatusType::getCode)
         .anyMatch(
-            statusType ->
-                (statusType.getTenantId() == null
-                        || Objects.equals(statusType.getTenantId(), tenantId))
-                    && Objects.equals(statusType.getCode(), statusTypeCode)
-                    && statusType.isValidForPartyType(partyTypeCode));
+            tenantId, statusTypeCode, statusType -> statusType.isValidForPartyType(partyTypeCode));
   }
 
   @Override
@@ -3205,12 +3758,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getStatusTypeCategories().stream()
-        .anyMatch(
-            statusTypeCategory ->
-                (statusTypeCategory.getTenantId() == null
-                        || Objects.equals(statusTypeCategory.getTenantId(), tenantId))
-                    && Objects.equals(statusTypeCategory.getCode(), statusTypeCategoryCode));
+    return getReferenceDataIndex(
+            "statusTypeCategories",
+            getPartyReferenceService()::getStatusTypeCategories,
+            StatusTypeCategory::getTenantId,
+            StatusTypeCategory::getCode)
+        .contains(tenantId, statusTypeCategoryCode);
   }
 
   @Override
@@ -3221,13 +3774,16 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getTaxNumberTypes().stream()
+    return getReferenceDataIndex(
+            "taxNumberTypes",
+            getPartyReferenceService()::getTaxNumberTypes,
+            TaxNumberType::getTenantId,
+            TaxNumberType::getCode)
         .anyMatch(
+            tenantId,
+            taxNumberTypeCode,
             taxNumberType -> {
-              if ((taxNumberType.getTenantId() == null
-                      || Objects.equals(taxNumberType.getTenantId(), tenantId))
-                  && Objects.equals(taxNumberType.getCode(), taxNumberTypeCode)
-                  && taxNumberType.isValidForPartyType(partyTypeCode)) {
+              if (taxNumberType.isValidForPartyType(partyTypeCode)) {
                 if (StringUtils.hasText(taxNumberType.getPattern())) {
                   Pattern pattern = taxNumberType.getCompiledPattern();
 
@@ -3250,13 +3806,15 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getTaxNumberTypes().stream()
+    return getReferenceDataIndex(
+            "taxNumberTypes",
+            getPartyReferenceService()::getTaxNumberTypes,
+            TaxNumberType::getTenantId,
+            TaxNumberType::getCode)
         .anyMatch(
-            taxNumberType ->
-                (taxNumberType.getTenantId() == null
-                        || Objects.equals(taxNumberType.getTenantId(), tenantId))
-                    && Objects.equals(taxNumberType.getCode(), taxNumberTypeCode)
-                    && taxNumberType.isValidForPartyType(partyTypeCode));
+            tenantId,
+            taxNumberTypeCode,
+            taxNumberType -> taxNumberType.isValidForPartyType(partyTypeCode));
   }
 
   @Override
@@ -3266,12 +3824,12 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getTimesToContact().stream()
-        .anyMatch(
-            timeToContact ->
-                (timeToContact.getTenantId() == null
-                        || Objects.equals(timeToContact.getTenantId(), tenantId))
-                    && Objects.equals(timeToContact.getCode(), timeToContactCode));
+    return getReferenceDataIndex(
+            "timesToContact",
+            getPartyReferenceService()::getTimesToContact,
+            TimeToContact::getTenantId,
+            TimeToContact::getCode)
+        .contains(tenantId, timeToContactCode);
   }
 
   @Override
@@ -3280,11 +3838,42 @@ public class PartyReferenceService implements IPartyReferenceService {
       return false;
     }
 
-    return getPartyReferenceService().getTitles().stream()
-        .anyMatch(
-            title ->
-                (title.getTenantId() == null || Objects.equals(title.getTenantId(), tenantId))
-                    && Objects.equals(title.getCode(), titleCode));
+    return getReferenceDataIndex(
+            "titles", getPartyReferenceService()::getTitles, Title::getTenantId, Title::getCode)
+        .contains(tenantId, titleCode);
+  }
+
+  /**
+   * Add the reference data for a reference data type to the reference data for a bundle.
+   *
+   * @param referenceData the reference data for the bundle keyed by the name of the reference data
+   *     type
+   * @param name the name of the reference data type
+   * @param source the cached list of reference data for the reference data type
+   * @param tenantId the ID for the tenant to filter the reference data for, or <b>null</b> if the
+   *     reference data type is not tenant-specific
+   * @param tenantIdExtractor the function used to retrieve the tenant ID for the reference data, or
+   *     <b>null</b> if the reference data type is not tenant-specific
+   * @param <T> the reference data type
+   */
+  private static <T> void addReferenceData(
+      Map<String, Object> referenceData,
+      String name,
+      List<T> source,
+      UUID tenantId,
+      Function<T, UUID> tenantIdExtractor) {
+    if (tenantIdExtractor == null) {
+      referenceData.put(name, source);
+    } else {
+      referenceData.put(
+          name,
+          source.stream()
+              .filter(
+                  item ->
+                      (tenantIdExtractor.apply(item) == null)
+                          || Objects.equals(tenantIdExtractor.apply(item), tenantId))
+              .collect(Collectors.toList()));
+    }
   }
 
   /**
@@ -3293,6 +3882,166 @@ public class PartyReferenceService implements IPartyReferenceService {
    * @return the internal reference to the Party Reference Service to enable caching.
    */
   private IPartyReferenceService getPartyReferenceService() {
-    return applicationContext.getBean(IPartyReferenceService.class);
+    IPartyReferenceService partyReferenceService = this.partyReferenceService;
+
+    if (partyReferenceService == null) {
+      partyReferenceService = applicationContext.getBean(IPartyReferenceService.class);
+
+      this.partyReferenceService = partyReferenceService;
+    }
+
+    return partyReferenceService;
+  }
+
+  /**
+   * Returns the generation of the cached reference data, first checking whether the reference data
+   * has been evicted from the caches on another node if the cluster-wide generation has not been
+   * checked recently.
+   *
+   * @return the generation of the cached reference data
+   */
+  private long getReferenceDataGeneration() {
+    if ((System.currentTimeMillis() - clusterReferenceDataGenerationChecked)
+        >= clusterReferenceDataGenerationCheckInterval) {
+      checkClusterReferenceDataGeneration();
+    }
+
+    return referenceDataGeneration.get();
+  }
+
+  /**
+   * Check the cluster-wide generation of the reference data and discard the values derived from the
+   * reference data on this node if the reference data has been evicted from the caches on another
+   * node.
+   *
+   * <p>A missing cluster-wide generation, e.g. because the reference cache was cleared by another
+   * node, is replaced with a new generation and treated as an eviction.
+   */
+  private synchronized void checkClusterReferenceDataGeneration() {
+    if ((System.currentTimeMillis() - clusterReferenceDataGenerationChecked)
+        < clusterReferenceDataGenerationCheckInterval) {
+      return;
+    }
+
+    Cache referenceCache = getReferenceCache();
+
+    if (referenceCache != null) {
+      UUID generation;
+
+      ValueWrapper valueWrapper = referenceCache.get(CLUSTER_REFERENCE_DATA_GENERATION_KEY);
+
+      if ((valueWrapper != null) && (valueWrapper.get() instanceof UUID)) {
+        generation = (UUID) valueWrapper.get();
+      } else {
+        generation = UUID.randomUUID();
+
+        valueWrapper =
+            referenceCache.putIfAbsent(CLUSTER_REFERENCE_DATA_GENERATION_KEY, generation);
+
+        if ((valueWrapper != null) && (valueWrapper.get() instanceof UUID)) {
+          generation = (UUID) valueWrapper.get();
+        }
+      }
+
+      if ((clusterReferenceDataGeneration != null)
+          && (!clusterReferenceDataGeneration.equals(generation))) {
+        invalidateDerivedReferenceData();
+      }
+
+      clusterReferenceDataGeneration = generation;
+    }
+
+    clusterReferenceDataGenerationChecked = System.currentTimeMillis();
+  }
+
+  /**
+   * Returns the reference cache, which may be a distributed cache shared by all the nodes.
+   *
+   * @return the reference cache or <b>null</b> if caching is not enabled
+   */
+  private Cache getReferenceCache() {
+    if (!referenceCacheResolved) {
+      CacheManager cacheManager =
+          applicationContext.getBeanProvider(CacheManager.class).getIfAvailable();
+
+      referenceCache = (cacheManager != null) ? cacheManager.getCache("reference") : null;
+      referenceCacheResolved = true;
+    }
+
+    return referenceCache;
+  }
+
+  /**
+   * Returns the hash index for the reference data type, building the index from the cached list of
+   * all the reference data for the type if the reference data has been evicted from the caches
+   * since the index was built.
+   *
+   * <p>The index is immutable and is replaced atomically, so concurrent lookups always see a
+   * complete index.
+   *
+   * @param name the name of the reference data type
+   * @param supplier the function used to retrieve the cached list of all the reference data for the
+   *     type
+   * @param tenantIdExtractor the function used to retrieve the tenant ID for the reference data
+   * @param codeExtractor the function used to retrieve the code for the reference data
+   * @param <T> the reference data type
+   * @return the hash index for the reference data type
+   * @throws ServiceUnavailableException if the cached list of reference data could not be retrieved
+   */
+  @SuppressWarnings("unchecked")
+  private <T> ReferenceDataIndex<T> getReferenceDataIndex(
+      String name,
+      ReferenceDataSupplier<T> supplier,
+      Function<T, UUID> tenantIdExtractor,
+      Function<T, String> codeExtractor)
+      throws ServiceUnavailableException {
+    long generation = getReferenceDataGeneration();
+
+    ReferenceDataSnapshot<ReferenceDataIndex<?>> referenceDataIndexSnapshot =
+        referenceDataIndexes.get(name);
+
+    if ((referenceDataIndexSnapshot != null)
+        && (referenceDataIndexSnapshot.generation == generation)) {
+      return (ReferenceDataIndex<T>) referenceDataIndexSnapshot.value;
+    }
+
+    ReferenceDataIndex<T> referenceDataIndex =
+        new ReferenceDataIndex<>(supplier.get(), tenantIdExtractor, codeExtractor);
+
+    referenceDataIndexes.put(name, new ReferenceDataSnapshot<>(generation, referenceDataIndex));
+
+    return referenceDataIndex;
+  }
+
+  /**
+   * Discard the hash indexes, reference data bundles and validation plans derived from the cached
+   * reference data on this node by incrementing the generation of the cached reference data.
+   */
+  private void invalidateDerivedReferenceData() {
+    referenceDataGeneration.incrementAndGet();
+
+    referenceDataBundles.clear();
+    referenceDataIndexes.clear();
+    validationPlans.clear();
+  }
+
+  /**
+   * The <b>ReferenceDataSnapshot</b> class holds a value derived from the cached reference data
+   * along with the generation of the cached reference data it was derived from.
+   *
+   * @param <T> the type of value
+   */
+  private static final class ReferenceDataSnapshot<T> {
+
+    /** The generation of the cached reference data the value was derived from. */
+    private final long generation;
+
+    /** The value derived from the cached reference data. */
+    private final T value;
+
+    private ReferenceDataSnapshot(long generation, T value) {
+      this.generation = generation;
+      this.value = value;
+    }
   }
 }
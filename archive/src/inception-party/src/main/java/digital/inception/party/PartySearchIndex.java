@@ -0,0 +1,622 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * The <b>PartySearchIndex</b> class provides an in-process inverted index for the full-text search
+ * of persons and organizations, which is partitioned by tenant.
+ *
+ * <p>The names of parties, and the values of their identity documents, tax numbers, external
+ * references and contact mechanisms, are split into tokens, which are accent-folded and converted
+ * to lowercase. The values of identifiers and contact mechanisms are also indexed with all
+ * punctuation and whitespace removed, so that e.g. a phone number can be found regardless of how it
+ * was formatted. Each token in a search query must match a term in the index for a party to be
+ * returned. A token matches exactly, as the prefix of a longer term or, if neither of these finds a
+ * match, approximately using the Damerau-Levenshtein edit distance. Parties are ranked by the
+ * weight of the fields that were matched and the quality of the matches.
+ *
+ * <p>The index for a tenant is built from the party data store the first time it is required and is
+ * kept up to date as parties are created, updated and deleted on this node. The changes made on
+ * other nodes are reflected once the index is rebuilt, which is requested when the rebuild interval
+ * has elapsed since the index was built.
+ *
+ * @author Marcus Portmann
+ */
+final class PartySearchIndex {
+
+  /** The score factor applied to approximate matches. */
+  private static final double FUZZY_MATCH_FACTOR = 0.4;
+
+  /** The weight for the values of the contact mechanisms for a party. */
+  private static final double CONTACT_MECHANISM_WEIGHT = 1.0;
+
+  /** The weight for the identifiers for a party, e.g. identity document numbers. */
+  private static final double IDENTIFIER_WEIGHT = 2.0;
+
+  /** The maximum number of index terms a single query token is expanded to. */
+  private static final int MAX_TERM_EXPANSIONS = 256;
+
+  /** The minimum length of a query token before prefix matching is applied. */
+  private static final int MIN_PREFIX_LENGTH = 2;
+
+  /** The minimum length of a query token before approximate matching is applied. */
+  private static final int MIN_FUZZY_LENGTH = 4;
+
+  /** The weight for the name of a party. */
+  private static final double NAME_WEIGHT = 3.0;
+
+  /** The pattern used to match the combining diacritical marks removed when folding accents. */
+  private static final Pattern DIACRITICAL_MARKS_PATTERN = Pattern.compile("\\p{M}+");
+
+  /** The score factor applied to prefix matches. */
+  private static final double PREFIX_MATCH_FACTOR = 0.6;
+
+  /** The pattern used to split text into tokens. */
+  private static final Pattern TOKEN_SEPARATOR_PATTERN = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  /** The indexes for the tenants. */
+  private final TenantIndexes<TenantIndex> tenantIndexes;
+
+  /**
+   * Constructs a new <b>PartySearchIndex</b>.
+   *
+   * @param rebuildInterval the number of milliseconds after which the index for a tenant is rebuilt
+   *     from the data store, so that the changes made on other nodes are reflected in the index, or
+   *     zero if the index is never rebuilt
+   */
+  PartySearchIndex(long rebuildInterval) {
+    this.tenantIndexes = new TenantIndexes<>(TenantIndex::new, rebuildInterval);
+  }
+
+  /**
+   * Build or rebuild the index for the tenant.
+   *
+   * <p>The index is built into a new instance, which replaces the existing index for the tenant
+   * once all the parties have been loaded, so searches are not blocked while the index is rebuilt.
+   *
+   * @param tenantId the ID for the tenant
+   * @param loader the loader used to retrieve the parties for the tenant from the data store
+   * @param force should the index be rebuilt if it has already been built
+   * @throws Exception if the parties for the tenant could not be loaded
+   */
+  void build(UUID tenantId, PartyLoader loader, boolean force) throws Exception {
+    tenantIndexes.build(tenantId, tenantIndex -> loader.load(tenantIndex::add), force);
+  }
+
+  /**
+   * Add or replace the party in the index for the tenant.
+   *
+   * <p>If the index for the tenant has not been built the party is ignored, since it will be
+   * retrieved from the data store when the index is built.
+   *
+   * @param tenantId the ID for the tenant
+   * @param document the document for the party
+   */
+  void index(UUID tenantId, Document document) {
+    tenantIndexes.update(
+        tenantId,
+        tenantIndex -> {
+          tenantIndex.remove(document.partyId);
+          tenantIndex.add(document);
+        });
+  }
+
+  /**
+   * Returns whether the index for the tenant has been built.
+   *
+   * @param tenantId the ID for the tenant
+   * @return <b>true</b> if the index for the tenant has been built or <b>false</b> otherwise
+   */
+  boolean isBuilt(UUID tenantId) {
+    return tenantIndexes.isBuilt(tenantId);
+  }
+
+  /**
+   * Remove the party from the index.
+   *
+   * @param tenantId the ID for the tenant
+   * @param partyId the ID for the party
+   */
+  void remove(UUID tenantId, UUID partyId) {
+    tenantIndexes.update(tenantId, tenantIndex -> tenantIndex.remove(partyId));
+  }
+
+  /**
+   * Returns whether the index for the tenant must be rebuilt because the rebuild interval has
+   * elapsed since it was built, in which case the caller is responsible for rebuilding the index or
+   * invoking {@link #rebuildRejected(UUID)}.
+   *
+   * @param tenantId the ID for the tenant
+   * @return <b>true</b> if the caller must rebuild the index for the tenant or <b>false</b>
+   *     otherwise
+   */
+  boolean requestRebuild(UUID tenantId) {
+    return tenantIndexes.requestRebuild(tenantId);
+  }
+
+  /**
+   * Withdraw the rebuild requested for the index for the tenant because it could not be scheduled.
+   *
+   * @param tenantId the ID for the tenant
+   */
+  void rebuildRejected(UUID tenantId) {
+    tenantIndexes.rebuildRejected(tenantId);
+  }
+
+  /**
+   * Search the index for the tenant.
+   *
+   * @param tenantId the ID for the tenant
+   * @param query the search query
+   * @param maxResults the maximum number of results to return
+   * @return the search results, ordered by descending relevance, and the total number of matching
+   *     parties
+   */
+  SearchResults search(UUID tenantId, String query, int maxResults) {
+    List<String> tokens = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+
+    if (tokens.isEmpty()) {
+      return new SearchResults(List.of(), 0);
+    }
+
+    return tenantIndexes.read(
+        tenantId,
+        tenantIndex -> search(tenantIndex, tokens, maxResults),
+        () -> new SearchResults(List.of(), 0));
+  }
+
+  /**
+   * Returns the Damerau-Levenshtein (optimal string alignment) distance between two strings, or a
+   * value greater than the maximum distance if the distance exceeds the maximum distance.
+   *
+   * @param a the first string
+   * @param b the second string
+   * @param maxDistance the maximum distance
+   * @return the distance between the two strings
+   */
+  static int editDistance(String a, String b, int maxDistance) {
+    if (Math.abs(a.length() - b.length()) > maxDistance) {
+      return maxDistance + 1;
+    }
+
+    int[] previousPrevious = new int[b.length() + 1];
+    int[] previous = new int[b.length() + 1];
+    int[] current = new int[b.length() + 1];
+
+    for (int j = 0; j <= b.length(); j++) {
+      previous[j] = j;
+    }
+
+    for (int i = 1; i <= a.length(); i++) {
+      current[0] = i;
+
+      int rowMinimum = current[0];
+
+      for (int j = 1; j <= b.length(); j++) {
+        int cost = (a.charAt(i - 1) == b.charAt(j - 1)) ? 0 : 1;
+
+        current[j] =
+            Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+
+        if ((i > 1)
+            && (j > 1)
+            && (a.charAt(i - 1) == b.charAt(j - 2))
+            && (a.charAt(i - 2) == b.charAt(j - 1))) {
+          current[j] = Math.min(current[j], previousPrevious[j - 2] + 1);
+        }
+
+        rowMinimum = Math.min(rowMinimum, current[j]);
+      }
+
+      if (rowMinimum > maxDistance) {
+        return maxDistance + 1;
+      }
+
+      int[] swap = previousPrevious;
+      previousPrevious = previous;
+      previous = current;
+      current = swap;
+    }
+
+    return previous[b.length()];
+  }
+
+  /**
+   * Fold the accents in and convert the text to lowercase.
+   *
+   * @param text the text
+   * @return the normalized text
+   */
+  static String normalize(String text) {
+    return DIACRITICAL_MARKS_PATTERN
+        .matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+        .replaceAll("")
+        .toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Split the text into normalized tokens.
+   *
+   * @param text the text
+   * @return the normalized tokens
+   */
+  static List<String> tokenize(String text) {
+    List<String> tokens = new ArrayList<>();
+
+    if (text != null) {
+      for (String token : TOKEN_SEPARATOR_PATTERN.split(normalize(text))) {
+        if (!token.isEmpty()) {
+          tokens.add(token);
+        }
+      }
+    }
+
+    return tokens;
+  }
+
+  /**
+   * Search the index for a tenant.
+   *
+   * @param tenantIndex the index for the tenant
+   * @param tokens the distinct tokens in the search query
+   * @param maxResults the maximum number of results to return
+   * @return the search results, ordered by descending relevance, and the total number of matching
+   *     parties
+   */
+  private static SearchResults search(
+      TenantIndex tenantIndex, List<String> tokens, int maxResults) {
+    Map<UUID, Double> scores = null;
+
+    for (String token : tokens) {
+      Map<UUID, Double> tokenScores = tenantIndex.match(token);
+
+      if (scores == null) {
+        scores = tokenScores;
+      } else {
+        // Every token in the query must be matched
+        Map<UUID, Double> smaller = (tokenScores.size() < scores.size()) ? tokenScores : scores;
+        Map<UUID, Double> larger = (smaller == scores) ? tokenScores : scores;
+
+        Map<UUID, Double> intersection = new HashMap<>();
+
+        for (Map.Entry<UUID, Double> entry : smaller.entrySet()) {
+          Double score = larger.get(entry.getKey());
+
+          if (score != null) {
+            intersection.put(entry.getKey(), entry.getValue() + score);
+          }
+        }
+
+        scores = intersection;
+      }
+
+      if (scores.isEmpty()) {
+        return new SearchResults(List.of(), 0);
+      }
+    }
+
+    Comparator<PartySearchResult> comparator =
+        Comparator.comparingDouble(PartySearchResult::getScore)
+            .reversed()
+            .thenComparing(PartySearchResult::getName, Comparator.nullsLast(String::compareTo))
+            .thenComparing(PartySearchResult::getId);
+
+    // Retain the most relevant results in a bounded heap ordered from least to most relevant
+    PriorityQueue<PartySearchResult> heap = new PriorityQueue<>(comparator.reversed());
+
+    for (Map.Entry<UUID, Double> entry : scores.entrySet()) {
+      Document document = tenantIndex.documents.get(entry.getKey());
+
+      heap.add(
+          new PartySearchResult(document.partyId, document.type, document.name, entry.getValue()));
+
+      if (heap.size() > maxResults) {
+        heap.poll();
+      }
+    }
+
+    List<PartySearchResult> results = new ArrayList<>(heap);
+    results.sort(comparator);
+
+    return new SearchResults(results, scores.size());
+  }
+
+  /**
+   * The <b>PartyLoader</b> interface is implemented by functions that retrieve all the parties for
+   * a tenant from the data store and add them to the index.
+   */
+  @FunctionalInterface
+  interface PartyLoader {
+
+    /**
+     * Load the parties.
+     *
+     * @param consumer the consumer the documents for the parties are added to
+     * @throws Exception if the parties could not be loaded
+     */
+    void load(DocumentConsumer consumer) throws Exception;
+  }
+
+  /** The <b>DocumentConsumer</b> interface is implemented by the consumers of indexed parties. */
+  @FunctionalInterface
+  interface DocumentConsumer {
+
+    /**
+     * Add the document for a party.
+     *
+     * @param document the document for the party
+     */
+    void add(Document document);
+  }
+
+  /**
+   * The <b>Document</b> class holds the indexed information for a party.
+   *
+   * @author Marcus Portmann
+   */
+  static final class Document {
+
+    /** The name of the party. */
+    private final String name;
+
+    /** The ID for the party. */
+    private final UUID partyId;
+
+    /** The terms for the party and the weight of the most important field each term appears in. */
+    private final Map<String, Double> terms = new HashMap<>();
+
+    /** The party type. */
+    private final PartyType type;
+
+    private Document(UUID partyId, PartyType type, String name) {
+      this.partyId = partyId;
+      this.type = type;
+      this.name = name;
+    }
+
+    /**
+     * Create the document for the organization.
+     *
+     * @param organization the organization
+     * @return the document for the organization
+     */
+    static Document forOrganization(Organization organization) {
+      Document document =
+          new Document(organization.getId(), PartyType.ORGANIZATION, organization.getName());
+
+      document.addText(organization.getName(), NAME_WEIGHT);
+      organization
+          .getIdentityDocuments()
+          .forEach(identityDocument -> document.addIdentifier(identityDocument.getNumber()));
+      organization
+          .getTaxNumbers()
+          .forEach(taxNumber -> document.addIdentifier(taxNumber.getNumber()));
+      organization
+          .getExternalReferences()
+          .forEach(externalReference -> document.addIdentifier(externalReference.getValue()));
+      organization
+          .getContactMechanisms()
+          .forEach(contactMechanism -> document.addContactMechanism(contactMechanism.getValue()));
+
+      return document;
+    }
+
+    /**
+     * Create the document for the person.
+     *
+     * @param person the person
+     * @return the document for the person
+     */
+    static Document forPerson(Person person) {
+      Document document = new Document(person.getId(), PartyType.PERSON, person.getName());
+
+      document.addText(person.getName(), NAME_WEIGHT);
+      document.addText(person.getPreferredName(), NAME_WEIGHT);
+      person
+          .getIdentityDocuments()
+          .forEach(identityDocument -> document.addIdentifier(identityDocument.getNumber()));
+      person.getTaxNumbers().forEach(taxNumber -> document.addIdentifier(taxNumber.getNumber()));
+      person
+          .getExternalReferences()
+          .forEach(externalReference -> document.addIdentifier(externalReference.getValue()));
+      person
+          .getContactMechanisms()
+          .forEach(contactMechanism -> document.addContactMechanism(contactMechanism.getValue()));
+
+      return document;
+    }
+
+    private void addContactMechanism(String value) {
+      addText(value, CONTACT_MECHANISM_WEIGHT);
+      addCompact(value, CONTACT_MECHANISM_WEIGHT);
+    }
+
+    private void addCompact(String value, double weight) {
+      if (value != null) {
+        String compact = String.join("", tokenize(value));
+
+        if (!compact.isEmpty()) {
+          terms.merge(compact, weight, Math::max);
+        }
+      }
+    }
+
+    private void addIdentifier(String value) {
+      addText(value, IDENTIFIER_WEIGHT);
+      addCompact(value, IDENTIFIER_WEIGHT);
+    }
+
+    private void addText(String text, double weight) {
+      for (String token : tokenize(text)) {
+        terms.merge(token, weight, Math::max);
+      }
+    }
+  }
+
+  /**
+   * The <b>SearchResults</b> class holds the results of a search.
+   *
+   * @author Marcus Portmann
+   */
+  static final class SearchResults {
+
+    /** The search results ordered by descending relevance. */
+    private final List<PartySearchResult> results;
+
+    /** The total number of matching parties. */
+    private final long total;
+
+    SearchResults(List<PartySearchResult> results, long total) {
+      this.results = results;
+      this.total = total;
+    }
+
+    /**
+     * Returns the search results ordered by descending relevance.
+     *
+     * @return the search results ordered by descending relevance
+     */
+    List<PartySearchResult> getResults() {
+      return results;
+    }
+
+    /**
+     * Returns the total number of matching parties.
+     *
+     * @return the total number of matching parties
+     */
+    long getTotal() {
+      return total;
+    }
+  }
+
+  /**
+   * The <b>TenantIndex</b> class holds the inverted index for a tenant.
+   *
+   * @author Marcus Portmann
+   */
+  private static final class TenantIndex {
+
+    /** The indexed parties keyed by party ID. */
+    private final Map<UUID, Document> documents = new HashMap<>();
+
+    /** The IDs for the parties containing each term, and the weight of the term for each party. */
+    private final NavigableMap<String, Map<UUID, Double>> postings = new TreeMap<>();
+
+    private void add(Document document) {
+      documents.put(document.partyId, document);
+
+      for (Map.Entry<String, Double> term : document.terms.entrySet()) {
+        postings
+            .computeIfAbsent(term.getKey(), key -> new HashMap<>(4))
+            .put(document.partyId, term.getValue());
+      }
+    }
+
+    private void collect(
+        Map<UUID, Double> tokenScores, Map<UUID, Double> postingList, double factor) {
+      for (Map.Entry<UUID, Double> posting : postingList.entrySet()) {
+        tokenScores.merge(posting.getKey(), posting.getValue() * factor, Math::max);
+      }
+    }
+
+    private Map<UUID, Double> match(String token) {
+      Map<UUID, Double> tokenScores = new HashMap<>();
+
+      Map<UUID, Double> exactPostings = postings.get(token);
+
+      if (exactPostings != null) {
+        collect(tokenScores, exactPostings, 1.0);
+      }
+
+      if (token.length() >= MIN_PREFIX_LENGTH) {
+        Collection<Map<UUID, Double>> prefixPostings =
+            postings.subMap(token, false, token + Character.MAX_VALUE, false).values();
+
+        int expansions = 0;
+
+        for (Map<UUID, Double> postingList : prefixPostings) {
+          if (++expansions > MAX_TERM_EXPANSIONS) {
+            break;
+          }
+
+          collect(tokenScores, postingList, PREFIX_MATCH_FACTOR);
+        }
+      }
+
+      if (tokenScores.isEmpty() && (token.length() >= MIN_FUZZY_LENGTH)) {
+        int maxDistance = (token.length() >= 8) ? 2 : 1;
+
+        // Only consider the terms that start with the same character as the token
+        String first = token.substring(0, 1);
+
+        int expansions = 0;
+
+        for (Map.Entry<String, Map<UUID, Double>> entry :
+            postings.subMap(first, true, first + Character.MAX_VALUE, false).entrySet()) {
+          int distance = editDistance(token, entry.getKey(), maxDistance);
+
+          if (distance <= maxDistance) {
+            if (++expansions > MAX_TERM_EXPANSIONS) {
+              break;
+            }
+
+            collect(
+                tokenScores,
+                entry.getValue(),
+                FUZZY_MATCH_FACTOR * (1.0 - ((double) distance / (maxDistance + 1))));
+          }
+        }
+      }
+
+      return tokenScores;
+    }
+
+    private void remove(UUID partyId) {
+      Document document = documents.remove(partyId);
+
+      if (document != null) {
+        for (String term : document.terms.keySet()) {
+          Map<UUID, Double> postingList = postings.get(term);
+
+          if (postingList != null) {
+            postingList.remove(partyId);
+
+            if (postingList.isEmpty()) {
+              postings.remove(term);
+            }
+          }
+        }
+      }
+    }
+  }
+}
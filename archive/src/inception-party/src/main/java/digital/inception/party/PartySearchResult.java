@@ -0,0 +1,130 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.Serializable;
+import java.util.UUID;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * The <b>PartySearchResult</b> class holds the information for a party matching a search query.
+ *
+ * @author Marcus Portmann
+ */
+@Schema(description = "A party matching a search query")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"id", "type", "name", "score"})
+@XmlRootElement(name = "PartySearchResult", namespace = "http://inception.digital/party")
+@XmlType(
+    name = "PartySearchResult",
+    namespace = "http://inception.digital/party",
+    propOrder = {"id", "type", "name", "score"})
+@XmlAccessorType(XmlAccessType.FIELD)
+@SuppressWarnings({"unused"})
+public class PartySearchResult implements Serializable {
+
+  private static final long serialVersionUID = 1000000;
+
+  /** The ID for the party. */
+  @Schema(description = "The ID for the party", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "Id", required = true)
+  private UUID id;
+
+  /** The name of the party. */
+  @Schema(description = "The name of the party", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "Name", required = true)
+  private String name;
+
+  /** The relevance score for the party, where a higher score indicates a better match. */
+  @Schema(
+      description =
+          "The relevance score for the party, where a higher score indicates a better match",
+      required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "Score", required = true)
+  private double score;
+
+  /** The party type. */
+  @Schema(description = "The party type", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "Type", required = true)
+  private PartyType type;
+
+  /** Constructs a new <b>PartySearchResult</b>. */
+  public PartySearchResult() {}
+
+  /**
+   * Constructs a new <b>PartySearchResult</b>.
+   *
+   * @param id the ID for the party
+   * @param type the party type
+   * @param name the name of the party
+   * @param score the relevance score for the party, where a higher score indicates a better match
+   */
+  public PartySearchResult(UUID id, PartyType type, String name, double score) {
+    this.id = id;
+    this.type = type;
+    this.name = name;
+    this.score = score;
+  }
+
+  /**
+   * Returns the ID for the party.
+   *
+   * @return the ID for the party
+   */
+  public UUID getId() {
+    return id;
+  }
+
+  /**
+   * Returns the name of the party.
+   *
+   * @return the name of the party
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the relevance score for the party, where a higher score indicates a better match.
+   *
+   * @return the relevance score for the party
+   */
+  public double getScore() {
+    return score;
+  }
+
+  /**
+   * Returns the party type.
+   *
+   * @return the party type
+   */
+  public PartyType getType() {
+    return type;
+  }
+}
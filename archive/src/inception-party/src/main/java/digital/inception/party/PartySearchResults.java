@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * The <b>PartySearchResults</b> class holds the results of a request to search for parties.
+ *
+ * @author Marcus Portmann
+ */
+@Schema(description = "The results of a request to search for parties")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"tenantId", "query", "results", "total"})
+@XmlRootElement(name = "PartySearchResults", namespace = "http://inception.digital/party")
+@XmlType(
+    name = "PartySearchResults",
+    namespace = "http://inception.digital/party",
+    propOrder = {"tenantId", "query", "results", "total"})
+@XmlAccessorType(XmlAccessType.FIELD)
+@SuppressWarnings({"unused"})
+public class PartySearchResults implements Serializable {
+
+  private static final long serialVersionUID = 1000000;
+
+  /** The search query. */
+  @Schema(description = "The search query", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "Query", required = true)
+  private String query;
+
+  /** The parties matching the search query ordered by descending relevance. */
+  @Schema(
+      description = "The parties matching the search query ordered by descending relevance",
+      required = true)
+  @JsonProperty(required = true)
+  @XmlElementWrapper(name = "Results", required = true)
+  @XmlElement(name = "Result", required = true)
+  private List<PartySearchResult> results;
+
+  /** The ID for the tenant the parties are associated with. */
+  @Schema(description = "The ID for the tenant the parties are associated with", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "TenantId", required = true)
+  private UUID tenantId;
+
+  /** The total number of parties matching the search query. */
+  @Schema(description = "The total number of parties matching the search query", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "Total", required = true)
+  private long total;
+
+  /** Constructs a new <b>PartySearchResults</b>. */
+  public PartySearchResults() {}
+
+  /**
+   * Constructs a new <b>PartySearchResults</b>.
+   *
+   * @param tenantId the ID for the tenant the parties are associated with
+   * @param query the search query
+   * @param results the parties matching the search query ordered by descending relevance
+   * @param total the total number of parties matching the search query
+   */
+  public PartySearchResults(
+      UUID tenantId, String query, List<PartySearchResult> results, long total) {
+    this.tenantId = tenantId;
+    this.query = query;
+    this.results = results;
+    this.total = total;
+  }
+
+  /**
+   * Returns the search query.
+   *
+   * @return the search query
+   */
+  public String getQuery() {
+    return query;
+  }
+
+  /**
+   * Returns the parties matching the search query ordered by descending relevance.
+   *
+   * @return the parties matching the search query ordered by descending relevance
+   */
+  public List<PartySearchResult> getResults() {
+    return results;
+  }
+
+  /**
+   * Returns the ID for the tenant the parties are associated with.
+   *
+   * @return the ID for the tenant the parties are associated with
+   */
+  public UUID getTenantId() {
+    return tenantId;
+  }
+
+  /**
+   * Returns the total number of parties matching the search query.
+   *
+   * @return the total number of parties matching the search query
+   */
+  public long getTotal() {
+    return total;
+  }
+}
@@ -16,26 +16,71 @@
 
 package digital.inception.party;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.f4b6a3.uuid.UuidCreator;
 import digital.inception.core.service.InvalidArgumentException;
 import digital.inception.core.service.ServiceUnavailableException;
 import digital.inception.core.service.ValidationError;
 import digital.inception.core.sorting.SortDirection;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import javax.validation.ConstraintViolation;
 import javax.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
 /**
  * The <b>PartyService</b> class provides the Party Service implementation.
@@ -49,9 +94,36 @@ public class PartyService implements IPartyService {
   /* Logger */
   private static final Logger logger = LoggerFactory.getLogger(PartyService.class);
 
+  /** The minimum number of items deleted in a single transaction when purging a tenant. */
+  private static final int MIN_PURGE_CHUNK_SIZE = 10;
+
   /** The Spring application context. */
   private final ApplicationContext applicationContext;
 
+  /** The executor used to rebuild the in-process indexes for the tenants in the background. */
+  private final Executor indexRebuildExecutor;
+
+  /** The association graph index for the parties. */
+  private final PartyAssociationGraph associationGraph;
+
+  /** The Jackson 2 object mapper. */
+  private final ObjectMapper objectMapper;
+
+  /** The executor used to purge the party data for the tenants. */
+  private final Executor purgeExecutor;
+
+  /** The purges of the party data for the tenants keyed by purge ID. */
+  private final Map<UUID, PartyPurge> purges = new ConcurrentHashMap<>();
+
+  /** The full-text search index for the persons and organizations. */
+  private final PartySearchIndex searchIndex;
+
+  /** The transaction template used to delete each chunk of the party data for a tenant. */
+  private final TransactionTemplate transactionTemplate;
+
+  /** The executor used to validate the parties for a bulk upsert in parallel. */
+  private final Executor upsertValidationExecutor;
+
   /** The JSR-303 validator. */
   private final Validator validator;
 
@@ -62,6 +134,14 @@ public class PartyService implements IPartyService {
   @Value("${inception.party.data-store.class-name:digital.inception.party.InternalPartyDataStore}")
   private String dataStoreClassName;
 
+  /** The maximum number of associations that will be followed from a party in a graph traversal. */
+  @Value("${inception.party.max-association-graph-depth:#{10}}")
+  private int maxAssociationGraphDepth;
+
+  /** The maximum number of parties that will be visited by a graph traversal. */
+  @Value("${inception.party.max-association-graph-parties:#{10000}}")
+  private int maxAssociationGraphParties;
+
   /** The maximum number of associations that will be returned by the data store. */
   @Value("${inception.party.max-associations:#{100}}")
   private int maxAssociations;
@@ -82,19 +162,82 @@ public class PartyService implements IPartyService {
   @Value("${inception.party.max-mandates:#{100}}")
   private int maxMandates;
 
+  /** The maximum number of results that will be returned by a full-text search. */
+  @Value("${inception.party.max-search-results:#{100}}")
+  private int maxSearchResults;
+
   /** The maximum number of snapshots for a party that will be returned by the data store. */
   @Value("${inception.party.max-snapshots:#{100}}")
   private int maxSnapshots;
 
+  /**
+   * The path to the directory the archives of the party data for the tenants are written to, which
+   * must be configured for a purge to archive the party data for a tenant.
+   */
+  @Value("${inception.party.purge.archive-directory:#{null}}")
+  private String purgeArchiveDirectory;
+
+  /**
+   * The maximum number of mandates, associations, parties or snapshots deleted in a single
+   * transaction when purging the party data for a tenant.
+   */
+  @Value("${inception.party.purge.chunk-size:#{500}}")
+  private int purgeChunkSize;
+
+  /**
+   * The delay in milliseconds between the transactions used to delete the chunks of the party data
+   * for a tenant.
+   */
+  @Value("${inception.party.purge.delay:#{100}}")
+  private long purgeDelay;
+
+  /**
+   * The target duration in milliseconds for the transaction used to delete a chunk of the party
+   * data for a tenant, which the chunk size is adapted to.
+   */
+  @Value("${inception.party.purge.target-chunk-duration:#{250}}")
+  private long purgeTargetChunkDuration;
+
   /**
    * Constructs a new <b>PartyService</b>.
    *
    * @param applicationContext the Spring application context
+   * @param objectMapper the Jackson 2 object mapper
    * @param validator the JSR-303 validator
+   * @param transactionManager the platform transaction manager
+   * @param upsertValidationExecutor the executor used to validate the parties for a bulk upsert in
+   *     parallel
+   * @param purgeExecutor the executor used to purge the party data for the tenants
+   * @param indexRebuildExecutor the executor used to rebuild the in-process indexes for the tenants
+   *     in the background
+   * @param associationGraphRebuildInterval the number of milliseconds after which the association
+   *     graph index for a tenant is rebuilt, so that the changes made on other nodes are reflected
+   *     in the index, or zero if the index should never be rebuilt because a single node is used
+   * @param searchIndexRebuildInterval the number of milliseconds after which the full-text search
+   *     index for a tenant is rebuilt, so that the changes made on other nodes are reflected in the
+   *     index, or zero if the index should never be rebuilt because a single node is used
    */
-  public PartyService(ApplicationContext applicationContext, Validator validator) {
+  public PartyService(
+      ApplicationContext applicationContext,
+      ObjectMapper objectMapper,
+      Validator validator,
+      PlatformTransactionManager transactionManager,
+      @Qualifier("partyUpsertValidationExecutor") Executor upsertValidationExecutor,
+      @Qualifier("partyPurgeExecutor") Executor purgeExecutor,
+      @Qualifier("partyIndexRebuildExecutor") Executor indexRebuildExecutor,
+      @Value("${inception.party.association-graph.rebuild-interval:#{300000}}")
+          long associationGraphRebuildInterval,
+      @Value("${inception.party.search-index.rebuild-interval:#{300000}}")
+          long searchIndexRebuildInterval) {
     this.applicationContext = applicationContext;
+    this.objectMapper = objectMapper;
     this.validator = validator;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.upsertValidationExecutor = upsertValidationExecutor;
+    this.purgeExecutor = purgeExecutor;
+    this.indexRebuildExecutor = indexRebuildExecutor;
+    this.associationGraph = new PartyAssociationGraph(associationGraphRebuildInterval);
+    this.searchIndex = new PartySearchIndex(searchIndexRebuildInterval);
   }
 
   @Override
@@ -122,7 +265,11 @@ public class PartyService implements IPartyService {
           "association", ValidationError.toValidationErrors(constraintViolations));
     }
 
-    return getDataStore().createAssociation(tenantId, association);
+    Association createdAssociation = getDataStore().createAssociation(tenantId, association);
+
+    updateAssociationGraphAfterCommit(tenantId, createdAssociation);
+
+    return createdAssociation;
   }
 
   @Override
@@ -177,7 +324,12 @@ public class PartyService implements IPartyService {
           "organization", ValidationError.toValidationErrors(constraintViolations));
     }
 
-    return getDataStore().createOrganization(tenantId, organization);
+    Organization createdOrganization = getDataStore().createOrganization(tenantId, organization);
+
+    updateSearchIndexAfterCommit(
+        tenantId, PartySearchIndex.Document.forOrganization(createdOrganization));
+
+    return createdOrganization;
   }
 
   @Override
@@ -204,7 +356,11 @@ public class PartyService implements IPartyService {
           "person", ValidationError.toValidationErrors(constraintViolations));
     }
 
-    return getDataStore().createPerson(tenantId, person);
+    Person createdPerson = getDataStore().createPerson(tenantId, person);
+
+    updateSearchIndexAfterCommit(tenantId, PartySearchIndex.Document.forPerson(createdPerson));
+
+    return createdPerson;
   }
 
   @Override
@@ -220,6 +376,8 @@ public class PartyService implements IPartyService {
     }
 
     getDataStore().deleteAssociation(tenantId, associationId);
+
+    afterCommit(() -> associationGraph.remove(tenantId, associationId));
   }
 
   @Override
@@ -253,6 +411,10 @@ public class PartyService implements IPartyService {
     }
 
     getDataStore().deleteOrganization(tenantId, organizationId);
+
+    removeFromSearchIndexAfterCommit(tenantId, organizationId);
+
+    afterCommit(() -> associationGraph.removeParty(tenantId, organizationId));
   }
 
   @Override
@@ -271,6 +433,10 @@ public class PartyService implements IPartyService {
     }
 
     getDataStore().deleteParty(tenantId, partyId);
+
+    removeFromSearchIndexAfterCommit(tenantId, partyId);
+
+    afterCommit(() -> associationGraph.removeParty(tenantId, partyId));
   }
 
   @Override
@@ -289,6 +455,62 @@ public class PartyService implements IPartyService {
     }
 
     getDataStore().deletePerson(tenantId, personId);
+
+    removeFromSearchIndexAfterCommit(tenantId, personId);
+
+    afterCommit(() -> associationGraph.removeParty(tenantId, personId));
+  }
+
+  @Override
+  @Transactional
+  public void exportParties(
+      UUID tenantId,
+      PartyExportFormat format,
+      PartyFetchPlan fetchPlan,
+      List<String> fields,
+      UUID cursor,
+      OutputStream outputStream)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    if (tenantId == null) {
+      throw new InvalidArgumentException("tenantId");
+    }
+
+    if (format == null) {
+      throw new InvalidArgumentException("format");
+    }
+
+    if (fetchPlan == null) {
+      throw new InvalidArgumentException("fetchPlan");
+    }
+
+    if ((fields != null) && fields.stream().anyMatch(field -> !StringUtils.hasText(field))) {
+      throw new InvalidArgumentException("fields");
+    }
+
+    if (outputStream == null) {
+      throw new InvalidArgumentException("outputStream");
+    }
+
+    try (PartyExportWriter writer =
+        new PartyExportWriter(objectMapper, format, fields, outputStream)) {
+      getDataStore()
+          .exportParties(
+              tenantId,
+              cursor,
+              fetchPlan,
+              party -> {
+                try {
+                  writer.write(party);
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              });
+    } catch (ServiceUnavailableException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to export the parties for the tenant (" + tenantId + ")", e);
+    }
   }
 
   @Override
@@ -305,6 +527,64 @@ public class PartyService implements IPartyService {
     return getDataStore().getAssociation(tenantId, associationId);
   }
 
+  @Override
+  @Transactional
+  public AssociationGraph getAssociationGraph(
+      UUID tenantId,
+      UUID partyId,
+      Integer maxDepth,
+      List<String> associationTypes,
+      AssociationTraversalOrder traversalOrder)
+      throws InvalidArgumentException, PartyNotFoundException, ServiceUnavailableException {
+    if (tenantId == null) {
+      throw new InvalidArgumentException("tenantId");
+    }
+
+    if (partyId == null) {
+      throw new InvalidArgumentException("partyId");
+    }
+
+    if ((maxDepth != null) && ((maxDepth <= 0) || (maxDepth > maxAssociationGraphDepth))) {
+      throw new InvalidArgumentException("maxDepth");
+    }
+
+    if (maxDepth == null) {
+      maxDepth = maxAssociationGraphDepth;
+    }
+
+    if (traversalOrder == null) {
+      traversalOrder = AssociationTraversalOrder.BREADTH_FIRST;
+    }
+
+    if (getDataStore().getTypeForParty(tenantId, partyId).isEmpty()) {
+      throw new PartyNotFoundException(tenantId, partyId);
+    }
+
+    if (!associationGraph.isBuilt(tenantId)) {
+      buildAssociationGraph(tenantId, false);
+    } else if (associationGraph.requestRebuild(tenantId)) {
+      rebuildAssociationGraphInBackground(tenantId);
+    }
+
+    try {
+      return associationGraph.traverse(
+          tenantId,
+          partyId,
+          maxDepth,
+          (associationTypes != null) ? associationTypes : List.of(),
+          traversalOrder,
+          maxAssociationGraphParties);
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to retrieve the association graph for the party ("
+              + partyId
+              + ") for the tenant ("
+              + tenantId
+              + ")",
+          e);
+    }
+  }
+
   @Override
   public AssociationsForParty getAssociationsForParty(
       UUID tenantId,
@@ -415,6 +695,7 @@ public class PartyService implements IPartyService {
 
   @Override
   @Cacheable(cacheNames = "organizations", key = "#organizationId")
+  @Transactional
   public Organization getOrganization(UUID tenantId, UUID organizationId)
       throws InvalidArgumentException, OrganizationNotFoundException, ServiceUnavailableException {
     if (tenantId == null) {
@@ -425,10 +706,31 @@ public class PartyService implements IPartyService {
       throw new InvalidArgumentException("organizationId");
     }
 
-    return getDataStore().getOrganization(tenantId, organizationId);
+    return getDataStore().getOrganization(tenantId, organizationId, PartyFetchPlan.FULL);
+  }
+
+  @Override
+  @Transactional
+  public Organization getOrganization(UUID tenantId, UUID organizationId, PartyFetchPlan fetchPlan)
+      throws InvalidArgumentException, OrganizationNotFoundException, ServiceUnavailableException {
+    if ((fetchPlan == null) || (fetchPlan == PartyFetchPlan.FULL)) {
+      // Retrieve the organization using the Party Service proxy so the cache is used
+      return getPartyService().getOrganization(tenantId, organizationId);
+    }
+
+    if (tenantId == null) {
+      throw new InvalidArgumentException("tenantId");
+    }
+
+    if (organizationId == null) {
+      throw new InvalidArgumentException("organizationId");
+    }
+
+    return getDataStore().getOrganization(tenantId, organizationId, fetchPlan);
   }
 
   @Override
+  @Transactional
   public Organizations getOrganizations(
       UUID tenantId,
       String filter,
@@ -437,6 +739,21 @@ public class PartyService implements IPartyService {
       Integer pageIndex,
       Integer pageSize)
       throws InvalidArgumentException, ServiceUnavailableException {
+    return getOrganizations(
+        tenantId, filter, sortBy, sortDirection, pageIndex, pageSize, PartyFetchPlan.FULL);
+  }
+
+  @Override
+  @Transactional
+  public Organizations getOrganizations(
+      UUID tenantId,
+      String filter,
+      OrganizationSortBy sortBy,
+      SortDirection sortDirection,
+      Integer pageIndex,
+      Integer pageSize,
+      PartyFetchPlan fetchPlan)
+      throws InvalidArgumentException, ServiceUnavailableException {
     if (tenantId == null) {
       throw new InvalidArgumentException("tenantId");
     }
@@ -467,8 +784,55 @@ public class PartyService implements IPartyService {
       pageSize = Math.min(pageSize, maxFilteredOrganizations);
     }
 
+    if (fetchPlan == null) {
+      fetchPlan = PartyFetchPlan.FULL;
+    }
+
+    return getDataStore()
+        .getOrganizations(tenantId, filter, sortBy, sortDirection, pageIndex, pageSize, fetchPlan);
+  }
+
+  @Override
+  @Transactional
+  public Organizations getOrganizations(
+      UUID tenantId,
+      String filter,
+      OrganizationSortBy sortBy,
+      SortDirection sortDirection,
+      String cursor,
+      Integer pageSize,
+      PartyFetchPlan fetchPlan,
+      boolean includeTotal)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    if (tenantId == null) {
+      throw new InvalidArgumentException("tenantId");
+    }
+
+    if ((pageSize != null) && (pageSize <= 0)) {
+      throw new InvalidArgumentException("pageSize");
+    }
+
+    if (sortBy == null) {
+      sortBy = OrganizationSortBy.NAME;
+    }
+
+    if (sortDirection == null) {
+      sortDirection = SortDirection.ASCENDING;
+    }
+
+    if (pageSize == null) {
+      pageSize = maxFilteredOrganizations;
+    } else {
+      pageSize = Math.min(pageSize, maxFilteredOrganizations);
+    }
+
+    if (fetchPlan == null) {
+      fetchPlan = PartyFetchPlan.SUMMARY;
+    }
+
     return getDataStore()
-        .getOrganizations(tenantId, filter, sortBy, sortDirection, pageIndex, pageSize);
+        .getOrganizations(
+            tenantId, filter, sortBy, sortDirection, cursor, pageSize, fetchPlan, includeTotal);
   }
 
   @Override
@@ -505,6 +869,43 @@ public class PartyService implements IPartyService {
     return getDataStore().getParties(tenantId, filter, sortBy, sortDirection, pageIndex, pageSize);
   }
 
+  @Override
+  @Transactional
+  public Parties getParties(
+      UUID tenantId,
+      String filter,
+      PartySortBy sortBy,
+      SortDirection sortDirection,
+      String cursor,
+      Integer pageSize,
+      boolean includeTotal)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    if (tenantId == null) {
+      throw new InvalidArgumentException("tenantId");
+    }
+
+    if ((pageSize != null) && (pageSize <= 0)) {
+      throw new InvalidArgumentException("pageSize");
+    }
+
+    if (sortBy == null) {
+      sortBy = PartySortBy.NAME;
+    }
+
+    if (sortDirection == null) {
+      sortDirection = SortDirection.ASCENDING;
+    }
+
+    if (pageSize == null) {
+      pageSize = maxFilteredParties;
+    } else {
+      pageSize = Math.min(pageSize, maxFilteredParties);
+    }
+
+    return getDataStore()
+        .getParties(tenantId, filter, sortBy, sortDirection, cursor, pageSize, includeTotal);
+  }
+
   @Override
   public Party getParty(UUID tenantId, UUID partyId)
       throws InvalidArgumentException, PartyNotFoundException, ServiceUnavailableException {
@@ -519,8 +920,29 @@ public class PartyService implements IPartyService {
     return getDataStore().getParty(tenantId, partyId);
   }
 
+  @Override
+  public PartyPurge getPartyPurge(UUID tenantId, UUID purgeId)
+      throws InvalidArgumentException, PartyPurgeNotFoundException, ServiceUnavailableException {
+    if (tenantId == null) {
+      throw new InvalidArgumentException("tenantId");
+    }
+
+    if (purgeId == null) {
+      throw new InvalidArgumentException("purgeId");
+    }
+
+    PartyPurge purge = purges.get(purgeId);
+
+    if ((purge == null) || (!tenantId.equals(purge.getTenantId()))) {
+      throw new PartyPurgeNotFoundException(tenantId, purgeId);
+    }
+
+    return purge.copy();
+  }
+
   @Override
   @Cacheable(cacheNames = "persons", key = "#personId")
+  @Transactional
   public Person getPerson(UUID tenantId, UUID personId)
       throws InvalidArgumentException, PersonNotFoundException, ServiceUnavailableException {
     if (tenantId == null) {
@@ -531,10 +953,31 @@ public class PartyService implements IPartyService {
       throw new InvalidArgumentException("personId");
     }
 
-    return getDataStore().getPerson(tenantId, personId);
+    return getDataStore().getPerson(tenantId, personId, PartyFetchPlan.FULL);
+  }
+
+  @Override
+  @Transactional
+  public Person getPerson(UUID tenantId, UUID personId, PartyFetchPlan fetchPlan)
+      throws InvalidArgumentException, PersonNotFoundException, ServiceUnavailableException {
+    if ((fetchPlan == null) || (fetchPlan == PartyFetchPlan.FULL)) {
+      // Retrieve the person using the Party Service proxy so the cache is used
+      return getPartyService().getPerson(tenantId, personId);
+    }
+
+    if (tenantId == null) {
+      throw new InvalidArgumentException("tenantId");
+    }
+
+    if (personId == null) {
+      throw new InvalidArgumentException("personId");
+    }
+
+    return getDataStore().getPerson(tenantId, personId, fetchPlan);
   }
 
   @Override
+  @Transactional
   public Persons getPersons(
       UUID tenantId,
       String filter,
@@ -543,6 +986,21 @@ public class PartyService implements IPartyService {
       Integer pageIndex,
       Integer pageSize)
       throws InvalidArgumentException, ServiceUnavailableException {
+    return getPersons(
+        tenantId, filter, sortBy, sortDirection, pageIndex, pageSize, PartyFetchPlan.FULL);
+  }
+
+  @Override
+  @Transactional
+  public Persons getPersons(
+      UUID tenantId,
+      String filter,
+      PersonSortBy sortBy,
+      SortDirection sortDirection,
+      Integer pageIndex,
+      Integer pageSize,
+      PartyFetchPlan fetchPlan)
+      throws InvalidArgumentException, ServiceUnavailableException {
     if (tenantId == null) {
       throw new InvalidArgumentException("tenantId");
     }
@@ -573,54 +1031,106 @@ public class PartyService implements IPartyService {
       pageSize = Math.min(pageSize, maxFilteredPersons);
     }
 
-    return getDataStore().getPersons(tenantId, filter, sortBy, sortDirection, pageIndex, pageSize);
+    if (fetchPlan == null) {
+      fetchPlan = PartyFetchPlan.FULL;
+    }
+
+    return getDataStore()
+        .getPersons(tenantId, filter, sortBy, sortDirection, pageIndex, pageSize, fetchPlan);
   }
 
   @Override
   @Transactional
-  public Snapshots getSnapshots(
+  public Persons getPersons(
       UUID tenantId,
-      EntityType entityType,
-      UUID entityId,
-      LocalDate from,
-      LocalDate to,
+      String filter,
+      PersonSortBy sortBy,
       SortDirection sortDirection,
-      Integer pageIndex,
-      Integer pageSize)
+      String cursor,
+      Integer pageSize,
+      PartyFetchPlan fetchPlan,
+      boolean includeTotal)
       throws InvalidArgumentException, ServiceUnavailableException {
     if (tenantId == null) {
       throw new InvalidArgumentException("tenantId");
     }
 
-    if ((pageIndex != null) && (pageIndex < 0)) {
-      throw new InvalidArgumentException("pageIndex");
-    }
-
     if ((pageSize != null) && (pageSize <= 0)) {
       throw new InvalidArgumentException("pageSize");
     }
 
-    if (sortDirection == null) {
-      sortDirection = SortDirection.ASCENDING;
+    if (sortBy == null) {
+      sortBy = PersonSortBy.NAME;
     }
 
-    if (pageIndex == null) {
-      pageIndex = 0;
+    if (sortDirection == null) {
+      sortDirection = SortDirection.ASCENDING;
     }
 
     if (pageSize == null) {
-      pageSize = maxSnapshots;
+      pageSize = maxFilteredPersons;
     } else {
-      pageSize = Math.min(pageSize, maxSnapshots);
+      pageSize = Math.min(pageSize, maxFilteredPersons);
+    }
+
+    if (fetchPlan == null) {
+      fetchPlan = PartyFetchPlan.SUMMARY;
     }
 
     return getDataStore()
-        .getSnapshots(tenantId, entityType, entityId, from, to, sortDirection, pageIndex, pageSize);
+        .getPersons(
+            tenantId, filter, sortBy, sortDirection, cursor, pageSize, fetchPlan, includeTotal);
   }
 
   @Override
-  @Cacheable(cacheNames = "partyTenantIds", key = "#partyId")
-  public Optional<UUID> getTenantIdForParty(UUID partyId)
+  @Transactional
+  public Snapshots getSnapshots(
+      UUID tenantId,
+      EntityType entityType,
+      UUID entityId,
+      LocalDate from,
+      LocalDate to,
+      SortDirection sortDirection,
+      Integer pageIndex,
+      Integer pageSize)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    if (tenantId == null) {
+      throw new InvalidArgumentException("tenantId");
+    }
+
+    if ((pageIndex != null) && (pageIndex < 0)) {
+      throw new InvalidArgumentException("pageIndex");
+    }
+
+    if ((from != null) && (to != null) && from.isAfter(to)) {
+      throw new InvalidArgumentException("to");
+    }
+
+    if ((pageSize != null) && (pageSize <= 0)) {
+      throw new InvalidArgumentException("pageSize");
+    }
+
+    if (sortDirection == null) {
+      sortDirection = SortDirection.ASCENDING;
+    }
+
+    if (pageIndex == null) {
+      pageIndex = 0;
+    }
+
+    if (pageSize == null) {
+      pageSize = maxSnapshots;
+    } else {
+      pageSize = Math.min(pageSize, maxSnapshots);
+    }
+
+    return getDataStore()
+        .getSnapshots(tenantId, entityType, entityId, from, to, sortDirection, pageIndex, pageSize);
+  }
+
+  @Override
+  @Cacheable(cacheNames = "partyTenantIds", key = "#partyId")
+  public Optional<UUID> getTenantIdForParty(UUID partyId)
       throws InvalidArgumentException, ServiceUnavailableException {
     if (partyId == null) {
       throw new InvalidArgumentException("partyId");
@@ -644,6 +1154,109 @@ public class PartyService implements IPartyService {
     return getDataStore().getTypeForParty(tenantId, partyId);
   }
 
+  @Override
+  public PartyPurge purgeParties(UUID tenantId, PartyExportFormat archiveFormat)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    if (tenantId == null) {
+      throw new InvalidArgumentException("tenantId");
+    }
+
+    // A CSV export only includes selected fields for each party and cannot be used as an archive
+    if (archiveFormat == PartyExportFormat.CSV) {
+      throw new InvalidArgumentException("archiveFormat");
+    }
+
+    if (archiveFormat != null) {
+      checkPurgeArchiveDirectory(tenantId);
+    }
+
+    synchronized (purges) {
+      for (PartyPurge existingPurge : purges.values()) {
+        if (tenantId.equals(existingPurge.getTenantId()) && existingPurge.isActive()) {
+          return existingPurge.copy();
+        }
+      }
+
+      // Only retain the most recent purge for the tenant
+      purges.values().removeIf(existingPurge -> tenantId.equals(existingPurge.getTenantId()));
+
+      PartyPurge purge = new PartyPurge(UuidCreator.getShortPrefixComb(), tenantId, archiveFormat);
+
+      purges.put(purge.getId(), purge);
+
+      try {
+        purgeExecutor.execute(() -> purgeParties(purge));
+      } catch (Throwable e) {
+        purges.remove(purge.getId());
+
+        throw new ServiceUnavailableException(
+            "Failed to start the purge of the party data for the tenant (" + tenantId + ")", e);
+      }
+
+      return purge.copy();
+    }
+  }
+
+  @Override
+  @Transactional
+  public void rebuildAssociationGraph(UUID tenantId)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    if (tenantId == null) {
+      throw new InvalidArgumentException("tenantId");
+    }
+
+    buildAssociationGraph(tenantId, true);
+  }
+
+  @Override
+  public void rebuildSearchIndex(UUID tenantId)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    if (tenantId == null) {
+      throw new InvalidArgumentException("tenantId");
+    }
+
+    buildSearchIndex(tenantId, true);
+  }
+
+  @Override
+  public PartySearchResults searchParties(UUID tenantId, String query, Integer maxResults)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    if (tenantId == null) {
+      throw new InvalidArgumentException("tenantId");
+    }
+
+    if (!StringUtils.hasText(query)) {
+      throw new InvalidArgumentException("query");
+    }
+
+    if ((maxResults != null) && (maxResults <= 0)) {
+      throw new InvalidArgumentException("maxResults");
+    }
+
+    if (maxResults == null) {
+      maxResults = maxSearchResults;
+    } else {
+      maxResults = Math.min(maxResults, maxSearchResults);
+    }
+
+    if (!searchIndex.isBuilt(tenantId)) {
+      buildSearchIndex(tenantId, false);
+    } else if (searchIndex.requestRebuild(tenantId)) {
+      rebuildSearchIndexInBackground(tenantId);
+    }
+
+    try {
+      PartySearchIndex.SearchResults searchResults =
+          searchIndex.search(tenantId, query, maxResults);
+
+      return new PartySearchResults(
+          tenantId, query, searchResults.getResults(), searchResults.getTotal());
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to search for the parties for the tenant (" + tenantId + ")", e);
+    }
+  }
+
   @Override
   @Transactional
   public Association updateAssociation(UUID tenantId, Association association)
@@ -665,7 +1278,11 @@ public class PartyService implements IPartyService {
           "association", ValidationError.toValidationErrors(constraintViolations));
     }
 
-    return getDataStore().updateAssociation(tenantId, association);
+    Association updatedAssociation = getDataStore().updateAssociation(tenantId, association);
+
+    updateAssociationGraphAfterCommit(tenantId, updatedAssociation);
+
+    return updatedAssociation;
   }
 
   @Override
@@ -712,7 +1329,12 @@ public class PartyService implements IPartyService {
           "organization", ValidationError.toValidationErrors(constraintViolations));
     }
 
-    return getDataStore().updateOrganization(tenantId, organization);
+    Organization updatedOrganization = getDataStore().updateOrganization(tenantId, organization);
+
+    updateSearchIndexAfterCommit(
+        tenantId, PartySearchIndex.Document.forOrganization(updatedOrganization));
+
+    return updatedOrganization;
   }
 
   @Override
@@ -735,7 +1357,241 @@ public class PartyService implements IPartyService {
           "person", ValidationError.toValidationErrors(constraintViolations));
     }
 
-    return getDataStore().updatePerson(tenantId, person);
+    Person updatedPerson = getDataStore().updatePerson(tenantId, person);
+
+    updateSearchIndexAfterCommit(tenantId, PartySearchIndex.Document.forPerson(updatedPerson));
+
+    return updatedPerson;
+  }
+
+  @Override
+  @Transactional
+  public List<PartyUpsertResult> upsertParties(UUID tenantId, List<PartyBase> parties)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    if (tenantId == null) {
+      throw new InvalidArgumentException("tenantId");
+    }
+
+    if ((parties == null) || (parties.size() > MAX_UPSERT_PARTIES)) {
+      throw new InvalidArgumentException("parties");
+    }
+
+    PartyUpsertResult[] results = new PartyUpsertResult[parties.size()];
+
+    // Check the parties and retrieve the existing parties with matching external references
+    Map<String, Set<String>> externalReferences = new HashMap<>();
+
+    for (int i = 0; i < parties.size(); i++) {
+      PartyBase party = parties.get(i);
+
+      if (party == null) {
+        results[i] = new PartyUpsertResult(i, null, null, "The party is required", null);
+      } else if (!(((party instanceof Person) && (party.getType() == PartyType.PERSON))
+          || ((party instanceof Organization) && (party.getType() == PartyType.ORGANIZATION)))) {
+        results[i] =
+            new PartyUpsertResult(
+                i, party.getId(), party.getType(), "The party type is not supported", null);
+      } else if (!Objects.equals(tenantId, party.getTenantId())) {
+        results[i] =
+            new PartyUpsertResult(
+                i,
+                party.getId(),
+                party.getType(),
+                "The party is not associated with the tenant (" + tenantId + ")",
+                null);
+      } else if (party.getId() == null) {
+        for (ExternalReference externalReference : getExternalReferences(party)) {
+          externalReferences
+              .computeIfAbsent(externalReference.getType(), type -> new HashSet<>())
+              .add(externalReference.getValue());
+        }
+      }
+    }
+
+    Map<String, Map<String, Set<UUID>>> existingPartyIdsForExternalReferences =
+        externalReferences.isEmpty()
+            ? Map.of()
+            : getDataStore().getPartyIdsForExternalReferences(tenantId, externalReferences);
+
+    /*
+     * Assign an ID to each party without one, using the existing party or an earlier party in the
+     * bulk upsert with a matching external reference, or a new ID if there is no match.
+     */
+    Map<String, Map<String, UUID>> partyIdsForExternalReferences = new HashMap<>();
+
+    for (int i = 0; i < parties.size(); i++) {
+      PartyBase party = parties.get(i);
+
+      if ((results[i] != null) || (party.getId() != null)) {
+        continue;
+      }
+
+      Set<UUID> matchingPartyIds = new HashSet<>();
+
+      for (ExternalReference externalReference : getExternalReferences(party)) {
+        matchingPartyIds.addAll(
+            existingPartyIdsForExternalReferences
+                .getOrDefault(externalReference.getType(), Map.of())
+                .getOrDefault(externalReference.getValue(), Set.of()));
+
+        UUID partyId =
+            partyIdsForExternalReferences
+                .getOrDefault(externalReference.getType(), Map.of())
+                .get(externalReference.getValue());
+
+        if (partyId != null) {
+          matchingPartyIds.add(partyId);
+        }
+      }
+
+      if (matchingPartyIds.size() > 1) {
+        results[i] =
+            new PartyUpsertResult(
+                i,
+                null,
+                party.getType(),
+                "The external references for the party match more than one party",
+                null);
+        continue;
+      }
+
+      party.setId(
+          matchingPartyIds.isEmpty()
+              ? UuidCreator.getShortPrefixComb()
+              : matchingPartyIds.iterator().next());
+
+      for (ExternalReference externalReference : getExternalReferences(party)) {
+        partyIdsForExternalReferences
+            .computeIfAbsent(externalReference.getType(), type -> new HashMap<>())
+            .put(externalReference.getValue(), party.getId());
+      }
+    }
+
+    // Check that the existing parties have the same party types
+    Set<UUID> partyIds = new HashSet<>();
+
+    for (int i = 0; i < parties.size(); i++) {
+      if (results[i] == null) {
+        partyIds.add(parties.get(i).getId());
+      }
+    }
+
+    Map<UUID, PartyType> existingPartyTypes =
+        partyIds.isEmpty() ? Map.of() : getDataStore().getTypesForParties(tenantId, partyIds);
+
+    for (int i = 0; i < parties.size(); i++) {
+      PartyBase party = parties.get(i);
+
+      PartyType existingPartyType =
+          (results[i] == null) ? existingPartyTypes.get(party.getId()) : null;
+
+      if ((existingPartyType != null) && (existingPartyType != party.getType())) {
+        results[i] =
+            new PartyUpsertResult(
+                i,
+                party.getId(),
+                party.getType(),
+                "The existing party has a different party type (" + existingPartyType + ")",
+                null);
+      }
+    }
+
+    // Only apply the last occurrence of each party, superseding the earlier occurrences
+    Map<UUID, Integer> partyIndexes = new LinkedHashMap<>();
+
+    for (int i = 0; i < parties.size(); i++) {
+      if (results[i] == null) {
+        PartyBase party = parties.get(i);
+
+        Integer supersededIndex = partyIndexes.put(party.getId(), i);
+
+        if (supersededIndex != null) {
+          results[supersededIndex] =
+              new PartyUpsertResult(
+                  supersededIndex,
+                  party.getId(),
+                  parties.get(supersededIndex).getType(),
+                  PartyUpsertStatus.SUPERSEDED);
+        }
+      }
+    }
+
+    // Validate the parties in parallel
+    Map<Integer, CompletableFuture<Set<ConstraintViolation<PartyBase>>>> constraintViolations =
+        new LinkedHashMap<>();
+
+    try {
+      for (int i : partyIndexes.values()) {
+        PartyBase party = parties.get(i);
+
+        constraintViolations.put(
+            i,
+            CompletableFuture.supplyAsync(
+                () -> validator.validate(party), upsertValidationExecutor));
+      }
+
+      for (Map.Entry<Integer, CompletableFuture<Set<ConstraintViolation<PartyBase>>>>
+          partyConstraintViolations : constraintViolations.entrySet()) {
+        int i = partyConstraintViolations.getKey();
+
+        PartyBase party = parties.get(i);
+
+        Set<ConstraintViolation<PartyBase>> partyConstraintViolationsSet =
+            partyConstraintViolations.getValue().join();
+
+        if (!partyConstraintViolationsSet.isEmpty()) {
+          results[i] =
+              new PartyUpsertResult(
+                  i,
+                  party.getId(),
+                  party.getType(),
+                  "The party is invalid",
+                  ValidationError.toValidationErrors(partyConstraintViolationsSet));
+        }
+      }
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to validate the parties for the tenant (" + tenantId + ")", e);
+    }
+
+    // Create or update the valid parties
+    List<PartyBase> validParties = new ArrayList<>();
+    List<PartySearchIndex.Document> searchIndexDocuments = new ArrayList<>();
+
+    for (int i : partyIndexes.values()) {
+      if (results[i] == null) {
+        PartyBase party = parties.get(i);
+
+        validParties.add(party);
+
+        searchIndexDocuments.add(
+            (party instanceof Person)
+                ? PartySearchIndex.Document.forPerson((Person) party)
+                : PartySearchIndex.Document.forOrganization((Organization) party));
+
+        results[i] =
+            new PartyUpsertResult(
+                i,
+                party.getId(),
+                party.getType(),
+                existingPartyTypes.containsKey(party.getId())
+                    ? PartyUpsertStatus.UPDATED
+                    : PartyUpsertStatus.CREATED);
+      }
+    }
+
+    if (!validParties.isEmpty()) {
+      getDataStore().upsertParties(tenantId, validParties, existingPartyTypes.keySet());
+
+      afterCommit(
+          () -> {
+            searchIndexDocuments.forEach(document -> searchIndex.index(tenantId, document));
+
+            evictPartiesFromCaches(validParties.stream().map(PartyBase::getId).toList());
+          });
+    }
+
+    return Arrays.asList(results);
   }
 
   @Override
@@ -788,6 +1644,284 @@ public class PartyService implements IPartyService {
     }
   }
 
+  /**
+   * Perform the action once the current transaction, if any, has been committed.
+   *
+   * @param action the action
+   */
+  private void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              action.run();
+            }
+          });
+    } else {
+      action.run();
+    }
+  }
+
+  /**
+   * Export the party data for the tenant to the archive file for the purge.
+   *
+   * <p>An archive entry, holding the entity and all the snapshots for the entity, is written as a
+   * line of JSON for each of the mandates, associations and parties for the tenant, and for each
+   * entity that has been deleted but still has snapshots. The archive file is forced to the storage
+   * device once it has been written and then read back and compared with the exported party data,
+   * so that the party data for the tenant is never deleted unless it has been archived
+   * successfully. The archive file is deleted if the party data could not be exported.
+   *
+   * @param purge the purge
+   * @return the path to the archive file
+   * @throws Exception if the party data could not be archived
+   */
+  private Path archiveParties(PartyPurge purge) throws Exception {
+    UUID tenantId = purge.getTenantId();
+
+    Path archiveFile =
+        Paths.get(purgeArchiveDirectory)
+            .toAbsolutePath()
+            .resolve(
+                "party-archive-"
+                    + tenantId
+                    + "-"
+                    + purge.getId()
+                    + "."
+                    + purge.getArchiveFormat().code()
+                    + ".gz");
+
+    purge.archiving(archiveFile.toString());
+
+    Files.createDirectories(archiveFile.getParent());
+
+    MessageDigest exportDigest = MessageDigest.getInstance("SHA-256");
+
+    try (FileChannel channel =
+        FileChannel.open(archiveFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+      GZIPOutputStream outputStream =
+          new GZIPOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+
+      JsonGenerator generator =
+          objectMapper
+              .getFactory()
+              .createGenerator(
+                  new DigestOutputStream(outputStream, exportDigest), JsonEncoding.UTF8);
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            try {
+              getDataStore()
+                  .exportPartyArchive(
+                      tenantId,
+                      entry -> {
+                        try {
+                          generator.writeObject(entry);
+                          generator.writeRaw('\n');
+                        } catch (IOException e) {
+                          throw new UncheckedIOException(e);
+                        }
+                      });
+            } catch (ServiceUnavailableException e) {
+              throw new PartyPurgeException(e);
+            }
+          });
+
+      // Write the buffered data and the GZIP trailer without closing the channel
+      generator.close();
+      outputStream.finish();
+      outputStream.flush();
+
+      channel.force(true);
+    } catch (Throwable e) {
+      Files.deleteIfExists(archiveFile);
+
+      throw e;
+    }
+
+    // Persist the directory entry for the archive file, where the platform supports this
+    try (FileChannel directoryChannel =
+        FileChannel.open(archiveFile.getParent(), StandardOpenOption.READ)) {
+      directoryChannel.force(true);
+    } catch (IOException e) {
+      logger.debug(
+          "Failed to force the directory entry for the archive file (" + archiveFile + ")", e);
+    }
+
+    // Read back the archive and check that it matches the exported party data
+    MessageDigest archiveDigest = MessageDigest.getInstance("SHA-256");
+
+    try (InputStream inputStream =
+        new DigestInputStream(
+            new GZIPInputStream(new BufferedInputStream(Files.newInputStream(archiveFile))),
+            archiveDigest)) {
+      inputStream.transferTo(OutputStream.nullOutputStream());
+    }
+
+    if (!MessageDigest.isEqual(exportDigest.digest(), archiveDigest.digest())) {
+      throw new IOException(
+          "The archive file ("
+              + archiveFile
+              + ") does not match the party data exported for the tenant ("
+              + tenantId
+              + ")");
+    }
+
+    return archiveFile;
+  }
+
+  /**
+   * Build the association graph index for the tenant from the party data store.
+   *
+   * <p>This method must be invoked in a transaction, since the links for the associations are read
+   * using a forward-only cursor.
+   *
+   * @param tenantId the ID for the tenant
+   * @param force should the index be rebuilt if it has already been built
+   * @throws ServiceUnavailableException if the association graph index could not be built
+   */
+  private void buildAssociationGraph(UUID tenantId, boolean force)
+      throws ServiceUnavailableException {
+    try {
+      associationGraph.build(
+          tenantId, consumer -> getDataStore().getAssociationLinks(tenantId, consumer), force);
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to build the association graph for the tenant (" + tenantId + ")", e);
+    }
+  }
+
+  /**
+   * Build the full-text search index for the tenant from the party data store.
+   *
+   * @param tenantId the ID for the tenant
+   * @param force should the index be rebuilt if it has already been built
+   * @throws ServiceUnavailableException if the full-text search index could not be built
+   */
+  private void buildSearchIndex(UUID tenantId, boolean force) throws ServiceUnavailableException {
+    try {
+      searchIndex.build(
+          tenantId,
+          consumer -> {
+            // Retrieve the parties using the Party Service proxy so each page is retrieved in a
+            // transaction, which allows the information required for the index to be initialized
+            String cursor = "";
+
+            do {
+              Persons persons =
+                  getPartyService()
+                      .getPersons(
+                          tenantId,
+                          null,
+                          PersonSortBy.NAME,
+                          SortDirection.ASCENDING,
+                          cursor,
+                          maxFilteredPersons,
+                          PartyFetchPlan.CORE,
+                          false);
+
+              persons
+                  .getPersons()
+                  .forEach(person -> consumer.add(PartySearchIndex.Document.forPerson(person)));
+
+              cursor = persons.getNextCursor();
+            } while (cursor != null);
+
+            cursor = "";
+
+            do {
+              Organizations organizations =
+                  getPartyService()
+                      .getOrganizations(
+                          tenantId,
+                          null,
+                          OrganizationSortBy.NAME,
+                          SortDirection.ASCENDING,
+                          cursor,
+                          maxFilteredOrganizations,
+                          PartyFetchPlan.CORE,
+                          false);
+
+              organizations
+                  .getOrganizations()
+                  .forEach(
+                      organization ->
+                          consumer.add(PartySearchIndex.Document.forOrganization(organization)));
+
+              cursor = organizations.getNextCursor();
+            } while (cursor != null);
+          },
+          force);
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to build the search index for the tenant (" + tenantId + ")", e);
+    }
+  }
+
+  /**
+   * Check that the directory the archives of the party data for the tenants are written to has been
+   * configured and is writable, so that a purge that should archive the party data fails when it is
+   * requested rather than after it has been started.
+   *
+   * @param tenantId the ID for the tenant
+   * @throws ServiceUnavailableException if the archive directory has not been configured, could not
+   *     be created or is not writable
+   */
+  private void checkPurgeArchiveDirectory(UUID tenantId) throws ServiceUnavailableException {
+    if (!StringUtils.hasText(purgeArchiveDirectory)) {
+      throw new ServiceUnavailableException(
+          "Failed to start the purge of the party data for the tenant ("
+              + tenantId
+              + ") since no archive directory has been configured using the"
+              + " inception.party.purge.archive-directory property");
+    }
+
+    Path archiveDirectory;
+
+    try {
+      archiveDirectory = Files.createDirectories(Paths.get(purgeArchiveDirectory));
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to start the purge of the party data for the tenant ("
+              + tenantId
+              + ") since the archive directory ("
+              + purgeArchiveDirectory
+              + ") could not be created",
+          e);
+    }
+
+    if (!Files.isWritable(archiveDirectory)) {
+      throw new ServiceUnavailableException(
+          "Failed to start the purge of the party data for the tenant ("
+              + tenantId
+              + ") since the archive directory ("
+              + archiveDirectory
+              + ") is not writable");
+    }
+  }
+
+  /**
+   * Evict the parties from the caches for the parties.
+   *
+   * @param partyIds the IDs for the parties
+   */
+  private void evictPartiesFromCaches(Collection<UUID> partyIds) {
+    CacheManager cacheManager =
+        applicationContext.getBeanProvider(CacheManager.class).getIfAvailable();
+
+    if (cacheManager != null) {
+      for (String cacheName : List.of("organizations", "persons", "partyTenantIds", "partyTypes")) {
+        Cache cache = cacheManager.getCache(cacheName);
+
+        if (cache != null) {
+          partyIds.forEach(cache::evict);
+        }
+      }
+    }
+  }
+
   /**
    * Retrieve the party data store.
    *
@@ -821,6 +1955,305 @@ public class PartyService implements IPartyService {
     }
   }
 
+  /**
+   * Returns the external references for the party.
+   *
+   * @param party the party
+   * @return the external references for the party
+   */
+  private Set<ExternalReference> getExternalReferences(PartyBase party) {
+    if (party instanceof Person) {
+      return ((Person) party).getExternalReferences();
+    } else if (party instanceof Organization) {
+      return ((Organization) party).getExternalReferences();
+    } else {
+      return Set.of();
+    }
+  }
+
+  /**
+   * Purge the party data for the tenant.
+   *
+   * <p>When the party data for the tenant is archived, only the entities written to the verified
+   * archive file are deleted, and the entities that were changed after they were archived are
+   * retained. Otherwise, all the party data for the tenant is deleted.
+   *
+   * @param purge the purge
+   */
+  private void purgeParties(PartyPurge purge) {
+    UUID tenantId = purge.getTenantId();
+
+    try {
+      if (purge.getArchiveFormat() != null) {
+        Path archiveFile = archiveParties(purge);
+
+        purge.purging();
+
+        try (BufferedReader archiveReader =
+            new BufferedReader(
+                new InputStreamReader(
+                    new GZIPInputStream(new BufferedInputStream(Files.newInputStream(archiveFile))),
+                    StandardCharsets.UTF_8))) {
+          purgePartyChunks(
+              purge,
+              (chunkSize, deletedRows, deletedPartyIds, retainedEntityIds) -> {
+                List<PartyArchiveEntry> entries = readArchiveEntries(archiveReader, chunkSize);
+
+                if (entries.isEmpty()) {
+                  return false;
+                }
+
+                getDataStore()
+                    .purgeArchivedParties(
+                        tenantId, entries, deletedRows, deletedPartyIds, retainedEntityIds);
+
+                return true;
+              });
+        }
+      } else {
+        purge.purging();
+
+        purgePartyChunks(
+            purge,
+            (chunkSize, deletedRows, deletedPartyIds, retainedEntityIds) ->
+                getDataStore().purgeParties(tenantId, chunkSize, deletedRows, deletedPartyIds));
+      }
+
+      purge.completed();
+
+      PartyPurge completedPurge = purge.copy();
+
+      logger.info(
+          "Purged the party data for the tenant ("
+              + tenantId
+              + ") deleting "
+              + completedPurge.getDeletedParties()
+              + " parties and retaining "
+              + completedPurge.getRetainedEntities()
+              + " entities that were changed after they were archived");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+
+      purge.failed("The purge was interrupted");
+    } catch (Throwable e) {
+      Throwable cause = (e instanceof PartyPurgeException) ? e.getCause() : e;
+
+      logger.error("Failed to purge the party data for the tenant (" + tenantId + ")", cause);
+
+      purge.failed(cause.getMessage());
+    }
+  }
+
+  /**
+   * Delete the party data for the purge in chunks until no party data remains to be deleted.
+   *
+   * <p>Each chunk is deleted in its own transaction. The size of each chunk is halved when deleting
+   * a chunk takes longer than the target duration and doubled, up to the configured chunk size,
+   * when it takes less than half the target duration. The purge pauses between chunks to allow
+   * other transactions to proceed.
+   *
+   * @param purge the purge
+   * @param chunk the chunk of the party data that is deleted in each transaction
+   * @throws InterruptedException if the purge was interrupted
+   */
+  private void purgePartyChunks(PartyPurge purge, PartyPurgeChunk chunk)
+      throws InterruptedException {
+    UUID tenantId = purge.getTenantId();
+
+    int maxChunkSize = Math.max(1, purgeChunkSize);
+    int chunkSize = maxChunkSize;
+
+    while (true) {
+      if (Thread.currentThread().isInterrupted()) {
+        throw new InterruptedException();
+      }
+
+      Map<String, Long> deletedRows = new HashMap<>();
+      List<UUID> deletedPartyIds = new ArrayList<>();
+      List<UUID> retainedEntityIds = new ArrayList<>();
+
+      long start = System.nanoTime();
+
+      int currentChunkSize = chunkSize;
+
+      Boolean purged =
+          transactionTemplate.execute(
+              status -> {
+                try {
+                  return chunk.purge(
+                      currentChunkSize, deletedRows, deletedPartyIds, retainedEntityIds);
+                } catch (Exception e) {
+                  throw new PartyPurgeException(e);
+                }
+              });
+
+      long duration = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+      if (!deletedPartyIds.isEmpty()) {
+        deletedPartyIds.forEach(
+            partyId -> {
+              searchIndex.remove(tenantId, partyId);
+              associationGraph.removeParty(tenantId, partyId);
+            });
+
+        evictPartiesFromCaches(deletedPartyIds);
+      }
+
+      purge.purged(deletedRows, deletedPartyIds.size(), retainedEntityIds.size());
+
+      if (!Boolean.TRUE.equals(purged)) {
+        return;
+      }
+
+      if (duration > purgeTargetChunkDuration) {
+        chunkSize = Math.max(MIN_PURGE_CHUNK_SIZE, chunkSize / 2);
+      } else if ((duration * 2) < purgeTargetChunkDuration) {
+        chunkSize = Math.min(maxChunkSize, chunkSize * 2);
+      }
+
+      if (purgeDelay > 0) {
+        Thread.sleep(purgeDelay);
+      }
+    }
+  }
+
+  /**
+   * Read the next archive entries from the archive file for a purge.
+   *
+   * <p>Only the type, ID and version for each entity are retained, since these are all that is
+   * required to delete the entity.
+   *
+   * @param archiveReader the reader for the archive file
+   * @param maxEntries the maximum number of archive entries to read
+   * @return the archive entries, which are empty once the end of the archive file has been reached
+   * @throws IOException if the archive entries could not be read
+   */
+  private List<PartyArchiveEntry> readArchiveEntries(BufferedReader archiveReader, int maxEntries)
+      throws IOException {
+    List<PartyArchiveEntry> entries = new ArrayList<>();
+
+    String line;
+
+    while ((entries.size() < maxEntries) && ((line = archiveReader.readLine()) != null)) {
+      JsonNode entryNode = objectMapper.readTree(line);
+
+      entries.add(
+          new PartyArchiveEntry(
+              EntityType.fromCode(entryNode.get("entityType").asText()),
+              UUID.fromString(entryNode.get("entityId").asText()),
+              entryNode.get("version").asInt()));
+    }
+
+    return entries;
+  }
+
+  /**
+   * Remove the party from the full-text search index once the current transaction, if any, has been
+   * committed.
+   *
+   * @param tenantId the ID for the tenant
+   * @param partyId the ID for the party
+   */
+  private void removeFromSearchIndexAfterCommit(UUID tenantId, UUID partyId) {
+    afterCommit(() -> searchIndex.remove(tenantId, partyId));
+  }
+
+  /**
+   * Add or replace the association in the association graph index once the current transaction, if
+   * any, has been committed.
+   *
+   * @param tenantId the ID for the tenant
+   * @param association the association
+   */
+  private void updateAssociationGraphAfterCommit(UUID tenantId, Association association) {
+    AssociationGraphLink link =
+        new AssociationGraphLink(
+            association.getId(),
+            association.getType(),
+            association.getFirstPartyId(),
+            association.getSecondPartyId());
+
+    afterCommit(() -> associationGraph.add(tenantId, link));
+  }
+
+  /**
+   * Add or replace the party in the full-text search index once the current transaction, if any,
+   * has been committed.
+   *
+   * <p>The document for the party is created before the transaction completes, while the
+   * information for the party can still be retrieved.
+   *
+   * @param tenantId the ID for the tenant
+   * @param document the document for the party
+   */
+  private void updateSearchIndexAfterCommit(UUID tenantId, PartySearchIndex.Document document) {
+    afterCommit(() -> searchIndex.index(tenantId, document));
+  }
+
+  /**
+   * Rebuild the association graph index for the tenant in the background, while traversals continue
+   * to use the existing index, so that the changes made on other nodes are reflected in the index.
+   *
+   * @param tenantId the ID for the tenant
+   */
+  private void rebuildAssociationGraphInBackground(UUID tenantId) {
+    try {
+      indexRebuildExecutor.execute(
+          () -> {
+            try {
+              transactionTemplate.executeWithoutResult(
+                  status -> {
+                    try {
+                      buildAssociationGraph(tenantId, true);
+                    } catch (ServiceUnavailableException e) {
+                      throw new RuntimeException(e);
+                    }
+                  });
+            } catch (Throwable e) {
+              logger.error(
+                  "Failed to rebuild the association graph for the tenant (" + tenantId + ")", e);
+            }
+          });
+    } catch (Throwable e) {
+      associationGraph.rebuildRejected(tenantId);
+
+      logger.warn(
+          "Failed to schedule the rebuild of the association graph for the tenant ("
+              + tenantId
+              + ")",
+          e);
+    }
+  }
+
+  /**
+   * Rebuild the full-text search index for the tenant in the background, while searches continue to
+   * use the existing index, so that the changes made on other nodes are reflected in the index.
+   *
+   * @param tenantId the ID for the tenant
+   */
+  private void rebuildSearchIndexInBackground(UUID tenantId) {
+    try {
+      indexRebuildExecutor.execute(
+          () -> {
+            try {
+              buildSearchIndex(tenantId, true);
+            } catch (Throwable e) {
+              logger.error(
+                  "Failed to rebuild the full-text search index for the tenant (" + tenantId + ")",
+                  e);
+            }
+          });
+    } catch (Throwable e) {
+      searchIndex.rebuildRejected(tenantId);
+
+      logger.warn(
+          "Failed to schedule the rebuild of the full-text search index for the tenant ("
+              + tenantId
+              + ")",
+          e);
+    }
+  }
+
   /**
    * Returns the internal reference to the Party Service to enable caching.
    *
@@ -829,4 +2262,46 @@ public class PartyService implements IPartyService {
   private IPartyService getPartyService() {
     return applicationContext.getBean(IPartyService.class);
   }
+
+  /**
+   * The <b>PartyPurgeChunk</b> interface is implemented to delete the next chunk of the party data
+   * for a purge.
+   */
+  @FunctionalInterface
+  private interface PartyPurgeChunk {
+
+    /**
+     * Delete the next chunk of the party data for the purge.
+     *
+     * @param chunkSize the maximum number of entities to delete
+     * @param deletedRows the number of rows deleted from each table, keyed by table name, which is
+     *     updated with the rows deleted for the chunk
+     * @param deletedPartyIds the list that is populated with the IDs for the parties deleted for
+     *     the chunk
+     * @param retainedEntityIds the list that is populated with the IDs for the entities retained
+     *     for the chunk
+     * @return <b>true</b> if a chunk of the party data was processed or <b>false</b> if no party
+     *     data remains to be deleted
+     * @throws Exception if the chunk of the party data could not be deleted
+     */
+    boolean purge(
+        int chunkSize,
+        Map<String, Long> deletedRows,
+        List<UUID> deletedPartyIds,
+        List<UUID> retainedEntityIds)
+        throws Exception;
+  }
+
+  /**
+   * The <b>PartyPurgeException</b> exception is thrown to roll back the transaction for the party
+   * data for a tenant that could not be archived or deleted.
+   */
+  private static final class PartyPurgeException extends RuntimeException {
+
+    private static final long serialVersionUID = 1000000;
+
+    PartyPurgeException(Throwable cause) {
+      super(cause);
+    }
+  }
 }
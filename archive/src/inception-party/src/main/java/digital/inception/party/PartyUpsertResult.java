@@ -0,0 +1,190 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import digital.inception.core.service.ValidationError;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * The <b>PartyUpsertResult</b> class holds the outcome of creating or updating a party as part of a
+ * bulk upsert.
+ *
+ * @author Marcus Portmann
+ */
+@Schema(description = "The outcome of creating or updating a party as part of a bulk upsert")
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+@JsonPropertyOrder({"index", "id", "type", "status", "message", "validationErrors"})
+@XmlRootElement(name = "PartyUpsertResult", namespace = "http://inception.digital/party")
+@XmlType(
+    name = "PartyUpsertResult",
+    namespace = "http://inception.digital/party",
+    propOrder = {"index", "id", "type", "status", "message", "validationErrors"})
+@XmlAccessorType(XmlAccessType.FIELD)
+@SuppressWarnings({"unused"})
+public class PartyUpsertResult implements Serializable {
+
+  private static final long serialVersionUID = 1000000;
+
+  /** The ID for the party. */
+  @Schema(description = "The ID for the party")
+  @JsonProperty
+  @XmlElement(name = "Id")
+  private UUID id;
+
+  /** The zero-based index of the party in the bulk upsert. */
+  @Schema(description = "The zero-based index of the party in the bulk upsert", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "Index", required = true)
+  private int index;
+
+  /** The message describing why the party could not be created or updated. */
+  @Schema(description = "The message describing why the party could not be created or updated")
+  @JsonProperty
+  @XmlElement(name = "Message")
+  private String message;
+
+  /** The outcome of creating or updating the party. */
+  @Schema(description = "The outcome of creating or updating the party", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "Status", required = true)
+  private PartyUpsertStatus status;
+
+  /** The party type. */
+  @Schema(description = "The party type")
+  @JsonProperty
+  @XmlElement(name = "Type")
+  private PartyType type;
+
+  /** The validation errors for the party. */
+  @Schema(description = "The validation errors for the party")
+  @JsonProperty
+  @XmlElementWrapper(name = "ValidationErrors")
+  @XmlElement(name = "ValidationError")
+  private List<ValidationError> validationErrors;
+
+  /** Constructs a new <b>PartyUpsertResult</b>. */
+  public PartyUpsertResult() {}
+
+  /**
+   * Constructs a new <b>PartyUpsertResult</b>.
+   *
+   * @param index the zero-based index of the party in the bulk upsert
+   * @param id the ID for the party
+   * @param type the party type
+   * @param status the outcome of creating or updating the party
+   */
+  public PartyUpsertResult(int index, UUID id, PartyType type, PartyUpsertStatus status) {
+    this.index = index;
+    this.id = id;
+    this.type = type;
+    this.status = status;
+  }
+
+  /**
+   * Constructs a new <b>PartyUpsertResult</b> for a party that could not be created or updated.
+   *
+   * @param index the zero-based index of the party in the bulk upsert
+   * @param id the ID for the party
+   * @param type the party type
+   * @param message the message describing why the party could not be created or updated
+   * @param validationErrors the validation errors for the party
+   */
+  public PartyUpsertResult(
+      int index, UUID id, PartyType type, String message, List<ValidationError> validationErrors) {
+    this.index = index;
+    this.id = id;
+    this.type = type;
+    this.status = PartyUpsertStatus.FAILED;
+    this.message = message;
+    this.validationErrors = validationErrors;
+  }
+
+  /**
+   * Returns the ID for the party.
+   *
+   * @return the ID for the party
+   */
+  public UUID getId() {
+    return id;
+  }
+
+  /**
+   * Returns the zero-based index of the party in the bulk upsert.
+   *
+   * @return the zero-based index of the party in the bulk upsert
+   */
+  public int getIndex() {
+    return index;
+  }
+
+  /**
+   * Returns the message describing why the party could not be created or updated.
+   *
+   * @return the message describing why the party could not be created or updated
+   */
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * Returns the outcome of creating or updating the party.
+   *
+   * @return the outcome of creating or updating the party
+   */
+  public PartyUpsertStatus getStatus() {
+    return status;
+  }
+
+  /**
+   * Returns the party type.
+   *
+   * @return the party type
+   */
+  public PartyType getType() {
+    return type;
+  }
+
+  /**
+   * Returns the validation errors for the party.
+   *
+   * @return the validation errors for the party
+   */
+  public List<ValidationError> getValidationErrors() {
+    return validationErrors;
+  }
+
+  /**
+   * Set the zero-based index of the party in the bulk upsert.
+   *
+   * @param index the zero-based index of the party in the bulk upsert
+   */
+  public void setIndex(int index) {
+    this.index = index;
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * The <b>PartyUpsertStatus</b> enumeration defines the possible outcomes when creating or updating
+ * a party as part of a bulk upsert.
+ *
+ * @author Marcus Portmann
+ */
+@Schema(description = "The outcome when creating or updating a party as part of a bulk upsert")
+@XmlEnum
+@XmlType(name = "PartyUpsertStatus", namespace = "http://inception.digital/party")
+public enum PartyUpsertStatus {
+  /** The party was created. */
+  @XmlEnumValue("Created")
+  CREATED("created", "Created"),
+
+  /** The existing party was updated. */
+  @XmlEnumValue("Updated")
+  UPDATED("updated", "Updated"),
+
+  /** The party was superseded by a later party with the same ID in the same bulk upsert. */
+  @XmlEnumValue("Superseded")
+  SUPERSEDED("superseded", "Superseded"),
+
+  /** The party could not be created or updated. */
+  @XmlEnumValue("Failed")
+  FAILED("failed", "Failed");
+
+  private final String code;
+
+  private final String description;
+
+  PartyUpsertStatus(String code, String description) {
+    this.code = code;
+    this.description = description;
+  }
+
+  /**
+   * Returns the party upsert status given by the specified code value.
+   *
+   * @param code the code for the party upsert status
+   * @return the party upsert status given by the specified code value
+   */
+  @JsonCreator
+  public static PartyUpsertStatus fromCode(String code) {
+    switch (code) {
+      case "created":
+        return PartyUpsertStatus.CREATED;
+
+      case "updated":
+        return PartyUpsertStatus.UPDATED;
+
+      case "superseded":
+        return PartyUpsertStatus.SUPERSEDED;
+
+      case "failed":
+        return PartyUpsertStatus.FAILED;
+
+      default:
+        throw new RuntimeException(
+            "Failed to determine the party upsert status with the invalid code (" + code + ")");
+    }
+  }
+
+  /**
+   * Returns the code for the party upsert status.
+   *
+   * @return the code for the party upsert status
+   */
+  @JsonValue
+  public String code() {
+    return code;
+  }
+
+  /**
+   * Returns the description for the party upsert status.
+   *
+   * @return the description for the party upsert status
+   */
+  public String description() {
+    return description;
+  }
+
+  /**
+   * Return the string representation of the party upsert status enumeration value.
+   *
+   * @return the string representation of the party upsert status enumeration value
+   */
+  public String toString() {
+    return description;
+  }
+}
@@ -0,0 +1,1039 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import digital.inception.core.service.ServiceUnavailableException;
+import digital.inception.reference.Country;
+import digital.inception.reference.IReferenceService;
+import digital.inception.reference.Language;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.util.StringUtils;
+
+/**
+ * The <b>PartyValidationPlan</b> class holds the reference data required to validate the parties
+ * associated with a tenant, compiled into immutable hash indexes bound to the tenant.
+ *
+ * <p>A validation plan is compiled once from the cached lists of reference data and is then shared
+ * by all the threads validating parties for the tenant, so that validating a party does not resolve
+ * the tenant or retrieve and scan the reference data for every attribute, contact mechanism or
+ * document. The lookups on the plan mirror the equivalent checks provided by the Party Reference
+ * Service and the Reference Service.
+ *
+ * <p>A plan is recompiled by the Party Reference Service when the reference data is evicted from
+ * the caches.
+ *
+ * @author Marcus Portmann
+ */
+public final class PartyValidationPlan {
+
+  /** The value types for the attribute types keyed by the code for the attribute type. */
+  private final Map<String, ValueType> attributeTypeValueTypes = new HashMap<>();
+
+  /** The attribute types for the tenant. */
+  private final ReferenceDataIndex<AttributeType> attributeTypes;
+
+  /** The consent types for the tenant. */
+  private final ReferenceDataIndex<ConsentType> consentTypes;
+
+  /** The contact mechanism purposes for the tenant. */
+  private final ReferenceDataIndex<ContactMechanismPurpose> contactMechanismPurposes;
+
+  /** The contact mechanism roles for the tenant. */
+  private final ReferenceDataIndex<ContactMechanismRole> contactMechanismRoles;
+
+  /** The contact mechanism types for the tenant. */
+  private final ReferenceDataIndex<ContactMechanismType> contactMechanismTypes;
+
+  /** The codes for the countries. */
+  private final Set<String> countries = new HashSet<>();
+
+  /** The employment statuses for the tenant. */
+  private final ReferenceDataIndex<EmploymentStatus> employmentStatuses;
+
+  /** The employment types for the tenant. */
+  private final ReferenceDataIndex<EmploymentType> employmentTypes;
+
+  /** The external reference types for the tenant. */
+  private final ReferenceDataIndex<ExternalReferenceType> externalReferenceTypes;
+
+  /** The fields of study for the tenant. */
+  private final ReferenceDataIndex<FieldOfStudy> fieldsOfStudy;
+
+  /** The genders for the tenant. */
+  private final ReferenceDataIndex<Gender> genders;
+
+  /** The identity document types for the tenant. */
+  private final ReferenceDataIndex<IdentityDocumentType> identityDocumentTypes;
+
+  /** The codes for the industry classifications keyed by the code for the classification system. */
+  private final Map<String, Set<String>> industryClassifications = new HashMap<>();
+
+  /** The codes for the languages. */
+  private final Set<String> languages = new HashSet<>();
+
+  /** The lock types for the tenant. */
+  private final ReferenceDataIndex<LockType> lockTypes;
+
+  /** The marital statuses for the tenant. */
+  private final ReferenceDataIndex<MaritalStatus> maritalStatuses;
+
+  /** The codes for the marriage types for the tenant keyed by the code for the marital status. */
+  private final Map<String, Set<String>> marriageTypes = new HashMap<>();
+
+  /** The next of kin types for the tenant. */
+  private final ReferenceDataIndex<NextOfKinType> nextOfKinTypes;
+
+  /** The occupations for the tenant. */
+  private final ReferenceDataIndex<Occupation> occupations;
+
+  /** The physical address purposes for the tenant. */
+  private final ReferenceDataIndex<PhysicalAddressPurpose> physicalAddressPurposes;
+
+  /** The physical address roles for the tenant. */
+  private final ReferenceDataIndex<PhysicalAddressRole> physicalAddressRoles;
+
+  /** The physical address types for the tenant. */
+  private final ReferenceDataIndex<PhysicalAddressType> physicalAddressTypes;
+
+  /** The preference types for the tenant. */
+  private final ReferenceDataIndex<PreferenceType> preferenceTypes;
+
+  /** The qualification types for the tenant. */
+  private final ReferenceDataIndex<QualificationType> qualificationTypes;
+
+  /** The races for the tenant. */
+  private final ReferenceDataIndex<Race> races;
+
+  /** The residence permit types for the tenant. */
+  private final ReferenceDataIndex<ResidencePermitType> residencePermitTypes;
+
+  /** The residency statuses for the tenant. */
+  private final ReferenceDataIndex<ResidencyStatus> residencyStatuses;
+
+  /** The residential types for the tenant. */
+  private final ReferenceDataIndex<ResidentialType> residentialTypes;
+
+  /** The role type attribute type constraints. */
+  private final List<RoleTypeAttributeTypeConstraint> roleTypeAttributeTypeConstraints;
+
+  /** The role type attribute type constraints keyed by the lowercase code for the role type. */
+  private final Map<String, List<RoleTypeAttributeTypeConstraint>>
+      roleTypeAttributeTypeConstraintsByRoleType = new HashMap<>();
+
+  /** The role type preference type constraints. */
+  private final List<RoleTypePreferenceTypeConstraint> roleTypePreferenceTypeConstraints;
+
+  /** The role type preference type constraints keyed by the lowercase code for the role type. */
+  private final Map<String, List<RoleTypePreferenceTypeConstraint>>
+      roleTypePreferenceTypeConstraintsByRoleType = new HashMap<>();
+
+  /** The role types for the tenant. */
+  private final ReferenceDataIndex<RoleType> roleTypes;
+
+  /** The segments for the tenant. */
+  private final ReferenceDataIndex<Segment> segments;
+
+  /** The skill types for the tenant. */
+  private final ReferenceDataIndex<SkillType> skillTypes;
+
+  /** The source of funds types for the tenant. */
+  private final ReferenceDataIndex<SourceOfFundsType> sourceOfFundsTypes;
+
+  /** The source of wealth types for the tenant. */
+  private final ReferenceDataIndex<SourceOfWealthType> sourceOfWealthTypes;
+
+  /** The status types for the tenant. */
+  private final ReferenceDataIndex<StatusType> statusTypes;
+
+  /** The tax number types for the tenant. */
+  private final ReferenceDataIndex<TaxNumberType> taxNumberTypes;
+
+  /** The ID for the tenant the validation plan was compiled for. */
+  private final UUID tenantId;
+
+  /** The titles for the tenant. */
+  private final ReferenceDataIndex<Title> titles;
+
+  /**
+   * Constructs a new <b>PartyValidationPlan</b>.
+   *
+   * @param tenantId the ID for the tenant the validation plan is compiled for
+   * @param partyReferenceService the caching Party Reference Service
+   * @param referenceService the caching Reference Service
+   * @throws ServiceUnavailableException if the validation plan could not be compiled
+   */
+  PartyValidationPlan(
+      UUID tenantId,
+      IPartyReferenceService partyReferenceService,
+      IReferenceService referenceService)
+      throws ServiceUnavailableException {
+    this.tenantId = tenantId;
+
+    this.attributeTypes =
+        index(
+            partyReferenceService::getAttributeTypes,
+            AttributeType::getTenantId,
+            AttributeType::getCode);
+    this.consentTypes =
+        index(
+            partyReferenceService::getConsentTypes, ConsentType::getTenantId, ConsentType::getCode);
+    this.contactMechanismPurposes =
+        index(
+            partyReferenceService::getContactMechanismPurposes,
+            ContactMechanismPurpose::getTenantId,
+            ContactMechanismPurpose::getCode);
+    this.contactMechanismRoles =
+        index(
+            partyReferenceService::getContactMechanismRoles,
+            ContactMechanismRole::getTenantId,
+            ContactMechanismRole::getCode);
+    this.contactMechanismTypes =
+        index(
+            partyReferenceService::getContactMechanismTypes,
+            ContactMechanismType::getTenantId,
+            ContactMechanismType::getCode);
+    this.employmentStatuses =
+        index(
+            partyReferenceService::getEmploymentStatuses,
+            EmploymentStatus::getTenantId,
+            EmploymentStatus::getCode);
+    this.employmentTypes =
+        index(
+            partyReferenceService::getEmploymentTypes,
+            EmploymentType::getTenantId,
+            EmploymentType::getCode);
+    this.externalReferenceTypes =
+        index(
+            partyReferenceService::getExternalReferenceTypes,
+            ExternalReferenceType::getTenantId,
+            ExternalReferenceType::getCode);
+    this.fieldsOfStudy =
+        index(
+            partyReferenceService::getFieldsOfStudy,
+            FieldOfStudy::getTenantId,
+            FieldOfStudy::getCode);
+    this.genders = index(partyReferenceService::getGenders, Gender::getTenantId, Gender::getCode);
+    this.identityDocumentTypes =
+        index(
+            partyReferenceService::getIdentityDocumentTypes,
+            IdentityDocumentType::getTenantId,
+            IdentityDocumentType::getCode);
+    this.lockTypes =
+        index(partyReferenceService::getLockTypes, LockType::getTenantId, LockType::getCode);
+    this.maritalStatuses =
+        index(
+            partyReferenceService::getMaritalStatuses,
+            MaritalStatus::getTenantId,
+            MaritalStatus::getCode);
+    this.nextOfKinTypes =
+        index(
+            partyReferenceService::getNextOfKinTypes,
+            NextOfKinType::getTenantId,
+            NextOfKinType::getCode);
+    this.occupations =
+        index(partyReferenceService::getOccupations, Occupation::getTenantId, Occupation::getCode);
+    this.physicalAddressPurposes =
+        index(
+            partyReferenceService::getPhysicalAddressPurposes,
+            PhysicalAddressPurpose::getTenantId,
+            PhysicalAddressPurpose::getCode);
+    this.physicalAddressRoles =
+        index(
+            partyReferenceService::getPhysicalAddressRoles,
+            PhysicalAddressRole::getTenantId,
+            PhysicalAddressRole::getCode);
+    this.physicalAddressTypes =
+        index(
+            partyReferenceService::getPhysicalAddressTypes,
+            PhysicalAddressType::getTenantId,
+            PhysicalAddressType::getCode);
+    this.preferenceTypes =
+        index(
+            partyReferenceService::getPreferenceTypes,
+            PreferenceType::getTenantId,
+            PreferenceType::getCode);
+    this.qualificationTypes =
+        index(
+            partyReferenceService::getQualificationTypes,
+            QualificationType::getTenantId,
+            QualificationType::getCode);
+    this.races = index(partyReferenceService::getRaces, Race::getTenantId, Race::getCode);
+    this.residencePermitTypes =
+        index(
+            partyReferenceService::getResidencePermitTypes,
+            ResidencePermitType::getTenantId,
+            ResidencePermitType::getCode);
+    this.residencyStatuses =
+        index(
+            partyReferenceService::getResidencyStatuses,
+            ResidencyStatus::getTenantId,
+            ResidencyStatus::getCode);
+    this.residentialTypes =
+        index(
+            partyReferenceService::getResidentialTypes,
+            ResidentialType::getTenantId,
+            ResidentialType::getCode);
+    this.roleTypes =
+        index(partyReferenceService::getRoleTypes, RoleType::getTenantId, RoleType::getCode);
+    this.segments =
+        index(partyReferenceService::getSegments, Segment::getTenantId, Segment::getCode);
+    this.skillTypes =
+        index(partyReferenceService::getSkillTypes, SkillType::getTenantId, SkillType::getCode);
+    this.sourceOfFundsTypes =
+        index(
+            partyReferenceService::getSourceOfFundsTypes,
+            SourceOfFundsType::getTenantId,
+            SourceOfFundsType::getCode);
+    this.sourceOfWealthTypes =
+        index(
+            partyReferenceService::getSourceOfWealthTypes,
+            SourceOfWealthType::getTenantId,
+            SourceOfWealthType::getCode);
+    this.statusTypes =
+        index(partyReferenceService::getStatusTypes, StatusType::getTenantId, StatusType::getCode);
+    this.taxNumberTypes =
+        index(
+            partyReferenceService::getTaxNumberTypes,
+            TaxNumberType::getTenantId,
+            TaxNumberType::getCode);
+    this.titles = index(partyReferenceService::getTitles, Title::getTenantId, Title::getCode);
+
+    for (AttributeType attributeType : partyReferenceService.getAttributeTypes()) {
+      if (!attributeTypeValueTypes.containsKey(attributeType.getCode())) {
+        attributeTypeValueTypes.put(attributeType.getCode(), attributeType.getValueType());
+      }
+    }
+
+    for (Country country : referenceService.getCountries()) {
+      countries.add(country.getCode());
+    }
+
+    for (IndustryClassification industryClassification :
+        partyReferenceService.getIndustryClassifications()) {
+      industryClassifications
+          .computeIfAbsent(industryClassification.getSystem(), system -> new HashSet<>())
+          .add(industryClassification.getCode());
+    }
+
+    for (Language language : referenceService.getLanguages()) {
+      languages.add(language.getCode());
+    }
+
+    for (MarriageType marriageType : partyReferenceService.getMarriageTypes()) {
+      if ((marriageType.getTenantId() == null)
+          || Objects.equals(marriageType.getTenantId(), tenantId)) {
+        marriageTypes
+            .computeIfAbsent(marriageType.getMaritalStatus(), maritalStatus -> new HashSet<>())
+            .add(marriageType.getCode());
+      }
+    }
+
+    this.roleTypeAttributeTypeConstraints =
+        partyReferenceService.getRoleTypeAttributeTypeConstraints();
+
+    for (RoleTypeAttributeTypeConstraint roleTypeAttributeTypeConstraint :
+        roleTypeAttributeTypeConstraints) {
+      roleTypeAttributeTypeConstraintsByRoleType
+          .computeIfAbsent(
+              roleTypeAttributeTypeConstraint.getRoleType().toLowerCase(Locale.ENGLISH),
+              roleType -> new ArrayList<>())
+          .add(roleTypeAttributeTypeConstraint);
+    }
+
+    this.roleTypePreferenceTypeConstraints =
+        partyReferenceService.getRoleTypePreferenceTypeConstraints();
+
+    for (RoleTypePreferenceTypeConstraint roleTypePreferenceTypeConstraint :
+        roleTypePreferenceTypeConstraints) {
+      roleTypePreferenceTypeConstraintsByRoleType
+          .computeIfAbsent(
+              roleTypePreferenceTypeConstraint.getRoleType().toLowerCase(Locale.ENGLISH),
+              roleType -> new ArrayList<>())
+          .add(roleTypePreferenceTypeConstraint);
+    }
+  }
+
+  /**
+   * Retrieve the attribute type with the specified code that is valid for the party type.
+   *
+   * @param partyTypeCode the code for the party type
+   * @param attributeTypeCode the code for the attribute type
+   * @return an Optional containing the attribute type or an empty Optional if the attribute type
+   *     could not be found
+   */
+  public Optional<AttributeType> getAttributeType(String partyTypeCode, String attributeTypeCode) {
+    return attributeTypes.findFirst(
+        tenantId,
+        attributeTypeCode,
+        attributeType -> attributeType.isValidForPartyType(partyTypeCode));
+  }
+
+  /**
+   * Retrieve the value type for the attribute type.
+   *
+   * @param attributeTypeCode the code for the attribute type
+   * @return an Optional containing the value type for the attribute type or an empty Optional if
+   *     the attribute type could not be found
+   */
+  public Optional<ValueType> getAttributeTypeValueType(String attributeTypeCode) {
+    return Optional.ofNullable(attributeTypeValueTypes.get(attributeTypeCode));
+  }
+
+  /**
+   * Retrieve the contact mechanism role with the specified code that is valid for the party type
+   * and contact mechanism type.
+   *
+   * @param partyTypeCode the code for the party type
+   * @param contactMechanismTypeCode the code for the contact mechanism type
+   * @param contactMechanismRoleCode the code for the contact mechanism role
+   * @return an Optional containing the contact mechanism role or an empty Optional if the contact
+   *     mechanism role could not be found
+   */
+  public Optional<ContactMechanismRole> getContactMechanismRole(
+      String partyTypeCode, String contactMechanismTypeCode, String contactMechanismRoleCode) {
+    return contactMechanismRoles.findFirst(
+        tenantId,
+        contactMechanismRoleCode,
+        contactMechanismRole ->
+            contactMechanismRole.isValidForPartyType(partyTypeCode)
+                && contactMechanismRole.getContactMechanismType().equals(contactMechanismTypeCode));
+  }
+
+  /**
+   * Retrieve the contact mechanism type with the specified code.
+   *
+   * @param contactMechanismTypeCode the code for the contact mechanism type
+   * @return an Optional containing the contact mechanism type or an empty Optional if the contact
+   *     mechanism type could not be found
+   */
+  public Optional<ContactMechanismType> getContactMechanismType(String contactMechanismTypeCode) {
+    return contactMechanismTypes.findFirst(tenantId, contactMechanismTypeCode);
+  }
+
+  /**
+   * Retrieve the preference type with the specified code that is valid for the party type.
+   *
+   * @param partyTypeCode the code for the party type
+   * @param preferenceTypeCode the code for the preference type
+   * @return an Optional containing the preference type or an empty Optional if the preference type
+   *     could not be found
+   */
+  public Optional<PreferenceType> getPreferenceType(
+      String partyTypeCode, String preferenceTypeCode) {
+    return preferenceTypes.findFirst(
+        tenantId,
+        preferenceTypeCode,
+        preferenceType -> preferenceType.isValidForPartyType(partyTypeCode));
+  }
+
+  /**
+   * Retrieve the role type attribute type constraints for the role type.
+   *
+   * @param roleType the code for the role type, or <b>null</b> to retrieve the constraints for all
+   *     role types
+   * @return the role type attribute type constraints for the role type
+   */
+  public List<RoleTypeAttributeTypeConstraint> getRoleTypeAttributeTypeConstraints(
+      String roleType) {
+    if (!StringUtils.hasText(roleType)) {
+      return roleTypeAttributeTypeConstraints;
+    }
+
+    return roleTypeAttributeTypeConstraintsByRoleType.getOrDefault(
+        roleType.toLowerCase(Locale.ENGLISH), List.of());
+  }
+
+  /**
+   * Retrieve the role type preference type constraints for the role type.
+   *
+   * @param roleType the code for the role type, or <b>null</b> to retrieve the constraints for all
+   *     role types
+   * @return the role type preference type constraints for the role type
+   */
+  public List<RoleTypePreferenceTypeConstraint> getRoleTypePreferenceTypeConstraints(
+      String roleType) {
+    if (!StringUtils.hasText(roleType)) {
+      return roleTypePreferenceTypeConstraints;
+    }
+
+    return roleTypePreferenceTypeConstraintsByRoleType.getOrDefault(
+        roleType.toLowerCase(Locale.ENGLISH), List.of());
+  }
+
+  /**
+   * Returns the ID for the tenant the validation plan was compiled for.
+   *
+   * @return the ID for the tenant the validation plan was compiled for
+   */
+  public UUID getTenantId() {
+    return tenantId;
+  }
+
+  /**
+   * Check whether the code is a valid code for a consent type.
+   *
+   * @param consentTypeCode the code for the consent type
+   * @return <b>true</b> if the code is a valid code for a consent type or <b>false</b> otherwise
+   */
+  public boolean isValidConsentType(String consentTypeCode) {
+    return StringUtils.hasText(consentTypeCode) && consentTypes.contains(tenantId, consentTypeCode);
+  }
+
+  /**
+   * Check whether the code is a valid code for a contact mechanism purpose for the party type and
+   * contact mechanism type.
+   *
+   * @param partyTypeCode the code for the party type
+   * @param contactMechanismTypeCode the code for the contact mechanism type
+   * @param contactMechanismPurposeCode the code for the contact mechanism purpose
+   * @return <b>true</b> if the code is a valid code for a contact mechanism purpose or <b>false</b>
+   *     otherwise
+   */
+  public boolean isValidContactMechanismPurpose(
+      String partyTypeCode, String contactMechanismTypeCode, String contactMechanismPurposeCode) {
+    return StringUtils.hasText(contactMechanismPurposeCode)
+        && contactMechanismPurposes.anyMatch(
+            tenantId,
+            contactMechanismPurposeCode,
+            contactMechanismPurpose ->
+                contactMechanismPurpose.isValidForPartyType(partyTypeCode)
+                    && contactMechanismPurpose.isValidForContactMechanismType(
+                        contactMechanismTypeCode));
+  }
+
+  /**
+   * Check whether the code is a valid code for a contact mechanism type.
+   *
+   * @param contactMechanismTypeCode the code for the contact mechanism type
+   * @return <b>true</b> if the code is a valid code for a contact mechanism type or <b>false</b>
+   *     otherwise
+   */
+  public boolean isValidContactMechanismType(String contactMechanismTypeCode) {
+    return StringUtils.hasText(contactMechanismTypeCode)
+        && contactMechanismTypes.contains(tenantId, contactMechanismTypeCode);
+  }
+
+  /**
+   * Check whether the code is a valid code for a country.
+   *
+   * @param countryCode the code for the country
+   * @return <b>true</b> if the code is a valid code for a country or <b>false</b> otherwise
+   */
+  public boolean isValidCountry(String countryCode) {
+    return StringUtils.hasText(countryCode) && countries.contains(countryCode);
+  }
+
+  /**
+   * Check whether the code is a valid code for an employment status.
+   *
+   * @param employmentStatusCode the code for the employment status
+   * @return <b>true</b> if the code is a valid code for an employment status or <b>false</b>
+   *     otherwise
+   */
+  public boolean isValidEmploymentStatus(String employmentStatusCode) {
+    return StringUtils.hasText(employmentStatusCode)
+        && employmentStatuses.contains(tenantId, employmentStatusCode);
+  }
+
+  /**
+   * Check whether the code is a valid code for an employment type for the employment status.
+   *
+   * @param employmentStatusCode the code for the employment status
+   * @param employmentTypeCode the code for the employment type
+   * @return <b>true</b> if the code is a valid code for an employment type or <b>false</b>
+   *     otherwise
+   */
+  public boolean isValidEmploymentType(String employmentStatusCode, String employmentTypeCode) {
+    return StringUtils.hasText(employmentTypeCode)
+        && employmentTypes.anyMatch(
+            tenantId,
+            employmentTypeCode,
+            employmentType ->
+                Objects.equals(employmentType.getEmploymentStatus(), employmentStatusCode));
+  }
+
+  /**
+   * Check whether the code is a valid code for an employment type.
+   *
+   * @param employmentTypeCode the code for the employment type
+   * @return <b>true</b> if the code is a valid code for an employment type or <b>false</b>
+   *     otherwise
+   */
+  public boolean isValidEmploymentType(String employmentTypeCode) {
+    return StringUtils.hasText(employmentTypeCode)
+        && employmentTypes.contains(tenantId, employmentTypeCode);
+  }
+
+  /**
+   * Check whether the external reference is valid for the party type.
+   *
+   * @param partyTypeCode the code for the party type
+   * @param externalReferenceTypeCode the code for the external reference type
+   * @param value the value for the external reference
+   * @return <b>true</b> if the external reference is valid or <b>false</b> otherwise
+   */
+  public boolean isValidExternalReference(
+      String partyTypeCode, String externalReferenceTypeCode, String value) {
+    return StringUtils.hasText(externalReferenceTypeCode)
+        && externalReferenceTypes.anyMatch(
+            tenantId,
+            externalReferenceTypeCode,
+            externalReferenceType ->
+                externalReferenceType.isValidForPartyType(partyTypeCode)
+                    && ((!StringUtils.hasText(externalReferenceType.getPattern()))
+                        || externalReferenceType.getCompiledPattern().matcher(value).matches()));
+  }
+
+  /**
+   * Check whether the code is a valid code for a field of study.
+   *
+   * @param fieldOfStudyCode the code for the field of study
+   * @return <b>true</b> if the code is a valid code for a field of study or <b>false</b> otherwise
+   */
+  public boolean isValidFieldOfStudy(String fieldOfStudyCode) {
+    return StringUtils.hasText(fieldOfStudyCode)
+        && fieldsOfStudy.contains(tenantId, fieldOfStudyCode);
+  }
+
+  /**
+   * Check whether the code is a valid code for a gender.
+   *
+   * @param genderCode the code for the gender
+   * @return <b>true</b> if the code is a valid code for a gender or <b>false</b> otherwise
+   */
+  public boolean isValidGender(String genderCode) {
+    return StringUtils.hasText(genderCode) && genders.contains(tenantId, genderCode);
+  }
+
+  /**
+   * Check whether the identity document is valid for the party type.
+   *
+   * @param partyTypeCode the code for the party type
+   * @param identityDocumentTypeCode the code for the identity document type
+   * @param number the number for the identity document
+   * @return <b>true</b> if the identity document is valid or <b>false</b> otherwise
+   */
+  public boolean isValidIdentityDocument(
+      String partyTypeCode, String identityDocumentTypeCode, String number) {
+    return StringUtils.hasText(identityDocumentTypeCode)
+        && identityDocumentTypes.anyMatch(
+            tenantId,
+            identityDocumentTypeCode,
+            identityDocumentType ->
+                identityDocumentType.isValidForPartyType(partyTypeCode)
+                    && ((!StringUtils.hasText(identityDocumentType.getPattern()))
+                        || identityDocumentType.getCompiledPattern().matcher(number).matches()));
+  }
+
+  /**
+   * Check whether the code is a valid code for an identity document type for the party type.
+   *
+   * @param partyTypeCode the code for the party type
+   * @param identityDocumentTypeCode the code for the identity document type
+   * @return <b>true</b> if the code is a valid code for an identity document type or <b>false</b>
+   *     otherwise
+   */
+  public boolean isValidIdentityDocumentType(
+      String partyTypeCode, String identityDocumentTypeCode) {
+    return StringUtils.hasText(identityDocumentTypeCode)
+        && identityDocumentTypes.anyMatch(
+            tenantId,
+            identityDocumentTypeCode,
+            identityDocumentType -> identityDocumentType.isValidForPartyType(partyTypeCode));
+  }
+
+  /**
+   * Check whether the code is a valid code for an industry classification.
+   *
+   * @param industryClassificationSystemCode the code for the industry classification system
+   * @param industryClassificationCode the code for the industry classification
+   * @return <b>true</b> if the code is a valid code for an industry classification or <b>false</b>
+   *     otherwise
+   */
+  public boolean isValidIndustryClassification(
+      String industryClassificationSystemCode, String industryClassificationCode) {
+    if ((!StringUtils.hasText(industryClassificationSystemCode))
+        || (!StringUtils.hasText(industryClassificationCode))) {
+      return false;
+    }
+
+    Set<String> industryClassificationCodes =
+        industryClassifications.get(industryClassificationSystemCode);
+
+    return (industryClassificationCodes != null)
+        && industryClassificationCodes.contains(industryClassificationCode);
+  }
+
+  /**
+   * Check whether the code is a valid code for a language.
+   *
+   * @param languageCode the code for the language
+   * @return <b>true</b> if the code is a valid code for a language or <b>false</b> otherwise
+   */
+  public boolean isValidLanguage(String languageCode) {
+    return StringUtils.hasText(languageCode) && languages.contains(languageCode);
+  }
+
+  /**
+   * Check whether the code is a valid code for a lock type for the party type.
+   *
+   * @param partyTypeCode the code for the party type
+   * @param lockTypeCode the code for the lock type
+   * @return <b>true</b> if the code is a valid code for a lock type or <b>false</b> otherwise
+   */
+  public boolean isValidLockType(String partyTypeCode, String lockTypeCode) {
+    return StringUtils.hasText(lockTypeCode)
+        && lockTypes.anyMatch(
+            tenantId, lockTypeCode, lockType -> lockType.isValidForPartyType(partyTypeCode));
+  }
+
+  /**
+   * Check whether the code is a valid code for a marital status.
+   *
+   * @param maritalStatusCode the code for the marital status
+   * @return <b>true</b> if the code is a valid code for a marital status or <b>false</b> otherwise
+   */
+  public boolean isValidMaritalStatus(String maritalStatusCode) {
+    return StringUtils.hasText(maritalStatusCode)
+        && maritalStatuses.contains(tenantId, maritalStatusCode);
+  }
+
+  /**
+   * Check whether the code is a valid code for a marriage type for the marital status.
+   *
+   * @param maritalStatusCode the code for the marital status
+   * @param marriageTypeCode the code for the marriage type
+   * @return <b>true</b> if the code is a valid code for a marriage type or if there are no marriage
+   *     types for the marital status or <b>false</b> otherwise
+   */
+  public boolean isValidMarriageType(String maritalStatusCode, String marriageTypeCode) {
+    if (!StringUtils.hasText(maritalStatusCode)) {
+      return true;
+    }
+
+    Set<String> marriageTypeCodes = marriageTypes.get(maritalStatusCode);
+
+    return (marriageTypeCodes == null) || marriageTypeCodes.contains(marriageTypeCode);
+  }
+
+  /**
+   * Check whether the code is a valid code for a next of kin type.
+   *
+   * @param nextOfKinTypeCode the code for the next of kin type
+   * @return <b>true</b> if the code is a valid code for a next of kin type or <b>false</b>
+   *     otherwise
+   */
+  public boolean isValidNextOfKinType(String nextOfKinTypeCode) {
+    return StringUtils.hasText(nextOfKinTypeCode)
+        && nextOfKinTypes.contains(tenantId, nextOfKinTypeCode);
+  }
+
+  /**
+   * Check whether the code is a valid code for an occupation.
+   *
+   * @param occupationCode the code for the occupation
+   * @return <b>true</b> if the code is a valid code for an occupation or <b>false</b> otherwise
+   */
+  public boolean isValidOccupation(String occupationCode) {
+    return StringUtils.hasText(occupationCode) && occupations.contains(tenantId, occupationCode);
+  }
+
+  /**
+   * Check whether the code is a valid code for a physical address purpose for the party type.
+   *
+   * @param partyTypeCode the code for the party type
+   * @param physicalAddressPurposeCode the code for the physical address purpose
+   * @return <b>true</b> if the code is a valid code for a physical address purpose or <b>false</b>
+   *     otherwise
+   */
+  public boolean isValidPhysicalAddressPurpose(
+      String partyTypeCode, String physicalAddressPurposeCode) {
+    return StringUtils.hasText(physicalAddressPurposeCode)
+        && physicalAddressPurposes.anyMatch(
+            tenantId,
+            physicalAddressPurposeCode,
+            physicalAddressPurpose -> physicalAddressPurpose.isValidForPartyType(partyTypeCode));
+  }
+
+  /**
+   * Check whether the code is a valid code for a physical address role for the party type.
+   *
+   * @param partyTypeCode the code for the party type
+   * @param physicalAddressRoleCode the code for the physical address role
+   * @return <b>true</b> if the code is a valid code for a physical address role or <b>false</b>
+   *     otherwise
+   */
+  public boolean isValidPhysicalAddressRole(String partyTypeCode, String physicalAddressRoleCode) {
+    return StringUtils.hasText(physicalAddressRoleCode)
+        && physicalAddressRoles.anyMatch(
+            tenantId,
+            physicalAddressRoleCode,
+            physicalAddressRole -> physicalAddressRole.isValidForPartyType(partyTypeCode));
+  }
+
+  /**
+   * Check whether the code is a valid code for a physical address type.
+   *
+   * @param physicalAddressTypeCode the code for the physical address type
+   * @return <b>true</b> if the code is a valid code for a physical address type or <b>false</b>
+   *     otherwise
+   */
+  public boolean isValidPhysicalAddressType(String physicalAddressTypeCode) {
+    return StringUtils.hasText(physicalAddressTypeCode)
+        && physicalAddressTypes.contains(tenantId, physicalAddressTypeCode);
+  }
+
+  /**
+   * Check whether the code is a valid code for a qualification type.
+   *
+   * @param qualificationTypeCode the code for the qualification type
+   * @return <b>true</b> if the code is a valid code for a qualification type or <b>false</b>
+   *     otherwise
+   */
+  public boolean isValidQualificationType(String qualificationTypeCode) {
+    return StringUtils.hasText(qualificationTypeCode)
+        && qualificationTypes.contains(tenantId, qualificationTypeCode);
+  }
+
+  /**
+   * Check whether the code is a valid code for a race.
+   *
+   * @param raceCode the code for the race
+   * @return <b>true</b> if the code is a valid code for a race or <b>false</b> otherwise
+   */
+  public boolean isValidRace(String raceCode) {
+    return StringUtils.hasText(raceCode) && races.contains(tenantId, raceCode);
+  }
+
+  /**
+   * Check whether the residence permit is valid for the party type.
+   *
+   * @param partyTypeCode the code for the party type
+   * @param residencePermitTypeCode the code for the residence permit type
+   * @param number the number for the residence permit
+   * @return <b>true</b> if the residence permit is valid or <b>false</b> otherwise
+   */
+  public boolean isValidResidencePermit(
+      String partyTypeCode, String residencePermitTypeCode, String number) {
+    return StringUtils.hasText(residencePermitTypeCode)
+        && residencePermitTypes.anyMatch(
+            tenantId,
+            residencePermitTypeCode,
+            residencePermitType ->
+                ((!StringUtils.hasText(residencePermitType.getPattern()))
+                    || residencePermitType.getCompiledPattern().matcher(number).matches()));
+  }
+
+  /**
+   * Check whether the code is a valid code for a residence permit type.
+   *
+   * @param residencePermitTypeCode the code for the residence permit type
+   * @return <b>true</b> if the code is a valid code for a residence permit type or <b>false</b>
+   *     otherwise
+   */
+  public boolean isValidResidencePermitType(String residencePermitTypeCode) {
+    return StringUtils.hasText(residencePermitTypeCode)
+        && residencePermitTypes.contains(tenantId, residencePermitTypeCode);
+  }
+
+  /**
+   * Check whether the code is a valid code for a residency status.
+   *
+   * @param residencyStatusCode the code for the residency status
+   * @return <b>true</b> if the code is a valid code for a residency status or <b>false</b>
+   *     otherwise
+   */
+  public boolean isValidResidencyStatus(String residencyStatusCode) {
+    return StringUtils.hasText(residencyStatusCode)
+        && residencyStatuses.contains(tenantId, residencyStatusCode);
+  }
+
+  /**
+   * Check whether the code is a valid code for a residential type.
+   *
+   * @param residentialTypeCode the code for the residential type
+   * @return <b>true</b> if the code is a valid code for a residential type or <b>false</b>
+   *     otherwise
+   */
+  public boolean isValidResidentialType(String residentialTypeCode) {
+    return StringUtils.hasText(residentialTypeCode)
+        && residentialTypes.contains(tenantId, residentialTypeCode);
+  }
+
+  /**
+   * Check whether the code is a valid code for a role type for the party type.
+   *
+   * @param partyTypeCode the code for the party type
+   * @param roleTypeCode the code for the role type
+   * @return <b>true</b> if the code is a valid code for a role type or <b>false</b> otherwise
+   */
+  public boolean isValidRoleType(String partyTypeCode, String roleTypeCode) {
+    return StringUtils.hasText(roleTypeCode)
+        && roleTypes.anyMatch(
+            tenantId, roleTypeCode, roleType -> roleType.isValidForPartyType(partyTypeCode));
+  }
+
+  /**
+   * Check whether the code is a valid code for a segment.
+   *
+   * @param segmentCode the code for the segment
+   * @return <b>true</b> if the code is a valid code for a segment or <b>false</b> otherwise
+   */
+  public boolean isValidSegment(String segmentCode) {
+    return StringUtils.hasText(segmentCode) && segments.contains(tenantId, segmentCode);
+  }
+
+  /**
+   * Check whether the code is a valid code for a skill type.
+   *
+   * @param skillTypeCode the code for the skill type
+   * @return <b>true</b> if the code is a valid code for a skill type or <b>false</b> otherwise
+   */
+  public boolean isValidSkillType(String skillTypeCode) {
+    return StringUtils.hasText(skillTypeCode) && skillTypes.contains(tenantId, skillTypeCode);
+  }
+
+  /**
+   * Check whether the code is a valid code for a source of funds type.
+   *
+   * @param sourceOfFundsTypeCode the code for the source of funds type
+   * @return <b>true</b> if the code is a valid code for a source of funds type or <b>false</b>
+   *     otherwise
+   */
+  public boolean isValidSourceOfFundsType(String sourceOfFundsTypeCode) {
+    return StringUtils.hasText(sourceOfFundsTypeCode)
+        && sourceOfFundsTypes.contains(tenantId, sourceOfFundsTypeCode);
+  }
+
+  /**
+   * Check whether the code is a valid code for a source of wealth type.
+   *
+   * @param sourceOfWealthTypeCode the code for the source of wealth type
+   * @return <b>true</b> if the code is a valid code for a source of wealth type or <b>false</b>
+   *     otherwise
+   */
+  public boolean isValidSourceOfWealthType(String sourceOfWealthTypeCode) {
+    return StringUtils.hasText(sourceOfWealthTypeCode)
+        && sourceOfWealthTypes.contains(tenantId, sourceOfWealthTypeCode);
+  }
+
+  /**
+   * Check whether the code is a valid code for a status type for the party type.
+   *
+   * @param partyTypeCode the code for the party type
+   * @param statusTypeCode the code for the status type
+   * @return <b>true</b> if the code is a valid code for a status type or <b>false</b> otherwise
+   */
+  public boolean isValidStatusType(String partyTypeCode, String statusTypeCode) {
+    return StringUtils.hasText(statusTypeCode)
+        && statusTypes.anyMatch(
+            tenantId, statusTypeCode, statusType -> statusType.isValidForPartyType(partyTypeCode));
+  }
+
+  /**
+   * Check whether the tax number is valid for the party type.
+   *
+   * @param partyTypeCode the code for the party type
+   * @param taxNumberTypeCode the code for the tax number type
+   * @param number the tax number
+   * @return <b>true</b> if the tax number is valid or <b>false</b> otherwise
+   */
+  public boolean isValidTaxNumber(String partyTypeCode, String taxNumberTypeCode, String number) {
+    return StringUtils.hasText(taxNumberTypeCode)
+        && taxNumberTypes.anyMatch(
+            tenantId,
+            taxNumberTypeCode,
+            taxNumberType ->
+                taxNumberType.isValidForPartyType(partyTypeCode)
+                    && ((!StringUtils.hasText(taxNumberType.getPattern()))
+                        || taxNumberType.getCompiledPattern().matcher(number).matches()));
+  }
+
+  /**
+   * Check whether the code is a valid code for a tax number type for the party type.
+   *
+   * @param partyTypeCode the code for the party type
+   * @param taxNumberTypeCode the code for the tax number type
+   * @return <b>true</b> if the code is a valid code for a tax number type or <b>false</b> otherwise
+   */
+  public boolean isValidTaxNumberType(String partyTypeCode, String taxNumberTypeCode) {
+    return StringUtils.hasText(taxNumberTypeCode)
+        && taxNumberTypes.anyMatch(
+            tenantId,
+            taxNumberTypeCode,
+            taxNumberType -> taxNumberType.isValidForPartyType(partyTypeCode));
+  }
+
+  /**
+   * Check whether the code is a valid code for a time zone.
+   *
+   * @param timeZoneCode the code for the time zone
+   * @return <b>true</b> if the code is a valid code for a time zone or <b>false</b> otherwise
+   */
+  public boolean isValidTimeZone(String timeZoneCode) {
+    if (!StringUtils.hasText(timeZoneCode)) {
+      return false;
+    }
+
+    try {
+      //noinspection ResultOfMethodCallIgnored
+      ZoneId.of(timeZoneCode);
+      return true;
+    } catch (Throwable ignored) {
+      return false;
+    }
+  }
+
+  /**
+   * Check whether the code is a valid code for a title.
+   *
+   * @param titleCode the code for the title
+   * @return <b>true</b> if the code is a valid code for a title or <b>false</b> otherwise
+   */
+  public boolean isValidTitle(String titleCode) {
+    return StringUtils.hasText(titleCode) && titles.contains(tenantId, titleCode);
+  }
+
+  private <T> ReferenceDataIndex<T> index(
+      ReferenceDataSupplier<T> supplier,
+      Function<T, UUID> tenantIdExtractor,
+      Function<T, String> codeExtractor)
+      throws ServiceUnavailableException {
+    List<T> tenantReferenceData = new ArrayList<>();
+
+    for (T item : supplier.get()) {
+      UUID itemTenantId = tenantIdExtractor.apply(item);
+
+      if ((itemTenantId == null) || itemTenantId.equals(tenantId)) {
+        tenantReferenceData.add(item);
+      }
+    }
+
+    return new ReferenceDataIndex<>(tenantReferenceData, tenantIdExtractor, codeExtractor);
+  }
+}
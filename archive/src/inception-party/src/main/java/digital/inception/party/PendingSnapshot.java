@@ -0,0 +1,177 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * The <b>PendingSnapshot</b> class holds the information for a snapshot that has been requested as
+ * part of a change to an entity but has not yet been written to the snapshot store.
+ *
+ * <p>Pending snapshots are recorded in the same transaction as the change to the entity and are
+ * written to the snapshot store, in the order they were recorded, by the <b>SnapshotWriter</b>.
+ *
+ * @author Marcus Portmann
+ */
+@Entity
+@Table(schema = "party", name = "pending_snapshots")
+public class PendingSnapshot implements Serializable {
+
+  private static final long serialVersionUID = 1000000;
+
+  /** The compressed JSON data for the entity. */
+  @Column(name = "data", nullable = false)
+  private byte[] data;
+
+  /** The ID for the entity. */
+  @Column(name = "entity_id", nullable = false)
+  private UUID entityId;
+
+  /** The type of entity. */
+  @Column(name = "entity_type", length = 30, nullable = false)
+  private EntityType entityType;
+
+  /** The ID for the pending snapshot. */
+  @Id
+  @Column(name = "id", nullable = false)
+  private UUID id;
+
+  /** The ID for the tenant the pending snapshot is associated with. */
+  @Column(name = "tenant_id", nullable = false)
+  private UUID tenantId;
+
+  /** The date and time the entity was changed. */
+  @Column(name = "timestamp", nullable = false)
+  private LocalDateTime timestamp;
+
+  /** Constructs a new <b>PendingSnapshot</b>. */
+  public PendingSnapshot() {}
+
+  /**
+   * Constructs a new <b>PendingSnapshot</b>.
+   *
+   * @param tenantId the ID for the tenant the pending snapshot is associated with
+   * @param entityType the type of entity the pending snapshot is associated with
+   * @param entityId the ID for the entity the pending snapshot is associated with
+   * @param data the compressed JSON data for the entity
+   */
+  public PendingSnapshot(UUID tenantId, EntityType entityType, UUID entityId, byte[] data) {
+    this.id = UuidCreator.getShortPrefixComb();
+    this.tenantId = tenantId;
+    this.entityType = entityType;
+    this.entityId = entityId;
+    this.timestamp = LocalDateTime.now();
+    this.data = data;
+  }
+
+  /**
+   * Indicates whether some other object is "equal to" this one.
+   *
+   * @param object the reference object with which to compare
+   * @return <b>true</b> if this object is the same as the object argument otherwise <b>false</b>
+   */
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+
+    if (object == null) {
+      return false;
+    }
+
+    if (getClass() != object.getClass()) {
+      return false;
+    }
+
+    PendingSnapshot other = (PendingSnapshot) object;
+
+    return Objects.equals(id, other.id);
+  }
+
+  /**
+   * Returns the compressed JSON data for the entity.
+   *
+   * @return the compressed JSON data for the entity
+   */
+  public byte[] getData() {
+    return data;
+  }
+
+  /**
+   * Returns the ID for the entity.
+   *
+   * @return the ID for the entity
+   */
+  public UUID getEntityId() {
+    return entityId;
+  }
+
+  /**
+   * Returns the type of entity.
+   *
+   * @return the type of entity
+   */
+  public EntityType getEntityType() {
+    return entityType;
+  }
+
+  /**
+   * Returns the ID for the pending snapshot.
+   *
+   * @return the ID for the pending snapshot
+   */
+  public UUID getId() {
+    return id;
+  }
+
+  /**
+   * Returns the ID for the tenant the pending snapshot is associated with.
+   *
+   * @return the ID for the tenant the pending snapshot is associated with
+   */
+  public UUID getTenantId() {
+    return tenantId;
+  }
+
+  /**
+   * Returns the date and time the entity was changed.
+   *
+   * @return the date and time the entity was changed
+   */
+  public LocalDateTime getTimestamp() {
+    return timestamp;
+  }
+
+  /**
+   * Returns a hash code value for the object.
+   *
+   * @return a hash code value for the object
+   */
+  @Override
+  public int hashCode() {
+    return ((id == null) ? 0 : id.hashCode());
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import javax.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * The <b>PendingSnapshotRepository</b> interface declares the repository for the
+ * <b>PendingSnapshot</b> domain type.
+ *
+ * @author Marcus Portmann
+ */
+public interface PendingSnapshotRepository extends JpaRepository<PendingSnapshot, UUID> {
+
+  /**
+   * Retrieve and lock the pending snapshots for the entity in the order they were recorded.
+   *
+   * @param tenantId the ID for the tenant
+   * @param entityType the type of entity
+   * @param entityId the ID for the entity
+   * @return the pending snapshots for the entity
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query(
+      "select ps from PendingSnapshot ps where ps.tenantId = :tenantId"
+          + " and ps.entityType = :entityType and ps.entityId = :entityId"
+          + " order by ps.timestamp, ps.id")
+  List<PendingSnapshot> findPendingSnapshotsForEntityForWrite(
+      @Param("tenantId") UUID tenantId,
+      @Param("entityType") EntityType entityType,
+      @Param("entityId") UUID entityId);
+
+  /**
+   * Retrieve and lock the oldest pending snapshots in the order they were recorded.
+   *
+   * @param pageable the pagination information
+   * @return the oldest pending snapshots
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select ps from PendingSnapshot ps order by ps.timestamp, ps.id")
+  List<PendingSnapshot> findPendingSnapshotsForWrite(Pageable pageable);
+
+  /**
+   * Retrieve and lock the oldest pending snapshots for the tenant in the order they were recorded.
+   *
+   * @param tenantId the ID for the tenant
+   * @param pageable the pagination information
+   * @return the oldest pending snapshots for the tenant
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query(
+      "select ps from PendingSnapshot ps where ps.tenantId = :tenantId"
+          + " order by ps.timestamp, ps.id")
+  List<PendingSnapshot> findPendingSnapshotsForTenantForWrite(
+      @Param("tenantId") UUID tenantId, Pageable pageable);
+
+  /**
+   * Retrieve the date and time the oldest pending snapshot was recorded.
+   *
+   * @return an Optional containing the date and time the oldest pending snapshot was recorded or an
+   *     empty Optional if there are no pending snapshots
+   */
+  @Query("select min(ps.timestamp) from PendingSnapshot ps")
+  Optional<LocalDateTime> getOldestTimestamp();
+}
@@ -54,6 +54,7 @@ import javax.xml.bind.annotation.XmlSchemaType;
 import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.util.StringUtils;
 
 /**
@@ -208,8 +209,9 @@ public class Person extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<Attribute> attributes = new HashSet<>();
 
@@ -218,8 +220,9 @@ public class Person extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "person",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<Consent> consents = new HashSet<>();
 
@@ -228,8 +231,9 @@ public class Person extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<ContactMechanism> contactMechanisms = new HashSet<>();
 
@@ -238,8 +242,9 @@ public class Person extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "person",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("qualificationYear")
   private final Set<Education> educations = new HashSet<>();
 
@@ -248,8 +253,9 @@ public class Person extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "person",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("startDate")
   private final Set<Employment> employments = new HashSet<>();
 
@@ -258,8 +264,9 @@ public class Person extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<ExternalReference> externalReferences = new HashSet<>();
 
@@ -268,8 +275,9 @@ public class Person extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<IdentityDocument> identityDocuments = new HashSet<>();
 
@@ -278,8 +286,9 @@ public class Person extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "person",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("language")
   private final Set<LanguageProficiency> languageProficiencies = new HashSet<>();
 
@@ -288,8 +297,9 @@ public class Person extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<Lock> locks = new HashSet<>();
 
@@ -298,8 +308,9 @@ public class Person extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "person",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<NextOfKin> nextOfKin = new HashSet<>();
 
@@ -308,8 +319,9 @@ public class Person extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   private final Set<PhysicalAddress> physicalAddresses = new HashSet<>();
 
   /** The preferences for the person. */
@@ -317,8 +329,9 @@ public class Person extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<Preference> preferences = new HashSet<>();
 
@@ -327,8 +340,9 @@ public class Person extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "person",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<ResidencePermit> residencePermits = new HashSet<>();
 
@@ -337,8 +351,9 @@ public class Person extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<Role> roles = new HashSet<>();
 
@@ -347,8 +362,9 @@ public class Person extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("segment")
   private final Set<SegmentAllocation> segmentAllocations = new HashSet<>();
 
@@ -357,8 +373,9 @@ public class Person extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "person",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<Skill> skills = new HashSet<>();
 
@@ -367,8 +384,9 @@ public class Person extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "person",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<SourceOfFunds> sourcesOfFunds = new HashSet<>();
 
@@ -377,8 +395,9 @@ public class Person extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "person",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<SourceOfWealth> sourcesOfWealth = new HashSet<>();
 
@@ -387,8 +406,9 @@ public class Person extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<Status> statuses = new HashSet<>();
 
@@ -397,8 +417,9 @@ public class Person extends PartyBase implements Serializable {
   @OneToMany(
       mappedBy = "party",
       cascade = CascadeType.ALL,
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       orphanRemoval = true)
+  @BatchSize(size = 100)
   @OrderBy("type")
   private final Set<TaxNumber> taxNumbers = new HashSet<>();
 
@@ -917,6 +938,9 @@ public class Person extends PartyBase implements Serializable {
    */
   @Schema(description = "The attributes for the person")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("attributeReference")
   @XmlElementWrapper(name = "Attributes")
   @XmlElement(name = "Attribute")
@@ -942,6 +966,9 @@ public class Person extends PartyBase implements Serializable {
    */
   @Schema(description = "The consents provided by the person")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("consentReference")
   @XmlElementWrapper(name = "Consents")
   @XmlElement(name = "Consent")
@@ -987,6 +1014,9 @@ public class Person extends PartyBase implements Serializable {
    */
   @Schema(description = "The contact mechanisms for the person")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("contactMechanismReference")
   @XmlElementWrapper(name = "ContactMechanisms")
   @XmlElement(name = "ContactMechanism")
@@ -1099,6 +1129,9 @@ public class Person extends PartyBase implements Serializable {
    */
   @Schema(description = "The educations obtained by the person")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("educationReference")
   @XmlElementWrapper(name = "Educations")
   @XmlElement(name = "Education")
@@ -1150,6 +1183,9 @@ public class Person extends PartyBase implements Serializable {
    */
   @Schema(description = "The employments for the person")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("employmentReference")
   @XmlElementWrapper(name = "Employments")
   @XmlElement(name = "Employment")
@@ -1177,6 +1213,9 @@ public class Person extends PartyBase implements Serializable {
    */
   @Schema(description = "The external references for the person")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("externalReferenceReference")
   @XmlElementWrapper(name = "ExternalReferences")
   @XmlElement(name = "ExternalReference")
@@ -1265,6 +1304,9 @@ public class Person extends PartyBase implements Serializable {
    */
   @Schema(description = "The identity documents for the person")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("identityDocumentReference")
   @XmlElementWrapper(name = "IdentityDocuments")
   @XmlElement(name = "IdentityDocument")
@@ -1303,6 +1345,9 @@ public class Person extends PartyBase implements Serializable {
    */
   @Schema(description = "The language proficiencies for the person")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("languageProficiencyReference")
   @XmlElementWrapper(name = "LanguageProficiencies")
   @XmlElement(name = "LanguageProficiency")
@@ -1341,6 +1386,9 @@ public class Person extends PartyBase implements Serializable {
    */
   @Schema(description = "The locks applied to the person")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("lockReference")
   @XmlElementWrapper(name = "Locks")
   @XmlElement(name = "Lock")
@@ -1450,6 +1498,9 @@ public class Person extends PartyBase implements Serializable {
    */
   @Schema(description = "The next of kin for the person")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("nextOfKinReference")
   @XmlElementWrapper(name = "NextOfKin")
   @XmlElement(name = "NextOfKin")
@@ -1533,6 +1584,9 @@ public class Person extends PartyBase implements Serializable {
    */
   @Schema(description = "The physical addresses for the person")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("physicalAddressReference")
   @XmlElementWrapper(name = "PhysicalAddresses")
   @XmlElement(name = "PhysicalAddress")
@@ -1560,6 +1614,9 @@ public class Person extends PartyBase implements Serializable {
    */
   @Schema(description = "The preferences for the person")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("preferenceReference")
   @XmlElementWrapper(name = "Preferences")
   @XmlElement(name = "Preference")
@@ -1601,6 +1658,9 @@ public class Person extends PartyBase implements Serializable {
    */
   @Schema(description = "The residence permits for the person")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("residencePermitReference")
   @XmlElementWrapper(name = "ResidencePermits")
   @XmlElement(name = "ResidencePermit")
@@ -1650,6 +1710,9 @@ public class Person extends PartyBase implements Serializable {
    */
   @Schema(description = "The roles assigned directly to the person")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("roleReference")
   @XmlElementWrapper(name = "Roles")
   @XmlElement(name = "Role")
@@ -1677,6 +1740,9 @@ public class Person extends PartyBase implements Serializable {
    */
   @Schema(description = "The segment allocations for the person")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("segmentAllocationReference")
   @XmlElementWrapper(name = "SegmentAllocations")
   @XmlElement(name = "SegmentAllocation")
@@ -1702,6 +1768,9 @@ public class Person extends PartyBase implements Serializable {
    */
   @Schema(description = "The skills for the person")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("skillReference")
   @XmlElementWrapper(name = "Skills")
   @XmlElement(name = "Skill")
@@ -1742,6 +1811,9 @@ public class Person extends PartyBase implements Serializable {
    */
   @Schema(description = "The sources of funds for the person")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("sourceOfFundsReference")
   @XmlElementWrapper(name = "SourcesOfFunds")
   @XmlElement(name = "SourceOfFunds")
@@ -1756,6 +1828,9 @@ public class Person extends PartyBase implements Serializable {
    */
   @Schema(description = "The sources of wealth for the person")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("sourceOfWealthReference")
   @XmlElementWrapper(name = "SourcesOfWealth")
   @XmlElement(name = "SourceOfWealth")
@@ -1781,6 +1856,9 @@ public class Person extends PartyBase implements Serializable {
    */
   @Schema(description = "The statuses assigned to the person")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("statusReference")
   @XmlElementWrapper(name = "Statuses")
   @XmlElement(name = "Status")
@@ -1820,6 +1898,9 @@ public class Person extends PartyBase implements Serializable {
    */
   @Schema(description = "The tax numbers for the person")
   @JsonProperty
+  @JsonInclude(
+      value = JsonInclude.Include.CUSTOM,
+      valueFilter = UninitializedCollectionFilter.class)
   @JsonManagedReference("taxNumberReference")
   @XmlElementWrapper(name = "TaxNumbers")
   @XmlElement(name = "TaxNumber")
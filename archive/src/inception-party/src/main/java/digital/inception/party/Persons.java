@@ -46,7 +46,8 @@ import javax.xml.bind.annotation.XmlType;
   "sortBy",
   "sortDirection",
   "pageIndex",
-  "pageSize"
+  "pageSize",
+  "nextCursor"
 })
 @XmlRootElement(name = "Persons", namespace = "http://inception.digital/party")
 @XmlType(
@@ -60,7 +61,8 @@ import javax.xml.bind.annotation.XmlType;
       "sortBy",
       "sortDirection",
       "pageIndex",
-      "pageSize"
+      "pageSize",
+      "nextCursor"
     })
 @XmlAccessorType(XmlAccessType.FIELD)
 @SuppressWarnings({"unused"})
@@ -74,6 +76,15 @@ public class Persons implements Serializable {
   @XmlElement(name = "Filter")
   private String filter;
 
+  /** The optional opaque cursor used to retrieve the next page when keyset pagination is used. */
+  @Schema(
+      description =
+          "The optional opaque cursor used to retrieve the next page when keyset pagination is"
+              + " used")
+  @JsonProperty
+  @XmlElement(name = "NextCursor")
+  private String nextCursor;
+
   /** The optional page index. */
   @Schema(description = "The optional page index")
   @JsonProperty
@@ -111,8 +122,14 @@ public class Persons implements Serializable {
   @XmlElement(name = "TenantId", required = true)
   private UUID tenantId;
 
-  /** The total number of persons. */
-  @Schema(description = "The total number of persons", required = true)
+  /**
+   * The total number of persons or -1 if the total was not retrieved when using keyset pagination.
+   */
+  @Schema(
+      description =
+          "The total number of persons or -1 if the total was not retrieved when using keyset"
+              + " pagination",
+      required = true)
   @JsonProperty(required = true)
   @XmlElement(name = "Total", required = true)
   private long total;
@@ -151,6 +168,38 @@ public class Persons implements Serializable {
     this.pageSize = pageSize;
   }
 
+  /**
+   * Constructs a new <b>Persons</b>.
+   *
+   * @param tenantId the ID for the tenant the persons are associated with
+   * @param persons the persons
+   * @param total the total number of persons or -1 if the total was not retrieved
+   * @param filter the optional filter that was applied to the persons
+   * @param sortBy the optional method used to sort the persons e.g. by name
+   * @param sortDirection the optional sort direction that was applied to the persons
+   * @param pageSize the optional page size
+   * @param nextCursor the optional opaque cursor used to retrieve the next page when keyset
+   *     pagination is used
+   */
+  public Persons(
+      UUID tenantId,
+      List<Person> persons,
+      long total,
+      String filter,
+      PersonSortBy sortBy,
+      SortDirection sortDirection,
+      Integer pageSize,
+      String nextCursor) {
+    this.tenantId = tenantId;
+    this.persons = persons;
+    this.total = total;
+    this.filter = filter;
+    this.sortBy = sortBy;
+    this.sortDirection = sortDirection;
+    this.pageSize = pageSize;
+    this.nextCursor = nextCursor;
+  }
+
   /**
    * Returns the optional filter that was applied to the persons.
    *
@@ -160,6 +209,17 @@ public class Persons implements Serializable {
     return filter;
   }
 
+  /**
+   * Returns the optional opaque cursor used to retrieve the next page when keyset pagination is
+   * used.
+   *
+   * @return the optional opaque cursor used to retrieve the next page when keyset pagination is
+   *     used or <b>null</b> if there are no more pages
+   */
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
   /**
    * Returns the optional page index.
    *
@@ -217,7 +277,8 @@ public class Persons implements Serializable {
   /**
    * Returns the total number of persons.
    *
-   * @return the total number of persons
+   * @return the total number of persons or -1 if the total was not retrieved when using keyset
+   *     pagination
    */
   public Long getTotal() {
     return total;
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import java.util.UUID;
+
+/**
+ * The <b>ReferenceDataBundle</b> class holds all the party and general reference data for a tenant
+ * and locale, serialized once as a single JSON document, along with a GZIP compressed copy of the
+ * document and a hash of its content that can be used as an entity tag.
+ *
+ * @author Marcus Portmann
+ */
+public class ReferenceDataBundle {
+
+  /** The GZIP compressed JSON document. */
+  private final byte[] compressedData;
+
+  /** The hash of the content of the JSON document. */
+  private final String contentHash;
+
+  /** The UTF-8 encoded JSON document. */
+  private final byte[] data;
+
+  /** The Unicode locale identifier for the locale the reference data is specific to. */
+  private final String localeId;
+
+  /** The ID for the tenant the reference data is specific to. */
+  private final UUID tenantId;
+
+  /**
+   * Constructs a new <b>ReferenceDataBundle</b>.
+   *
+   * @param tenantId the ID for the tenant the reference data is specific to
+   * @param localeId the Unicode locale identifier for the locale the reference data is specific to
+   * @param data the UTF-8 encoded JSON document
+   * @param compressedData the GZIP compressed JSON document
+   * @param contentHash the hash of the content of the JSON document
+   */
+  public ReferenceDataBundle(
+      UUID tenantId, String localeId, byte[] data, byte[] compressedData, String contentHash) {
+    this.tenantId = tenantId;
+    this.localeId = localeId;
+    this.data = data;
+    this.compressedData = compressedData;
+    this.contentHash = contentHash;
+  }
+
+  /**
+   * Returns the GZIP compressed JSON document.
+   *
+   * @return the GZIP compressed JSON document
+   */
+  public byte[] getCompressedData() {
+    return compressedData;
+  }
+
+  /**
+   * Returns the hash of the content of the JSON document.
+   *
+   * @return the hash of the content of the JSON document
+   */
+  public String getContentHash() {
+    return contentHash;
+  }
+
+  /**
+   * Returns the UTF-8 encoded JSON document.
+   *
+   * @return the UTF-8 encoded JSON document
+   */
+  public byte[] getData() {
+    return data;
+  }
+
+  /**
+   * Returns the Unicode locale identifier for the locale the reference data is specific to.
+   *
+   * @return the Unicode locale identifier for the locale the reference data is specific to
+   */
+  public String getLocaleId() {
+    return localeId;
+  }
+
+  /**
+   * Returns the ID for the tenant the reference data is specific to.
+   *
+   * @return the ID for the tenant the reference data is specific to
+   */
+  public UUID getTenantId() {
+    return tenantId;
+  }
+}
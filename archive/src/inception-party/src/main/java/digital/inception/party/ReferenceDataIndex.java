@@ -0,0 +1,181 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package digital.inception.party;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The <b>ReferenceDataIndex</b> class provides an immutable hash index for a reference data type
+ * keyed by tenant ID and code.
+ *
+ * <p>The index is built once from the cached list of all the reference data for the type, across
+ * all locales and tenants, and replaces the linear scans of this list when validating codes. The
+ * reference data that is not tenant-specific is indexed with a <b>null</b> tenant ID and is
+ * included in the lookups for every tenant.
+ *
+ * @param <T> the reference data type
+ * @author Marcus Portmann
+ */
+final class ReferenceDataIndex<T> {
+
+  /** The reference data keyed by tenant ID and code. */
+  private final Map<Key, List<T>> index;
+
+  /**
+   * Constructs a new <b>ReferenceDataIndex</b>.
+   *
+   * @param referenceData the list of reference data to index
+   * @param tenantIdExtractor the function used to retrieve the tenant ID for the reference data
+   * @param codeExtractor the function used to retrieve the code for the reference data
+   */
+  ReferenceDataIndex(
+      List<T> referenceData,
+      Function<T, UUID> tenantIdExtractor,
+      Function<T, String> codeExtractor) {
+    Map<Key, List<T>> index = new HashMap<>();
+
+    for (T item : referenceData) {
+      index
+          .computeIfAbsent(
+              new Key(tenantIdExtractor.apply(item), codeExtractor.apply(item)),
+              key -> new ArrayList<>(1))
+          .add(item);
+    }
+
+    this.index = Map.copyOf(index);
+  }
+
+  /**
+   * Returns whether there is reference data with the specified code for the tenant that matches the
+   * predicate.
+   *
+   * @param tenantId the ID for the tenant
+   * @param code the code
+   * @param predicate the predicate the reference data must match
+   * @return <b>true</b> if there is reference data with the specified code for the tenant that
+   *     matches the predicate or <b>false</b> otherwise
+   */
+  boolean anyMatch(UUID tenantId, String code, Predicate<T> predicate) {
+    return findFirst(tenantId, code, predicate).isPresent();
+  }
+
+  /**
+   * Returns whether there is reference data with the specified code for the tenant.
+   *
+   * @param tenantId the ID for the tenant
+   * @param code the code
+   * @return <b>true</b> if there is reference data with the specified code for the tenant or
+   *     <b>false</b> otherwise
+   */
+  boolean contains(UUID tenantId, String code) {
+    return ((tenantId != null) && index.containsKey(new Key(tenantId, code)))
+        || index.containsKey(new Key(null, code));
+  }
+
+  /**
+   * Retrieve the first reference data with the specified code for the tenant, giving preference to
+   * the tenant-specific reference data.
+   *
+   * @param tenantId the ID for the tenant
+   * @param code the code
+   * @return an Optional containing the reference data or an empty Optional if no matching reference
+   *     data could be found
+   */
+  Optional<T> findFirst(UUID tenantId, String code) {
+    return findFirst(tenantId, code, item -> true);
+  }
+
+  /**
+   * Retrieve the first reference data with the specified code for the tenant that matches the
+   * predicate, giving preference to the tenant-specific reference data.
+   *
+   * @param tenantId the ID for the tenant
+   * @param code the code
+   * @param predicate the predicate the reference data must match
+   * @return an Optional containing the reference data or an empty Optional if no matching reference
+   *     data could be found
+   */
+  Optional<T> findFirst(UUID tenantId, String code, Predicate<T> predicate) {
+    if (tenantId != null) {
+      Optional<T> match = findFirst(index.get(new Key(tenantId, code)), predicate);
+
+      if (match.isPresent()) {
+        return match;
+      }
+    }
+
+    return findFirst(index.get(new Key(null, code)), predicate);
+  }
+
+  private Optional<T> findFirst(List<T> candidates, Predicate<T> predicate) {
+    if (candidates != null) {
+      for (T candidate : candidates) {
+        if (predicate.test(candidate)) {
+          return Optional.of(candidate);
+        }
+      }
+    }
+
+    return Optional.empty();
+  }
+
+  /** The <b>Key</b> class holds the tenant ID and code used to index the reference data. */
+  private static final class Key {
+
+    /** The code. */
+    private final String code;
+
+    /** The hash code. */
+    private final int hashCode;
+
+    /** The ID for the tenant or <b>null</b> if the reference data is not tenant-specific. */
+    private final UUID tenantId;
+
+    private Key(UUID tenantId, String code) {
+      this.tenantId = tenantId;
+      this.code = code;
+      this.hashCode = Objects.hash(tenantId, code);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      if (this == object) {
+        return true;
+      }
+
+      if (!(object instanceof Key)) {
+        return false;
+      }
+
+      Key other = (Key) object;
+
+      return Objects.equals(tenantId, other.tenantId) && Objects.equals(code, other.code);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
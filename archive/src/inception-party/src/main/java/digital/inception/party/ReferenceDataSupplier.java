@@ -0,0 +1,39 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import digital.inception.core.service.ServiceUnavailableException;
+import java.util.List;
+
+/**
+ * The <b>ReferenceDataSupplier</b> interface defines the function used to retrieve a cached list of
+ * reference data.
+ *
+ * @param <T> the reference data type
+ * @author Marcus Portmann
+ */
+@FunctionalInterface
+interface ReferenceDataSupplier<T> {
+
+  /**
+   * Retrieve the cached list of reference data.
+   *
+   * @return the cached list of reference data
+   * @throws ServiceUnavailableException if the cached list of reference data could not be retrieved
+   */
+  List<T> get() throws ServiceUnavailableException;
+}
@@ -16,6 +16,7 @@
 
 package digital.inception.party;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
@@ -29,11 +30,13 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import javax.validation.constraints.NotNull;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
 
 /**
@@ -43,6 +46,12 @@ import javax.xml.bind.annotation.XmlType;
  * <p>Changes to entities are recorded as snapshots, which include all the data for the entity
  * serialized as a JSON data structure.
  *
+ * <p>Snapshots are stored as numbered versions of the entity. A checkpoint snapshot stores the
+ * compressed JSON data for the entity and every other snapshot stores a compressed JSON Patch that
+ * transforms the JSON data for the most recent checkpoint into the JSON data for the version. The
+ * JSON data for a snapshot is reconstructed when the snapshot is retrieved. Snapshots recorded
+ * before versioning was introduced store the uncompressed JSON data for the entity.
+ *
  * @author Marcus Portmann
  */
 @Schema(description = "A snapshot")
@@ -60,12 +69,26 @@ public class Snapshot implements Serializable {
 
   private static final long serialVersionUID = 1000000;
 
+  /** Is this a checkpoint snapshot that stores the JSON data for the entity? */
+  @JsonIgnore
+  @XmlTransient
+  @Column(name = "checkpoint", nullable = false)
+  private boolean checkpoint;
+
+  /**
+   * The compressed JSON data for the entity for a checkpoint snapshot or the compressed JSON Patch
+   * relative to the most recent checkpoint snapshot.
+   */
+  @JsonIgnore
+  @XmlTransient
+  @Column(name = "content")
+  private byte[] content;
+
   /** The JSON data for the entity. */
   @Schema(description = "The JSON data for the entity", required = true)
   @JsonProperty(required = true)
   @XmlElement(name = "Data", required = true)
-  @NotNull
-  @Column(name = "data", nullable = false)
+  @Transient
   private String data;
 
   /** The ID for the entity. */
@@ -100,6 +123,18 @@ public class Snapshot implements Serializable {
   @Column(name = "tenant_id", nullable = false)
   private UUID tenantId;
 
+  /** The uncompressed JSON data for the entity for a snapshot recorded before versioning. */
+  @JsonIgnore
+  @XmlTransient
+  @Column(name = "data")
+  private String uncompressedData;
+
+  /** The version of the entity captured by the snapshot. */
+  @JsonIgnore
+  @XmlTransient
+  @Column(name = "entity_version")
+  private Integer version;
+
   /** The date and time the snapshot was created. */
   @Schema(description = "The date and time the snapshot was created", required = true)
   @JsonProperty(required = true)
@@ -127,6 +162,34 @@ public class Snapshot implements Serializable {
     this.data = data;
   }
 
+  /**
+   * Constructs a new versioned <b>Snapshot</b>.
+   *
+   * @param tenantId the ID for the tenant the snapshot is associated with
+   * @param entityType the type of entity the snapshot is associated with
+   * @param entityId the ID for the entity the snapshot is associated with
+   * @param version the version of the entity captured by the snapshot
+   * @param checkpoint is this a checkpoint snapshot that stores the JSON data for the entity
+   * @param content the compressed JSON data for the entity for a checkpoint snapshot or the
+   *     compressed JSON Patch relative to the most recent checkpoint snapshot
+   */
+  Snapshot(
+      UUID tenantId,
+      EntityType entityType,
+      UUID entityId,
+      int version,
+      boolean checkpoint,
+      byte[] content) {
+    this.id = UuidCreator.getShortPrefixComb();
+    this.tenantId = tenantId;
+    this.entityType = entityType;
+    this.entityId = entityId;
+    this.timestamp = LocalDateTime.now();
+    this.version = version;
+    this.checkpoint = checkpoint;
+    this.content = content;
+  }
+
   /**
    * Indicates whether some other object is "equal to" this one.
    *
@@ -152,6 +215,17 @@ public class Snapshot implements Serializable {
     return Objects.equals(id, other.id);
   }
 
+  /**
+   * Returns the compressed JSON data for the entity for a checkpoint snapshot or the compressed
+   * JSON Patch relative to the most recent checkpoint snapshot.
+   *
+   * @return the compressed JSON data for the entity for a checkpoint snapshot or the compressed
+   *     JSON Patch relative to the most recent checkpoint snapshot
+   */
+  byte[] getContent() {
+    return content;
+  }
+
   /**
    * Returns the JSON data for the entity.
    *
@@ -206,6 +280,25 @@ public class Snapshot implements Serializable {
     return timestamp;
   }
 
+  /**
+   * Returns the uncompressed JSON data for the entity for a snapshot recorded before versioning.
+   *
+   * @return the uncompressed JSON data for the entity for a snapshot recorded before versioning
+   */
+  String getUncompressedData() {
+    return uncompressedData;
+  }
+
+  /**
+   * Returns the version of the entity captured by the snapshot.
+   *
+   * @return the version of the entity captured by the snapshot or <b>null</b> for a snapshot
+   *     recorded before versioning
+   */
+  Integer getVersion() {
+    return version;
+  }
+
   /**
    * Returns a hash code value for the object.
    *
@@ -216,6 +309,15 @@ public class Snapshot implements Serializable {
     return ((id == null) ? 0 : id.hashCode());
   }
 
+  /**
+   * Returns whether this is a checkpoint snapshot that stores the JSON data for the entity.
+   *
+   * @return <b>true</b> if this is a checkpoint snapshot or <b>false</b> otherwise
+   */
+  boolean isCheckpoint() {
+    return checkpoint;
+  }
+
   /**
    * Set the JSON data for the entity.
    *
@@ -16,10 +16,15 @@
 
 package digital.inception.party;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * The <b>SnapshotRepository</b> interface declares the repository for the <b>Snapshot</b> domain
@@ -29,6 +34,68 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface SnapshotRepository extends JpaRepository<Snapshot, UUID> {
 
+  /**
+   * Retrieve the snapshots for the entity created after the specified date and time.
+   *
+   * @param tenantId the ID for the tenant
+   * @param entityType the type of entity
+   * @param entityId the ID for the entity
+   * @param from the date and time to retrieve the snapshots from, inclusive
+   * @param pageable the pagination information
+   * @return the snapshots for the entity created after the specified date and time
+   */
+  @Query(
+      "select s from Snapshot s where s.tenantId = :tenantId and s.entityType = :entityType"
+          + " and s.entityId = :entityId and s.timestamp >= :from")
+  Page<Snapshot> findByEntityFrom(
+      @Param("tenantId") UUID tenantId,
+      @Param("entityType") EntityType entityType,
+      @Param("entityId") UUID entityId,
+      @Param("from") LocalDateTime from,
+      Pageable pageable);
+
+  /**
+   * Retrieve the snapshots for the entity created within the specified date and time range.
+   *
+   * @param tenantId the ID for the tenant
+   * @param entityType the type of entity
+   * @param entityId the ID for the entity
+   * @param from the date and time to retrieve the snapshots from, inclusive
+   * @param to the date and time to retrieve the snapshots to, exclusive
+   * @param pageable the pagination information
+   * @return the snapshots for the entity created within the specified date and time range
+   */
+  @Query(
+      "select s from Snapshot s where s.tenantId = :tenantId and s.entityType = :entityType"
+          + " and s.entityId = :entityId and s.timestamp >= :from and s.timestamp < :to")
+  Page<Snapshot> findByEntityFromTo(
+      @Param("tenantId") UUID tenantId,
+      @Param("entityType") EntityType entityType,
+      @Param("entityId") UUID entityId,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to,
+      Pageable pageable);
+
+  /**
+   * Retrieve the snapshots for the entity created before the specified date and time.
+   *
+   * @param tenantId the ID for the tenant
+   * @param entityType the type of entity
+   * @param entityId the ID for the entity
+   * @param to the date and time to retrieve the snapshots to, exclusive
+   * @param pageable the pagination information
+   * @return the snapshots for the entity created before the specified date and time
+   */
+  @Query(
+      "select s from Snapshot s where s.tenantId = :tenantId and s.entityType = :entityType"
+          + " and s.entityId = :entityId and s.timestamp < :to")
+  Page<Snapshot> findByEntityTo(
+      @Param("tenantId") UUID tenantId,
+      @Param("entityType") EntityType entityType,
+      @Param("entityId") UUID entityId,
+      @Param("to") LocalDateTime to,
+      Pageable pageable);
+
   /**
    * Retrieve the snapshots for the entity.
    *
@@ -40,4 +107,65 @@ public interface SnapshotRepository extends JpaRepository<Snapshot, UUID> {
    */
   Page<Snapshot> findByTenantIdAndEntityTypeAndEntityId(
       UUID tenantId, EntityType entityType, UUID entityId, Pageable pageable);
+
+  /**
+   * Retrieve the checkpoint snapshots for the entity within the specified version range.
+   *
+   * @param tenantId the ID for the tenant
+   * @param entityType the type of entity
+   * @param entityId the ID for the entity
+   * @param fromVersion the version to retrieve the checkpoint snapshots from, inclusive
+   * @param toVersion the version to retrieve the checkpoint snapshots to, inclusive
+   * @return the checkpoint snapshots for the entity within the specified version range ordered by
+   *     version
+   */
+  @Query(
+      "select s from Snapshot s where s.tenantId = :tenantId and s.entityType = :entityType"
+          + " and s.entityId = :entityId and s.checkpoint = true"
+          + " and s.version >= :fromVersion and s.version <= :toVersion order by s.version")
+  List<Snapshot> findCheckpoints(
+      @Param("tenantId") UUID tenantId,
+      @Param("entityType") EntityType entityType,
+      @Param("entityId") UUID entityId,
+      @Param("fromVersion") int fromVersion,
+      @Param("toVersion") int toVersion);
+
+  /**
+   * Retrieve the most recent checkpoint snapshots for the entity up to the specified version.
+   *
+   * @param tenantId the ID for the tenant
+   * @param entityType the type of entity
+   * @param entityId the ID for the entity
+   * @param version the version to retrieve the checkpoint snapshots up to, inclusive
+   * @param pageable the pagination information
+   * @return the most recent checkpoint snapshots for the entity up to the specified version ordered
+   *     by descending version
+   */
+  @Query(
+      "select s from Snapshot s where s.tenantId = :tenantId and s.entityType = :entityType"
+          + " and s.entityId = :entityId and s.checkpoint = true and s.version <= :version"
+          + " order by s.version desc")
+  List<Snapshot> findLatestCheckpoints(
+      @Param("tenantId") UUID tenantId,
+      @Param("entityType") EntityType entityType,
+      @Param("entityId") UUID entityId,
+      @Param("version") int version,
+      Pageable pageable);
+
+  /**
+   * Retrieve the latest version of the entity captured by a snapshot.
+   *
+   * @param tenantId the ID for the tenant
+   * @param entityType the type of entity
+   * @param entityId the ID for the entity
+   * @return an Optional containing the latest version of the entity captured by a snapshot or an
+   *     empty Optional if no versioned snapshots exist for the entity
+   */
+  @Query(
+      "select max(s.version) from Snapshot s where s.tenantId = :tenantId"
+          + " and s.entityType = :entityType and s.entityId = :entityId")
+  Optional<Integer> getLatestVersion(
+      @Param("tenantId") UUID tenantId,
+      @Param("entityType") EntityType entityType,
+      @Param("entityId") UUID entityId);
 }
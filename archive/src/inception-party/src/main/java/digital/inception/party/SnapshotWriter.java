@@ -0,0 +1,591 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import digital.inception.core.util.GZIPUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The <b>SnapshotWriter</b> class writes the snapshots for changes to entities to the snapshot
+ * store.
+ *
+ * <p>A change to an entity records a pending snapshot, containing the compressed JSON data for the
+ * entity, in the same transaction as the change. The pending snapshots are written to the snapshot
+ * store in the background, in the order they were recorded, which keeps the version lookups, JSON
+ * Patch generation and snapshot inserts off the request path. Each batch of pending snapshots is
+ * locked, converted into versioned checkpoint or JSON Patch snapshots, inserted using JDBC batching
+ * and deleted in a single transaction, so a pending snapshot is never lost or written twice.
+ *
+ * <p>The pending snapshots for an entity are also written immediately before the snapshots for the
+ * entity are retrieved, so that the snapshots for an entity always reflect every committed change.
+ *
+ * <p>A unique index on the version of an entity prevents two snapshot writers, e.g. the background
+ * writers on different nodes or a background writer and a read of the snapshots for an entity, from
+ * storing the same version of an entity. The batch that loses the race is rolled back and retried,
+ * at which point its versions are allocated after the versions written by the other writer.
+ *
+ * @author Marcus Portmann
+ */
+@Service
+@SuppressWarnings("unused")
+public class SnapshotWriter {
+
+  /** The SQL used to insert a snapshot. */
+  private static final String INSERT_SNAPSHOT_SQL =
+      "INSERT INTO party.snapshots (id, tenant_id, entity_type, entity_id, timestamp, "
+          + "entity_version, checkpoint, content) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+  /**
+   * The maximum number of attempts to write a batch of pending snapshots when the batch conflicts
+   * with the snapshots written concurrently by another snapshot writer.
+   */
+  private static final int MAX_WRITE_ATTEMPTS = 3;
+
+  /* Logger */
+  private static final Logger logger = LoggerFactory.getLogger(SnapshotWriter.class);
+
+  /** The Micrometer meter registry. */
+  private final MeterRegistry meterRegistry;
+
+  /** The Jackson 2 object mapper */
+  private final ObjectMapper objectMapper;
+
+  /** The Pending Snapshot Repository. */
+  private final PendingSnapshotRepository pendingSnapshotRepository;
+
+  /** The age of the oldest pending snapshot in milliseconds. */
+  private final AtomicLong pendingSnapshotLag = new AtomicLong();
+
+  /** The number of pending snapshots. */
+  private final AtomicLong pendingSnapshots = new AtomicLong();
+
+  /** The Snapshot Repository. */
+  private final SnapshotRepository snapshotRepository;
+
+  /** The transaction template used to write each batch of pending snapshots. */
+  private final TransactionTemplate transactionTemplate;
+
+  /* Entity Manager */
+  @PersistenceContext(unitName = "party")
+  private EntityManager entityManager;
+
+  /** The maximum number of pending snapshots to write in a single batch. */
+  @Value("${inception.party.snapshot-writer.batch-size:#{100}}")
+  private int snapshotBatchSize;
+
+  /** The number of versions of an entity between checkpoint snapshots. */
+  @Value("${inception.party.snapshot-checkpoint-interval:#{20}}")
+  private int snapshotCheckpointInterval;
+
+  /** The delay between the time an entity is changed and the time its snapshot is written. */
+  private Timer snapshotDelayTimer;
+
+  /** The number of snapshots written. */
+  private Counter snapshotsWrittenCounter;
+
+  /**
+   * Constructs a new <b>SnapshotWriter</b>.
+   *
+   * @param objectMapper the Jackson2 object mapper
+   * @param pendingSnapshotRepository the Pending Snapshot Repository
+   * @param snapshotRepository the Snapshot Repository
+   * @param transactionManager the platform transaction manager
+   */
+  public SnapshotWriter(
+      ObjectMapper objectMapper,
+      PendingSnapshotRepository pendingSnapshotRepository,
+      SnapshotRepository snapshotRepository,
+      PlatformTransactionManager transactionManager) {
+    this.objectMapper = objectMapper;
+    this.pendingSnapshotRepository = pendingSnapshotRepository;
+    this.snapshotRepository = snapshotRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.meterRegistry = Metrics.globalRegistry;
+  }
+
+  /** Initialize the Snapshot Writer. */
+  @PostConstruct
+  public void init() {
+    logger.info("Initializing the Snapshot Writer");
+
+    snapshotsWrittenCounter =
+        Counter.builder("party.snapshots.written")
+            .description("The number of snapshots written to the snapshot store")
+            .register(meterRegistry);
+
+    snapshotDelayTimer =
+        Timer.builder("party.snapshots.delay")
+            .description(
+                "The delay between the time an entity is changed and the time its snapshot is"
+                    + " written")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+
+    Gauge.builder("party.snapshots.pending", pendingSnapshots, AtomicLong::get)
+        .description("The number of snapshots waiting to be written to the snapshot store")
+        .register(meterRegistry);
+
+    Gauge.builder("party.snapshots.lag", pendingSnapshotLag, AtomicLong::get)
+        .description("The age in milliseconds of the oldest snapshot waiting to be written")
+        .baseUnit("milliseconds")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Record a pending snapshot for the entity.
+   *
+   * <p>This must be invoked in the transaction that changes the entity. The pending snapshot is
+   * persisted without flushing, so that it is inserted together with the change to the entity.
+   *
+   * @param tenantId the ID for the tenant
+   * @param entityType the type of entity
+   * @param entityId the ID for the entity
+   * @param data the JSON data for the entity
+   * @throws IOException if the JSON data for the entity could not be compressed
+   */
+  public void recordSnapshot(UUID tenantId, EntityType entityType, UUID entityId, String data)
+      throws IOException {
+    entityManager.persist(
+        new PendingSnapshot(
+            tenantId,
+            entityType,
+            entityId,
+            GZIPUtil.compress(data.getBytes(StandardCharsets.UTF_8))));
+  }
+
+  /**
+   * Write the pending snapshots to the snapshot store in batches.
+   *
+   * @return the number of snapshots that were written
+   */
+  @Scheduled(fixedDelayString = "${inception.party.snapshot-writer.delay:1000}")
+  public int write() {
+    int written = 0;
+
+    try {
+      while (true) {
+        int batchWritten =
+            writeSnapshots(
+                () ->
+                    pendingSnapshotRepository.findPendingSnapshotsForWrite(
+                        PageRequest.of(0, snapshotBatchSize)));
+
+        written += batchWritten;
+
+        if (batchWritten < snapshotBatchSize) {
+          break;
+        }
+      }
+    } catch (Throwable e) {
+      logger.error("Failed to write the pending snapshots", e);
+    }
+
+    try {
+      pendingSnapshots.set(pendingSnapshotRepository.count());
+      pendingSnapshotLag.set(
+          pendingSnapshotRepository
+              .getOldestTimestamp()
+              .map(timestamp -> Duration.between(timestamp, LocalDateTime.now()).toMillis())
+              .orElse(0L));
+    } catch (Throwable e) {
+      logger.warn("Failed to update the pending snapshot metrics", e);
+    }
+
+    return written;
+  }
+
+  /**
+   * Write the pending snapshots for the entity to the snapshot store.
+   *
+   * <p>The pending snapshots are written in a new transaction, which is committed before this
+   * method returns, so that a conflict with another snapshot writer does not roll back the
+   * transaction of the caller.
+   *
+   * @param tenantId the ID for the tenant
+   * @param entityType the type of entity
+   * @param entityId the ID for the entity
+   * @return the number of snapshots that were written
+   */
+  int writePendingSnapshots(UUID tenantId, EntityType entityType, UUID entityId) {
+    return writeSnapshots(
+        () ->
+            pendingSnapshotRepository.findPendingSnapshotsForEntityForWrite(
+                tenantId, entityType, entityId));
+  }
+
+  /**
+   * Write the pending snapshots for the tenant to the snapshot store in batches.
+   *
+   * <p>Each batch is written in a new transaction, which is committed before the next batch is
+   * written.
+   *
+   * @param tenantId the ID for the tenant
+   * @return the number of snapshots that were written
+   */
+  int writePendingSnapshots(UUID tenantId) {
+    int written = 0;
+
+    while (true) {
+      int batchWritten =
+          writeSnapshots(
+              () ->
+                  pendingSnapshotRepository.findPendingSnapshotsForTenantForWrite(
+                      tenantId, PageRequest.of(0, snapshotBatchSize)));
+
+      written += batchWritten;
+
+      if (batchWritten < snapshotBatchSize) {
+        return written;
+      }
+    }
+  }
+
+  /**
+   * Returns whether the exception, or one of its causes, is the result of an integrity constraint
+   * violation, e.g. a violation of the unique index on the version of an entity.
+   *
+   * @param exception the exception
+   * @return <b>true</b> if the exception is the result of an integrity constraint violation or
+   *     <b>false</b> otherwise
+   */
+  private static boolean isConstraintViolation(Throwable exception) {
+    for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+      if (cause instanceof SQLException) {
+        String sqlState = ((SQLException) cause).getSQLState();
+
+        if ((sqlState != null) && sqlState.startsWith("23")) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns the versioning state for the entity, retrieving the latest version and the most recent
+   * checkpoint snapshot for the entity if required.
+   *
+   * @param entityStates the versioning states for the entities in the batch
+   * @param pendingSnapshot the pending snapshot for the entity
+   * @return the versioning state for the entity
+   * @throws IOException if the most recent checkpoint snapshot could not be decompressed
+   */
+  private EntityState getEntityState(
+      Map<EntityKey, EntityState> entityStates, PendingSnapshot pendingSnapshot)
+      throws IOException {
+    EntityKey entityKey =
+        new EntityKey(
+            pendingSnapshot.getTenantId(),
+            pendingSnapshot.getEntityType(),
+            pendingSnapshot.getEntityId());
+
+    EntityState entityState = entityStates.get(entityKey);
+
+    if (entityState == null) {
+      entityState = new EntityState();
+
+      entityState.version =
+          snapshotRepository
+              .getLatestVersion(entityKey.tenantId, entityKey.entityType, entityKey.entityId)
+              .orElse(0);
+
+      if (entityState.version > 0) {
+        List<Snapshot> checkpoints =
+            snapshotRepository.findLatestCheckpoints(
+                entityKey.tenantId,
+                entityKey.entityType,
+                entityKey.entityId,
+                entityState.version,
+                PageRequest.of(0, 1));
+
+        if (!checkpoints.isEmpty()) {
+          Snapshot checkpoint = checkpoints.get(0);
+
+          entityState.checkpointVersion = checkpoint.getVersion();
+          entityState.checkpointData =
+              objectMapper.readTree(GZIPUtil.decompress(checkpoint.getContent()));
+          entityState.checkpointSize = checkpoint.getContent().length;
+        }
+      }
+
+      entityStates.put(entityKey, entityState);
+    }
+
+    return entityState;
+  }
+
+  /**
+   * Write a batch of pending snapshots in a new transaction, retrying the batch if it conflicts
+   * with the snapshots written concurrently by another snapshot writer.
+   *
+   * @param pendingSnapshotsSupplier the supplier that retrieves and locks the batch of pending
+   *     snapshots
+   * @return the number of snapshots that were written
+   */
+  private int writeSnapshots(Supplier<List<PendingSnapshot>> pendingSnapshotsSupplier) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        Integer written =
+            transactionTemplate.execute(
+                status -> {
+                  try {
+                    return writeSnapshots(pendingSnapshotsSupplier.get());
+                  } catch (Throwable e) {
+                    throw new PendingSnapshotWriteException(e);
+                  }
+                });
+
+        return Objects.requireNonNullElse(written, 0);
+      } catch (PendingSnapshotWriteException e) {
+        if ((attempt >= MAX_WRITE_ATTEMPTS) || (!isConstraintViolation(e))) {
+          throw e;
+        }
+
+        logger.debug(
+            "Retrying a batch of pending snapshots that conflicted with the snapshots written by"
+                + " another snapshot writer",
+            e);
+      }
+    }
+  }
+
+  /**
+   * Convert the pending snapshots into versioned snapshots, insert them using JDBC batching and
+   * delete the pending snapshots.
+   *
+   * <p>A checkpoint snapshot, storing the compressed JSON data for the entity, is written for the
+   * first version of the entity, every <i>snapshotCheckpointInterval</i> versions and whenever the
+   * compressed JSON Patch relative to the most recent checkpoint snapshot exceeds half the size of
+   * the checkpoint. Otherwise, only the compressed JSON Patch is written.
+   *
+   * @param pendingSnapshots the locked pending snapshots in the order they were recorded
+   * @return the number of snapshots that were written
+   * @throws IOException if the pending snapshots could not be converted
+   */
+  private int writeSnapshots(List<PendingSnapshot> pendingSnapshots) throws IOException {
+    if (pendingSnapshots.isEmpty()) {
+      return 0;
+    }
+
+    Map<EntityKey, EntityState> entityStates = new HashMap<>();
+
+    List<Snapshot> snapshots = new ArrayList<>(pendingSnapshots.size());
+
+    for (PendingSnapshot pendingSnapshot : pendingSnapshots) {
+      EntityState entityState = getEntityState(entityStates, pendingSnapshot);
+
+      int version = ++entityState.version;
+
+      JsonNode data = objectMapper.readTree(GZIPUtil.decompress(pendingSnapshot.getData()));
+
+      Snapshot snapshot = null;
+
+      if ((entityState.checkpointData != null)
+          && ((version - entityState.checkpointVersion) < snapshotCheckpointInterval)) {
+        byte[] compressedPatch =
+            GZIPUtil.compress(
+                objectMapper.writeValueAsBytes(JsonPatch.diff(entityState.checkpointData, data)));
+
+        if ((compressedPatch.length * 2) <= entityState.checkpointSize) {
+          snapshot =
+              new Snapshot(
+                  pendingSnapshot.getTenantId(),
+                  pendingSnapshot.getEntityType(),
+                  pendingSnapshot.getEntityId(),
+                  version,
+                  false,
+                  compressedPatch);
+        }
+      }
+
+      if (snapshot == null) {
+        snapshot =
+            new Snapshot(
+                pendingSnapshot.getTenantId(),
+                pendingSnapshot.getEntityType(),
+                pendingSnapshot.getEntityId(),
+                version,
+                true,
+                pendingSnapshot.getData());
+
+        entityState.checkpointVersion = version;
+        entityState.checkpointData = data;
+        entityState.checkpointSize = pendingSnapshot.getData().length;
+      }
+
+      // The snapshot captures the entity at the time it was changed, not when it was written
+      snapshot.setTimestamp(pendingSnapshot.getTimestamp());
+
+      snapshots.add(snapshot);
+    }
+
+    entityManager
+        .unwrap(Session.class)
+        .doWork(
+            connection -> {
+              try (PreparedStatement statement = connection.prepareStatement(INSERT_SNAPSHOT_SQL)) {
+                for (Snapshot snapshot : snapshots) {
+                  statement.setObject(1, snapshot.getId());
+                  statement.setObject(2, snapshot.getTenantId());
+                  statement.setString(3, snapshot.getEntityType().code());
+                  statement.setObject(4, snapshot.getEntityId());
+                  statement.setTimestamp(5, Timestamp.valueOf(snapshot.getTimestamp()));
+                  statement.setInt(6, snapshot.getVersion());
+                  statement.setBoolean(7, snapshot.isCheckpoint());
+                  statement.setBytes(8, snapshot.getContent());
+
+                  statement.addBatch();
+                }
+
+                statement.executeBatch();
+              }
+            });
+
+    List<UUID> pendingSnapshotIds = new ArrayList<>(pendingSnapshots.size());
+
+    LocalDateTime now = LocalDateTime.now();
+
+    for (PendingSnapshot pendingSnapshot : pendingSnapshots) {
+      pendingSnapshotIds.add(pendingSnapshot.getId());
+
+      snapshotDelayTimer.record(Duration.between(pendingSnapshot.getTimestamp(), now));
+
+      entityManager.detach(pendingSnapshot);
+    }
+
+    pendingSnapshotRepository.deleteAllByIdInBatch(pendingSnapshotIds);
+
+    snapshotsWrittenCounter.increment(snapshots.size());
+
+    return snapshots.size();
+  }
+
+  /**
+   * The <b>EntityKey</b> class uniquely identifies an entity.
+   *
+   * @author Marcus Portmann
+   */
+  private static final class EntityKey {
+
+    /** The ID for the entity. */
+    private final UUID entityId;
+
+    /** The type of entity. */
+    private final EntityType entityType;
+
+    /** The ID for the tenant. */
+    private final UUID tenantId;
+
+    EntityKey(UUID tenantId, EntityType entityType, UUID entityId) {
+      this.tenantId = tenantId;
+      this.entityType = entityType;
+      this.entityId = entityId;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      if (this == object) {
+        return true;
+      }
+
+      if ((object == null) || (getClass() != object.getClass())) {
+        return false;
+      }
+
+      EntityKey other = (EntityKey) object;
+
+      return Objects.equals(tenantId, other.tenantId)
+          && (entityType == other.entityType)
+          && Objects.equals(entityId, other.entityId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(tenantId, entityType, entityId);
+    }
+  }
+
+  /**
+   * The <b>EntityState</b> class holds the versioning state for an entity while a batch of pending
+   * snapshots is being written.
+   *
+   * @author Marcus Portmann
+   */
+  private static final class EntityState {
+
+    /** The JSON data for the most recent checkpoint snapshot. */
+    private JsonNode checkpointData;
+
+    /** The size of the compressed JSON data for the most recent checkpoint snapshot. */
+    private int checkpointSize;
+
+    /** The version of the most recent checkpoint snapshot. */
+    private int checkpointVersion;
+
+    /** The latest version of the entity. */
+    private int version;
+  }
+
+  /**
+   * The <b>PendingSnapshotWriteException</b> exception is thrown to roll back the transaction for a
+   * batch of pending snapshots that could not be written.
+   */
+  private static final class PendingSnapshotWriteException extends RuntimeException {
+
+    private static final long serialVersionUID = 1000000;
+
+    PendingSnapshotWriteException(Throwable cause) {
+      super(cause);
+    }
+  }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The <b>TenantIndexes</b> class manages the lifecycle of the in-process indexes, e.g. the
+ * full-text search index and the association graph index, that are partitioned by tenant.
+ *
+ * <p>The index for a tenant is built into a new instance without holding the lock for the tenant,
+ * so reads and updates are not blocked while the data for the tenant is loaded. The updates that
+ * are applied while the index is being built are recorded and replayed against the new instance,
+ * which then atomically replaces the previous instance. Updates must therefore be idempotent, e.g.
+ * adding a party replaces the existing entry for the party.
+ *
+ * <p>The index for a tenant is only kept up to date with the changes made on this node. When the
+ * parties are changed on other nodes in a cluster, the index for a tenant becomes stale, so an
+ * index that was built longer ago than the maximum age is reported as requiring a rebuild, which
+ * bounds how long the changes made on other nodes are not reflected in the index.
+ *
+ * @param <T> the type of index for a tenant
+ * @author Marcus Portmann
+ */
+final class TenantIndexes<T> {
+
+  /** The factory used to create a new, empty index for a tenant. */
+  private final Supplier<T> factory;
+
+  /**
+   * The maximum number of milliseconds since the index for a tenant was built before it must be
+   * rebuilt, or zero if the index is never rebuilt.
+   */
+  private final long maxAge;
+
+  /** The entries holding the indexes for the tenants keyed by tenant ID. */
+  private final Map<UUID, Entry<T>> entries = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a new <b>TenantIndexes</b>.
+   *
+   * @param factory the factory used to create a new, empty index for a tenant
+   * @param maxAge the maximum number of milliseconds since the index for a tenant was built before
+   *     it must be rebuilt, or zero if the index is never rebuilt
+   */
+  TenantIndexes(Supplier<T> factory, long maxAge) {
+    this.factory = factory;
+    this.maxAge = maxAge;
+  }
+
+  /**
+   * Build or rebuild the index for the tenant.
+   *
+   * <p>Only one build is performed for a tenant at a time. The previous instance of the index, if
+   * any, remains available until the new instance replaces it.
+   *
+   * @param tenantId the ID for the tenant
+   * @param loader the loader used to populate the new instance of the index from the data store
+   * @param force should the index be rebuilt if it has already been built
+   * @throws Exception if the data for the tenant could not be loaded
+   */
+  void build(UUID tenantId, Loader<T> loader, boolean force) throws Exception {
+    Entry<T> entry = entries.computeIfAbsent(tenantId, key -> new Entry<>());
+
+    entry.buildLock.lock();
+
+    try {
+      if ((entry.index != null) && (!force)) {
+        return;
+      }
+
+      List<Consumer<T>> pendingUpdates = new ArrayList<>();
+
+      entry.lock.writeLock().lock();
+
+      try {
+        entry.pendingUpdates = pendingUpdates;
+      } finally {
+        entry.lock.writeLock().unlock();
+      }
+
+      T index = factory.get();
+
+      try {
+        loader.load(index);
+      } catch (Throwable e) {
+        entry.lock.writeLock().lock();
+
+        try {
+          entry.pendingUpdates = null;
+        } finally {
+          entry.lock.writeLock().unlock();
+        }
+
+        throw e;
+      }
+
+      entry.lock.writeLock().lock();
+
+      try {
+        // Replay the updates applied while the index was being built
+        for (Consumer<T> pendingUpdate : pendingUpdates) {
+          pendingUpdate.accept(index);
+        }
+
+        entry.index = index;
+        entry.built = System.currentTimeMillis();
+        entry.pendingUpdates = null;
+      } finally {
+        entry.lock.writeLock().unlock();
+      }
+    } finally {
+      entry.rebuildRequested.set(false);
+
+      entry.buildLock.unlock();
+    }
+  }
+
+  /**
+   * Returns whether the index for the tenant has been built.
+   *
+   * @param tenantId the ID for the tenant
+   * @return <b>true</b> if the index for the tenant has been built or <b>false</b> otherwise
+   */
+  boolean isBuilt(UUID tenantId) {
+    Entry<T> entry = entries.get(tenantId);
+
+    return (entry != null) && (entry.index != null);
+  }
+
+  /**
+   * Read the index for the tenant while holding the read lock for the tenant.
+   *
+   * @param tenantId the ID for the tenant
+   * @param reader the function used to read the index
+   * @param notBuilt the supplier for the result if the index for the tenant has not been built
+   * @param <R> the type of result
+   * @return the result
+   */
+  <R> R read(UUID tenantId, Function<T, R> reader, Supplier<R> notBuilt) {
+    Entry<T> entry = entries.get(tenantId);
+
+    if (entry == null) {
+      return notBuilt.get();
+    }
+
+    entry.lock.readLock().lock();
+
+    try {
+      return (entry.index != null) ? reader.apply(entry.index) : notBuilt.get();
+    } finally {
+      entry.lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Returns whether the index for the tenant was built longer ago than the maximum age and a
+   * rebuild has not already been requested, in which case the rebuild is requested and the caller
+   * is responsible for rebuilding the index or invoking {@link #rebuildRejected(UUID)}.
+   *
+   * @param tenantId the ID for the tenant
+   * @return <b>true</b> if the caller must rebuild the index for the tenant or <b>false</b>
+   *     otherwise
+   */
+  boolean requestRebuild(UUID tenantId) {
+    if (maxAge <= 0) {
+      return false;
+    }
+
+    Entry<T> entry = entries.get(tenantId);
+
+    return (entry != null)
+        && (entry.index != null)
+        && ((System.currentTimeMillis() - entry.built) >= maxAge)
+        && entry.rebuildRequested.compareAndSet(false, true);
+  }
+
+  /**
+   * Withdraw the rebuild requested for the index for the tenant, e.g. because the rebuild could not
+   * be scheduled, so that it is requested again.
+   *
+   * @param tenantId the ID for the tenant
+   */
+  void rebuildRejected(UUID tenantId) {
+    Entry<T> entry = entries.get(tenantId);
+
+    if (entry != null) {
+      entry.rebuildRequested.set(false);
+    }
+  }
+
+  /**
+   * Update the index for the tenant while holding the write lock for the tenant.
+   *
+   * <p>If the index for the tenant has not been built the update is ignored, since the data will be
+   * retrieved from the data store when the index is built. If the index is being built the update
+   * is also recorded, so that it can be replayed against the new instance of the index.
+   *
+   * @param tenantId the ID for the tenant
+   * @param update the idempotent update
+   */
+  void update(UUID tenantId, Consumer<T> update) {
+    Entry<T> entry = entries.get(tenantId);
+
+    if (entry != null) {
+      entry.lock.writeLock().lock();
+
+      try {
+        if (entry.index != null) {
+          update.accept(entry.index);
+        }
+
+        if (entry.pendingUpdates != null) {
+          entry.pendingUpdates.add(update);
+        }
+      } finally {
+        entry.lock.writeLock().unlock();
+      }
+    }
+  }
+
+  /**
+   * The <b>Loader</b> interface is implemented by functions that populate a new instance of the
+   * index for a tenant from the data store.
+   *
+   * @param <T> the type of index for a tenant
+   */
+  @FunctionalInterface
+  interface Loader<T> {
+
+    /**
+     * Populate the index.
+     *
+     * @param index the new instance of the index
+     * @throws Exception if the data could not be loaded
+     */
+    void load(T index) throws Exception;
+  }
+
+  /**
+   * The <b>Entry</b> class holds the current instance of the index for a tenant.
+   *
+   * @param <T> the type of index for a tenant
+   */
+  private static final class Entry<T> {
+
+    /** The lock used to ensure that only one build is performed for the tenant at a time. */
+    private final ReentrantLock buildLock = new ReentrantLock();
+
+    /** The lock used to coordinate reads of the index with updates and the replacement. */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Has a rebuild of the index been requested. */
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+
+    /** The time the index was built. */
+    private volatile long built;
+
+    /** The current instance of the index, or <b>null</b> if the index has not been built. */
+    private volatile T index;
+
+    /**
+     * The updates applied while the index is being built, or <b>null</b> if the index is not being
+     * built.
+     */
+    private List<Consumer<T>> pendingUpdates;
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party;
+
+import org.hibernate.Hibernate;
+
+/**
+ * The <b>UninitializedCollectionFilter</b> class implements the Jackson value filter used to omit
+ * the lazily loaded collections for a party that were not retrieved, because they were not included
+ * in the fetch plan, when the party is serialized.
+ *
+ * <p>The filter also omits <b>null</b> values, which is consistent with the
+ * <b>JsonInclude.Include.NON_NULL</b> inclusion used by the party classes.
+ *
+ * @author Marcus Portmann
+ */
+public final class UninitializedCollectionFilter {
+
+  /**
+   * Returns whether the value should be omitted when serializing.
+   *
+   * @param value the value
+   * @return <b>true</b> if the value is <b>null</b> or is a lazily loaded collection that has not
+   *     been initialized or <b>false</b> otherwise
+   */
+  @Override
+  public boolean equals(Object value) {
+    return (value == null) || (!Hibernate.isInitialized(value));
+  }
+
+  @Override
+  public int hashCode() {
+    return 0;
+  }
+}
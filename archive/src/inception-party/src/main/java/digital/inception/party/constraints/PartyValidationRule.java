@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party.constraints;
+
+import digital.inception.party.PartyType;
+import digital.inception.party.PartyValidationPlan;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+
+/**
+ * The <b>PartyValidationRule</b> class implements a named validation rule for a party type, which
+ * is applied using the validation plan for the tenant the party is associated with.
+ *
+ * <p>The time taken to apply each rule is recorded by the <i>party.validation.rule</i> timer,
+ * tagged with the party type and the name of the rule, so that the rules that dominate the cost of
+ * validating parties can be identified.
+ *
+ * @param <T> the party type
+ * @author Marcus Portmann
+ */
+final class PartyValidationRule<T> {
+
+  /** The timer used to record the time taken to apply the validation rule. */
+  private final Timer timer;
+
+  /** The validation applied by the validation rule. */
+  private final Validation<T> validation;
+
+  /**
+   * Constructs a new <b>PartyValidationRule</b>.
+   *
+   * @param partyType the party type the validation rule applies to
+   * @param name the name of the validation rule
+   * @param validation the validation applied by the validation rule
+   */
+  PartyValidationRule(PartyType partyType, String name, Validation<T> validation) {
+    this.validation = validation;
+    this.timer =
+        Timer.builder("party.validation.rule")
+            .description("The time taken to apply a party validation rule")
+            .tag("partyType", partyType.code())
+            .tag("rule", name)
+            .register(Metrics.globalRegistry);
+  }
+
+  /**
+   * Apply the validation rule to the party.
+   *
+   * @param party the party
+   * @param validationPlan the validation plan for the tenant the party is associated with
+   * @param hibernateConstraintValidatorContext the Hibernate constraint validator context
+   * @return <b>true</b> if the party is valid or <b>false</b> otherwise
+   */
+  boolean validate(
+      T party,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    long startTime = System.nanoTime();
+
+    try {
+      return validation.validate(party, validationPlan, hibernateConstraintValidatorContext);
+    } finally {
+      timer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * The <b>Validation</b> interface defines the validation applied by a validation rule.
+   *
+   * @param <T> the party type
+   */
+  @FunctionalInterface
+  interface Validation<T> {
+
+    /**
+     * Validate the party.
+     *
+     * @param party the party
+     * @param validationPlan the validation plan for the tenant the party is associated with
+     * @param hibernateConstraintValidatorContext the Hibernate constraint validator context
+     * @return <b>true</b> if the party is valid or <b>false</b> otherwise
+     */
+    boolean validate(
+        T party,
+        PartyValidationPlan validationPlan,
+        HibernateConstraintValidatorContext hibernateConstraintValidatorContext);
+  }
+}
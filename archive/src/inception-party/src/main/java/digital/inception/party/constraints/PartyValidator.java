@@ -18,6 +18,7 @@ package digital.inception.party.constraints;
 
 import digital.inception.party.Attribute;
 import digital.inception.party.IPartyReferenceService;
+import digital.inception.party.PartyValidationPlan;
 import digital.inception.party.PhysicalAddress;
 import digital.inception.party.PhysicalAddressType;
 import digital.inception.party.Preference;
@@ -25,7 +26,6 @@ import digital.inception.reference.IReferenceService;
 import java.time.LocalDate;
 import java.util.Objects;
 import java.util.Set;
-import java.util.UUID;
 import java.util.regex.Pattern;
 import javax.validation.ValidationException;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
@@ -40,30 +40,32 @@ import org.springframework.util.StringUtils;
 public abstract class PartyValidator {
 
   /** The regex pattern used to validate e-mail addresses. */
-  private static final String EMAIL_ADDRESS_PATTERN =
-      "^$|(?:[a-zA-Z0-9!#$%&'*+/=?^_`{|}~-]+(?:\\"
-          + ".[a-zA-Z0-9!#$%&'*+/=?^_`{|}~-]+)*|\"(?:[\\x01-\\x08\\x0b\\x0c\\x0e-\\x1f\\x21\\x23-\\x5b\\x5d"
-          + "-\\x7f]|\\\\[\\x01-\\x09\\x0b\\x0c\\x0e-\\x7f])*\")@(?:(?:[a-zA-Z0-9](?:[a-zA-Z0-9-]*[a-zA-Z0-9])?\\"
-          + ".)+[a-zA-Z0-9](?:[a-zA-Z0-9-]*[a-zA-Z0-9])?|\\[(?:(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.){3}"
-          + "(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?|[a-zA-Z0-9-]*[a-zA-Z0-9]:"
-          + "(?:[\\x01-\\x08\\x0b\\x0c\\x0e-\\x1f\\x21-\\x5a\\x53-\\x7f]|\\\\[\\x01-\\x09\\x0b\\x0c\\x0e"
-          + "-\\x7f])+)\\])";
+  private static final Pattern EMAIL_ADDRESS_PATTERN =
+      Pattern.compile(
+          "^$|(?:[a-zA-Z0-9!#$%&'*+/=?^_`{|}~-]+(?:\\"
+              + ".[a-zA-Z0-9!#$%&'*+/=?^_`{|}~-]+)*|\"(?:[\\x01-\\x08\\x0b\\x0c\\x0e-\\x1f\\x21\\x23-\\x5b\\x5d"
+              + "-\\x7f]|\\\\[\\x01-\\x09\\x0b\\x0c\\x0e-\\x7f])*\")@(?:(?:[a-zA-Z0-9](?:[a-zA-Z0-9-]*[a-zA-Z0-9])?\\"
+              + ".)+[a-zA-Z0-9](?:[a-zA-Z0-9-]*[a-zA-Z0-9])?|\\[(?:(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.){3}"
+              + "(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?|[a-zA-Z0-9-]*[a-zA-Z0-9]:"
+              + "(?:[\\x01-\\x08\\x0b\\x0c\\x0e-\\x1f\\x21-\\x5a\\x53-\\x7f]|\\\\[\\x01-\\x09\\x0b\\x0c\\x0e"
+              + "-\\x7f])+)\\])");
 
   /** The regex pattern used to validate mobile numbers. */
-  private static final String MOBILE_NUMBER_PATTERN =
-      "^$|(\\+|00)(297|93|244|1264|358|355|376|971|54|374|1684|1268|61"
-          + "|43|994|257|32|229|226|880|359|973|1242|387|590|375|501|1441|591|55|1246|673|975|267|236|1"
-          + "|61|41|56|86|225|237|243|242|682|57|269|238|506|53|5999|61|1345|357|420|49|253|1767|45|1809"
-          + "|1829|1849|213|593|20|291|212|34|372|251|358|679|500|33|298|691|241|44|995|44|233|350|224"
-          + "|590|220|245|240|30|1473|299|502|594|1671|592|852|504|385|509|36|62|44|91|246|353|98|964|354"
-          + "|972|39|1876|44|962|81|76|77|254|996|855|686|1869|82|383|965|856|961|231|218|1758|423|94|266"
-          + "|370|352|371|853|590|212|377|373|261|960|52|692|389|223|356|95|382|976|1670|258|222|1664|596"
-          + "|230|265|60|262|264|687|227|672|234|505|683|31|47|977|674|64|968|92|507|64|51|63|680|675|48"
-          + "|1787|1939|850|351|595|970|689|974|262|40|7|250|966|249|221|65|500|4779|677|232|503|378|252"
-          + "|508|381|211|239|597|421|386|46|268|1721|248|963|1649|235|228|66|992|690|993|670|676|1868"
-          + "|216|90|688|886|255|256|380|598|1|998|3906698|379|1784|58|1284|1340|84|678|681|685|967|27"
-          + "|260|263)(9[976]\\d|8[987530]\\d|6[987]\\d|5[90]\\d|42\\d|3[875]\\d|2[98654321]\\d|9[8543210"
-          + "]|8[6421]|6[6543210]|5[87654321]|4[987654310]|3[9643210]|2[70]|7|1)\\d{4,20}$";
+  private static final Pattern MOBILE_NUMBER_PATTERN =
+      Pattern.compile(
+          "^$|(\\+|00)(297|93|244|1264|358|355|376|971|54|374|1684|1268|61"
+              + "|43|994|257|32|229|226|880|359|973|1242|387|590|375|501|1441|591|55|1246|673|975|267|236|1"
+              + "|61|41|56|86|225|237|243|242|682|57|269|238|506|53|5999|61|1345|357|420|49|253|1767|45|1809"
+              + "|1829|1849|213|593|20|291|212|34|372|251|358|679|500|33|298|691|241|44|995|44|233|350|224"
+              + "|590|220|245|240|30|1473|299|502|594|1671|592|852|504|385|509|36|62|44|91|246|353|98|964|354"
+              + "|972|39|1876|44|962|81|76|77|254|996|855|686|1869|82|383|965|856|961|231|218|1758|423|94|266"
+              + "|370|352|371|853|590|212|377|373|261|960|52|692|389|223|356|95|382|976|1670|258|222|1664|596"
+              + "|230|265|60|262|264|687|227|672|234|505|683|31|47|977|674|64|968|92|507|64|51|63|680|675|48"
+              + "|1787|1939|850|351|595|970|689|974|262|40|7|250|966|249|221|65|500|4779|677|232|503|378|252"
+              + "|508|381|211|239|597|421|386|46|268|1721|248|963|1649|235|228|66|992|690|993|670|676|1868"
+              + "|216|90|688|886|255|256|380|598|1|998|3906698|379|1784|58|1284|1340|84|678|681|685|967|27"
+              + "|260|263)(9[976]\\d|8[987530]\\d|6[987]\\d|5[90]\\d|42\\d|3[875]\\d|2[98654321]\\d|9[8543210"
+              + "]|8[6421]|6[6543210]|5[87654321]|4[987654310]|3[9643210]|2[70]|7|1)\\d{4,20}$");
 
   /** The Party Reference Service. */
   private final IPartyReferenceService partyReferenceService;
@@ -109,7 +111,7 @@ public abstract class PartyValidator {
    */
   protected boolean isValidEmailAddress(String emailAddress) {
     if (StringUtils.hasText(emailAddress)) {
-      return Pattern.matches(EMAIL_ADDRESS_PATTERN, emailAddress);
+      return EMAIL_ADDRESS_PATTERN.matcher(emailAddress).matches();
     } else {
       return false;
     }
@@ -123,7 +125,7 @@ public abstract class PartyValidator {
    */
   protected boolean isValidMobileNumber(String mobileNumber) {
     if (StringUtils.hasText(mobileNumber)) {
-      return Pattern.matches(MOBILE_NUMBER_PATTERN, mobileNumber);
+      return MOBILE_NUMBER_PATTERN.matcher(mobileNumber).matches();
     } else {
       return false;
     }
@@ -339,14 +341,14 @@ public abstract class PartyValidator {
   /**
    * Validate the physical address.
    *
-   * @param tenantId the ID for the tenant the party is associated with
+   * @param validationPlan the validation plan for the tenant the party is associated with
    * @param partyType the code for the party type
    * @param physicalAddress the physical address
    * @param hibernateConstraintValidatorContext the Hibernate constraint validator context
    * @return <b>true</b> if the physical address is valid or <b>false</b> otherwise
    */
   protected boolean validatePhysicalAddress(
-      UUID tenantId,
+      PartyValidationPlan validationPlan,
       String partyType,
       PhysicalAddress physicalAddress,
       HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
@@ -383,7 +385,7 @@ public abstract class PartyValidator {
     boolean isValid = true;
 
     try {
-      if (!partyReferenceService.isValidPhysicalAddressType(tenantId, physicalAddress.getType())) {
+      if (!validationPlan.isValidPhysicalAddressType(physicalAddress.getType())) {
         hibernateConstraintValidatorContext
             .addMessageParameter("type", physicalAddress.getType())
             .buildConstraintViolationWithTemplate(
@@ -907,7 +909,7 @@ public abstract class PartyValidator {
         }
 
         if (StringUtils.hasText(physicalAddress.getCountry())
-            && (!referenceService.isValidCountry(physicalAddress.getCountry()))) {
+            && (!validationPlan.isValidCountry(physicalAddress.getCountry()))) {
           hibernateConstraintValidatorContext
               .addMessageParameter("country", physicalAddress.getCountry())
               .buildConstraintViolationWithTemplate(
@@ -921,8 +923,7 @@ public abstract class PartyValidator {
       }
 
       if (StringUtils.hasText(physicalAddress.getRole())) {
-        if (!getPartyReferenceService()
-            .isValidPhysicalAddressRole(tenantId, partyType, physicalAddress.getRole())) {
+        if (!validationPlan.isValidPhysicalAddressRole(partyType, physicalAddress.getRole())) {
           hibernateConstraintValidatorContext
               .addMessageParameter("role", physicalAddress.getRole())
               .addMessageParameter("partyType", partyType)
@@ -938,8 +939,7 @@ public abstract class PartyValidator {
       }
 
       for (String physicalAddressPurpose : physicalAddress.getPurposes()) {
-        if (!getPartyReferenceService()
-            .isValidPhysicalAddressPurpose(tenantId, partyType, physicalAddressPurpose)) {
+        if (!validationPlan.isValidPhysicalAddressPurpose(partyType, physicalAddressPurpose)) {
           hibernateConstraintValidatorContext
               .addMessageParameter("purpose", physicalAddressPurpose)
               .addMessageParameter("partyType", partyType)
@@ -964,14 +964,14 @@ public abstract class PartyValidator {
   /**
    * Validate the reference attribute constraint.
    *
-   * @param tenantId the ID for the tenant the party is associated with
+   * @param validationPlan the validation plan for the tenant the party is associated with
    * @param referenceType the type of reference
    * @param attribute the attribute
    * @param hibernateConstraintValidatorContext the Hibernate constraint validator context
    * @return <b>true</b> if the attribute is valid or <b>false</b> otherwise
    */
   protected boolean validateReferenceAttributeConstraint(
-      UUID tenantId,
+      PartyValidationPlan validationPlan,
       String referenceType,
       Attribute attribute,
       HibernateConstraintValidatorContext hibernateConstraintValidatorContext)
@@ -986,9 +986,7 @@ public abstract class PartyValidator {
     try {
       switch (referenceType) {
         case "contact_mechanism_type":
-          isValid =
-              partyReferenceService.isValidContactMechanismType(
-                  tenantId, attribute.getStringValue());
+          isValid = validationPlan.isValidContactMechanismType(attribute.getStringValue());
 
           if (!isValid) {
             hibernateConstraintValidatorContext
@@ -1005,7 +1003,7 @@ public abstract class PartyValidator {
           break;
 
         case "country":
-          isValid = referenceService.isValidCountry(attribute.getStringValue());
+          isValid = validationPlan.isValidCountry(attribute.getStringValue());
 
           if (!isValid) {
             hibernateConstraintValidatorContext
@@ -1022,7 +1020,7 @@ public abstract class PartyValidator {
           break;
 
         case "language":
-          isValid = referenceService.isValidLanguage(attribute.getStringValue());
+          isValid = validationPlan.isValidLanguage(attribute.getStringValue());
 
           if (!isValid) {
             hibernateConstraintValidatorContext
@@ -1056,14 +1054,14 @@ public abstract class PartyValidator {
   /**
    * Validate the reference preference constraint.
    *
-   * @param tenantId the ID for the tenant the party is associated with
+   * @param validationPlan the validation plan for the tenant the party is associated with
    * @param referenceType the type of reference
    * @param preference the preference
    * @param hibernateConstraintValidatorContext the Hibernate constraint validator context
    * @return <b>true</b> if the preference is valid or <b>false</b> otherwise
    */
   protected boolean validateReferencePreferenceConstraint(
-      UUID tenantId,
+      PartyValidationPlan validationPlan,
       String referenceType,
       Preference preference,
       HibernateConstraintValidatorContext hibernateConstraintValidatorContext)
@@ -1078,8 +1076,7 @@ public abstract class PartyValidator {
     try {
       switch (referenceType) {
         case "contact_mechanism_type":
-          isValid =
-              partyReferenceService.isValidContactMechanismType(tenantId, preference.getValue());
+          isValid = validationPlan.isValidContactMechanismType(preference.getValue());
 
           if (!isValid) {
             hibernateConstraintValidatorContext
@@ -1096,7 +1093,7 @@ public abstract class PartyValidator {
           break;
 
         case "country":
-          isValid = referenceService.isValidCountry(preference.getValue());
+          isValid = validationPlan.isValidCountry(preference.getValue());
 
           if (!isValid) {
             hibernateConstraintValidatorContext
@@ -1113,7 +1110,7 @@ public abstract class PartyValidator {
           break;
 
         case "language":
-          isValid = referenceService.isValidLanguage(preference.getValue());
+          isValid = validationPlan.isValidLanguage(preference.getValue());
 
           if (!isValid) {
             hibernateConstraintValidatorContext
@@ -261,13 +261,13 @@ public class ValidAssociationValidator
             if (association.getSecondPartyId() != null) {
               Optional<PartyType> secondPartyTypeOptional =
                   partyService.getTypeForParty(
-                      association.getTenantId(), association.getFirstPartyId());
+                      association.getTenantId(), association.getSecondPartyId());
 
               if (secondPartyTypeOptional.isPresent()) {
                 if (!associationType.isValidSecondPartyType(secondPartyTypeOptional.get().code())) {
                   hibernateConstraintValidatorContext
                       .addMessageParameter("secondPartyType", secondPartyTypeOptional.get().code())
-                      .addMessageParameter("secondPartyId", association.getFirstPartyId())
+                      .addMessageParameter("secondPartyId", association.getSecondPartyId())
                       .buildConstraintViolationWithTemplate(
                           "{digital.inception.party.constraints.ValidAssociation.invalidPartyTypeForSecondParty.message}")
                       .addPropertyNode("secondPartyId")
@@ -28,6 +28,8 @@ import digital.inception.party.IdentityDocument;
 import digital.inception.party.IndustryAllocation;
 import digital.inception.party.Lock;
 import digital.inception.party.Organization;
+import digital.inception.party.PartyType;
+import digital.inception.party.PartyValidationPlan;
 import digital.inception.party.PhysicalAddress;
 import digital.inception.party.Preference;
 import digital.inception.party.PreferenceType;
@@ -39,6 +41,7 @@ import digital.inception.party.Status;
 import digital.inception.party.TaxNumber;
 import digital.inception.party.ValueType;
 import digital.inception.reference.IReferenceService;
+import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -58,6 +61,34 @@ import org.springframework.util.StringUtils;
 public class ValidOrganizationValidator extends PartyValidator
     implements ConstraintValidator<ValidOrganization, Organization> {
 
+  /** The validation rules applied to a organization. */
+  private final List<PartyValidationRule<Organization>> validationRules =
+      List.of(
+          new PartyValidationRule<>(PartyType.ORGANIZATION, "attributes", this::validateAttributes),
+          new PartyValidationRule<>(
+              PartyType.ORGANIZATION, "contactMechanisms", this::validateContactMechanisms),
+          new PartyValidationRule<>(
+              PartyType.ORGANIZATION,
+              "countriesOfTaxResidence",
+              this::validateCountriesOfTaxResidence),
+          new PartyValidationRule<>(
+              PartyType.ORGANIZATION, "externalReferences", this::validateExternalReferences),
+          new PartyValidationRule<>(
+              PartyType.ORGANIZATION, "identityDocuments", this::validateIdentityDocuments),
+          new PartyValidationRule<>(
+              PartyType.ORGANIZATION, "industryAllocations", this::validateIndustryAllocations),
+          new PartyValidationRule<>(PartyType.ORGANIZATION, "locks", this::validateLocks),
+          new PartyValidationRule<>(
+              PartyType.ORGANIZATION, "physicalAddresses", this::validatePhysicalAddresses),
+          new PartyValidationRule<>(
+              PartyType.ORGANIZATION, "preferences", this::validatePreferences),
+          new PartyValidationRule<>(PartyType.ORGANIZATION, "roles", this::validateRoles),
+          new PartyValidationRule<>(
+              PartyType.ORGANIZATION, "segmentAllocations", this::validateSegmentAllocations),
+          new PartyValidationRule<>(PartyType.ORGANIZATION, "statuses", this::validateStatuses),
+          new PartyValidationRule<>(
+              PartyType.ORGANIZATION, "taxNumbers", this::validateTaxNumbers));
+
   /**
    * Constructs a new <b>ValidOrganizationValidator</b>.
    *
@@ -92,635 +123,712 @@ public class ValidOrganizationValidator extends PartyValidator
           constraintValidatorContext.unwrap(HibernateConstraintValidatorContext.class);
 
       try {
-        // Validate attributes
-        for (Attribute attribute : organization.getAttributes()) {
-          boolean isReservedAttribute = false;
+        PartyValidationPlan validationPlan =
+            getPartyReferenceService().getValidationPlan(organization.getTenantId());
+
+        for (PartyValidationRule<Organization> validationRule : validationRules) {
+          if (!validationRule.validate(
+              organization, validationPlan, hibernateConstraintValidatorContext)) {
+            isValid = false;
+          }
+        }
+      } catch (Throwable e) {
+        throw new ValidationException("Failed to validate the organization", e);
+      }
+
+      return isValid;
+    } else {
+      return true;
+    }
+  }
 
-          for (String reservedAttributeTypeCode : Attribute.RESERVED_ATTRIBUTE_TYPE_CODES) {
-            if (reservedAttributeTypeCode.equalsIgnoreCase(attribute.getType())) {
+  private boolean validateAttributes(
+      Organization organization,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    for (Attribute attribute : organization.getAttributes()) {
+      boolean isReservedAttribute = false;
+
+      for (String reservedAttributeTypeCode : Attribute.RESERVED_ATTRIBUTE_TYPE_CODES) {
+        if (reservedAttributeTypeCode.equalsIgnoreCase(attribute.getType())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("attributeType", attribute.getType())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidOrganization.invalidReservedAttributeType.message}")
+              .addPropertyNode("attributes")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
+
+          isReservedAttribute = true;
+          isValid = false;
+          break;
+        }
+      }
+
+      if (!isReservedAttribute) {
+        Optional<AttributeType> attributeTypeOptional =
+            validationPlan.getAttributeType(organization.getType().code(), attribute.getType());
+
+        if (attributeTypeOptional.isPresent()) {
+          AttributeType attributeType = attributeTypeOptional.get();
+
+          if (attributeType.getUnitType() != null) {
+            if ((attribute.getUnit() == null)
+                || (attribute.getUnit().getType() != attributeType.getUnitType())) {
               hibernateConstraintValidatorContext
+                  .addMessageParameter(
+                      "unit", (attribute.getUnit() != null) ? attribute.getUnit().code() : "")
                   .addMessageParameter("attributeType", attribute.getType())
                   .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidOrganization.invalidReservedAttributeType.message}")
+                      "{digital.inception.party.constraints.ValidOrganization.invalidUnitForAttributeType.message}")
                   .addPropertyNode("attributes")
-                  .addPropertyNode("type")
+                  .addPropertyNode("unit")
                   .inIterable()
                   .addConstraintViolation();
 
-              isReservedAttribute = true;
               isValid = false;
-              break;
             }
           }
 
-          if (!isReservedAttribute) {
-            Optional<AttributeType> attributeTypeOptional =
-                getPartyReferenceService()
-                    .getAttributeType(
-                        organization.getTenantId(),
-                        organization.getType().code(),
-                        attribute.getType());
-
-            if (attributeTypeOptional.isPresent()) {
-              AttributeType attributeType = attributeTypeOptional.get();
-
-              if (attributeType.getUnitType() != null) {
-                if ((attribute.getUnit() == null)
-                    || (attribute.getUnit().getType() != attributeType.getUnitType())) {
-                  hibernateConstraintValidatorContext
-                      .addMessageParameter(
-                          "unit", (attribute.getUnit() != null) ? attribute.getUnit().code() : "")
-                      .addMessageParameter("attributeType", attribute.getType())
-                      .buildConstraintViolationWithTemplate(
-                          "{digital.inception.party.constraints.ValidOrganization.invalidUnitForAttributeType.message}")
-                      .addPropertyNode("attributes")
-                      .addPropertyNode("unit")
-                      .inIterable()
-                      .addConstraintViolation();
-
-                  isValid = false;
-                }
+          switch (attributeType.getValueType()) {
+            case BOOLEAN:
+              if (attribute.getBooleanValue() == null) {
+                hibernateConstraintValidatorContext
+                    .addMessageParameter("attributeType", attribute.getType())
+                    .buildConstraintViolationWithTemplate(
+                        "{digital.inception.party.constraints.ValidOrganization.invalidAttributeWithNullBooleanValue.message}")
+                    .addPropertyNode("attributes")
+                    .addPropertyNode("booleanValue")
+                    .addConstraintViolation();
+
+                isValid = false;
               }
 
-              switch (attributeType.getValueType()) {
-                case BOOLEAN:
-                  if (attribute.getBooleanValue() == null) {
-                    hibernateConstraintValidatorContext
-                        .addMessageParameter("attributeType", attribute.getType())
-                        .buildConstraintViolationWithTemplate(
-                            "{digital.inception.party.constraints.ValidOrganization.invalidAttributeWithNullBooleanValue.message}")
-                        .addPropertyNode("attributes")
-                        .addPropertyNode("booleanValue")
-                        .addConstraintViolation();
+              break;
+            case DATE:
+              if (attribute.getDateValue() == null) {
+                hibernateConstraintValidatorContext
+                    .addMessageParameter("attributeType", attribute.getType())
+                    .buildConstraintViolationWithTemplate(
+                        "{digital.inception.party.constraints.ValidOrganization.invalidAttributeWithNullDateValue.message}")
+                    .addPropertyNode("attributes")
+                    .addPropertyNode("dateValue")
+                    .addConstraintViolation();
 
-                    isValid = false;
-                  }
+                isValid = false;
+              }
 
-                  break;
-                case DATE:
-                  if (attribute.getDateValue() == null) {
-                    hibernateConstraintValidatorContext
-                        .addMessageParameter("attributeType", attribute.getType())
-                        .buildConstraintViolationWithTemplate(
-                            "{digital.inception.party.constraints.ValidOrganization.invalidAttributeWithNullDateValue.message}")
-                        .addPropertyNode("attributes")
-                        .addPropertyNode("dateValue")
-                        .addConstraintViolation();
+              break;
+            case DECIMAL:
+              if (attribute.getDecimalValue() == null) {
+                hibernateConstraintValidatorContext
+                    .addMessageParameter("attributeType", attribute.getType())
+                    .buildConstraintViolationWithTemplate(
+                        "{digital.inception.party.constraints.ValidOrganization.invalidAttributeWithNullDecimalValue.message}")
+                    .addPropertyNode("attributes")
+                    .addPropertyNode("decimalValue")
+                    .addConstraintViolation();
 
-                    isValid = false;
-                  }
+                isValid = false;
+              }
 
-                  break;
-                case DECIMAL:
-                  if (attribute.getDecimalValue() == null) {
-                    hibernateConstraintValidatorContext
-                        .addMessageParameter("attributeType", attribute.getType())
-                        .buildConstraintViolationWithTemplate(
-                            "{digital.inception.party.constraints.ValidOrganization.invalidAttributeWithNullDecimalValue.message}")
-                        .addPropertyNode("attributes")
-                        .addPropertyNode("decimalValue")
-                        .addConstraintViolation();
+              break;
+            case DOUBLE:
+              if (attribute.getDoubleValue() == null) {
+                hibernateConstraintValidatorContext
+                    .addMessageParameter("attributeType", attribute.getType())
+                    .buildConstraintViolationWithTemplate(
+                        "{digital.inception.party.constraints.ValidOrganization.invalidAttributeWithNullDoubleValue.message}")
+                    .addPropertyNode("attributes")
+                    .addPropertyNode("doubleValue")
+                    .addConstraintViolation();
 
-                    isValid = false;
-                  }
+                isValid = false;
+              }
 
-                  break;
-                case DOUBLE:
-                  if (attribute.getDoubleValue() == null) {
+              break;
+            case INTEGER:
+              if (attribute.getIntegerValue() == null) {
+                hibernateConstraintValidatorContext
+                    .addMessageParameter("attributeType", attribute.getType())
+                    .buildConstraintViolationWithTemplate(
+                        "{digital.inception.party.constraints.ValidOrganization.invalidAttributeWithNullIntegerValue.message}")
+                    .addPropertyNode("attributes")
+                    .addPropertyNode("integerValue")
+                    .addConstraintViolation();
+
+                isValid = false;
+              }
+
+              break;
+            case STRING:
+              if (attribute.getStringValue() == null) {
+                hibernateConstraintValidatorContext
+                    .addMessageParameter("attributeType", attribute.getType())
+                    .buildConstraintViolationWithTemplate(
+                        "{digital.inception.party.constraints.ValidOrganization.invalidAttributeWithNullStringValue.message}")
+                    .addPropertyNode("attributes")
+                    .addPropertyNode("stringValue")
+                    .addConstraintViolation();
+
+                isValid = false;
+              } else {
+                if (StringUtils.hasText(attributeType.getPattern())) {
+                  Pattern pattern = attributeType.getCompiledPattern();
+
+                  Matcher matcher = pattern.matcher(attribute.getStringValue());
+
+                  if (!matcher.matches()) {
                     hibernateConstraintValidatorContext
                         .addMessageParameter("attributeType", attribute.getType())
+                        .addMessageParameter("stringValue", attribute.getStringValue())
                         .buildConstraintViolationWithTemplate(
-                            "{digital.inception.party.constraints.ValidOrganization.invalidAttributeWithNullDoubleValue.message}")
+                            "{digital.inception.party.constraints.ValidOrganization.invalidAttributeWithStringValue.message}")
                         .addPropertyNode("attributes")
-                        .addPropertyNode("doubleValue")
+                        .addPropertyNode("stringValue")
                         .addConstraintViolation();
 
                     isValid = false;
                   }
+                }
+              }
 
-                  break;
-                case INTEGER:
-                  if (attribute.getIntegerValue() == null) {
+              break;
+          }
+        } else {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("attributeType", attribute.getType())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidOrganization.invalidAttributeType.message}")
+              .addPropertyNode("attributes")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
+
+          isValid = false;
+        }
+      }
+    }
+
+    return isValid;
+  }
+
+  private boolean validateContactMechanisms(
+      Organization organization,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    for (ContactMechanism contactMechanism : organization.getContactMechanisms()) {
+      if (StringUtils.hasText(contactMechanism.getType())) {
+        Optional<ContactMechanismType> contactMechanismTypeOptional =
+            validationPlan.getContactMechanismType(contactMechanism.getType());
+
+        if (contactMechanismTypeOptional.isPresent()) {
+          ContactMechanismType contactMechanismType = contactMechanismTypeOptional.get();
+
+          if (StringUtils.hasText(contactMechanism.getRole())) {
+            Optional<ContactMechanismRole> contactMechanismRoleOptional =
+                validationPlan.getContactMechanismRole(
+                    organization.getType().code(),
+                    contactMechanism.getType(),
+                    contactMechanism.getRole());
+
+            if (contactMechanismRoleOptional.isPresent()) {
+              ContactMechanismRole contactMechanismRole = contactMechanismRoleOptional.get();
+
+              /*
+               * The pattern specified for a contact mechanism role takes priority over the
+               * pattern specified for a contact mechanism type.
+               */
+              if (StringUtils.hasText(contactMechanism.getValue())) {
+                if (StringUtils.hasText(contactMechanismRole.getPattern())) {
+                  Pattern pattern = contactMechanismRole.getCompiledPattern();
+
+                  Matcher matcher = pattern.matcher(contactMechanism.getValue());
+
+                  if (!matcher.matches()) {
                     hibernateConstraintValidatorContext
-                        .addMessageParameter("attributeType", attribute.getType())
+                        .addMessageParameter("contactMechanismType", contactMechanism.getType())
+                        .addMessageParameter("contactMechanismRole", contactMechanism.getRole())
+                        .addMessageParameter("contactMechanismValue", contactMechanism.getValue())
                         .buildConstraintViolationWithTemplate(
-                            "{digital.inception.party.constraints.ValidOrganization.invalidAttributeWithNullIntegerValue.message}")
-                        .addPropertyNode("attributes")
-                        .addPropertyNode("integerValue")
+                            "{digital.inception.party.constraints.ValidOrganization.invalidContactMechanism.message}")
+                        .addPropertyNode("contactMechanisms")
+                        .addPropertyNode("value")
                         .addConstraintViolation();
 
                     isValid = false;
                   }
+                } else if (StringUtils.hasText(contactMechanismType.getPattern())) {
+
+                  Pattern pattern = contactMechanismType.getCompiledPattern();
 
-                  break;
-                case STRING:
-                  if (attribute.getStringValue() == null) {
+                  Matcher matcher = pattern.matcher(contactMechanism.getValue());
+
+                  if (!matcher.matches()) {
                     hibernateConstraintValidatorContext
-                        .addMessageParameter("attributeType", attribute.getType())
+                        .addMessageParameter("contactMechanismType", contactMechanism.getType())
+                        .addMessageParameter("contactMechanismRole", contactMechanism.getRole())
+                        .addMessageParameter("contactMechanismValue", contactMechanism.getValue())
                         .buildConstraintViolationWithTemplate(
-                            "{digital.inception.party.constraints.ValidOrganization.invalidAttributeWithNullStringValue.message}")
-                        .addPropertyNode("attributes")
-                        .addPropertyNode("stringValue")
+                            "{digital.inception.party.constraints.ValidOrganization.invalidContactMechanism.message}")
+                        .addPropertyNode("contactMechanisms")
+                        .addPropertyNode("value")
                         .addConstraintViolation();
 
                     isValid = false;
-                  } else {
-                    if (StringUtils.hasText(attributeType.getPattern())) {
-                      Pattern pattern = attributeType.getCompiledPattern();
-
-                      Matcher matcher = pattern.matcher(attribute.getStringValue());
-
-                      if (!matcher.matches()) {
-                        hibernateConstraintValidatorContext
-                            .addMessageParameter("attributeType", attribute.getType())
-                            .addMessageParameter("stringValue", attribute.getStringValue())
-                            .buildConstraintViolationWithTemplate(
-                                "{digital.inception.party.constraints.ValidOrganization.invalidAttributeWithStringValue.message}")
-                            .addPropertyNode("attributes")
-                            .addPropertyNode("stringValue")
-                            .addConstraintViolation();
-
-                        isValid = false;
-                      }
-                    }
                   }
-
-                  break;
+                }
               }
             } else {
               hibernateConstraintValidatorContext
-                  .addMessageParameter("attributeType", attribute.getType())
+                  .addMessageParameter("contactMechanismRole", contactMechanism.getRole())
+                  .addMessageParameter("contactMechanismType", contactMechanism.getType())
+                  .addMessageParameter("partyType", organization.getType().code())
                   .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidOrganization.invalidAttributeType.message}")
-                  .addPropertyNode("attributes")
-                  .addPropertyNode("type")
+                      "{digital.inception.party.constraints.ValidOrganization.invalidContactMechanismRoleForPartyType.message}")
+                  .addPropertyNode("contactMechanisms")
+                  .addPropertyNode("role")
                   .inIterable()
                   .addConstraintViolation();
 
               isValid = false;
             }
           }
-        }
 
-        // Validate contact mechanisms
-        for (ContactMechanism contactMechanism : organization.getContactMechanisms()) {
-          if (StringUtils.hasText(contactMechanism.getType())) {
-            Optional<ContactMechanismType> contactMechanismTypeOptional =
-                getPartyReferenceService()
-                    .getContactMechanismType(
-                        organization.getTenantId(), contactMechanism.getType());
-
-            if (contactMechanismTypeOptional.isPresent()) {
-              ContactMechanismType contactMechanismType = contactMechanismTypeOptional.get();
-
-              if (StringUtils.hasText(contactMechanism.getRole())) {
-                Optional<ContactMechanismRole> contactMechanismRoleOptional =
-                    getPartyReferenceService()
-                        .getContactMechanismRole(
-                            organization.getTenantId(),
-                            organization.getType().code(),
-                            contactMechanism.getType(),
-                            contactMechanism.getRole());
-
-                if (contactMechanismRoleOptional.isPresent()) {
-                  ContactMechanismRole contactMechanismRole = contactMechanismRoleOptional.get();
-
-                  /*
-                   * The pattern specified for a contact mechanism role takes priority over the
-                   * pattern specified for a contact mechanism type.
-                   */
-                  if (StringUtils.hasText(contactMechanism.getValue())) {
-                    if (StringUtils.hasText(contactMechanismRole.getPattern())) {
-                      Pattern pattern = contactMechanismRole.getCompiledPattern();
-
-                      Matcher matcher = pattern.matcher(contactMechanism.getValue());
-
-                      if (!matcher.matches()) {
-                        hibernateConstraintValidatorContext
-                            .addMessageParameter("contactMechanismType", contactMechanism.getType())
-                            .addMessageParameter("contactMechanismRole", contactMechanism.getRole())
-                            .addMessageParameter(
-                                "contactMechanismValue", contactMechanism.getValue())
-                            .buildConstraintViolationWithTemplate(
-                                "{digital.inception.party.constraints.ValidOrganization.invalidContactMechanism.message}")
-                            .addPropertyNode("contactMechanisms")
-                            .addPropertyNode("value")
-                            .addConstraintViolation();
-
-                        isValid = false;
-                      }
-                    } else if (StringUtils.hasText(contactMechanismType.getPattern())) {
-
-                      Pattern pattern = contactMechanismType.getCompiledPattern();
-
-                      Matcher matcher = pattern.matcher(contactMechanism.getValue());
-
-                      if (!matcher.matches()) {
-                        hibernateConstraintValidatorContext
-                            .addMessageParameter("contactMechanismType", contactMechanism.getType())
-                            .addMessageParameter("contactMechanismRole", contactMechanism.getRole())
-                            .addMessageParameter(
-                                "contactMechanismValue", contactMechanism.getValue())
-                            .buildConstraintViolationWithTemplate(
-                                "{digital.inception.party.constraints.ValidOrganization.invalidContactMechanism.message}")
-                            .addPropertyNode("contactMechanisms")
-                            .addPropertyNode("value")
-                            .addConstraintViolation();
-
-                        isValid = false;
-                      }
-                    }
-                  }
-                } else {
-                  hibernateConstraintValidatorContext
-                      .addMessageParameter("contactMechanismRole", contactMechanism.getRole())
-                      .addMessageParameter("contactMechanismType", contactMechanism.getType())
-                      .addMessageParameter("partyType", organization.getType().code())
-                      .buildConstraintViolationWithTemplate(
-                          "{digital.inception.party.constraints.ValidOrganization.invalidContactMechanismRoleForPartyType.message}")
-                      .addPropertyNode("contactMechanisms")
-                      .addPropertyNode("role")
-                      .inIterable()
-                      .addConstraintViolation();
-
-                  isValid = false;
-                }
-              }
-
-              for (String contactMechanismPurpose : contactMechanism.getPurposes()) {
-                if (!getPartyReferenceService()
-                    .isValidContactMechanismPurpose(
-                        organization.getTenantId(),
-                        organization.getType().code(),
-                        contactMechanism.getType(),
-                        contactMechanismPurpose)) {
-                  hibernateConstraintValidatorContext
-                      .addMessageParameter("contactMechanismPurpose", contactMechanismPurpose)
-                      .addMessageParameter("contactMechanismType", contactMechanism.getType())
-                      .addMessageParameter("partyType", organization.getType().code())
-                      .buildConstraintViolationWithTemplate(
-                          "{digital.inception.party.constraints.ValidOrganization.invalidContactMechanismPurposeForPartyType.message}")
-                      .addPropertyNode("contactMechanisms")
-                      .addPropertyNode("purpose")
-                      .inIterable()
-                      .addConstraintViolation();
-
-                  isValid = false;
-                }
-              }
-            } else {
+          for (String contactMechanismPurpose : contactMechanism.getPurposes()) {
+            if (!validationPlan.isValidContactMechanismPurpose(
+                organization.getType().code(),
+                contactMechanism.getType(),
+                contactMechanismPurpose)) {
               hibernateConstraintValidatorContext
+                  .addMessageParameter("contactMechanismPurpose", contactMechanismPurpose)
                   .addMessageParameter("contactMechanismType", contactMechanism.getType())
+                  .addMessageParameter("partyType", organization.getType().code())
                   .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidOrganization.invalidContactMechanismType.message}")
+                      "{digital.inception.party.constraints.ValidOrganization.invalidContactMechanismPurposeForPartyType.message}")
                   .addPropertyNode("contactMechanisms")
-                  .addPropertyNode("type")
+                  .addPropertyNode("purpose")
                   .inIterable()
                   .addConstraintViolation();
 
               isValid = false;
             }
           }
+        } else {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("contactMechanismType", contactMechanism.getType())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidOrganization.invalidContactMechanismType.message}")
+              .addPropertyNode("contactMechanisms")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
+
+          isValid = false;
         }
+      }
+    }
 
-        // Validate countries of tax residence
-        for (String countryOfTaxResidence : organization.getCountriesOfTaxResidence()) {
-          if (!getReferenceService().isValidCountry(countryOfTaxResidence)) {
-            hibernateConstraintValidatorContext
-                .addMessageParameter("countryOfTaxResidence", countryOfTaxResidence)
-                .buildConstraintViolationWithTemplate(
-                    "{digital.inception.party.constraints.ValidOrganization.invalidCountryOfTaxResidence.message}")
-                .addPropertyNode("countriesOfTaxResidence")
-                .addConstraintViolation();
+    return isValid;
+  }
 
-            isValid = false;
-          }
-        }
+  private boolean validateCountriesOfTaxResidence(
+      Organization organization,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-        // Validate external references
-        for (ExternalReference externalReference : organization.getExternalReferences()) {
-          if (!getPartyReferenceService()
-              .isValidExternalReference(
-                  organization.getTenantId(),
-                  organization.getType().code(),
-                  externalReference.getType(),
-                  externalReference.getValue())) {
-            hibernateConstraintValidatorContext
-                .addMessageParameter("externalReferenceType", externalReference.getType())
-                .addMessageParameter("externalReferenceValue", externalReference.getValue())
-                .buildConstraintViolationWithTemplate(
-                    "{digital.inception.party.constraints.ValidOrganization.invalidExternalReference.message}")
-                .addPropertyNode("externalReferences")
-                .addConstraintViolation();
+    for (String countryOfTaxResidence : organization.getCountriesOfTaxResidence()) {
+      if (!validationPlan.isValidCountry(countryOfTaxResidence)) {
+        hibernateConstraintValidatorContext
+            .addMessageParameter("countryOfTaxResidence", countryOfTaxResidence)
+            .buildConstraintViolationWithTemplate(
+                "{digital.inception.party.constraints.ValidOrganization.invalidCountryOfTaxResidence.message}")
+            .addPropertyNode("countriesOfTaxResidence")
+            .addConstraintViolation();
 
-            isValid = false;
-          }
-        }
+        isValid = false;
+      }
+    }
 
-        // Validate identity documents
-        for (IdentityDocument identityDocument : organization.getIdentityDocuments()) {
+    return isValid;
+  }
 
-          if (StringUtils.hasText(identityDocument.getCountryOfIssue())) {
-            if (!getReferenceService().isValidCountry(identityDocument.getCountryOfIssue())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("countryOfIssue", identityDocument.getCountryOfIssue())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidOrganization.invalidIdentityDocumentCountryOfIssue.message}")
-                  .addPropertyNode("identityDocuments")
-                  .addPropertyNode("countryOfIssue")
-                  .inIterable()
-                  .addConstraintViolation();
+  private boolean validateExternalReferences(
+      Organization organization,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-              isValid = false;
-            }
-          }
+    for (ExternalReference externalReference : organization.getExternalReferences()) {
+      if (!validationPlan.isValidExternalReference(
+          organization.getType().code(),
+          externalReference.getType(),
+          externalReference.getValue())) {
+        hibernateConstraintValidatorContext
+            .addMessageParameter("externalReferenceType", externalReference.getType())
+            .addMessageParameter("externalReferenceValue", externalReference.getValue())
+            .buildConstraintViolationWithTemplate(
+                "{digital.inception.party.constraints.ValidOrganization.invalidExternalReference.message}")
+            .addPropertyNode("externalReferences")
+            .addConstraintViolation();
+
+        isValid = false;
+      }
+    }
 
-          if (StringUtils.hasText(identityDocument.getType())) {
-            if (!getPartyReferenceService()
-                .isValidIdentityDocumentType(
-                    organization.getTenantId(),
-                    organization.getType().code(),
-                    identityDocument.getType())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("identityDocumentType", identityDocument.getType())
-                  .addMessageParameter("partyType", organization.getType().code())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidOrganization.invalidIdentityDocumentTypeForPartyType.message}")
-                  .addPropertyNode("identityDocuments")
-                  .addPropertyNode("type")
-                  .inIterable()
-                  .addConstraintViolation();
+    return isValid;
+  }
 
-              isValid = false;
-            }
-          }
+  private boolean validateIdentityDocuments(
+      Organization organization,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-          if (StringUtils.hasText(identityDocument.getNumber())) {
-            if (!getPartyReferenceService()
-                .isValidIdentityDocument(
-                    organization.getTenantId(),
-                    organization.getType().code(),
-                    identityDocument.getType(),
-                    identityDocument.getNumber())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("identityDocumentType", identityDocument.getType())
-                  .addMessageParameter("identityDocumentNumber", identityDocument.getNumber())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidOrganization.invalidIdentityDocument.message}")
-                  .addPropertyNode("identityDocuments")
-                  .addConstraintViolation();
+    for (IdentityDocument identityDocument : organization.getIdentityDocuments()) {
 
-              isValid = false;
-            }
-          }
+      if (StringUtils.hasText(identityDocument.getCountryOfIssue())) {
+        if (!validationPlan.isValidCountry(identityDocument.getCountryOfIssue())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("countryOfIssue", identityDocument.getCountryOfIssue())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidOrganization.invalidIdentityDocumentCountryOfIssue.message}")
+              .addPropertyNode("identityDocuments")
+              .addPropertyNode("countryOfIssue")
+              .inIterable()
+              .addConstraintViolation();
+
+          isValid = false;
         }
+      }
 
-        // Validate industry allocations
-        for (IndustryAllocation industryAllocation : organization.getIndustryAllocations()) {
-          if (StringUtils.hasText(industryAllocation.getSystem()) && StringUtils.hasText(industryAllocation.getIndustry())) {
-            if (!getPartyReferenceService()
-                .isValidIndustryClassification(organization.getTenantId(), industryAllocation.getSystem(), industryAllocation.getIndustry())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter(
-                      "industryClassificationSystem", industryAllocation.getSystem())
-                  .addMessageParameter("industryClassification", industryAllocation.getIndustry())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidOrganization.invalidIndustryAllocation.message}")
-                  .addPropertyNode("industryAllocations")
-                  .addPropertyNode("industry")
-                  .inIterable()
-                  .addConstraintViolation();
+      if (StringUtils.hasText(identityDocument.getType())) {
+        if (!validationPlan.isValidIdentityDocumentType(
+            organization.getType().code(), identityDocument.getType())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("identityDocumentType", identityDocument.getType())
+              .addMessageParameter("partyType", organization.getType().code())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidOrganization.invalidIdentityDocumentTypeForPartyType.message}")
+              .addPropertyNode("identityDocuments")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
 
-              isValid = false;
-            }
-          }
+          isValid = false;
         }
+      }
 
-        // Validate locks
-        for (Lock lock : organization.getLocks()) {
-          if (StringUtils.hasText(lock.getType())) {
-            if (!getPartyReferenceService()
-                .isValidLockType(
-                    organization.getTenantId(), organization.getType().code(), lock.getType())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("lockType", lock.getType())
-                  .addMessageParameter("partyType", organization.getType().code())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidOrganization.invalidLockTypeForPartyType.message}")
-                  .addPropertyNode("locks")
-                  .addPropertyNode("type")
-                  .inIterable()
-                  .addConstraintViolation();
+      if (StringUtils.hasText(identityDocument.getNumber())) {
+        if (!validationPlan.isValidIdentityDocument(
+            organization.getType().code(),
+            identityDocument.getType(),
+            identityDocument.getNumber())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("identityDocumentType", identityDocument.getType())
+              .addMessageParameter("identityDocumentNumber", identityDocument.getNumber())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidOrganization.invalidIdentityDocument.message}")
+              .addPropertyNode("identityDocuments")
+              .addConstraintViolation();
 
-              isValid = false;
-            }
-          }
+          isValid = false;
         }
+      }
+    }
 
-        // Validate physical addresses
-        for (PhysicalAddress physicalAddress : organization.getPhysicalAddresses()) {
-          if (!validatePhysicalAddress(
-              organization.getTenantId(),
-              organization.getType().code(),
-              physicalAddress,
-              hibernateConstraintValidatorContext)) {
-            isValid = false;
-          }
+    return isValid;
+  }
+
+  private boolean validateIndustryAllocations(
+      Organization organization,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    for (IndustryAllocation industryAllocation : organization.getIndustryAllocations()) {
+      if (StringUtils.hasText(industryAllocation.getSystem())
+          && StringUtils.hasText(industryAllocation.getIndustry())) {
+        if (!validationPlan.isValidIndustryClassification(
+            industryAllocation.getSystem(), industryAllocation.getIndustry())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("industryClassificationSystem", industryAllocation.getSystem())
+              .addMessageParameter("industryClassification", industryAllocation.getIndustry())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidOrganization.invalidIndustryAllocation.message}")
+              .addPropertyNode("industryAllocations")
+              .addPropertyNode("industry")
+              .inIterable()
+              .addConstraintViolation();
+
+          isValid = false;
         }
+      }
+    }
 
-        // Validate preferences
-        for (Preference preference : organization.getPreferences()) {
-          if (StringUtils.hasText(preference.getType())) {
-            Optional<PreferenceType> preferenceTypeOptional =
-                getPartyReferenceService()
-                    .getPreferenceType(
-                        organization.getTenantId(),
-                        organization.getType().code(),
-                        preference.getType());
-
-            if (preferenceTypeOptional.isPresent()) {
-              PreferenceType preferenceType = preferenceTypeOptional.get();
-
-              if (StringUtils.hasText(preferenceType.getPattern())) {
-                Pattern pattern = preferenceType.getCompiledPattern();
-
-                Matcher matcher = pattern.matcher(preference.getValue());
-
-                if (!matcher.matches()) {
-                  hibernateConstraintValidatorContext
-                      .addMessageParameter("preferenceType", preference.getType())
-                      .addMessageParameter("preferenceValue", preference.getValue())
-                      .buildConstraintViolationWithTemplate(
-                          "{digital.inception.party.constraints.ValidOrganization.invalidPreferenceValue.message}")
-                      .addPropertyNode("preferences")
-                      .addPropertyNode("value")
-                      .addConstraintViolation();
-
-                  isValid = false;
-                }
-              }
-            } else {
+    return isValid;
+  }
+
+  private boolean validateLocks(
+      Organization organization,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    for (Lock lock : organization.getLocks()) {
+      if (StringUtils.hasText(lock.getType())) {
+        if (!validationPlan.isValidLockType(organization.getType().code(), lock.getType())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("lockType", lock.getType())
+              .addMessageParameter("partyType", organization.getType().code())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidOrganization.invalidLockTypeForPartyType.message}")
+              .addPropertyNode("locks")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
+
+          isValid = false;
+        }
+      }
+    }
+
+    return isValid;
+  }
+
+  private boolean validatePhysicalAddresses(
+      Organization organization,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    for (PhysicalAddress physicalAddress : organization.getPhysicalAddresses()) {
+      if (!validatePhysicalAddress(
+          validationPlan,
+          organization.getType().code(),
+          physicalAddress,
+          hibernateConstraintValidatorContext)) {
+        isValid = false;
+      }
+    }
+
+    return isValid;
+  }
+
+  private boolean validatePreferences(
+      Organization organization,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    for (Preference preference : organization.getPreferences()) {
+      if (StringUtils.hasText(preference.getType())) {
+        Optional<PreferenceType> preferenceTypeOptional =
+            validationPlan.getPreferenceType(organization.getType().code(), preference.getType());
+
+        if (preferenceTypeOptional.isPresent()) {
+          PreferenceType preferenceType = preferenceTypeOptional.get();
+
+          if (StringUtils.hasText(preferenceType.getPattern())) {
+            Pattern pattern = preferenceType.getCompiledPattern();
+
+            Matcher matcher = pattern.matcher(preference.getValue());
+
+            if (!matcher.matches()) {
               hibernateConstraintValidatorContext
                   .addMessageParameter("preferenceType", preference.getType())
-                  .addMessageParameter("partyType", organization.getType().code())
+                  .addMessageParameter("preferenceValue", preference.getValue())
                   .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidOrganization.invalidPreferenceTypeForPartyType.message}")
+                      "{digital.inception.party.constraints.ValidOrganization.invalidPreferenceValue.message}")
                   .addPropertyNode("preferences")
-                  .addPropertyNode("type")
-                  .inIterable()
+                  .addPropertyNode("value")
                   .addConstraintViolation();
 
               isValid = false;
             }
           }
+        } else {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("preferenceType", preference.getType())
+              .addMessageParameter("partyType", organization.getType().code())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidOrganization.invalidPreferenceTypeForPartyType.message}")
+              .addPropertyNode("preferences")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
+
+          isValid = false;
         }
+      }
+    }
 
-        // Validate roles
-        for (Role role : organization.getRoles()) {
-          if (StringUtils.hasText(role.getType())) {
-            if (!getPartyReferenceService()
-                .isValidRoleType(
-                    organization.getTenantId(), organization.getType().code(), role.getType())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("roleType", role.getType())
-                  .addMessageParameter("partyType", organization.getType().code())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidOrganization.invalidRoleTypeForPartyType.message}")
-                  .addPropertyNode("roles")
-                  .addPropertyNode("type")
-                  .inIterable()
-                  .addConstraintViolation();
+    return isValid;
+  }
 
-              isValid = false;
-            } else {
-              if (!validateRoleTypeAttributeTypeConstraintsForOrganizationWithRole(
-                  organization, role.getType(), hibernateConstraintValidatorContext)) {
-                isValid = false;
-              }
+  private boolean validateRoles(
+      Organization organization,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-              if (!validateRoleTypePreferenceTypeConstraintsForOrganizationWithRole(
-                  organization, role.getType(), hibernateConstraintValidatorContext)) {
-                isValid = false;
-              }
-            }
+    for (Role role : organization.getRoles()) {
+      if (StringUtils.hasText(role.getType())) {
+        if (!validationPlan.isValidRoleType(organization.getType().code(), role.getType())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("roleType", role.getType())
+              .addMessageParameter("partyType", organization.getType().code())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidOrganization.invalidRoleTypeForPartyType.message}")
+              .addPropertyNode("roles")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
+
+          isValid = false;
+        } else {
+          if (!validateRoleTypeAttributeTypeConstraintsForOrganizationWithRole(
+              organization, validationPlan, role.getType(), hibernateConstraintValidatorContext)) {
+            isValid = false;
+          }
+
+          if (!validateRoleTypePreferenceTypeConstraintsForOrganizationWithRole(
+              organization, validationPlan, role.getType(), hibernateConstraintValidatorContext)) {
+            isValid = false;
           }
         }
+      }
+    }
 
-        // Validate segment allocations
-        for (SegmentAllocation segmentAllocation : organization.getSegmentAllocations()) {
-          if (StringUtils.hasText(segmentAllocation.getSegment())) {
-            if (!getPartyReferenceService()
-                .isValidSegment(organization.getTenantId(), segmentAllocation.getSegment())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("segment", segmentAllocation.getSegment())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidOrganization.invalidSegmentForSegmentAllocation.message}")
-                  .addPropertyNode("segmentAllocations")
-                  .addPropertyNode("segment")
-                  .inIterable()
-                  .addConstraintViolation();
+    return isValid;
+  }
 
-              isValid = false;
-            }
-          }
+  private boolean validateSegmentAllocations(
+      Organization organization,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    for (SegmentAllocation segmentAllocation : organization.getSegmentAllocations()) {
+      if (StringUtils.hasText(segmentAllocation.getSegment())) {
+        if (!validationPlan.isValidSegment(segmentAllocation.getSegment())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("segment", segmentAllocation.getSegment())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidOrganization.invalidSegmentForSegmentAllocation.message}")
+              .addPropertyNode("segmentAllocations")
+              .addPropertyNode("segment")
+              .inIterable()
+              .addConstraintViolation();
+
+          isValid = false;
         }
+      }
+    }
 
-        // Validate statuses
-        for (Status status : organization.getStatuses()) {
-          if (StringUtils.hasText(status.getType())) {
-            if (!getPartyReferenceService()
-                .isValidStatusType(
-                    organization.getTenantId(), organization.getType().code(), status.getType())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("statusType", status.getType())
-                  .addMessageParameter("partyType", organization.getType().code())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidOrganization.invalidStatusTypeForPartyType.message}")
-                  .addPropertyNode("statuses")
-                  .addPropertyNode("type")
-                  .inIterable()
-                  .addConstraintViolation();
+    return isValid;
+  }
 
-              isValid = false;
-            }
-          }
+  private boolean validateStatuses(
+      Organization organization,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    for (Status status : organization.getStatuses()) {
+      if (StringUtils.hasText(status.getType())) {
+        if (!validationPlan.isValidStatusType(organization.getType().code(), status.getType())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("statusType", status.getType())
+              .addMessageParameter("partyType", organization.getType().code())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidOrganization.invalidStatusTypeForPartyType.message}")
+              .addPropertyNode("statuses")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
+
+          isValid = false;
         }
+      }
+    }
 
-        // Validate tax numbers
-        for (TaxNumber taxNumber : organization.getTaxNumbers()) {
-          if (StringUtils.hasText(taxNumber.getCountryOfIssue())) {
-            if (!getReferenceService().isValidCountry(taxNumber.getCountryOfIssue())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("countryOfIssue", taxNumber.getCountryOfIssue())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidOrganization.invalidTaxNumberCountryOfIssue.message}")
-                  .addPropertyNode("taxNumbers")
-                  .addPropertyNode("countryOfIssue")
-                  .inIterable()
-                  .addConstraintViolation();
+    return isValid;
+  }
 
-              isValid = false;
-            }
-          }
+  private boolean validateTaxNumbers(
+      Organization organization,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-          if (StringUtils.hasText(taxNumber.getType())) {
-            if (!getPartyReferenceService()
-                .isValidTaxNumberType(
-                    organization.getTenantId(),
-                    organization.getType().code(),
-                    taxNumber.getType())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("taxNumberType", taxNumber.getType())
-                  .addMessageParameter("partyType", organization.getType().code())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidOrganization.invalidTaxNumberTypeForPartyType.message}")
-                  .addPropertyNode("taxNumbers")
-                  .addPropertyNode("type")
-                  .inIterable()
-                  .addConstraintViolation();
+    for (TaxNumber taxNumber : organization.getTaxNumbers()) {
+      if (StringUtils.hasText(taxNumber.getCountryOfIssue())) {
+        if (!validationPlan.isValidCountry(taxNumber.getCountryOfIssue())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("countryOfIssue", taxNumber.getCountryOfIssue())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidOrganization.invalidTaxNumberCountryOfIssue.message}")
+              .addPropertyNode("taxNumbers")
+              .addPropertyNode("countryOfIssue")
+              .inIterable()
+              .addConstraintViolation();
 
-              isValid = false;
-            }
-          }
+          isValid = false;
+        }
+      }
 
-          if (StringUtils.hasText(taxNumber.getNumber())) {
-            if (!getPartyReferenceService()
-                .isValidTaxNumber(
-                    organization.getTenantId(),
-                    organization.getType().code(),
-                    taxNumber.getType(),
-                    taxNumber.getNumber())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("taxNumberType", taxNumber.getType())
-                  .addMessageParameter("taxNumberNumber", taxNumber.getNumber())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidOrganization.invalidTaxNumber.message}")
-                  .addPropertyNode("taxNumbers")
-                  .addConstraintViolation();
+      if (StringUtils.hasText(taxNumber.getType())) {
+        if (!validationPlan.isValidTaxNumberType(
+            organization.getType().code(), taxNumber.getType())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("taxNumberType", taxNumber.getType())
+              .addMessageParameter("partyType", organization.getType().code())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidOrganization.invalidTaxNumberTypeForPartyType.message}")
+              .addPropertyNode("taxNumbers")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
 
-              isValid = false;
-            }
-          }
+          isValid = false;
         }
-      } catch (Throwable e) {
-        throw new ValidationException("Failed to validate the organization", e);
       }
 
-      return isValid;
-    } else {
-      return true;
+      if (StringUtils.hasText(taxNumber.getNumber())) {
+        if (!validationPlan.isValidTaxNumber(
+            organization.getType().code(), taxNumber.getType(), taxNumber.getNumber())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("taxNumberType", taxNumber.getType())
+              .addMessageParameter("taxNumberNumber", taxNumber.getNumber())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidOrganization.invalidTaxNumber.message}")
+              .addPropertyNode("taxNumbers")
+              .addConstraintViolation();
+
+          isValid = false;
+        }
+      }
     }
+
+    return isValid;
   }
 
   private boolean validateRoleTypeAttributeTypeConstraintsForOrganizationWithRole(
       Organization organization,
+      PartyValidationPlan validationPlan,
       String roleType,
-      HibernateConstraintValidatorContext hibernateConstraintValidatorContext)
-      throws Exception {
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
     boolean isValid = true;
 
     for (RoleTypeAttributeTypeConstraint roleTypeAttributeTypeConstraint :
-        getPartyReferenceService().getRoleTypeAttributeTypeConstraints(roleType)) {
+        validationPlan.getRoleTypeAttributeTypeConstraints(roleType)) {
 
       if (roleTypeAttributeTypeConstraint.getType() == ConstraintType.MAX_SIZE) {
         Optional<Attribute> attributeOptional =
@@ -764,7 +872,7 @@ public class ValidOrganizationValidator extends PartyValidator
 
         if (attributeOptional.isPresent()) {
           if (!validateReferenceAttributeConstraint(
-              organization.getTenantId(),
+              validationPlan,
               roleTypeAttributeTypeConstraint.getValue(),
               attributeOptional.get(),
               hibernateConstraintValidatorContext)) {
@@ -925,8 +1033,8 @@ public class ValidOrganizationValidator extends PartyValidator
                     roleTypeAttributeTypeConstraint.getAttributeType());
 
             Optional<ValueType> valueTypeOptional =
-                getPartyReferenceService()
-                    .getAttributeTypeValueType(roleTypeAttributeTypeConstraint.getAttributeType());
+                validationPlan.getAttributeTypeValueType(
+                    roleTypeAttributeTypeConstraint.getAttributeType());
 
             if (attributeOptional.isEmpty()
                 || (valueTypeOptional.isPresent()
@@ -969,13 +1077,13 @@ public class ValidOrganizationValidator extends PartyValidator
 
   private boolean validateRoleTypePreferenceTypeConstraintsForOrganizationWithRole(
       Organization organization,
+      PartyValidationPlan validationPlan,
       String roleType,
-      HibernateConstraintValidatorContext hibernateConstraintValidatorContext)
-      throws Exception {
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
     boolean isValid = true;
 
     for (RoleTypePreferenceTypeConstraint roleTypePreferenceTypeConstraint :
-        getPartyReferenceService().getRoleTypePreferenceTypeConstraints(roleType)) {
+        validationPlan.getRoleTypePreferenceTypeConstraints(roleType)) {
 
       if (roleTypePreferenceTypeConstraint.getType() == ConstraintType.MAX_SIZE) {
         Optional<Preference> preferenceOptional =
@@ -1023,7 +1131,7 @@ public class ValidOrganizationValidator extends PartyValidator
 
         if (preferenceOptional.isPresent()) {
           if (!validateReferencePreferenceConstraint(
-              organization.getTenantId(),
+              validationPlan,
               roleTypePreferenceTypeConstraint.getValue(),
               preferenceOptional.get(),
               hibernateConstraintValidatorContext)) {
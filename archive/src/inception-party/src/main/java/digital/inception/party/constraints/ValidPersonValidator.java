@@ -31,6 +31,8 @@ import digital.inception.party.IdentityDocument;
 import digital.inception.party.LanguageProficiency;
 import digital.inception.party.Lock;
 import digital.inception.party.NextOfKin;
+import digital.inception.party.PartyType;
+import digital.inception.party.PartyValidationPlan;
 import digital.inception.party.Person;
 import digital.inception.party.PhysicalAddress;
 import digital.inception.party.Preference;
@@ -47,6 +49,7 @@ import digital.inception.party.Status;
 import digital.inception.party.TaxNumber;
 import digital.inception.party.ValueType;
 import digital.inception.reference.IReferenceService;
+import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -71,6 +74,64 @@ import org.springframework.util.StringUtils;
 public class ValidPersonValidator extends PartyValidator
     implements ConstraintValidator<ValidPerson, Person> {
 
+  /** The validation rules applied to a person. */
+  private final List<PartyValidationRule<Person>> validationRules =
+      List.of(
+          new PartyValidationRule<>(PartyType.PERSON, "attributes", this::validateAttributes),
+          new PartyValidationRule<>(PartyType.PERSON, "consents", this::validateConsents),
+          new PartyValidationRule<>(
+              PartyType.PERSON, "contactMechanisms", this::validateContactMechanisms),
+          new PartyValidationRule<>(
+              PartyType.PERSON, "countriesOfCitizenship", this::validateCountriesOfCitizenship),
+          new PartyValidationRule<>(
+              PartyType.PERSON, "countriesOfTaxResidence", this::validateCountriesOfTaxResidence),
+          new PartyValidationRule<>(
+              PartyType.PERSON, "countryOfBirth", this::validateCountryOfBirth),
+          new PartyValidationRule<>(
+              PartyType.PERSON, "countryOfResidence", this::validateCountryOfResidence),
+          new PartyValidationRule<>(PartyType.PERSON, "educations", this::validateEducations),
+          new PartyValidationRule<>(
+              PartyType.PERSON, "employmentStatus", this::validateEmploymentStatus),
+          new PartyValidationRule<>(
+              PartyType.PERSON, "employmentType", this::validateEmploymentType),
+          new PartyValidationRule<>(PartyType.PERSON, "employments", this::validateEmployments),
+          new PartyValidationRule<>(
+              PartyType.PERSON, "externalReferences", this::validateExternalReferences),
+          new PartyValidationRule<>(PartyType.PERSON, "gender", this::validateGender),
+          new PartyValidationRule<>(
+              PartyType.PERSON, "highestQualificationType", this::validateHighestQualificationType),
+          new PartyValidationRule<>(
+              PartyType.PERSON, "identityDocuments", this::validateIdentityDocuments),
+          new PartyValidationRule<>(PartyType.PERSON, "language", this::validateLanguage),
+          new PartyValidationRule<>(
+              PartyType.PERSON, "languageProficiencies", this::validateLanguageProficiencies),
+          new PartyValidationRule<>(PartyType.PERSON, "locks", this::validateLocks),
+          new PartyValidationRule<>(PartyType.PERSON, "maritalStatus", this::validateMaritalStatus),
+          new PartyValidationRule<>(PartyType.PERSON, "nextOfKin", this::validateNextOfKin),
+          new PartyValidationRule<>(PartyType.PERSON, "occupation", this::validateOccupation),
+          new PartyValidationRule<>(
+              PartyType.PERSON, "physicalAddresses", this::validatePhysicalAddresses),
+          new PartyValidationRule<>(PartyType.PERSON, "preferences", this::validatePreferences),
+          new PartyValidationRule<>(PartyType.PERSON, "race", this::validateRace),
+          new PartyValidationRule<>(
+              PartyType.PERSON, "residencyStatus", this::validateResidencyStatus),
+          new PartyValidationRule<>(
+              PartyType.PERSON, "residencePermits", this::validateResidencePermits),
+          new PartyValidationRule<>(
+              PartyType.PERSON, "residentialType", this::validateResidentialType),
+          new PartyValidationRule<>(PartyType.PERSON, "roles", this::validateRoles),
+          new PartyValidationRule<>(
+              PartyType.PERSON, "segmentAllocations", this::validateSegmentAllocations),
+          new PartyValidationRule<>(PartyType.PERSON, "skills", this::validateSkills),
+          new PartyValidationRule<>(
+              PartyType.PERSON, "sourcesOfFunds", this::validateSourcesOfFunds),
+          new PartyValidationRule<>(
+              PartyType.PERSON, "sourcesOfWealth", this::validateSourcesOfWealth),
+          new PartyValidationRule<>(PartyType.PERSON, "statuses", this::validateStatuses),
+          new PartyValidationRule<>(PartyType.PERSON, "taxNumbers", this::validateTaxNumbers),
+          new PartyValidationRule<>(PartyType.PERSON, "timeZone", this::validateTimeZone),
+          new PartyValidationRule<>(PartyType.PERSON, "title", this::validateTitle));
+
   /**
    * Constructs a new <b>ValidPersonValidator</b>.
    *
@@ -104,1110 +165,1346 @@ public class ValidPersonValidator extends PartyValidator
           constraintValidatorContext.unwrap(HibernateConstraintValidatorContext.class);
 
       try {
-        // Validate attributes
-        for (Attribute attribute : person.getAttributes()) {
-          boolean isReservedAttribute = false;
+        PartyValidationPlan validationPlan =
+            getPartyReferenceService().getValidationPlan(person.getTenantId());
+
+        for (PartyValidationRule<Person> validationRule : validationRules) {
+          if (!validationRule.validate(
+              person, validationPlan, hibernateConstraintValidatorContext)) {
+            isValid = false;
+          }
+        }
+      } catch (Throwable e) {
+        throw new ValidationException("Failed to validate the person", e);
+      }
+
+      return isValid;
+    } else {
+      return true;
+    }
+  }
+
+  private boolean validateAttributes(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    for (Attribute attribute : person.getAttributes()) {
+      boolean isReservedAttribute = false;
+
+      for (String reservedAttributeTypeCode : Attribute.RESERVED_ATTRIBUTE_TYPE_CODES) {
+        if (reservedAttributeTypeCode.equalsIgnoreCase(attribute.getType())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("attributeType", attribute.getType())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidPerson.invalidReservedAttributeType.message}")
+              .addPropertyNode("attributes")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
+
+          isReservedAttribute = true;
+          isValid = false;
+          break;
+        }
+      }
+
+      if (!isReservedAttribute) {
+        Optional<AttributeType> attributeTypeOptional =
+            validationPlan.getAttributeType(person.getType().code(), attribute.getType());
+
+        if (attributeTypeOptional.isPresent()) {
+          AttributeType attributeType = attributeTypeOptional.get();
 
-          for (String reservedAttributeTypeCode : Attribute.RESERVED_ATTRIBUTE_TYPE_CODES) {
-            if (reservedAttributeTypeCode.equalsIgnoreCase(attribute.getType())) {
+          if (attributeType.getUnitType() != null) {
+            if ((attribute.getUnit() == null)
+                || (attribute.getUnit().getType() != attributeType.getUnitType())) {
               hibernateConstraintValidatorContext
+                  .addMessageParameter(
+                      "unit", (attribute.getUnit() != null) ? attribute.getUnit().code() : "")
                   .addMessageParameter("attributeType", attribute.getType())
                   .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidReservedAttributeType.message}")
+                      "{digital.inception.party.constraints.ValidPerson.invalidUnitForAttributeType.message}")
                   .addPropertyNode("attributes")
-                  .addPropertyNode("type")
+                  .addPropertyNode("unit")
                   .inIterable()
                   .addConstraintViolation();
 
-              isReservedAttribute = true;
               isValid = false;
-              break;
             }
           }
 
-          if (!isReservedAttribute) {
-            Optional<AttributeType> attributeTypeOptional =
-                getPartyReferenceService()
-                    .getAttributeType(
-                        person.getTenantId(), person.getType().code(), attribute.getType());
-
-            if (attributeTypeOptional.isPresent()) {
-              AttributeType attributeType = attributeTypeOptional.get();
-
-              if (attributeType.getUnitType() != null) {
-                if ((attribute.getUnit() == null)
-                    || (attribute.getUnit().getType() != attributeType.getUnitType())) {
-                  hibernateConstraintValidatorContext
-                      .addMessageParameter(
-                          "unit", (attribute.getUnit() != null) ? attribute.getUnit().code() : "")
-                      .addMessageParameter("attributeType", attribute.getType())
-                      .buildConstraintViolationWithTemplate(
-                          "{digital.inception.party.constraints.ValidPerson.invalidUnitForAttributeType.message}")
-                      .addPropertyNode("attributes")
-                      .addPropertyNode("unit")
-                      .inIterable()
-                      .addConstraintViolation();
-
-                  isValid = false;
-                }
+          switch (attributeType.getValueType()) {
+            case BOOLEAN:
+              if (attribute.getBooleanValue() == null) {
+                hibernateConstraintValidatorContext
+                    .addMessageParameter("attributeType", attribute.getType())
+                    .buildConstraintViolationWithTemplate(
+                        "{digital.inception.party.constraints.ValidPerson.invalidAttributeWithNullBooleanValue.message}")
+                    .addPropertyNode("attributes")
+                    .addPropertyNode("booleanValue")
+                    .addConstraintViolation();
+
+                isValid = false;
               }
 
-              switch (attributeType.getValueType()) {
-                case BOOLEAN:
-                  if (attribute.getBooleanValue() == null) {
-                    hibernateConstraintValidatorContext
-                        .addMessageParameter("attributeType", attribute.getType())
-                        .buildConstraintViolationWithTemplate(
-                            "{digital.inception.party.constraints.ValidPerson.invalidAttributeWithNullBooleanValue.message}")
-                        .addPropertyNode("attributes")
-                        .addPropertyNode("booleanValue")
-                        .addConstraintViolation();
+              break;
+            case DATE:
+              if (attribute.getDateValue() == null) {
+                hibernateConstraintValidatorContext
+                    .addMessageParameter("attributeType", attribute.getType())
+                    .buildConstraintViolationWithTemplate(
+                        "{digital.inception.party.constraints.ValidPerson.invalidAttributeWithNullDateValue.message}")
+                    .addPropertyNode("attributes")
+                    .addPropertyNode("dateValue")
+                    .addConstraintViolation();
 
-                    isValid = false;
-                  }
+                isValid = false;
+              }
 
-                  break;
-                case DATE:
-                  if (attribute.getDateValue() == null) {
-                    hibernateConstraintValidatorContext
-                        .addMessageParameter("attributeType", attribute.getType())
-                        .buildConstraintViolationWithTemplate(
-                            "{digital.inception.party.constraints.ValidPerson.invalidAttributeWithNullDateValue.message}")
-                        .addPropertyNode("attributes")
-                        .addPropertyNode("dateValue")
-                        .addConstraintViolation();
+              break;
+            case DECIMAL:
+              if (attribute.getDecimalValue() == null) {
+                hibernateConstraintValidatorContext
+                    .addMessageParameter("attributeType", attribute.getType())
+                    .buildConstraintViolationWithTemplate(
+                        "{digital.inception.party.constraints.ValidPerson.invalidAttributeWithNullDecimalValue.message}")
+                    .addPropertyNode("attributes")
+                    .addPropertyNode("decimalValue")
+                    .addConstraintViolation();
 
-                    isValid = false;
-                  }
+                isValid = false;
+              }
 
-                  break;
-                case DECIMAL:
-                  if (attribute.getDecimalValue() == null) {
-                    hibernateConstraintValidatorContext
-                        .addMessageParameter("attributeType", attribute.getType())
-                        .buildConstraintViolationWithTemplate(
-                            "{digital.inception.party.constraints.ValidPerson.invalidAttributeWithNullDecimalValue.message}")
-                        .addPropertyNode("attributes")
-                        .addPropertyNode("decimalValue")
-                        .addConstraintViolation();
+              break;
+            case DOUBLE:
+              if (attribute.getDoubleValue() == null) {
+                hibernateConstraintValidatorContext
+                    .addMessageParameter("attributeType", attribute.getType())
+                    .buildConstraintViolationWithTemplate(
+                        "{digital.inception.party.constraints.ValidPerson.invalidAttributeWithNullDoubleValue.message}")
+                    .addPropertyNode("attributes")
+                    .addPropertyNode("doubleValue")
+                    .addConstraintViolation();
 
-                    isValid = false;
-                  }
+                isValid = false;
+              }
+
+              break;
+            case INTEGER:
+              if (attribute.getIntegerValue() == null) {
+                hibernateConstraintValidatorContext
+                    .addMessageParameter("attributeType", attribute.getType())
+                    .buildConstraintViolationWithTemplate(
+                        "{digital.inception.party.constraints.ValidPerson.invalidAttributeWithNullIntegerValue.message}")
+                    .addPropertyNode("attributes")
+                    .addPropertyNode("integerValue")
+                    .addConstraintViolation();
+
+                isValid = false;
+              }
+
+              break;
+            case STRING:
+              if (attribute.getStringValue() == null) {
+                hibernateConstraintValidatorContext
+                    .addMessageParameter("attributeType", attribute.getType())
+                    .buildConstraintViolationWithTemplate(
+                        "{digital.inception.party.constraints.ValidPerson.invalidAttributeWithNullStringValue.message}")
+                    .addPropertyNode("attributes")
+                    .addPropertyNode("stringValue")
+                    .addConstraintViolation();
+
+                isValid = false;
+              } else {
+                if (StringUtils.hasText(attributeType.getPattern())) {
+                  Pattern pattern = attributeType.getCompiledPattern();
 
-                  break;
-                case DOUBLE:
-                  if (attribute.getDoubleValue() == null) {
+                  Matcher matcher = pattern.matcher(attribute.getStringValue());
+
+                  if (!matcher.matches()) {
                     hibernateConstraintValidatorContext
                         .addMessageParameter("attributeType", attribute.getType())
+                        .addMessageParameter("stringValue", attribute.getStringValue())
                         .buildConstraintViolationWithTemplate(
-                            "{digital.inception.party.constraints.ValidPerson.invalidAttributeWithNullDoubleValue.message}")
+                            "{digital.inception.party.constraints.ValidPerson.invalidAttributeWithStringValue.message}")
                         .addPropertyNode("attributes")
-                        .addPropertyNode("doubleValue")
+                        .addPropertyNode("stringValue")
                         .addConstraintViolation();
 
                     isValid = false;
                   }
+                }
+              }
+
+              break;
+          }
+        } else {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("attributeType", attribute.getType())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidPerson.invalidAttributeType.message}")
+              .addPropertyNode("attributes")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
+
+          isValid = false;
+        }
+      }
+    }
+
+    return isValid;
+  }
+
+  private boolean validateConsents(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    for (Consent consent : person.getConsents()) {
+      if (StringUtils.hasText(consent.getType())) {
+        if (!validationPlan.isValidConsentType(consent.getType())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("consentType", consent.getType())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidPerson.invalidConsentType.message}")
+              .addPropertyNode("consents")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
+
+          isValid = false;
+        }
+      }
+    }
+
+    return isValid;
+  }
+
+  private boolean validateContactMechanisms(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    for (ContactMechanism contactMechanism : person.getContactMechanisms()) {
+      if (StringUtils.hasText(contactMechanism.getType())) {
+        Optional<ContactMechanismType> contactMechanismTypeOptional =
+            validationPlan.getContactMechanismType(contactMechanism.getType());
+
+        if (contactMechanismTypeOptional.isPresent()) {
+          ContactMechanismType contactMechanismType = contactMechanismTypeOptional.get();
+
+          if (StringUtils.hasText(contactMechanism.getRole())) {
+            Optional<ContactMechanismRole> contactMechanismRoleOptional =
+                validationPlan.getContactMechanismRole(
+                    person.getType().code(),
+                    contactMechanism.getType(),
+                    contactMechanism.getRole());
+
+            if (contactMechanismRoleOptional.isPresent()) {
+              ContactMechanismRole contactMechanismRole = contactMechanismRoleOptional.get();
+
+              /*
+               * The pattern specified for a contact mechanism role takes priority over the
+               * pattern specified for a contact mechanism type.
+               */
+              if (StringUtils.hasText(contactMechanism.getValue())) {
+                if (StringUtils.hasText(contactMechanismRole.getPattern())) {
+                  Pattern pattern = contactMechanismRole.getCompiledPattern();
+
+                  Matcher matcher = pattern.matcher(contactMechanism.getValue());
 
-                  break;
-                case INTEGER:
-                  if (attribute.getIntegerValue() == null) {
+                  if (!matcher.matches()) {
                     hibernateConstraintValidatorContext
-                        .addMessageParameter("attributeType", attribute.getType())
+                        .addMessageParameter("contactMechanismType", contactMechanism.getType())
+                        .addMessageParameter("contactMechanismRole", contactMechanism.getRole())
+                        .addMessageParameter("contactMechanismValue", contactMechanism.getValue())
                         .buildConstraintViolationWithTemplate(
-                            "{digital.inception.party.constraints.ValidPerson.invalidAttributeWithNullIntegerValue.message}")
-                        .addPropertyNode("attributes")
-                        .addPropertyNode("integerValue")
+                            "{digital.inception.party.constraints.ValidPerson.invalidContactMechanism.message}")
+                        .addPropertyNode("contactMechanisms")
+                        .addPropertyNode("value")
                         .addConstraintViolation();
 
                     isValid = false;
                   }
+                } else if (StringUtils.hasText(contactMechanismType.getPattern())) {
+
+                  Pattern pattern = contactMechanismType.getCompiledPattern();
+
+                  Matcher matcher = pattern.matcher(contactMechanism.getValue());
 
-                  break;
-                case STRING:
-                  if (attribute.getStringValue() == null) {
+                  if (!matcher.matches()) {
                     hibernateConstraintValidatorContext
-                        .addMessageParameter("attributeType", attribute.getType())
+                        .addMessageParameter("contactMechanismType", contactMechanism.getType())
+                        .addMessageParameter("contactMechanismRole", contactMechanism.getRole())
+                        .addMessageParameter("contactMechanismValue", contactMechanism.getValue())
                         .buildConstraintViolationWithTemplate(
-                            "{digital.inception.party.constraints.ValidPerson.invalidAttributeWithNullStringValue.message}")
-                        .addPropertyNode("attributes")
-                        .addPropertyNode("stringValue")
+                            "{digital.inception.party.constraints.ValidPerson.invalidContactMechanism.message}")
+                        .addPropertyNode("contactMechanisms")
+                        .addPropertyNode("value")
                         .addConstraintViolation();
 
                     isValid = false;
-                  } else {
-                    if (StringUtils.hasText(attributeType.getPattern())) {
-                      Pattern pattern = attributeType.getCompiledPattern();
-
-                      Matcher matcher = pattern.matcher(attribute.getStringValue());
-
-                      if (!matcher.matches()) {
-                        hibernateConstraintValidatorContext
-                            .addMessageParameter("attributeType", attribute.getType())
-                            .addMessageParameter("stringValue", attribute.getStringValue())
-                            .buildConstraintViolationWithTemplate(
-                                "{digital.inception.party.constraints.ValidPerson.invalidAttributeWithStringValue.message}")
-                            .addPropertyNode("attributes")
-                            .addPropertyNode("stringValue")
-                            .addConstraintViolation();
-
-                        isValid = false;
-                      }
-                    }
                   }
-
-                  break;
+                }
               }
             } else {
               hibernateConstraintValidatorContext
-                  .addMessageParameter("attributeType", attribute.getType())
+                  .addMessageParameter("contactMechanismRole", contactMechanism.getRole())
+                  .addMessageParameter("contactMechanismType", contactMechanism.getType())
+                  .addMessageParameter("partyType", person.getType().code())
                   .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidAttributeType.message}")
-                  .addPropertyNode("attributes")
-                  .addPropertyNode("type")
+                      "{digital.inception.party.constraints.ValidPerson.invalidContactMechanismRoleForPartyType.message}")
+                  .addPropertyNode("contactMechanisms")
+                  .addPropertyNode("role")
                   .inIterable()
                   .addConstraintViolation();
 
               isValid = false;
             }
           }
-        }
 
-        // Validate consents
-        for (Consent consent : person.getConsents()) {
-          if (StringUtils.hasText(consent.getType())) {
-            if (!getPartyReferenceService()
-                .isValidConsentType(person.getTenantId(), consent.getType())) {
+          for (String contactMechanismPurpose : contactMechanism.getPurposes()) {
+            if (!validationPlan.isValidContactMechanismPurpose(
+                person.getType().code(), contactMechanism.getType(), contactMechanismPurpose)) {
               hibernateConstraintValidatorContext
-                  .addMessageParameter("consentType", consent.getType())
+                  .addMessageParameter("contactMechanismPurpose", contactMechanismPurpose)
+                  .addMessageParameter("contactMechanismType", contactMechanism.getType())
+                  .addMessageParameter("partyType", person.getType().code())
                   .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidConsentType.message}")
-                  .addPropertyNode("consents")
-                  .addPropertyNode("type")
+                      "{digital.inception.party.constraints.ValidPerson.invalidContactMechanismPurposeForPartyType.message}")
+                  .addPropertyNode("contactMechanisms")
+                  .addPropertyNode("purpose")
                   .inIterable()
                   .addConstraintViolation();
 
               isValid = false;
             }
           }
+        } else {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("contactMechanismType", contactMechanism.getType())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidPerson.invalidContactMechanismType.message}")
+              .addPropertyNode("contactMechanisms")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
+
+          isValid = false;
         }
+      }
+    }
 
-        // Validate contact mechanisms
-        for (ContactMechanism contactMechanism : person.getContactMechanisms()) {
-          if (StringUtils.hasText(contactMechanism.getType())) {
-            Optional<ContactMechanismType> contactMechanismTypeOptional =
-                getPartyReferenceService()
-                    .getContactMechanismType(person.getTenantId(), contactMechanism.getType());
-
-            if (contactMechanismTypeOptional.isPresent()) {
-              ContactMechanismType contactMechanismType = contactMechanismTypeOptional.get();
-
-              if (StringUtils.hasText(contactMechanism.getRole())) {
-                Optional<ContactMechanismRole> contactMechanismRoleOptional =
-                    getPartyReferenceService()
-                        .getContactMechanismRole(
-                            person.getTenantId(),
-                            person.getType().code(),
-                            contactMechanism.getType(),
-                            contactMechanism.getRole());
-
-                if (contactMechanismRoleOptional.isPresent()) {
-                  ContactMechanismRole contactMechanismRole = contactMechanismRoleOptional.get();
-
-                  /*
-                   * The pattern specified for a contact mechanism role takes priority over the
-                   * pattern specified for a contact mechanism type.
-                   */
-                  if (StringUtils.hasText(contactMechanism.getValue())) {
-                    if (StringUtils.hasText(contactMechanismRole.getPattern())) {
-                      Pattern pattern = contactMechanismRole.getCompiledPattern();
-
-                      Matcher matcher = pattern.matcher(contactMechanism.getValue());
-
-                      if (!matcher.matches()) {
-                        hibernateConstraintValidatorContext
-                            .addMessageParameter("contactMechanismType", contactMechanism.getType())
-                            .addMessageParameter("contactMechanismRole", contactMechanism.getRole())
-                            .addMessageParameter(
-                                "contactMechanismValue", contactMechanism.getValue())
-                            .buildConstraintViolationWithTemplate(
-                                "{digital.inception.party.constraints.ValidPerson.invalidContactMechanism.message}")
-                            .addPropertyNode("contactMechanisms")
-                            .addPropertyNode("value")
-                            .addConstraintViolation();
-
-                        isValid = false;
-                      }
-                    } else if (StringUtils.hasText(contactMechanismType.getPattern())) {
-
-                      Pattern pattern = contactMechanismType.getCompiledPattern();
-
-                      Matcher matcher = pattern.matcher(contactMechanism.getValue());
-
-                      if (!matcher.matches()) {
-                        hibernateConstraintValidatorContext
-                            .addMessageParameter("contactMechanismType", contactMechanism.getType())
-                            .addMessageParameter("contactMechanismRole", contactMechanism.getRole())
-                            .addMessageParameter(
-                                "contactMechanismValue", contactMechanism.getValue())
-                            .buildConstraintViolationWithTemplate(
-                                "{digital.inception.party.constraints.ValidPerson.invalidContactMechanism.message}")
-                            .addPropertyNode("contactMechanisms")
-                            .addPropertyNode("value")
-                            .addConstraintViolation();
-
-                        isValid = false;
-                      }
-                    }
-                  }
-                } else {
-                  hibernateConstraintValidatorContext
-                      .addMessageParameter("contactMechanismRole", contactMechanism.getRole())
-                      .addMessageParameter("contactMechanismType", contactMechanism.getType())
-                      .addMessageParameter("partyType", person.getType().code())
-                      .buildConstraintViolationWithTemplate(
-                          "{digital.inception.party.constraints.ValidPerson.invalidContactMechanismRoleForPartyType.message}")
-                      .addPropertyNode("contactMechanisms")
-                      .addPropertyNode("role")
-                      .inIterable()
-                      .addConstraintViolation();
-
-                  isValid = false;
-                }
-              }
+    return isValid;
+  }
 
-              for (String contactMechanismPurpose : contactMechanism.getPurposes()) {
-                if (!getPartyReferenceService()
-                    .isValidContactMechanismPurpose(
-                        person.getTenantId(),
-                        person.getType().code(),
-                        contactMechanism.getType(),
-                        contactMechanismPurpose)) {
-                  hibernateConstraintValidatorContext
-                      .addMessageParameter("contactMechanismPurpose", contactMechanismPurpose)
-                      .addMessageParameter("contactMechanismType", contactMechanism.getType())
-                      .addMessageParameter("partyType", person.getType().code())
-                      .buildConstraintViolationWithTemplate(
-                          "{digital.inception.party.constraints.ValidPerson.invalidContactMechanismPurposeForPartyType.message}")
-                      .addPropertyNode("contactMechanisms")
-                      .addPropertyNode("purpose")
-                      .inIterable()
-                      .addConstraintViolation();
-
-                  isValid = false;
-                }
-              }
-            } else {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("contactMechanismType", contactMechanism.getType())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidContactMechanismType.message}")
-                  .addPropertyNode("contactMechanisms")
-                  .addPropertyNode("type")
-                  .inIterable()
-                  .addConstraintViolation();
+  private boolean validateCountriesOfCitizenship(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-              isValid = false;
-            }
-          }
-        }
+    for (String countryOfCitizenship : person.getCountriesOfCitizenship()) {
+      if (!validationPlan.isValidCountry(countryOfCitizenship)) {
+        hibernateConstraintValidatorContext
+            .addMessageParameter("countryOfCitizenship", countryOfCitizenship)
+            .buildConstraintViolationWithTemplate(
+                "{digital.inception.party.constraints.ValidPerson.invalidCountryOfCitizenship.message}")
+            .addPropertyNode("countriesOfCitizenship")
+            .addConstraintViolation();
 
-        // Validate countries of citizenship
-        for (String countryOfCitizenship : person.getCountriesOfCitizenship()) {
-          if (!getReferenceService().isValidCountry(countryOfCitizenship)) {
-            hibernateConstraintValidatorContext
-                .addMessageParameter("countryOfCitizenship", countryOfCitizenship)
-                .buildConstraintViolationWithTemplate(
-                    "{digital.inception.party.constraints.ValidPerson.invalidCountryOfCitizenship.message}")
-                .addPropertyNode("countriesOfCitizenship")
-                .addConstraintViolation();
+        isValid = false;
+      }
+    }
 
-            isValid = false;
-          }
-        }
+    return isValid;
+  }
 
-        // Validate countries of tax residence
-        for (String countryOfTaxResidence : person.getCountriesOfTaxResidence()) {
-          if (!getReferenceService().isValidCountry(countryOfTaxResidence)) {
-            hibernateConstraintValidatorContext
-                .addMessageParameter("countryOfTaxResidence", countryOfTaxResidence)
-                .buildConstraintViolationWithTemplate(
-                    "{digital.inception.party.constraints.ValidPerson.invalidCountryOfTaxResidence.message}")
-                .addPropertyNode("countriesOfTaxResidence")
-                .addConstraintViolation();
+  private boolean validateCountriesOfTaxResidence(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-            isValid = false;
-          }
-        }
+    for (String countryOfTaxResidence : person.getCountriesOfTaxResidence()) {
+      if (!validationPlan.isValidCountry(countryOfTaxResidence)) {
+        hibernateConstraintValidatorContext
+            .addMessageParameter("countryOfTaxResidence", countryOfTaxResidence)
+            .buildConstraintViolationWithTemplate(
+                "{digital.inception.party.constraints.ValidPerson.invalidCountryOfTaxResidence.message}")
+            .addPropertyNode("countriesOfTaxResidence")
+            .addConstraintViolation();
 
-        // Validate country of birth
-        if (StringUtils.hasText(person.getCountryOfBirth())
-            && (!getReferenceService().isValidCountry(person.getCountryOfBirth()))) {
-          hibernateConstraintValidatorContext
-              .addMessageParameter("countryOfBirth", person.getCountryOfBirth())
-              .buildConstraintViolationWithTemplate(
-                  "{digital.inception.party.constraints.ValidPerson.invalidCountryOfBirth.message}")
-              .addPropertyNode("countryOfBirth")
-              .addConstraintViolation();
+        isValid = false;
+      }
+    }
 
-          isValid = false;
-        }
+    return isValid;
+  }
 
-        // Validate country of residence
-        if (StringUtils.hasText(person.getCountryOfResidence())
-            && (!getReferenceService().isValidCountry(person.getCountryOfResidence()))) {
-          hibernateConstraintValidatorContext
-              .addMessageParameter("countryOfResidence", person.getCountryOfResidence())
-              .buildConstraintViolationWithTemplate(
-                  "{digital.inception.party.constraints.ValidPerson.invalidCountryOfResidence.message}")
-              .addPropertyNode("countryOfResidence")
-              .addConstraintViolation();
+  private boolean validateCountryOfBirth(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-          isValid = false;
-        }
+    if (StringUtils.hasText(person.getCountryOfBirth())
+        && (!validationPlan.isValidCountry(person.getCountryOfBirth()))) {
+      hibernateConstraintValidatorContext
+          .addMessageParameter("countryOfBirth", person.getCountryOfBirth())
+          .buildConstraintViolationWithTemplate(
+              "{digital.inception.party.constraints.ValidPerson.invalidCountryOfBirth.message}")
+          .addPropertyNode("countryOfBirth")
+          .addConstraintViolation();
 
-        // Validate educations
-        for (Education education : person.getEducations()) {
-          if (StringUtils.hasText(education.getInstitutionCountry())) {
-            if (!getReferenceService().isValidCountry(education.getInstitutionCountry())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("institutionCountry", education.getInstitutionCountry())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidInstitutionCountryForEducation.message}")
-                  .addPropertyNode("educations")
-                  .addPropertyNode("institutionCountry")
-                  .inIterable()
-                  .addConstraintViolation();
+      isValid = false;
+    }
 
-              isValid = false;
-            }
-          }
+    return isValid;
+  }
 
-          if (StringUtils.hasText(education.getQualificationType())) {
-            if (!getPartyReferenceService()
-                .isValidQualificationType(person.getTenantId(), education.getQualificationType())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("qualificationType", education.getQualificationType())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidQualificationTypeForEducation.message}")
-                  .addPropertyNode("educations")
-                  .addPropertyNode("qualificationType")
-                  .inIterable()
-                  .addConstraintViolation();
+  private boolean validateCountryOfResidence(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-              isValid = false;
-            }
-          }
+    if (StringUtils.hasText(person.getCountryOfResidence())
+        && (!validationPlan.isValidCountry(person.getCountryOfResidence()))) {
+      hibernateConstraintValidatorContext
+          .addMessageParameter("countryOfResidence", person.getCountryOfResidence())
+          .buildConstraintViolationWithTemplate(
+              "{digital.inception.party.constraints.ValidPerson.invalidCountryOfResidence.message}")
+          .addPropertyNode("countryOfResidence")
+          .addConstraintViolation();
 
-          if (StringUtils.hasText(education.getFieldOfStudy())) {
-            if (!getPartyReferenceService()
-                .isValidFieldOfStudy(person.getTenantId(), education.getFieldOfStudy())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("fieldOfStudy", education.getFieldOfStudy())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidFieldOfStudyForEducation.message}")
-                  .addPropertyNode("educations")
-                  .addPropertyNode("fieldOfStudy")
-                  .inIterable()
-                  .addConstraintViolation();
+      isValid = false;
+    }
 
-              isValid = false;
-            }
-          }
-        }
+    return isValid;
+  }
+
+  private boolean validateEducations(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-        // Validate employment status
-        if (StringUtils.hasText(person.getEmploymentStatus())
-            && (!getPartyReferenceService()
-                .isValidEmploymentStatus(person.getTenantId(), person.getEmploymentStatus()))) {
+    for (Education education : person.getEducations()) {
+      if (StringUtils.hasText(education.getInstitutionCountry())) {
+        if (!validationPlan.isValidCountry(education.getInstitutionCountry())) {
           hibernateConstraintValidatorContext
-              .addMessageParameter("employmentStatus", person.getEmploymentStatus())
+              .addMessageParameter("institutionCountry", education.getInstitutionCountry())
               .buildConstraintViolationWithTemplate(
-                  "{digital.inception.party.constraints.ValidPerson.invalidEmploymentStatus.message}")
-              .addPropertyNode("employmentStatus")
+                  "{digital.inception.party.constraints.ValidPerson.invalidInstitutionCountryForEducation.message}")
+              .addPropertyNode("educations")
+              .addPropertyNode("institutionCountry")
+              .inIterable()
               .addConstraintViolation();
 
           isValid = false;
         }
+      }
 
-        // Validate employment type
-        if (StringUtils.hasText(person.getEmploymentType())
-            && (!getPartyReferenceService()
-                .isValidEmploymentType(
-                    person.getTenantId(),
-                    person.getEmploymentStatus(),
-                    person.getEmploymentType()))) {
+      if (StringUtils.hasText(education.getQualificationType())) {
+        if (!validationPlan.isValidQualificationType(education.getQualificationType())) {
           hibernateConstraintValidatorContext
-              .addMessageParameter("employmentType", person.getEmploymentType())
+              .addMessageParameter("qualificationType", education.getQualificationType())
               .buildConstraintViolationWithTemplate(
-                  "{digital.inception.party.constraints.ValidPerson.invalidEmploymentType.message}")
-              .addPropertyNode("employmentType")
+                  "{digital.inception.party.constraints.ValidPerson.invalidQualificationTypeForEducation.message}")
+              .addPropertyNode("educations")
+              .addPropertyNode("qualificationType")
+              .inIterable()
               .addConstraintViolation();
 
           isValid = false;
         }
+      }
 
-        // Validate employments
-        for (Employment employment : person.getEmployments()) {
-          if (StringUtils.hasText(employment.getEmployerAddressCountry())) {
-            if (!getReferenceService().isValidCountry(employment.getEmployerAddressCountry())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter(
-                      "employerAddressCountry", employment.getEmployerAddressCountry())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidEmployerAddressCountryForEmployment.message}")
-                  .addPropertyNode("employments")
-                  .addPropertyNode("employerAddressCountry")
-                  .inIterable()
-                  .addConstraintViolation();
+      if (StringUtils.hasText(education.getFieldOfStudy())) {
+        if (!validationPlan.isValidFieldOfStudy(education.getFieldOfStudy())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("fieldOfStudy", education.getFieldOfStudy())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidPerson.invalidFieldOfStudyForEducation.message}")
+              .addPropertyNode("educations")
+              .addPropertyNode("fieldOfStudy")
+              .inIterable()
+              .addConstraintViolation();
 
-              isValid = false;
-            }
-          }
+          isValid = false;
+        }
+      }
+    }
 
-          if (StringUtils.hasText(employment.getOccupation())) {
-            if (!getPartyReferenceService()
-                .isValidOccupation(person.getTenantId(), employment.getOccupation())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("occupation", employment.getOccupation())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidOccupationForEmployment.message}")
-                  .addPropertyNode("employments")
-                  .addPropertyNode("occupation")
-                  .inIterable()
-                  .addConstraintViolation();
+    return isValid;
+  }
 
-              isValid = false;
-            }
-          }
+  private boolean validateEmploymentStatus(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-          if (StringUtils.hasText(employment.getType())) {
-            if (!getPartyReferenceService()
-                .isValidEmploymentType(person.getTenantId(), employment.getType())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("employmentType", employment.getType())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidEmploymentTypeForEmployment.message}")
-                  .addPropertyNode("employments")
-                  .addPropertyNode("type")
-                  .inIterable()
-                  .addConstraintViolation();
+    if (StringUtils.hasText(person.getEmploymentStatus())
+        && (!validationPlan.isValidEmploymentStatus(person.getEmploymentStatus()))) {
+      hibernateConstraintValidatorContext
+          .addMessageParameter("employmentStatus", person.getEmploymentStatus())
+          .buildConstraintViolationWithTemplate(
+              "{digital.inception.party.constraints.ValidPerson.invalidEmploymentStatus.message}")
+          .addPropertyNode("employmentStatus")
+          .addConstraintViolation();
 
-              isValid = false;
-            }
-          }
-        }
+      isValid = false;
+    }
 
-        // Validate external references
-        for (ExternalReference externalReference : person.getExternalReferences()) {
-          if (!getPartyReferenceService()
-              .isValidExternalReference(
-                  person.getTenantId(),
-                  person.getType().code(),
-                  externalReference.getType(),
-                  externalReference.getValue())) {
-            hibernateConstraintValidatorContext
-                .addMessageParameter("externalReferenceType", externalReference.getType())
-                .addMessageParameter("externalReferenceValue", externalReference.getValue())
-                .buildConstraintViolationWithTemplate(
-                    "{digital.inception.party.constraints.ValidPerson.invalidExternalReference.message}")
-                .addPropertyNode("externalReferences")
-                .addConstraintViolation();
+    return isValid;
+  }
 
-            isValid = false;
-          }
+  private boolean validateEmploymentType(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    if (StringUtils.hasText(person.getEmploymentType())
+        && (!validationPlan.isValidEmploymentType(
+            person.getEmploymentStatus(), person.getEmploymentType()))) {
+      hibernateConstraintValidatorContext
+          .addMessageParameter("employmentType", person.getEmploymentType())
+          .buildConstraintViolationWithTemplate(
+              "{digital.inception.party.constraints.ValidPerson.invalidEmploymentType.message}")
+          .addPropertyNode("employmentType")
+          .addConstraintViolation();
+
+      isValid = false;
+    }
+
+    return isValid;
+  }
+
+  private boolean validateEmployments(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    for (Employment employment : person.getEmployments()) {
+      if (StringUtils.hasText(employment.getEmployerAddressCountry())) {
+        if (!validationPlan.isValidCountry(employment.getEmployerAddressCountry())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("employerAddressCountry", employment.getEmployerAddressCountry())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidPerson.invalidEmployerAddressCountryForEmployment.message}")
+              .addPropertyNode("employments")
+              .addPropertyNode("employerAddressCountry")
+              .inIterable()
+              .addConstraintViolation();
+
+          isValid = false;
         }
+      }
 
-        // Validate gender
-        if (StringUtils.hasText(person.getGender())
-            && (!getPartyReferenceService()
-                .isValidGender(person.getTenantId(), person.getGender()))) {
+      if (StringUtils.hasText(employment.getOccupation())) {
+        if (!validationPlan.isValidOccupation(employment.getOccupation())) {
           hibernateConstraintValidatorContext
-              .addMessageParameter("gender", person.getGender())
+              .addMessageParameter("occupation", employment.getOccupation())
               .buildConstraintViolationWithTemplate(
-                  "{digital.inception.party.constraints.ValidPerson.invalidGender.message}")
-              .addPropertyNode("gender")
+                  "{digital.inception.party.constraints.ValidPerson.invalidOccupationForEmployment.message}")
+              .addPropertyNode("employments")
+              .addPropertyNode("occupation")
+              .inIterable()
               .addConstraintViolation();
 
           isValid = false;
         }
+      }
 
-        // Validate highest qualification type
-        if (StringUtils.hasText(person.getHighestQualificationType())
-            && (!getPartyReferenceService()
-                .isValidQualificationType(
-                    person.getTenantId(), person.getHighestQualificationType()))) {
+      if (StringUtils.hasText(employment.getType())) {
+        if (!validationPlan.isValidEmploymentType(employment.getType())) {
           hibernateConstraintValidatorContext
-              .addMessageParameter("highestQualificationType", person.getHighestQualificationType())
+              .addMessageParameter("employmentType", employment.getType())
               .buildConstraintViolationWithTemplate(
-                  "{digital.inception.party.constraints.ValidPerson.invalidHighestQualificationType.message}")
-              .addPropertyNode("highestQualificationType")
+                  "{digital.inception.party.constraints.ValidPerson.invalidEmploymentTypeForEmployment.message}")
+              .addPropertyNode("employments")
+              .addPropertyNode("type")
+              .inIterable()
               .addConstraintViolation();
 
           isValid = false;
         }
+      }
+    }
 
-        // Validate identity documents
-        for (IdentityDocument identityDocument : person.getIdentityDocuments()) {
-          if (StringUtils.hasText(identityDocument.getCountryOfIssue())) {
-            if (!getReferenceService().isValidCountry(identityDocument.getCountryOfIssue())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("countryOfIssue", identityDocument.getCountryOfIssue())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidIdentityDocumentCountryOfIssue.message}")
-                  .addPropertyNode("identityDocuments")
-                  .addPropertyNode("countryOfIssue")
-                  .inIterable()
-                  .addConstraintViolation();
+    return isValid;
+  }
 
-              isValid = false;
-            }
-          }
+  private boolean validateExternalReferences(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-          if (StringUtils.hasText(identityDocument.getType())) {
-            if (!getPartyReferenceService()
-                .isValidIdentityDocumentType(
-                    person.getTenantId(), person.getType().code(), identityDocument.getType())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("identityDocumentType", identityDocument.getType())
-                  .addMessageParameter("partyType", person.getType().code())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidIdentityDocumentTypeForPartyType.message}")
-                  .addPropertyNode("identityDocuments")
-                  .addPropertyNode("type")
-                  .inIterable()
-                  .addConstraintViolation();
+    for (ExternalReference externalReference : person.getExternalReferences()) {
+      if (!validationPlan.isValidExternalReference(
+          person.getType().code(), externalReference.getType(), externalReference.getValue())) {
+        hibernateConstraintValidatorContext
+            .addMessageParameter("externalReferenceType", externalReference.getType())
+            .addMessageParameter("externalReferenceValue", externalReference.getValue())
+            .buildConstraintViolationWithTemplate(
+                "{digital.inception.party.constraints.ValidPerson.invalidExternalReference.message}")
+            .addPropertyNode("externalReferences")
+            .addConstraintViolation();
+
+        isValid = false;
+      }
+    }
 
-              isValid = false;
-            }
-          }
+    return isValid;
+  }
 
-          if (StringUtils.hasText(identityDocument.getNumber())) {
-            if (!getPartyReferenceService()
-                .isValidIdentityDocument(
-                    person.getTenantId(),
-                    person.getType().code(),
-                    identityDocument.getType(),
-                    identityDocument.getNumber())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("identityDocumentType", identityDocument.getType())
-                  .addMessageParameter("identityDocumentNumber", identityDocument.getNumber())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidIdentityDocument.message}")
-                  .addPropertyNode("identityDocuments")
-                  .addConstraintViolation();
+  private boolean validateGender(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-              isValid = false;
-            }
-          }
-        }
+    if (StringUtils.hasText(person.getGender())
+        && (!validationPlan.isValidGender(person.getGender()))) {
+      hibernateConstraintValidatorContext
+          .addMessageParameter("gender", person.getGender())
+          .buildConstraintViolationWithTemplate(
+              "{digital.inception.party.constraints.ValidPerson.invalidGender.message}")
+          .addPropertyNode("gender")
+          .addConstraintViolation();
+
+      isValid = false;
+    }
+
+    return isValid;
+  }
+
+  private boolean validateHighestQualificationType(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    if (StringUtils.hasText(person.getHighestQualificationType())
+        && (!validationPlan.isValidQualificationType(person.getHighestQualificationType()))) {
+      hibernateConstraintValidatorContext
+          .addMessageParameter("highestQualificationType", person.getHighestQualificationType())
+          .buildConstraintViolationWithTemplate(
+              "{digital.inception.party.constraints.ValidPerson.invalidHighestQualificationType.message}")
+          .addPropertyNode("highestQualificationType")
+          .addConstraintViolation();
+
+      isValid = false;
+    }
+
+    return isValid;
+  }
 
-        // Validate language
-        if (StringUtils.hasText(person.getLanguage())
-            && (!getReferenceService().isValidLanguage(person.getLanguage()))) {
+  private boolean validateIdentityDocuments(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    for (IdentityDocument identityDocument : person.getIdentityDocuments()) {
+      if (StringUtils.hasText(identityDocument.getCountryOfIssue())) {
+        if (!validationPlan.isValidCountry(identityDocument.getCountryOfIssue())) {
           hibernateConstraintValidatorContext
-              .addMessageParameter("language", person.getLanguage())
+              .addMessageParameter("countryOfIssue", identityDocument.getCountryOfIssue())
               .buildConstraintViolationWithTemplate(
-                  "{digital.inception.party.constraints.ValidPerson.invalidLanguage.message}")
-              .addPropertyNode("language")
+                  "{digital.inception.party.constraints.ValidPerson.invalidIdentityDocumentCountryOfIssue.message}")
+              .addPropertyNode("identityDocuments")
+              .addPropertyNode("countryOfIssue")
+              .inIterable()
               .addConstraintViolation();
 
           isValid = false;
         }
+      }
 
-        // Validate language proficiencies
-        for (LanguageProficiency languageProficiency : person.getLanguageProficiencies()) {
-          if (StringUtils.hasText(languageProficiency.getLanguage())) {
-            if (!getReferenceService().isValidLanguage(languageProficiency.getLanguage())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("language", languageProficiency.getLanguage())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidLanguageForLanguageProficiency.message}")
-                  .addPropertyNode("languageProficiencies")
-                  .addPropertyNode("language")
-                  .inIterable()
-                  .addConstraintViolation();
+      if (StringUtils.hasText(identityDocument.getType())) {
+        if (!validationPlan.isValidIdentityDocumentType(
+            person.getType().code(), identityDocument.getType())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("identityDocumentType", identityDocument.getType())
+              .addMessageParameter("partyType", person.getType().code())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidPerson.invalidIdentityDocumentTypeForPartyType.message}")
+              .addPropertyNode("identityDocuments")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
 
-              isValid = false;
-            }
-          }
+          isValid = false;
         }
+      }
 
-        // Validate locks
-        for (Lock lock : person.getLocks()) {
-          if (StringUtils.hasText(lock.getType())) {
-            if (!getPartyReferenceService()
-                .isValidLockType(person.getTenantId(), person.getType().code(), lock.getType())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("lockType", lock.getType())
-                  .addMessageParameter("partyType", person.getType().code())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidLockTypeForPartyType.message}")
-                  .addPropertyNode("locks")
-                  .addPropertyNode("type")
-                  .inIterable()
-                  .addConstraintViolation();
+      if (StringUtils.hasText(identityDocument.getNumber())) {
+        if (!validationPlan.isValidIdentityDocument(
+            person.getType().code(), identityDocument.getType(), identityDocument.getNumber())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("identityDocumentType", identityDocument.getType())
+              .addMessageParameter("identityDocumentNumber", identityDocument.getNumber())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidPerson.invalidIdentityDocument.message}")
+              .addPropertyNode("identityDocuments")
+              .addConstraintViolation();
 
-              isValid = false;
-            }
-          }
+          isValid = false;
         }
+      }
+    }
+
+    return isValid;
+  }
+
+  private boolean validateLanguage(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    if (StringUtils.hasText(person.getLanguage())
+        && (!validationPlan.isValidLanguage(person.getLanguage()))) {
+      hibernateConstraintValidatorContext
+          .addMessageParameter("language", person.getLanguage())
+          .buildConstraintViolationWithTemplate(
+              "{digital.inception.party.constraints.ValidPerson.invalidLanguage.message}")
+          .addPropertyNode("language")
+          .addConstraintViolation();
+
+      isValid = false;
+    }
+
+    return isValid;
+  }
+
+  private boolean validateLanguageProficiencies(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-        // Validate marital status
-        if (StringUtils.hasText(person.getMaritalStatus())
-            && (!getPartyReferenceService()
-                .isValidMaritalStatus(person.getTenantId(), person.getMaritalStatus()))) {
+    for (LanguageProficiency languageProficiency : person.getLanguageProficiencies()) {
+      if (StringUtils.hasText(languageProficiency.getLanguage())) {
+        if (!validationPlan.isValidLanguage(languageProficiency.getLanguage())) {
           hibernateConstraintValidatorContext
-              .addMessageParameter("maritalStatus", person.getMaritalStatus())
+              .addMessageParameter("language", languageProficiency.getLanguage())
               .buildConstraintViolationWithTemplate(
-                  "{digital.inception.party.constraints.ValidPerson.invalidMaritalStatus.message}")
-              .addPropertyNode("maritalStatus")
+                  "{digital.inception.party.constraints.ValidPerson.invalidLanguageForLanguageProficiency.message}")
+              .addPropertyNode("languageProficiencies")
+              .addPropertyNode("language")
+              .inIterable()
               .addConstraintViolation();
 
           isValid = false;
-        } else {
-          // Validate marriage type
-          if (!getPartyReferenceService()
-              .isValidMarriageType(
-                  person.getTenantId(), person.getMaritalStatus(), person.getMarriageType())) {
-            hibernateConstraintValidatorContext
-                .addMessageParameter("maritalStatus", person.getMaritalStatus())
-                .addMessageParameter(
-                    "marriageType",
-                    StringUtils.hasText(person.getMarriageType()) ? person.getMarriageType() : "")
-                .buildConstraintViolationWithTemplate(
-                    "{digital.inception.party.constraints.ValidPerson.invalidMarriageType.message}")
-                .addPropertyNode("marriageType")
-                .addConstraintViolation();
-
-            isValid = false;
-          }
         }
+      }
+    }
 
-        // Validate next of kin
-        for (NextOfKin nextOfKin : person.getNextOfKin()) {
-          if (StringUtils.hasText(nextOfKin.getType())) {
-            if (!getPartyReferenceService()
-                .isValidNextOfKinType(person.getTenantId(), nextOfKin.getType())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("nextOfKinType", nextOfKin.getType())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidNextOfKinType.message}")
-                  .addPropertyNode("nextOfKin")
-                  .addPropertyNode("type")
-                  .inIterable()
-                  .addConstraintViolation();
+    return isValid;
+  }
 
-              isValid = false;
-            }
-          }
+  private boolean validateLocks(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-          if (StringUtils.hasText(nextOfKin.getAddressCountry())) {
-            if (!getReferenceService().isValidCountry(nextOfKin.getAddressCountry())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("nextOfKinAddressCountry", nextOfKin.getAddressCountry())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidNextOfKinAddressCountry.message}")
-                  .addPropertyNode("nextOfKin")
-                  .addPropertyNode("addressCountry")
-                  .inIterable()
-                  .addConstraintViolation();
+    for (Lock lock : person.getLocks()) {
+      if (StringUtils.hasText(lock.getType())) {
+        if (!validationPlan.isValidLockType(person.getType().code(), lock.getType())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("lockType", lock.getType())
+              .addMessageParameter("partyType", person.getType().code())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidPerson.invalidLockTypeForPartyType.message}")
+              .addPropertyNode("locks")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
 
-              isValid = false;
-            }
-          }
+          isValid = false;
         }
+      }
+    }
+
+    return isValid;
+  }
+
+  private boolean validateMaritalStatus(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    if (StringUtils.hasText(person.getMaritalStatus())
+        && (!validationPlan.isValidMaritalStatus(person.getMaritalStatus()))) {
+      hibernateConstraintValidatorContext
+          .addMessageParameter("maritalStatus", person.getMaritalStatus())
+          .buildConstraintViolationWithTemplate(
+              "{digital.inception.party.constraints.ValidPerson.invalidMaritalStatus.message}")
+          .addPropertyNode("maritalStatus")
+          .addConstraintViolation();
+
+      isValid = false;
+    } else {
+      // Validate marriage type
+      if (!validationPlan.isValidMarriageType(
+          person.getMaritalStatus(), person.getMarriageType())) {
+        hibernateConstraintValidatorContext
+            .addMessageParameter("maritalStatus", person.getMaritalStatus())
+            .addMessageParameter(
+                "marriageType",
+                StringUtils.hasText(person.getMarriageType()) ? person.getMarriageType() : "")
+            .buildConstraintViolationWithTemplate(
+                "{digital.inception.party.constraints.ValidPerson.invalidMarriageType.message}")
+            .addPropertyNode("marriageType")
+            .addConstraintViolation();
+
+        isValid = false;
+      }
+    }
 
-        // Validate occupation
-        if (StringUtils.hasText(person.getOccupation())
-            && (!getPartyReferenceService()
-                .isValidOccupation(person.getTenantId(), person.getOccupation()))) {
+    return isValid;
+  }
+
+  private boolean validateNextOfKin(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    for (NextOfKin nextOfKin : person.getNextOfKin()) {
+      if (StringUtils.hasText(nextOfKin.getType())) {
+        if (!validationPlan.isValidNextOfKinType(nextOfKin.getType())) {
           hibernateConstraintValidatorContext
-              .addMessageParameter("occupation", person.getOccupation())
+              .addMessageParameter("nextOfKinType", nextOfKin.getType())
               .buildConstraintViolationWithTemplate(
-                  "{digital.inception.party.constraints.ValidPerson.invalidOccupation.message}")
-              .addPropertyNode("occupation")
+                  "{digital.inception.party.constraints.ValidPerson.invalidNextOfKinType.message}")
+              .addPropertyNode("nextOfKin")
+              .addPropertyNode("type")
+              .inIterable()
               .addConstraintViolation();
 
           isValid = false;
         }
+      }
 
-        // Validate physical addresses
-        for (PhysicalAddress physicalAddress : person.getPhysicalAddresses()) {
-          if (!validatePhysicalAddress(
-              person.getTenantId(),
-              person.getType().code(),
-              physicalAddress,
-              hibernateConstraintValidatorContext)) {
-            isValid = false;
-          }
+      if (StringUtils.hasText(nextOfKin.getAddressCountry())) {
+        if (!validationPlan.isValidCountry(nextOfKin.getAddressCountry())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("nextOfKinAddressCountry", nextOfKin.getAddressCountry())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidPerson.invalidNextOfKinAddressCountry.message}")
+              .addPropertyNode("nextOfKin")
+              .addPropertyNode("addressCountry")
+              .inIterable()
+              .addConstraintViolation();
+
+          isValid = false;
         }
+      }
+    }
 
-        // Validate preferences
-        for (Preference preference : person.getPreferences()) {
-          if (StringUtils.hasText(preference.getType())) {
-            Optional<PreferenceType> preferenceTypeOptional =
-                getPartyReferenceService()
-                    .getPreferenceType(
-                        person.getTenantId(), person.getType().code(), preference.getType());
-
-            if (preferenceTypeOptional.isPresent()) {
-              PreferenceType preferenceType = preferenceTypeOptional.get();
-
-              if (StringUtils.hasText(preferenceType.getPattern())) {
-                Pattern pattern = preferenceType.getCompiledPattern();
-
-                Matcher matcher = pattern.matcher(preference.getValue());
-
-                if (!matcher.matches()) {
-                  hibernateConstraintValidatorContext
-                      .addMessageParameter("preferenceType", preference.getType())
-                      .addMessageParameter("preferenceValue", preference.getValue())
-                      .buildConstraintViolationWithTemplate(
-                          "{digital.inception.party.constraints.ValidPerson.invalidPreferenceValue.message}")
-                      .addPropertyNode("preferences")
-                      .addPropertyNode("value")
-                      .addConstraintViolation();
-
-                  isValid = false;
-                }
-              }
-            } else {
+    return isValid;
+  }
+
+  private boolean validateOccupation(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    if (StringUtils.hasText(person.getOccupation())
+        && (!validationPlan.isValidOccupation(person.getOccupation()))) {
+      hibernateConstraintValidatorContext
+          .addMessageParameter("occupation", person.getOccupation())
+          .buildConstraintViolationWithTemplate(
+              "{digital.inception.party.constraints.ValidPerson.invalidOccupation.message}")
+          .addPropertyNode("occupation")
+          .addConstraintViolation();
+
+      isValid = false;
+    }
+
+    return isValid;
+  }
+
+  private boolean validatePhysicalAddresses(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    for (PhysicalAddress physicalAddress : person.getPhysicalAddresses()) {
+      if (!validatePhysicalAddress(
+          validationPlan,
+          person.getType().code(),
+          physicalAddress,
+          hibernateConstraintValidatorContext)) {
+        isValid = false;
+      }
+    }
+
+    return isValid;
+  }
+
+  private boolean validatePreferences(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    for (Preference preference : person.getPreferences()) {
+      if (StringUtils.hasText(preference.getType())) {
+        Optional<PreferenceType> preferenceTypeOptional =
+            validationPlan.getPreferenceType(person.getType().code(), preference.getType());
+
+        if (preferenceTypeOptional.isPresent()) {
+          PreferenceType preferenceType = preferenceTypeOptional.get();
+
+          if (StringUtils.hasText(preferenceType.getPattern())) {
+            Pattern pattern = preferenceType.getCompiledPattern();
+
+            Matcher matcher = pattern.matcher(preference.getValue());
+
+            if (!matcher.matches()) {
               hibernateConstraintValidatorContext
                   .addMessageParameter("preferenceType", preference.getType())
-                  .addMessageParameter("partyType", person.getType().code())
+                  .addMessageParameter("preferenceValue", preference.getValue())
                   .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidPreferenceTypeForPartyType.message}")
+                      "{digital.inception.party.constraints.ValidPerson.invalidPreferenceValue.message}")
                   .addPropertyNode("preferences")
-                  .addPropertyNode("type")
-                  .inIterable()
+                  .addPropertyNode("value")
                   .addConstraintViolation();
 
               isValid = false;
             }
           }
+        } else {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("preferenceType", preference.getType())
+              .addMessageParameter("partyType", person.getType().code())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidPerson.invalidPreferenceTypeForPartyType.message}")
+              .addPropertyNode("preferences")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
+
+          isValid = false;
         }
+      }
+    }
+
+    return isValid;
+  }
+
+  private boolean validateRace(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    if (StringUtils.hasText(person.getRace()) && (!validationPlan.isValidRace(person.getRace()))) {
+      hibernateConstraintValidatorContext
+          .addMessageParameter("race", person.getRace())
+          .buildConstraintViolationWithTemplate(
+              "{digital.inception.party.constraints.ValidPerson.invalidRace.message}")
+          .addPropertyNode("race")
+          .addConstraintViolation();
+
+      isValid = false;
+    }
+
+    return isValid;
+  }
+
+  private boolean validateResidencyStatus(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    if (StringUtils.hasText(person.getResidencyStatus())
+        && (!validationPlan.isValidResidencyStatus(person.getResidencyStatus()))) {
+      hibernateConstraintValidatorContext
+          .addMessageParameter("residencyStatus", person.getResidencyStatus())
+          .buildConstraintViolationWithTemplate(
+              "{digital.inception.party.constraints.ValidPerson.invalidResidencyStatus.message}")
+          .addPropertyNode("residencyStatus")
+          .addConstraintViolation();
+
+      isValid = false;
+    }
+
+    return isValid;
+  }
+
+  private boolean validateResidencePermits(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-        // Validate race
-        if (StringUtils.hasText(person.getRace())
-            && (!getPartyReferenceService().isValidRace(person.getTenantId(), person.getRace()))) {
+    for (ResidencePermit residencePermit : person.getResidencePermits()) {
+      if (StringUtils.hasText(residencePermit.getCountryOfIssue())) {
+        if (!validationPlan.isValidCountry(residencePermit.getCountryOfIssue())) {
           hibernateConstraintValidatorContext
-              .addMessageParameter("race", person.getRace())
+              .addMessageParameter("countryOfIssue", residencePermit.getCountryOfIssue())
               .buildConstraintViolationWithTemplate(
-                  "{digital.inception.party.constraints.ValidPerson.invalidRace.message}")
-              .addPropertyNode("race")
+                  "{digital.inception.party.constraints.ValidPerson.invalidResidencePermitCountryOfIssue.message}")
+              .addPropertyNode("residencePermits")
+              .addPropertyNode("countryOfIssue")
+              .inIterable()
               .addConstraintViolation();
 
           isValid = false;
         }
+      }
 
-        // Validate residency status
-        if (StringUtils.hasText(person.getResidencyStatus())
-            && (!getPartyReferenceService()
-                .isValidResidencyStatus(person.getTenantId(), person.getResidencyStatus()))) {
+      if (StringUtils.hasText(residencePermit.getType())) {
+        if (!validationPlan.isValidResidencePermitType(residencePermit.getType())) {
           hibernateConstraintValidatorContext
-              .addMessageParameter("residencyStatus", person.getResidencyStatus())
+              .addMessageParameter("residencePermitType", residencePermit.getType())
               .buildConstraintViolationWithTemplate(
-                  "{digital.inception.party.constraints.ValidPerson.invalidResidencyStatus.message}")
-              .addPropertyNode("residencyStatus")
+                  "{digital.inception.party.constraints.ValidPerson.invalidResidencePermitType.message}")
+              .addPropertyNode("residencePermits")
+              .addPropertyNode("type")
+              .inIterable()
               .addConstraintViolation();
 
           isValid = false;
         }
+      }
 
-        // Validate residence permits
-        for (ResidencePermit residencePermit : person.getResidencePermits()) {
-          if (StringUtils.hasText(residencePermit.getCountryOfIssue())) {
-            if (!getReferenceService().isValidCountry(residencePermit.getCountryOfIssue())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("countryOfIssue", residencePermit.getCountryOfIssue())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidResidencePermitCountryOfIssue.message}")
-                  .addPropertyNode("residencePermits")
-                  .addPropertyNode("countryOfIssue")
-                  .inIterable()
-                  .addConstraintViolation();
+      if (StringUtils.hasText(residencePermit.getNumber())) {
+        if (!validationPlan.isValidResidencePermit(
+            person.getType().code(), residencePermit.getType(), residencePermit.getNumber())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("residencePermitType", residencePermit.getType())
+              .addMessageParameter("residencePermitNumber", residencePermit.getNumber())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidPerson.invalidResidencePermit.message}")
+              .addPropertyNode("residencePermits")
+              .addConstraintViolation();
 
-              isValid = false;
-            }
-          }
+          isValid = false;
+        }
+      }
+    }
 
-          if (StringUtils.hasText(residencePermit.getType())) {
-            if (!getPartyReferenceService()
-                .isValidResidencePermitType(person.getTenantId(), residencePermit.getType())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("residencePermitType", residencePermit.getType())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidResidencePermitType.message}")
-                  .addPropertyNode("residencePermits")
-                  .addPropertyNode("type")
-                  .inIterable()
-                  .addConstraintViolation();
+    return isValid;
+  }
 
-              isValid = false;
-            }
-          }
+  private boolean validateResidentialType(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-          if (StringUtils.hasText(residencePermit.getNumber())) {
-            if (!getPartyReferenceService()
-                .isValidResidencePermit(
-                    person.getTenantId(),
-                    person.getType().code(),
-                    residencePermit.getType(),
-                    residencePermit.getNumber())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("residencePermitType", residencePermit.getType())
-                  .addMessageParameter("residencePermitNumber", residencePermit.getNumber())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidResidencePermit.message}")
-                  .addPropertyNode("residencePermits")
-                  .addConstraintViolation();
+    if (StringUtils.hasText(person.getResidentialType())
+        && (!validationPlan.isValidResidentialType(person.getResidentialType()))) {
+      hibernateConstraintValidatorContext
+          .addMessageParameter("residentialType", person.getResidentialType())
+          .buildConstraintViolationWithTemplate(
+              "{digital.inception.party.constraints.ValidPerson.invalidResidentialType.message}")
+          .addPropertyNode("residentialType")
+          .addConstraintViolation();
 
-              isValid = false;
-            }
+      isValid = false;
+    }
+
+    return isValid;
+  }
+
+  private boolean validateRoles(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    for (Role role : person.getRoles()) {
+      if (StringUtils.hasText(role.getType())) {
+        if (!validationPlan.isValidRoleType(person.getType().code(), role.getType())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("roleType", role.getType())
+              .addMessageParameter("partyType", person.getType().code())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidPerson.invalidRoleTypeForPartyType.message}")
+              .addPropertyNode("roles")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
+
+          isValid = false;
+        } else {
+          if (!validateRoleTypeAttributeTypeConstraintsForPersonWithRole(
+              person, validationPlan, role.getType(), hibernateConstraintValidatorContext)) {
+            isValid = false;
+          }
+
+          if (!validateRoleTypePreferenceTypeConstraintsForPersonWithRole(
+              person, validationPlan, role.getType(), hibernateConstraintValidatorContext)) {
+            isValid = false;
           }
         }
+      }
+    }
+
+    return isValid;
+  }
+
+  private boolean validateSegmentAllocations(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-        // Validate residential type
-        if (StringUtils.hasText(person.getResidentialType())
-            && (!getPartyReferenceService()
-                .isValidResidentialType(person.getTenantId(), person.getResidentialType()))) {
+    for (SegmentAllocation segmentAllocation : person.getSegmentAllocations()) {
+      if (StringUtils.hasText(segmentAllocation.getSegment())) {
+        if (!validationPlan.isValidSegment(segmentAllocation.getSegment())) {
           hibernateConstraintValidatorContext
-              .addMessageParameter("residentialType", person.getResidentialType())
+              .addMessageParameter("segment", segmentAllocation.getSegment())
               .buildConstraintViolationWithTemplate(
-                  "{digital.inception.party.constraints.ValidPerson.invalidResidentialType.message}")
-              .addPropertyNode("residentialType")
+                  "{digital.inception.party.constraints.ValidPerson.invalidSegmentForSegmentAllocation.message}")
+              .addPropertyNode("segmentAllocations")
+              .addPropertyNode("segment")
+              .inIterable()
               .addConstraintViolation();
 
           isValid = false;
         }
+      }
+    }
 
-        // Validate roles
-        for (Role role : person.getRoles()) {
-          if (StringUtils.hasText(role.getType())) {
-            if (!getPartyReferenceService()
-                .isValidRoleType(person.getTenantId(), person.getType().code(), role.getType())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("roleType", role.getType())
-                  .addMessageParameter("partyType", person.getType().code())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidRoleTypeForPartyType.message}")
-                  .addPropertyNode("roles")
-                  .addPropertyNode("type")
-                  .inIterable()
-                  .addConstraintViolation();
+    return isValid;
+  }
 
-              isValid = false;
-            } else {
-              if (!validateRoleTypeAttributeTypeConstraintsForPersonWithRole(
-                  person, role.getType(), hibernateConstraintValidatorContext)) {
-                isValid = false;
-              }
+  private boolean validateSkills(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-              if (!validateRoleTypePreferenceTypeConstraintsForPersonWithRole(
-                  person, role.getType(), hibernateConstraintValidatorContext)) {
-                isValid = false;
-              }
-            }
-          }
+    for (Skill skill : person.getSkills()) {
+      if (StringUtils.hasText(skill.getType())) {
+        if (!validationPlan.isValidSkillType(skill.getType())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("skillType", skill.getType())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidPerson.invalidSkillType.message}")
+              .addPropertyNode("skills")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
+
+          isValid = false;
         }
+      }
+    }
 
-        // Validate segment allocations
-        for (SegmentAllocation segmentAllocation : person.getSegmentAllocations()) {
-          if (StringUtils.hasText(segmentAllocation.getSegment())) {
-            if (!getPartyReferenceService()
-                .isValidSegment(person.getTenantId(), segmentAllocation.getSegment())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("segment", segmentAllocation.getSegment())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidSegmentForSegmentAllocation.message}")
-                  .addPropertyNode("segmentAllocations")
-                  .addPropertyNode("segment")
-                  .inIterable()
-                  .addConstraintViolation();
+    return isValid;
+  }
 
-              isValid = false;
-            }
-          }
-        }
+  private boolean validateSourcesOfFunds(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-        // Validate skills
-        for (Skill skill : person.getSkills()) {
-          if (StringUtils.hasText(skill.getType())) {
-            if (!getPartyReferenceService()
-                .isValidSkillType(person.getTenantId(), skill.getType())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("skillType", skill.getType())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidSkillType.message}")
-                  .addPropertyNode("skills")
-                  .addPropertyNode("type")
-                  .inIterable()
-                  .addConstraintViolation();
+    for (SourceOfFunds sourceOfFunds : person.getSourcesOfFunds()) {
+      if (StringUtils.hasText(sourceOfFunds.getType())) {
+        if (!validationPlan.isValidSourceOfFundsType(sourceOfFunds.getType())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("sourceOfFundsType", sourceOfFunds.getType())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidPerson.invalidSourceOfFundsType.message}")
+              .addPropertyNode("sourcesOfFunds")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
 
-              isValid = false;
-            }
-          }
+          isValid = false;
         }
+      }
+    }
 
-        // Validate sources of funds
-        for (SourceOfFunds sourceOfFunds : person.getSourcesOfFunds()) {
-          if (StringUtils.hasText(sourceOfFunds.getType())) {
-            if (!getPartyReferenceService()
-                .isValidSourceOfFundsType(person.getTenantId(), sourceOfFunds.getType())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("sourceOfFundsType", sourceOfFunds.getType())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidSourceOfFundsType.message}")
-                  .addPropertyNode("sourcesOfFunds")
-                  .addPropertyNode("type")
-                  .inIterable()
-                  .addConstraintViolation();
+    return isValid;
+  }
 
-              isValid = false;
-            }
-          }
-        }
+  private boolean validateSourcesOfWealth(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-        // Validate sources of wealth
-        for (SourceOfWealth sourceOfWealth : person.getSourcesOfWealth()) {
-          if (StringUtils.hasText(sourceOfWealth.getType())) {
-            if (!getPartyReferenceService()
-                .isValidSourceOfWealthType(person.getTenantId(), sourceOfWealth.getType())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("sourceOfWealthType", sourceOfWealth.getType())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidSourceOfWealthType.message}")
-                  .addPropertyNode("sourcesOfWealth")
-                  .addPropertyNode("type")
-                  .inIterable()
-                  .addConstraintViolation();
+    for (SourceOfWealth sourceOfWealth : person.getSourcesOfWealth()) {
+      if (StringUtils.hasText(sourceOfWealth.getType())) {
+        if (!validationPlan.isValidSourceOfWealthType(sourceOfWealth.getType())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("sourceOfWealthType", sourceOfWealth.getType())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidPerson.invalidSourceOfWealthType.message}")
+              .addPropertyNode("sourcesOfWealth")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
 
-              isValid = false;
-            }
-          }
+          isValid = false;
         }
+      }
+    }
 
-        // Validate statuses
-        for (Status status : person.getStatuses()) {
-          if (StringUtils.hasText(status.getType())) {
-            if (!getPartyReferenceService()
-                .isValidStatusType(
-                    person.getTenantId(), person.getType().code(), status.getType())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("statusType", status.getType())
-                  .addMessageParameter("partyType", person.getType().code())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidStatusTypeForPartyType.message}")
-                  .addPropertyNode("statuses")
-                  .addPropertyNode("type")
-                  .inIterable()
-                  .addConstraintViolation();
+    return isValid;
+  }
 
-              isValid = false;
-            }
-          }
-        }
+  private boolean validateStatuses(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-        // Validate tax numbers
-        for (TaxNumber taxNumber : person.getTaxNumbers()) {
-          if (StringUtils.hasText(taxNumber.getCountryOfIssue())) {
-            if (!getReferenceService().isValidCountry(taxNumber.getCountryOfIssue())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("countryOfIssue", taxNumber.getCountryOfIssue())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidTaxNumberCountryOfIssue.message}")
-                  .addPropertyNode("taxNumbers")
-                  .addPropertyNode("countryOfIssue")
-                  .inIterable()
-                  .addConstraintViolation();
+    for (Status status : person.getStatuses()) {
+      if (StringUtils.hasText(status.getType())) {
+        if (!validationPlan.isValidStatusType(person.getType().code(), status.getType())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("statusType", status.getType())
+              .addMessageParameter("partyType", person.getType().code())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidPerson.invalidStatusTypeForPartyType.message}")
+              .addPropertyNode("statuses")
+              .addPropertyNode("type")
+              .inIterable()
+              .addConstraintViolation();
 
-              isValid = false;
-            }
-          }
+          isValid = false;
+        }
+      }
+    }
 
-          if (StringUtils.hasText(taxNumber.getType())) {
-            if (!getPartyReferenceService()
-                .isValidTaxNumberType(
-                    person.getTenantId(), person.getType().code(), taxNumber.getType())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("taxNumberType", taxNumber.getType())
-                  .addMessageParameter("partyType", person.getType().code())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidTaxNumberTypeForPartyType.message}")
-                  .addPropertyNode("taxNumbers")
-                  .addPropertyNode("type")
-                  .inIterable()
-                  .addConstraintViolation();
+    return isValid;
+  }
 
-              isValid = false;
-            }
-          }
+  private boolean validateTaxNumbers(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
 
-          if (StringUtils.hasText(taxNumber.getNumber())) {
-            if (!getPartyReferenceService()
-                .isValidTaxNumber(
-                    person.getTenantId(),
-                    person.getType().code(),
-                    taxNumber.getType(),
-                    taxNumber.getNumber())) {
-              hibernateConstraintValidatorContext
-                  .addMessageParameter("taxNumberType", taxNumber.getType())
-                  .addMessageParameter("taxNumberNumber", taxNumber.getNumber())
-                  .buildConstraintViolationWithTemplate(
-                      "{digital.inception.party.constraints.ValidPerson.invalidTaxNumber.message}")
-                  .addPropertyNode("taxNumbers")
-                  .addConstraintViolation();
+    for (TaxNumber taxNumber : person.getTaxNumbers()) {
+      if (StringUtils.hasText(taxNumber.getCountryOfIssue())) {
+        if (!validationPlan.isValidCountry(taxNumber.getCountryOfIssue())) {
+          hibernateConstraintValidatorContext
+              .addMessageParameter("countryOfIssue", taxNumber.getCountryOfIssue())
+              .buildConstraintViolationWithTemplate(
+                  "{digital.inception.party.constraints.ValidPerson.invalidTaxNumberCountryOfIssue.message}")
+              .addPropertyNode("taxNumbers")
+              .addPropertyNode("countryOfIssue")
+              .inIterable()
+              .addConstraintViolation();
 
-              isValid = false;
-            }
-          }
+          isValid = false;
         }
+      }
 
-        // Validate time zone
-        if (StringUtils.hasText(person.getTimeZone())
-            && (!getReferenceService().isValidTimeZone(person.getTimeZone()))) {
+      if (StringUtils.hasText(taxNumber.getType())) {
+        if (!validationPlan.isValidTaxNumberType(person.getType().code(), taxNumber.getType())) {
           hibernateConstraintValidatorContext
-              .addMessageParameter("timeZone", person.getTimeZone())
+              .addMessageParameter("taxNumberType", taxNumber.getType())
+              .addMessageParameter("partyType", person.getType().code())
               .buildConstraintViolationWithTemplate(
-                  "{digital.inception.party.constraints.ValidPerson.invalidTimeZone.message}")
-              .addPropertyNode("timeZone")
+                  "{digital.inception.party.constraints.ValidPerson.invalidTaxNumberTypeForPartyType.message}")
+              .addPropertyNode("taxNumbers")
+              .addPropertyNode("type")
+              .inIterable()
               .addConstraintViolation();
 
           isValid = false;
         }
+      }
 
-        // Validate title
-        if (StringUtils.hasText(person.getTitle())
-            && (!getPartyReferenceService()
-                .isValidTitle(person.getTenantId(), person.getTitle()))) {
+      if (StringUtils.hasText(taxNumber.getNumber())) {
+        if (!validationPlan.isValidTaxNumber(
+            person.getType().code(), taxNumber.getType(), taxNumber.getNumber())) {
           hibernateConstraintValidatorContext
-              .addMessageParameter("title", person.getTitle())
+              .addMessageParameter("taxNumberType", taxNumber.getType())
+              .addMessageParameter("taxNumberNumber", taxNumber.getNumber())
               .buildConstraintViolationWithTemplate(
-                  "{digital.inception.party.constraints.ValidPerson.invalidTitle.message}")
-              .addPropertyNode("title")
+                  "{digital.inception.party.constraints.ValidPerson.invalidTaxNumber.message}")
+              .addPropertyNode("taxNumbers")
               .addConstraintViolation();
 
           isValid = false;
         }
-      } catch (Throwable e) {
-        throw new ValidationException("Failed to validate the person", e);
       }
+    }
 
-      return isValid;
-    } else {
-      return true;
+    return isValid;
+  }
+
+  private boolean validateTimeZone(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    if (StringUtils.hasText(person.getTimeZone())
+        && (!validationPlan.isValidTimeZone(person.getTimeZone()))) {
+      hibernateConstraintValidatorContext
+          .addMessageParameter("timeZone", person.getTimeZone())
+          .buildConstraintViolationWithTemplate(
+              "{digital.inception.party.constraints.ValidPerson.invalidTimeZone.message}")
+          .addPropertyNode("timeZone")
+          .addConstraintViolation();
+
+      isValid = false;
     }
+
+    return isValid;
+  }
+
+  private boolean validateTitle(
+      Person person,
+      PartyValidationPlan validationPlan,
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
+    boolean isValid = true;
+
+    if (StringUtils.hasText(person.getTitle())
+        && (!validationPlan.isValidTitle(person.getTitle()))) {
+      hibernateConstraintValidatorContext
+          .addMessageParameter("title", person.getTitle())
+          .buildConstraintViolationWithTemplate(
+              "{digital.inception.party.constraints.ValidPerson.invalidTitle.message}")
+          .addPropertyNode("title")
+          .addConstraintViolation();
+
+      isValid = false;
+    }
+
+    return isValid;
   }
 
   private boolean validateRoleTypeAttributeTypeConstraintsForPersonWithRole(
       Person person,
+      PartyValidationPlan validationPlan,
       String roleType,
-      HibernateConstraintValidatorContext hibernateConstraintValidatorContext)
-      throws Exception {
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
     boolean isValid = true;
 
     for (RoleTypeAttributeTypeConstraint roleTypeAttributeTypeConstraint :
-        getPartyReferenceService().getRoleTypeAttributeTypeConstraints(roleType)) {
+        validationPlan.getRoleTypeAttributeTypeConstraints(roleType)) {
       try {
         if (roleTypeAttributeTypeConstraint.getType() == ConstraintType.MAX_SIZE) {
           Optional<Attribute> attributeOptional =
@@ -1251,7 +1548,7 @@ public class ValidPersonValidator extends PartyValidator
 
           if (attributeOptional.isPresent()) {
             if (!validateReferenceAttributeConstraint(
-                person.getTenantId(),
+                validationPlan,
                 roleTypeAttributeTypeConstraint.getValue(),
                 attributeOptional.get(),
                 hibernateConstraintValidatorContext)) {
@@ -1799,9 +2096,8 @@ public class ValidPersonValidator extends PartyValidator
                   person.getAttributeWithType(roleTypeAttributeTypeConstraint.getAttributeType());
 
               Optional<ValueType> valueTypeOptional =
-                  getPartyReferenceService()
-                      .getAttributeTypeValueType(
-                          roleTypeAttributeTypeConstraint.getAttributeType());
+                  validationPlan.getAttributeTypeValueType(
+                      roleTypeAttributeTypeConstraint.getAttributeType());
 
               if (attributeOptional.isEmpty()
                   || (valueTypeOptional.isPresent()
@@ -1859,13 +2155,13 @@ public class ValidPersonValidator extends PartyValidator
 
   private boolean validateRoleTypePreferenceTypeConstraintsForPersonWithRole(
       Person person,
+      PartyValidationPlan validationPlan,
       String roleType,
-      HibernateConstraintValidatorContext hibernateConstraintValidatorContext)
-      throws Exception {
+      HibernateConstraintValidatorContext hibernateConstraintValidatorContext) {
     boolean isValid = true;
 
     for (RoleTypePreferenceTypeConstraint roleTypePreferenceTypeConstraint :
-        getPartyReferenceService().getRoleTypePreferenceTypeConstraints(roleType)) {
+        validationPlan.getRoleTypePreferenceTypeConstraints(roleType)) {
       try {
         if (roleTypePreferenceTypeConstraint.getType() == ConstraintType.MAX_SIZE) {
           Optional<Preference> preferenceOptional =
@@ -1909,7 +2205,7 @@ public class ValidPersonValidator extends PartyValidator
 
           if (preferenceOptional.isPresent()) {
             if (!validateReferencePreferenceConstraint(
-                person.getTenantId(),
+                validationPlan,
                 roleTypePreferenceTypeConstraint.getValue(),
                 preferenceOptional.get(),
                 hibernateConstraintValidatorContext)) {
@@ -16,29 +16,534 @@
 
 package digital.inception.party.generator;
 
+import digital.inception.core.service.InvalidArgumentException;
+import digital.inception.core.service.ServiceUnavailableException;
+import digital.inception.party.Association;
+import digital.inception.party.AssociationType;
+import digital.inception.party.ContactMechanism;
+import digital.inception.party.ContactMechanismRole;
+import digital.inception.party.ContactMechanismType;
+import digital.inception.party.EmploymentStatus;
+import digital.inception.party.Gender;
+import digital.inception.party.IPartyReferenceService;
+import digital.inception.party.IdentityDocument;
+import digital.inception.party.Mandatary;
+import digital.inception.party.MandataryRole;
+import digital.inception.party.Mandate;
+import digital.inception.party.MandateType;
+import digital.inception.party.MaritalStatus;
+import digital.inception.party.MarriageType;
+import digital.inception.party.Occupation;
+import digital.inception.party.Organization;
+import digital.inception.party.PartyBase;
+import digital.inception.party.Person;
+import digital.inception.party.PhysicalAddress;
+import digital.inception.party.PhysicalAddressPurpose;
+import digital.inception.party.PhysicalAddressRole;
+import digital.inception.party.PhysicalAddressType;
+import digital.inception.party.Race;
+import digital.inception.party.RequiredMandataries;
+import digital.inception.party.ResidencyStatus;
+import digital.inception.party.ResidentialType;
+import digital.inception.party.TaxNumber;
+import digital.inception.party.Title;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
- * The <b>Generator</b> class that supports the generation of random party data.
+ * The <b>Generator</b> class supports the generation of random party data.
+ *
+ * <p>The generator is deterministic, i.e. two generators constructed with the same seed, for the
+ * same tenant and locale, produce the same sequence of persons, organizations, associations and
+ * mandates. The codes used by the generated parties are selected from the reference data retrieved
+ * from the Party Reference Service when the generator is constructed, so that the generated parties
+ * pass validation and no reference data lookups are performed while generating large volumes of
+ * data.
+ *
+ * <p>A generator is not thread-safe. Use a separate generator, with a different seed, per thread.
  *
  * @author Marcus Portmann
  */
 public class Generator {
 
+  /** The date relative to which dates, e.g. dates of birth, are generated. */
+  private static final LocalDate REFERENCE_DATE = LocalDate.of(2022, 1, 1);
+
+  private static final String[] CITIES = {
+    "Johannesburg", "Cape Town", "Durban", "Pretoria", "Port Elizabeth", "Bloemfontein"
+  };
+
+  private static final String[] COMPANY_NAME_PREFIXES = {
+    "Acacia", "Baobab", "Cederberg", "Drakensberg", "Fynbos", "Highveld", "Karoo", "Kalahari",
+    "Lowveld", "Marula", "Protea", "Springbok", "Table Mountain", "Umhlanga", "Waterberg", "Zambezi"
+  };
+
+  private static final String[] COMPANY_NAME_SUFFIXES = {
+    "Capital",
+    "Consulting",
+    "Engineering",
+    "Holdings",
+    "Industries",
+    "Logistics",
+    "Mining",
+    "Properties",
+    "Retail",
+    "Systems",
+    "Technologies",
+    "Trading"
+  };
+
+  private static final String[] COMPANY_TYPES = {"(Pty) Ltd", "Ltd", "Inc", "CC"};
+
+  private static final String[] FEMALE_GIVEN_NAMES = {
+    "Amahle", "Anna", "Ayanda", "Busisiwe", "Charlotte", "Emma", "Grace", "Jane", "Lerato",
+    "Lindiwe", "Mary", "Naledi", "Nomvula", "Olivia", "Palesa", "Sarah", "Thandiwe", "Zanele"
+  };
+
+  private static final String[] MALE_GIVEN_NAMES = {
+    "Andile", "Bongani", "David", "Johan", "John", "Kagiso", "Lwazi", "Mandla", "Michael", "Peter",
+    "Pieter", "Sipho", "Thabo", "Themba", "Thomas", "Tshepo", "William", "Xolani"
+  };
+
+  private static final String[] STREET_NAMES = {
+    "Church Street", "Jan Smuts Avenue", "Kraalbessie Avenue", "Long Street", "Main Road",
+    "Oxford Road", "Rivonia Road", "Voortrekker Road", "Witkoppen Road", "Beach Road"
+  };
+
+  private static final String[] SUBURBS = {
+    "Sandton", "Rosebank", "Sea Point", "Umhlanga", "Hatfield", "Weltevreden Park", "Newlands"
+  };
+
+  private static final String[] SURNAMES = {
+    "Botha", "Dlamini", "Doe", "Du Plessis", "Khumalo", "Mahlangu", "Mokoena", "Naidoo",
+    "Ndlovu", "Nkosi", "Pillay", "Smith", "Van der Merwe", "Van Wyk", "Williams", "Zulu"
+  };
+
+  /** The association types. */
+  private final List<AssociationType> associationTypes;
+
+  /** The employment statuses. */
+  private final List<EmploymentStatus> employmentStatuses;
+
+  /** The genders. */
+  private final List<Gender> genders;
+
   /** The locale to use when generating random party data. */
   private final Locale locale;
 
-  /** Constructs a new <b>Generator</b>. */
-  public Generator() {
-    this.locale = Locale.forLanguageTag("en-US");
+  /** The mandatary roles. */
+  private final List<MandataryRole> mandataryRoles;
+
+  /** The mandate types with at least one mandatary role. */
+  private final List<MandateType> mandateTypes;
+
+  /** The marital statuses. */
+  private final List<MaritalStatus> maritalStatuses;
+
+  /** The marriage types. */
+  private final List<MarriageType> marriageTypes;
+
+  /** The occupations. */
+  private final List<Occupation> occupations;
+
+  /** The races. */
+  private final List<Race> races;
+
+  /** The random number generator. */
+  private final Random random;
+
+  /** The residency statuses. */
+  private final List<ResidencyStatus> residencyStatuses;
+
+  /** The residential types. */
+  private final List<ResidentialType> residentialTypes;
+
+  /** The ID for the tenant the random party data is generated for. */
+  private final UUID tenantId;
+
+  /** The titles. */
+  private final List<Title> titles;
+
+  /**
+   * Constructs a new <b>Generator</b>.
+   *
+   * @param partyReferenceService the Party Reference Service
+   * @param tenantId the ID for the tenant the random party data is generated for
+   * @param seed the seed for the random number generator
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the reference data could not be retrieved
+   */
+  public Generator(IPartyReferenceService partyReferenceService, UUID tenantId, long seed)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    this(partyReferenceService, tenantId, seed, Locale.forLanguageTag("en-US"));
   }
 
   /**
    * Constructs a new <b>Generator</b>.
    *
+   * @param partyReferenceService the Party Reference Service
+   * @param tenantId the ID for the tenant the random party data is generated for
+   * @param seed the seed for the random number generator
    * @param locale the locale
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws ServiceUnavailableException if the reference data could not be retrieved
    */
-  public Generator(Locale locale) {
+  public Generator(
+      IPartyReferenceService partyReferenceService, UUID tenantId, long seed, Locale locale)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    this.tenantId = tenantId;
     this.locale = locale;
+    this.random = new Random(seed);
+
+    String localeId = locale.toLanguageTag();
+
+    this.associationTypes = partyReferenceService.getAssociationTypes(tenantId, localeId);
+    this.employmentStatuses = partyReferenceService.getEmploymentStatuses(tenantId, localeId);
+    this.genders = partyReferenceService.getGenders(tenantId, localeId);
+    this.mandataryRoles = partyReferenceService.getMandataryRoles(tenantId, localeId);
+    this.mandateTypes =
+        partyReferenceService.getMandateTypes(tenantId, localeId).stream()
+            .filter(
+                mandateType ->
+                    mandataryRoles.stream()
+                        .anyMatch(
+                            mandataryRole ->
+                                mandataryRole.getMandateType().equals(mandateType.getCode())))
+            .collect(Collectors.toList());
+    this.maritalStatuses = partyReferenceService.getMaritalStatuses(tenantId, localeId);
+    this.marriageTypes = partyReferenceService.getMarriageTypes(tenantId, localeId);
+    this.occupations = partyReferenceService.getOccupations(tenantId, localeId);
+    this.races = partyReferenceService.getRaces(tenantId, localeId);
+    this.residencyStatuses = partyReferenceService.getResidencyStatuses(tenantId, localeId);
+    this.residentialTypes = partyReferenceService.getResidentialTypes(tenantId, localeId);
+    this.titles = partyReferenceService.getTitles(tenantId, localeId);
+  }
+
+  /**
+   * Generate a random association between the two parties.
+   *
+   * @param firstParty the first party for the association
+   * @param secondParty the second party for the association
+   * @return the random association
+   * @throws IllegalArgumentException if there is no association type that is valid for the types of
+   *     the two parties
+   */
+  public Association generateAssociation(PartyBase firstParty, PartyBase secondParty) {
+    List<AssociationType> validAssociationTypes =
+        associationTypes.stream()
+            .filter(
+                associationType ->
+                    associationType.isValidFirstPartyType(firstParty.getType().code())
+                        && associationType.isValidSecondPartyType(secondParty.getType().code()))
+            .collect(Collectors.toList());
+
+    if (validAssociationTypes.isEmpty()) {
+      throw new IllegalArgumentException(
+          "No association type is valid for a first party with type ("
+              + firstParty.getType().code()
+              + ") and a second party with type ("
+              + secondParty.getType().code()
+              + ")");
+    }
+
+    Association association =
+        new Association(
+            tenantId,
+            pick(validAssociationTypes).getCode(),
+            firstParty.getId(),
+            secondParty.getId(),
+            REFERENCE_DATE.minusDays(random.nextInt(3650)));
+    association.setId(nextId());
+
+    return association;
+  }
+
+  /**
+   * Generate a random mandate for the parties.
+   *
+   * @param mandataries the parties that are the mandataries for the mandate
+   * @return the random mandate
+   */
+  public Mandate generateMandate(List<? extends PartyBase> mandataries) {
+    MandateType mandateType = pick(mandateTypes);
+
+    List<MandataryRole> validMandataryRoles =
+        mandataryRoles.stream()
+            .filter(mandataryRole -> mandataryRole.getMandateType().equals(mandateType.getCode()))
+            .collect(Collectors.toList());
+
+    Mandate mandate =
+        new Mandate(
+            tenantId,
+            mandateType.getCode(),
+            (mandataries.size() > 1) ? RequiredMandataries.ALL : RequiredMandataries.ANY,
+            REFERENCE_DATE.minusDays(random.nextInt(3650)),
+            null);
+    mandate.setId(nextId());
+
+    for (PartyBase mandatary : mandataries) {
+      mandate.addMandatary(new Mandatary(mandatary.getId(), pick(validMandataryRoles).getCode()));
+    }
+
+    return mandate;
+  }
+
+  /**
+   * Generate a random organization.
+   *
+   * @return the random organization
+   */
+  public Organization generateOrganization() {
+    Organization organization =
+        new Organization(
+            tenantId,
+            pick(COMPANY_NAME_PREFIXES)
+                + " "
+                + pick(COMPANY_NAME_SUFFIXES)
+                + " "
+                + pick(COMPANY_TYPES));
+    organization.setId(nextId());
+
+    organization.setCountryOfTaxResidence("ZA");
+    organization.addTaxNumber(new TaxNumber("za_income_tax_number", "ZA", nextTaxNumber()));
+
+    LocalDate dateOfRegistration = REFERENCE_DATE.minusDays(random.nextInt(365 * 40));
+
+    IdentityDocument companyRegistration =
+        new IdentityDocument(
+            "za_company_registration",
+            "ZA",
+            dateOfRegistration,
+            String.format(
+                "%04d/%06d/%02d",
+                dateOfRegistration.getYear(), random.nextInt(1000000), random.nextInt(100)));
+    companyRegistration.setId(nextId());
+
+    organization.addIdentityDocument(companyRegistration);
+
+    organization.addContactMechanism(
+        new ContactMechanism(
+            ContactMechanismType.PHONE_NUMBER,
+            ContactMechanismRole.MAIN_PHONE_NUMBER,
+            "+2711" + nextDigits(7)));
+
+    organization.addPhysicalAddress(nextStreetAddress(PhysicalAddressRole.MAIN));
+
+    return organization;
+  }
+
+  /**
+   * Generate a random person.
+   *
+   * @return the random person
+   */
+  public Person generatePerson() {
+    Gender gender = pick(genders);
+
+    boolean isFemale =
+        gender.getCode().equals("female")
+            || ((!gender.getCode().equals("male")) && random.nextBoolean());
+
+    String givenName = isFemale ? pick(FEMALE_GIVEN_NAMES) : pick(MALE_GIVEN_NAMES);
+    String surname = pick(SURNAMES);
+
+    Person person = new Person(tenantId, givenName + " " + surname);
+    person.setId(nextId());
+
+    LocalDate dateOfBirth = REFERENCE_DATE.minusDays(365L * 18 + random.nextInt(365 * 62));
+
+    person.setCountryOfBirth("ZA");
+    person.setCountryOfResidence("ZA");
+    person.setDateOfBirth(dateOfBirth);
+    person.setGender(gender.getCode());
+    person.setGivenName(givenName);
+    person.setInitials(givenName.substring(0, 1));
+    person.setLanguage("EN");
+    person.setPreferredName(givenName);
+    person.setSurname(surname);
+    person.setTimeZone("Africa/Johannesburg");
+
+    List<Title> titlesForGender =
+        titles.stream()
+            .filter(title -> Arrays.asList(title.getGenders()).contains(gender.getCode()))
+            .collect(Collectors.toList());
+
+    if (!titlesForGender.isEmpty()) {
+      person.setTitle(pick(titlesForGender).getCode());
+    }
+
+    if (!maritalStatuses.isEmpty()) {
+      MaritalStatus maritalStatus = pick(maritalStatuses);
+
+      person.setMaritalStatus(maritalStatus.getCode());
+
+      List<MarriageType> marriageTypesForMaritalStatus =
+          marriageTypes.stream()
+              .filter(
+                  marriageType -> marriageType.getMaritalStatus().equals(maritalStatus.getCode()))
+              .collect(Collectors.toList());
+
+      if (!marriageTypesForMaritalStatus.isEmpty()) {
+        person.setMarriageType(pick(marriageTypesForMaritalStatus).getCode());
+      }
+    }
+
+    if (!employmentStatuses.isEmpty()) {
+      person.setEmploymentStatus(pick(employmentStatuses).getCode());
+    }
+
+    if (!occupations.isEmpty()) {
+      person.setOccupation(pick(occupations).getCode());
+    }
+
+    if (!races.isEmpty()) {
+      person.setRace(pick(races).getCode());
+    }
+
+    if (!residencyStatuses.isEmpty()) {
+      person.setResidencyStatus(pick(residencyStatuses).getCode());
+    }
+
+    if (!residentialTypes.isEmpty()) {
+      person.setResidentialType(pick(residentialTypes).getCode());
+    }
+
+    person.setCountryOfTaxResidence("ZA");
+    person.addTaxNumber(new TaxNumber("za_income_tax_number", "ZA", nextTaxNumber()));
+
+    IdentityDocument idCard =
+        new IdentityDocument(
+            "za_id_card",
+            "ZA",
+            dateOfBirth.plusYears(16).plusDays(random.nextInt(365 * 2)),
+            nextSouthAfricanIdNumber(dateOfBirth, isFemale));
+    idCard.setId(nextId());
+
+    person.addIdentityDocument(idCard);
+
+    String emailAddress =
+        (givenName + "." + surname).toLowerCase(locale).replace(' ', '.')
+            + nextDigits(4)
+            + "@example.com";
+
+    person.addContactMechanism(
+        new ContactMechanism(
+            ContactMechanismType.MOBILE_NUMBER,
+            ContactMechanismRole.PERSONAL_MOBILE_NUMBER,
+            "+2783" + nextDigits(7)));
+    person.addContactMechanism(
+        new ContactMechanism(
+            ContactMechanismType.EMAIL_ADDRESS,
+            ContactMechanismRole.PERSONAL_EMAIL_ADDRESS,
+            emailAddress));
+
+    person.addPhysicalAddress(nextStreetAddress(PhysicalAddressRole.RESIDENTIAL));
+
+    return person;
+  }
+
+  /**
+   * Returns the ID for the tenant the random party data is generated for.
+   *
+   * @return the ID for the tenant the random party data is generated for
+   */
+  public UUID getTenantId() {
+    return tenantId;
+  }
+
+  private String nextDigits(int count) {
+    StringBuilder buffer = new StringBuilder(count);
+
+    for (int i = 0; i < count; i++) {
+      buffer.append((char) ('0' + random.nextInt(10)));
+    }
+
+    return buffer.toString();
+  }
+
+  /**
+   * Returns the next random version 4 UUID, which is derived from the random number generator
+   * rather than a secure random source so that the IDs for the generated data are deterministic.
+   *
+   * @return the next random ID
+   */
+  private UUID nextId() {
+    long mostSigBits = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+    long leastSigBits = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  /**
+   * Returns a random South African ID number, made up of the date of birth (YYMMDD), a four digit
+   * sequence number that encodes the gender, a citizenship digit, the digit 8 and a Luhn check
+   * digit.
+   *
+   * @param dateOfBirth the date of birth
+   * @param isFemale is the person female
+   * @return the random South African ID number
+   */
+  private String nextSouthAfricanIdNumber(LocalDate dateOfBirth, boolean isFemale) {
+    String idNumber =
+        String.format(
+            "%02d%02d%02d%04d08",
+            dateOfBirth.getYear() % 100,
+            dateOfBirth.getMonthValue(),
+            dateOfBirth.getDayOfMonth(),
+            (isFemale ? 0 : 5000) + random.nextInt(5000));
+
+    int sum = 0;
+
+    for (int i = 0; i < idNumber.length(); i++) {
+      int digit = idNumber.charAt(idNumber.length() - 1 - i) - '0';
+
+      if ((i % 2) == 0) {
+        digit *= 2;
+
+        if (digit > 9) {
+          digit -= 9;
+        }
+      }
+
+      sum += digit;
+    }
+
+    return idNumber + ((10 - (sum % 10)) % 10);
+  }
+
+  private PhysicalAddress nextStreetAddress(String role) {
+    PhysicalAddress physicalAddress =
+        new PhysicalAddress(
+            PhysicalAddressType.STREET,
+            role,
+            Set.of(PhysicalAddressPurpose.BILLING, PhysicalAddressPurpose.CORRESPONDENCE));
+    physicalAddress.setId(nextId());
+    physicalAddress.setStreetNumber(String.valueOf(1 + random.nextInt(500)));
+    physicalAddress.setStreetName(pick(STREET_NAMES));
+    physicalAddress.setSuburb(pick(SUBURBS));
+    physicalAddress.setCity(pick(CITIES));
+    physicalAddress.setRegion("ZA-GP");
+    physicalAddress.setCountry("ZA");
+    physicalAddress.setPostalCode(nextDigits(4));
+
+    return physicalAddress;
+  }
+
+  private String nextTaxNumber() {
+    return random.nextInt(4) + nextDigits(9);
+  }
+
+  private <T> T pick(List<T> values) {
+    return values.get(random.nextInt(values.size()));
+  }
+
+  private String pick(String[] values) {
+    return values[random.nextInt(values.length)];
   }
 }
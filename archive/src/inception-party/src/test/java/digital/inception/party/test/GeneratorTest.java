@@ -16,12 +16,26 @@
 
 package digital.inception.party.test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import digital.inception.party.Association;
+import digital.inception.party.IPartyReferenceService;
+import digital.inception.party.IPartyService;
+import digital.inception.party.Mandate;
+import digital.inception.party.Organization;
+import digital.inception.party.Person;
 import digital.inception.party.generator.Generator;
 import digital.inception.test.InceptionExtension;
 import digital.inception.test.TestConfiguration;
-import org.ietf.jgss.GSSName;
+import java.util.List;
+import java.util.Set;
+import javax.validation.ConstraintViolation;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestExecutionListeners;
@@ -36,7 +50,6 @@ import org.springframework.test.context.transaction.TransactionalTestExecutionLi
  *
  * @author Marcus Portmann
  */
-@SuppressWarnings("OptionalGetWithoutIsPresent")
 @ExtendWith(SpringExtension.class)
 @ExtendWith(InceptionExtension.class)
 @ContextConfiguration(
@@ -44,20 +57,146 @@ import org.springframework.test.context.transaction.TransactionalTestExecutionLi
     initializers = {ConfigDataApplicationContextInitializer.class})
 @TestExecutionListeners(
     listeners = {
-        DependencyInjectionTestExecutionListener.class,
-        DirtiesContextTestExecutionListener.class,
-        TransactionalTestExecutionListener.class
+      DependencyInjectionTestExecutionListener.class,
+      DirtiesContextTestExecutionListener.class,
+      TransactionalTestExecutionListener.class
     })
 public class GeneratorTest {
 
+  /** The Jackson2 object mapper. */
+  @Autowired private ObjectMapper objectMapper;
+
+  /** The Party Reference Service. */
+  @Autowired private IPartyReferenceService partyReferenceService;
+
+  /** The Party Service. */
+  @Autowired private IPartyService partyService;
+
+  /** Test that the same seed generates the same party data. */
+  @Test
+  public void deterministicGenerationTest() throws Exception {
+    Generator firstGenerator =
+        new Generator(partyReferenceService, IPartyService.DEFAULT_TENANT_ID, 42);
+    Generator secondGenerator =
+        new Generator(partyReferenceService, IPartyService.DEFAULT_TENANT_ID, 42);
+    Generator otherGenerator =
+        new Generator(partyReferenceService, IPartyService.DEFAULT_TENANT_ID, 43);
+
+    for (int i = 0; i < 10; i++) {
+      Person person = firstGenerator.generatePerson();
+
+      assertEquals(
+          objectMapper.writeValueAsString(person),
+          objectMapper.writeValueAsString(secondGenerator.generatePerson()),
+          "The persons generated using the same seed are not the same");
+
+      assertNotEquals(
+          person.getId(),
+          otherGenerator.generatePerson().getId(),
+          "The persons generated using different seeds have the same ID");
+
+      assertEquals(
+          objectMapper.writeValueAsString(firstGenerator.generateOrganization()),
+          objectMapper.writeValueAsString(secondGenerator.generateOrganization()),
+          "The organizations generated using the same seed are not the same");
+
+      otherGenerator.generateOrganization();
+    }
+  }
+
+  /** Test the generate association and generate mandate functionality. */
+  @Test
+  public void generateAssociationAndMandateTest() throws Exception {
+    Generator generator = new Generator(partyReferenceService, IPartyService.DEFAULT_TENANT_ID, 7);
+
+    Organization organization = generator.generateOrganization();
+    Person firstPerson = generator.generatePerson();
+    Person secondPerson = generator.generatePerson();
+
+    partyService.createOrganization(IPartyService.DEFAULT_TENANT_ID, organization);
+    partyService.createPerson(IPartyService.DEFAULT_TENANT_ID, firstPerson);
+    partyService.createPerson(IPartyService.DEFAULT_TENANT_ID, secondPerson);
+
+    for (int i = 0; i < 10; i++) {
+      Association association =
+          (i % 2 == 0)
+              ? generator.generateAssociation(organization, firstPerson)
+              : generator.generateAssociation(firstPerson, secondPerson);
+
+      Set<ConstraintViolation<Association>> associationConstraintViolations =
+          partyService.validateAssociation(IPartyService.DEFAULT_TENANT_ID, association);
+
+      assertTrue(
+          associationConstraintViolations.isEmpty(),
+          "The generated association is not valid: " + associationConstraintViolations);
+
+      partyService.createAssociation(IPartyService.DEFAULT_TENANT_ID, association);
+
+      Mandate mandate = generator.generateMandate(List.of(firstPerson, secondPerson));
+
+      Set<ConstraintViolation<Mandate>> mandateConstraintViolations =
+          partyService.validateMandate(IPartyService.DEFAULT_TENANT_ID, mandate);
+
+      assertTrue(
+          mandateConstraintViolations.isEmpty(),
+          "The generated mandate is not valid: " + mandateConstraintViolations);
+
+      partyService.createMandate(IPartyService.DEFAULT_TENANT_ID, mandate);
+    }
+  }
+
+  /** Test the generate organization functionality. */
+  @Test
+  public void generateOrganizationTest() throws Exception {
+    for (long seed = 0; seed < 20; seed++) {
+      Generator generator =
+          new Generator(partyReferenceService, IPartyService.DEFAULT_TENANT_ID, seed);
+
+      for (int i = 0; i < 25; i++) {
+        Organization organization = generator.generateOrganization();
+
+        Set<ConstraintViolation<Organization>> constraintViolations =
+            partyService.validateOrganization(IPartyService.DEFAULT_TENANT_ID, organization);
+
+        assertTrue(
+            constraintViolations.isEmpty(),
+            "The generated organization is not valid: " + constraintViolations);
+      }
+    }
+  }
+
   /** Test the generate person functionality. */
   @Test
   public void generatePersonTest() throws Exception {
-    Generator generator = new Generator();
+    for (long seed = 0; seed < 20; seed++) {
+      Generator generator =
+          new Generator(partyReferenceService, IPartyService.DEFAULT_TENANT_ID, seed);
 
-    int xxx = 0;
-    xxx++;
+      for (int i = 0; i < 25; i++) {
+        Person person = generator.generatePerson();
 
-  }
+        Set<ConstraintViolation<Person>> constraintViolations =
+            partyService.validatePerson(IPartyService.DEFAULT_TENANT_ID, person);
+
+        assertTrue(
+            constraintViolations.isEmpty(),
+            "The generated person is not valid: " + constraintViolations);
+      }
+    }
+
+    Generator generator = new Generator(partyReferenceService, IPartyService.DEFAULT_TENANT_ID, 1);
 
+    Person person = generator.generatePerson();
+
+    partyService.createPerson(IPartyService.DEFAULT_TENANT_ID, person);
+
+    Person retrievedPerson =
+        partyService.getPerson(IPartyService.DEFAULT_TENANT_ID, person.getId());
+
+    assertEquals(person.getName(), retrievedPerson.getName(), "The names do not match");
+    assertEquals(
+        person.getIdentityDocuments().size(),
+        retrievedPerson.getIdentityDocuments().size(),
+        "The number of identity documents does not match");
+  }
 }
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import digital.inception.cache.CompactBinaryCodec;
+import digital.inception.party.IPartyReferenceService;
+import digital.inception.party.IPartyService;
+import digital.inception.party.Person;
+import digital.inception.party.generator.Generator;
+import digital.inception.reference.Country;
+import digital.inception.reference.IReferenceService;
+import digital.inception.test.TestConfiguration;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * The <b>PartyCacheSerializationBenchmark</b> class contains the JMH benchmark that compares the
+ * size and the serialization and deserialization latency for the values held in the distributed
+ * in-memory caches when using Java serialization and the <b>CompactBinaryCodec</b>.
+ *
+ * <p>The values are a person with complete details, retrieved using the Party Service, and the list
+ * of countries, retrieved using the Reference Service. The elements of the list of countries are
+ * serialized individually, in the same way as the Hazelcast serializer for array lists.
+ *
+ * <p>Run the benchmark using the <b>main</b> method, after compiling the test classes, e.g. from an
+ * IDE or using <i>mvn exec:java</i> with the test classpath. The sizes of the serialized values are
+ * written to the standard output during setup.
+ *
+ * @author Marcus Portmann
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PartyCacheSerializationBenchmark {
+
+  /** The Spring application context. */
+  private AnnotationConfigApplicationContext applicationContext;
+
+  /** The compact binary codec. */
+  private CompactBinaryCodec codec;
+
+  /** The compact binary serialized countries. */
+  private List<byte[]> compactCountries;
+
+  /** The compact binary serialized person. */
+  private byte[] compactPerson;
+
+  /** The countries. */
+  private List<Country> countries;
+
+  /** The Java serialized countries. */
+  private List<byte[]> javaCountries;
+
+  /** The Java serialized person. */
+  private byte[] javaPerson;
+
+  /** The person. */
+  private Person person;
+
+  /**
+   * Run the benchmark.
+   *
+   * @param args the command-line arguments
+   */
+  public static void main(String[] args) throws Exception {
+    new Runner(
+            new OptionsBuilder()
+                .include(PartyCacheSerializationBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+
+  private static int size(List<byte[]> values) {
+    return values.stream().mapToInt(value -> value.length).sum();
+  }
+
+  private static Object javaDeserialize(byte[] bytes) throws IOException {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return in.readObject();
+    } catch (ClassNotFoundException e) {
+      throw new IOException("Failed to deserialize the Java serialized value", e);
+    }
+  }
+
+  private static byte[] javaSerialize(Object value) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(value);
+    }
+
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Benchmark the compact binary deserialization of the countries.
+   *
+   * @return the countries
+   */
+  @Benchmark
+  public List<Object> compactDeserializeCountries() throws IOException {
+    List<Object> values = new ArrayList<>(compactCountries.size());
+
+    for (byte[] bytes : compactCountries) {
+      values.add(compactDeserialize(bytes));
+    }
+
+    return values;
+  }
+
+  /**
+   * Benchmark the compact binary deserialization of the person.
+   *
+   * @return the person
+   */
+  @Benchmark
+  public Object compactDeserializePerson() throws IOException {
+    return compactDeserialize(compactPerson);
+  }
+
+  /**
+   * Benchmark the compact binary serialization of the countries.
+   *
+   * @return the compact binary serialized countries
+   */
+  @Benchmark
+  public List<byte[]> compactSerializeCountries() throws IOException {
+    List<byte[]> values = new ArrayList<>(countries.size());
+
+    for (Country country : countries) {
+      values.add(compactSerialize(country));
+    }
+
+    return values;
+  }
+
+  /**
+   * Benchmark the compact binary serialization of the person.
+   *
+   * @return the compact binary serialized person
+   */
+  @Benchmark
+  public byte[] compactSerializePerson() throws IOException {
+    return compactSerialize(person);
+  }
+
+  /**
+   * Benchmark the Java deserialization of the countries.
+   *
+   * @return the countries
+   */
+  @Benchmark
+  public List<Object> javaDeserializeCountries() throws IOException {
+    List<Object> values = new ArrayList<>(javaCountries.size());
+
+    for (byte[] bytes : javaCountries) {
+      values.add(javaDeserialize(bytes));
+    }
+
+    return values;
+  }
+
+  /**
+   * Benchmark the Java deserialization of the person.
+   *
+   * @return the person
+   */
+  @Benchmark
+  public Object javaDeserializePerson() throws IOException {
+    return javaDeserialize(javaPerson);
+  }
+
+  /**
+   * Benchmark the Java serialization of the countries.
+   *
+   * @return the Java serialized countries
+   */
+  @Benchmark
+  public List<byte[]> javaSerializeCountries() throws IOException {
+    List<byte[]> values = new ArrayList<>(countries.size());
+
+    for (Country country : countries) {
+      values.add(javaSerialize(country));
+    }
+
+    return values;
+  }
+
+  /**
+   * Benchmark the Java serialization of the person.
+   *
+   * @return the Java serialized person
+   */
+  @Benchmark
+  public byte[] javaSerializePerson() throws IOException {
+    return javaSerialize(person);
+  }
+
+  /**
+   * Initialize the Spring application context, the values that are serialized and the values that
+   * are deserialized.
+   */
+  @Setup
+  public void setup() throws Exception {
+    applicationContext = new AnnotationConfigApplicationContext();
+
+    new ConfigDataApplicationContextInitializer().initialize(applicationContext);
+
+    applicationContext.register(TestConfiguration.class);
+    applicationContext.refresh();
+
+    IPartyService partyService = applicationContext.getBean(IPartyService.class);
+
+    Person generatedPerson =
+        new Generator(
+                applicationContext.getBean(IPartyReferenceService.class),
+                IPartyService.DEFAULT_TENANT_ID,
+                1)
+            .generatePerson();
+
+    partyService.createPerson(IPartyService.DEFAULT_TENANT_ID, generatedPerson);
+
+    person = partyService.getPerson(IPartyService.DEFAULT_TENANT_ID, generatedPerson.getId());
+
+    countries = applicationContext.getBean(IReferenceService.class).getCountries();
+
+    codec =
+        new CompactBinaryCodec(
+            CompactBinaryCodec.findEntityClasses(
+                List.of("digital.inception.party", "digital.inception.reference")),
+            getClass().getClassLoader());
+
+    javaPerson = javaSerialize(person);
+    javaCountries = javaSerializeCountries();
+    compactPerson = compactSerializePerson();
+    compactCountries = compactSerializeCountries();
+
+    ObjectMapper objectMapper = applicationContext.getBean(ObjectMapper.class);
+
+    if (!objectMapper
+        .writeValueAsString(person)
+        .equals(objectMapper.writeValueAsString(compactDeserializePerson()))) {
+      throw new IllegalStateException(
+          "The compact binary deserialized person does not match the original person");
+    }
+
+    if (!objectMapper
+        .writeValueAsString(countries)
+        .equals(objectMapper.writeValueAsString(compactDeserializeCountries()))) {
+      throw new IllegalStateException(
+          "The compact binary deserialized countries do not match the original countries");
+    }
+
+    System.out.printf(
+        "%nPerson:    %8d bytes (Java) %8d bytes (compact binary)%n",
+        javaPerson.length, compactPerson.length);
+    System.out.printf(
+        "Countries: %8d bytes (Java) %8d bytes (compact binary) for %d countries%n",
+        size(javaCountries), size(compactCountries), countries.size());
+  }
+
+  /** Close the Spring application context. */
+  @TearDown
+  public void tearDown() {
+    applicationContext.close();
+  }
+
+  private Object compactDeserialize(byte[] bytes) throws IOException {
+    return codec.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+  }
+
+  private byte[] compactSerialize(Object value) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    codec.write(new DataOutputStream(bytes), value);
+
+    return bytes.toByteArray();
+  }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.party.test;
+
+import digital.inception.party.IPartyReferenceService;
+import digital.inception.party.IPartyService;
+import digital.inception.party.Organization;
+import digital.inception.party.PartyBase;
+import digital.inception.party.PartyType;
+import digital.inception.party.PartyUpsertResult;
+import digital.inception.party.PartyUpsertStatus;
+import digital.inception.party.Person;
+import digital.inception.party.generator.Generator;
+import digital.inception.test.TestConfiguration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The <b>PartyLoadTest</b> class contains the load test for the Party Service, which uses the
+ * <b>Generator</b> to create a deterministic set of persons, organizations, associations and
+ * mandates, and then measures the throughput for creating, reading and searching for parties.
+ *
+ * <p>Run the load test using the <b>main</b> method, after compiling the test classes, e.g. from an
+ * IDE or using <i>mvn exec:java</i> with the test classpath. The optional command-line arguments
+ * are the number of parties to create (default 10000) and the seed for the generator (default 1).
+ *
+ * <p>The load test uses the in-memory H2 database provided by the <b>TestConfiguration</b> class,
+ * which is suitable for runs of up to a few hundred thousand parties. Runs with millions of parties
+ * should be performed against a dedicated database server with the required heap and storage.
+ *
+ * @author Marcus Portmann
+ */
+public class PartyLoadTest {
+
+  /** The number of parties between each association or mandate that is created. */
+  private static final int GRAPH_INTERVAL = 10;
+
+  /** The percentage of the generated parties that are organizations. */
+  private static final int ORGANIZATION_PERCENTAGE = 20;
+
+  /** The maximum number of parties that are read or searched for. */
+  private static final int SAMPLE_SIZE = 10000;
+
+  /** The Party Reference Service. */
+  private final IPartyReferenceService partyReferenceService;
+
+  /** The Party Service. */
+  private final IPartyService partyService;
+
+  private PartyLoadTest(IPartyReferenceService partyReferenceService, IPartyService partyService) {
+    this.partyReferenceService = partyReferenceService;
+    this.partyService = partyService;
+  }
+
+  /**
+   * Run the load test.
+   *
+   * @param args the command-line arguments
+   */
+  public static void main(String[] args) throws Exception {
+    int partyCount = (args.length > 0) ? Integer.parseInt(args[0]) : 10000;
+    long seed = (args.length > 1) ? Long.parseLong(args[1]) : 1;
+
+    try (AnnotationConfigApplicationContext applicationContext =
+        new AnnotationConfigApplicationContext()) {
+      new ConfigDataApplicationContextInitializer().initialize(applicationContext);
+
+      applicationContext.register(TestConfiguration.class, CachingConfiguration.class);
+      applicationContext.refresh();
+
+      new PartyLoadTest(
+              applicationContext.getBean(IPartyReferenceService.class),
+              applicationContext.getBean(IPartyService.class))
+          .run(partyCount, seed);
+    }
+
+    // The transaction manager's recovery thread is not a daemon thread, so exit explicitly
+    System.exit(0);
+  }
+
+  private static void report(String operation, long count, long elapsedTime) {
+    double seconds = Math.max(1, elapsedTime) / 1_000_000_000d;
+
+    System.out.printf(
+        "%-14s %12d operations in %10.3f s %12.1f ops/s%n",
+        operation, count, seconds, count / seconds);
+  }
+
+  private void run(int partyCount, long seed) throws Exception {
+    UUID tenantId = IPartyService.DEFAULT_TENANT_ID;
+
+    Generator generator = new Generator(partyReferenceService, tenantId, seed);
+    Random random = new Random(seed);
+
+    /*
+     * Keep a fixed-size random sample of the persons and organizations that were created, using
+     * reservoir sampling, so that the memory required does not grow with the number of parties.
+     */
+    List<PartyBase> sample = new ArrayList<>(SAMPLE_SIZE);
+    List<PartyBase> batch = new ArrayList<>(IPartyService.MAX_UPSERT_PARTIES);
+
+    long associationCount = 0;
+    long mandateCount = 0;
+    long createTime = 0;
+    long graphTime = 0;
+
+    for (int i = 0; i < partyCount; i++) {
+      batch.add(
+          (random.nextInt(100) < ORGANIZATION_PERCENTAGE)
+              ? generator.generateOrganization()
+              : generator.generatePerson());
+
+      if ((batch.size() == IPartyService.MAX_UPSERT_PARTIES) || (i == (partyCount - 1))) {
+        long startTime = System.nanoTime();
+
+        for (PartyUpsertResult result : partyService.upsertParties(tenantId, batch)) {
+          if (result.getStatus() == PartyUpsertStatus.FAILED) {
+            throw new IllegalStateException(
+                "Failed to create the generated party ("
+                    + result.getId()
+                    + "): "
+                    + result.getMessage());
+          }
+        }
+
+        createTime += System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+
+        for (int j = GRAPH_INTERVAL; j < batch.size(); j += GRAPH_INTERVAL) {
+          PartyBase firstParty = batch.get(j - 1);
+          PartyBase secondParty = batch.get(j);
+
+          if (secondParty.getType() == PartyType.PERSON) {
+            partyService.createAssociation(
+                tenantId, generator.generateAssociation(firstParty, secondParty));
+            associationCount++;
+          }
+
+          if ((firstParty.getType() == PartyType.PERSON)
+              && (secondParty.getType() == PartyType.PERSON)) {
+            partyService.createMandate(
+                tenantId, generator.generateMandate(List.of(firstParty, secondParty)));
+            mandateCount++;
+          }
+        }
+
+        graphTime += System.nanoTime() - startTime;
+
+        for (int j = 0; j < batch.size(); j++) {
+          long index = (i - batch.size()) + 1 + j;
+
+          if (index < SAMPLE_SIZE) {
+            sample.add(batch.get(j));
+          } else {
+            long replaceIndex = (long) (random.nextDouble() * (index + 1));
+
+            if (replaceIndex < SAMPLE_SIZE) {
+              sample.set((int) replaceIndex, batch.get(j));
+            }
+          }
+        }
+
+        batch.clear();
+      }
+    }
+
+    report("create parties", partyCount, createTime);
+    report("create graph", associationCount + mandateCount, graphTime);
+
+    long startTime = System.nanoTime();
+
+    for (PartyBase party : sample) {
+      if (party.getType() == PartyType.PERSON) {
+        partyService.getPerson(tenantId, party.getId());
+      } else {
+        partyService.getOrganization(tenantId, party.getId());
+      }
+    }
+
+    report("read", sample.size(), System.nanoTime() - startTime);
+
+    startTime = System.nanoTime();
+
+    for (PartyBase party : sample) {
+      partyService.searchParties(
+          tenantId,
+          (party instanceof Person)
+              ? ((Person) party).getSurname()
+              : ((Organization) party).getName(),
+          20);
+    }
+
+    report("search", sample.size(), System.nanoTime() - startTime);
+  }
+
+  /**
+   * The <b>CachingConfiguration</b> class enables caching for the load test so that the reference
+   * data is retrieved from the cache, as it would be in an application, rather than the database.
+   */
+  @Configuration
+  @EnableCaching
+  static class CachingConfiguration {}
+}
@@ -16,10 +16,18 @@
 
 package digital.inception.party.test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import digital.inception.party.AssociationPropertyType;
 import digital.inception.party.AssociationType;
 import digital.inception.party.AttributeType;
@@ -48,6 +56,7 @@ import digital.inception.party.MarriageType;
 import digital.inception.party.NextOfKinType;
 import digital.inception.party.Occupation;
 import digital.inception.party.PartyType;
+import digital.inception.party.PartyValidationPlan;
 import digital.inception.party.PhysicalAddressPurpose;
 import digital.inception.party.PhysicalAddressRole;
 import digital.inception.party.PhysicalAddressType;
@@ -55,6 +64,7 @@ import digital.inception.party.PreferenceType;
 import digital.inception.party.PreferenceTypeCategory;
 import digital.inception.party.QualificationType;
 import digital.inception.party.Race;
+import digital.inception.party.ReferenceDataBundle;
 import digital.inception.party.ResidencePermitType;
 import digital.inception.party.ResidencyStatus;
 import digital.inception.party.ResidentialType;
@@ -74,12 +84,16 @@ import digital.inception.party.TimeToContact;
 import digital.inception.party.Title;
 import digital.inception.test.InceptionExtension;
 import digital.inception.test.TestConfiguration;
+import java.io.ByteArrayInputStream;
 import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -106,6 +120,12 @@ import org.springframework.test.context.transaction.TransactionalTestExecutionLi
     })
 public class PartyReferenceServiceTest {
 
+  /** The Spring cache manager. */
+  @Autowired private CacheManager cacheManager;
+
+  /** The Jackson2 object mapper. */
+  @Autowired private ObjectMapper objectMapper;
+
   /** The Party Reference Service. */
   @Autowired private IPartyReferenceService partyReferenceService;
 
@@ -1086,6 +1106,65 @@ public class PartyReferenceServiceTest {
     assertEquals(6, retrievedRaces.size(), "The correct number of races was not retrieved");
   }
 
+  /** Test the reference data bundle functionality. */
+  @Test
+  public void referenceDataBundleTest() throws Exception {
+    ReferenceDataBundle referenceDataBundle =
+        partyReferenceService.getReferenceDataBundle(
+            IPartyReferenceService.DEFAULT_TENANT_ID, IPartyReferenceService.DEFAULT_LOCALE_ID);
+
+    JsonNode referenceData = objectMapper.readTree(referenceDataBundle.getData());
+
+    assertEquals(
+        7, referenceData.get("races").size(), "The correct number of races was not retrieved");
+    assertTrue(
+        referenceData.get("countries").size() > 0, "The countries were not included in the bundle");
+
+    try (GZIPInputStream in =
+        new GZIPInputStream(new ByteArrayInputStream(referenceDataBundle.getCompressedData()))) {
+      assertArrayEquals(
+          referenceDataBundle.getData(),
+          in.readAllBytes(),
+          "The compressed reference data does not match the reference data");
+    }
+
+    assertSame(
+        referenceDataBundle,
+        partyReferenceService.getReferenceDataBundle(
+            IPartyReferenceService.DEFAULT_TENANT_ID, IPartyReferenceService.DEFAULT_LOCALE_ID),
+        "The reference data bundle was rebuilt for the unchanged reference data");
+
+    partyReferenceService.evictReferenceData();
+
+    ReferenceDataBundle rebuiltReferenceDataBundle =
+        partyReferenceService.getReferenceDataBundle(
+            IPartyReferenceService.DEFAULT_TENANT_ID, IPartyReferenceService.DEFAULT_LOCALE_ID);
+
+    assertNotSame(
+        referenceDataBundle,
+        rebuiltReferenceDataBundle,
+        "The reference data bundle was not rebuilt after the reference data was evicted");
+    assertEquals(
+        referenceDataBundle.getContentHash(),
+        rebuiltReferenceDataBundle.getContentHash(),
+        "The content hash for the unchanged reference data changed");
+
+    ReferenceDataBundle tenantReferenceDataBundle =
+        partyReferenceService.getReferenceDataBundle(
+            UUID.fromString("11111111-1111-1111-1111-111111111111"),
+            IPartyReferenceService.DEFAULT_LOCALE_ID);
+
+    assertEquals(
+        6,
+        objectMapper.readTree(tenantReferenceDataBundle.getData()).get("races").size(),
+        "The correct number of races was not retrieved");
+
+    assertNotEquals(
+        referenceDataBundle.getContentHash(),
+        tenantReferenceDataBundle.getContentHash(),
+        "The content hash for the reference data for different tenants is the same");
+  }
+
   /** Test the residence permit type reference functionality. */
   @Test
   public void residencePermitTypeTest() throws Exception {
@@ -1573,6 +1652,80 @@ public class PartyReferenceServiceTest {
     assertEquals(12, retrievedTitles.size(), "The correct number of titles was not retrieved");
   }
 
+  /** Test the validation plan functionality. */
+  @Test
+  public void validationPlanTest() throws Exception {
+    PartyValidationPlan validationPlan =
+        partyReferenceService.getValidationPlan(IPartyReferenceService.DEFAULT_TENANT_ID);
+
+    assertEquals(
+        IPartyReferenceService.DEFAULT_TENANT_ID,
+        validationPlan.getTenantId(),
+        "The validation plan was not compiled for the correct tenant");
+
+    assertTrue(validationPlan.isValidRace("test_race"));
+    assertTrue(validationPlan.isValidRace("white"));
+    assertFalse(validationPlan.isValidRace("invalid_race"));
+    assertTrue(validationPlan.isValidCountry("ZA"));
+    assertFalse(validationPlan.isValidCountry("XX"));
+    assertTrue(validationPlan.isValidTimeZone("Africa/Johannesburg"));
+    assertTrue(
+        validationPlan.isValidContactMechanismPurpose("person", "email_address", "security"));
+    assertTrue(validationPlan.isValidMarriageType("married", "anc_with_accrual"));
+    assertFalse(validationPlan.isValidMarriageType("married", "invalid_marriage_type"));
+    assertTrue(
+        validationPlan
+            .getContactMechanismRole(
+                PartyType.PERSON.code(),
+                ContactMechanismType.MOBILE_NUMBER,
+                "personal_mobile_number")
+            .isPresent());
+    assertEquals(
+        partyReferenceService.getRoleTypeAttributeTypeConstraints("test_person_role").size(),
+        validationPlan.getRoleTypeAttributeTypeConstraints("test_person_role").size(),
+        "The correct number of role type attribute type constraints was not retrieved");
+    assertEquals(
+        partyReferenceService.getRoleTypePreferenceTypeConstraints("test_person_role").size(),
+        validationPlan.getRoleTypePreferenceTypeConstraints("test_person_role").size(),
+        "The correct number of role type preference type constraints was not retrieved");
+
+    PartyValidationPlan tenantValidationPlan =
+        partyReferenceService.getValidationPlan(
+            UUID.fromString("11111111-1111-1111-1111-111111111111"));
+
+    assertFalse(tenantValidationPlan.isValidRace("test_race"));
+    assertTrue(tenantValidationPlan.isValidRace("white"));
+
+    assertSame(
+        validationPlan,
+        partyReferenceService.getValidationPlan(IPartyReferenceService.DEFAULT_TENANT_ID),
+        "The validation plan was recompiled for the unchanged reference data");
+
+    partyReferenceService.evictReferenceData();
+
+    PartyValidationPlan recompiledValidationPlan =
+        partyReferenceService.getValidationPlan(IPartyReferenceService.DEFAULT_TENANT_ID);
+
+    assertNotSame(
+        validationPlan,
+        recompiledValidationPlan,
+        "The validation plan was not recompiled after the reference data was evicted");
+    assertTrue(recompiledValidationPlan.isValidRace("test_race"));
+
+    // Simulate the eviction of the reference data from the caches on another node
+    Cache referenceCache = cacheManager.getCache("reference");
+
+    assertNotNull(referenceCache, "Failed to retrieve the reference cache");
+
+    referenceCache.put("referenceDataGeneration", UUID.randomUUID());
+
+    assertNotSame(
+        recompiledValidationPlan,
+        partyReferenceService.getValidationPlan(IPartyReferenceService.DEFAULT_TENANT_ID),
+        "The validation plan was not recompiled after the reference data was evicted on another"
+            + " node");
+  }
+
   /** Test the reference data validity check functionality. */
   @Test
   public void validityTest() throws Exception {
@@ -18,18 +18,26 @@ package digital.inception.party.test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import com.devskiller.jfairy.Fairy;
 import com.devskiller.jfairy.producer.company.Company;
 import com.devskiller.jfairy.producer.person.PersonProperties;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.f4b6a3.uuid.UuidCreator;
+import digital.inception.core.service.InvalidArgumentException;
 import digital.inception.core.sorting.SortDirection;
 import digital.inception.party.Association;
+import digital.inception.party.AssociationGraph;
+import digital.inception.party.AssociationGraphLink;
+import digital.inception.party.AssociationGraphParty;
 import digital.inception.party.AssociationProperty;
 import digital.inception.party.AssociationSortBy;
+import digital.inception.party.AssociationTraversalOrder;
 import digital.inception.party.AssociationsForParty;
 import digital.inception.party.Attribute;
 import digital.inception.party.Consent;
@@ -60,8 +68,18 @@ import digital.inception.party.OrganizationSortBy;
 import digital.inception.party.Organizations;
 import digital.inception.party.Parties;
 import digital.inception.party.Party;
+import digital.inception.party.PartyBase;
+import digital.inception.party.PartyExportFormat;
+import digital.inception.party.PartyFetchPlan;
+import digital.inception.party.PartyNotFoundException;
+import digital.inception.party.PartyPurge;
+import digital.inception.party.PartyPurgeNotFoundException;
+import digital.inception.party.PartyPurgeStatus;
+import digital.inception.party.PartySearchResults;
 import digital.inception.party.PartySortBy;
 import digital.inception.party.PartyType;
+import digital.inception.party.PartyUpsertResult;
+import digital.inception.party.PartyUpsertStatus;
 import digital.inception.party.Person;
 import digital.inception.party.PersonSortBy;
 import digital.inception.party.Persons;
@@ -76,6 +94,7 @@ import digital.inception.party.Role;
 import digital.inception.party.SegmentAllocation;
 import digital.inception.party.Skill;
 import digital.inception.party.SkillProficiencyLevel;
+import digital.inception.party.SnapshotWriter;
 import digital.inception.party.Snapshots;
 import digital.inception.party.SourceOfFunds;
 import digital.inception.party.SourceOfWealth;
@@ -83,11 +102,25 @@ import digital.inception.party.Status;
 import digital.inception.party.TaxNumber;
 import digital.inception.test.InceptionExtension;
 import digital.inception.test.TestConfiguration;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 import javax.validation.ConstraintViolation;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -129,6 +162,20 @@ public class PartyServiceTest {
   /** The Party Service. */
   @Autowired private IPartyService partyService;
 
+  /** The Snapshot Writer. */
+  @Autowired private SnapshotWriter snapshotWriter;
+
+  private static int getAssociationGraphPartyDepth(
+      AssociationGraph associationGraph, UUID partyId) {
+    return associationGraph.getParties().stream()
+        .filter(party -> party.getPartyId().equals(partyId))
+        .findFirst()
+        .map(AssociationGraphParty::getDepth)
+        .orElseThrow(
+            () ->
+                new AssertionError("The party (" + partyId + ") is not in the association graph"));
+  }
+
   private static synchronized Organization getTestBasicOrganizationDetails() {
     com.devskiller.jfairy.producer.person.DefaultPersonProvider xxx;
 
@@ -452,6 +499,161 @@ public class PartyServiceTest {
         IPartyService.DEFAULT_TENANT_ID, PartyType.ORGANIZATION, "Party Name " + partyCount);
   }
 
+  /** Test the association graph functionality. */
+  @Test
+  public void associationGraphTest() throws Exception {
+    List<Person> persons = new ArrayList<>();
+
+    for (int i = 0; i < 4; i++) {
+      Person person = getTestBasicPersonDetails();
+
+      partyService.createPerson(IPartyService.DEFAULT_TENANT_ID, person);
+
+      persons.add(person);
+    }
+
+    UUID firstPersonId = persons.get(0).getId();
+    UUID secondPersonId = persons.get(1).getId();
+    UUID thirdPersonId = persons.get(2).getId();
+    UUID fourthPersonId = persons.get(3).getId();
+
+    // first -> second -> third -> fourth, with the third person linked back to the first person
+    Association firstAssociation =
+        new Association(
+            IPartyService.DEFAULT_TENANT_ID,
+            "test_association_type",
+            firstPersonId,
+            secondPersonId);
+
+    partyService.createAssociation(IPartyService.DEFAULT_TENANT_ID, firstAssociation);
+
+    Association secondAssociation =
+        new Association(
+            IPartyService.DEFAULT_TENANT_ID,
+            "test_association_type",
+            secondPersonId,
+            thirdPersonId);
+
+    partyService.createAssociation(IPartyService.DEFAULT_TENANT_ID, secondAssociation);
+
+    Association cyclicAssociation =
+        new Association(
+            IPartyService.DEFAULT_TENANT_ID, "civil_partnership", thirdPersonId, firstPersonId);
+
+    partyService.createAssociation(IPartyService.DEFAULT_TENANT_ID, cyclicAssociation);
+
+    Association thirdAssociation =
+        new Association(
+            IPartyService.DEFAULT_TENANT_ID,
+            "test_association_type",
+            thirdPersonId,
+            fourthPersonId);
+
+    partyService.createAssociation(IPartyService.DEFAULT_TENANT_ID, thirdAssociation);
+
+    for (AssociationTraversalOrder traversalOrder : AssociationTraversalOrder.values()) {
+      AssociationGraph associationGraph =
+          partyService.getAssociationGraph(
+              IPartyService.DEFAULT_TENANT_ID, firstPersonId, null, null, traversalOrder);
+
+      assertEquals(
+          4,
+          associationGraph.getParties().size(),
+          "The incorrect number of parties was retrieved for the association graph");
+      assertEquals(
+          4,
+          associationGraph.getLinks().size(),
+          "The incorrect number of links was retrieved for the association graph");
+      assertTrue(associationGraph.isCycleDetected(), "The cycle was not detected");
+      assertFalse(associationGraph.isTruncated(), "The association graph was truncated");
+
+      assertEquals(0, getAssociationGraphPartyDepth(associationGraph, firstPersonId));
+      assertEquals(1, getAssociationGraphPartyDepth(associationGraph, secondPersonId));
+      assertEquals(1, getAssociationGraphPartyDepth(associationGraph, thirdPersonId));
+      assertEquals(2, getAssociationGraphPartyDepth(associationGraph, fourthPersonId));
+
+      assertEquals(
+          1,
+          associationGraph.getLinks().stream().filter(AssociationGraphLink::isCyclic).count(),
+          "The incorrect number of cyclic links was retrieved for the association graph");
+    }
+
+    AssociationGraph associationGraph =
+        partyService.getAssociationGraph(
+            IPartyService.DEFAULT_TENANT_ID,
+            firstPersonId,
+            1,
+            null,
+            AssociationTraversalOrder.BREADTH_FIRST);
+
+    assertEquals(
+        3,
+        associationGraph.getParties().size(),
+        "The incorrect number of parties was retrieved for the association graph");
+    assertFalse(associationGraph.isCycleDetected(), "A cycle was incorrectly detected");
+
+    associationGraph =
+        partyService.getAssociationGraph(
+            IPartyService.DEFAULT_TENANT_ID,
+            firstPersonId,
+            null,
+            List.of("test_association_type"),
+            AssociationTraversalOrder.BREADTH_FIRST);
+
+    assertEquals(
+        4,
+        associationGraph.getParties().size(),
+        "The incorrect number of parties was retrieved for the association graph");
+    assertFalse(associationGraph.isCycleDetected(), "A cycle was incorrectly detected");
+    assertEquals(3, getAssociationGraphPartyDepth(associationGraph, fourthPersonId));
+
+    partyService.deleteAssociation(IPartyService.DEFAULT_TENANT_ID, cyclicAssociation.getId());
+
+    associationGraph =
+        partyService.getAssociationGraph(
+            IPartyService.DEFAULT_TENANT_ID,
+            firstPersonId,
+            null,
+            null,
+            AssociationTraversalOrder.DEPTH_FIRST);
+
+    assertFalse(associationGraph.isCycleDetected(), "A cycle was incorrectly detected");
+    assertEquals(2, getAssociationGraphPartyDepth(associationGraph, thirdPersonId));
+
+    try {
+      partyService.getAssociationGraph(
+          IPartyService.DEFAULT_TENANT_ID, UuidCreator.getShortPrefixComb(), null, null, null);
+
+      fail("Retrieved the association graph for a party that does not exist");
+    } catch (PartyNotFoundException ignored) {
+    }
+
+    try {
+      partyService.getAssociationGraph(
+          IPartyService.DEFAULT_TENANT_ID, firstPersonId, 0, null, null);
+
+      fail("Retrieved the association graph with an invalid maximum depth");
+    } catch (InvalidArgumentException ignored) {
+    }
+
+    partyService.deletePerson(IPartyService.DEFAULT_TENANT_ID, secondPersonId);
+
+    associationGraph =
+        partyService.getAssociationGraph(
+            IPartyService.DEFAULT_TENANT_ID, firstPersonId, null, null, null);
+
+    assertEquals(
+        1,
+        associationGraph.getParties().size(),
+        "The incorrect number of parties was retrieved for the association graph");
+
+    for (Person person : persons) {
+      if (!person.getId().equals(secondPersonId)) {
+        partyService.deletePerson(IPartyService.DEFAULT_TENANT_ID, person.getId());
+      }
+    }
+  }
+
   /** Test the association functionality. */
   @Test
   public void associationTest() throws Exception {
@@ -932,6 +1134,111 @@ public class PartyServiceTest {
     partyService.deletePerson(IPartyService.DEFAULT_TENANT_ID, person.getId());
   }
 
+  /** Test the party export functionality. */
+  @Test
+  public void exportPartiesTest() throws Exception {
+    UUID tenantId = UuidCreator.getShortPrefixComb();
+
+    Person person = getTestBasicPersonDetails();
+
+    person.setTenantId(tenantId);
+    person.setName("Exported, Person");
+    person.addExternalReference(new ExternalReference("legacy_customer_code", "EXPORT001"));
+
+    partyService.createPerson(tenantId, person);
+
+    Organization organization = getTestBasicOrganizationDetails();
+
+    organization.setTenantId(tenantId);
+
+    partyService.createOrganization(tenantId, organization);
+
+    Person anotherPerson = getTestBasicPersonDetails();
+
+    anotherPerson.setTenantId(tenantId);
+
+    partyService.createPerson(tenantId, anotherPerson);
+
+    List<UUID> partyIds =
+        new ArrayList<>(List.of(person.getId(), organization.getId(), anotherPerson.getId()));
+
+    partyIds.sort(Comparator.comparing(UUID::toString));
+
+    // Export all the fields for the parties as NDJSON
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    partyService.exportParties(
+        tenantId, PartyExportFormat.NDJSON, PartyFetchPlan.FULL, null, null, outputStream);
+
+    List<JsonNode> exportedParties = new ArrayList<>();
+
+    for (String line : outputStream.toString(StandardCharsets.UTF_8).split("\n")) {
+      exportedParties.add(objectMapper.readTree(line));
+    }
+
+    assertEquals(3, exportedParties.size());
+
+    for (int i = 0; i < partyIds.size(); i++) {
+      assertEquals(partyIds.get(i).toString(), exportedParties.get(i).get("id").asText());
+    }
+
+    JsonNode exportedPerson = exportedParties.get(partyIds.indexOf(person.getId()));
+
+    assertEquals(PartyType.PERSON.code(), exportedPerson.get("type").asText());
+    assertEquals(person.getName(), exportedPerson.get("name").asText());
+    assertEquals(
+        "EXPORT001", exportedPerson.get("externalReferences").get(0).get("value").asText());
+
+    assertEquals(
+        PartyType.ORGANIZATION.code(),
+        exportedParties.get(partyIds.indexOf(organization.getId())).get("type").asText());
+
+    // Export the selected fields for the parties after the cursor as NDJSON
+    outputStream = new ByteArrayOutputStream();
+
+    partyService.exportParties(
+        tenantId,
+        PartyExportFormat.NDJSON,
+        PartyFetchPlan.SUMMARY,
+        List.of("name"),
+        partyIds.get(0),
+        outputStream);
+
+    exportedParties.clear();
+
+    for (String line : outputStream.toString(StandardCharsets.UTF_8).split("\n")) {
+      exportedParties.add(objectMapper.readTree(line));
+    }
+
+    assertEquals(2, exportedParties.size());
+    assertEquals(partyIds.get(1).toString(), exportedParties.get(0).get("id").asText());
+    assertEquals(3, exportedParties.get(0).size());
+    assertTrue(exportedParties.get(0).has("name"));
+
+    // Export the selected fields for the parties as CSV
+    outputStream = new ByteArrayOutputStream();
+
+    partyService.exportParties(
+        tenantId,
+        PartyExportFormat.CSV,
+        PartyFetchPlan.SUMMARY,
+        List.of("name"),
+        null,
+        outputStream);
+
+    String[] rows = outputStream.toString(StandardCharsets.UTF_8).split("\r\n");
+
+    assertEquals(4, rows.length);
+    assertEquals("id,type,name", rows[0]);
+    assertEquals(
+        person.getId() + ",person,\"Exported, Person\"",
+        rows[1 + partyIds.indexOf(person.getId())]);
+
+    partyService.deletePerson(tenantId, person.getId());
+    partyService.deleteOrganization(tenantId, organization.getId());
+    partyService.deletePerson(tenantId, anotherPerson.getId());
+  }
+
   /** Test the external reference functionality. */
   @Test
   public void externalReferenceTest() throws Exception {
@@ -1026,6 +1333,92 @@ public class PartyServiceTest {
     partyService.deleteOrganization(IPartyService.DEFAULT_TENANT_ID, organization.getId());
   }
 
+  /** Test the fetch plan functionality. */
+  @Test
+  public void fetchPlanTest() throws Exception {
+    Person person = getTestCompletePersonDetails(false);
+
+    partyService.createPerson(IPartyService.DEFAULT_TENANT_ID, person);
+
+    Person summaryPerson =
+        partyService.getPerson(
+            IPartyService.DEFAULT_TENANT_ID, person.getId(), PartyFetchPlan.SUMMARY);
+
+    assertEquals(
+        person.getName(), summaryPerson.getName(), "The name values for the person do not match");
+
+    String summaryPersonJson = objectMapper.writeValueAsString(summaryPerson);
+
+    assertFalse(
+        summaryPersonJson.contains("\"contactMechanisms\""),
+        "The contact mechanisms were retrieved for the summary person");
+    assertFalse(
+        summaryPersonJson.contains("\"attributes\""),
+        "The attributes were retrieved for the summary person");
+
+    Person corePerson =
+        partyService.getPerson(
+            IPartyService.DEFAULT_TENANT_ID, person.getId(), PartyFetchPlan.CORE);
+
+    assertEquals(
+        person.getContactMechanisms().size(),
+        corePerson.getContactMechanisms().size(),
+        "The number of contact mechanisms for the core person do not match");
+    assertEquals(
+        person.getPhysicalAddresses().size(),
+        corePerson.getPhysicalAddresses().size(),
+        "The number of physical addresses for the core person do not match");
+
+    String corePersonJson = objectMapper.writeValueAsString(corePerson);
+
+    assertTrue(
+        corePersonJson.contains("\"contactMechanisms\""),
+        "The contact mechanisms were not retrieved for the core person");
+    assertFalse(
+        corePersonJson.contains("\"attributes\""),
+        "The attributes were retrieved for the core person");
+
+    comparePersons(
+        person,
+        partyService.getPerson(
+            IPartyService.DEFAULT_TENANT_ID, person.getId(), PartyFetchPlan.FULL));
+
+    Persons filteredPersons =
+        partyService.getPersons(
+            IPartyService.DEFAULT_TENANT_ID,
+            "",
+            PersonSortBy.NAME,
+            SortDirection.ASCENDING,
+            0,
+            100,
+            PartyFetchPlan.SUMMARY);
+
+    assertEquals(
+        1,
+        filteredPersons.getPersons().size(),
+        "The correct number of filtered persons was not retrieved");
+
+    assertFalse(
+        objectMapper
+            .writeValueAsString(filteredPersons.getPersons().get(0))
+            .contains("\"contactMechanisms\""),
+        "The contact mechanisms were retrieved for the summary persons");
+
+    filteredPersons =
+        partyService.getPersons(
+            IPartyService.DEFAULT_TENANT_ID,
+            "",
+            PersonSortBy.NAME,
+            SortDirection.ASCENDING,
+            0,
+            100,
+            PartyFetchPlan.FULL);
+
+    comparePersons(person, filteredPersons.getPersons().get(0));
+
+    partyService.deletePerson(IPartyService.DEFAULT_TENANT_ID, person.getId());
+  }
+
   /** Test the foreign person functionality. */
   @Test
   public void foreignPersonTest() throws Exception {
@@ -2195,6 +2588,97 @@ public class PartyServiceTest {
         "The correct number of constraint violations was not found for the invalid unstructured address");
   }
 
+  /** Test the keyset pagination functionality. */
+  @Test
+  public void keysetPaginationTest() throws Exception {
+    // Create persons with duplicate names to verify that the ID is used to break ties
+    List<Person> persons = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      Person person = new Person(IPartyService.DEFAULT_TENANT_ID, "Keyset Person " + (i % 3));
+
+      partyService.createPerson(IPartyService.DEFAULT_TENANT_ID, person);
+
+      persons.add(person);
+    }
+
+    List<Person> retrievedPersons = new ArrayList<>();
+
+    String cursor = "";
+    int numberOfPages = 0;
+
+    do {
+      Persons filteredPersons =
+          partyService.getPersons(
+              IPartyService.DEFAULT_TENANT_ID,
+              "Keyset Person",
+              PersonSortBy.NAME,
+              SortDirection.DESCENDING,
+              cursor,
+              3,
+              PartyFetchPlan.SUMMARY,
+              numberOfPages == 0);
+
+      if (numberOfPages == 0) {
+        assertEquals(
+            7L, filteredPersons.getTotal(), "The total number of filtered persons is incorrect");
+      } else {
+        assertEquals(
+            -1L, filteredPersons.getTotal(), "The total number of persons was retrieved");
+      }
+
+      assertTrue(
+          filteredPersons.getPersons().size() <= 3,
+          "The number of filtered persons exceeds the page size");
+
+      retrievedPersons.addAll(filteredPersons.getPersons());
+
+      cursor = filteredPersons.getNextCursor();
+      numberOfPages++;
+    } while (cursor != null);
+
+    assertEquals(3, numberOfPages, "The number of pages of filtered persons is incorrect");
+
+    assertEquals(
+        persons.size(),
+        retrievedPersons.stream().map(Person::getId).distinct().count(),
+        "The number of filtered persons retrieved using keyset pagination is incorrect");
+
+    for (int i = 1; i < retrievedPersons.size(); i++) {
+      assertTrue(
+          retrievedPersons.get(i - 1).getName().compareTo(retrievedPersons.get(i).getName()) >= 0,
+          "The filtered persons were not retrieved in descending order");
+    }
+
+    try {
+      partyService.getPersons(
+          IPartyService.DEFAULT_TENANT_ID,
+          "Keyset Person",
+          PersonSortBy.PREFERRED_NAME,
+          SortDirection.DESCENDING,
+          partyService
+              .getPersons(
+                  IPartyService.DEFAULT_TENANT_ID,
+                  "Keyset Person",
+                  PersonSortBy.NAME,
+                  SortDirection.DESCENDING,
+                  "",
+                  3,
+                  PartyFetchPlan.SUMMARY,
+                  false)
+              .getNextCursor(),
+          3,
+          PartyFetchPlan.SUMMARY,
+          false);
+
+      fail("Retrieved the persons using a cursor issued for a different sort order");
+    } catch (InvalidArgumentException ignored) {
+    }
+
+    for (Person person : persons) {
+      partyService.deletePerson(IPartyService.DEFAULT_TENANT_ID, person.getId());
+    }
+  }
+
   /** Test the language proficiency functionality. */
   @Test
   public void languageProficiencyTest() throws Exception {
@@ -3220,6 +3704,163 @@ public class PartyServiceTest {
     partyService.deleteOrganization(IPartyService.DEFAULT_TENANT_ID, organization.getId());
   }
 
+  /** Test the purge party data functionality. */
+  @Test
+  public void purgePartiesTest() throws Exception {
+    UUID tenantId = UuidCreator.getShortPrefixComb();
+
+    Person firstPerson = getTestCompletePersonDetails(true);
+
+    firstPerson.setTenantId(tenantId);
+
+    partyService.createPerson(tenantId, firstPerson);
+
+    Person secondPerson = getTestBasicPersonDetails();
+
+    secondPerson.setTenantId(tenantId);
+
+    partyService.createPerson(tenantId, secondPerson);
+
+    Organization organization = getTestBasicOrganizationDetails();
+
+    organization.setTenantId(tenantId);
+
+    partyService.createOrganization(tenantId, organization);
+
+    Association association =
+        new Association(tenantId, "employment", organization.getId(), firstPerson.getId());
+
+    partyService.createAssociation(tenantId, association);
+
+    // Check that a CSV archive, which only includes selected fields, is rejected
+    try {
+      partyService.purgeParties(tenantId, PartyExportFormat.CSV);
+
+      fail("Started a purge with a CSV archive");
+    } catch (InvalidArgumentException ignored) {
+    }
+
+    PartyPurge purge = partyService.purgeParties(tenantId, PartyExportFormat.NDJSON);
+
+    assertEquals(tenantId, purge.getTenantId());
+
+    // Wait for the purge to finish
+    long deadline = System.currentTimeMillis() + 60000;
+
+    while ((!purge.getStatus().isFinished()) && (System.currentTimeMillis() < deadline)) {
+      Thread.sleep(50);
+
+      purge = partyService.getPartyPurge(tenantId, purge.getId());
+    }
+
+    assertEquals(PartyPurgeStatus.COMPLETED, purge.getStatus(), purge.getMessage());
+    assertEquals(3, purge.getDeletedParties());
+    assertEquals(0, purge.getRetainedEntities());
+
+    Map<String, Long> expectedDeletedRows =
+        Map.of(
+            "associations", 1L,
+            "parties", 3L,
+            "persons", 2L,
+            "organizations", 1L,
+            "snapshots", 4L);
+
+    for (Map.Entry<String, Long> expectedDeletedRowsForTable : expectedDeletedRows.entrySet()) {
+      assertEquals(
+          expectedDeletedRowsForTable.getValue(),
+          purge.getDeletedRows().get(expectedDeletedRowsForTable.getKey()),
+          "The incorrect number of rows was deleted from the table ("
+              + expectedDeletedRowsForTable.getKey()
+              + ")");
+    }
+
+    // Check that the parties and their snapshots were archived before they were deleted
+    Path archiveFile = Paths.get(purge.getArchiveFile());
+
+    assertTrue(Files.exists(archiveFile), "The archive file for the purge does not exist");
+
+    Map<String, JsonNode> archiveEntries = new HashMap<>();
+
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(archiveFile)), StandardCharsets.UTF_8))) {
+      String line;
+
+      while ((line = reader.readLine()) != null) {
+        JsonNode archiveEntry = objectMapper.readTree(line);
+
+        archiveEntries.put(archiveEntry.get("entityId").asText(), archiveEntry);
+      }
+    } finally {
+      Files.deleteIfExists(archiveFile);
+    }
+
+    assertEquals(4, archiveEntries.size());
+    assertEquals(
+        "association",
+        archiveEntries.get(association.getId().toString()).get("entityType").asText());
+
+    JsonNode firstPersonArchiveEntry = archiveEntries.get(firstPerson.getId().toString());
+
+    assertNotNull(firstPersonArchiveEntry, "The first person was not archived");
+    assertEquals("person", firstPersonArchiveEntry.get("entityType").asText());
+    assertEquals(
+        firstPerson.getName(), firstPersonArchiveEntry.get("entity").get("name").asText());
+    assertEquals(1, firstPersonArchiveEntry.get("snapshots").size());
+    assertEquals(
+        firstPerson.getId().toString(),
+        objectMapper
+            .readTree(firstPersonArchiveEntry.get("snapshots").get(0).get("data").asText())
+            .get("id")
+            .asText());
+
+    JsonNode organizationArchiveEntry = archiveEntries.get(organization.getId().toString());
+
+    assertNotNull(organizationArchiveEntry, "The organization was not archived");
+    assertEquals("organization", organizationArchiveEntry.get("entityType").asText());
+
+    // Check that the party data was deleted
+    for (UUID partyId : List.of(firstPerson.getId(), secondPerson.getId(), organization.getId())) {
+      try {
+        partyService.getParty(tenantId, partyId);
+
+        fail("Retrieved the party (" + partyId + ") after the party data was purged");
+      } catch (PartyNotFoundException ignored) {
+      }
+    }
+
+    assertEquals(
+        0,
+        partyService
+            .getPersons(tenantId, null, PersonSortBy.NAME, SortDirection.ASCENDING, 0, 100)
+            .getPersons()
+            .size());
+
+    // Check that the purge cannot be retrieved for a different tenant
+    try {
+      partyService.getPartyPurge(IPartyService.DEFAULT_TENANT_ID, purge.getId());
+
+      fail("Retrieved the purge for a different tenant");
+    } catch (PartyPurgeNotFoundException ignored) {
+    }
+
+    // Check that purging a tenant with no party data completes successfully
+    purge = partyService.purgeParties(tenantId, null);
+
+    deadline = System.currentTimeMillis() + 60000;
+
+    while ((!purge.getStatus().isFinished()) && (System.currentTimeMillis() < deadline)) {
+      Thread.sleep(50);
+
+      purge = partyService.getPartyPurge(tenantId, purge.getId());
+    }
+
+    assertEquals(PartyPurgeStatus.COMPLETED, purge.getStatus(), purge.getMessage());
+    assertEquals(0, purge.getDeletedParties());
+    assertNull(purge.getArchiveFile());
+  }
+
   /** Test the role functionality. */
   @Test
   public void roleTest() throws Exception {
@@ -3330,6 +3971,127 @@ public class PartyServiceTest {
         "The correct number of constraint violations was not found for the invalid organization");
   }
 
+  /** Test the full-text search functionality. */
+  @Test
+  public void searchPartiesTest() throws Exception {
+    Person firstPerson = new Person(IPartyService.DEFAULT_TENANT_ID, "Thaddeus Quillfeather");
+    firstPerson.addIdentityDocument(
+        new IdentityDocument("passport", "ZW", LocalDate.of(2010, 5, 20), "A77881290"));
+    firstPerson.addContactMechanism(
+        new ContactMechanism(
+            ContactMechanismType.MOBILE_NUMBER, "personal_mobile_number", "+27835559876"));
+
+    partyService.createPerson(IPartyService.DEFAULT_TENANT_ID, firstPerson);
+
+    Person secondPerson = new Person(IPartyService.DEFAULT_TENANT_ID, "Octavia Quillfeather");
+
+    partyService.createPerson(IPartyService.DEFAULT_TENANT_ID, secondPerson);
+
+    Organization organization =
+        new Organization(IPartyService.DEFAULT_TENANT_ID, "Quillfeather Holdings");
+
+    partyService.createOrganization(IPartyService.DEFAULT_TENANT_ID, organization);
+
+    PartySearchResults searchResults =
+        partyService.searchParties(IPartyService.DEFAULT_TENANT_ID, "quillfeather", null);
+
+    assertEquals(3L, searchResults.getTotal(), "The total number of search results is incorrect");
+    assertEquals(3, searchResults.getResults().size(), "The number of search results is incorrect");
+
+    searchResults =
+        partyService.searchParties(IPartyService.DEFAULT_TENANT_ID, "Quillfeather Holdings", 10);
+
+    assertEquals(1L, searchResults.getTotal(), "The total number of search results is incorrect");
+    assertEquals(
+        organization.getId(),
+        searchResults.getResults().get(0).getId(),
+        "The organization was not found using its name");
+    assertEquals(
+        PartyType.ORGANIZATION,
+        searchResults.getResults().get(0).getType(),
+        "The party type for the search result is incorrect");
+
+    searchResults = partyService.searchParties(IPartyService.DEFAULT_TENANT_ID, "quill oct", 10);
+
+    assertEquals(1L, searchResults.getTotal(), "The total number of search results is incorrect");
+    assertEquals(
+        secondPerson.getId(),
+        searchResults.getResults().get(0).getId(),
+        "The person was not found using the prefixes of their name");
+
+    searchResults =
+        partyService.searchParties(IPartyService.DEFAULT_TENANT_ID, "Thaddéus Quillfeather", 10);
+
+    assertEquals(1L, searchResults.getTotal(), "The total number of search results is incorrect");
+    assertEquals(
+        firstPerson.getId(),
+        searchResults.getResults().get(0).getId(),
+        "The person was not found using an accented version of their name");
+
+    searchResults =
+        partyService.searchParties(IPartyService.DEFAULT_TENANT_ID, "Thadeus Quilfeather", 10);
+
+    assertEquals(1L, searchResults.getTotal(), "The total number of search results is incorrect");
+    assertEquals(
+        firstPerson.getId(),
+        searchResults.getResults().get(0).getId(),
+        "The person was not found using a misspelled version of their name");
+
+    searchResults = partyService.searchParties(IPartyService.DEFAULT_TENANT_ID, "a77881290", 10);
+
+    assertEquals(1L, searchResults.getTotal(), "The total number of search results is incorrect");
+    assertEquals(
+        firstPerson.getId(),
+        searchResults.getResults().get(0).getId(),
+        "The person was not found using the number for their identity document");
+
+    searchResults = partyService.searchParties(IPartyService.DEFAULT_TENANT_ID, "27835559876", 10);
+
+    assertEquals(1L, searchResults.getTotal(), "The total number of search results is incorrect");
+    assertEquals(
+        firstPerson.getId(),
+        searchResults.getResults().get(0).getId(),
+        "The person was not found using their mobile number");
+
+    searchResults = partyService.searchParties(IPartyService.DEFAULT_TENANT_ID, "quillfeather", 1);
+
+    assertEquals(3L, searchResults.getTotal(), "The total number of search results is incorrect");
+    assertEquals(1, searchResults.getResults().size(), "The number of search results is incorrect");
+
+    secondPerson.setName("Octavia Inkwell");
+
+    partyService.updatePerson(IPartyService.DEFAULT_TENANT_ID, secondPerson);
+
+    searchResults = partyService.searchParties(IPartyService.DEFAULT_TENANT_ID, "inkwell", 10);
+
+    assertEquals(1L, searchResults.getTotal(), "The updated person was not found");
+
+    partyService.deletePerson(IPartyService.DEFAULT_TENANT_ID, firstPerson.getId());
+
+    partyService.rebuildSearchIndex(IPartyService.DEFAULT_TENANT_ID);
+
+    searchResults =
+        partyService.searchParties(IPartyService.DEFAULT_TENANT_ID, "quillfeather", null);
+
+    assertEquals(1L, searchResults.getTotal(), "The total number of search results is incorrect");
+
+    partyService.deletePerson(IPartyService.DEFAULT_TENANT_ID, secondPerson.getId());
+
+    partyService.deleteOrganization(IPartyService.DEFAULT_TENANT_ID, organization.getId());
+
+    searchResults =
+        partyService.searchParties(IPartyService.DEFAULT_TENANT_ID, "quillfeather", null);
+
+    assertEquals(0L, searchResults.getTotal(), "The deleted parties were found");
+
+    try {
+      partyService.searchParties(IPartyService.DEFAULT_TENANT_ID, " ", null);
+
+      fail("Searched for the parties using a blank search query");
+    } catch (InvalidArgumentException ignored) {
+    }
+  }
+
   /** Test the segment allocation functionality. */
   @Test
   public void segmentAllocationTest() throws Exception {
@@ -3421,6 +4183,142 @@ public class PartyServiceTest {
     partyService.deleteOrganization(IPartyService.DEFAULT_TENANT_ID, organization.getId());
   }
 
+  /** Test the snapshot functionality. */
+  @Test
+  public void snapshotTest() throws Exception {
+    Person person = getTestCompletePersonDetails(false);
+
+    partyService.createPerson(IPartyService.DEFAULT_TENANT_ID, person);
+
+    // Update the person enough times to record multiple checkpoint snapshots, writing some of the
+    // pending snapshots as the background writer would and leaving the rest to be written when the
+    // snapshots are retrieved
+    for (int i = 1; i <= 25; i++) {
+      person.setPreferredName("Snapshot " + i);
+
+      partyService.updatePerson(IPartyService.DEFAULT_TENANT_ID, person);
+
+      if (i == 20) {
+        snapshotWriter.write();
+      }
+    }
+
+    Snapshots snapshots =
+        partyService.getSnapshots(
+            IPartyService.DEFAULT_TENANT_ID,
+            EntityType.PERSON,
+            person.getId(),
+            null,
+            null,
+            SortDirection.ASCENDING,
+            0,
+            100);
+
+    assertEquals(26L, snapshots.getTotal(), "The total number of snapshots is incorrect");
+    assertEquals(26, snapshots.getSnapshots().size(), "The number of snapshots is incorrect");
+
+    Person serializedPerson =
+        objectMapper.readValue(snapshots.getSnapshots().get(0).getData(), Person.class);
+
+    assertEquals(
+        person.getName(), serializedPerson.getName(), "The snapshot for the person is incorrect");
+
+    for (int i = 1; i <= 25; i++) {
+      serializedPerson =
+          objectMapper.readValue(snapshots.getSnapshots().get(i).getData(), Person.class);
+
+      assertEquals(
+          "Snapshot " + i,
+          serializedPerson.getPreferredName(),
+          "The reconstructed snapshot for the person is incorrect");
+    }
+
+    comparePersons(person, serializedPerson);
+
+    // Retrieve a page of snapshots that starts between checkpoint snapshots
+    snapshots =
+        partyService.getSnapshots(
+            IPartyService.DEFAULT_TENANT_ID,
+            EntityType.PERSON,
+            person.getId(),
+            null,
+            null,
+            SortDirection.DESCENDING,
+            1,
+            5);
+
+    assertEquals(26L, snapshots.getTotal(), "The total number of snapshots is incorrect");
+    assertEquals(5, snapshots.getSnapshots().size(), "The number of snapshots is incorrect");
+
+    for (int i = 0; i < 5; i++) {
+      serializedPerson =
+          objectMapper.readValue(snapshots.getSnapshots().get(i).getData(), Person.class);
+
+      assertEquals(
+          "Snapshot " + (20 - i),
+          serializedPerson.getPreferredName(),
+          "The reconstructed snapshot for the person is incorrect");
+    }
+
+    LocalDate today = LocalDate.now();
+
+    snapshots =
+        partyService.getSnapshots(
+            IPartyService.DEFAULT_TENANT_ID,
+            EntityType.PERSON,
+            person.getId(),
+            today,
+            today,
+            SortDirection.ASCENDING,
+            0,
+            100);
+
+    assertEquals(26L, snapshots.getTotal(), "The total number of snapshots for today is incorrect");
+
+    snapshots =
+        partyService.getSnapshots(
+            IPartyService.DEFAULT_TENANT_ID,
+            EntityType.PERSON,
+            person.getId(),
+            today.plusDays(1),
+            null,
+            SortDirection.ASCENDING,
+            0,
+            100);
+
+    assertEquals(0L, snapshots.getTotal(), "Snapshots were retrieved from tomorrow");
+
+    snapshots =
+        partyService.getSnapshots(
+            IPartyService.DEFAULT_TENANT_ID,
+            EntityType.PERSON,
+            person.getId(),
+            null,
+            today.minusDays(1),
+            SortDirection.ASCENDING,
+            0,
+            100);
+
+    assertEquals(0L, snapshots.getTotal(), "Snapshots were retrieved up to yesterday");
+
+    try {
+      partyService.getSnapshots(
+          IPartyService.DEFAULT_TENANT_ID,
+          EntityType.PERSON,
+          person.getId(),
+          today,
+          today.minusDays(1),
+          SortDirection.ASCENDING,
+          0,
+          100);
+
+      fail("Retrieved the snapshots using an invalid date range");
+    } catch (InvalidArgumentException ignored) {
+    }
+
+    partyService.deletePerson(IPartyService.DEFAULT_TENANT_ID, person.getId());
+  }
+
   /** Test the sourceOfFunds functionality. */
   @Test
   public void sourceOfFundsTest() throws Exception {
@@ -3665,6 +4563,101 @@ public class PartyServiceTest {
     partyService.deleteOrganization(IPartyService.DEFAULT_TENANT_ID, organization.getId());
   }
 
+  /** Test the bulk party upsert functionality. */
+  @Test
+  public void upsertPartiesTest() throws Exception {
+    Person existingPerson = getTestBasicPersonDetails();
+
+    existingPerson.addExternalReference(new ExternalReference("legacy_customer_code", "UPSERT001"));
+
+    partyService.createPerson(IPartyService.DEFAULT_TENANT_ID, existingPerson);
+
+    // Matched to the existing person using the external reference
+    Person updatedPerson = getTestBasicPersonDetails();
+
+    updatedPerson.setId(null);
+    updatedPerson.setPreferredName("Upserted");
+    updatedPerson.addExternalReference(new ExternalReference("legacy_customer_code", "UPSERT001"));
+
+    Person newPerson = getTestBasicPersonDetails();
+
+    Person supersededPerson = getTestBasicPersonDetails();
+
+    supersededPerson.setId(newPerson.getId());
+
+    Organization newOrganization = getTestBasicOrganizationDetails();
+
+    Person invalidPerson = getTestBasicPersonDetails();
+
+    invalidPerson.setName("");
+
+    Organization organizationWithPersonId = getTestBasicOrganizationDetails();
+
+    organizationWithPersonId.setId(existingPerson.getId());
+
+    List<PartyUpsertResult> results =
+        partyService.upsertParties(
+            IPartyService.DEFAULT_TENANT_ID,
+            List.of(
+                supersededPerson,
+                updatedPerson,
+                newPerson,
+                newOrganization,
+                invalidPerson,
+                organizationWithPersonId));
+
+    assertEquals(6, results.size());
+
+    for (int i = 0; i < results.size(); i++) {
+      assertEquals(i, results.get(i).getIndex());
+    }
+
+    assertEquals(PartyUpsertStatus.SUPERSEDED, results.get(0).getStatus());
+    assertEquals(PartyUpsertStatus.UPDATED, results.get(1).getStatus());
+    assertEquals(existingPerson.getId(), results.get(1).getId());
+    assertEquals(PartyUpsertStatus.CREATED, results.get(2).getStatus());
+    assertEquals(PartyUpsertStatus.CREATED, results.get(3).getStatus());
+    assertEquals(PartyType.ORGANIZATION, results.get(3).getType());
+    assertEquals(PartyUpsertStatus.FAILED, results.get(4).getStatus());
+    assertFalse(results.get(4).getValidationErrors().isEmpty());
+    assertEquals(PartyUpsertStatus.FAILED, results.get(5).getStatus());
+
+    Person retrievedPerson =
+        partyService.getPerson(IPartyService.DEFAULT_TENANT_ID, existingPerson.getId());
+
+    assertEquals(updatedPerson.getName(), retrievedPerson.getName());
+    assertEquals("Upserted", retrievedPerson.getPreferredName());
+
+    comparePersons(
+        newPerson, partyService.getPerson(IPartyService.DEFAULT_TENANT_ID, newPerson.getId()));
+
+    compareOrganizations(
+        newOrganization,
+        partyService.getOrganization(IPartyService.DEFAULT_TENANT_ID, newOrganization.getId()));
+
+    assertTrue(
+        partyService
+            .getTypeForParty(IPartyService.DEFAULT_TENANT_ID, invalidPerson.getId())
+            .isEmpty());
+
+    try {
+      List<PartyBase> tooManyParties = new ArrayList<>();
+
+      for (int i = 0; i <= IPartyService.MAX_UPSERT_PARTIES; i++) {
+        tooManyParties.add(getTestBasicOrganizationDetails());
+      }
+
+      partyService.upsertParties(IPartyService.DEFAULT_TENANT_ID, tooManyParties);
+
+      fail("Upserted more than the maximum number of parties");
+    } catch (InvalidArgumentException ignored) {
+    }
+
+    partyService.deletePerson(IPartyService.DEFAULT_TENANT_ID, existingPerson.getId());
+    partyService.deletePerson(IPartyService.DEFAULT_TENANT_ID, newPerson.getId());
+    partyService.deleteOrganization(IPartyService.DEFAULT_TENANT_ID, newOrganization.getId());
+  }
+
   /** Test the organization validation functionality. */
   @Test
   public void validateOrganizationTest() throws Exception {
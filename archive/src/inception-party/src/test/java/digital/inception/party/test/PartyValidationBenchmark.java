@@ -0,0 +1,217 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package digital.inception.party.test;
+
+import digital.inception.party.Attribute;
+import digital.inception.party.ContactMechanism;
+import digital.inception.party.ContactMechanismRole;
+import digital.inception.party.ContactMechanismType;
+import digital.inception.party.Education;
+import digital.inception.party.IPartyService;
+import digital.inception.party.IdentityDocument;
+import digital.inception.party.MeasurementSystem;
+import digital.inception.party.MeasurementUnit;
+import digital.inception.party.Person;
+import digital.inception.party.PhysicalAddress;
+import digital.inception.party.PhysicalAddressPurpose;
+import digital.inception.party.PhysicalAddressRole;
+import digital.inception.party.PhysicalAddressType;
+import digital.inception.party.TaxNumber;
+import digital.inception.test.TestConfiguration;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.validation.ConstraintViolation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The <b>PartyValidationBenchmark</b> class contains the JMH benchmark for the validation of a
+ * person with complete details, which performs a large number of reference data lookups.
+ *
+ * <p>Run the benchmark using the <b>main</b> method, after compiling the test classes, e.g. from an
+ * IDE or using <i>mvn exec:java</i> with the test classpath.
+ *
+ * @author Marcus Portmann
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 3)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PartyValidationBenchmark {
+
+  /** The Spring application context. */
+  private AnnotationConfigApplicationContext applicationContext;
+
+  /** The Party Service. */
+  private IPartyService partyService;
+
+  /** The person that is validated. */
+  private Person person;
+
+  /**
+   * Run the benchmark.
+   *
+   * @param args the command-line arguments
+   */
+  public static void main(String[] args) throws Exception {
+    new Runner(new OptionsBuilder().include(PartyValidationBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+
+  private static Person getTestCompletePersonDetails() {
+    Person person = new Person(IPartyService.DEFAULT_TENANT_ID, "Jane Anne Doe");
+
+    person.setCountryOfBirth("US");
+    person.setCountryOfResidence("ZA");
+    person.setDateOfBirth(LocalDate.of(1976, 3, 7));
+    person.setEmploymentStatus("employed");
+    person.setEmploymentType("self_employed");
+    person.setGender("female");
+    person.setGivenName("Jane");
+    person.setId(UUID.randomUUID());
+    person.setInitials("J A");
+    person.setLanguage("EN");
+    person.setMaidenName("Smith");
+    person.setMaritalStatus("married");
+    person.setMarriageType("anc_with_accrual");
+    person.setMaritalStatusDate(LocalDate.of(2015, 10, 10));
+    person.setMeasurementSystem(MeasurementSystem.METRIC);
+    person.setMiddleNames("Anne");
+    person.setOccupation("professional_legal");
+    person.setPreferredName("Jane");
+    person.setRace("white");
+    person.setResidencyStatus("permanent_resident");
+    person.setResidentialType("renter");
+    person.setSurname("Doe");
+    person.setTimeZone("Africa/Johannesburg");
+    person.setTitle("ms");
+
+    person.addAttribute(
+        new Attribute("weight", new BigDecimal("52.7"), MeasurementUnit.METRIC_KILOGRAM));
+
+    person.setCountryOfTaxResidence("ZA");
+    person.addTaxNumber(new TaxNumber("za_income_tax_number", "ZA", "0123456789"));
+
+    person.addContactMechanism(
+        new ContactMechanism(
+            ContactMechanismType.MOBILE_NUMBER, "personal_mobile_number", "+27835551234"));
+    person.addContactMechanism(
+        new ContactMechanism(
+            ContactMechanismType.EMAIL_ADDRESS,
+            ContactMechanismRole.PERSONAL_EMAIL_ADDRESS,
+            "jane@test.com",
+            "marketing"));
+
+    person.addEducation(
+        new Education(
+            "ZA",
+            "University of the Witwatersrand",
+            "bachelors_degree",
+            "Bachelor of Science in Electrical Engineering",
+            1998,
+            "electrical_engineering"));
+
+    person.addIdentityDocument(
+        new IdentityDocument("za_id_card", "ZA", LocalDate.of(2012, 5, 1), "8904085800089"));
+
+    PhysicalAddress residentialAddress =
+        new PhysicalAddress(
+            PhysicalAddressType.STREET,
+            PhysicalAddressRole.RESIDENTIAL,
+            Set.of(
+                PhysicalAddressPurpose.BILLING,
+                PhysicalAddressPurpose.CORRESPONDENCE,
+                PhysicalAddressPurpose.DELIVERY));
+    residentialAddress.setStreetNumber("13");
+    residentialAddress.setStreetName("Kraalbessie Avenue");
+    residentialAddress.setSuburb("Weltevreden Park");
+    residentialAddress.setCity("Johannesburg");
+    residentialAddress.setRegion("ZA-GP");
+    residentialAddress.setCountry("ZA");
+    residentialAddress.setPostalCode("1709");
+
+    person.addPhysicalAddress(residentialAddress);
+
+    return person;
+  }
+
+  /** Initialize the Spring application context and the person that is validated. */
+  @Setup
+  public void setup() throws Exception {
+    applicationContext = new AnnotationConfigApplicationContext();
+
+    new ConfigDataApplicationContextInitializer().initialize(applicationContext);
+
+    applicationContext.register(TestConfiguration.class, CachingConfiguration.class);
+    applicationContext.refresh();
+
+    partyService = applicationContext.getBean(IPartyService.class);
+
+    person = getTestCompletePersonDetails();
+
+    Set<ConstraintViolation<Person>> constraintViolations =
+        partyService.validatePerson(IPartyService.DEFAULT_TENANT_ID, person);
+
+    if (!constraintViolations.isEmpty()) {
+      throw new IllegalStateException(
+          "The person used for the benchmark is not valid: " + constraintViolations);
+    }
+  }
+
+  /** Close the Spring application context. */
+  @TearDown
+  public void tearDown() {
+    applicationContext.close();
+  }
+
+  /**
+   * Benchmark the validation of a person.
+   *
+   * @return the constraint violations for the person
+   */
+  @Benchmark
+  public Set<ConstraintViolation<Person>> validatePerson() throws Exception {
+    return partyService.validatePerson(IPartyService.DEFAULT_TENANT_ID, person);
+  }
+
+  /**
+   * The <b>CachingConfiguration</b> class enables caching for the benchmark so that the reference
+   * data is retrieved from the cache, as it would be in an application, rather than the database.
+   */
+  @Configuration
+  @EnableCaching
+  static class CachingConfiguration {}
+}
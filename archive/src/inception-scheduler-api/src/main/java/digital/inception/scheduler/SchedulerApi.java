@@ -28,6 +28,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
 import java.util.List;
 import org.springframework.context.ApplicationContext;
 import org.springframework.http.HttpStatus;
@@ -38,6 +39,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -238,6 +240,80 @@ public class SchedulerApi extends SecureApi {
     return schedulerService.getJob(jobId);
   }
 
+  /**
+   * Retrieve the percentile summary for the executions of the job.
+   *
+   * @param jobId the ID for the job
+   * @param from the optional date to summarize the job executions from, defaults to seven days ago
+   * @param to the optional date to summarize the job executions to, defaults to today
+   * @return the percentile summary for the executions of the job
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws JobNotFoundException if the job could not be found
+   * @throws ServiceUnavailableException if the execution summary for the job could not be
+   *     retrieved
+   */
+  @Operation(
+      summary = "Retrieve the execution summary for the job",
+      description = "Retrieve the percentile summary for the executions of the job")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid argument",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Access denied",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "404",
+            description = "The job could not be found",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "500",
+            description =
+                "An error has occurred and the request could not be processed at this time",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class)))
+      })
+  @RequestMapping(
+      value = "/jobs/{jobId}/execution-summary",
+      method = RequestMethod.GET,
+      produces = "application/json")
+  @ResponseStatus(HttpStatus.OK)
+  @PreAuthorize(
+      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Scheduler.SchedulerAdministration') or hasAuthority('FUNCTION_Scheduler.JobAdministration')")
+  public JobExecutionSummary getJobExecutionSummary(
+      @Parameter(name = "jobId", description = "The ID for the job", required = true) @PathVariable
+          String jobId,
+      @Parameter(
+              name = "from",
+              description = "The optional date to summarize the job executions from")
+          @RequestParam(value = "from", required = false)
+          LocalDate from,
+      @Parameter(name = "to", description = "The optional date to summarize the job executions to")
+          @RequestParam(value = "to", required = false)
+          LocalDate to)
+      throws InvalidArgumentException, JobNotFoundException, ServiceUnavailableException {
+    LocalDate toDate = (to != null) ? to : LocalDate.now();
+    LocalDate fromDate = (from != null) ? from : toDate.minusDays(7);
+
+    return schedulerService.getJobExecutionSummary(
+        jobId, fromDate.atStartOfDay(), toDate.plusDays(1).atStartOfDay());
+  }
+
   /**
    * Retrieve the name of the job.
    *
@@ -18,6 +18,7 @@ package digital.inception.scheduler;
 
 import digital.inception.core.service.InvalidArgumentException;
 import digital.inception.core.service.ServiceUnavailableException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -73,6 +74,21 @@ public interface ISchedulerService {
   Job getJob(String jobId)
       throws InvalidArgumentException, JobNotFoundException, ServiceUnavailableException;
 
+  /**
+   * Retrieve the percentile summary for the executions of the job in the specified period.
+   *
+   * @param jobId the ID for the job
+   * @param from the date and time to summarize the job executions from
+   * @param to the date and time to summarize the job executions to
+   * @return the percentile summary for the executions of the job
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws JobNotFoundException if the job could not be found
+   * @throws ServiceUnavailableException if the execution summary for the job could not be
+   *     retrieved
+   */
+  JobExecutionSummary getJobExecutionSummary(String jobId, LocalDateTime from, LocalDateTime to)
+      throws InvalidArgumentException, JobNotFoundException, ServiceUnavailableException;
+
   /**
    * Retrieve the name of the job.
    *
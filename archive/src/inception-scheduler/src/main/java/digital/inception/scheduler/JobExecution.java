@@ -0,0 +1,237 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.scheduler;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * The <b>JobExecution</b> class holds the information for a single execution of a job.
+ *
+ * <p>Job executions are written asynchronously in batches by the <b>JobExecutionRecorder</b> and
+ * are only read through JPA when summarizing the execution history for a job.
+ *
+ * @author Marcus Portmann
+ */
+@Entity
+@Table(schema = "scheduler", name = "job_executions")
+@SuppressWarnings({"unused", "WeakerAccess"})
+public class JobExecution implements Serializable {
+
+  private static final long serialVersionUID = 1000000;
+
+  /** The duration of the job execution in milliseconds. */
+  @Column(name = "duration", nullable = false)
+  private long duration;
+
+  /** The execution attempt for the job execution. */
+  @Column(name = "execution_attempt", nullable = false)
+  private int executionAttempt;
+
+  /** The ID for the job execution. */
+  @Id
+  @Column(name = "id", nullable = false)
+  private UUID id;
+
+  /** The ID for the job. */
+  @Column(name = "job_id", length = 100, nullable = false)
+  private String jobId;
+
+  /** The name of the node that executed the job. */
+  @Column(name = "node", length = 100, nullable = false)
+  private String node;
+
+  /** The date and time the job was scheduled for execution. */
+  @Column(name = "scheduled")
+  private LocalDateTime scheduled;
+
+  /**
+   * The number of milliseconds between the date and time the job was scheduled for execution and
+   * the date and time the execution started.
+   */
+  @Column(name = "start_lag")
+  private Long startLag;
+
+  /** The date and time the job execution started. */
+  @Column(name = "started", nullable = false)
+  private LocalDateTime started;
+
+  /** Was the job execution successful? */
+  @Column(name = "successful", nullable = false)
+  private boolean successful;
+
+  /** Constructs a new <b>JobExecution</b>. */
+  public JobExecution() {}
+
+  /**
+   * Constructs a new <b>JobExecution</b>.
+   *
+   * @param jobId the ID for the job
+   * @param node the name of the node that executed the job
+   * @param executionAttempt the execution attempt for the job execution
+   * @param scheduled the date and time the job was scheduled for execution
+   * @param started the date and time the job execution started
+   * @param startLag the number of milliseconds between the date and time the job was scheduled for
+   *     execution and the date and time the execution started
+   * @param duration the duration of the job execution in milliseconds
+   * @param successful <b>true</b> if the job execution was successful or <b>false</b> otherwise
+   */
+  public JobExecution(
+      String jobId,
+      String node,
+      int executionAttempt,
+      LocalDateTime scheduled,
+      LocalDateTime started,
+      Long startLag,
+      long duration,
+      boolean successful) {
+    this.id = UuidCreator.getShortPrefixComb();
+    this.jobId = jobId;
+    this.node = node;
+    this.executionAttempt = executionAttempt;
+    this.scheduled = scheduled;
+    this.started = started;
+    this.startLag = startLag;
+    this.duration = duration;
+    this.successful = successful;
+  }
+
+  /**
+   * Indicates whether some other object is "equal to" this one.
+   *
+   * @param object the reference object with which to compare
+   * @return <b>true</b> if this object is the same as the object argument otherwise <b> false</b>
+   */
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+
+    if (object == null) {
+      return false;
+    }
+
+    if (getClass() != object.getClass()) {
+      return false;
+    }
+
+    JobExecution other = (JobExecution) object;
+
+    return Objects.equals(id, other.id);
+  }
+
+  /**
+   * Returns the duration of the job execution in milliseconds.
+   *
+   * @return the duration of the job execution in milliseconds
+   */
+  public long getDuration() {
+    return duration;
+  }
+
+  /**
+   * Returns the execution attempt for the job execution.
+   *
+   * @return the execution attempt for the job execution
+   */
+  public int getExecutionAttempt() {
+    return executionAttempt;
+  }
+
+  /**
+   * Returns the ID for the job execution.
+   *
+   * @return the ID for the job execution
+   */
+  public UUID getId() {
+    return id;
+  }
+
+  /**
+   * Returns the ID for the job.
+   *
+   * @return the ID for the job
+   */
+  public String getJobId() {
+    return jobId;
+  }
+
+  /**
+   * Returns the name of the node that executed the job.
+   *
+   * @return the name of the node that executed the job
+   */
+  public String getNode() {
+    return node;
+  }
+
+  /**
+   * Returns the date and time the job was scheduled for execution.
+   *
+   * @return the date and time the job was scheduled for execution
+   */
+  public LocalDateTime getScheduled() {
+    return scheduled;
+  }
+
+  /**
+   * Returns the number of milliseconds between the date and time the job was scheduled for
+   * execution and the date and time the execution started.
+   *
+   * @return the number of milliseconds between the date and time the job was scheduled for
+   *     execution and the date and time the execution started
+   */
+  public Long getStartLag() {
+    return startLag;
+  }
+
+  /**
+   * Returns the date and time the job execution started.
+   *
+   * @return the date and time the job execution started
+   */
+  public LocalDateTime getStarted() {
+    return started;
+  }
+
+  /**
+   * Returns a hash code value for the object.
+   *
+   * @return a hash code value for the object
+   */
+  @Override
+  public int hashCode() {
+    return (id == null) ? 0 : id.hashCode();
+  }
+
+  /**
+   * Returns whether the job execution was successful.
+   *
+   * @return <b>true</b> if the job execution was successful or <b>false</b> otherwise
+   */
+  public boolean isSuccessful() {
+    return successful;
+  }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * The <b>JobExecutionRecorder</b> class records the execution history and latency metrics for
+ * jobs.
+ *
+ * <p>Job executions are added to a bounded in-memory buffer on the thread executing the job and
+ * are written to the database in JDBC batches by a background flush, so that recording never
+ * blocks job execution. If the buffer is full the job execution is still recorded in the
+ * Micrometer timers but is dropped from the persistent history.
+ *
+ * @author Marcus Portmann
+ */
+@Service
+@SuppressWarnings("unused")
+public class JobExecutionRecorder {
+
+  /** The SQL used to delete the job executions that started before a date and time. */
+  private static final String DELETE_JOB_EXECUTIONS_SQL =
+      "DELETE FROM scheduler.job_executions WHERE started < ?";
+
+  /** The SQL used to insert a job execution. */
+  private static final String INSERT_JOB_EXECUTION_SQL =
+      "INSERT INTO scheduler.job_executions (id, job_id, node, execution_attempt, scheduled, "
+          + "started, start_lag, duration, successful) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  /* Logger */
+  private static final Logger logger = LoggerFactory.getLogger(JobExecutionRecorder.class);
+
+  /** The data source used to write the job executions. */
+  private final DataSource dataSource;
+
+  /** The Micrometer meter registry. */
+  private final MeterRegistry meterRegistry;
+
+  /** The buffer holding the job executions that have not been written to the database. */
+  private BlockingQueue<JobExecution> buffer;
+
+  /** The counter for the job executions dropped because the buffer was full. */
+  private Counter droppedJobExecutionsCounter;
+
+  /* The maximum number of job executions to write to the database in a single batch. */
+  @Value("${application.scheduler.jobExecutionHistoryBatchSize:100}")
+  private int jobExecutionHistoryBatchSize;
+
+  /* The maximum number of job executions to buffer before they are written to the database. */
+  @Value("${application.scheduler.jobExecutionHistoryBufferSize:10000}")
+  private int jobExecutionHistoryBufferSize;
+
+  /* The number of days to retain the job execution history. */
+  @Value("${application.scheduler.jobExecutionHistoryRetentionDays:30}")
+  private int jobExecutionHistoryRetentionDays;
+
+  /**
+   * Constructs a new <b>JobExecutionRecorder</b>.
+   *
+   * @param dataSource the data source used to write the job executions
+   */
+  public JobExecutionRecorder(@Qualifier("applicationDataSource") DataSource dataSource) {
+    this.dataSource = dataSource;
+    this.meterRegistry = Metrics.globalRegistry;
+  }
+
+  /**
+   * Write the buffered job executions to the database in batches.
+   *
+   * @return the number of job executions that were written to the database
+   */
+  @Scheduled(fixedDelayString = "${application.scheduler.jobExecutionHistoryFlushInterval:5000}")
+  public int flush() {
+    int written = 0;
+
+    List<JobExecution> batch = new ArrayList<>(jobExecutionHistoryBatchSize);
+
+    while (buffer.drainTo(batch, jobExecutionHistoryBatchSize) > 0) {
+      try {
+        writeBatch(batch);
+
+        written += batch.size();
+      } catch (Throwable e) {
+        logger.error(
+            "Failed to write a batch of " + batch.size() + " job executions to the database", e);
+      }
+
+      batch.clear();
+    }
+
+    return written;
+  }
+
+  /** Initialize the Job Execution Recorder. */
+  @PostConstruct
+  public void init() {
+    logger.info("Initializing the Job Execution Recorder");
+
+    buffer = new LinkedBlockingQueue<>(jobExecutionHistoryBufferSize);
+
+    droppedJobExecutionsCounter =
+        Counter.builder("scheduler.job.executions.dropped")
+            .description(
+                "The number of job executions dropped from the history because the buffer was full")
+            .register(meterRegistry);
+
+    Gauge.builder("scheduler.job.executions.buffered", buffer, BlockingQueue::size)
+        .description("The number of job executions waiting to be written to the history")
+        .register(meterRegistry);
+  }
+
+  /** Purge the job executions that are older than the retention period. */
+  @Scheduled(cron = "0 0 * * * *")
+  public void purge() {
+    LocalDateTime before = LocalDateTime.now().minusDays(jobExecutionHistoryRetentionDays);
+
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(DELETE_JOB_EXECUTIONS_SQL)) {
+      statement.setTimestamp(1, Timestamp.valueOf(before));
+
+      int deleted = statement.executeUpdate();
+
+      if (logger.isDebugEnabled()) {
+        logger.debug("Purged " + deleted + " job executions that started before " + before);
+      }
+    } catch (Throwable e) {
+      logger.error("Failed to purge the job executions that started before " + before, e);
+    }
+  }
+
+  /**
+   * Record the job execution.
+   *
+   * <p>The Micrometer timers for the job are updated immediately and the job execution is queued
+   * to be written to the database by the next flush.
+   *
+   * @param jobExecution the job execution
+   */
+  public void record(JobExecution jobExecution) {
+    try {
+      Timer.builder("scheduler.job.execution")
+          .description("The duration of the executions of the job")
+          .tag("job", jobExecution.getJobId())
+          .tag("outcome", jobExecution.isSuccessful() ? "success" : "failure")
+          .publishPercentileHistogram()
+          .register(meterRegistry)
+          .record(jobExecution.getDuration(), TimeUnit.MILLISECONDS);
+
+      if (jobExecution.getStartLag() != null) {
+        Timer.builder("scheduler.job.start.lag")
+            .description("The delay between when the job was scheduled and when it started")
+            .tag("job", jobExecution.getJobId())
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(Math.max(jobExecution.getStartLag(), 0), TimeUnit.MILLISECONDS);
+      }
+    } catch (Throwable e) {
+      logger.warn(
+          "Failed to record the metrics for the execution of the job ("
+              + jobExecution.getJobId()
+              + ")",
+          e);
+    }
+
+    if (!buffer.offer(jobExecution)) {
+      droppedJobExecutionsCounter.increment();
+
+      if (logger.isDebugEnabled()) {
+        logger.debug(
+            "Dropped the execution of the job ("
+                + jobExecution.getJobId()
+                + ") from the history because the buffer is full");
+      }
+    }
+  }
+
+  /** Write any remaining buffered job executions to the database before shutting down. */
+  @PreDestroy
+  public void shutdown() {
+    flush();
+  }
+
+  private void writeBatch(List<JobExecution> batch) throws Exception {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(INSERT_JOB_EXECUTION_SQL)) {
+      for (JobExecution jobExecution : batch) {
+        statement.setObject(1, jobExecution.getId());
+        statement.setString(2, jobExecution.getJobId());
+        statement.setString(3, jobExecution.getNode());
+        statement.setInt(4, jobExecution.getExecutionAttempt());
+
+        if (jobExecution.getScheduled() != null) {
+          statement.setTimestamp(5, Timestamp.valueOf(jobExecution.getScheduled()));
+        } else {
+          statement.setNull(5, Types.TIMESTAMP);
+        }
+
+        statement.setTimestamp(6, Timestamp.valueOf(jobExecution.getStarted()));
+
+        if (jobExecution.getStartLag() != null) {
+          statement.setLong(7, jobExecution.getStartLag());
+        } else {
+          statement.setNull(7, Types.BIGINT);
+        }
+
+        statement.setLong(8, jobExecution.getDuration());
+        statement.setBoolean(9, jobExecution.isSuccessful());
+
+        statement.addBatch();
+      }
+
+      statement.executeBatch();
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * The <b>JobExecutionRepository</b> interface declares the repository for the
+ * <b>JobExecution</b> domain type.
+ *
+ * @author Marcus Portmann
+ */
+public interface JobExecutionRepository extends JpaRepository<JobExecution, UUID> {
+
+  /**
+   * Count the executions for the job in the specified period.
+   *
+   * @param jobId the ID for the job
+   * @param from the date and time to count the job executions from
+   * @param to the date and time to count the job executions to
+   * @return the number of executions for the job in the specified period
+   */
+  @Query(
+      "select count(je) from JobExecution je where je.jobId = :jobId "
+          + "and je.started >= :from and je.started < :to")
+  long countByJobId(
+      @Param("jobId") String jobId,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
+
+  /**
+   * Count the failed executions for the job in the specified period.
+   *
+   * @param jobId the ID for the job
+   * @param from the date and time to count the job executions from
+   * @param to the date and time to count the job executions to
+   * @return the number of failed executions for the job in the specified period
+   */
+  @Query(
+      "select count(je) from JobExecution je where je.jobId = :jobId and je.successful = false "
+          + "and je.started >= :from and je.started < :to")
+  long countFailedByJobId(
+      @Param("jobId") String jobId,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
+
+  /**
+   * Count the executions, with a start lag, for the job in the specified period.
+   *
+   * @param jobId the ID for the job
+   * @param from the date and time to count the job executions from
+   * @param to the date and time to count the job executions to
+   * @return the number of executions, with a start lag, for the job in the specified period
+   */
+  @Query(
+      "select count(je) from JobExecution je where je.jobId = :jobId and je.startLag is not null "
+          + "and je.started >= :from and je.started < :to")
+  long countWithStartLagByJobId(
+      @Param("jobId") String jobId,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
+
+  /**
+   * Retrieve the page of durations, in ascending order, for the executions of the job in the
+   * specified period.
+   *
+   * <p>This is used to retrieve the duration at a specific rank without loading the durations for
+   * all the executions of the job.
+   *
+   * @param jobId the ID for the job
+   * @param from the date and time to retrieve the job executions from
+   * @param to the date and time to retrieve the job executions to
+   * @param pageable the page of durations to retrieve
+   * @return the page of durations, in ascending order, for the executions of the job
+   */
+  @Query(
+      "select je.duration from JobExecution je where je.jobId = :jobId "
+          + "and je.started >= :from and je.started < :to order by je.duration")
+  List<Long> findDurationsByJobId(
+      @Param("jobId") String jobId,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to,
+      Pageable pageable);
+
+  /**
+   * Retrieve the page of start lags, in ascending order, for the executions of the job in the
+   * specified period.
+   *
+   * <p>This is used to retrieve the start lag at a specific rank without loading the start lags for
+   * all the executions of the job.
+   *
+   * @param jobId the ID for the job
+   * @param from the date and time to retrieve the job executions from
+   * @param to the date and time to retrieve the job executions to
+   * @param pageable the page of start lags to retrieve
+   * @return the page of start lags, in ascending order, for the executions of the job
+   */
+  @Query(
+      "select je.startLag from JobExecution je where je.jobId = :jobId and je.startLag is not null "
+          + "and je.started >= :from and je.started < :to order by je.startLag")
+  List<Long> findStartLagsByJobId(
+      @Param("jobId") String jobId,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to,
+      Pageable pageable);
+}
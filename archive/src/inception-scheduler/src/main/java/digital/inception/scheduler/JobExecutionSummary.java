@@ -0,0 +1,332 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.scheduler;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import digital.inception.core.xml.LocalDateTimeAdapter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+/**
+ * The <b>JobExecutionSummary</b> class holds the percentile summary for the executions of a job
+ * over a period.
+ *
+ * <p>All durations and start lags are expressed in milliseconds. The percentile values will be
+ * <b>null</b> if there were no executions of the job in the period.
+ *
+ * @author Marcus Portmann
+ */
+@Schema(description = "A percentile summary for the executions of a job over a period")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+  "jobId",
+  "from",
+  "to",
+  "executions",
+  "failedExecutions",
+  "durationP50",
+  "durationP90",
+  "durationP99",
+  "durationMax",
+  "startLagP50",
+  "startLagP90",
+  "startLagP99",
+  "startLagMax"
+})
+@XmlRootElement(name = "JobExecutionSummary", namespace = "http://inception.digital/scheduler")
+@XmlType(
+    name = "JobExecutionSummary",
+    namespace = "http://inception.digital/scheduler",
+    propOrder = {
+      "jobId",
+      "from",
+      "to",
+      "executions",
+      "failedExecutions",
+      "durationP50",
+      "durationP90",
+      "durationP99",
+      "durationMax",
+      "startLagP50",
+      "startLagP90",
+      "startLagP99",
+      "startLagMax"
+    })
+@XmlAccessorType(XmlAccessType.FIELD)
+@SuppressWarnings({"unused", "WeakerAccess"})
+public class JobExecutionSummary implements Serializable {
+
+  private static final long serialVersionUID = 1000000;
+
+  /** The maximum duration of the job executions in milliseconds. */
+  @Schema(description = "The maximum duration of the job executions in milliseconds")
+  @JsonProperty
+  @XmlElement(name = "DurationMax")
+  private Long durationMax;
+
+  /** The 50th percentile duration of the job executions in milliseconds. */
+  @Schema(description = "The 50th percentile duration of the job executions in milliseconds")
+  @JsonProperty
+  @XmlElement(name = "DurationP50")
+  private Long durationP50;
+
+  /** The 90th percentile duration of the job executions in milliseconds. */
+  @Schema(description = "The 90th percentile duration of the job executions in milliseconds")
+  @JsonProperty
+  @XmlElement(name = "DurationP90")
+  private Long durationP90;
+
+  /** The 99th percentile duration of the job executions in milliseconds. */
+  @Schema(description = "The 99th percentile duration of the job executions in milliseconds")
+  @JsonProperty
+  @XmlElement(name = "DurationP99")
+  private Long durationP99;
+
+  /** The number of job executions. */
+  @Schema(description = "The number of job executions", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "Executions", required = true)
+  private long executions;
+
+  /** The number of failed job executions. */
+  @Schema(description = "The number of failed job executions", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "FailedExecutions", required = true)
+  private long failedExecutions;
+
+  /** The date and time the summary starts from. */
+  @Schema(description = "The date and time the summary starts from", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "From", required = true)
+  @XmlJavaTypeAdapter(LocalDateTimeAdapter.class)
+  @XmlSchemaType(name = "dateTime")
+  private LocalDateTime from;
+
+  /** The ID for the job. */
+  @Schema(description = "The ID for the job", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "JobId", required = true)
+  private String jobId;
+
+  /** The maximum start lag of the job executions in milliseconds. */
+  @Schema(description = "The maximum start lag of the job executions in milliseconds")
+  @JsonProperty
+  @XmlElement(name = "StartLagMax")
+  private Long startLagMax;
+
+  /** The 50th percentile start lag of the job executions in milliseconds. */
+  @Schema(description = "The 50th percentile start lag of the job executions in milliseconds")
+  @JsonProperty
+  @XmlElement(name = "StartLagP50")
+  private Long startLagP50;
+
+  /** The 90th percentile start lag of the job executions in milliseconds. */
+  @Schema(description = "The 90th percentile start lag of the job executions in milliseconds")
+  @JsonProperty
+  @XmlElement(name = "StartLagP90")
+  private Long startLagP90;
+
+  /** The 99th percentile start lag of the job executions in milliseconds. */
+  @Schema(description = "The 99th percentile start lag of the job executions in milliseconds")
+  @JsonProperty
+  @XmlElement(name = "StartLagP99")
+  private Long startLagP99;
+
+  /** The date and time the summary extends to. */
+  @Schema(description = "The date and time the summary extends to", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "To", required = true)
+  @XmlJavaTypeAdapter(LocalDateTimeAdapter.class)
+  @XmlSchemaType(name = "dateTime")
+  private LocalDateTime to;
+
+  /** Constructs a new <b>JobExecutionSummary</b>. */
+  public JobExecutionSummary() {}
+
+  /**
+   * Constructs a new <b>JobExecutionSummary</b>.
+   *
+   * @param jobId the ID for the job
+   * @param from the date and time the summary starts from
+   * @param to the date and time the summary extends to
+   * @param executions the number of job executions
+   * @param failedExecutions the number of failed job executions
+   * @param durationP50 the 50th percentile duration of the job executions in milliseconds
+   * @param durationP90 the 90th percentile duration of the job executions in milliseconds
+   * @param durationP99 the 99th percentile duration of the job executions in milliseconds
+   * @param durationMax the maximum duration of the job executions in milliseconds
+   * @param startLagP50 the 50th percentile start lag of the job executions in milliseconds
+   * @param startLagP90 the 90th percentile start lag of the job executions in milliseconds
+   * @param startLagP99 the 99th percentile start lag of the job executions in milliseconds
+   * @param startLagMax the maximum start lag of the job executions in milliseconds
+   */
+  public JobExecutionSummary(
+      String jobId,
+      LocalDateTime from,
+      LocalDateTime to,
+      long executions,
+      long failedExecutions,
+      Long durationP50,
+      Long durationP90,
+      Long durationP99,
+      Long durationMax,
+      Long startLagP50,
+      Long startLagP90,
+      Long startLagP99,
+      Long startLagMax) {
+    this.jobId = jobId;
+    this.from = from;
+    this.to = to;
+    this.executions = executions;
+    this.failedExecutions = failedExecutions;
+    this.durationP50 = durationP50;
+    this.durationP90 = durationP90;
+    this.durationP99 = durationP99;
+    this.durationMax = durationMax;
+    this.startLagP50 = startLagP50;
+    this.startLagP90 = startLagP90;
+    this.startLagP99 = startLagP99;
+    this.startLagMax = startLagMax;
+  }
+
+  /**
+   * Returns the maximum duration of the job executions in milliseconds.
+   *
+   * @return the maximum duration of the job executions in milliseconds
+   */
+  public Long getDurationMax() {
+    return durationMax;
+  }
+
+  /**
+   * Returns the 50th percentile duration of the job executions in milliseconds.
+   *
+   * @return the 50th percentile duration of the job executions in milliseconds
+   */
+  public Long getDurationP50() {
+    return durationP50;
+  }
+
+  /**
+   * Returns the 90th percentile duration of the job executions in milliseconds.
+   *
+   * @return the 90th percentile duration of the job executions in milliseconds
+   */
+  public Long getDurationP90() {
+    return durationP90;
+  }
+
+  /**
+   * Returns the 99th percentile duration of the job executions in milliseconds.
+   *
+   * @return the 99th percentile duration of the job executions in milliseconds
+   */
+  public Long getDurationP99() {
+    return durationP99;
+  }
+
+  /**
+   * Returns the number of job executions.
+   *
+   * @return the number of job executions
+   */
+  public long getExecutions() {
+    return executions;
+  }
+
+  /**
+   * Returns the number of failed job executions.
+   *
+   * @return the number of failed job executions
+   */
+  public long getFailedExecutions() {
+    return failedExecutions;
+  }
+
+  /**
+   * Returns the date and time the summary starts from.
+   *
+   * @return the date and time the summary starts from
+   */
+  public LocalDateTime getFrom() {
+    return from;
+  }
+
+  /**
+   * Returns the ID for the job.
+   *
+   * @return the ID for the job
+   */
+  public String getJobId() {
+    return jobId;
+  }
+
+  /**
+   * Returns the maximum start lag of the job executions in milliseconds.
+   *
+   * @return the maximum start lag of the job executions in milliseconds
+   */
+  public Long getStartLagMax() {
+    return startLagMax;
+  }
+
+  /**
+   * Returns the 50th percentile start lag of the job executions in milliseconds.
+   *
+   * @return the 50th percentile start lag of the job executions in milliseconds
+   */
+  public Long getStartLagP50() {
+    return startLagP50;
+  }
+
+  /**
+   * Returns the 90th percentile start lag of the job executions in milliseconds.
+   *
+   * @return the 90th percentile start lag of the job executions in milliseconds
+   */
+  public Long getStartLagP90() {
+    return startLagP90;
+  }
+
+  /**
+   * Returns the 99th percentile start lag of the job executions in milliseconds.
+   *
+   * @return the 99th percentile start lag of the job executions in milliseconds
+   */
+  public Long getStartLagP99() {
+    return startLagP99;
+  }
+
+  /**
+   * Returns the date and time the summary extends to.
+   *
+   * @return the date and time the summary extends to
+   */
+  public LocalDateTime getTo() {
+    return to;
+  }
+}
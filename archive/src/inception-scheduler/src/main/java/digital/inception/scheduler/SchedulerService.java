@@ -27,6 +27,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
 import javax.annotation.PostConstruct;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
@@ -59,6 +61,12 @@ public class SchedulerService implements ISchedulerService {
   /* The name of the Scheduler Service instance. */
   private final String instanceName = ServiceUtil.getServiceInstanceName("SchedulerService");
 
+  /** The Job Execution Recorder. */
+  private final JobExecutionRecorder jobExecutionRecorder;
+
+  /** The Job Execution Repository. */
+  private final JobExecutionRepository jobExecutionRepository;
+
   /** The Job Repository. */
   private final JobRepository jobRepository;
 
@@ -87,12 +95,20 @@ public class SchedulerService implements ISchedulerService {
    * @param applicationContext the Spring application context
    * @param validator the JSR-303 validator
    * @param jobRepository the Job Repository
+   * @param jobExecutionRepository the Job Execution Repository
+   * @param jobExecutionRecorder the Job Execution Recorder
    */
   public SchedulerService(
-      ApplicationContext applicationContext, Validator validator, JobRepository jobRepository) {
+      ApplicationContext applicationContext,
+      Validator validator,
+      JobRepository jobRepository,
+      JobExecutionRepository jobExecutionRepository,
+      JobExecutionRecorder jobExecutionRecorder) {
     this.validator = validator;
     this.applicationContext = applicationContext;
     this.jobRepository = jobRepository;
+    this.jobExecutionRepository = jobExecutionRepository;
+    this.jobExecutionRecorder = jobExecutionRecorder;
   }
 
   @Override
@@ -183,6 +199,10 @@ public class SchedulerService implements ISchedulerService {
     }
 
     // Execute the job
+    LocalDateTime started = LocalDateTime.now();
+    long startedNanos = System.nanoTime();
+    boolean successful = false;
+
     try {
       // Retrieve the parameters for the job
       Map<String, String> parameters = new HashMap<>();
@@ -196,9 +216,27 @@ public class SchedulerService implements ISchedulerService {
 
       // Execute the job
       jobImplementation.execute(context);
+
+      successful = true;
     } catch (Throwable e) {
       throw new ServiceUnavailableException(
           "Failed to execute the job (" + job.getName() + ") with ID (" + job.getId() + ")", e);
+    } finally {
+      Long startLag =
+          (job.getNextExecution() != null)
+              ? ChronoUnit.MILLIS.between(job.getNextExecution(), started)
+              : null;
+
+      jobExecutionRecorder.record(
+          new JobExecution(
+              job.getId(),
+              instanceName,
+              (job.getExecutionAttempts() != null) ? job.getExecutionAttempts() : 0,
+              job.getNextExecution(),
+              started,
+              startLag,
+              TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos),
+              successful));
     }
   }
 
@@ -224,6 +262,69 @@ public class SchedulerService implements ISchedulerService {
     }
   }
 
+  @Override
+  public JobExecutionSummary getJobExecutionSummary(
+      String jobId, LocalDateTime from, LocalDateTime to)
+      throws InvalidArgumentException, JobNotFoundException, ServiceUnavailableException {
+    if (!StringUtils.hasText(jobId)) {
+      throw new InvalidArgumentException("jobId");
+    }
+
+    if (from == null) {
+      throw new InvalidArgumentException("from");
+    }
+
+    if (to == null) {
+      throw new InvalidArgumentException("to");
+    }
+
+    if (to.isBefore(from)) {
+      throw new InvalidArgumentException("to");
+    }
+
+    try {
+      if (!jobRepository.existsById(jobId)) {
+        throw new JobNotFoundException(jobId);
+      }
+
+      // Retrieve only the value at the rank for each percentile, rather than all the values
+      long executions = jobExecutionRepository.countByJobId(jobId, from, to);
+
+      LongFunction<List<Long>> durationAtOffset =
+          offset ->
+              jobExecutionRepository.findDurationsByJobId(
+                  jobId, from, to, PageRequest.of(Math.toIntExact(offset), 1));
+
+      long executionsWithStartLag =
+          jobExecutionRepository.countWithStartLagByJobId(jobId, from, to);
+
+      LongFunction<List<Long>> startLagAtOffset =
+          offset ->
+              jobExecutionRepository.findStartLagsByJobId(
+                  jobId, from, to, PageRequest.of(Math.toIntExact(offset), 1));
+
+      return new JobExecutionSummary(
+          jobId,
+          from,
+          to,
+          executions,
+          jobExecutionRepository.countFailedByJobId(jobId, from, to),
+          percentile(executions, 50, durationAtOffset),
+          percentile(executions, 90, durationAtOffset),
+          percentile(executions, 99, durationAtOffset),
+          percentile(executions, 100, durationAtOffset),
+          percentile(executionsWithStartLag, 50, startLagAtOffset),
+          percentile(executionsWithStartLag, 90, startLagAtOffset),
+          percentile(executionsWithStartLag, 99, startLagAtOffset),
+          percentile(executionsWithStartLag, 100, startLagAtOffset));
+    } catch (JobNotFoundException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to retrieve the execution summary for the job (" + jobId + ")", e);
+    }
+  }
+
   @Override
   public String getJobName(String jobId)
       throws InvalidArgumentException, JobNotFoundException, ServiceUnavailableException {
@@ -503,6 +604,29 @@ public class SchedulerService implements ISchedulerService {
     }
   }
 
+  /**
+   * Returns the value at the specified percentile, using the nearest-rank method, for the values
+   * sorted in ascending order.
+   *
+   * @param count the number of values
+   * @param percentile the percentile between 1 and 100
+   * @param valueAtOffset the function used to retrieve the value at the offset, in the values
+   *     sorted in ascending order, as a list containing a single value
+   * @return the value at the specified percentile or <b>null</b> if there are no values
+   */
+  private static Long percentile(
+      long count, int percentile, LongFunction<List<Long>> valueAtOffset) {
+    if (count == 0) {
+      return null;
+    }
+
+    long rank = (long) Math.ceil((percentile / 100.0) * count);
+
+    List<Long> values = valueAtOffset.apply(Math.max(rank, 1) - 1);
+
+    return values.isEmpty() ? null : values.get(0);
+  }
+
   private void validateJob(Job job) throws InvalidArgumentException {
     if (job == null) {
       throw new InvalidArgumentException("job");
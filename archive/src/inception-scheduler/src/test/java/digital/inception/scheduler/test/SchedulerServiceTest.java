@@ -17,15 +17,19 @@
 package digital.inception.scheduler.test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import digital.inception.scheduler.ISchedulerService;
 import digital.inception.scheduler.Job;
+import digital.inception.scheduler.JobExecutionRecorder;
+import digital.inception.scheduler.JobExecutionSummary;
 import digital.inception.scheduler.JobNotFoundException;
 import digital.inception.scheduler.JobParameter;
 import digital.inception.scheduler.JobStatus;
 import digital.inception.test.InceptionExtension;
 import digital.inception.test.TestConfiguration;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -59,6 +63,9 @@ public class SchedulerServiceTest {
 
   private static int jobCount;
 
+  /** The Job Execution Recorder. */
+  @Autowired private JobExecutionRecorder jobExecutionRecorder;
+
   /** The Scheduler Service. */
   @Autowired private ISchedulerService schedulerService;
 
@@ -91,6 +98,38 @@ public class SchedulerServiceTest {
     schedulerService.executeJob(job);
   }
 
+  /** Test the job execution summary functionality. */
+  @Test
+  public void jobExecutionSummaryTest() throws Exception {
+    Job job = getTestJobDetails();
+    job.setEnabled(false);
+
+    schedulerService.createJob(job);
+
+    LocalDateTime from = LocalDateTime.now().minusMinutes(1);
+
+    for (int i = 0; i < 5; i++) {
+      schedulerService.executeJob(job);
+    }
+
+    jobExecutionRecorder.flush();
+
+    JobExecutionSummary jobExecutionSummary =
+        schedulerService.getJobExecutionSummary(
+            job.getId(), from, LocalDateTime.now().plusMinutes(1));
+
+    assertEquals(
+        5,
+        jobExecutionSummary.getExecutions(),
+        "The correct number of job executions was not retrieved");
+    assertEquals(
+        0,
+        jobExecutionSummary.getFailedExecutions(),
+        "The correct number of failed job executions was not retrieved");
+    assertNotNull(
+        jobExecutionSummary.getDurationP99(), "The 99th percentile duration was not retrieved");
+  }
+
   /** Test the job parameters functionality. */
   @Test
   public void jobParametersTest() throws Exception {
@@ -30,6 +30,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -40,7 +41,9 @@ import javax.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -50,6 +53,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -158,7 +162,9 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.GroupAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.GroupAdministration')")
   public void addMemberToGroup(
       @Parameter(
               name = "userDirectoryId",
@@ -269,7 +275,9 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.GroupAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.GroupAdministration')")
   public void addRoleToGroup(
       @Parameter(
               name = "userDirectoryId",
@@ -391,7 +399,8 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration')")
   public void addUserDirectoryToTenant(
       @Parameter(name = "tenantId", description = "The ID for the tenant", required = true)
           @PathVariable
@@ -487,7 +496,10 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.UserAdministration') or hasAuthority('FUNCTION_Security.ResetUserPassword')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.UserAdministration') or"
+          + " hasAuthority('FUNCTION_Security.ResetUserPassword')")
   public void adminChangePassword(
       @Parameter(
               name = "userDirectoryId",
@@ -587,7 +599,8 @@ public class SecurityApi extends SecureApi {
         @ApiResponse(
             responseCode = "403",
             description =
-                "The user has exceeded the maximum number of failed password attempts and has been locked",
+                "The user has exceeded the maximum number of failed password attempts and has been"
+                    + " locked",
             content =
                 @Content(
                     mediaType = "application/problem+json",
@@ -760,7 +773,9 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.GroupAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.GroupAdministration')")
   public void createGroup(
       @Parameter(
               name = "userDirectoryId",
@@ -837,7 +852,8 @@ public class SecurityApi extends SecureApi {
   @RequestMapping(value = "/tenants", method = RequestMethod.POST, produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration')")
   public void createTenant(
       @io.swagger.v3.oas.annotations.parameters.RequestBody(
               description = "The tenant to create",
@@ -912,7 +928,9 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.UserAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.UserAdministration')")
   public void createUser(
       @Parameter(
               name = "userDirectoryId",
@@ -1002,7 +1020,8 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.UserDirectoryAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.UserDirectoryAdministration')")
   public void createUserDirectory(
       @io.swagger.v3.oas.annotations.parameters.RequestBody(
               description = "The user directory to create",
@@ -1053,7 +1072,8 @@ public class SecurityApi extends SecureApi {
         @ApiResponse(
             responseCode = "409",
             description =
-                "The group could not be deleted since it is still associated with 1 or more user(s)",
+                "The group could not be deleted since it is still associated with 1 or more"
+                    + " user(s)",
             content =
                 @Content(
                     mediaType = "application/problem+json",
@@ -1073,7 +1093,9 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.GroupAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.GroupAdministration')")
   public void deleteGroup(
       @Parameter(
               name = "userDirectoryId",
@@ -1142,7 +1164,8 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration')")
   public void deleteTenant(
       @Parameter(name = "tenantId", description = "The ID for the tenant", required = true)
           @PathVariable
@@ -1201,7 +1224,9 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.UserAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.UserAdministration')")
   public void deleteUser(
       @Parameter(
               name = "userDirectoryId",
@@ -1272,7 +1297,8 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.UserDirectoryAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.UserDirectoryAdministration')")
   public void deleteUserDirectory(
       @Parameter(
               name = "userDirectoryId",
@@ -1335,7 +1361,9 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.GroupAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.GroupAdministration')")
   public Group getGroup(
       @Parameter(
               name = "userDirectoryId",
@@ -1405,7 +1433,9 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.GroupAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.GroupAdministration')")
   public List<String> getGroupNames(
       @Parameter(
               name = "userDirectoryId",
@@ -1476,7 +1506,9 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.UserAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.UserAdministration')")
   public List<String> getGroupNamesForUser(
       @Parameter(
               name = "userDirectoryId",
@@ -1550,7 +1582,9 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.GroupAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.GroupAdministration')")
   public Groups getGroups(
       @Parameter(
               name = "userDirectoryId",
@@ -1643,7 +1677,9 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.GroupAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.GroupAdministration')")
   public GroupMembers getMembersForGroup(
       @Parameter(
               name = "userDirectoryId",
@@ -1740,7 +1776,9 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.GroupAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.GroupAdministration')")
   public List<String> getRoleCodesForGroup(
       @Parameter(
               name = "userDirectoryId",
@@ -1783,7 +1821,9 @@ public class SecurityApi extends SecureApi {
   @RequestMapping(value = "/roles", method = RequestMethod.GET, produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.GroupAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.GroupAdministration')")
   public List<Role> getRoles() throws ServiceUnavailableException {
     return securityService.getRoles();
   }
@@ -1842,7 +1882,9 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.GroupAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.GroupAdministration')")
   public List<GroupRole> getRolesForGroup(
       @Parameter(
               name = "userDirectoryId",
@@ -1912,7 +1954,8 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration')")
   public Tenant getTenant(
       @Parameter(name = "tenantId", description = "The ID for the tenant", required = true)
           @PathVariable
@@ -1972,7 +2015,8 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration')")
   public String getTenantName(
       @Parameter(name = "tenantId", description = "The ID for the tenant", required = true)
           @PathVariable
@@ -2022,7 +2066,8 @@ public class SecurityApi extends SecureApi {
   @RequestMapping(value = "/tenants", method = RequestMethod.GET, produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration')")
   public Tenants getTenants(
       @Parameter(name = "filter", description = "The optional filter to apply to the tenants")
           @RequestParam(value = "filter", required = false)
@@ -2258,7 +2303,8 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.UserDirectoryAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.UserDirectoryAdministration')")
   public UserDirectories getUserDirectories(
       @Parameter(
               name = "filter",
@@ -2339,7 +2385,10 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.UserAdministration') or hasAuthority('FUNCTION_Security.GroupAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.UserAdministration') or"
+          + " hasAuthority('FUNCTION_Security.GroupAdministration')")
   public ResponseEntity<List<UserDirectory>> getUserDirectoriesForTenant(
       @Parameter(name = "tenantId", description = "The ID for the tenant", required = true)
           @PathVariable
@@ -2412,7 +2461,8 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.UserDirectoryAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.UserDirectoryAdministration')")
   public UserDirectory getUserDirectory(
       @Parameter(
               name = "userDirectoryId",
@@ -2475,7 +2525,11 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.UserDirectoryAdministration') or hasAuthority('FUNCTION_Security.UserAdministration') or hasAuthority('FUNCTION_Security.GroupAdministration') or hasAuthority('FUNCTION_Security.ResetUserPassword')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.UserDirectoryAdministration') or"
+          + " hasAuthority('FUNCTION_Security.UserAdministration') or"
+          + " hasAuthority('FUNCTION_Security.GroupAdministration') or"
+          + " hasAuthority('FUNCTION_Security.ResetUserPassword')")
   public UserDirectoryCapabilities getUserDirectoryCapabilities(
       @Parameter(
               name = "userDirectoryId",
@@ -2543,7 +2597,8 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.UserDirectoryAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.UserDirectoryAdministration')")
   public String getUserDirectoryName(
       @Parameter(
               name = "userDirectoryId",
@@ -2601,7 +2656,8 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.UserDirectoryAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.UserDirectoryAdministration')")
   public UserDirectorySummaries getUserDirectorySummaries(
       @Parameter(
               name = "filter",
@@ -2682,7 +2738,11 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.ResetUserPassword') or hasAuthority('FUNCTION_Security.UserAdministration') or hasAuthority('FUNCTION_Security.UserGroups')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.ResetUserPassword') or"
+          + " hasAuthority('FUNCTION_Security.UserAdministration') or"
+          + " hasAuthority('FUNCTION_Security.UserGroups')")
   public ResponseEntity<List<UserDirectorySummary>> getUserDirectorySummariesForTenant(
       @Parameter(name = "tenantId", description = "The ID for the tenant", required = true)
           @PathVariable
@@ -2759,7 +2819,9 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.UserDirectoryAdministration') or hasAuthority('FUNCTION_Security.UserAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.UserDirectoryAdministration') or"
+          + " hasAuthority('FUNCTION_Security.UserAdministration')")
   public UserDirectoryType getUserDirectoryTypeForUserDirectory(
       @Parameter(
               name = "userDirectoryId",
@@ -2804,7 +2866,8 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.UserDirectoryAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.UserDirectoryAdministration')")
   public List<UserDirectoryType> getUserDirectoryTypes() throws ServiceUnavailableException {
     return securityService.getUserDirectoryTypes();
   }
@@ -2862,7 +2925,10 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.UserAdministration') or hasAuthority('FUNCTION_Security.ResetUserPassword')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.UserAdministration') or"
+          + " hasAuthority('FUNCTION_Security.ResetUserPassword')")
   public String getUserName(
       @Parameter(
               name = "userDirectoryId",
@@ -2892,6 +2958,10 @@ public class SecurityApi extends SecureApi {
    * @param sortDirection the optional sort direction to apply to the users
    * @param pageIndex the optional page index
    * @param pageSize the optional page size
+   * @param cursor the optional opaque cursor returned with the previous page, or an empty string to
+   *     retrieve the first page, which enables keyset pagination instead of offset pagination
+   * @param includeTotal should the total number of users be retrieved when using keyset pagination,
+   *     which requires an additional query
    * @return the users
    * @throws InvalidArgumentException if an argument is invalid
    * @throws UserDirectoryNotFoundException if the user directory could not be found
@@ -2937,7 +3007,10 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.OK)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.UserAdministration') or hasAuthority('FUNCTION_Security.ResetUserPassword')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.UserAdministration') or"
+          + " hasAuthority('FUNCTION_Security.ResetUserPassword')")
   public Users getUsers(
       @Parameter(
               name = "userDirectoryId",
@@ -2963,7 +3036,21 @@ public class SecurityApi extends SecureApi {
           Integer pageIndex,
       @Parameter(name = "pageSize", description = "The optional page size", example = "10")
           @RequestParam(value = "pageSize", required = false, defaultValue = "10")
-          Integer pageSize)
+          Integer pageSize,
+      @Parameter(
+              name = "cursor",
+              description =
+                  "The optional opaque cursor returned with the previous page, or an empty string"
+                      + " to retrieve the first page, which enables keyset pagination instead of"
+                      + " offset pagination")
+          @RequestParam(value = "cursor", required = false)
+          String cursor,
+      @Parameter(
+              name = "includeTotal",
+              description =
+                  "Should the total number of users be retrieved when using keyset pagination")
+          @RequestParam(value = "includeTotal", required = false, defaultValue = "false")
+          boolean includeTotal)
       throws InvalidArgumentException, UserDirectoryNotFoundException, ServiceUnavailableException {
     if (pageIndex == null) {
       pageIndex = 0;
@@ -2977,10 +3064,112 @@ public class SecurityApi extends SecureApi {
           "Access denied to the user directory (" + userDirectoryId + ")");
     }
 
+    if (cursor != null) {
+      return securityService.getUsers(
+          userDirectoryId, filter, sortBy, sortDirection, cursor, pageSize, includeTotal);
+    }
+
     return securityService.getUsers(
         userDirectoryId, filter, sortBy, sortDirection, pageIndex, pageSize);
   }
 
+  /**
+   * Import the users and their group memberships into the user directory.
+   *
+   * @param userDirectoryId the ID for the user directory
+   * @param contentType the content type for the user data, which must be <b>text/csv</b> or
+   *     <b>application/x-ndjson</b>
+   * @param expiredPassword create the users with their passwords expired
+   * @param userLocked create the users locked
+   * @param data the input stream for the UTF-8 encoded user data
+   * @return the results of the import
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws UserDirectoryNotFoundException if the user directory could not be found
+   * @throws ServiceUnavailableException if the users could not be imported
+   */
+  @Operation(
+      summary = "Import the users and their group memberships",
+      description =
+          "Import the users and their group memberships from CSV, with a header row, or NDJSON")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid argument",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Access denied",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "404",
+            description = "The user directory could not be found",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class))),
+        @ApiResponse(
+            responseCode = "500",
+            description =
+                "An error has occurred and the request could not be processed at this time",
+            content =
+                @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetails.class)))
+      })
+  @RequestMapping(
+      value = "/user-directories/{userDirectoryId}/users/import",
+      method = RequestMethod.POST,
+      consumes = {"text/csv", "application/x-ndjson"},
+      produces = "application/json")
+  @ResponseStatus(HttpStatus.OK)
+  @PreAuthorize(
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.UserAdministration')")
+  public UserImportResult importUsers(
+      @Parameter(
+              name = "userDirectoryId",
+              description = "The ID for the user directory",
+              required = true)
+          @PathVariable
+          UUID userDirectoryId,
+      @Parameter(hidden = true) @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+      @Parameter(
+              name = "expiredPassword",
+              description = "Create the users with their passwords expired")
+          @RequestParam(value = "expiredPassword", required = false)
+          Boolean expiredPassword,
+      @Parameter(name = "userLocked", description = "Create the users locked")
+          @RequestParam(value = "userLocked", required = false)
+          Boolean userLocked,
+      @Parameter(hidden = true) InputStream data)
+      throws InvalidArgumentException, UserDirectoryNotFoundException, ServiceUnavailableException {
+    if (!hasAccessToUserDirectory(userDirectoryId)) {
+      throw new AccessDeniedException(
+          "Access denied to the user directory (" + userDirectoryId + ")");
+    }
+
+    UserImportFormat format =
+        MediaType.parseMediaType(contentType).getSubtype().endsWith("ndjson")
+            ? UserImportFormat.NDJSON
+            : UserImportFormat.CSV;
+
+    return securityService.importUsers(
+        userDirectoryId,
+        format,
+        data,
+        (expiredPassword != null) && expiredPassword,
+        (userLocked != null) && userLocked);
+  }
+
   /**
    * Remove the group member from the group.
    *
@@ -3039,7 +3228,9 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.GroupAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.GroupAdministration')")
   public void removeMemberFromGroup(
       @Parameter(
               name = "userDirectoryId",
@@ -3122,7 +3313,9 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.GroupAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.GroupAdministration')")
   public void removeRoleFromGroup(
       @Parameter(
               name = "userDirectoryId",
@@ -3212,7 +3405,8 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration')")
   public void removeUserDirectoryFromTenant(
       @Parameter(name = "tenantId", description = "The ID for the tenant", required = true)
           @PathVariable
@@ -3345,7 +3539,9 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration') or hasAuthority('FUNCTION_Security.GroupAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration') or"
+          + " hasAuthority('FUNCTION_Security.GroupAdministration')")
   public void updateGroup(
       @Parameter(
               name = "userDirectoryId",
@@ -3432,7 +3628,8 @@ public class SecurityApi extends SecureApi {
       produces = "application/json")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize(
-      "isSecurityDisabled() or hasRole('Administrator') or hasAuthority('FUNCTION_Security.TenantAdministration')")
+      "isSecurityDisabled() or hasRole('Administrator') or"
+          + " hasAuthority('FUNCTION_Security.TenantAdministration')")
   public void updateTenant(
       @Parameter(name = "tenantId", description = "The ID for the tenant", required = true)
           @PathVariable
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.security;
+
+import digital.inception.core.service.Problem;
+import digital.inception.core.service.ServiceException;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.ws.WebFault;
+
+/**
+ * An <b>AuthenticationOverloadedException</b> is thrown to indicate that a user could not be
+ * authenticated because the maximum number of pending authentication requests has been reached.
+ *
+ * <p>This is a checked exception to prevent the automatic rollback of the current transaction.
+ *
+ * @author Marcus Portmann
+ */
+@Problem(
+    type = "http://inception.digital/problems/security/authentication-overloaded",
+    title = "Too many authentication requests are being processed, please try again later.",
+    status = 503)
+@WebFault(
+    name = "AuthenticationOverloadedException",
+    targetNamespace = "http://inception.digital/security",
+    faultBean = "digital.inception.core.service.ServiceError")
+@XmlAccessorType(XmlAccessType.PROPERTY)
+@SuppressWarnings({"unused", "WeakerAccess"})
+public class AuthenticationOverloadedException extends ServiceException {
+
+  private static final long serialVersionUID = 1000000;
+
+  /**
+   * Constructs a new <b>AuthenticationOverloadedException</b>.
+   *
+   * @param username the username for the user
+   */
+  public AuthenticationOverloadedException(String username) {
+    super(
+        "Failed to authenticate the user ("
+            + username
+            + ") because too many authentication requests are being processed");
+  }
+}
@@ -19,9 +19,11 @@ package digital.inception.security;
 import digital.inception.core.service.InvalidArgumentException;
 import digital.inception.core.service.ServiceUnavailableException;
 import digital.inception.core.sorting.SortDirection;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The <b>ISecurityService</b> interface defines the functionality provided by a Security Service
@@ -109,6 +111,13 @@ public interface ISecurityService {
       throws InvalidArgumentException, TenantNotFoundException, UserDirectoryNotFoundException,
           ServiceUnavailableException;
 
+  /**
+   * Add a listener that is notified when the effective authorization or details for a user change.
+   *
+   * @param listener the listener
+   */
+  void addUserAuthorizationChangeListener(UserAuthorizationChangeListener listener);
+
   /**
    * Add the user to the group.
    *
@@ -168,6 +177,27 @@ public interface ISecurityService {
       throws InvalidArgumentException, AuthenticationFailedException, UserLockedException,
           ExpiredPasswordException, UserNotFoundException, ServiceUnavailableException;
 
+  /**
+   * Authenticate the user asynchronously.
+   *
+   * <p>The user directory for the user is resolved, and a user in an external user directory, e.g.
+   * LDAP, is authenticated, on the calling thread. Only the CPU-intensive check of the password for
+   * a user in an internal user directory is performed using the dedicated, bounded password hashing
+   * executor.
+   *
+   * <p>The returned future completes exceptionally with the exceptions thrown by {@link
+   * #authenticate(String, String)}.
+   *
+   * @param username the username for the user
+   * @param password the password being used to authenticate
+   * @return the future for the ID for the user directory
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws AuthenticationOverloadedException if the authentication request was rejected because
+   *     the maximum number of pending authentication requests has been reached
+   */
+  CompletableFuture<UUID> authenticateAsync(String username, String password)
+      throws InvalidArgumentException, AuthenticationOverloadedException;
+
   /**
    * Change the password for the user.
    *
@@ -320,12 +350,14 @@ public interface ISecurityService {
    * @throws InvalidArgumentException if an argument is invalid
    * @throws UserDirectoryNotFoundException if the user directory could not be found
    * @throws InvalidAttributeException if an attribute is invalid
+   * @throws TooManyMatchingUsersException if more users match the user attribute criteria than the
+   *     maximum number of filtered users for the user directory
    * @throws ServiceUnavailableException if the users matching the user attribute criteria could not
    *     be found
    */
   List<User> findUsers(UUID userDirectoryId, List<UserAttribute> userAttributes)
       throws InvalidArgumentException, UserDirectoryNotFoundException, InvalidAttributeException,
-          ServiceUnavailableException;
+          TooManyMatchingUsersException, ServiceUnavailableException;
 
   /**
    * Retrieve the function.
@@ -638,6 +670,23 @@ public interface ISecurityService {
       throws InvalidArgumentException, UserDirectoryNotFoundException, UserNotFoundException,
           ServiceUnavailableException;
 
+  /**
+   * Retrieve the effective authorization for the user, i.e. the user directory the user is
+   * associated with and the roles, functions and tenants the user has access to.
+   *
+   * <p>The effective authorization is cached and invalidated when the groups, roles, functions,
+   * group memberships or tenant associations change.
+   *
+   * @param username the username for the user
+   * @return the effective authorization for the user
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws UserNotFoundException if the user could not be found
+   * @throws ServiceUnavailableException if the effective authorization could not be retrieved for
+   *     the user
+   */
+  UserAuthorization getUserAuthorization(String username)
+      throws InvalidArgumentException, UserNotFoundException, ServiceUnavailableException;
+
   /**
    * Retrieve the user directories.
    *
@@ -854,6 +903,59 @@ public interface ISecurityService {
       Integer pageSize)
       throws InvalidArgumentException, UserDirectoryNotFoundException, ServiceUnavailableException;
 
+  /**
+   * Retrieve the users using keyset pagination.
+   *
+   * @param userDirectoryId the ID for the user directory
+   * @param filter the optional filter to apply to the users
+   * @param sortBy the optional method used to sort the users e.g. by name
+   * @param sortDirection the optional sort direction to apply to the users
+   * @param cursor the optional opaque cursor returned with the previous page or <b>null</b> or an
+   *     empty string to retrieve the first page
+   * @param pageSize the optional page size
+   * @param includeTotal should the total number of users be retrieved, which requires an additional
+   *     query
+   * @return the users
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws UserDirectoryNotFoundException if the user directory could not be found
+   * @throws ServiceUnavailableException if the users could not be retrieved
+   */
+  Users getUsers(
+      UUID userDirectoryId,
+      String filter,
+      UserSortBy sortBy,
+      SortDirection sortDirection,
+      String cursor,
+      Integer pageSize,
+      boolean includeTotal)
+      throws InvalidArgumentException, UserDirectoryNotFoundException, ServiceUnavailableException;
+
+  /**
+   * Import the users and their group memberships into the user directory.
+   *
+   * <p>Rows that cannot be imported, e.g. because they are invalid, appear more than once in the
+   * data or reference a group that does not exist, are reported in the results and do not prevent
+   * the remaining rows from being imported. Users that already exist in the user directory are not
+   * modified but are added to the groups specified for them.
+   *
+   * @param userDirectoryId the ID for the user directory
+   * @param format the format for the user data
+   * @param data the input stream for the UTF-8 encoded user data
+   * @param expiredPassword create the users with their passwords expired
+   * @param userLocked create the users locked
+   * @return the results of the import
+   * @throws InvalidArgumentException if an argument is invalid
+   * @throws UserDirectoryNotFoundException if the user directory could not be found
+   * @throws ServiceUnavailableException if the users could not be imported
+   */
+  UserImportResult importUsers(
+      UUID userDirectoryId,
+      UserImportFormat format,
+      InputStream data,
+      boolean expiredPassword,
+      boolean userLocked)
+      throws InvalidArgumentException, UserDirectoryNotFoundException, ServiceUnavailableException;
+
   /**
    * Initiate the password reset process for the user.
    *
@@ -16,6 +16,7 @@
 
 package digital.inception.security;
 
+import digital.inception.core.service.InvalidArgumentException;
 import digital.inception.core.service.ServiceUnavailableException;
 import digital.inception.core.sorting.SortDirection;
 import java.util.List;
@@ -163,11 +164,13 @@ interface IUserDirectory {
    * @param userAttributes the user attribute criteria used to select the users
    * @return the users whose attributes match the user attribute criteria
    * @throws InvalidAttributeException if an attribute is invalid
+   * @throws TooManyMatchingUsersException if more users match the user attribute criteria than the
+   *     maximum number of filtered users for the user directory
    * @throws ServiceUnavailableException if the users matching the user attribute criteria could not
    *     be found
    */
   List<User> findUsers(List<UserAttribute> userAttributes)
-      throws InvalidAttributeException, ServiceUnavailableException;
+      throws InvalidAttributeException, TooManyMatchingUsersException, ServiceUnavailableException;
 
   /**
    * Retrieve the capabilities the user directory supports.
@@ -365,6 +368,31 @@ interface IUserDirectory {
       Integer pageSize)
       throws ServiceUnavailableException;
 
+  /**
+   * Retrieve the users using keyset pagination.
+   *
+   * @param filter the optional filter to apply to the users
+   * @param sortBy the method used to sort the users e.g. by name
+   * @param sortDirection the sort direction to apply to the users
+   * @param cursor the optional opaque cursor returned with the previous page or <b>null</b> or an
+   *     empty string to retrieve the first page
+   * @param pageSize the optional page size
+   * @param includeTotal should the total number of users be retrieved, which requires an additional
+   *     query
+   * @return the users
+   * @throws InvalidArgumentException if the cursor is invalid or the user directory does not
+   *     support keyset pagination
+   * @throws ServiceUnavailableException if the users could not be retrieved
+   */
+  Users getUsers(
+      String filter,
+      UserSortBy sortBy,
+      SortDirection sortDirection,
+      String cursor,
+      Integer pageSize,
+      boolean includeTotal)
+      throws InvalidArgumentException, ServiceUnavailableException;
+
   /**
    * Does the user with the specified username exist?
    *
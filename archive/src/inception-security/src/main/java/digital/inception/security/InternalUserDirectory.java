@@ -17,17 +17,24 @@
 package digital.inception.security;
 
 import com.github.f4b6a3.uuid.UuidCreator;
+import digital.inception.core.service.InvalidArgumentException;
 import digital.inception.core.service.ServiceUnavailableException;
 import digital.inception.core.sorting.SortDirection;
 import digital.inception.core.util.PasswordUtil;
+import digital.inception.jpa.KeysetPage;
+import digital.inception.jpa.KeysetQuery;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.Page;
@@ -87,6 +94,10 @@ public class InternalUserDirectory extends UserDirectoryBase {
   /** The password history period in months. */
   private final int passwordHistoryMonths;
 
+  /* Entity Manager */
+  @PersistenceContext(unitName = "security")
+  private EntityManager entityManager;
+
   /**
    * Constructs a new <b>InternalUserDirectory</b>.
    *
@@ -305,48 +316,9 @@ public class InternalUserDirectory extends UserDirectoryBase {
   public void authenticate(String username, String password)
       throws AuthenticationFailedException, UserLockedException, ExpiredPasswordException,
           UserNotFoundException, ServiceUnavailableException {
-    try {
-      Optional<User> userOptional =
-          getUserRepository()
-              .findByUserDirectoryIdAndUsernameIgnoreCase(getUserDirectoryId(), username);
-
-      if (userOptional.isEmpty()) {
-        throw new UserNotFoundException(username);
-      }
-
-      User user = userOptional.get();
+    User user = getUserForAuthentication(username);
 
-      if ((user.getPasswordAttempts() != null)
-          && (user.getPasswordAttempts() >= maxPasswordAttempts)) {
-        throw new UserLockedException(username);
-      }
-
-      if (!passwordEncoder.matches(password, user.getPassword())) {
-        if ((user.getPasswordAttempts() != null) && (user.getPasswordAttempts() != -1)) {
-          getUserRepository().incrementPasswordAttempts(user.getId());
-        }
-
-        throw new AuthenticationFailedException(
-            "Authentication failed for the user (" + username + ")");
-      }
-
-      if (user.hasPasswordExpired()) {
-        throw new ExpiredPasswordException(username);
-      }
-    } catch (AuthenticationFailedException
-        | UserNotFoundException
-        | UserLockedException
-        | ExpiredPasswordException e) {
-      throw e;
-    } catch (Throwable e) {
-      throw new ServiceUnavailableException(
-          "Failed to authenticate the user ("
-              + username
-              + ") for the user directory ("
-              + getUserDirectoryId()
-              + ")",
-          e);
-    }
+    completeAuthentication(user, isPasswordValid(user, password));
   }
 
   @Override
@@ -540,13 +512,17 @@ public class InternalUserDirectory extends UserDirectoryBase {
 
   @Override
   public List<User> findUsers(List<UserAttribute> userAttributes)
-      throws InvalidAttributeException, ServiceUnavailableException {
+      throws InvalidAttributeException, TooManyMatchingUsersException, ServiceUnavailableException {
     try {
       User userCriteria = new User();
 
       userCriteria.setUserDirectoryId(getUserDirectoryId());
 
+      boolean hasTextAttributes = false;
+
       for (UserAttribute userAttribute : userAttributes) {
+        hasTextAttributes |= !userAttribute.getName().equalsIgnoreCase("status");
+
         if (userAttribute.getName().equalsIgnoreCase("status")) {
           userCriteria.setStatus(UserStatus.fromCode(userAttribute.getValue()));
         } else if (userAttribute.getName().equalsIgnoreCase("email")) {
@@ -566,14 +542,47 @@ public class InternalUserDirectory extends UserDirectoryBase {
         }
       }
 
-      ExampleMatcher matcher =
-          ExampleMatcher.matching()
-              .withIgnoreNullValues()
-              .withIgnoreCase()
-              .withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING);
+      /*
+       * Prefix matches are retrieved first, since they can use the indexes on the users table,
+       * followed by the remaining matches. One more user than the maximum number of filtered users
+       * is retrieved so that criteria that match too many users can be rejected rather than
+       * silently truncated.
+       */
+      PageRequest pageRequest = PageRequest.of(0, maxFilteredUsers + 1, Sort.by("username"));
+
+      List<User> users =
+          new ArrayList<>(
+              getUserRepository()
+                  .findAll(
+                      Example.of(userCriteria, userMatcher(ExampleMatcher.StringMatcher.STARTING)),
+                      pageRequest)
+                  .getContent());
+
+      if (hasTextAttributes && (users.size() <= maxFilteredUsers)) {
+        Set<UUID> userIds = new HashSet<>();
+
+        for (User user : users) {
+          userIds.add(user.getId());
+        }
+
+        for (User user :
+            getUserRepository()
+                .findAll(
+                    Example.of(userCriteria, userMatcher(ExampleMatcher.StringMatcher.CONTAINING)),
+                    pageRequest)
+                .getContent()) {
+          if (userIds.add(user.getId())) {
+            users.add(user);
+          }
+        }
+      }
+
+      if (users.size() > maxFilteredUsers) {
+        throw new TooManyMatchingUsersException(maxFilteredUsers);
+      }
 
-      return getUserRepository().findAll(Example.of(userCriteria, matcher));
-    } catch (InvalidAttributeException e) {
+      return users;
+    } catch (InvalidAttributeException | TooManyMatchingUsersException e) {
       throw e;
     } catch (Throwable e) {
       throw new ServiceUnavailableException(
@@ -1052,7 +1061,8 @@ public class InternalUserDirectory extends UserDirectoryBase {
                 (sortDirection == SortDirection.ASCENDING)
                     ? Sort.Direction.ASC
                     : Sort.Direction.DESC,
-                "name");
+                "name",
+                "id");
       } else if (sortBy == UserSortBy.PREFERRED_NAME) {
         pageRequest =
             PageRequest.of(
@@ -1061,13 +1071,16 @@ public class InternalUserDirectory extends UserDirectoryBase {
                 (sortDirection == SortDirection.ASCENDING)
                     ? Sort.Direction.ASC
                     : Sort.Direction.DESC,
-                "preferredName");
+                "preferredName",
+                "id");
       }
 
       Page<User> userPage;
       if (StringUtils.hasText(filter)) {
         userPage =
-            getUserRepository().findFiltered(getUserDirectoryId(), "%" + filter + "%", pageRequest);
+            getUserRepository()
+                .findFiltered(
+                    getUserDirectoryId(), "%" + escapeLikePattern(filter) + "%", pageRequest);
       } else {
         userPage = getUserRepository().findByUserDirectoryId(getUserDirectoryId(), pageRequest);
       }
@@ -1090,6 +1103,71 @@ public class InternalUserDirectory extends UserDirectoryBase {
     }
   }
 
+  @Override
+  public Users getUsers(
+      String filter,
+      UserSortBy sortBy,
+      SortDirection sortDirection,
+      String cursor,
+      Integer pageSize,
+      boolean includeTotal)
+      throws InvalidArgumentException, ServiceUnavailableException {
+    try {
+      if (pageSize == null) {
+        pageSize = maxFilteredUsers;
+      }
+
+      KeysetQuery<User> query;
+
+      if (StringUtils.hasText(filter)) {
+        query =
+            new KeysetQuery<>(
+                    entityManager,
+                    User.class,
+                    "(e.userDirectoryId = :userDirectoryId) and ((lower(e.username) like"
+                        + " lower(:filter) escape '!') or (lower(e.name) like lower(:filter)"
+                        + " escape '!'))")
+                .setParameter("userDirectoryId", getUserDirectoryId())
+                .setParameter("filter", "%" + escapeLikePattern(filter) + "%");
+      } else {
+        query =
+            new KeysetQuery<>(entityManager, User.class, "e.userDirectoryId = :userDirectoryId")
+                .setParameter("userDirectoryId", getUserDirectoryId());
+      }
+
+      String sortAttribute;
+
+      if (sortBy == UserSortBy.USERNAME) {
+        sortAttribute = "username";
+      } else if (sortBy == UserSortBy.PREFERRED_NAME) {
+        sortAttribute = "preferredName";
+      } else {
+        sortAttribute = "name";
+      }
+
+      KeysetPage<User> page =
+          query.getPage(sortAttribute, sortDirection, cursor, Math.min(pageSize, maxFilteredUsers));
+
+      return new Users(
+          getUserDirectoryId(),
+          page.getEntities(),
+          includeTotal ? query.count() : -1,
+          filter,
+          sortBy,
+          sortDirection,
+          pageSize,
+          page.getNextCursor());
+    } catch (InvalidArgumentException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to retrieve the filtered users for the user directory ("
+              + getUserDirectoryId()
+              + ")",
+          e);
+    }
+  }
+
   @Override
   public boolean isExistingUser(String username) throws ServiceUnavailableException {
     try {
@@ -1362,6 +1440,125 @@ public class InternalUserDirectory extends UserDirectoryBase {
     }
   }
 
+  /**
+   * Complete the authentication of the user once their password has been checked, recording a
+   * failed password attempt if the password was not valid.
+   *
+   * @param user the user retrieved using {@link #getUserForAuthentication(String)}
+   * @param passwordValid was the password being used to authenticate valid
+   * @throws AuthenticationFailedException if the authentication failed
+   * @throws ExpiredPasswordException if the password for the user has expired
+   * @throws ServiceUnavailableException if the authentication could not be completed
+   */
+  void completeAuthentication(User user, boolean passwordValid)
+      throws AuthenticationFailedException, ExpiredPasswordException, ServiceUnavailableException {
+    try {
+      if (!passwordValid) {
+        if ((user.getPasswordAttempts() != null) && (user.getPasswordAttempts() != -1)) {
+          getUserRepository().incrementPasswordAttempts(user.getId());
+        }
+
+        throw new AuthenticationFailedException(
+            "Authentication failed for the user (" + user.getUsername() + ")");
+      }
+
+      if (user.hasPasswordExpired()) {
+        throw new ExpiredPasswordException(user.getUsername());
+      }
+    } catch (AuthenticationFailedException | ExpiredPasswordException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to authenticate the user ("
+              + user.getUsername()
+              + ") for the user directory ("
+              + getUserDirectoryId()
+              + ")",
+          e);
+    }
+  }
+
+  /**
+   * Encode the password using the password encoder for the user directory.
+   *
+   * @param password the password
+   * @return the encoded password
+   */
+  String encodePassword(String password) {
+    return passwordEncoder.encode(password);
+  }
+
+  /**
+   * Returns the maximum number of failed password attempts before a user is locked.
+   *
+   * @return the maximum number of failed password attempts before a user is locked
+   */
+  int getMaxPasswordAttempts() {
+    return maxPasswordAttempts;
+  }
+
+  /**
+   * Retrieve the user being authenticated, checking that the user is not locked.
+   *
+   * @param username the username for the user
+   * @return the user being authenticated
+   * @throws UserNotFoundException if the user could not be found
+   * @throws UserLockedException if the user is locked
+   * @throws ServiceUnavailableException if the user could not be retrieved
+   */
+  User getUserForAuthentication(String username)
+      throws UserNotFoundException, UserLockedException, ServiceUnavailableException {
+    try {
+      Optional<User> userOptional =
+          getUserRepository()
+              .findByUserDirectoryIdAndUsernameIgnoreCase(getUserDirectoryId(), username);
+
+      if (userOptional.isEmpty()) {
+        throw new UserNotFoundException(username);
+      }
+
+      User user = userOptional.get();
+
+      if ((user.getPasswordAttempts() != null)
+          && (user.getPasswordAttempts() >= maxPasswordAttempts)) {
+        throw new UserLockedException(username);
+      }
+
+      return user;
+    } catch (UserNotFoundException | UserLockedException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to authenticate the user ("
+              + username
+              + ") for the user directory ("
+              + getUserDirectoryId()
+              + ")",
+          e);
+    }
+  }
+
+  /**
+   * Check whether the password being used to authenticate the user is valid, which is a
+   * CPU-intensive operation that does not access the database.
+   *
+   * @param user the user retrieved using {@link #getUserForAuthentication(String)}
+   * @param password the password being used to authenticate
+   * @return <b>true</b> if the password is valid or <b>false</b> otherwise
+   */
+  boolean isPasswordValid(User user, String password) {
+    return passwordEncoder.matches(password, user.getPassword());
+  }
+
+  /**
+   * Returns the number of months after which the password for a user expires.
+   *
+   * @return the number of months after which the password for a user expires
+   */
+  int getPasswordExpiryMonths() {
+    return passwordExpiryMonths;
+  }
+
   /**
    * Is the password a historical password that cannot be reused for a period of time i.e. was the
    * password used previously in the last X months.
@@ -1383,4 +1580,27 @@ public class InternalUserDirectory extends UserDirectoryBase {
 
     return false;
   }
+
+  /**
+   * Escape the LIKE wildcards in the specified value using '!' as the escape character.
+   *
+   * @param value the value
+   * @return the value with the LIKE wildcards escaped
+   */
+  private static String escapeLikePattern(String value) {
+    return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+  }
+
+  /**
+   * Returns the case-insensitive example matcher used to find users.
+   *
+   * @param stringMatcher the string matcher
+   * @return the case-insensitive example matcher used to find users
+   */
+  private static ExampleMatcher userMatcher(ExampleMatcher.StringMatcher stringMatcher) {
+    return ExampleMatcher.matching()
+        .withIgnoreNullValues()
+        .withIgnoreCase()
+        .withStringMatcher(stringMatcher);
+  }
 }
@@ -0,0 +1,517 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.security;
+
+import digital.inception.core.service.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.io.Closeable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Deque;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+import javax.naming.CommunicationException;
+import javax.naming.Context;
+import javax.naming.NamingException;
+import javax.naming.ldap.InitialLdapContext;
+import javax.naming.ldap.LdapContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The <b>LDAPConnectionPool</b> class implements a bounded, health-checked pool of LDAP directory
+ * contexts that are bound using the same credentials.
+ *
+ * <p>The directory contexts returned by the pool are proxies. Closing a proxy returns the
+ * underlying directory context to the pool instead of closing the LDAP connection, so existing code
+ * that closes directory contexts using <b>JNDIUtil.close()</b> works unchanged. A directory context
+ * that fails with a communication error is discarded when it is returned to the pool.
+ *
+ * @author Marcus Portmann
+ */
+@SuppressWarnings("unused")
+public class LDAPConnectionPool implements Closeable {
+
+  /** The attributes retrieved from the root DSE when validating a connection. */
+  private static final String[] VALIDATION_ATTRIBUTES = new String[] {"objectClass"};
+
+  /* Logger */
+  private static final Logger logger = LoggerFactory.getLogger(LDAPConnectionPool.class);
+
+  /** The current pools for the user directories, used to report the pool gauges. */
+  private static final Map<UUID, LDAPConnectionPool> pools = new ConcurrentHashMap<>();
+
+  /** The number of connections currently borrowed from the pool. */
+  private final AtomicInteger activeConnections = new AtomicInteger();
+
+  /**
+   * The maximum number of milliseconds to wait for a connection to become available before
+   * failing.
+   */
+  private final long borrowTimeout;
+
+  /** Is the pool closed? */
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  /** The counter for the connections created by the pool. */
+  private final Counter createdConnectionsCounter;
+
+  /** The counter for the connections destroyed by the pool. */
+  private final Counter destroyedConnectionsCounter;
+
+  /** The environment used to create new connections. */
+  private final Hashtable<String, String> environment;
+
+  /** The idle connections, with the most recently used connection first. */
+  private final Deque<PooledConnection> idleConnections = new ConcurrentLinkedDeque<>();
+
+  /**
+   * The maximum number of milliseconds a connection may remain idle in the pool before it is
+   * closed.
+   */
+  private final long maxIdleTime;
+
+  /** The maximum number of connections managed by the pool. */
+  private final int maxSize;
+
+  /** The permits limiting the number of connections that can be borrowed concurrently. */
+  private final Semaphore permits;
+
+  /** The timer recording how long callers wait to borrow a connection. */
+  private final Timer borrowTimer;
+
+  /** The ID for the user directory the pool is associated with. */
+  private final UUID userDirectoryId;
+
+  /**
+   * The number of milliseconds after which an idle connection is validated before it is reused.
+   */
+  private final long validationInterval;
+
+  /** The counter for the connections that failed validation. */
+  private final Counter validationFailuresCounter;
+
+  /**
+   * Constructs a new <b>LDAPConnectionPool</b>.
+   *
+   * @param userDirectoryId the ID for the user directory the pool is associated with
+   * @param environment the environment used to create new connections
+   * @param maxSize the maximum number of connections managed by the pool
+   * @param maxIdleTime the maximum number of milliseconds a connection may remain idle in the pool
+   *     before it is closed
+   * @param validationInterval the number of milliseconds after which an idle connection is
+   *     validated before it is reused
+   * @param borrowTimeout the maximum number of milliseconds to wait for a connection to become
+   *     available before failing
+   */
+  public LDAPConnectionPool(
+      UUID userDirectoryId,
+      Hashtable<String, String> environment,
+      int maxSize,
+      long maxIdleTime,
+      long validationInterval,
+      long borrowTimeout) {
+    this.userDirectoryId = userDirectoryId;
+    this.environment = environment;
+    this.maxSize = maxSize;
+    this.maxIdleTime = maxIdleTime;
+    this.validationInterval = validationInterval;
+    this.borrowTimeout = borrowTimeout;
+    this.permits = new Semaphore(maxSize, true);
+
+    MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+    String userDirectoryTag = userDirectoryId.toString();
+
+    /*
+     * The gauges look up the current pool for the user directory so that they keep reporting
+     * correctly when the user directory is reloaded and a new pool replaces this one.
+     */
+    pools.put(userDirectoryId, this);
+
+    Gauge.builder(
+            "security.ldap.pool.active",
+            userDirectoryId,
+            id -> gaugeValue(id, pool -> pool.activeConnections.get()))
+        .description("The number of LDAP connections borrowed from the pool")
+        .tag("userDirectory", userDirectoryTag)
+        .strongReference(true)
+        .register(meterRegistry);
+    Gauge.builder(
+            "security.ldap.pool.idle",
+            userDirectoryId,
+            id -> gaugeValue(id, pool -> pool.idleConnections.size()))
+        .description("The number of idle LDAP connections in the pool")
+        .tag("userDirectory", userDirectoryTag)
+        .strongReference(true)
+        .register(meterRegistry);
+    Gauge.builder(
+            "security.ldap.pool.max", userDirectoryId, id -> gaugeValue(id, pool -> pool.maxSize))
+        .description("The maximum number of LDAP connections in the pool")
+        .tag("userDirectory", userDirectoryTag)
+        .strongReference(true)
+        .register(meterRegistry);
+
+    createdConnectionsCounter =
+        Counter.builder("security.ldap.pool.created")
+            .description("The number of LDAP connections created by the pool")
+            .tag("userDirectory", userDirectoryTag)
+            .register(meterRegistry);
+
+    destroyedConnectionsCounter =
+        Counter.builder("security.ldap.pool.destroyed")
+            .description("The number of LDAP connections destroyed by the pool")
+            .tag("userDirectory", userDirectoryTag)
+            .register(meterRegistry);
+
+    validationFailuresCounter =
+        Counter.builder("security.ldap.pool.validation.failures")
+            .description("The number of pooled LDAP connections that failed validation")
+            .tag("userDirectory", userDirectoryTag)
+            .register(meterRegistry);
+
+    borrowTimer =
+        Timer.builder("security.ldap.pool.borrow")
+            .description("The time spent waiting to borrow an LDAP connection from the pool")
+            .tag("userDirectory", userDirectoryTag)
+            .register(meterRegistry);
+  }
+
+  /**
+   * Close the pool immediately.
+   *
+   * <p>All idle connections are closed immediately. Connections that are currently borrowed are
+   * closed when they are returned to the pool.
+   */
+  @Override
+  public void close() {
+    close(0);
+  }
+
+  /**
+   * Close the pool once the connections that are currently borrowed have been returned.
+   *
+   * <p>No new connections can be borrowed once this method has been called. The method waits up to
+   * the drain timeout for the borrowed connections to be returned, which allows operations that are
+   * in progress to complete, before closing the idle connections. Connections that are returned
+   * after the drain timeout has elapsed are closed when they are returned.
+   *
+   * @param drainTimeout the maximum number of milliseconds to wait for the borrowed connections to
+   *     be returned
+   */
+  public void close(long drainTimeout) {
+    if (closed.compareAndSet(false, true)) {
+      boolean drained = false;
+
+      try {
+        drained = permits.tryAcquire(maxSize, Math.max(drainTimeout, 0), TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      try {
+        if ((!drained) && (activeConnections.get() > 0)) {
+          logger.warn(
+              "Closing the connection pool for the user directory ("
+                  + userDirectoryId
+                  + ") with "
+                  + activeConnections.get()
+                  + " connection(s) still in use, which will be closed when they are released");
+        }
+
+        PooledConnection pooledConnection;
+
+        while ((pooledConnection = idleConnections.pollFirst()) != null) {
+          destroy(pooledConnection);
+        }
+
+        pools.remove(userDirectoryId, this);
+      } finally {
+        if (drained) {
+          permits.release(maxSize);
+        }
+      }
+    }
+  }
+
+  /**
+   * Borrow a connection from the pool.
+   *
+   * <p>The connection must be closed to return it to the pool. Any request controls set on the
+   * connection are removed when it is returned to the pool.
+   *
+   * @return the connection
+   * @throws ServiceUnavailableException if a connection could not be borrowed from the pool
+   */
+  public LdapContext getConnection() throws ServiceUnavailableException {
+    if (closed.get()) {
+      throw new ServiceUnavailableException(
+          "Failed to retrieve a connection for the user directory ("
+              + userDirectoryId
+              + "): The connection pool has been closed");
+    }
+
+    long waitStarted = System.nanoTime();
+
+    try {
+      if (!permits.tryAcquire(borrowTimeout, TimeUnit.MILLISECONDS)) {
+        throw new ServiceUnavailableException(
+            "Failed to retrieve a connection for the user directory ("
+                + userDirectoryId
+                + "): Timed out waiting "
+                + borrowTimeout
+                + " ms for one of the "
+                + maxSize
+                + " pooled connections to become available");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+
+      throw new ServiceUnavailableException(
+          "Interrupted while waiting for a connection for the user directory ("
+              + userDirectoryId
+              + ")",
+          e);
+    } finally {
+      borrowTimer.record(System.nanoTime() - waitStarted, TimeUnit.NANOSECONDS);
+    }
+
+    // The pool may have been closed while waiting for a connection to become available
+    if (closed.get()) {
+      permits.release();
+
+      throw new ServiceUnavailableException(
+          "Failed to retrieve a connection for the user directory ("
+              + userDirectoryId
+              + "): The connection pool has been closed");
+    }
+
+    try {
+      PooledConnection pooledConnection = takeIdleConnection();
+
+      if (pooledConnection == null) {
+        pooledConnection = new PooledConnection(new InitialLdapContext(environment, null));
+
+        createdConnectionsCounter.increment();
+      }
+
+      activeConnections.incrementAndGet();
+
+      return pooledConnection.borrow();
+    } catch (Throwable e) {
+      permits.release();
+
+      throw new ServiceUnavailableException(
+          String.format(
+              "Failed to retrieve the JNDI directory context for the user directory (%s)",
+              userDirectoryId),
+          e);
+    }
+  }
+
+  private static double gaugeValue(
+      UUID userDirectoryId, ToDoubleFunction<LDAPConnectionPool> function) {
+    LDAPConnectionPool pool = pools.get(userDirectoryId);
+
+    return (pool != null) ? function.applyAsDouble(pool) : 0;
+  }
+
+  private void destroy(PooledConnection pooledConnection) {
+    try {
+      pooledConnection.dirContext.close();
+    } catch (Throwable ignored) {
+    }
+
+    destroyedConnectionsCounter.increment();
+  }
+
+  private void release(PooledConnection pooledConnection) {
+    activeConnections.decrementAndGet();
+
+    try {
+      if (closed.get() || pooledConnection.broken) {
+        destroy(pooledConnection);
+      } else {
+        // Remove any request controls, e.g. paged results, set by the previous borrower
+        try {
+          pooledConnection.dirContext.setRequestControls(null);
+        } catch (Throwable e) {
+          destroy(pooledConnection);
+
+          return;
+        }
+
+        pooledConnection.lastUsed = System.currentTimeMillis();
+
+        idleConnections.offerFirst(pooledConnection);
+      }
+    } finally {
+      permits.release();
+    }
+  }
+
+  private PooledConnection takeIdleConnection() {
+    PooledConnection pooledConnection;
+
+    while ((pooledConnection = idleConnections.pollFirst()) != null) {
+      long now = System.currentTimeMillis();
+
+      if ((now - pooledConnection.lastUsed) > maxIdleTime) {
+        destroy(pooledConnection);
+
+        continue;
+      }
+
+      if ((now - pooledConnection.lastValidated) > validationInterval) {
+        try {
+          pooledConnection.dirContext.getAttributes("", VALIDATION_ATTRIBUTES);
+
+          pooledConnection.lastValidated = now;
+        } catch (Throwable e) {
+          if (logger.isDebugEnabled()) {
+            logger.debug(
+                "The pooled connection for the user directory ("
+                    + userDirectoryId
+                    + ") failed validation and will be discarded",
+                e);
+          }
+
+          validationFailuresCounter.increment();
+
+          destroy(pooledConnection);
+
+          continue;
+        }
+      }
+
+      return pooledConnection;
+    }
+
+    return null;
+  }
+
+  /**
+   * The <b>PooledConnection</b> class holds a directory context managed by the pool and creates
+   * the proxies handed out to callers.
+   */
+  private class PooledConnection {
+
+    /** The LDAP context. */
+    private final LdapContext dirContext;
+
+    /** Has the connection failed with a communication error? */
+    private volatile boolean broken;
+
+    /** The time the connection was last returned to the pool. */
+    private volatile long lastUsed;
+
+    /** The time the connection was last validated. */
+    private volatile long lastValidated;
+
+    PooledConnection(LdapContext dirContext) {
+      this.dirContext = dirContext;
+      this.lastUsed = System.currentTimeMillis();
+      this.lastValidated = this.lastUsed;
+    }
+
+    LdapContext borrow() {
+      AtomicBoolean released = new AtomicBoolean();
+
+      InvocationHandler invocationHandler =
+          (Object proxy, Method method, Object[] args) -> {
+            if (method.getName().equals("close") && (method.getParameterCount() == 0)) {
+              if (released.compareAndSet(false, true)) {
+                release(this);
+              }
+
+              return null;
+            }
+
+            if (released.get()) {
+              throw new NamingException(
+                  "The connection for the user directory ("
+                      + userDirectoryId
+                      + ") has already been returned to the pool");
+            }
+
+            try {
+              return method.invoke(dirContext, args);
+            } catch (InvocationTargetException e) {
+              Throwable cause = e.getCause();
+
+              if ((cause instanceof CommunicationException)
+                  || (cause instanceof javax.naming.ServiceUnavailableException)) {
+                broken = true;
+              }
+
+              throw cause;
+            }
+          };
+
+      return (LdapContext)
+          Proxy.newProxyInstance(
+              LdapContext.class.getClassLoader(),
+              new Class<?>[] {LdapContext.class},
+              invocationHandler);
+    }
+  }
+
+  /**
+   * Returns the environment used to create new connections for the specified credentials.
+   *
+   * @param url the URL for the LDAP server
+   * @param userDN the distinguished name used to bind
+   * @param password the password used to bind
+   * @param connectTimeout the connect timeout in milliseconds or 0 to use the default
+   * @param readTimeout the read timeout in milliseconds or 0 to use the default
+   * @return the environment used to create new connections
+   */
+  static Hashtable<String, String> environment(
+      String url, String userDN, String password, int connectTimeout, int readTimeout) {
+    Hashtable<String, String> environment = new Hashtable<>();
+
+    environment.put(Context.INITIAL_CONTEXT_FACTORY, "com.sun.jndi.ldap.LdapCtxFactory");
+    environment.put(Context.PROVIDER_URL, url);
+    environment.put(Context.SECURITY_AUTHENTICATION, "simple");
+    environment.put(Context.SECURITY_PRINCIPAL, userDN);
+    environment.put(Context.SECURITY_CREDENTIALS, password);
+
+    if (connectTimeout > 0) {
+      environment.put("com.sun.jndi.ldap.connect.timeout", Integer.toString(connectTimeout));
+    }
+
+    if (readTimeout > 0) {
+      environment.put("com.sun.jndi.ldap.read.timeout", Integer.toString(readTimeout));
+    }
+
+    return environment;
+  }
+}
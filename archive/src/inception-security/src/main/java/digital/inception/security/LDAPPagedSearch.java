@@ -0,0 +1,298 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.security;
+
+import digital.inception.core.util.JNDIUtil;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import javax.naming.Name;
+import javax.naming.NamingEnumeration;
+import javax.naming.directory.SearchControls;
+import javax.naming.directory.SearchResult;
+import javax.naming.ldap.Control;
+import javax.naming.ldap.LdapContext;
+import javax.naming.ldap.PagedResultsControl;
+import javax.naming.ldap.PagedResultsResponseControl;
+import javax.naming.ldap.SortControl;
+import javax.naming.ldap.SortKey;
+import javax.naming.ldap.SortResponseControl;
+
+/**
+ * The <b>LDAPPagedSearch</b> class performs LDAP searches using the RFC 2696 simple paged results
+ * control and, optionally, the RFC 2891 server-side sort control.
+ *
+ * <p>The search results are streamed one LDAP page at a time and only the entries that fall within
+ * the requested page are mapped and retained, so that large directories can be searched without
+ * hitting server size limits or holding every entry in memory.
+ *
+ * @author Marcus Portmann
+ */
+final class LDAPPagedSearch {
+
+  /** The OID for the RFC 2696 simple paged results control. */
+  static final String PAGED_RESULTS_CONTROL_OID = PagedResultsControl.OID;
+
+  /** The OID for the RFC 2891 server-side sort control. */
+  static final String SORT_CONTROL_OID = SortControl.OID;
+
+  private LDAPPagedSearch() {}
+
+  /**
+   * Perform a paged search.
+   *
+   * @param ldapContext the LDAP context to search
+   * @param baseDN the DN for the base of the search
+   * @param searchFilter the search filter
+   * @param searchControls the search controls, which should not specify a count limit
+   * @param ldapPageSize the number of entries the LDAP server should return per page
+   * @param sortKey the key to sort the entries on using the server-side sort control or
+   *     <b>null</b> if the entries should not be sorted by the LDAP server
+   * @param collector the page collector used to map and retain the entries for the requested page
+   * @param <T> the type the search results are mapped to
+   * @return the page collector
+   * @throws Exception if the search failed or the LDAP server failed to sort the entries
+   */
+  static <T> PageCollector<T> search(
+      LdapContext ldapContext,
+      Name baseDN,
+      String searchFilter,
+      SearchControls searchControls,
+      int ldapPageSize,
+      SortKey sortKey,
+      PageCollector<T> collector)
+      throws Exception {
+    byte[] cookie = null;
+
+    try {
+      do {
+        ldapContext.setRequestControls(requestControls(ldapPageSize, cookie, sortKey));
+
+        NamingEnumeration<SearchResult> searchResults = null;
+
+        try {
+          searchResults = ldapContext.search(baseDN, searchFilter, searchControls);
+
+          while (searchResults.hasMore()) {
+            if (!collector.add(searchResults.next())) {
+              return collector;
+            }
+          }
+        } finally {
+          JNDIUtil.close(searchResults);
+        }
+
+        cookie = null;
+
+        Control[] responseControls = ldapContext.getResponseControls();
+
+        if (responseControls != null) {
+          for (Control responseControl : responseControls) {
+            if (responseControl instanceof PagedResultsResponseControl) {
+              cookie = ((PagedResultsResponseControl) responseControl).getCookie();
+            } else if (responseControl instanceof SortResponseControl) {
+              SortResponseControl sortResponseControl = (SortResponseControl) responseControl;
+
+              if (!sortResponseControl.isSorted()) {
+                throw sortResponseControl.getException();
+              }
+            }
+          }
+        }
+      } while ((cookie != null) && (cookie.length > 0));
+
+      return collector;
+    } finally {
+      ldapContext.setRequestControls(null);
+    }
+  }
+
+  private static Control[] requestControls(int ldapPageSize, byte[] cookie, SortKey sortKey)
+      throws Exception {
+    PagedResultsControl pagedResultsControl =
+        new PagedResultsControl(ldapPageSize, cookie, Control.CRITICAL);
+
+    if (sortKey == null) {
+      return new Control[] {pagedResultsControl};
+    } else {
+      return new Control[] {
+        new SortControl(new SortKey[] {sortKey}, Control.CRITICAL), pagedResultsControl
+      };
+    }
+  }
+
+  /**
+   * The <b>SearchResultMapper</b> interface is implemented by functions that map an LDAP search
+   * result to a domain object.
+   *
+   * @param <T> the type the search results are mapped to
+   */
+  @FunctionalInterface
+  interface SearchResultMapper<T> {
+
+    /**
+     * Map the search result.
+     *
+     * @param searchResult the search result
+     * @return the domain object
+     * @throws Exception if the search result could not be mapped
+     */
+    T map(SearchResult searchResult) throws Exception;
+  }
+
+  /**
+   * The <b>PageCollector</b> class counts the search results and retains the mapped results for a
+   * single page.
+   *
+   * <p>If no comparator is specified the search results are assumed to already be in the required
+   * order, e.g. sorted by the LDAP server, and only the search results that fall within the page
+   * are mapped. If a comparator is specified every search result is mapped and the first <i>offset
+   * + limit</i> results, in comparator order, are retained in a bounded heap, which bounds the
+   * memory used to the position of the page rather than the size of the directory.
+   *
+   * @param <T> the type the search results are mapped to
+   */
+  static final class PageCollector<T> {
+
+    /** The comparator used to order the results or <b>null</b> if the results are ordered. */
+    private final Comparator<T> comparator;
+
+    /**
+     * Should the search results beyond the page be counted, which requires the entire search to be
+     * performed?
+     */
+    private final boolean countAll;
+
+    /** The bounded heap, ordered from largest to smallest, used when a comparator is specified. */
+    private final PriorityQueue<T> heap;
+
+    /** The maximum number of results in the page. */
+    private final int limit;
+
+    /** The search result mapper. */
+    private final SearchResultMapper<T> mapper;
+
+    /** The number of results to skip before the page. */
+    private final long offset;
+
+    /** The results for the page when no comparator is specified. */
+    private final List<T> page = new ArrayList<>();
+
+    /** The number of results seen. */
+    private long total;
+
+    /**
+     * Constructs a new <b>PageCollector</b>.
+     *
+     * @param mapper the search result mapper or <b>null</b> if values will be added directly
+     * @param comparator the comparator used to order the results or <b>null</b> if the search
+     *     results are already in the required order
+     * @param offset the number of results to skip before the page
+     * @param limit the maximum number of results in the page
+     * @param countAll should the search results beyond the page be counted
+     */
+    PageCollector(
+        SearchResultMapper<T> mapper,
+        Comparator<T> comparator,
+        long offset,
+        int limit,
+        boolean countAll) {
+      this.mapper = mapper;
+      this.comparator = comparator;
+      this.offset = offset;
+      this.limit = limit;
+      this.countAll = countAll;
+      this.heap = (comparator != null) ? new PriorityQueue<>(comparator.reversed()) : null;
+    }
+
+    /**
+     * Add a search result.
+     *
+     * @param searchResult the search result
+     * @return <b>true</b> if the search should continue or <b>false</b> otherwise
+     * @throws Exception if the search result could not be mapped
+     */
+    boolean add(SearchResult searchResult) throws Exception {
+      // Only map the search results that fall within the page if the results are already ordered
+      if ((heap == null) && ((total < offset) || (total >= (offset + limit)))) {
+        total++;
+
+        return countAll || (total < (offset + limit));
+      }
+
+      return addValue(mapper.map(searchResult));
+    }
+
+    /**
+     * Add a value that has already been retrieved, e.g. a value for a multi-valued attribute.
+     *
+     * @param value the value
+     * @return <b>true</b> if more values should be added or <b>false</b> otherwise
+     */
+    boolean addValue(T value) {
+      long index = total++;
+
+      if (heap != null) {
+        heap.add(value);
+
+        if (heap.size() > (offset + limit)) {
+          heap.poll();
+        }
+
+        return true;
+      }
+
+      if ((index >= offset) && (index < (offset + limit))) {
+        page.add(value);
+      }
+
+      return countAll || (total < (offset + limit));
+    }
+
+    /**
+     * Returns the results for the page.
+     *
+     * @return the results for the page
+     */
+    List<T> getPage() {
+      if (heap == null) {
+        return page;
+      }
+
+      List<T> sorted = new ArrayList<>(heap);
+      sorted.sort(comparator);
+
+      if (offset >= sorted.size()) {
+        return new ArrayList<>();
+      }
+
+      return new ArrayList<>(
+          sorted.subList((int) offset, (int) Math.min(sorted.size(), offset + limit)));
+    }
+
+    /**
+     * Returns the number of results seen, which is the total number of results if all the results
+     * were counted.
+     *
+     * @return the number of results seen
+     */
+    long getTotal() {
+      return total;
+    }
+  }
+}
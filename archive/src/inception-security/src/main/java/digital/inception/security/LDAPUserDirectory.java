@@ -17,18 +17,23 @@
 package digital.inception.security;
 
 import com.github.f4b6a3.uuid.UuidCreator;
+import digital.inception.core.service.InvalidArgumentException;
 import digital.inception.core.service.ServiceUnavailableException;
 import digital.inception.core.sorting.SortDirection;
+import digital.inception.core.util.ExpiringLRUCache;
 import digital.inception.core.util.JNDIUtil;
+import java.io.Closeable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.Hashtable;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import javax.naming.Context;
 import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
+import javax.naming.directory.Attribute;
 import javax.naming.directory.Attributes;
 import javax.naming.directory.BasicAttribute;
 import javax.naming.directory.BasicAttributes;
@@ -37,8 +42,10 @@ import javax.naming.directory.InitialDirContext;
 import javax.naming.directory.ModificationItem;
 import javax.naming.directory.SearchControls;
 import javax.naming.directory.SearchResult;
+import javax.naming.ldap.LdapContext;
 import javax.naming.ldap.LdapName;
 import javax.naming.ldap.Rdn;
+import javax.naming.ldap.SortKey;
 import javax.sql.DataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,7 +59,33 @@ import org.springframework.util.StringUtils;
  * @author Marcus Portmann
  */
 @SuppressWarnings({"unused", "Duplicates", "SpringJavaAutowiredMembersInspection"})
-public class LDAPUserDirectory extends UserDirectoryBase {
+public class LDAPUserDirectory extends UserDirectoryBase implements Closeable {
+
+  /**
+   * The default maximum number of milliseconds to wait for a pooled connection to become available.
+   */
+  private static final long DEFAULT_CONNECTION_POOL_BORROW_TIMEOUT = 5000;
+
+  /**
+   * The default maximum number of milliseconds to wait for the pooled connections that are in use
+   * to be released when the user directory is closed.
+   */
+  private static final long DEFAULT_CONNECTION_POOL_DRAIN_TIMEOUT = 30000;
+
+  /**
+   * The default maximum number of milliseconds a pooled connection may remain idle before it is
+   * closed.
+   */
+  private static final long DEFAULT_CONNECTION_POOL_MAX_IDLE_TIME = 300000;
+
+  /** The default maximum number of pooled connections. */
+  private static final int DEFAULT_CONNECTION_POOL_MAX_SIZE = 10;
+
+  /**
+   * The default number of milliseconds after which an idle pooled connection is validated before it
+   * is reused.
+   */
+  private static final long DEFAULT_CONNECTION_POOL_VALIDATION_INTERVAL = 30000;
 
   /** The default maximum number of filtered groups. */
   private static final int DEFAULT_MAX_FILTERED_GROUPS = 100;
@@ -63,6 +96,15 @@ public class LDAPUserDirectory extends UserDirectoryBase {
   /** The default maximum number of filtered users. */
   private static final int DEFAULT_MAX_FILTERED_USERS = 100;
 
+  /** The default number of entries the LDAP server should return per page for paged searches. */
+  private static final int DEFAULT_SEARCH_PAGE_SIZE = 500;
+
+  /** The default number of milliseconds to cache the total number of results for a paged search. */
+  private static final long DEFAULT_SEARCH_TOTAL_TIME_TO_LIVE = 60000;
+
+  /** The maximum number of paged searches to cache the total number of results for. */
+  private static final int MAX_SEARCH_TOTALS = 1000;
+
   /** The empty attribute list. */
   private static final String[] EMPTY_ATTRIBUTE_LIST = new String[0];
 
@@ -78,6 +120,18 @@ public class LDAPUserDirectory extends UserDirectoryBase {
   /** The user directory capabilities supported by this user directory instance. */
   private final UserDirectoryCapabilities capabilities;
 
+  /** The connect timeout in milliseconds or 0 to use the default. */
+  private final int connectTimeout;
+
+  /** The pool of connections bound using the service account for the user directory. */
+  private final LDAPConnectionPool connectionPool;
+
+  /**
+   * The maximum number of milliseconds to wait for the pooled connections that are in use to be
+   * released when the user directory is closed.
+   */
+  private final long connectionPoolDrainTimeout;
+
   private final LdapName groupBaseDN;
 
   private final String groupMemberAttribute;
@@ -101,6 +155,32 @@ public class LDAPUserDirectory extends UserDirectoryBase {
 
   private final int port;
 
+  /** The read timeout in milliseconds or 0 to use the default. */
+  private final int readTimeout;
+
+  /** The number of entries the LDAP server should return per page for paged searches. */
+  private final int searchPageSize;
+
+  /**
+   * The number of milliseconds to cache the total number of results for a paged search or 0 if the
+   * total should not be cached.
+   */
+  private final long searchTotalTimeToLive;
+
+  /**
+   * The total number of results for the paged searches keyed by the base DN and search filter, so
+   * that the entire search is only performed to count the results for the first page retrieved for
+   * a search rather than for every page.
+   */
+  private final ExpiringLRUCache<String, Long> searchTotals =
+      new ExpiringLRUCache<>(MAX_SEARCH_TOTALS);
+
+  /**
+   * Should the paged results and server-side sort controls be used for searches if they are
+   * supported by the LDAP server?
+   */
+  private final boolean usePagedResults;
+
   private final boolean useSSL;
 
   private final LdapName userBaseDN;
@@ -126,6 +206,9 @@ public class LDAPUserDirectory extends UserDirectoryBase {
 
   private String groupDescriptionAttribute;
 
+  /** The OIDs for the controls supported by the LDAP server, which are retrieved on first use. */
+  private volatile Set<String> supportedControls;
+
   /**
    * Constructs a new <b>LDAPUserDirectory</b>.
    *
@@ -319,6 +402,25 @@ public class LDAPUserDirectory extends UserDirectoryBase {
         maxFilteredGroupMembers = DEFAULT_MAX_FILTERED_GROUP_MEMBERS;
       }
 
+      if (UserDirectoryParameter.contains(parameters, "UsePagedResults")) {
+        usePagedResults = UserDirectoryParameter.getBooleanValue(parameters, "UsePagedResults");
+      } else {
+        usePagedResults = true;
+      }
+
+      if (UserDirectoryParameter.contains(parameters, "SearchPageSize")) {
+        searchPageSize = UserDirectoryParameter.getIntegerValue(parameters, "SearchPageSize");
+      } else {
+        searchPageSize = DEFAULT_SEARCH_PAGE_SIZE;
+      }
+
+      if (UserDirectoryParameter.contains(parameters, "SearchTotalTimeToLive")) {
+        searchTotalTimeToLive =
+            UserDirectoryParameter.getLongValue(parameters, "SearchTotalTimeToLive");
+      } else {
+        searchTotalTimeToLive = DEFAULT_SEARCH_TOTAL_TIME_TO_LIVE;
+      }
+
       boolean supportsAdminChangePassword = true;
       if (UserDirectoryParameter.contains(parameters, "SupportsAdminChangePassword")) {
         supportsAdminChangePassword =
@@ -349,6 +451,59 @@ public class LDAPUserDirectory extends UserDirectoryBase {
             UserDirectoryParameter.getBooleanValue(parameters, "SupportsUserAdministration");
       }
 
+      if (UserDirectoryParameter.contains(parameters, "ConnectTimeout")) {
+        connectTimeout = UserDirectoryParameter.getIntegerValue(parameters, "ConnectTimeout");
+      } else {
+        connectTimeout = 0;
+      }
+
+      if (UserDirectoryParameter.contains(parameters, "ReadTimeout")) {
+        readTimeout = UserDirectoryParameter.getIntegerValue(parameters, "ReadTimeout");
+      } else {
+        readTimeout = 0;
+      }
+
+      int connectionPoolMaxSize = DEFAULT_CONNECTION_POOL_MAX_SIZE;
+      if (UserDirectoryParameter.contains(parameters, "ConnectionPoolMaxSize")) {
+        connectionPoolMaxSize =
+            UserDirectoryParameter.getIntegerValue(parameters, "ConnectionPoolMaxSize");
+      }
+
+      long connectionPoolMaxIdleTime = DEFAULT_CONNECTION_POOL_MAX_IDLE_TIME;
+      if (UserDirectoryParameter.contains(parameters, "ConnectionPoolMaxIdleTime")) {
+        connectionPoolMaxIdleTime =
+            UserDirectoryParameter.getLongValue(parameters, "ConnectionPoolMaxIdleTime");
+      }
+
+      long connectionPoolValidationInterval = DEFAULT_CONNECTION_POOL_VALIDATION_INTERVAL;
+      if (UserDirectoryParameter.contains(parameters, "ConnectionPoolValidationInterval")) {
+        connectionPoolValidationInterval =
+            UserDirectoryParameter.getLongValue(parameters, "ConnectionPoolValidationInterval");
+      }
+
+      long connectionPoolBorrowTimeout = DEFAULT_CONNECTION_POOL_BORROW_TIMEOUT;
+      if (UserDirectoryParameter.contains(parameters, "ConnectionPoolBorrowTimeout")) {
+        connectionPoolBorrowTimeout =
+            UserDirectoryParameter.getLongValue(parameters, "ConnectionPoolBorrowTimeout");
+      }
+
+      if (UserDirectoryParameter.contains(parameters, "ConnectionPoolDrainTimeout")) {
+        connectionPoolDrainTimeout =
+            UserDirectoryParameter.getLongValue(parameters, "ConnectionPoolDrainTimeout");
+      } else {
+        connectionPoolDrainTimeout = DEFAULT_CONNECTION_POOL_DRAIN_TIMEOUT;
+      }
+
+      connectionPool =
+          new LDAPConnectionPool(
+              userDirectoryId,
+              LDAPConnectionPool.environment(
+                  getUrl(), bindDN, bindPassword, connectTimeout, readTimeout),
+              connectionPoolMaxSize,
+              connectionPoolMaxIdleTime,
+              connectionPoolValidationInterval,
+              connectionPoolBorrowTimeout);
+
       capabilities =
           new UserDirectoryCapabilities(
               supportsAdminChangePassword,
@@ -393,7 +548,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     DirContext dirContext = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName groupDN = getGroupDN(dirContext, groupName);
 
@@ -458,7 +613,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     DirContext dirContext = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName userDN = getUserDN(dirContext, username);
 
@@ -533,7 +688,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     DirContext dirContext = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName userDN = getUserDN(dirContext, username);
 
@@ -571,7 +726,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     DirContext dirContext = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName userDN = getUserDN(dirContext, username);
 
@@ -648,7 +803,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     DirContext dirContext = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName userDN = getUserDN(dirContext, username);
 
@@ -721,6 +876,18 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     }
   }
 
+  /**
+   * Close the user directory and release the pooled connections.
+   *
+   * <p>This waits up to the connection pool drain timeout for the connections that are currently in
+   * use to be released, so that operations in progress can complete. Connections that are released
+   * after this are closed when they are released.
+   */
+  @Override
+  public void close() {
+    connectionPool.close(connectionPoolDrainTimeout);
+  }
+
   @Override
   public void createGroup(Group group) throws DuplicateGroupException, ServiceUnavailableException {
     if (!capabilities.getSupportsGroupAdministration()) {
@@ -733,7 +900,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     DirContext dirContext = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName groupDN = getGroupDN(dirContext, group.getName());
 
@@ -769,6 +936,8 @@ public class LDAPUserDirectory extends UserDirectoryBase {
 
       dirContext.bind(groupDN, dirContext, attributes);
 
+      searchTotals.clear();
+
       /*
        * Create the corresponding group in the database that will be used to map to one or more
        * roles.
@@ -804,7 +973,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     DirContext dirContext = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName userDN = getUserDN(dirContext, user.getUsername());
 
@@ -851,6 +1020,8 @@ public class LDAPUserDirectory extends UserDirectoryBase {
               userUsernameAttribute + "=" + user.getUsername() + "," + userBaseDN.toString());
 
       dirContext.bind(userDN, dirContext, attributes);
+
+      searchTotals.clear();
     } catch (DuplicateUserException e) {
       throw e;
     } catch (Throwable e) {
@@ -879,7 +1050,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     DirContext dirContext = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName groupDN = getGroupDN(dirContext, groupName);
 
@@ -905,6 +1076,8 @@ public class LDAPUserDirectory extends UserDirectoryBase {
 
       dirContext.destroySubcontext(groupDN);
 
+      searchTotals.clear();
+
       // Delete the corresponding group in the database
       Optional<UUID> groupIdOptional =
           getGroupRepository()
@@ -940,7 +1113,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     NamingEnumeration<SearchResult> searchResults = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName userDN = getUserDN(dirContext, username);
 
@@ -997,6 +1170,8 @@ public class LDAPUserDirectory extends UserDirectoryBase {
       }
 
       dirContext.destroySubcontext(userDN);
+
+      searchTotals.clear();
     } catch (UserNotFoundException e) {
       throw e;
     } catch (Throwable e) {
@@ -1015,12 +1190,12 @@ public class LDAPUserDirectory extends UserDirectoryBase {
 
   @Override
   public List<User> findUsers(List<UserAttribute> userAttributes)
-      throws InvalidAttributeException, ServiceUnavailableException {
+      throws InvalidAttributeException, TooManyMatchingUsersException, ServiceUnavailableException {
     DirContext dirContext = null;
     NamingEnumeration<SearchResult> searchResults = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       String searchFilter = "(objectClass=" + userObjectClass + ")";
 
@@ -1046,20 +1221,44 @@ public class LDAPUserDirectory extends UserDirectoryBase {
         searchFilter = buffer.toString();
       }
 
+      /*
+       * One more user than the maximum number of filtered users is retrieved so that criteria that
+       * match too many users can be rejected rather than silently truncated.
+       */
       SearchControls searchControls = new SearchControls();
       searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
       searchControls.setReturningObjFlag(false);
-      searchControls.setCountLimit(maxFilteredUsers);
+      searchControls.setCountLimit(maxFilteredUsers + 1);
+
+      List<User> users;
+
+      if (isPagedResultsSupported(dirContext)) {
+        users =
+            pagedSearch(
+                    dirContext,
+                    userBaseDN,
+                    searchFilter,
+                    null,
+                    new LDAPPagedSearch.PageCollector<>(
+                        this::buildUserFromSearchResult, null, 0, maxFilteredUsers + 1, false))
+                .getPage();
+      } else {
+        users = new ArrayList<>();
 
-      List<User> users = new ArrayList<>();
+        searchResults = dirContext.search(userBaseDN, searchFilter, searchControls);
 
-      searchResults = dirContext.search(userBaseDN, searchFilter, searchControls);
+        while ((users.size() <= maxFilteredUsers) && searchResults.hasMore()) {
+          users.add(buildUserFromSearchResult(searchResults.next()));
+        }
+      }
 
-      while (searchResults.hasMore() && (users.size() <= maxFilteredUsers)) {
-        users.add(buildUserFromSearchResult(searchResults.next()));
+      if (users.size() > maxFilteredUsers) {
+        throw new TooManyMatchingUsersException(maxFilteredUsers);
       }
 
       return users;
+    } catch (InvalidAttributeException | TooManyMatchingUsersException e) {
+      throw e;
     } catch (Throwable e) {
       throw new ServiceUnavailableException(
           "Failed to find the users for the user directory (" + getUserDirectoryId() + ")", e);
@@ -1081,7 +1280,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     NamingEnumeration<SearchResult> searchResults = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName userDN = getUserDN(dirContext, username);
 
@@ -1141,7 +1340,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     NamingEnumeration<SearchResult> searchResults = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       String searchFilter =
           String.format(
@@ -1180,7 +1379,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     NamingEnumeration<SearchResult> searchResults = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       String searchFilter = String.format("(objectClass=%s)", groupObjectClass);
 
@@ -1222,7 +1421,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     NamingEnumeration<SearchResult> searchResults = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName userDN = getUserDN(dirContext, username);
 
@@ -1275,7 +1474,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     NamingEnumeration<SearchResult> searchResults = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       String searchFilter = String.format("(objectClass=%s)", groupObjectClass);
 
@@ -1284,6 +1483,17 @@ public class LDAPUserDirectory extends UserDirectoryBase {
       searchControls.setReturningObjFlag(false);
       searchControls.setCountLimit(maxFilteredGroups);
 
+      if (isPagedResultsSupported(dirContext)) {
+        return pagedSearch(
+                dirContext,
+                groupBaseDN,
+                searchFilter,
+                null,
+                new LDAPPagedSearch.PageCollector<>(
+                    this::buildGroupFromSearchResult, null, 0, maxFilteredGroups, false))
+            .getPage();
+      }
+
       searchResults = dirContext.search(groupBaseDN, searchFilter, searchControls);
 
       List<Group> groups = new ArrayList<>();
@@ -1310,7 +1520,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     NamingEnumeration<SearchResult> searchResults = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       String searchFilter;
 
@@ -1322,6 +1532,11 @@ public class LDAPUserDirectory extends UserDirectoryBase {
         searchFilter = String.format("(objectClass=%s)", groupObjectClass);
       }
 
+      if (isPagedResultsSupported(dirContext)) {
+        return getGroupsUsingPagedSearch(
+            dirContext, searchFilter, filter, sortDirection, pageIndex, pageSize);
+      }
+
       SearchControls searchControls = new SearchControls();
       searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
       searchControls.setReturningObjFlag(false);
@@ -1370,7 +1585,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     NamingEnumeration<SearchResult> searchResults = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName userDN = getUserDN(dirContext, username);
 
@@ -1419,7 +1634,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     NamingEnumeration<SearchResult> searchResults = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       String searchFilter =
           String.format(
@@ -1489,7 +1704,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     NamingEnumeration<SearchResult> searchResults = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       if (StringUtils.hasText(filter)) {
         filter = filter.toLowerCase();
@@ -1508,7 +1723,27 @@ public class LDAPUserDirectory extends UserDirectoryBase {
       if (searchResults.hasMore()) {
         SearchResult searchResult = searchResults.next();
 
-        List<GroupMember> groupMembers = new ArrayList<>();
+        long offset = 0;
+        int limit = Integer.MAX_VALUE;
+
+        if ((pageIndex != null) && (pageSize != null)) {
+          pageSize = Math.min(pageSize, maxFilteredGroupMembers);
+
+          offset = (long) pageIndex * pageSize;
+          limit = pageSize;
+        }
+
+        /*
+         * Only the usernames for the members that fall within the requested page are retained,
+         * using a bounded heap, rather than building and sorting every member of the group.
+         */
+        Comparator<String> comparator =
+            (sortDirection == SortDirection.ASCENDING)
+                ? Comparator.naturalOrder()
+                : Comparator.reverseOrder();
+
+        LDAPPagedSearch.PageCollector<String> collector =
+            new LDAPPagedSearch.PageCollector<>(null, comparator, offset, limit, true);
 
         var attribute = searchResult.getAttributes().get(groupMemberAttribute);
 
@@ -1518,29 +1753,15 @@ public class LDAPUserDirectory extends UserDirectoryBase {
 
             for (Rdn rdn : groupMemberDn.getRdns()) {
               if (rdn.getType().equalsIgnoreCase(userUsernameAttribute)) {
-                if (!StringUtils.hasText(filter)) {
-                  groupMembers.add(
-                      new GroupMember(
-                          getUserDirectoryId(),
-                          groupName,
-                          GroupMemberType.USER,
-                          String.valueOf(rdn.getValue())));
-                } else {
-                  /*
-                   * NOTE: We perform the filtering here as directory servers like OpenLDAP do not
-                   *       support substring case-insensitive matches for the member attribute on
-                   *       the groupOfNames objectclass.
-                   */
-                  String username = String.valueOf(rdn.getValue());
-
-                  if (username.contains(filter)) {
-                    groupMembers.add(
-                        new GroupMember(
-                            getUserDirectoryId(),
-                            groupName,
-                            GroupMemberType.USER,
-                            String.valueOf(rdn.getValue())));
-                  }
+                /*
+                 * NOTE: We perform the filtering here as directory servers like OpenLDAP do not
+                 *       support substring case-insensitive matches for the member attribute on
+                 *       the groupOfNames objectclass.
+                 */
+                String username = String.valueOf(rdn.getValue());
+
+                if ((!StringUtils.hasText(filter)) || username.contains(filter)) {
+                  collector.addValue(username);
                 }
 
                 break;
@@ -1549,25 +1770,15 @@ public class LDAPUserDirectory extends UserDirectoryBase {
           }
         }
 
-        if (sortDirection == SortDirection.ASCENDING) {
-          groupMembers.sort(Comparator.comparing(GroupMember::getMemberName));
-        } else {
-          groupMembers.sort(
-              (GroupMember groupMember1, GroupMember groupMember2) ->
-                  groupMember2.getMemberName().compareTo(groupMember1.getMemberName()));
-        }
-
-        long totalGroupMembers = groupMembers.size();
-
-        if ((pageIndex != null) && (pageSize != null)) {
-          pageSize = Math.min(pageSize, maxFilteredGroupMembers);
-
-          int toIndex = (pageIndex * pageSize) + pageSize;
+        List<GroupMember> groupMembers = new ArrayList<>();
 
-          groupMembers =
-              groupMembers.subList(pageIndex * pageSize, Math.min(toIndex, groupMembers.size()));
+        for (String username : collector.getPage()) {
+          groupMembers.add(
+              new GroupMember(getUserDirectoryId(), groupName, GroupMemberType.USER, username));
         }
 
+        long totalGroupMembers = collector.getTotal();
+
         return new GroupMembers(
             getUserDirectoryId(),
             groupName,
@@ -1602,7 +1813,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     DirContext dirContext = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName groupDN = getGroupDN(dirContext, groupName);
 
@@ -1641,7 +1852,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     NamingEnumeration<SearchResult> searchResults = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName userDN = getUserDN(dirContext, username);
 
@@ -1700,7 +1911,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     DirContext dirContext = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName groupDN = getGroupDN(dirContext, groupName);
 
@@ -1741,7 +1952,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     DirContext dirContext = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       User user = getUser(dirContext, username);
 
@@ -1772,7 +1983,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
 
     try {
       // TODO: MAKE THIS IMPLEMENTATION MORE EFFICIENT AND DO NOT RETRIEVE THE WHOLE USER -- MARCUS
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       User user = getUser(dirContext, username);
 
@@ -1812,7 +2023,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     NamingEnumeration<SearchResult> searchResults = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       String searchFilter = String.format("(objectClass=%s)", userObjectClass);
 
@@ -1821,6 +2032,17 @@ public class LDAPUserDirectory extends UserDirectoryBase {
       searchControls.setReturningObjFlag(false);
       searchControls.setCountLimit(maxFilteredUsers);
 
+      if (isPagedResultsSupported(dirContext)) {
+        return pagedSearch(
+                dirContext,
+                userBaseDN,
+                searchFilter,
+                null,
+                new LDAPPagedSearch.PageCollector<>(
+                    this::buildUserFromSearchResult, null, 0, maxFilteredUsers, false))
+            .getPage();
+      }
+
       List<User> users = new ArrayList<>();
 
       searchResults = dirContext.search(userBaseDN, searchFilter, searchControls);
@@ -1850,7 +2072,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     NamingEnumeration<SearchResult> searchResults = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       String searchFilter;
 
@@ -1869,6 +2091,11 @@ public class LDAPUserDirectory extends UserDirectoryBase {
         searchFilter = String.format("(objectClass=%s)", userObjectClass);
       }
 
+      if (isPagedResultsSupported(dirContext)) {
+        return getUsersUsingPagedSearch(
+            dirContext, searchFilter, filter, sortBy, sortDirection, pageIndex, pageSize);
+      }
+
       SearchControls searchControls = new SearchControls();
       searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
       searchControls.setReturningObjFlag(false);
@@ -1934,13 +2161,26 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     }
   }
 
+  @Override
+  public Users getUsers(
+      String filter,
+      UserSortBy sortBy,
+      SortDirection sortDirection,
+      String cursor,
+      Integer pageSize,
+      boolean includeTotal)
+      throws InvalidArgumentException {
+    // The LDAP simple paged results control does not support seeking to a position in the results
+    throw new InvalidArgumentException("cursor");
+  }
+
   @Override
   public boolean isExistingUser(String username) throws ServiceUnavailableException {
     DirContext dirContext = null;
     NamingEnumeration<SearchResult> searchResults = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       String searchFilter =
           String.format(
@@ -1973,7 +2213,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     DirContext dirContext = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName userDN = getUserDN(dirContext, username);
 
@@ -2047,7 +2287,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     DirContext dirContext = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName groupDN = getGroupDN(dirContext, groupName);
 
@@ -2089,7 +2329,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     DirContext dirContext = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName userDN = getUserDN(dirContext, username);
 
@@ -2161,7 +2401,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     DirContext dirContext = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName userDN = getUserDN(dirContext, username);
 
@@ -2212,7 +2452,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     DirContext dirContext = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName groupDN = getGroupDN(dirContext, group.getName());
 
@@ -2275,7 +2515,7 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     DirContext dirContext = null;
 
     try {
-      dirContext = getDirContext(bindDN, bindPassword);
+      dirContext = connectionPool.getConnection();
 
       LdapName userDN = getUserDN(dirContext, user.getUsername());
 
@@ -2446,22 +2686,8 @@ public class LDAPUserDirectory extends UserDirectoryBase {
   private DirContext getDirContext(String userDN, String password)
       throws ServiceUnavailableException {
     try {
-      String url = useSSL ? "ldaps://" : "ldap://";
-      url += host;
-      url += ":";
-      url += port;
-
-      String connectionType = "simple";
-
-      Hashtable<String, String> environment = new Hashtable<>();
-
-      environment.put(Context.INITIAL_CONTEXT_FACTORY, "com.sun.jndi.ldap.LdapCtxFactory");
-      environment.put(Context.PROVIDER_URL, url);
-      environment.put(Context.SECURITY_AUTHENTICATION, connectionType);
-      environment.put(Context.SECURITY_PRINCIPAL, userDN);
-      environment.put(Context.SECURITY_CREDENTIALS, password);
-
-      return new InitialDirContext(environment);
+      return new InitialDirContext(
+          LDAPConnectionPool.environment(getUrl(), userDN, password, connectTimeout, readTimeout));
     } catch (Throwable e) {
       throw new ServiceUnavailableException(
           String.format(
@@ -2471,6 +2697,66 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     }
   }
 
+  private Groups getGroupsUsingPagedSearch(
+      DirContext dirContext,
+      String searchFilter,
+      String filter,
+      SortDirection sortDirection,
+      Integer pageIndex,
+      Integer pageSize)
+      throws Exception {
+    long offset = 0;
+    int limit = maxFilteredGroups;
+
+    if ((pageIndex != null) && (pageSize != null)) {
+      pageSize = Math.min(pageSize, maxFilteredGroups);
+
+      offset = (long) pageIndex * pageSize;
+      limit = pageSize;
+    }
+
+    boolean ascending = (sortDirection == SortDirection.ASCENDING);
+
+    // Sort on the LDAP server if possible, so that only the requested page is built
+    boolean serverSideSort = isServerSideSortSupported(dirContext);
+
+    Comparator<Group> comparator = null;
+
+    if (!serverSideSort) {
+      comparator = Comparator.comparing(Group::getName);
+
+      if (!ascending) {
+        comparator = comparator.reversed();
+      }
+    }
+
+    String searchTotalKey = groupBaseDN + "|" + searchFilter;
+
+    Long searchTotal = searchTotals.get(searchTotalKey);
+
+    LDAPPagedSearch.PageCollector<Group> collector =
+        pagedSearch(
+            dirContext,
+            groupBaseDN,
+            searchFilter,
+            serverSideSort ? new SortKey(groupNameAttribute, ascending, null) : null,
+            new LDAPPagedSearch.PageCollector<>(
+                this::buildGroupFromSearchResult,
+                comparator,
+                offset,
+                limit,
+                (searchTotal == null)));
+
+    return new Groups(
+        getUserDirectoryId(),
+        collector.getPage(),
+        getSearchTotal(searchTotalKey, searchTotal, collector),
+        filter,
+        sortDirection,
+        pageIndex,
+        pageSize);
+  }
+
   private LdapName getGroupDN(DirContext dirContext, String groupName)
       throws ServiceUnavailableException {
     NamingEnumeration<SearchResult> searchResults = null;
@@ -2576,6 +2862,141 @@ public class LDAPUserDirectory extends UserDirectoryBase {
     }
   }
 
+  private Set<String> getSupportedControls(DirContext dirContext) {
+    Set<String> controls = supportedControls;
+
+    if (controls != null) {
+      return controls;
+    }
+
+    try {
+      controls = new HashSet<>();
+
+      Attribute attribute =
+          dirContext.getAttributes("", new String[] {"supportedControl"}).get("supportedControl");
+
+      if (attribute != null) {
+        for (int i = 0; i < attribute.size(); i++) {
+          controls.add(String.valueOf(attribute.get(i)));
+        }
+      }
+
+      supportedControls = controls;
+
+      return controls;
+    } catch (Throwable e) {
+      // Do not cache the failure so that the supported controls are retrieved again next time
+      logger.warn(
+          "Failed to retrieve the controls supported by the LDAP directory for the user "
+              + "directory ("
+              + getUserDirectoryId()
+              + "), paged searches will not be used for this search",
+          e);
+
+      return Collections.emptySet();
+    }
+  }
+
+  /**
+   * Returns the total number of results for a paged search, caching the total if all the results
+   * were counted, so that subsequent pages for the same search only need to retrieve the results up
+   * to the end of the page.
+   *
+   * @param searchTotalKey the key for the paged search
+   * @param searchTotal the cached total number of results for the paged search or <b>null</b> if
+   *     the total was not cached and all the results were counted
+   * @param collector the page collector for the paged search
+   * @return the total number of results for the paged search
+   */
+  private long getSearchTotal(
+      String searchTotalKey, Long searchTotal, LDAPPagedSearch.PageCollector<?> collector) {
+    if (searchTotal != null) {
+      return searchTotal;
+    }
+
+    long total = collector.getTotal();
+
+    if (searchTotalTimeToLive > 0) {
+      searchTotals.put(searchTotalKey, total, System.currentTimeMillis() + searchTotalTimeToLive);
+    }
+
+    return total;
+  }
+
+  private String getUrl() {
+    return (useSSL ? "ldaps://" : "ldap://") + host + ":" + port;
+  }
+
+  private Users getUsersUsingPagedSearch(
+      DirContext dirContext,
+      String searchFilter,
+      String filter,
+      UserSortBy sortBy,
+      SortDirection sortDirection,
+      Integer pageIndex,
+      Integer pageSize)
+      throws Exception {
+    long offset = 0;
+    int limit = maxFilteredUsers;
+
+    if ((pageIndex != null) && (pageSize != null)) {
+      pageSize = Math.min(pageSize, maxFilteredUsers);
+
+      offset = (long) pageIndex * pageSize;
+      limit = pageSize;
+    }
+
+    boolean ascending = (sortDirection == SortDirection.ASCENDING);
+
+    String sortAttribute = null;
+    Comparator<User> comparator = null;
+
+    if (sortBy == UserSortBy.USERNAME) {
+      sortAttribute = userUsernameAttribute;
+      comparator = Comparator.comparing(User::getUsername);
+    } else if (sortBy == UserSortBy.NAME) {
+      sortAttribute = userNameAttribute;
+      comparator = Comparator.comparing(User::getName);
+    } else if (sortBy == UserSortBy.PREFERRED_NAME) {
+      sortAttribute = userPreferredNameAttribute;
+      comparator =
+          Comparator.comparing(
+              User::getPreferredName, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    // Sort on the LDAP server if possible, so that only the requested page is built
+    boolean serverSideSort = (sortAttribute != null) && isServerSideSortSupported(dirContext);
+
+    if (serverSideSort) {
+      comparator = null;
+    } else if ((comparator != null) && (!ascending)) {
+      comparator = comparator.reversed();
+    }
+
+    String searchTotalKey = userBaseDN + "|" + searchFilter;
+
+    Long searchTotal = searchTotals.get(searchTotalKey);
+
+    LDAPPagedSearch.PageCollector<User> collector =
+        pagedSearch(
+            dirContext,
+            userBaseDN,
+            searchFilter,
+            serverSideSort ? new SortKey(sortAttribute, ascending, null) : null,
+            new LDAPPagedSearch.PageCollector<>(
+                this::buildUserFromSearchResult, comparator, offset, limit, (searchTotal == null)));
+
+    return new Users(
+        getUserDirectoryId(),
+        collector.getPage(),
+        getSearchTotal(searchTotalKey, searchTotal, collector),
+        filter,
+        sortBy,
+        sortDirection,
+        pageIndex,
+        pageSize);
+  }
+
   private LdapName getUserDN(DirContext dirContext, String username)
       throws ServiceUnavailableException {
     NamingEnumeration<SearchResult> searchResults = null;
@@ -2628,4 +3049,35 @@ public class LDAPUserDirectory extends UserDirectoryBase {
       JNDIUtil.close(searchResults);
     }
   }
+
+  private boolean isPagedResultsSupported(DirContext dirContext) {
+    return usePagedResults
+        && getSupportedControls(dirContext).contains(LDAPPagedSearch.PAGED_RESULTS_CONTROL_OID);
+  }
+
+  private boolean isServerSideSortSupported(DirContext dirContext) {
+    return usePagedResults
+        && getSupportedControls(dirContext).contains(LDAPPagedSearch.SORT_CONTROL_OID);
+  }
+
+  private <T> LDAPPagedSearch.PageCollector<T> pagedSearch(
+      DirContext dirContext,
+      LdapName baseDN,
+      String searchFilter,
+      SortKey sortKey,
+      LDAPPagedSearch.PageCollector<T> collector)
+      throws Exception {
+    SearchControls searchControls = new SearchControls();
+    searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
+    searchControls.setReturningObjFlag(false);
+
+    return LDAPPagedSearch.search(
+        (LdapContext) dirContext,
+        baseDN,
+        searchFilter,
+        searchControls,
+        searchPageSize,
+        sortKey,
+        collector);
+  }
 }
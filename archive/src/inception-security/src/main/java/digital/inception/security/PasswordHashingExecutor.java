@@ -0,0 +1,140 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * The <b>PasswordHashingExecutor</b> class provides a bounded executor for CPU-intensive password
+ * hashing operations, e.g. authentication, so that these operations do not consume the request
+ * processing threads of the application.
+ *
+ * <p>The executor uses a fixed number of threads and a bounded queue. Tasks submitted when the
+ * queue is full are rejected immediately rather than waiting, which allows callers to fail fast
+ * when the application is overloaded.
+ *
+ * @author Marcus Portmann
+ */
+public class PasswordHashingExecutor implements AutoCloseable {
+
+  /** The thread pool executor. */
+  private final ThreadPoolExecutor executor;
+
+  /** The time tasks spend waiting in the queue before they are executed. */
+  private final Timer queueWaitTimer;
+
+  /** The number of tasks rejected because the queue was full. */
+  private final Counter rejectedTasksCounter;
+
+  /**
+   * Constructs a new <b>PasswordHashingExecutor</b>.
+   *
+   * @param threads the number of threads used to execute tasks
+   * @param queueSize the maximum number of tasks waiting to be executed
+   */
+  public PasswordHashingExecutor(int threads, int queueSize) {
+    CustomizableThreadFactory threadFactory =
+        new CustomizableThreadFactory("security-password-hashing-");
+    threadFactory.setDaemon(true);
+
+    executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            1,
+            TimeUnit.MINUTES,
+            new ArrayBlockingQueue<>(Math.max(1, queueSize)),
+            threadFactory,
+            new ThreadPoolExecutor.AbortPolicy());
+    executor.allowCoreThreadTimeOut(true);
+
+    MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+    Gauge.builder("security.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+        .description("The number of password hashing tasks being executed")
+        .register(meterRegistry);
+    Gauge.builder(
+            "security.password.hashing.queued", executor, pool -> pool.getQueue().size())
+        .description("The number of password hashing tasks waiting to be executed")
+        .register(meterRegistry);
+
+    rejectedTasksCounter =
+        Counter.builder("security.password.hashing.rejected")
+            .description("The number of password hashing tasks rejected because the queue was full")
+            .register(meterRegistry);
+
+    queueWaitTimer =
+        Timer.builder("security.password.hashing.queue.wait")
+            .description("The time password hashing tasks spend waiting to be executed")
+            .register(meterRegistry);
+  }
+
+  /** Close the executor, interrupting any tasks that are being executed. */
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Submit a task for execution.
+   *
+   * @param task the task
+   * @param <T> the type of the result returned by the task
+   * @return the future for the result of the task
+   * @throws RejectedExecutionException if the task was rejected because the queue is full or the
+   *     executor has been closed
+   */
+  public <T> CompletableFuture<T> submit(Callable<T> task) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+
+    long submitted = System.nanoTime();
+
+    try {
+      executor.execute(
+          () -> {
+            queueWaitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+
+            if (future.isDone()) {
+              return;
+            }
+
+            try {
+              future.complete(task.call());
+            } catch (Throwable e) {
+              future.completeExceptionally(e);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      rejectedTasksCounter.increment();
+
+      throw e;
+    }
+
+    return future;
+  }
+}
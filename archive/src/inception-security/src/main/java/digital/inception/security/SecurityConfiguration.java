@@ -17,13 +17,16 @@
 package digital.inception.security;
 
 import digital.inception.jpa.JpaUtil;
+import java.util.concurrent.ThreadPoolExecutor;
 import javax.sql.DataSource;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 /**
@@ -63,4 +66,64 @@ public class SecurityConfiguration {
     return JpaUtil.createEntityManager(
         "security", dataSource, platformTransactionManager, "digital.inception.security");
   }
+
+  /**
+   * Returns the executor used to record the failed password attempts for asynchronous
+   * authentications.
+   *
+   * <p>Recording a failed password attempt updates the database, so it is not performed on the
+   * threads of the password hashing executor, which are reserved for CPU-intensive password checks.
+   * When the queue is full, the failed password attempt is recorded on the password hashing thread
+   * instead, so that it is never discarded. The executor waits for the queued failed password
+   * attempts to be recorded when the application context is closed.
+   *
+   * @param threads the number of threads used to record the failed password attempts
+   * @param queueSize the maximum number of failed password attempts waiting to be recorded
+   * @return the executor used to record the failed password attempts for asynchronous
+   *     authentications
+   */
+  @Bean
+  public ThreadPoolTaskExecutor passwordAttemptsExecutor(
+      @Value("${inception.application.security.passwordAttempts.threads:2}") int threads,
+      @Value("${inception.application.security.passwordAttempts.queueSize:100}") int queueSize) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(Math.max(1, threads));
+    executor.setMaxPoolSize(Math.max(1, threads));
+    executor.setQueueCapacity(Math.max(1, queueSize));
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setThreadNamePrefix("security-password-attempts-");
+    executor.setDaemon(true);
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+
+    return executor;
+  }
+
+  /**
+   * Returns the executor used to hash the passwords for imported users in parallel.
+   *
+   * <p>The executor is shared by all user imports and has a fixed number of threads and a bounded
+   * queue. When the queue is full, a password is hashed on the thread processing the import, which
+   * throttles concurrent imports instead of failing them. The executor is shut down when the
+   * application context is closed.
+   *
+   * @param threads the number of threads used to hash the passwords, where zero indicates the
+   *     number of available processors should be used
+   * @return the executor used to hash the passwords for imported users in parallel
+   */
+  @Bean
+  public ThreadPoolTaskExecutor userImportHashingExecutor(
+      @Value("${inception.application.security.userImport.hashingThreads:0}") int threads) {
+    int poolSize = (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(UserImporter.MAX_BATCH_SIZE);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setThreadNamePrefix("security-user-import-");
+    executor.setDaemon(true);
+
+    return executor;
+  }
 }
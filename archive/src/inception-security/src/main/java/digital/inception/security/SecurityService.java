@@ -26,6 +26,8 @@ import digital.inception.core.util.ResourceUtil;
 import digital.inception.mail.IMailService;
 import digital.inception.mail.MailTemplate;
 import digital.inception.mail.MailTemplateContentType;
+import java.io.Closeable;
+import java.io.InputStream;
 import java.lang.reflect.Constructor;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -33,23 +35,48 @@ import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
 import javax.validation.ConstraintViolation;
 import javax.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 /**
@@ -77,6 +104,9 @@ public class SecurityService implements ISecurityService {
   /** The Spring application context. */
   private final ApplicationContext applicationContext;
 
+  /** The data source used to import users. */
+  private final DataSource dataSource;
+
   /** The Function Repository. */
   private final FunctionRepository functionRepository;
 
@@ -121,10 +151,118 @@ public class SecurityService implements ISecurityService {
   /** The user directories. */
   private Map<UUID, IUserDirectory> userDirectories = new ConcurrentHashMap<>();
 
+  /** The previous instances of reloaded user directories that are waiting to be closed. */
+  private final Set<IUserDirectory> closingUserDirectories = ConcurrentHashMap.newKeySet();
+
+  /**
+   * The executor used to close the previous instances of the user directories, once the grace
+   * period has elapsed, when the user directories are reloaded.
+   */
+  private ScheduledExecutorService userDirectoryCloseExecutor;
+
+  /**
+   * The number of milliseconds to wait, after the user directories are reloaded, before closing the
+   * previous instances of the user directories, which allows the operations that are using them to
+   * complete.
+   */
+  @Value("${inception.application.security.userDirectoryCloseGracePeriod:30000}")
+  private long userDirectoryCloseGracePeriod;
+
+  /** The cache of the IDs for the user directories that users are associated with. */
+  private UserDirectoryIdCache userDirectoryIdCache;
+
+  /**
+   * Should the user directory ID cache use the "userDirectoryIds" cache provided by the Spring
+   * cache manager, e.g. a distributed Hazelcast cache, instead of a local cache.
+   */
+  @Value("${inception.application.security.userDirectoryIdCache.distributed:false}")
+  private boolean userDirectoryIdCacheDistributed;
+
+  /** The maximum number of user directory IDs to cache when the local cache is used. */
+  @Value("${inception.application.security.userDirectoryIdCache.maxEntries:100000}")
+  private int userDirectoryIdCacheMaxEntries;
+
+  /** The maximum number of usernames that could not be found to cache. */
+  @Value("${inception.application.security.userDirectoryIdCache.maxNotFoundEntries:10000}")
+  private int userDirectoryIdCacheMaxNotFoundEntries;
+
+  /** The number of milliseconds to cache a username that could not be found. */
+  @Value("${inception.application.security.userDirectoryIdCache.notFoundTimeToLive:30000}")
+  private long userDirectoryIdCacheNotFoundTimeToLive;
+
+  /** The number of milliseconds to cache the user directory ID for a user. */
+  @Value("${inception.application.security.userDirectoryIdCache.timeToLive:600000}")
+  private long userDirectoryIdCacheTimeToLive;
+
+  /** The cache of the effective authorization snapshots for users. */
+  private UserAuthorizationCache userAuthorizationCache;
+
+  /** The listeners notified when the effective authorization or details for a user change. */
+  private final List<UserAuthorizationChangeListener> userAuthorizationChangeListeners =
+      new CopyOnWriteArrayList<>();
+
+  /** The maximum number of effective authorization snapshots to cache. */
+  @Value("${inception.application.security.userAuthorizationCache.maxEntries:10000}")
+  private int userAuthorizationCacheMaxEntries;
+
+  /** The number of milliseconds to cache an effective authorization snapshot. */
+  @Value("${inception.application.security.userAuthorizationCache.timeToLive:60000}")
+  private long userAuthorizationCacheTimeToLive;
+
+  /** The executor used to perform password hashing operations asynchronously. */
+  private PasswordHashingExecutor passwordHashingExecutor;
+
+  /**
+   * The maximum number of asynchronous password hashing operations waiting to be executed before
+   * new operations are rejected.
+   */
+  @Value("${inception.application.security.passwordHashing.queueSize:100}")
+  private int passwordHashingQueueSize;
+
+  /**
+   * The number of threads used to perform asynchronous password hashing operations, which defaults
+   * to the number of available processors.
+   */
+  @Value("${inception.application.security.passwordHashing.threads:0}")
+  private int passwordHashingThreads;
+
+  /** The transaction template used to execute asynchronous operations within a transaction. */
+  private final TransactionTemplate transactionTemplate;
+
+  /** The maximum number of users to write in a single batch when importing users. */
+  @Value("${inception.application.security.userImport.batchSize:1000}")
+  private int userImportBatchSize;
+
+  /** The executor used to hash the passwords for imported users in parallel. */
+  private final Executor userImportHashingExecutor;
+
+  /** The executor used to record the failed password attempts for asynchronous authentications. */
+  private final Executor passwordAttemptsExecutor;
+
+  /** The maximum number of errors to report when importing users. */
+  @Value("${inception.application.security.userImport.maxErrors:1000}")
+  private int userImportMaxErrors;
+
+  /** The executor used to check the external user directories for a user in parallel. */
+  private ExecutorService userDirectoryProbeExecutor;
+
+  /** The maximum number of threads used to check the external user directories for a user. */
+  @Value("${inception.application.security.userDirectoryProbeThreads:10}")
+  private int userDirectoryProbeThreads;
+
+  /**
+   * The maximum number of checks of the external user directories that can be queued, after which
+   * the checks are performed on the calling thread.
+   */
+  @Value("${inception.application.security.userDirectoryProbeQueueSize:100}")
+  private int userDirectoryProbeQueueSize;
+
   /**
    * Constructs a new <b>SecurityService</b>.
    *
    * @param applicationContext the Spring application context
+   * @param dataSource the data source used to import users
+   * @param transactionManager the Spring platform transaction manager
    * @param validator the JSR-303 validator
    * @param mailService the Mail Service
    * @param functionRepository the Function Repository
@@ -136,9 +274,15 @@ public class SecurityService implements ISecurityService {
    * @param userDirectorySummaryRepository the User Directory Summary Repository
    * @param userDirectoryTypeRepository the User Directory Type Repository
    * @param userRepository the User Repository
+   * @param userImportHashingExecutor the executor used to hash the passwords for imported users in
+   *     parallel
+   * @param passwordAttemptsExecutor the executor used to record the failed password attempts for
+   *     asynchronous authentications
    */
   public SecurityService(
       ApplicationContext applicationContext,
+      @Qualifier("applicationDataSource") DataSource dataSource,
+      @Qualifier("transactionManager") PlatformTransactionManager transactionManager,
       Validator validator,
       IMailService mailService,
       FunctionRepository functionRepository,
@@ -149,8 +293,12 @@ public class SecurityService implements ISecurityService {
       UserDirectoryRepository userDirectoryRepository,
       UserDirectorySummaryRepository userDirectorySummaryRepository,
       UserDirectoryTypeRepository userDirectoryTypeRepository,
-      UserRepository userRepository) {
+      UserRepository userRepository,
+      @Qualifier("userImportHashingExecutor") Executor userImportHashingExecutor,
+      @Qualifier("passwordAttemptsExecutor") Executor passwordAttemptsExecutor) {
     this.applicationContext = applicationContext;
+    this.dataSource = dataSource;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
     this.validator = validator;
     this.mailService = mailService;
     this.functionRepository = functionRepository;
@@ -162,6 +310,8 @@ public class SecurityService implements ISecurityService {
     this.userDirectorySummaryRepository = userDirectorySummaryRepository;
     this.userDirectoryTypeRepository = userDirectoryTypeRepository;
     this.userRepository = userRepository;
+    this.userImportHashingExecutor = userImportHashingExecutor;
+    this.passwordAttemptsExecutor = passwordAttemptsExecutor;
   }
 
   @Override
@@ -193,6 +343,8 @@ public class SecurityService implements ISecurityService {
     }
 
     userDirectory.addMemberToGroup(groupName, memberType, memberName);
+
+    invalidateUserAuthorizations();
   }
 
   @Override
@@ -219,6 +371,8 @@ public class SecurityService implements ISecurityService {
     }
 
     userDirectory.addRoleToGroup(groupName, roleCode);
+
+    invalidateUserAuthorizations();
   }
 
   @Override
@@ -248,6 +402,8 @@ public class SecurityService implements ISecurityService {
       }
 
       tenantRepository.addUserDirectoryToTenant(tenantId, userDirectoryId);
+
+      invalidateUserAuthorizations();
     } catch (TenantNotFoundException | UserDirectoryNotFoundException e) {
       throw e;
     } catch (Throwable e) {
@@ -261,6 +417,11 @@ public class SecurityService implements ISecurityService {
     }
   }
 
+  @Override
+  public void addUserAuthorizationChangeListener(UserAuthorizationChangeListener listener) {
+    userAuthorizationChangeListeners.add(listener);
+  }
+
   @Override
   @Transactional
   public void addUserToGroup(UUID userDirectoryId, String groupName, String username)
@@ -285,6 +446,8 @@ public class SecurityService implements ISecurityService {
     }
 
     userDirectory.addUserToGroup(groupName, username);
+
+    invalidateUserAuthorizations();
   }
 
   @Override
@@ -335,47 +498,23 @@ public class SecurityService implements ISecurityService {
     }
 
     try {
-      // First check if this is an internal user and if so determine the user directory ID
-      Optional<UUID> internalUserDirectoryIdOptional = getInternalUserDirectoryIdForUser(username);
+      Optional<UUID> userDirectoryIdOptional = resolveUserDirectoryIdForUser(username);
 
-      if (internalUserDirectoryIdOptional.isPresent()) {
-        UUID internalUserDirectoryId = internalUserDirectoryIdOptional.get();
+      if (userDirectoryIdOptional.isEmpty()) {
+        throw new UserNotFoundException(username);
+      }
 
-        IUserDirectory internalUserDirectory = userDirectories.get(internalUserDirectoryId);
+      UUID userDirectoryId = userDirectoryIdOptional.get();
 
-        if (internalUserDirectory == null) {
-          throw new ServiceUnavailableException(
-              "The user directory ID ("
-                  + internalUserDirectoryId
-                  + ") for the internal user ("
-                  + username
-                  + ") is invalid");
-        } else {
-          internalUserDirectory.authenticate(username, password);
-
-          return internalUserDirectoryId;
-        }
-      } else {
-        /*
-         * Check all of the "external" user directories to see if one of them can authenticate this
-         * user.
-         */
-        for (UUID userDirectoryId : userDirectories.keySet()) {
-          IUserDirectory userDirectory = userDirectories.get(userDirectoryId);
-
-          if (userDirectory != null) {
-            if (!(userDirectory instanceof InternalUserDirectory)) {
-              if (userDirectory.isExistingUser(username)) {
-                userDirectory.authenticate(username, password);
-
-                return userDirectoryId;
-              }
-            }
-          }
-        }
+      try {
+        getUserDirectoryForUser(userDirectoryId, username).authenticate(username, password);
+      } catch (UserNotFoundException e) {
+        userDirectoryIdCache.evict(username);
 
-        throw new UserNotFoundException(username);
+        throw e;
       }
+
+      return userDirectoryId;
     } catch (AuthenticationFailedException
         | UserNotFoundException
         | UserLockedException
@@ -387,6 +526,86 @@ public class SecurityService implements ISecurityService {
     }
   }
 
+  @Override
+  public CompletableFuture<UUID> authenticateAsync(String username, String password)
+      throws InvalidArgumentException, AuthenticationOverloadedException {
+    if (!StringUtils.hasText(username)) {
+      throw new InvalidArgumentException("username");
+    }
+
+    if (!StringUtils.hasText(password)) {
+      throw new InvalidArgumentException("password");
+    }
+
+    /*
+     * Resolve the user directory for the user and retrieve the user on the calling thread, so that
+     * only the CPU-intensive password check is performed using the password hashing executor.
+     */
+    InternalUserDirectory internalUserDirectory;
+
+    User user;
+
+    try {
+      Optional<UUID> userDirectoryIdOptional = resolveUserDirectoryIdForUser(username);
+
+      if (userDirectoryIdOptional.isEmpty()) {
+        throw new UserNotFoundException(username);
+      }
+
+      UUID userDirectoryId = userDirectoryIdOptional.get();
+
+      IUserDirectory userDirectory = getUserDirectoryForUser(userDirectoryId, username);
+
+      try {
+        if (!(userDirectory instanceof InternalUserDirectory)) {
+          // External user directories, e.g. LDAP, check the password remotely
+          userDirectory.authenticate(username, password);
+
+          return CompletableFuture.completedFuture(userDirectoryId);
+        }
+
+        internalUserDirectory = (InternalUserDirectory) userDirectory;
+
+        user = internalUserDirectory.getUserForAuthentication(username);
+      } catch (UserNotFoundException e) {
+        userDirectoryIdCache.evict(username);
+
+        throw e;
+      }
+    } catch (AuthenticationFailedException
+        | UserNotFoundException
+        | UserLockedException
+        | ExpiredPasswordException e) {
+      return CompletableFuture.failedFuture(e);
+    } catch (Throwable e) {
+      return CompletableFuture.failedFuture(
+          new ServiceUnavailableException("Failed to authenticate the user (" + username + ")", e));
+    }
+
+    CompletableFuture<Boolean> passwordValidFuture;
+
+    try {
+      passwordValidFuture =
+          passwordHashingExecutor.submit(
+              () -> internalUserDirectory.isPasswordValid(user, password));
+    } catch (RejectedExecutionException e) {
+      throw new AuthenticationOverloadedException(username);
+    }
+
+    /*
+     * Record a failed password attempt, which updates the database, using the password attempts
+     * executor rather than the password hashing thread.
+     */
+    return passwordValidFuture.thenCompose(
+        passwordValid ->
+            passwordValid
+                ? CompletableFuture.completedFuture(
+                    completeAuthentication(internalUserDirectory, user, true))
+                : CompletableFuture.supplyAsync(
+                    () -> completeAuthentication(internalUserDirectory, user, false),
+                    passwordAttemptsExecutor));
+  }
+
   @Override
   @Transactional
   public UUID changePassword(String username, String password, String newPassword)
@@ -405,50 +624,21 @@ public class SecurityService implements ISecurityService {
     }
 
     try {
-      // First check if this is an internal user and if so determine the user directory ID
-      Optional<UUID> internalUserDirectoryIdOptional = getInternalUserDirectoryIdForUser(username);
-
-      if (internalUserDirectoryIdOptional.isPresent()) {
-        UUID internalUserDirectoryId = internalUserDirectoryIdOptional.get();
-
-        IUserDirectory internalUserDirectory = userDirectories.get(internalUserDirectoryId);
-
-        if (internalUserDirectory == null) {
-          throw new ServiceUnavailableException(
-              "The user directory ID ("
-                  + internalUserDirectoryId
-                  + ") for the internal user ("
-                  + username
-                  + ") is invalid");
-        } else {
-          internalUserDirectory.changePassword(username, password, newPassword);
-
-          return internalUserDirectoryId;
-        }
-      } else {
-        /*
-         * Check all of the "external" user directories to see if one of them can change the
-         * password for this user.
-         */
-        for (UUID userDirectoryId : userDirectories.keySet()) {
-          IUserDirectory userDirectory = userDirectories.get(userDirectoryId);
-
-          if (userDirectory != null) {
-            if (!(userDirectory instanceof InternalUserDirectory)) {
-              if (userDirectory.isExistingUser(username)) {
-                userDirectory.changePassword(username, password, newPassword);
-
-                return userDirectoryId;
-              }
-            }
-          }
-        }
+      Optional<UUID> userDirectoryIdOptional = resolveUserDirectoryIdForUser(username);
 
+      if (userDirectoryIdOptional.isEmpty()) {
         throw new AuthenticationFailedException(
             "Authentication failed while attempting to change the password for the user ("
                 + username
                 + ")");
       }
+
+      UUID userDirectoryId = userDirectoryIdOptional.get();
+
+      getUserDirectoryForUser(userDirectoryId, username)
+          .changePassword(username, password, newPassword);
+
+      return userDirectoryId;
     } catch (AuthenticationFailedException | UserLockedException | ExistingPasswordException e) {
       throw e;
     } catch (Throwable e) {
@@ -550,7 +740,11 @@ public class SecurityService implements ISecurityService {
       throw new DuplicateUserException(user.getUsername());
     }
 
-    userDirectory.createUser(user, expiredPassword, userLocked);
+    try {
+      userDirectory.createUser(user, expiredPassword, userLocked);
+    } finally {
+      evictUserDirectoryId(user.getUsername());
+    }
   }
 
   @Override
@@ -599,6 +793,8 @@ public class SecurityService implements ISecurityService {
       }
 
       functionRepository.deleteById(functionCode);
+
+      invalidateUserAuthorizations();
     } catch (FunctionNotFoundException e) {
       throw e;
     } catch (Throwable e) {
@@ -627,6 +823,8 @@ public class SecurityService implements ISecurityService {
     }
 
     userDirectory.deleteGroup(groupName);
+
+    invalidateUserAuthorizations();
   }
 
   @Override
@@ -643,6 +841,8 @@ public class SecurityService implements ISecurityService {
       }
 
       tenantRepository.deleteById(tenantId);
+
+      invalidateUserAuthorizations();
     } catch (TenantNotFoundException e) {
       throw e;
     } catch (Throwable e) {
@@ -669,7 +869,14 @@ public class SecurityService implements ISecurityService {
       throw new UserDirectoryNotFoundException(userDirectoryId);
     }
 
-    userDirectory.deleteUser(username);
+    try {
+      userDirectory.deleteUser(username);
+    } finally {
+      evictUserDirectoryId(username);
+      userAuthorizationCache.evict(username);
+
+      userAuthorizationChanged(username);
+    }
   }
 
   @Override
@@ -703,7 +910,7 @@ public class SecurityService implements ISecurityService {
   @Override
   public List<User> findUsers(UUID userDirectoryId, List<UserAttribute> userAttributes)
       throws InvalidArgumentException, UserDirectoryNotFoundException, InvalidAttributeException,
-          ServiceUnavailableException {
+          TooManyMatchingUsersException, ServiceUnavailableException {
     if (userDirectoryId == null) {
       throw new InvalidArgumentException("userDirectoryId");
     }
@@ -1212,6 +1419,65 @@ public class SecurityService implements ISecurityService {
     return userDirectory.getUser(username);
   }
 
+  @Override
+  public UserAuthorization getUserAuthorization(String username)
+      throws InvalidArgumentException, UserNotFoundException, ServiceUnavailableException {
+    if (!StringUtils.hasText(username)) {
+      throw new InvalidArgumentException("username");
+    }
+
+    UserAuthorization userAuthorization = userAuthorizationCache.get(username);
+
+    if (userAuthorization != null) {
+      return userAuthorization;
+    }
+
+    try {
+      long version = userAuthorizationCache.getVersion();
+
+      Optional<UUID> userDirectoryIdOptional = resolveUserDirectoryIdForUser(username);
+
+      if (userDirectoryIdOptional.isEmpty()) {
+        throw new UserNotFoundException(username);
+      }
+
+      UUID userDirectoryId = userDirectoryIdOptional.get();
+
+      IUserDirectory userDirectory = getUserDirectoryForUser(userDirectoryId, username);
+
+      // Retrieve the list of IDs for the tenants the user is associated with
+      List<UUID> tenantIds = userDirectoryRepository.getTenantIdsById(userDirectoryId);
+
+      /*
+       * Retrieve the list of IDs for the user directories the user is associated with as a result
+       * of being associated with one or more tenants.
+       */
+      List<UUID> userDirectoryIdsForTenants = new ArrayList<>();
+
+      for (UUID tenantId : tenantIds) {
+        userDirectoryIdsForTenants.addAll(tenantRepository.getUserDirectoryIdsById(tenantId));
+      }
+
+      userAuthorization =
+          new UserAuthorization(
+              userDirectoryId,
+              username,
+              userDirectory.getRoleCodesForUser(username),
+              userDirectory.getFunctionCodesForUser(username),
+              tenantIds,
+              userDirectoryIdsForTenants);
+
+      userAuthorizationCache.put(version, userAuthorization);
+
+      return userAuthorization;
+    } catch (UserNotFoundException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to retrieve the effective authorization for the user (" + username + ")", e);
+    }
+  }
+
   @Override
   public List<UserDirectory> getUserDirectories() throws ServiceUnavailableException {
     try {
@@ -1339,30 +1605,7 @@ public class SecurityService implements ISecurityService {
     }
 
     try {
-      // First check if this is an internal user and if so determine the user directory ID
-      Optional<UUID> internalUserDirectoryIdOptional = getInternalUserDirectoryIdForUser(username);
-
-      if (internalUserDirectoryIdOptional.isPresent()) {
-        return internalUserDirectoryIdOptional;
-      } else {
-        /*
-         * Check all of the "external" user directories to see if the user is associated with one
-         * of them.
-         */
-        for (UUID userDirectoryId : userDirectories.keySet()) {
-          IUserDirectory userDirectory = userDirectories.get(userDirectoryId);
-
-          if (userDirectory != null) {
-            if (!(userDirectory instanceof InternalUserDirectory)) {
-              if (userDirectory.isExistingUser(username)) {
-                return Optional.of(userDirectoryId);
-              }
-            }
-          }
-        }
-
-        return Optional.empty();
-      }
+      return resolveUserDirectoryIdForUser(username);
     } catch (Throwable e) {
       throw new ServiceUnavailableException(
           "Failed to retrieve the user directory ID for the user (" + username + ")", e);
@@ -1655,10 +1898,123 @@ public class SecurityService implements ISecurityService {
     return userDirectory.getUsers(filter, sortBy, sortDirection, pageIndex, pageSize);
   }
 
+  @Override
+  public Users getUsers(
+      UUID userDirectoryId,
+      String filter,
+      UserSortBy sortBy,
+      SortDirection sortDirection,
+      String cursor,
+      Integer pageSize,
+      boolean includeTotal)
+      throws InvalidArgumentException, UserDirectoryNotFoundException, ServiceUnavailableException {
+    if (userDirectoryId == null) {
+      throw new InvalidArgumentException("userDirectoryId");
+    }
+
+    if (sortBy == null) {
+      sortBy = UserSortBy.NAME;
+    }
+
+    if (sortDirection == null) {
+      sortDirection = SortDirection.ASCENDING;
+    }
+
+    if ((pageSize != null) && (pageSize <= 0)) {
+      throw new InvalidArgumentException("pageSize");
+    }
+
+    IUserDirectory userDirectory = userDirectories.get(userDirectoryId);
+
+    if (userDirectory == null) {
+      throw new UserDirectoryNotFoundException(userDirectoryId);
+    }
+
+    return userDirectory.getUsers(filter, sortBy, sortDirection, cursor, pageSize, includeTotal);
+  }
+
   /** Initialize the Security Service. */
   @PostConstruct
   public void init() {
     try {
+      // Initialize the user directory ID cache
+      Cache distributedUserDirectoryIdCache = null;
+
+      if (userDirectoryIdCacheDistributed) {
+        CacheManager cacheManager =
+            applicationContext.getBeanProvider(CacheManager.class).getIfAvailable();
+
+        if (cacheManager != null) {
+          distributedUserDirectoryIdCache = cacheManager.getCache("userDirectoryIds");
+        }
+
+        if (distributedUserDirectoryIdCache == null) {
+          logger.warn(
+              "The distributed user directory ID cache (userDirectoryIds) is not available, a "
+                  + "local cache will be used instead");
+        }
+      }
+
+      userDirectoryIdCache =
+          (distributedUserDirectoryIdCache != null)
+              ? new UserDirectoryIdCache(
+                  distributedUserDirectoryIdCache,
+                  userDirectoryIdCacheTimeToLive,
+                  userDirectoryIdCacheNotFoundTimeToLive,
+                  userDirectoryIdCacheMaxNotFoundEntries)
+              : new UserDirectoryIdCache(
+                  userDirectoryIdCacheMaxEntries,
+                  userDirectoryIdCacheTimeToLive,
+                  userDirectoryIdCacheNotFoundTimeToLive,
+                  userDirectoryIdCacheMaxNotFoundEntries);
+
+      // Initialize the effective authorization snapshot cache
+      userAuthorizationCache =
+          new UserAuthorizationCache(
+              userAuthorizationCacheTimeToLive, userAuthorizationCacheMaxEntries);
+
+      // Initialize the executor used to check the external user directories for a user
+      CustomizableThreadFactory threadFactory =
+          new CustomizableThreadFactory("security-user-directory-probe-");
+      threadFactory.setDaemon(true);
+
+      ThreadPoolExecutor threadPoolExecutor =
+          new ThreadPoolExecutor(
+              userDirectoryProbeThreads,
+              userDirectoryProbeThreads,
+              1,
+              TimeUnit.MINUTES,
+              new LinkedBlockingQueue<>(userDirectoryProbeQueueSize),
+              threadFactory,
+              (runnable, executor) -> {
+                // Perform the check on the calling thread if the queue is full
+                if (executor.isShutdown()) {
+                  throw new RejectedExecutionException(
+                      "The executor used to check the external user directories has been shut "
+                          + "down");
+                }
+
+                runnable.run();
+              });
+      threadPoolExecutor.allowCoreThreadTimeOut(true);
+
+      userDirectoryProbeExecutor = threadPoolExecutor;
+
+      // Initialize the executor used to close the previous instances of reloaded user directories
+      CustomizableThreadFactory closeThreadFactory =
+          new CustomizableThreadFactory("security-user-directory-close-");
+      closeThreadFactory.setDaemon(true);
+
+      userDirectoryCloseExecutor = Executors.newSingleThreadScheduledExecutor(closeThreadFactory);
+
+      // Initialize the executor used to perform password hashing operations asynchronously
+      passwordHashingExecutor =
+          new PasswordHashingExecutor(
+              (passwordHashingThreads > 0)
+                  ? passwordHashingThreads
+                  : Runtime.getRuntime().availableProcessors(),
+              passwordHashingQueueSize);
+
       // Load the default password reset mail template
       if (!mailService.mailTemplateExists(PASSWORD_RESET_MAIL_TEMPLATE_ID)) {
         byte[] passwordResetMailTemplate =
@@ -1681,6 +2037,98 @@ public class SecurityService implements ISecurityService {
     }
   }
 
+  /** Shutdown the Security Service. */
+  @PreDestroy
+  public void shutdown() {
+    if (userDirectoryProbeExecutor != null) {
+      userDirectoryProbeExecutor.shutdownNow();
+    }
+
+    if (userDirectoryCloseExecutor != null) {
+      userDirectoryCloseExecutor.shutdownNow();
+
+      // Close the previous instances of reloaded user directories that are still waiting to close
+      for (IUserDirectory userDirectory : closingUserDirectories) {
+        closeUserDirectory(userDirectory);
+      }
+    }
+
+    if (passwordHashingExecutor != null) {
+      passwordHashingExecutor.close();
+    }
+  }
+
+  @Override
+  public UserImportResult importUsers(
+      UUID userDirectoryId,
+      UserImportFormat format,
+      InputStream data,
+      boolean expiredPassword,
+      boolean userLocked)
+      throws InvalidArgumentException, UserDirectoryNotFoundException, ServiceUnavailableException {
+    if (userDirectoryId == null) {
+      throw new InvalidArgumentException("userDirectoryId");
+    }
+
+    if (format == null) {
+      throw new InvalidArgumentException("format");
+    }
+
+    if (data == null) {
+      throw new InvalidArgumentException("data");
+    }
+
+    IUserDirectory userDirectory = userDirectories.get(userDirectoryId);
+
+    if (userDirectory == null) {
+      throw new UserDirectoryNotFoundException(userDirectoryId);
+    }
+
+    if (!userDirectory.getCapabilities().getSupportsUserAdministration()) {
+      throw new ServiceUnavailableException(
+          "The user directory (" + userDirectoryId + ") does not support user administration");
+    }
+
+    UserImporter userImporter =
+        new UserImporter(
+            dataSource,
+            transactionTemplate,
+            validator,
+            userImportHashingExecutor,
+            userImportBatchSize,
+            userImportMaxErrors,
+            expiredPassword,
+            userLocked);
+
+    try (UserImportReader reader = UserImportReader.open(format, data)) {
+      UserImportResult result;
+
+      if (userDirectory instanceof InternalUserDirectory) {
+        result =
+            userImporter.importUsers(
+                (InternalUserDirectory) userDirectory,
+                reader,
+                this::findExternalUserDirectoryIdForUser);
+      } else {
+        result =
+            userImporter.importUsers(
+                userDirectoryId, userDirectory, reader, this::findExternalUserDirectoryIdForUser);
+      }
+
+      return result;
+    } catch (InvalidArgumentException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to import the users for the user directory (" + userDirectoryId + ")", e);
+    } finally {
+      // Discard any cached "not found" entries for the imported users
+      userDirectoryIdCache.clear();
+
+      invalidateUserAuthorizations();
+    }
+  }
+
   @Override
   @Transactional
   public void initiatePasswordReset(String username, String resetPasswordUrl, boolean sendEmail)
@@ -1869,7 +2317,39 @@ public class SecurityService implements ISecurityService {
         }
       }
 
+      Map<UUID, IUserDirectory> previousUserDirectories = this.userDirectories;
+
       this.userDirectories = reloadedUserDirectories;
+
+      userDirectoryIdCache.clear();
+
+      invalidateUserAuthorizations();
+
+      /*
+       * Release any resources, e.g. pooled connections, held by the previous user directories once
+       * the grace period has elapsed, since operations that started before the reload may still be
+       * using them.
+       */
+      for (IUserDirectory previousUserDirectory : previousUserDirectories.values()) {
+        if (previousUserDirectory instanceof Closeable) {
+          closingUserDirectories.add(previousUserDirectory);
+
+          try {
+            userDirectoryCloseExecutor.schedule(
+                () -> {
+                  if (closingUserDirectories.remove(previousUserDirectory)) {
+                    closeUserDirectory(previousUserDirectory);
+                  }
+                },
+                userDirectoryCloseGracePeriod,
+                TimeUnit.MILLISECONDS);
+          } catch (Throwable e) {
+            if (closingUserDirectories.remove(previousUserDirectory)) {
+              closeUserDirectory(previousUserDirectory);
+            }
+          }
+        }
+      }
     } catch (Throwable e) {
       throw new ServiceUnavailableException("Failed to reload the user directories", e);
     }
@@ -1904,6 +2384,8 @@ public class SecurityService implements ISecurityService {
     }
 
     userDirectory.removeMemberFromGroup(groupName, memberType, memberName);
+
+    invalidateUserAuthorizations();
   }
 
   @Override
@@ -1930,6 +2412,8 @@ public class SecurityService implements ISecurityService {
     }
 
     userDirectory.removeRoleFromGroup(groupName, roleCode);
+
+    invalidateUserAuthorizations();
   }
 
   @Override
@@ -1955,6 +2439,8 @@ public class SecurityService implements ISecurityService {
       }
 
       tenantRepository.removeUserDirectoryFromTenant(tenantId, userDirectoryId);
+
+      invalidateUserAuthorizations();
     } catch (TenantNotFoundException | TenantUserDirectoryNotFoundException e) {
       throw e;
     } catch (Throwable e) {
@@ -1992,6 +2478,8 @@ public class SecurityService implements ISecurityService {
     }
 
     userDirectory.removeUserFromGroup(groupName, username);
+
+    invalidateUserAuthorizations();
   }
 
   @Override
@@ -2120,6 +2608,8 @@ public class SecurityService implements ISecurityService {
     }
 
     userDirectory.updateUser(user, expirePassword, lockUser);
+
+    userAuthorizationChanged(user.getUsername());
   }
 
   @Override
@@ -2144,6 +2634,156 @@ public class SecurityService implements ISecurityService {
     }
   }
 
+  /**
+   * Close the previous instance of a reloaded user directory.
+   *
+   * @param userDirectory the previous instance of the reloaded user directory
+   */
+  private void closeUserDirectory(IUserDirectory userDirectory) {
+    try {
+      ((Closeable) userDirectory).close();
+    } catch (Throwable e) {
+      logger.warn("Failed to close the previous instance of a reloaded user directory", e);
+    }
+  }
+
+  /**
+   * Complete the asynchronous authentication of a user in an internal user directory once their
+   * password has been checked.
+   *
+   * @param internalUserDirectory the internal user directory
+   * @param user the user
+   * @param passwordValid was the password being used to authenticate valid
+   * @return the ID for the internal user directory
+   * @throws CompletionException if the authentication failed
+   */
+  private UUID completeAuthentication(
+      InternalUserDirectory internalUserDirectory, User user, boolean passwordValid) {
+    // A valid password does not update the database, so no transaction is required
+    if (passwordValid) {
+      try {
+        internalUserDirectory.completeAuthentication(user, true);
+
+        return internalUserDirectory.getUserDirectoryId();
+      } catch (Exception e) {
+        throw new CompletionException(e);
+      }
+    }
+
+    /*
+     * The checked exceptions are returned rather than thrown so that, as for the synchronous
+     * method, they do not roll back the transaction, e.g. the update to the number of failed
+     * password attempts for the user.
+     */
+    Object result =
+        transactionTemplate.execute(
+            status -> {
+              try {
+                internalUserDirectory.completeAuthentication(user, passwordValid);
+
+                return internalUserDirectory.getUserDirectoryId();
+              } catch (Exception e) {
+                return e;
+              }
+            });
+
+    if (result instanceof Exception) {
+      throw new CompletionException((Exception) result);
+    }
+
+    return (UUID) result;
+  }
+
+  /**
+   * Evict the cached user directory ID for the user.
+   *
+   * <p>If a transaction is active, the cached user directory ID is evicted again once the
+   * transaction completes, so that a user directory ID resolved by a concurrent operation from the
+   * data before the commit, or the rollback, is not retained.
+   *
+   * @param username the username for the user
+   */
+  private void evictUserDirectoryId(String username) {
+    userDirectoryIdCache.evict(username);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              userDirectoryIdCache.evict(username);
+            }
+          });
+    }
+  }
+
+  /**
+   * Check the external user directories, in parallel, to find the user directory the user with the
+   * specified username is associated with.
+   *
+   * <p>If the user exists in more than one external user directory, the first user directory in
+   * iteration order is returned, which matches checking the user directories sequentially.
+   *
+   * @param username the username for the user
+   * @return an Optional containing the ID for the external user directory the user is associated
+   *     with or an empty Optional if the user could not be found
+   * @throws ServiceUnavailableException if the external user directories could not be checked
+   */
+  private Optional<UUID> findExternalUserDirectoryIdForUser(String username)
+      throws ServiceUnavailableException {
+    Map<UUID, IUserDirectory> externalUserDirectories = new LinkedHashMap<>();
+
+    for (Map.Entry<UUID, IUserDirectory> userDirectoryEntry : userDirectories.entrySet()) {
+      if (!(userDirectoryEntry.getValue() instanceof InternalUserDirectory)) {
+        externalUserDirectories.put(userDirectoryEntry.getKey(), userDirectoryEntry.getValue());
+      }
+    }
+
+    List<UUID> externalUserDirectoryIds = new ArrayList<>(externalUserDirectories.keySet());
+    List<Future<Boolean>> probes = new ArrayList<>();
+
+    try {
+      if (externalUserDirectoryIds.size() == 1) {
+        UUID userDirectoryId = externalUserDirectoryIds.get(0);
+
+        return externalUserDirectories.get(userDirectoryId).isExistingUser(username)
+            ? Optional.of(userDirectoryId)
+            : Optional.empty();
+      }
+
+      for (IUserDirectory userDirectory : externalUserDirectories.values()) {
+        probes.add(userDirectoryProbeExecutor.submit(() -> userDirectory.isExistingUser(username)));
+      }
+
+      for (int i = 0; i < probes.size(); i++) {
+        if (probes.get(i).get()) {
+          return Optional.of(externalUserDirectoryIds.get(i));
+        }
+      }
+
+      return Optional.empty();
+    } catch (ExecutionException e) {
+      throw new ServiceUnavailableException(
+          "Failed to check the external user directories for the user (" + username + ")",
+          e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+
+      throw new ServiceUnavailableException(
+          "Interrupted while checking the external user directories for the user ("
+              + username
+              + ")",
+          e);
+    } catch (Throwable e) {
+      throw new ServiceUnavailableException(
+          "Failed to check the external user directories for the user (" + username + ")", e);
+    } finally {
+      for (Future<Boolean> probe : probes) {
+        probe.cancel(true);
+      }
+    }
+  }
+
   /**
    * Returns the ID for the internal user directory the internal user with the specified username is
    * associated with.
@@ -2168,6 +2808,137 @@ public class SecurityService implements ISecurityService {
     }
   }
 
+  /**
+   * Returns the user directory with the specified ID that the user is associated with.
+   *
+   * @param userDirectoryId the ID for the user directory
+   * @param username the username for the user
+   * @return the user directory with the specified ID
+   * @throws ServiceUnavailableException if the user directory is not loaded
+   */
+  private IUserDirectory getUserDirectoryForUser(UUID userDirectoryId, String username)
+      throws ServiceUnavailableException {
+    IUserDirectory userDirectory = userDirectories.get(userDirectoryId);
+
+    if (userDirectory == null) {
+      throw new ServiceUnavailableException(
+          "The user directory ID ("
+              + userDirectoryId
+              + ") for the user ("
+              + username
+              + ") is invalid");
+    }
+
+    return userDirectory;
+  }
+
+  /**
+   * Resolve the ID for the user directory the user with the specified username is associated with.
+   *
+   * <p>The user directory ID cache is checked first. On a cache miss the internal user directories
+   * are checked, followed by the external user directories in parallel, and the result, including a
+   * user that could not be found, is cached unless the cached entries were evicted while the user
+   * directory ID was being resolved.
+   *
+   * @param username the username for the user
+   * @return an Optional containing the ID for the user directory the user is associated with or an
+   *     empty Optional if the user could not be found
+   * @throws ServiceUnavailableException if the user directory ID could not be resolved
+   */
+  private Optional<UUID> resolveUserDirectoryIdForUser(String username)
+      throws ServiceUnavailableException {
+    Optional<UUID> cachedUserDirectoryIdOptional = userDirectoryIdCache.get(username);
+
+    // Ignore a cached user directory ID for a user directory that is no longer loaded
+    if ((cachedUserDirectoryIdOptional != null)
+        && (cachedUserDirectoryIdOptional.isEmpty()
+            || userDirectories.containsKey(cachedUserDirectoryIdOptional.get()))) {
+      return cachedUserDirectoryIdOptional;
+    }
+
+    long userDirectoryIdCacheVersion = userDirectoryIdCache.getVersion();
+
+    // First check if this is an internal user and if so determine the user directory ID
+    Optional<UUID> userDirectoryIdOptional = getInternalUserDirectoryIdForUser(username);
+
+    if (userDirectoryIdOptional.isEmpty()) {
+      // Check all of the "external" user directories to see if the user is associated with one
+      userDirectoryIdOptional = findExternalUserDirectoryIdForUser(username);
+    }
+
+    if (userDirectoryIdOptional.isPresent()) {
+      userDirectoryIdCache.put(
+          userDirectoryIdCacheVersion, username, userDirectoryIdOptional.get());
+    } else {
+      userDirectoryIdCache.putNotFound(userDirectoryIdCacheVersion, username);
+    }
+
+    return userDirectoryIdOptional;
+  }
+
+  /**
+   * Invalidate the cached effective authorization snapshots for all users.
+   *
+   * <p>If a transaction is active, the snapshots are invalidated again once the transaction
+   * commits, so that snapshots computed from the data before the commit are not retained.
+   */
+  private void invalidateUserAuthorizations() {
+    if (userAuthorizationCache == null) {
+      return;
+    }
+
+    userAuthorizationCache.invalidate();
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              userAuthorizationCache.invalidate();
+            }
+          });
+    }
+
+    userAuthorizationChanged(null);
+  }
+
+  /**
+   * Notify the user authorization change listeners that the effective authorization or details for
+   * a user, or for all users, may have changed.
+   *
+   * <p>If a transaction is active, the listeners are notified again once the transaction completes.
+   *
+   * @param username the username for the user or <b>null</b> for all users
+   */
+  private void userAuthorizationChanged(String username) {
+    if (userAuthorizationChangeListeners.isEmpty()) {
+      return;
+    }
+
+    notifyUserAuthorizationChangeListeners(username);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              notifyUserAuthorizationChangeListeners(username);
+            }
+          });
+    }
+  }
+
+  private void notifyUserAuthorizationChangeListeners(String username) {
+    for (UserAuthorizationChangeListener listener : userAuthorizationChangeListeners) {
+      try {
+        listener.userAuthorizationChanged(username);
+      } catch (Throwable e) {
+        logger.error(
+            "Failed to notify the user authorization change listener (" + listener + ")", e);
+      }
+    }
+  }
+
   /**
    * Checks whether the specified value is <b>null</b> or blank.
    *
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.security;
+
+import digital.inception.core.service.Problem;
+import digital.inception.core.service.ServiceException;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.ws.WebFault;
+
+/**
+ * A <b>TooManyMatchingUsersException</b> is thrown to indicate that a security operation failed
+ * because more users matched the user attribute criteria than the maximum number of filtered users
+ * that can be returned by the user directory.
+ *
+ * <p>This is a checked exception to prevent the automatic rollback of the current transaction.
+ *
+ * @author Marcus Portmann
+ */
+@Problem(
+    type = "http://inception.digital/problems/security/too-many-matching-users",
+    title = "Too many users match the user attribute criteria.",
+    status = 400)
+@WebFault(
+    name = "TooManyMatchingUsersException",
+    targetNamespace = "http://inception.digital/security",
+    faultBean = "digital.inception.core.service.ServiceError")
+@XmlAccessorType(XmlAccessType.PROPERTY)
+@SuppressWarnings({"unused", "WeakerAccess"})
+public class TooManyMatchingUsersException extends ServiceException {
+
+  private static final long serialVersionUID = 1000000;
+
+  /**
+   * Constructs a new <b>TooManyMatchingUsersException</b>.
+   *
+   * @param maxFilteredUsers the maximum number of filtered users that can be returned by the user
+   *     directory
+   */
+  public TooManyMatchingUsersException(int maxFilteredUsers) {
+    super(
+        "More than "
+            + maxFilteredUsers
+            + " users match the user attribute criteria, specify more restrictive criteria");
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.security;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The <b>UserAuthorization</b> class holds an immutable snapshot of the effective authorization
+ * for a user, i.e. the user directory the user is associated with and the roles, functions,
+ * tenants and tenant user directories the user has access to.
+ *
+ * @author Marcus Portmann
+ */
+public final class UserAuthorization implements Serializable {
+
+  private static final long serialVersionUID = 1000000;
+
+  /** The codes for the functions assigned to the user. */
+  private final List<String> functionCodes;
+
+  /** The codes for the roles assigned to the user. */
+  private final List<String> roleCodes;
+
+  /** The IDs for the tenants the user is associated with. */
+  private final List<UUID> tenantIds;
+
+  /** The ID for the user directory the user is associated with. */
+  private final UUID userDirectoryId;
+
+  /**
+   * The IDs for the user directories the user is associated with as a result of being associated
+   * with one or more tenants.
+   */
+  private final List<UUID> userDirectoryIdsForTenants;
+
+  /** The username for the user. */
+  private final String username;
+
+  /**
+   * Constructs a new <b>UserAuthorization</b>.
+   *
+   * @param userDirectoryId the ID for the user directory the user is associated with
+   * @param username the username for the user
+   * @param roleCodes the codes for the roles assigned to the user
+   * @param functionCodes the codes for the functions assigned to the user
+   * @param tenantIds the IDs for the tenants the user is associated with
+   * @param userDirectoryIdsForTenants the IDs for the user directories the user is associated with
+   *     as a result of being associated with one or more tenants
+   */
+  public UserAuthorization(
+      UUID userDirectoryId,
+      String username,
+      List<String> roleCodes,
+      List<String> functionCodes,
+      List<UUID> tenantIds,
+      List<UUID> userDirectoryIdsForTenants) {
+    this.userDirectoryId = userDirectoryId;
+    this.username = username;
+    this.roleCodes = List.copyOf(roleCodes);
+    this.functionCodes = List.copyOf(functionCodes);
+    this.tenantIds = List.copyOf(tenantIds);
+    this.userDirectoryIdsForTenants = List.copyOf(userDirectoryIdsForTenants);
+  }
+
+  /**
+   * Returns the codes for the functions assigned to the user.
+   *
+   * @return the codes for the functions assigned to the user
+   */
+  public List<String> getFunctionCodes() {
+    return functionCodes;
+  }
+
+  /**
+   * Returns the codes for the roles assigned to the user.
+   *
+   * @return the codes for the roles assigned to the user
+   */
+  public List<String> getRoleCodes() {
+    return roleCodes;
+  }
+
+  /**
+   * Returns the IDs for the tenants the user is associated with.
+   *
+   * @return the IDs for the tenants the user is associated with
+   */
+  public List<UUID> getTenantIds() {
+    return tenantIds;
+  }
+
+  /**
+   * Returns the ID for the user directory the user is associated with.
+   *
+   * @return the ID for the user directory the user is associated with
+   */
+  public UUID getUserDirectoryId() {
+    return userDirectoryId;
+  }
+
+  /**
+   * Returns the IDs for the user directories the user is associated with as a result of being
+   * associated with one or more tenants.
+   *
+   * @return the IDs for the user directories the user is associated with as a result of being
+   *     associated with one or more tenants
+   */
+  public List<UUID> getUserDirectoryIdsForTenants() {
+    return userDirectoryIdsForTenants;
+  }
+
+  /**
+   * Returns the username for the user.
+   *
+   * @return the username for the user
+   */
+  public String getUsername() {
+    return username;
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.security;
+
+import digital.inception.core.util.ExpiringLRUCache;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The <b>UserAuthorizationCache</b> class caches the effective authorization snapshots for users.
+ *
+ * <p>Each snapshot is tagged with the version of the cache at the time its computation started.
+ * Incrementing the version, which is done whenever groups, roles, functions, memberships or tenant
+ * associations change, invalidates every snapshot computed before the change, including snapshots
+ * that were still being computed when the change was made. Snapshots also expire after a time to
+ * live, which bounds how stale the snapshots for users in external user directories, e.g. LDAP, can
+ * become when they are changed outside the application. The least recently used snapshots are
+ * discarded when the maximum number of snapshots is exceeded.
+ *
+ * @author Marcus Portmann
+ */
+public class UserAuthorizationCache {
+
+  /** The cached effective authorization snapshots keyed by the lowercase username. */
+  private final ExpiringLRUCache<String, Entry> entries;
+
+  /** The number of milliseconds to cache an effective authorization snapshot. */
+  private final long timeToLive;
+
+  /** The current version of the cache. */
+  private final AtomicLong version = new AtomicLong();
+
+  /**
+   * Constructs a new <b>UserAuthorizationCache</b>.
+   *
+   * @param timeToLive the number of milliseconds to cache an effective authorization snapshot
+   * @param maxEntries the maximum number of effective authorization snapshots to cache
+   */
+  public UserAuthorizationCache(long timeToLive, int maxEntries) {
+    this.timeToLive = timeToLive;
+    this.entries = new ExpiringLRUCache<>(maxEntries);
+  }
+
+  private static String key(String username) {
+    return username.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Remove the cached effective authorization snapshot for the user.
+   *
+   * @param username the username for the user
+   */
+  public void evict(String username) {
+    entries.remove(key(username));
+  }
+
+  /**
+   * Retrieve the cached effective authorization snapshot for the user.
+   *
+   * @param username the username for the user
+   * @return the cached effective authorization snapshot for the user or <b>null</b> if there is no
+   *     current snapshot for the user
+   */
+  public UserAuthorization get(String username) {
+    String key = key(username);
+
+    Entry entry = entries.get(key);
+
+    if (entry == null) {
+      return null;
+    }
+
+    if (entry.version != version.get()) {
+      entries.remove(key);
+
+      return null;
+    }
+
+    return entry.userAuthorization;
+  }
+
+  /**
+   * Returns the current version of the cache, which must be retrieved before an effective
+   * authorization snapshot is computed and passed to {@link #put(long, UserAuthorization)}.
+   *
+   * @return the current version of the cache
+   */
+  public long getVersion() {
+    return version.get();
+  }
+
+  /**
+   * Invalidate all the cached effective authorization snapshots by incrementing the version of the
+   * cache.
+   */
+  public void invalidate() {
+    version.incrementAndGet();
+    entries.clear();
+  }
+
+  /**
+   * Cache the effective authorization snapshot for a user.
+   *
+   * <p>The snapshot is discarded if the cache was invalidated after the snapshot was computed.
+   *
+   * @param computedVersion the version of the cache when the computation of the snapshot started
+   * @param userAuthorization the effective authorization snapshot for the user
+   */
+  public void put(long computedVersion, UserAuthorization userAuthorization) {
+    if ((timeToLive <= 0) || (computedVersion != version.get())) {
+      return;
+    }
+
+    entries.put(
+        key(userAuthorization.getUsername()),
+        new Entry(computedVersion, userAuthorization),
+        System.currentTimeMillis() + timeToLive);
+  }
+
+  /** The <b>Entry</b> class holds a cached effective authorization snapshot. */
+  private static final class Entry {
+
+    /** The effective authorization snapshot. */
+    private final UserAuthorization userAuthorization;
+
+    /** The version of the cache when the snapshot was computed. */
+    private final long version;
+
+    private Entry(long version, UserAuthorization userAuthorization) {
+      this.version = version;
+      this.userAuthorization = userAuthorization;
+    }
+  }
+}
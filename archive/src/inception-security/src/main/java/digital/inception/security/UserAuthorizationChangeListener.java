@@ -0,0 +1,39 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package digital.inception.security;
+
+/**
+ * The <b>UserAuthorizationChangeListener</b> interface is implemented by components that cache
+ * information derived from the effective authorization or details for users, e.g. the claims for
+ * OAuth2 tokens, and must discard this information when it changes.
+ *
+ * @author Marcus Portmann
+ */
+@FunctionalInterface
+public interface UserAuthorizationChangeListener {
+
+  /**
+   * Invoked when the effective authorization or details for a user, or for all users, may have
+   * changed.
+   *
+   * <p>This method is invoked when the change is made and again once the surrounding transaction
+   * completes, if there is one, and must not perform any expensive processing.
+   *
+   * @param username the username for the user whose effective authorization or details changed or
+   *     <b>null</b> if the effective authorization for all users may have changed
+   */
+  void userAuthorizationChanged(String username);
+}
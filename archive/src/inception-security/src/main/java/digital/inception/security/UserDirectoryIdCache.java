@@ -0,0 +1,265 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.security;
+
+import digital.inception.core.util.ExpiringLRUCache;
+import java.io.Serializable;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueWrapper;
+
+/**
+ * The <b>UserDirectoryIdCache</b> class caches the IDs for the user directories that users are
+ * associated with, so that the user directories do not need to be searched each time a user is
+ * authenticated or their user directory is looked up.
+ *
+ * <p>The user directory IDs are cached in either a distributed cache or a bounded local cache.
+ * Usernames that could not be found in any user directory are cached separately, in a bounded local
+ * cache, for a short period to limit the cost of repeated lookups for unknown users.
+ *
+ * <p>Each lookup is tagged with the version of the cache at the time the lookup started. Evicting
+ * or clearing entries increments the version, so that the result of a lookup that was still in
+ * progress when a user was created or deleted is discarded instead of being cached. The cached user
+ * directory IDs also expire after a time to live, which bounds how long an entry can remain stale,
+ * e.g. when a user is removed from an external user directory outside the application or when an
+ * entry is cached by another node just before it is evicted.
+ *
+ * @author Marcus Portmann
+ */
+public class UserDirectoryIdCache {
+
+  /**
+   * The distributed cache of user directory IDs keyed by the lowercase username or <b>null</b> if
+   * the local cache is used.
+   */
+  private final Cache cache;
+
+  /**
+   * The local cache of user directory IDs keyed by the lowercase username or <b>null</b> if the
+   * distributed cache is used.
+   */
+  private final ExpiringLRUCache<String, UUID> localCache;
+
+  /** The usernames that could not be found keyed by the lowercase username. */
+  private final ExpiringLRUCache<String, Boolean> notFound;
+
+  /** The number of milliseconds to cache a username that could not be found. */
+  private final long notFoundTimeToLive;
+
+  /** The number of milliseconds to cache a user directory ID. */
+  private final long timeToLive;
+
+  /** The current version of the cache. */
+  private final AtomicLong version = new AtomicLong();
+
+  /**
+   * Constructs a new <b>UserDirectoryIdCache</b> that uses a local cache.
+   *
+   * @param maxEntries the maximum number of user directory IDs to cache
+   * @param timeToLive the number of milliseconds to cache a user directory ID
+   * @param notFoundTimeToLive the number of milliseconds to cache a username that could not be
+   *     found
+   * @param maxNotFoundEntries the maximum number of usernames that could not be found to cache
+   */
+  public UserDirectoryIdCache(
+      int maxEntries, long timeToLive, long notFoundTimeToLive, int maxNotFoundEntries) {
+    this(
+        null,
+        new ExpiringLRUCache<>(maxEntries),
+        timeToLive,
+        notFoundTimeToLive,
+        maxNotFoundEntries);
+  }
+
+  /**
+   * Constructs a new <b>UserDirectoryIdCache</b> that uses a distributed cache.
+   *
+   * @param cache the distributed cache of user directory IDs
+   * @param timeToLive the number of milliseconds to cache a user directory ID
+   * @param notFoundTimeToLive the number of milliseconds to cache a username that could not be
+   *     found
+   * @param maxNotFoundEntries the maximum number of usernames that could not be found to cache
+   */
+  public UserDirectoryIdCache(
+      Cache cache, long timeToLive, long notFoundTimeToLive, int maxNotFoundEntries) {
+    this(cache, null, timeToLive, notFoundTimeToLive, maxNotFoundEntries);
+  }
+
+  private UserDirectoryIdCache(
+      Cache cache,
+      ExpiringLRUCache<String, UUID> localCache,
+      long timeToLive,
+      long notFoundTimeToLive,
+      int maxNotFoundEntries) {
+    this.cache = cache;
+    this.localCache = localCache;
+    this.timeToLive = timeToLive;
+    this.notFoundTimeToLive = notFoundTimeToLive;
+    this.notFound = new ExpiringLRUCache<>(maxNotFoundEntries);
+  }
+
+  private static String key(String username) {
+    return username.toLowerCase(Locale.ROOT);
+  }
+
+  /** Remove all the cached entries. */
+  public void clear() {
+    version.incrementAndGet();
+
+    if (cache != null) {
+      cache.clear();
+    } else {
+      localCache.clear();
+    }
+
+    notFound.clear();
+  }
+
+  /**
+   * Remove the cached entries for the user.
+   *
+   * @param username the username for the user
+   */
+  public void evict(String username) {
+    version.incrementAndGet();
+
+    String key = key(username);
+
+    if (cache != null) {
+      cache.evict(key);
+    } else {
+      localCache.remove(key);
+    }
+
+    notFound.remove(key);
+  }
+
+  /**
+   * Retrieve the cached user directory ID for the user.
+   *
+   * @param username the username for the user
+   * @return <b>null</b> if there is no cached entry for the user, an empty Optional if the user was
+   *     recently not found in any user directory, or an Optional containing the ID for the user
+   *     directory the user is associated with
+   */
+  @SuppressWarnings("OptionalAssignedToNull")
+  public Optional<UUID> get(String username) {
+    String key = key(username);
+
+    UUID userDirectoryId = null;
+
+    if (cache != null) {
+      ValueWrapper valueWrapper = cache.get(key);
+
+      if ((valueWrapper != null) && (valueWrapper.get() instanceof Entry)) {
+        Entry entry = (Entry) valueWrapper.get();
+
+        if (entry.expiry > System.currentTimeMillis()) {
+          userDirectoryId = entry.userDirectoryId;
+        } else {
+          cache.evict(key);
+        }
+      }
+    } else {
+      userDirectoryId = localCache.get(key);
+    }
+
+    if (userDirectoryId != null) {
+      return Optional.of(userDirectoryId);
+    }
+
+    if (notFound.get(key) != null) {
+      return Optional.empty();
+    }
+
+    return null;
+  }
+
+  /**
+   * Returns the current version of the cache, which must be retrieved before a user directory ID is
+   * looked up and passed to {@link #put(long, String, UUID)} or {@link #putNotFound(long, String)}.
+   *
+   * @return the current version of the cache
+   */
+  public long getVersion() {
+    return version.get();
+  }
+
+  /**
+   * Cache the user directory ID for the user.
+   *
+   * <p>The user directory ID is discarded if entries were evicted or cleared after the lookup
+   * started.
+   *
+   * @param lookupVersion the version of the cache when the lookup of the user directory ID started
+   * @param username the username for the user
+   * @param userDirectoryId the ID for the user directory the user is associated with
+   */
+  public void put(long lookupVersion, String username, UUID userDirectoryId) {
+    if ((timeToLive <= 0) || (lookupVersion != version.get())) {
+      return;
+    }
+
+    String key = key(username);
+
+    notFound.remove(key);
+
+    long expiry = System.currentTimeMillis() + timeToLive;
+
+    if (cache != null) {
+      cache.put(key, new Entry(userDirectoryId, expiry));
+    } else {
+      localCache.put(key, userDirectoryId, expiry);
+    }
+  }
+
+  /**
+   * Cache that the user could not be found in any user directory.
+   *
+   * <p>The entry is discarded if entries were evicted or cleared after the lookup started.
+   *
+   * @param lookupVersion the version of the cache when the lookup of the user directory ID started
+   * @param username the username for the user
+   */
+  public void putNotFound(long lookupVersion, String username) {
+    if ((notFoundTimeToLive <= 0) || (lookupVersion != version.get())) {
+      return;
+    }
+
+    notFound.put(key(username), Boolean.TRUE, System.currentTimeMillis() + notFoundTimeToLive);
+  }
+
+  /** The <b>Entry</b> class holds a user directory ID cached in the distributed cache. */
+  private static final class Entry implements Serializable {
+
+    private static final long serialVersionUID = 1000000;
+
+    /** The time, in milliseconds since the epoch, after which the entry expires. */
+    private final long expiry;
+
+    /** The ID for the user directory the user is associated with. */
+    private final UUID userDirectoryId;
+
+    private Entry(UUID userDirectoryId, long expiry) {
+      this.userDirectoryId = userDirectoryId;
+      this.expiry = expiry;
+    }
+  }
+}
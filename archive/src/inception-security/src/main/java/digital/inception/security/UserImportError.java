@@ -0,0 +1,111 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package digital.inception.security;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.Serializable;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * The <b>UserImportError</b> class holds the information for an error that occurred while
+ * importing a row of user data.
+ *
+ * @author Marcus Portmann
+ */
+@Schema(description = "An error that occurred while importing a row of user data")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"row", "username", "message"})
+@XmlRootElement(name = "UserImportError", namespace = "http://inception.digital/security")
+@XmlType(
+    name = "UserImportError",
+    namespace = "http://inception.digital/security",
+    propOrder = {"row", "username", "message"})
+@XmlAccessorType(XmlAccessType.FIELD)
+@SuppressWarnings({"unused"})
+public class UserImportError implements Serializable {
+
+  private static final long serialVersionUID = 1000000;
+
+  /** The error message. */
+  @Schema(description = "The error message", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "Message", required = true)
+  private String message;
+
+  /** The number of the row, excluding any header row, that could not be imported. */
+  @Schema(
+      description = "The number of the row, excluding any header row, that could not be imported",
+      required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "Row", required = true)
+  private long row;
+
+  /** The username for the user associated with the row if it could be determined. */
+  @Schema(description = "The username for the user associated with the row")
+  @JsonProperty
+  @XmlElement(name = "Username")
+  private String username;
+
+  /** Constructs a new <b>UserImportError</b>. */
+  public UserImportError() {}
+
+  /**
+   * Constructs a new <b>UserImportError</b>.
+   *
+   * @param row the number of the row, excluding any header row, that could not be imported
+   * @param username the username for the user associated with the row if it could be determined
+   * @param message the error message
+   */
+  public UserImportError(long row, String username, String message) {
+    this.row = row;
+    this.username = username;
+    this.message = message;
+  }
+
+  /**
+   * Returns the error message.
+   *
+   * @return the error message
+   */
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * Returns the number of the row, excluding any header row, that could not be imported.
+   *
+   * @return the number of the row, excluding any header row, that could not be imported
+   */
+  public long getRow() {
+    return row;
+  }
+
+  /**
+   * Returns the username for the user associated with the row if it could be determined.
+   *
+   * @return the username for the user associated with the row if it could be determined
+   */
+  public String getUsername() {
+    return username;
+  }
+}
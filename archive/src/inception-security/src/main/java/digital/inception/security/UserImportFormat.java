@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package digital.inception.security;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * The <b>UserImportFormat</b> enumeration defines the possible formats for the data used to import
+ * users and their group memberships.
+ *
+ * @author Marcus Portmann
+ */
+@Schema(description = "The user import format")
+@XmlEnum
+@XmlType(name = "UserImportFormat", namespace = "http://inception.digital/security")
+public enum UserImportFormat {
+  /** Comma-separated values with a header row. */
+  @XmlEnumValue("CSV")
+  CSV("csv", "CSV"),
+
+  /** Newline-delimited JSON with one JSON object per user. */
+  @XmlEnumValue("NDJSON")
+  NDJSON("ndjson", "NDJSON");
+
+  private final String code;
+
+  private final String description;
+
+  UserImportFormat(String code, String description) {
+    this.code = code;
+    this.description = description;
+  }
+
+  /**
+   * Returns the user import format given by the specified code value.
+   *
+   * @param code the code for the user import format
+   * @return the user import format given by the specified code value
+   */
+  @JsonCreator
+  public static UserImportFormat fromCode(String code) {
+    switch (code) {
+      case "csv":
+        return UserImportFormat.CSV;
+
+      case "ndjson":
+        return UserImportFormat.NDJSON;
+
+      default:
+        throw new RuntimeException(
+            "Failed to determine the user import format with the invalid code (" + code + ")");
+    }
+  }
+
+  /**
+   * Returns the code value for the user import format.
+   *
+   * @return the code value for the user import format
+   */
+  @JsonValue
+  public String code() {
+    return code;
+  }
+
+  /**
+   * Returns the description for the user import format.
+   *
+   * @return the description for the user import format
+   */
+  public String description() {
+    return description;
+  }
+}
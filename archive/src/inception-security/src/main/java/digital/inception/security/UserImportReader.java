@@ -0,0 +1,472 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import digital.inception.core.service.InvalidArgumentException;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.util.StringUtils;
+
+/**
+ * The <b>UserImportReader</b> class reads the rows of user data, in CSV or NDJSON format, that are
+ * used to import users and their group memberships into a user directory.
+ *
+ * <p>The data is streamed one row at a time so that large imports do not need to be held in
+ * memory. The CSV format requires a header row naming the columns and separates the names of the
+ * groups a user should be added to using semicolons. The NDJSON format uses the same names for the
+ * properties of the JSON object for each user and a JSON array for the groups.
+ *
+ * @author Marcus Portmann
+ */
+final class UserImportReader implements Closeable {
+
+  /** The name of the column or property holding the e-mail address for the user. */
+  static final String EMAIL = "email";
+
+  /** The name of the column or property holding the names of the groups for the user. */
+  static final String GROUPS = "groups";
+
+  /** The separator for the names of the groups for a user in the CSV format. */
+  static final char GROUPS_SEPARATOR = ';';
+
+  /** The name of the column or property holding the mobile number for the user. */
+  static final String MOBILE_NUMBER = "mobileNumber";
+
+  /** The name of the column or property holding the name of the user. */
+  static final String NAME = "name";
+
+  /** The name of the column or property holding the password for the user. */
+  static final String PASSWORD = "password";
+
+  /** The name of the column or property holding the phone number for the user. */
+  static final String PHONE_NUMBER = "phoneNumber";
+
+  /** The name of the column or property holding the preferred name for the user. */
+  static final String PREFERRED_NAME = "preferredName";
+
+  /** The name of the column or property holding the status for the user. */
+  static final String STATUS = "status";
+
+  /** The name of the column or property holding the username for the user. */
+  static final String USERNAME = "username";
+
+  /** The names of the columns and properties, keyed by their lowercase names. */
+  private static final Map<String, String> NAMES = new HashMap<>();
+
+  static {
+    for (String name :
+        List.of(
+            EMAIL,
+            GROUPS,
+            MOBILE_NUMBER,
+            NAME,
+            PASSWORD,
+            PHONE_NUMBER,
+            PREFERRED_NAME,
+            STATUS,
+            USERNAME)) {
+      NAMES.put(name.toLowerCase(Locale.ROOT), name);
+    }
+  }
+
+  /** The names of the CSV columns in the order they appear or <b>null</b> for NDJSON. */
+  private final List<String> columns;
+
+  /** The format for the data. */
+  private final UserImportFormat format;
+
+  /** The Jackson object mapper used to parse NDJSON rows. */
+  private final ObjectMapper objectMapper;
+
+  /** The reader for the data. */
+  private final BufferedReader reader;
+
+  /** The number of the last row that was read, excluding any header row. */
+  private long rowNumber;
+
+  private UserImportReader(UserImportFormat format, BufferedReader reader, List<String> columns) {
+    this.format = format;
+    this.reader = reader;
+    this.columns = columns;
+    this.objectMapper = (format == UserImportFormat.NDJSON) ? new ObjectMapper() : null;
+  }
+
+  /**
+   * Open a reader for the data.
+   *
+   * @param format the format for the data
+   * @param data the input stream for the UTF-8 encoded data
+   * @return the reader for the data
+   * @throws InvalidArgumentException if the CSV header row is missing or invalid
+   * @throws IOException if the data could not be read
+   */
+  static UserImportReader open(UserImportFormat format, InputStream data)
+      throws InvalidArgumentException, IOException {
+    BufferedReader reader =
+        new BufferedReader(new InputStreamReader(data, StandardCharsets.UTF_8));
+
+    if (format == UserImportFormat.NDJSON) {
+      return new UserImportReader(format, reader, null);
+    }
+
+    List<String> header = readCsvRecord(reader);
+
+    if (header == null) {
+      throw new InvalidArgumentException("data");
+    }
+
+    List<String> columns = new ArrayList<>();
+
+    for (String column : header) {
+      // Strip the UTF-8 byte order mark written by some spreadsheet applications
+      columns.add(NAMES.get(column.replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT)));
+    }
+
+    if (!columns.contains(USERNAME)) {
+      throw new InvalidArgumentException("data");
+    }
+
+    return new UserImportReader(format, reader, columns);
+  }
+
+  /**
+   * Read a CSV record, which may span multiple lines if it contains quoted values with line
+   * breaks.
+   *
+   * @param reader the reader
+   * @return the values for the record or <b>null</b> if the end of the data has been reached
+   * @throws MalformedRecordException if the record contains an unterminated quoted value
+   * @throws IOException if the record could not be read
+   */
+  static List<String> readCsvRecord(BufferedReader reader) throws IOException {
+    String line = reader.readLine();
+
+    // Skip blank lines between records
+    while ((line != null) && line.isBlank()) {
+      line = reader.readLine();
+    }
+
+    if (line == null) {
+      return null;
+    }
+
+    List<String> values = new ArrayList<>();
+    StringBuilder value = new StringBuilder();
+    boolean quoted = false;
+
+    while (true) {
+      for (int i = 0; i < line.length(); i++) {
+        char c = line.charAt(i);
+
+        if (quoted) {
+          if (c == '"') {
+            if (((i + 1) < line.length()) && (line.charAt(i + 1) == '"')) {
+              value.append('"');
+              i++;
+            } else {
+              quoted = false;
+            }
+          } else {
+            value.append(c);
+          }
+        } else if (c == '"') {
+          quoted = true;
+        } else if (c == ',') {
+          values.add(value.toString());
+          value.setLength(0);
+        } else {
+          value.append(c);
+        }
+      }
+
+      if (!quoted) {
+        break;
+      }
+
+      line = reader.readLine();
+
+      if (line == null) {
+        throw new MalformedRecordException("The row contains an unterminated quoted value");
+      }
+
+      value.append('\n');
+    }
+
+    values.add(value.toString());
+
+    return values;
+  }
+
+  private static List<String> splitGroups(String groups) {
+    if (!StringUtils.hasText(groups)) {
+      return Collections.emptyList();
+    }
+
+    List<String> groupNames = new ArrayList<>();
+
+    for (String groupName :
+        StringUtils.delimitedListToStringArray(groups, String.valueOf(GROUPS_SEPARATOR))) {
+      if (StringUtils.hasText(groupName)) {
+        groupNames.add(groupName.trim());
+      }
+    }
+
+    return groupNames;
+  }
+
+  private static String textValue(JsonNode node, String name) {
+    JsonNode value = node.get(name);
+
+    return ((value == null) || value.isNull()) ? null : value.asText();
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  /**
+   * Read the next row.
+   *
+   * @param userDirectoryId the ID for the user directory the users are being imported into
+   * @return the next row or <b>null</b> if the end of the data has been reached
+   * @throws IOException if the data could not be read
+   */
+  Row next(UUID userDirectoryId) throws IOException {
+    if (format == UserImportFormat.NDJSON) {
+      String line = reader.readLine();
+
+      while ((line != null) && line.isBlank()) {
+        line = reader.readLine();
+      }
+
+      if (line == null) {
+        return null;
+      }
+
+      rowNumber++;
+
+      try {
+        JsonNode node = objectMapper.readTree(line);
+
+        if (!node.isObject()) {
+          return new Row(rowNumber, "The row is not a JSON object");
+        }
+
+        List<String> groupNames = new ArrayList<>();
+
+        JsonNode groupsNode = node.get(GROUPS);
+
+        if ((groupsNode != null) && groupsNode.isArray()) {
+          for (JsonNode groupNode : groupsNode) {
+            if (StringUtils.hasText(groupNode.asText())) {
+              groupNames.add(groupNode.asText().trim());
+            }
+          }
+        } else if ((groupsNode != null) && groupsNode.isTextual()) {
+          groupNames.addAll(splitGroups(groupsNode.asText()));
+        }
+
+        Map<String, String> values = new HashMap<>();
+
+        for (String name : NAMES.values()) {
+          if (!GROUPS.equals(name)) {
+            values.put(name, textValue(node, name));
+          }
+        }
+
+        return new Row(rowNumber, userDirectoryId, values, groupNames);
+      } catch (JsonProcessingException e) {
+        return new Row(rowNumber, "The row is not valid JSON: " + e.getOriginalMessage());
+      }
+    } else {
+      List<String> record;
+
+      try {
+        record = readCsvRecord(reader);
+      } catch (MalformedRecordException e) {
+        return new Row(++rowNumber, e.getMessage());
+      }
+
+      if (record == null) {
+        return null;
+      }
+
+      rowNumber++;
+
+      if (record.size() != columns.size()) {
+        return new Row(
+            rowNumber,
+            "The row has "
+                + record.size()
+                + " values but the header row has "
+                + columns.size()
+                + " columns");
+      }
+
+      Map<String, String> values = new HashMap<>();
+      List<String> groupNames = Collections.emptyList();
+
+      for (int i = 0; i < columns.size(); i++) {
+        String column = columns.get(i);
+
+        if (column == null) {
+          continue;
+        }
+
+        if (GROUPS.equals(column)) {
+          groupNames = splitGroups(record.get(i));
+        } else {
+          values.put(column, StringUtils.hasLength(record.get(i)) ? record.get(i) : null);
+        }
+      }
+
+      return new Row(rowNumber, userDirectoryId, values, groupNames);
+    }
+  }
+
+  /**
+   * The <b>MalformedRecordException</b> exception is thrown to indicate that a CSV record is
+   * malformed.
+   */
+  static final class MalformedRecordException extends IOException {
+
+    private static final long serialVersionUID = 1000000;
+
+    private MalformedRecordException(String message) {
+      super(message);
+    }
+  }
+
+  /**
+   * The <b>Row</b> class holds the user and group memberships read from a row of user data, or the
+   * error if the row could not be parsed.
+   */
+  static final class Row {
+
+    /** The error if the row could not be parsed. */
+    private final String error;
+
+    /** The names of the groups the user should be added to. */
+    private final List<String> groupNames;
+
+    /** The number of the row, excluding any header row. */
+    private final long number;
+
+    /** The user. */
+    private final User user;
+
+    private Row(long number, String error) {
+      this.number = number;
+      this.error = error;
+      this.user = null;
+      this.groupNames = Collections.emptyList();
+    }
+
+    private Row(
+        long number, UUID userDirectoryId, Map<String, String> values, List<String> groupNames) {
+      this.number = number;
+      this.groupNames = groupNames;
+
+      String error = null;
+
+      User user = new User();
+      user.setUserDirectoryId(userDirectoryId);
+      user.setUsername(values.get(USERNAME));
+      user.setName(values.get(NAME));
+      user.setPreferredName(values.get(PREFERRED_NAME));
+      user.setEmail(values.get(EMAIL));
+      user.setMobileNumber(values.get(MOBILE_NUMBER));
+      user.setPhoneNumber(values.get(PHONE_NUMBER));
+      user.setPassword(values.get(PASSWORD));
+
+      String status = values.get(STATUS);
+
+      if (StringUtils.hasText(status)) {
+        try {
+          user.setStatus(UserStatus.fromCode(status.trim().toLowerCase(Locale.ROOT)));
+        } catch (Throwable e) {
+          error = "Invalid status (" + status + ")";
+        }
+      } else {
+        user.setStatus(UserStatus.ACTIVE);
+      }
+
+      this.user = user;
+      this.error = error;
+    }
+
+    /**
+     * Returns the error if the row could not be parsed.
+     *
+     * @return the error if the row could not be parsed or <b>null</b> if the row was parsed
+     */
+    String getError() {
+      return error;
+    }
+
+    /**
+     * Returns the names of the groups the user should be added to.
+     *
+     * @return the names of the groups the user should be added to
+     */
+    List<String> getGroupNames() {
+      return groupNames;
+    }
+
+    /**
+     * Returns the number of the row, excluding any header row.
+     *
+     * @return the number of the row, excluding any header row
+     */
+    long getNumber() {
+      return number;
+    }
+
+    /**
+     * Returns the user.
+     *
+     * @return the user or <b>null</b> if the row could not be parsed
+     */
+    User getUser() {
+      return user;
+    }
+
+    /**
+     * Returns the username for the user if it could be determined.
+     *
+     * @return the username for the user if it could be determined or <b>null</b>
+     */
+    String getUsername() {
+      return (user != null) ? user.getUsername() : null;
+    }
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package digital.inception.security;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * The <b>UserImportResult</b> class holds the results of importing users and their group
+ * memberships into a user directory.
+ *
+ * @author Marcus Portmann
+ */
+@Schema(description = "The results of importing users and their group memberships")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+  "userDirectoryId",
+  "rows",
+  "usersCreated",
+  "usersExisting",
+  "groupMembershipsAdded",
+  "errors",
+  "errorsTruncated"
+})
+@XmlRootElement(name = "UserImportResult", namespace = "http://inception.digital/security")
+@XmlType(
+    name = "UserImportResult",
+    namespace = "http://inception.digital/security",
+    propOrder = {
+      "userDirectoryId",
+      "rows",
+      "usersCreated",
+      "usersExisting",
+      "groupMembershipsAdded",
+      "errors",
+      "errorsTruncated"
+    })
+@XmlAccessorType(XmlAccessType.FIELD)
+@SuppressWarnings({"unused"})
+public class UserImportResult implements Serializable {
+
+  private static final long serialVersionUID = 1000000;
+
+  /** The errors for the rows that could not be imported. */
+  @Schema(description = "The errors for the rows that could not be imported", required = true)
+  @JsonProperty(required = true)
+  @XmlElementWrapper(name = "Errors", required = true)
+  @XmlElement(name = "Error", required = true)
+  private List<UserImportError> errors = new ArrayList<>();
+
+  /** Were errors omitted because the maximum number of errors to report was reached. */
+  @Schema(
+      description =
+          "Were errors omitted because the maximum number of errors to report was reached",
+      required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "ErrorsTruncated", required = true)
+  private boolean errorsTruncated;
+
+  /** The number of group memberships that were added. */
+  @Schema(description = "The number of group memberships that were added", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "GroupMembershipsAdded", required = true)
+  private long groupMembershipsAdded;
+
+  /** The number of rows that were processed, excluding any header row. */
+  @Schema(
+      description = "The number of rows that were processed, excluding any header row",
+      required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "Rows", required = true)
+  private long rows;
+
+  /** The ID for the user directory the users were imported into. */
+  @Schema(
+      description = "The ID for the user directory the users were imported into",
+      required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "UserDirectoryId", required = true)
+  private UUID userDirectoryId;
+
+  /** The number of users that were created. */
+  @Schema(description = "The number of users that were created", required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "UsersCreated", required = true)
+  private long usersCreated;
+
+  /**
+   * The number of users that already existed in the user directory, whose group memberships were
+   * still imported.
+   */
+  @Schema(
+      description = "The number of users that already existed in the user directory",
+      required = true)
+  @JsonProperty(required = true)
+  @XmlElement(name = "UsersExisting", required = true)
+  private long usersExisting;
+
+  /** Constructs a new <b>UserImportResult</b>. */
+  public UserImportResult() {}
+
+  /**
+   * Constructs a new <b>UserImportResult</b>.
+   *
+   * @param userDirectoryId the ID for the user directory the users were imported into
+   */
+  public UserImportResult(UUID userDirectoryId) {
+    this.userDirectoryId = userDirectoryId;
+  }
+
+  /**
+   * Returns the errors for the rows that could not be imported.
+   *
+   * @return the errors for the rows that could not be imported
+   */
+  public List<UserImportError> getErrors() {
+    return errors;
+  }
+
+  /**
+   * Returns the number of group memberships that were added.
+   *
+   * @return the number of group memberships that were added
+   */
+  public long getGroupMembershipsAdded() {
+    return groupMembershipsAdded;
+  }
+
+  /**
+   * Returns the number of rows that were processed, excluding any header row.
+   *
+   * @return the number of rows that were processed, excluding any header row
+   */
+  public long getRows() {
+    return rows;
+  }
+
+  /**
+   * Returns the ID for the user directory the users were imported into.
+   *
+   * @return the ID for the user directory the users were imported into
+   */
+  public UUID getUserDirectoryId() {
+    return userDirectoryId;
+  }
+
+  /**
+   * Returns the number of users that were created.
+   *
+   * @return the number of users that were created
+   */
+  public long getUsersCreated() {
+    return usersCreated;
+  }
+
+  /**
+   * Returns the number of users that already existed in the user directory.
+   *
+   * @return the number of users that already existed in the user directory
+   */
+  public long getUsersExisting() {
+    return usersExisting;
+  }
+
+  /**
+   * Returns whether errors were omitted because the maximum number of errors to report was
+   * reached.
+   *
+   * @return <b>true</b> if errors were omitted or <b>false</b> otherwise
+   */
+  public boolean isErrorsTruncated() {
+    return errorsTruncated;
+  }
+
+  /**
+   * Add an error for a row that could not be imported.
+   *
+   * @param error the error
+   * @param maxErrors the maximum number of errors to report
+   */
+  void addError(UserImportError error, int maxErrors) {
+    if (errors.size() < maxErrors) {
+      errors.add(error);
+    } else {
+      errorsTruncated = true;
+    }
+  }
+
+  void incrementGroupMembershipsAdded(long count) {
+    groupMembershipsAdded += count;
+  }
+
+  void incrementRows() {
+    rows++;
+  }
+
+  void incrementUsersCreated(long count) {
+    usersCreated += count;
+  }
+
+  void incrementUsersExisting(long count) {
+    usersExisting += count;
+  }
+}
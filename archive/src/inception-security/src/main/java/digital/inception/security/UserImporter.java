@@ -0,0 +1,830 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.security;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import digital.inception.core.util.PasswordUtil;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.util.StringUtils;
+
+/**
+ * The <b>UserImporter</b> class imports users and their group memberships into a user directory.
+ *
+ * <p>Users are imported in batches. For each batch the internal user directories the users are
+ * associated with are retrieved using a single query, and only the users that could not be found
+ * are checked against the external user directories, to ensure that the users are not associated
+ * with a different user directory. For internal user directories, the passwords for the new users
+ * are then hashed in parallel, and the users, their password history and their group memberships
+ * are written using JDBC batches in a single transaction. Users are imported into other types of
+ * user directories, e.g. LDAP, one at a time using the user directory.
+ *
+ * <p>Rows that cannot be imported are reported as errors and do not prevent the remaining rows from
+ * being imported.
+ *
+ * @author Marcus Portmann
+ */
+final class UserImporter {
+
+  /** The maximum number of rows in a batch, which is bounded by the Oracle IN-list limit. */
+  static final int MAX_BATCH_SIZE = 1000;
+
+  /** The SQL used to insert a group membership. */
+  private static final String INSERT_GROUP_MEMBERSHIP_SQL =
+      "INSERT INTO security.user_to_group_map (user_id, group_id) VALUES (?, ?)";
+
+  /** The SQL used to insert a password history entry. */
+  private static final String INSERT_PASSWORD_HISTORY_SQL =
+      "INSERT INTO security.users_password_history (user_id, changed, password) VALUES (?, ?, ?)";
+
+  /** The SQL used to insert a user. */
+  private static final String INSERT_USER_SQL =
+      "INSERT INTO security.users (id, user_directory_id, username, status, name, preferred_name, "
+          + "phone_number, mobile_number, email, password, password_attempts, password_expiry) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  /** The SQL used to select the existing group memberships for a batch of users. */
+  private static final String SELECT_GROUP_MEMBERSHIPS_SQL =
+      "SELECT user_id, group_id FROM security.user_to_group_map WHERE user_id IN ";
+
+  /** The SQL used to select the groups for a user directory. */
+  private static final String SELECT_GROUPS_SQL =
+      "SELECT id, name FROM security.groups WHERE user_directory_id = ?";
+
+  /** The SQL used to select the user directory IDs for the users for a batch of usernames. */
+  private static final String SELECT_USER_DIRECTORY_IDS_SQL =
+      "SELECT LOWER(username), user_directory_id FROM security.users WHERE LOWER(username) IN ";
+
+  /**
+   * The SQL used to select the existing users in a user directory for a batch of usernames, which
+   * uses the index on the user directory ID and lowercase username.
+   */
+  private static final String SELECT_USERS_SQL =
+      "SELECT id, LOWER(username) FROM security.users "
+          + "WHERE user_directory_id = ? AND LOWER(username) IN ";
+
+  /** The maximum number of users to write in a single batch. */
+  private final int batchSize;
+
+  /** The data source used to write the users. */
+  private final DataSource dataSource;
+
+  /** Should the users be created with their passwords expired. */
+  private final boolean expiredPassword;
+
+  /** The executor used to hash the passwords for the users in parallel. */
+  private final Executor hashingExecutor;
+
+  /** The maximum number of errors to report. */
+  private final int maxErrors;
+
+  /** The transaction operations used to write each batch of users in a transaction. */
+  private final TransactionOperations transactionOperations;
+
+  /** Should the users be created locked. */
+  private final boolean userLocked;
+
+  /** The JSR-303 validator. */
+  private final Validator validator;
+
+  /**
+   * Constructs a new <b>UserImporter</b>.
+   *
+   * @param dataSource the data source used to write the users
+   * @param transactionOperations the transaction operations used to write each batch of users in a
+   *     transaction
+   * @param validator the JSR-303 validator
+   * @param hashingExecutor the executor used to hash the passwords for the users in parallel
+   * @param batchSize the maximum number of users to write in a single batch
+   * @param maxErrors the maximum number of errors to report
+   * @param expiredPassword should the users be created with their passwords expired
+   * @param userLocked should the users be created locked
+   */
+  UserImporter(
+      DataSource dataSource,
+      TransactionOperations transactionOperations,
+      Validator validator,
+      Executor hashingExecutor,
+      int batchSize,
+      int maxErrors,
+      boolean expiredPassword,
+      boolean userLocked) {
+    this.dataSource = dataSource;
+    this.transactionOperations = transactionOperations;
+    this.validator = validator;
+    this.hashingExecutor = hashingExecutor;
+    this.batchSize = Math.min(Math.max(batchSize, 1), MAX_BATCH_SIZE);
+    this.maxErrors = maxErrors;
+    this.expiredPassword = expiredPassword;
+    this.userLocked = userLocked;
+  }
+
+  private static String inList(int size) {
+    return Collections.nCopies(size, "?").stream().collect(Collectors.joining(", ", "(", ")"));
+  }
+
+  private static String key(String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+
+  private static String message(Throwable e) {
+    Throwable cause = e;
+
+    while ((cause.getCause() != null) && (cause.getCause() != cause)) {
+      cause = cause.getCause();
+    }
+
+    return StringUtils.hasText(cause.getMessage()) ? cause.getMessage() : cause.toString();
+  }
+
+  private static void setString(PreparedStatement statement, int index, String value)
+      throws Exception {
+    if (value != null) {
+      statement.setString(index, value);
+    } else {
+      statement.setNull(index, Types.VARCHAR);
+    }
+  }
+
+  /**
+   * Import the users and their group memberships into an internal user directory.
+   *
+   * @param userDirectory the internal user directory
+   * @param reader the reader for the user data
+   * @param userDirectoryResolver the resolver used to determine the ID for the external user
+   *     directory an existing user is associated with
+   * @return the results of the import
+   * @throws Exception if the user data could not be read or the groups for the user directory could
+   *     not be retrieved
+   */
+  UserImportResult importUsers(
+      InternalUserDirectory userDirectory,
+      UserImportReader reader,
+      UserDirectoryResolver userDirectoryResolver)
+      throws Exception {
+    UUID userDirectoryId = userDirectory.getUserDirectoryId();
+
+    UserImportResult result = new UserImportResult(userDirectoryId);
+
+    Map<String, UUID> groupIds = getGroupIds(userDirectoryId);
+
+    Set<String> usernames = new HashSet<>();
+
+    List<UserImportReader.Row> batch = new ArrayList<>(batchSize);
+
+    UserImportReader.Row row;
+
+    while ((row = reader.next(userDirectoryId)) != null) {
+      if (readRow(row, usernames, result)) {
+        batch.add(row);
+
+        if (batch.size() >= batchSize) {
+          importBatch(userDirectory, groupIds, batch, userDirectoryResolver, result);
+
+          batch.clear();
+        }
+      }
+    }
+
+    if (!batch.isEmpty()) {
+      importBatch(userDirectory, groupIds, batch, userDirectoryResolver, result);
+    }
+
+    return result;
+  }
+
+  /**
+   * Import the users and their group memberships, one at a time, into a user directory that is not
+   * an internal user directory.
+   *
+   * <p>The rows are read in batches so that the internal user directories the users are associated
+   * with can be retrieved using a single query for each batch.
+   *
+   * @param userDirectoryId the ID for the user directory
+   * @param userDirectory the user directory
+   * @param reader the reader for the user data
+   * @param userDirectoryResolver the resolver used to determine the ID for the external user
+   *     directory an existing user is associated with
+   * @return the results of the import
+   * @throws Exception if the user data could not be read
+   */
+  UserImportResult importUsers(
+      UUID userDirectoryId,
+      IUserDirectory userDirectory,
+      UserImportReader reader,
+      UserDirectoryResolver userDirectoryResolver)
+      throws Exception {
+    UserImportResult result = new UserImportResult(userDirectoryId);
+
+    Set<String> usernames = new HashSet<>();
+
+    List<UserImportReader.Row> batch = new ArrayList<>(batchSize);
+
+    UserImportReader.Row row;
+
+    while ((row = reader.next(userDirectoryId)) != null) {
+      if (readRow(row, usernames, result)) {
+        batch.add(row);
+
+        if (batch.size() >= batchSize) {
+          importBatch(userDirectoryId, userDirectory, batch, userDirectoryResolver, result);
+
+          batch.clear();
+        }
+      }
+    }
+
+    if (!batch.isEmpty()) {
+      importBatch(userDirectoryId, userDirectory, batch, userDirectoryResolver, result);
+    }
+
+    return result;
+  }
+
+  private Map<UUID, Set<UUID>> getGroupMemberships(Connection connection, List<UUID> userIds)
+      throws Exception {
+    Map<UUID, Set<UUID>> groupMemberships = new HashMap<>();
+
+    if (userIds.isEmpty()) {
+      return groupMemberships;
+    }
+
+    try (PreparedStatement statement =
+        connection.prepareStatement(SELECT_GROUP_MEMBERSHIPS_SQL + inList(userIds.size()))) {
+      for (int i = 0; i < userIds.size(); i++) {
+        statement.setObject(i + 1, userIds.get(i));
+      }
+
+      try (ResultSet rs = statement.executeQuery()) {
+        while (rs.next()) {
+          groupMemberships
+              .computeIfAbsent(rs.getObject(1, UUID.class), userId -> new HashSet<>())
+              .add(rs.getObject(2, UUID.class));
+        }
+      }
+    }
+
+    return groupMemberships;
+  }
+
+  private Map<String, UUID> getGroupIds(UUID userDirectoryId) throws Exception {
+    Map<String, UUID> groupIds = new HashMap<>();
+
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+
+    try (PreparedStatement statement = connection.prepareStatement(SELECT_GROUPS_SQL)) {
+      statement.setObject(1, userDirectoryId);
+
+      try (ResultSet rs = statement.executeQuery()) {
+        while (rs.next()) {
+          groupIds.put(key(rs.getString(2)), rs.getObject(1, UUID.class));
+        }
+      }
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+
+    return groupIds;
+  }
+
+  /**
+   * Retrieve the IDs for the existing users in the user directory for the batch.
+   *
+   * @param connection the database connection
+   * @param userDirectoryId the ID for the user directory
+   * @param batch the batch of rows
+   * @return the IDs for the existing users in the user directory keyed by the lowercase username
+   * @throws Exception if the existing users could not be retrieved
+   */
+  private Map<String, UUID> getExistingUserIds(
+      Connection connection, UUID userDirectoryId, List<UserImportReader.Row> batch)
+      throws Exception {
+    Map<String, UUID> existingUserIds = new HashMap<>();
+
+    if (batch.isEmpty()) {
+      return existingUserIds;
+    }
+
+    try (PreparedStatement statement =
+        connection.prepareStatement(SELECT_USERS_SQL + inList(batch.size()))) {
+      statement.setObject(1, userDirectoryId);
+
+      for (int i = 0; i < batch.size(); i++) {
+        statement.setString(i + 2, key(batch.get(i).getUsername()));
+      }
+
+      try (ResultSet rs = statement.executeQuery()) {
+        while (rs.next()) {
+          existingUserIds.put(rs.getString(2), rs.getObject(1, UUID.class));
+        }
+      }
+    }
+
+    return existingUserIds;
+  }
+
+  /**
+   * Retrieve the IDs for the internal user directories the existing users for the batch are
+   * associated with, using a single query.
+   *
+   * @param batch the batch of rows
+   * @return the IDs for the internal user directories the existing users are associated with keyed
+   *     by the lowercase username
+   * @throws Exception if the user directory IDs could not be retrieved
+   */
+  private Map<String, UUID> getUserDirectoryIds(List<UserImportReader.Row> batch) throws Exception {
+    Map<String, UUID> userDirectoryIds = new HashMap<>();
+
+    if (batch.isEmpty()) {
+      return userDirectoryIds;
+    }
+
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+
+    try (PreparedStatement statement =
+        connection.prepareStatement(SELECT_USER_DIRECTORY_IDS_SQL + inList(batch.size()))) {
+      for (int i = 0; i < batch.size(); i++) {
+        statement.setString(i + 1, key(batch.get(i).getUsername()));
+      }
+
+      try (ResultSet rs = statement.executeQuery()) {
+        while (rs.next()) {
+          userDirectoryIds.put(rs.getString(1), rs.getObject(2, UUID.class));
+        }
+      }
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+
+    return userDirectoryIds;
+  }
+
+  private void importBatch(
+      InternalUserDirectory userDirectory,
+      Map<String, UUID> groupIds,
+      List<UserImportReader.Row> batch,
+      UserDirectoryResolver userDirectoryResolver,
+      UserImportResult result) {
+    UUID userDirectoryId = userDirectory.getUserDirectoryId();
+
+    /*
+     * Retrieve the internal user directories the existing users for the batch are associated with.
+     * The existing users in the user directory are retrieved again inside the transaction below,
+     * but doing this here as well avoids checking the external user directories for, and hashing
+     * the passwords for, users that already exist.
+     */
+    Map<String, UUID> userDirectoryIds;
+
+    try {
+      userDirectoryIds = getUserDirectoryIds(batch);
+    } catch (Throwable e) {
+      failBatch(batch, e, result);
+
+      return;
+    }
+
+    /*
+     * Check that the new users are not associated with a different user directory, e.g. another
+     * internal user directory or an external user directory, before they are inserted.
+     */
+    List<UserImportReader.Row> importRows = new ArrayList<>(batch.size());
+
+    for (UserImportReader.Row row : batch) {
+      if (!userDirectoryId.equals(userDirectoryIds.get(key(row.getUsername())))) {
+        try {
+          Optional<UUID> existingUserDirectoryIdOptional =
+              Optional.ofNullable(userDirectoryIds.get(key(row.getUsername())));
+
+          if (existingUserDirectoryIdOptional.isEmpty()) {
+            existingUserDirectoryIdOptional =
+                userDirectoryResolver.getUserDirectoryIdForUser(row.getUsername());
+          }
+
+          if (existingUserDirectoryIdOptional.isPresent()) {
+            result.addError(
+                new UserImportError(
+                    row.getNumber(),
+                    row.getUsername(),
+                    "The user is associated with a different user directory"),
+                maxErrors);
+
+            continue;
+          }
+        } catch (Throwable e) {
+          result.addError(
+              new UserImportError(
+                  row.getNumber(),
+                  row.getUsername(),
+                  "Failed to check whether the user is associated with a different user "
+                      + "directory: "
+                      + message(e)),
+              maxErrors);
+
+          continue;
+        }
+      }
+
+      importRows.add(row);
+    }
+
+    if (importRows.isEmpty()) {
+      return;
+    }
+
+    // Hash the passwords for the new users in parallel
+    Map<String, CompletableFuture<String>> encodedPasswords = new HashMap<>();
+
+    for (UserImportReader.Row row : importRows) {
+      if (!userDirectoryId.equals(userDirectoryIds.get(key(row.getUsername())))) {
+        String password =
+            StringUtils.hasText(row.getUser().getPassword())
+                ? row.getUser().getPassword()
+                : PasswordUtil.generateRandomPassword();
+
+        encodedPasswords.put(
+            key(row.getUsername()),
+            CompletableFuture.supplyAsync(
+                () -> userDirectory.encodePassword(password), hashingExecutor));
+      }
+    }
+
+    try {
+      CompletableFuture.allOf(encodedPasswords.values().toArray(new CompletableFuture[0])).join();
+    } catch (Throwable e) {
+      failBatch(importRows, e, result);
+
+      return;
+    }
+
+    try {
+      BatchResult batchResult =
+          transactionOperations.execute(
+              status -> {
+                try {
+                  return writeBatch(
+                      userDirectory, groupIds, importRows, encodedPasswords, userDirectoryId);
+                } catch (RuntimeException e) {
+                  throw e;
+                } catch (Exception e) {
+                  throw new RuntimeException(
+                      "Failed to write the batch of users for the user directory ("
+                          + userDirectoryId
+                          + ")",
+                      e);
+                }
+              });
+
+      if (batchResult != null) {
+        for (UserImportError error : batchResult.errors) {
+          result.addError(error, maxErrors);
+        }
+
+        result.incrementUsersCreated(batchResult.usersCreated);
+
+        result.incrementUsersExisting(batchResult.usersExisting);
+
+        result.incrementGroupMembershipsAdded(batchResult.groupMembershipsAdded);
+      }
+    } catch (Throwable e) {
+      failBatch(importRows, e, result);
+    }
+  }
+
+  private void importBatch(
+      UUID userDirectoryId,
+      IUserDirectory userDirectory,
+      List<UserImportReader.Row> batch,
+      UserDirectoryResolver userDirectoryResolver,
+      UserImportResult result) {
+    Map<String, UUID> userDirectoryIds;
+
+    try {
+      userDirectoryIds = getUserDirectoryIds(batch);
+    } catch (Throwable e) {
+      failBatch(batch, e, result);
+
+      return;
+    }
+
+    for (UserImportReader.Row row : batch) {
+      User user = row.getUser();
+
+      try {
+        UUID existingUserDirectoryId = userDirectoryIds.get(key(user.getUsername()));
+
+        if (existingUserDirectoryId == null) {
+          existingUserDirectoryId =
+              userDirectoryResolver.getUserDirectoryIdForUser(user.getUsername()).orElse(null);
+        }
+
+        if (existingUserDirectoryId == null) {
+          userDirectory.createUser(user, expiredPassword, userLocked);
+
+          result.incrementUsersCreated(1);
+        } else if (existingUserDirectoryId.equals(userDirectoryId)) {
+          result.incrementUsersExisting(1);
+        } else {
+          result.addError(
+              new UserImportError(
+                  row.getNumber(),
+                  user.getUsername(),
+                  "The user is associated with a different user directory"),
+              maxErrors);
+
+          continue;
+        }
+      } catch (Throwable e) {
+        result.addError(
+            new UserImportError(
+                row.getNumber(), user.getUsername(), "Failed to create the user: " + message(e)),
+            maxErrors);
+
+        continue;
+      }
+
+      for (String groupName : new LinkedHashSet<>(row.getGroupNames())) {
+        try {
+          if (!userDirectory.isUserInGroup(groupName, user.getUsername())) {
+            userDirectory.addUserToGroup(groupName, user.getUsername());
+
+            result.incrementGroupMembershipsAdded(1);
+          }
+        } catch (GroupNotFoundException e) {
+          result.addError(
+              new UserImportError(
+                  row.getNumber(),
+                  user.getUsername(),
+                  "The group (" + groupName + ") could not be found"),
+              maxErrors);
+        } catch (Throwable e) {
+          result.addError(
+              new UserImportError(
+                  row.getNumber(),
+                  user.getUsername(),
+                  "Failed to add the user to the group (" + groupName + "): " + message(e)),
+              maxErrors);
+        }
+      }
+    }
+  }
+
+  private void failBatch(
+      List<UserImportReader.Row> batch, Throwable cause, UserImportResult result) {
+    for (UserImportReader.Row row : batch) {
+      result.addError(
+          new UserImportError(
+              row.getNumber(),
+              row.getUsername(),
+              "Failed to import the batch of users containing the row: " + message(cause)),
+          maxErrors);
+    }
+  }
+
+  /**
+   * Read a row, validating the user and checking that the user does not appear more than once in
+   * the data.
+   *
+   * @param row the row
+   * @param usernames the lowercase usernames for the rows that have already been read
+   * @param result the results of the import
+   * @return <b>true</b> if the row should be imported or <b>false</b> otherwise
+   */
+  private boolean readRow(
+      UserImportReader.Row row, Set<String> usernames, UserImportResult result) {
+    result.incrementRows();
+
+    if (row.getError() != null) {
+      result.addError(
+          new UserImportError(row.getNumber(), row.getUsername(), row.getError()), maxErrors);
+
+      return false;
+    }
+
+    Set<ConstraintViolation<User>> constraintViolations = validator.validate(row.getUser());
+
+    if (!constraintViolations.isEmpty()) {
+      result.addError(
+          new UserImportError(
+              row.getNumber(),
+              row.getUsername(),
+              "Invalid user: "
+                  + constraintViolations.stream()
+                      .map(
+                          constraintViolation ->
+                              constraintViolation.getPropertyPath()
+                                  + " "
+                                  + constraintViolation.getMessage())
+                      .sorted()
+                      .collect(Collectors.joining(", "))),
+          maxErrors);
+
+      return false;
+    }
+
+    if (!usernames.add(key(row.getUsername()))) {
+      result.addError(
+          new UserImportError(
+              row.getNumber(), row.getUsername(), "The user appears more than once in the data"),
+          maxErrors);
+
+      return false;
+    }
+
+    return true;
+  }
+
+  private BatchResult writeBatch(
+      InternalUserDirectory userDirectory,
+      Map<String, UUID> groupIds,
+      List<UserImportReader.Row> batch,
+      Map<String, CompletableFuture<String>> encodedPasswords,
+      UUID userDirectoryId)
+      throws Exception {
+    BatchResult batchResult = new BatchResult();
+
+    LocalDateTime now = LocalDateTime.now();
+
+    Timestamp passwordExpiry =
+        Timestamp.valueOf(
+            expiredPassword
+                ? now
+                : now.plus(userDirectory.getPasswordExpiryMonths(), ChronoUnit.MONTHS));
+
+    int passwordAttempts = userLocked ? userDirectory.getMaxPasswordAttempts() : 0;
+
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+
+    try {
+      // Retrieve the existing users again now that the transaction has started
+      Map<String, UUID> existingUserIds = getExistingUserIds(connection, userDirectoryId, batch);
+
+      Map<UUID, Set<UUID>> groupMemberships =
+          getGroupMemberships(connection, new ArrayList<>(existingUserIds.values()));
+
+      try (PreparedStatement insertUserStatement = connection.prepareStatement(INSERT_USER_SQL);
+          PreparedStatement insertPasswordHistoryStatement =
+              connection.prepareStatement(INSERT_PASSWORD_HISTORY_SQL);
+          PreparedStatement insertGroupMembershipStatement =
+              connection.prepareStatement(INSERT_GROUP_MEMBERSHIP_SQL)) {
+        for (UserImportReader.Row row : batch) {
+          User user = row.getUser();
+
+          UUID userId = existingUserIds.get(key(user.getUsername()));
+
+          if (userId == null) {
+            CompletableFuture<String> encodedPasswordFuture =
+                encodedPasswords.get(key(user.getUsername()));
+
+            if (encodedPasswordFuture == null) {
+              // The user was deleted after the passwords were hashed, so skip it
+              batchResult.errors.add(
+                  new UserImportError(
+                      row.getNumber(),
+                      user.getUsername(),
+                      "The user was modified while the data was being imported"));
+
+              continue;
+            }
+
+            String encodedPassword = encodedPasswordFuture.join();
+
+            userId = UuidCreator.getShortPrefixComb();
+
+            insertUserStatement.setObject(1, userId);
+            insertUserStatement.setObject(2, userDirectoryId);
+            insertUserStatement.setString(3, user.getUsername());
+            insertUserStatement.setInt(4, UserStatus.toNumericCode(user.getStatus()));
+            insertUserStatement.setString(5, user.getName());
+            setString(insertUserStatement, 6, user.getPreferredName());
+            setString(insertUserStatement, 7, user.getPhoneNumber());
+            setString(insertUserStatement, 8, user.getMobileNumber());
+            setString(insertUserStatement, 9, user.getEmail());
+            insertUserStatement.setString(10, encodedPassword);
+            insertUserStatement.setInt(11, passwordAttempts);
+            insertUserStatement.setTimestamp(12, passwordExpiry);
+            insertUserStatement.addBatch();
+
+            insertPasswordHistoryStatement.setObject(1, userId);
+            insertPasswordHistoryStatement.setTimestamp(2, Timestamp.valueOf(now));
+            insertPasswordHistoryStatement.setString(3, encodedPassword);
+            insertPasswordHistoryStatement.addBatch();
+
+            batchResult.usersCreated++;
+          } else {
+            batchResult.usersExisting++;
+          }
+
+          Set<UUID> userGroupIds = groupMemberships.getOrDefault(userId, Collections.emptySet());
+
+          for (String groupName : new LinkedHashSet<>(row.getGroupNames())) {
+            UUID groupId = groupIds.get(key(groupName));
+
+            if (groupId == null) {
+              batchResult.errors.add(
+                  new UserImportError(
+                      row.getNumber(),
+                      user.getUsername(),
+                      "The group (" + groupName + ") could not be found"));
+            } else if (!userGroupIds.contains(groupId)) {
+              insertGroupMembershipStatement.setObject(1, userId);
+              insertGroupMembershipStatement.setObject(2, groupId);
+              insertGroupMembershipStatement.addBatch();
+
+              // Guard against the same group appearing with different case in the row
+              userGroupIds = new HashSet<>(userGroupIds);
+              userGroupIds.add(groupId);
+              groupMemberships.put(userId, userGroupIds);
+
+              batchResult.groupMembershipsAdded++;
+            }
+          }
+        }
+
+        if (batchResult.usersCreated > 0) {
+          insertUserStatement.executeBatch();
+          insertPasswordHistoryStatement.executeBatch();
+        }
+
+        if (batchResult.groupMembershipsAdded > 0) {
+          insertGroupMembershipStatement.executeBatch();
+        }
+      }
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+
+    return batchResult;
+  }
+
+  /**
+   * The <b>UserDirectoryResolver</b> interface is implemented by functions that determine the ID
+   * for the external user directory an existing user is associated with.
+   */
+  @FunctionalInterface
+  interface UserDirectoryResolver {
+
+    /**
+     * Retrieve the ID for the external user directory the user is associated with.
+     *
+     * @param username the username for the user
+     * @return an Optional containing the ID for the external user directory the user is associated
+     *     with or an empty Optional if the user could not be found
+     * @throws Exception if the user directory ID could not be retrieved
+     */
+    Optional<UUID> getUserDirectoryIdForUser(String username) throws Exception;
+  }
+
+  /** The <b>BatchResult</b> class holds the results of writing a batch of users. */
+  private static final class BatchResult {
+
+    /** The errors for the rows in the batch that could not be imported. */
+    private final List<UserImportError> errors = new ArrayList<>();
+
+    /** The number of group memberships that were added. */
+    private long groupMembershipsAdded;
+
+    /** The number of users that were created. */
+    private long usersCreated;
+
+    /** The number of users that already existed in the user directory. */
+    private long usersExisting;
+  }
+}
@@ -100,14 +100,18 @@ public interface UserRepository extends JpaRepository<User, UUID>, QueryByExampl
   /**
    * Retrieve the filtered users for the user directory.
    *
+   * <p>The lower(username) and lower(name) expressions match the functional and trigram indexes on
+   * the <b>security.users</b> table.
+   *
    * @param userDirectoryId the ID for the user directory
-   * @param filter the filter to apply to the users
+   * @param filter the LIKE pattern, using '!' as the escape character, to apply to the users
    * @param pageable the pagination information
    * @return the filtered users for the user directory
    */
   @Query(
-      "select u from User u where ((lower(u.username) like lower(:filter)) or "
-          + "(lower(u.name) like lower(:filter))) and u.userDirectoryId = :userDirectoryId")
+      "select u from User u where ((lower(u.username) like lower(:filter) escape '!') or "
+          + "(lower(u.name) like lower(:filter) escape '!')) "
+          + "and u.userDirectoryId = :userDirectoryId")
   Page<User> findFiltered(
       @Param("userDirectoryId") UUID userDirectoryId,
       @Param("filter") String filter,
@@ -46,7 +46,8 @@ import javax.xml.bind.annotation.XmlType;
   "sortBy",
   "sortDirection",
   "pageIndex",
-  "pageSize"
+  "pageSize",
+  "nextCursor"
 })
 @XmlRootElement(name = "Users", namespace = "http://inception.digital/security")
 @XmlType(
@@ -60,7 +61,8 @@ import javax.xml.bind.annotation.XmlType;
       "sortBy",
       "sortDirection",
       "pageIndex",
-      "pageSize"
+      "pageSize",
+      "nextCursor"
     })
 @XmlAccessorType(XmlAccessType.FIELD)
 @SuppressWarnings({"unused"})
@@ -74,6 +76,15 @@ public class Users implements Serializable {
   @XmlElement(name = "Filter")
   private String filter;
 
+  /** The optional opaque cursor used to retrieve the next page when keyset pagination is used. */
+  @Schema(
+      description =
+          "The optional opaque cursor used to retrieve the next page when keyset pagination is"
+              + " used")
+  @JsonProperty
+  @XmlElement(name = "NextCursor")
+  private String nextCursor;
+
   /** The optional page index. */
   @Schema(description = "The optional page index")
   @JsonProperty
@@ -98,8 +109,14 @@ public class Users implements Serializable {
   @XmlElement(name = "SortDirection")
   private SortDirection sortDirection;
 
-  /** The total number of users. */
-  @Schema(description = "The total number of users", required = true)
+  /**
+   * The total number of users or -1 if the total was not retrieved when using keyset pagination.
+   */
+  @Schema(
+      description =
+          "The total number of users or -1 if the total was not retrieved when using keyset"
+              + " pagination",
+      required = true)
   @JsonProperty(required = true)
   @XmlElement(name = "Total", required = true)
   private long total;
@@ -153,6 +170,38 @@ public class Users implements Serializable {
     this.pageSize = pageSize;
   }
 
+  /**
+   * Constructs a new <b>Users</b>.
+   *
+   * @param userDirectoryId the ID for the user directory the users are associated with
+   * @param users the users
+   * @param total the total number of users or -1 if the total was not retrieved
+   * @param filter the optional filter that was applied to the users
+   * @param sortBy the optional method used to sort the users e.g. by name
+   * @param sortDirection the optional sort direction that was applied to the users
+   * @param pageSize the optional page size
+   * @param nextCursor the optional opaque cursor used to retrieve the next page when keyset
+   *     pagination is used
+   */
+  public Users(
+      UUID userDirectoryId,
+      List<User> users,
+      long total,
+      String filter,
+      UserSortBy sortBy,
+      SortDirection sortDirection,
+      Integer pageSize,
+      String nextCursor) {
+    this.userDirectoryId = userDirectoryId;
+    this.users = users;
+    this.total = total;
+    this.filter = filter;
+    this.sortBy = sortBy;
+    this.sortDirection = sortDirection;
+    this.pageSize = pageSize;
+    this.nextCursor = nextCursor;
+  }
+
   /**
    * Returns the optional filter that was applied to the users.
    *
@@ -162,6 +211,17 @@ public class Users implements Serializable {
     return filter;
   }
 
+  /**
+   * Returns the optional opaque cursor used to retrieve the next page when keyset pagination is
+   * used.
+   *
+   * @return the optional opaque cursor used to retrieve the next page when keyset pagination is
+   *     used or <b>null</b> if there are no more pages
+   */
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
   /**
    * Returns the optional page index.
    *
@@ -201,7 +261,8 @@ public class Users implements Serializable {
   /**
    * Returns the total number of users.
    *
-   * @return the total number of users
+   * @return the total number of users or -1 if the total was not retrieved when using keyset
+   *     pagination
    */
   public Long getTotal() {
     return total;
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2022 Marcus Portmann
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package digital.inception.security.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import digital.inception.core.service.ServiceUnavailableException;
+import digital.inception.security.LDAPConnectionPool;
+import java.lang.reflect.Proxy;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.naming.CommunicationException;
+import javax.naming.Context;
+import javax.naming.NamingException;
+import javax.naming.directory.BasicAttributes;
+import javax.naming.ldap.LdapContext;
+import javax.naming.spi.InitialContextFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The <b>LDAPConnectionPoolTest</b> class contains the implementation of the JUnit tests for the
+ * <b>LDAPConnectionPool</b> class.
+ *
+ * <p>The tests use an initial context factory that creates fake LDAP contexts, so no LDAP server is
+ * required.
+ *
+ * @author Marcus Portmann
+ */
+public class LDAPConnectionPoolTest {
+
+  /** The fake LDAP contexts created by the initial context factory. */
+  private static final List<FakeLdapContext> contexts = new CopyOnWriteArrayList<>();
+
+  /** Clear the fake LDAP contexts created by a previous test. */
+  @BeforeEach
+  public void beforeEach() {
+    contexts.clear();
+  }
+
+  /** Test that a broken connection is discarded when it is returned to the pool. */
+  @Test
+  public void brokenConnectionTest() throws Exception {
+    try (LDAPConnectionPool pool = newPool(1, 60000, 5000)) {
+      LdapContext connection = pool.getConnection();
+
+      contexts.get(0).broken = true;
+
+      assertThrows(CommunicationException.class, () -> connection.getAttributes("cn=test"));
+
+      connection.close();
+
+      assertTrue(contexts.get(0).closed, "The broken connection was not closed");
+
+      pool.getConnection().close();
+
+      assertEquals(2, contexts.size(), "A new connection was not created");
+    }
+  }
+
+  /** Test that closing the pool waits for the borrowed connections to be returned. */
+  @Test
+  public void closeDrainsBorrowedConnectionsTest() throws Exception {
+    LDAPConnectionPool pool = newPool(2, 60000, 5000);
+
+    LdapContext borrowedConnection = pool.getConnection();
+
+    pool.getConnection().close();
+
+    CompletableFuture<Void> close = CompletableFuture.runAsync(() -> pool.close(10000));
+
+    assertThrows(TimeoutException.class, () -> close.get(200, TimeUnit.MILLISECONDS));
+
+    assertThrows(ServiceUnavailableException.class, pool::getConnection);
+
+    assertFalse(contexts.get(0).closed, "The borrowed connection was closed while in use");
+
+    // The borrowed connection can still be used while the pool is draining
+    borrowedConnection.getAttributes("cn=test");
+
+    borrowedConnection.close();
+
+    close.get(5, TimeUnit.SECONDS);
+
+    assertTrue(
+        contexts.stream().allMatch(context -> context.closed),
+        "The connections were not closed when the pool was closed");
+  }
+
+  /** Test that closing the pool stops waiting for borrowed connections after the drain timeout. */
+  @Test
+  public void closeDrainTimeoutTest() throws Exception {
+    LDAPConnectionPool pool = newPool(1, 60000, 5000);
+
+    LdapContext borrowedConnection = pool.getConnection();
+
+    pool.close(100);
+
+    assertFalse(contexts.get(0).closed, "The borrowed connection was closed while in use");
+
+    borrowedConnection.close();
+
+    assertTrue(contexts.get(0).closed, "The connection was not closed when it was returned");
+  }
+
+  /** Test that an idle connection is reused instead of creating a new connection. */
+  @Test
+  public void connectionReuseTest() throws Exception {
+    try (LDAPConnectionPool pool = newPool(2, 60000, 5000)) {
+      for (int i = 0; i < 5; i++) {
+        LdapContext connection = pool.getConnection();
+
+        connection.getAttributes("cn=test");
+
+        connection.close();
+      }
+
+      assertEquals(1, contexts.size(), "The idle connection was not reused");
+
+      assertThrows(
+          NamingException.class,
+          () -> {
+            LdapContext connection = pool.getConnection();
+
+            connection.close();
+
+            // A connection that has been returned to the pool cannot be used
+            connection.getAttributes("cn=test");
+          });
+    }
+  }
+
+  /** Test that borrowing a connection times out when all the connections are in use. */
+  @Test
+  public void exhaustedPoolTest() throws Exception {
+    try (LDAPConnectionPool pool = newPool(1, 60000, 100)) {
+      LdapContext connection = pool.getConnection();
+
+      assertThrows(ServiceUnavailableException.class, pool::getConnection);
+
+      connection.close();
+
+      pool.getConnection().close();
+
+      assertEquals(1, contexts.size(), "The idle connection was not reused");
+    }
+  }
+
+  /** Test that an idle connection that fails validation is discarded. */
+  @Test
+  public void validationFailureTest() throws Exception {
+    try (LDAPConnectionPool pool = newPool(1, 0, 5000)) {
+      pool.getConnection().close();
+
+      contexts.get(0).broken = true;
+
+      Thread.sleep(5);
+
+      pool.getConnection().close();
+
+      assertTrue(contexts.get(0).closed, "The connection that failed validation was not closed");
+      assertEquals(2, contexts.size(), "A new connection was not created");
+    }
+  }
+
+  private static LDAPConnectionPool newPool(
+      int maxSize, long validationInterval, long borrowTimeout) {
+    Hashtable<String, String> environment = new Hashtable<>();
+
+    environment.put(Context.INITIAL_CONTEXT_FACTORY, FakeInitialContextFactory.class.getName());
+
+    return new LDAPConnectionPool(
+        UuidCreator.getShortPrefixComb(),
+        environment,
+        maxSize,
+        60000,
+        validationInterval,
+        borrowTimeout);
+  }
+
+  /**
+   * The <b>FakeInitialContextFactory</b> class implements the initial context factory that creates
+   * the fake LDAP contexts.
+   */
+  public static class FakeInitialContextFactory implements InitialContextFactory {
+
+    @Override
+    public Context getInitialContext(Hashtable<?, ?> environment) {
+      FakeLdapContext context = new FakeLdapContext();
+
+      contexts.add(context);
+
+      return (LdapContext)
+          Proxy.newProxyInstance(
+              LdapContext.class.getClassLoader(),
+              new Class<?>[] {LdapContext.class},
+              (proxy, method, args) -> {
+                switch (method.getName()) {
+                  case "close":
+                    context.closed = true;
+                    return null;
+                  case "getAttributes":
+                    if (context.broken) {
+                      throw new CommunicationException("The connection is broken");
+                    }
+                    return new BasicAttributes();
+                  case "getEnvironment":
+                    return new Hashtable<>(environment);
+                  default:
+                    return null;
+                }
+              });
+    }
+  }
+
+  /** The <b>FakeLdapContext</b> class holds the state for a fake LDAP context. */
+  private static class FakeLdapContext {
+
+    /** Does the fake LDAP context fail with a communication error? */
+    private volatile boolean broken;
+
+    /** Has the fake LDAP context been closed? */
+    private volatile boolean closed;
+  }
+}
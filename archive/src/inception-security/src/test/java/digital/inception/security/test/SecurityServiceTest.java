@@ -18,11 +18,13 @@ package digital.inception.security.test;
 
 import static digital.inception.test.Assert.assertEqualsToMillisecond;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import com.github.f4b6a3.uuid.UuidCreator;
+import digital.inception.core.service.InvalidArgumentException;
 import digital.inception.core.sorting.SortDirection;
 import digital.inception.security.AuthenticationFailedException;
 import digital.inception.security.DuplicateFunctionException;
@@ -50,14 +52,18 @@ import digital.inception.security.Tenant;
 import digital.inception.security.TenantNotFoundException;
 import digital.inception.security.TenantStatus;
 import digital.inception.security.Tenants;
+import digital.inception.security.TooManyMatchingUsersException;
 import digital.inception.security.User;
 import digital.inception.security.UserAttribute;
+import digital.inception.security.UserAuthorization;
 import digital.inception.security.UserDirectories;
 import digital.inception.security.UserDirectory;
 import digital.inception.security.UserDirectoryNotFoundException;
 import digital.inception.security.UserDirectorySummaries;
 import digital.inception.security.UserDirectorySummary;
 import digital.inception.security.UserDirectoryType;
+import digital.inception.security.UserImportFormat;
+import digital.inception.security.UserImportResult;
 import digital.inception.security.UserLockedException;
 import digital.inception.security.UserNotFoundException;
 import digital.inception.security.UserSortBy;
@@ -65,13 +71,18 @@ import digital.inception.security.UserStatus;
 import digital.inception.security.Users;
 import digital.inception.test.InceptionExtension;
 import digital.inception.test.TestConfiguration;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import javax.sql.DataSource;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -640,6 +651,48 @@ public class SecurityServiceTest {
         });
   }
 
+  /** Test the asynchronous authentication functionality. */
+  @Test
+  public void authenticateAsyncTest() throws Exception {
+    Tenant tenant = getTestTenantDetails();
+
+    Optional<UserDirectory> userDirectoryOptional = securityService.createTenant(tenant, true);
+
+    if (userDirectoryOptional.isEmpty()) {
+      fail("Failed to retrieve the new user directory for the new tenant");
+    }
+
+    UserDirectory userDirectory = userDirectoryOptional.get();
+
+    User user = getTestUserDetails(userDirectory.getId());
+
+    String password = user.getPassword();
+
+    securityService.createUser(user, false, false);
+
+    assertEquals(
+        userDirectory.getId(),
+        securityService.authenticateAsync(user.getUsername(), password).get(),
+        "The correct user directory ID was not returned for the authenticated user");
+
+    ExecutionException executionException =
+        assertThrows(
+            ExecutionException.class,
+            () -> securityService.authenticateAsync(user.getUsername(), "Invalid Password").get());
+
+    assertTrue(
+        executionException.getCause() instanceof AuthenticationFailedException,
+        "The asynchronous authentication did not fail with an AuthenticationFailedException");
+
+    assertEquals(
+        1,
+        securityService
+            .getUser(userDirectory.getId(), user.getUsername())
+            .getPasswordAttempts()
+            .intValue(),
+        "The failed password attempt was not recorded by the asynchronous authentication");
+  }
+
   /** Test the failed authentication functionality. */
   @Test
   public void failedAuthenticationTest() throws Exception {
@@ -712,6 +765,162 @@ public class SecurityServiceTest {
     } catch (InvalidAttributeException e) {
       fail("Invalid attribute while finding users: " + e.getMessage());
     }
+
+    List<User> retrievedUsers =
+        securityService.findUsers(
+            userDirectory.getId(), List.of(new UserAttribute("username", "Test Username 1")));
+
+    assertEquals(
+        11,
+        retrievedUsers.size(),
+        "The correct number of users was not retrieved matching the username");
+
+    Users retrievedFilteredUsers =
+        securityService.getUsers(
+            userDirectory.getId(), "%", UserSortBy.USERNAME, SortDirection.ASCENDING, 0, 10);
+
+    assertEquals(
+        0,
+        retrievedFilteredUsers.getTotal(),
+        "The LIKE wildcards in the filter were not escaped when retrieving the filtered users");
+
+    retrievedFilteredUsers =
+        securityService.getUsers(
+            userDirectory.getId(), "username 1", UserSortBy.NAME, SortDirection.ASCENDING, 0, 5);
+
+    assertEquals(
+        11,
+        retrievedFilteredUsers.getTotal(),
+        "The correct total number of filtered users was not retrieved");
+    assertEquals(
+        5,
+        retrievedFilteredUsers.getUsers().size(),
+        "The correct number of filtered users was not retrieved");
+  }
+
+  /** Test the find users functionality when too many users match the user attribute criteria. */
+  @Test
+  public void findUsersWithTooManyMatchingUsersTest() throws Exception {
+    UserDirectory userDirectory = getTestUserDirectoryDetails();
+
+    userDirectory.setConfiguration(
+        userDirectory
+            .getConfiguration()
+            .replace(
+                "<parameter><name>MaxFilteredUsers</name><value>100</value></parameter>",
+                "<parameter><name>MaxFilteredUsers</name><value>5</value></parameter>"));
+
+    securityService.createUserDirectory(userDirectory);
+
+    for (int i = 1; i <= 6; i++) {
+      User user = getNumberedTestUserDetails(userDirectory.getId(), i);
+      user.setUsername("Too Many Matching Test Username " + i);
+
+      securityService.createUser(user, false, false);
+    }
+
+    List<User> retrievedUsers =
+        securityService.findUsers(
+            userDirectory.getId(),
+            List.of(new UserAttribute("username", "Too Many Matching Test Username 1")));
+
+    assertEquals(
+        1,
+        retrievedUsers.size(),
+        "The correct number of users was not retrieved matching the username");
+
+    assertThrows(
+        TooManyMatchingUsersException.class,
+        () ->
+            securityService.findUsers(
+                userDirectory.getId(),
+                List.of(new UserAttribute("username", "Too Many Matching Test Username"))),
+        "The criteria matching more than the maximum number of filtered users were not rejected");
+
+    assertThrows(
+        TooManyMatchingUsersException.class,
+        () ->
+            securityService.findUsers(
+                userDirectory.getId(), List.of(new UserAttribute("name", "Test Name"))),
+        "The criteria matching more than the maximum number of filtered users were not rejected");
+  }
+
+  /** Test the retrieve users using keyset pagination functionality. */
+  @Test
+  public void getUsersUsingKeysetPaginationTest() throws Exception {
+    Tenant tenant = getTestTenantDetails();
+
+    Optional<UserDirectory> userDirectoryOptional = securityService.createTenant(tenant, true);
+
+    if (userDirectoryOptional.isEmpty()) {
+      fail("Failed to retrieve the new user directory for the new tenant");
+    }
+
+    UserDirectory userDirectory = userDirectoryOptional.get();
+
+    for (int i = 1; i < 20; i++) {
+      User user = getNumberedTestUserDetails(userDirectory.getId(), i);
+      user.setUsername("Keyset Test Username " + i);
+      user.setName("Keyset Test Name " + i);
+      user.setPreferredName((i % 2 == 0) ? null : "Keyset Test Preferred Name " + i);
+
+      securityService.createUser(user, false, false);
+    }
+
+    List<User> retrievedUsers = new ArrayList<>();
+
+    String cursor = "";
+    int numberOfPages = 0;
+
+    do {
+      Users retrievedFilteredUsers =
+          securityService.getUsers(
+              userDirectory.getId(),
+              "username 1",
+              UserSortBy.PREFERRED_NAME,
+              SortDirection.DESCENDING,
+              cursor,
+              4,
+              true);
+
+      assertEquals(
+          11,
+          retrievedFilteredUsers.getTotal(),
+          "The correct total number of filtered users was not retrieved");
+
+      retrievedUsers.addAll(retrievedFilteredUsers.getUsers());
+
+      cursor = retrievedFilteredUsers.getNextCursor();
+      numberOfPages++;
+    } while (cursor != null);
+
+    assertEquals(3, numberOfPages, "The correct number of pages of users was not retrieved");
+    assertEquals(
+        11,
+        retrievedUsers.stream().map(User::getId).distinct().count(),
+        "The correct number of filtered users was not retrieved");
+
+    // Users without a preferred name are sorted as if their preferred name was an empty string
+    for (int i = 1; i < retrievedUsers.size(); i++) {
+      assertTrue(
+          Objects.requireNonNullElse(retrievedUsers.get(i - 1).getPreferredName(), "")
+                  .compareTo(
+                      Objects.requireNonNullElse(retrievedUsers.get(i).getPreferredName(), ""))
+              >= 0,
+          "The filtered users were not retrieved in descending order");
+    }
+
+    assertThrows(
+        InvalidArgumentException.class,
+        () ->
+            securityService.getUsers(
+                userDirectory.getId(),
+                "username 1",
+                UserSortBy.NAME,
+                SortDirection.DESCENDING,
+                "invalid",
+                4,
+                false));
   }
 
   /** Test the create function functionality. */
@@ -926,6 +1135,140 @@ public class SecurityServiceTest {
     }
   }
 
+  /** Test the user import functionality. */
+  @Test
+  public void importUsersTest() throws Exception {
+    Tenant tenant = getTestTenantDetails();
+
+    Optional<UserDirectory> userDirectoryOptional = securityService.createTenant(tenant, true);
+
+    if (userDirectoryOptional.isEmpty()) {
+      fail("Failed to retrieve the new user directory for the new tenant");
+    }
+
+    UserDirectory userDirectory = userDirectoryOptional.get();
+
+    Group group = getTestGroupDetails(userDirectory.getId());
+
+    securityService.createGroup(group);
+
+    User existingUser = getTestUserDetails(userDirectory.getId());
+
+    securityService.createUser(existingUser, false, false);
+
+    String prefix = "ImportUser" + UuidCreator.getShortPrefixComb() + "_";
+
+    String csv =
+        "Username,Name,Email,Password,Groups\n"
+            + prefix
+            + "1,Import User 1,import1@mmp.guru,Password1,"
+            + group.getName()
+            + "\n"
+            + prefix
+            + "2,\"User, Import 2\",,,\""
+            + group.getName()
+            + ";Missing Group\"\n"
+            + prefix
+            + "1,Duplicate User,,,\n"
+            + prefix
+            + "3,,,,\n"
+            + existingUser.getUsername()
+            + ",Existing User,,,"
+            + group.getName()
+            + "\n";
+
+    UserImportResult result =
+        securityService.importUsers(
+            userDirectory.getId(),
+            UserImportFormat.CSV,
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+            false,
+            false);
+
+    assertEquals(5, result.getRows(), "The correct number of rows was not processed");
+    assertEquals(2, result.getUsersCreated(), "The correct number of users was not created");
+    assertEquals(
+        1, result.getUsersExisting(), "The correct number of existing users was not found");
+    assertEquals(
+        3,
+        result.getGroupMembershipsAdded(),
+        "The correct number of group memberships was not added");
+    assertEquals(3, result.getErrors().size(), "The correct number of errors was not reported");
+
+    assertEquals(
+        userDirectory.getId(),
+        securityService.authenticate(prefix + "1", "Password1"),
+        "The imported user could not be authenticated");
+    assertEquals(
+        "User, Import 2",
+        securityService.getUser(userDirectory.getId(), prefix + "2").getName(),
+        "The correct name was not imported for the user");
+    assertTrue(
+        securityService.isUserInGroup(userDirectory.getId(), group.getName(), prefix + "2"),
+        "The imported user was not added to the group");
+    assertTrue(
+        securityService.isUserInGroup(
+            userDirectory.getId(), group.getName(), existingUser.getUsername()),
+        "The existing user was not added to the group");
+
+    String ndjson =
+        "{\"username\":\""
+            + prefix
+            + "4\",\"name\":\"Import User 4\",\"status\":\"inactive\",\"groups\":[\""
+            + group.getName()
+            + "\"]}\n"
+            + "not json\n";
+
+    result =
+        securityService.importUsers(
+            userDirectory.getId(),
+            UserImportFormat.NDJSON,
+            new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)),
+            false,
+            false);
+
+    assertEquals(1, result.getUsersCreated(), "The correct number of users was not created");
+    assertEquals(1, result.getErrors().size(), "The correct number of errors was not reported");
+    assertEquals(2, result.getErrors().get(0).getRow(), "The correct row was not reported");
+    assertEquals(
+        UserStatus.INACTIVE,
+        securityService.getUser(userDirectory.getId(), prefix + "4").getStatus(),
+        "The correct status was not imported for the user");
+    assertTrue(
+        securityService.isUserInGroup(userDirectory.getId(), group.getName(), prefix + "4"),
+        "The imported user was not added to the group");
+
+    // Users associated with a different user directory must not be imported
+    Optional<UserDirectory> otherUserDirectoryOptional =
+        securityService.createTenant(getTestTenantDetails(), true);
+
+    if (otherUserDirectoryOptional.isEmpty()) {
+      fail("Failed to retrieve the new user directory for the new tenant");
+    }
+
+    String otherCsv =
+        "Username,Name,Email,Password,Groups\n"
+            + existingUser.getUsername()
+            + ",Existing User,,,\n"
+            + prefix
+            + "5,Import User 5,,,\n";
+
+    result =
+        securityService.importUsers(
+            otherUserDirectoryOptional.get().getId(),
+            UserImportFormat.CSV,
+            new ByteArrayInputStream(otherCsv.getBytes(StandardCharsets.UTF_8)),
+            false,
+            false);
+
+    assertEquals(1, result.getUsersCreated(), "The correct number of users was not created");
+    assertEquals(1, result.getErrors().size(), "The correct number of errors was not reported");
+    assertEquals(
+        "The user is associated with a different user directory",
+        result.getErrors().get(0).getMessage(),
+        "The user associated with a different user directory was not rejected");
+  }
+
   /** Test the functionality to check whether a user is a member of a group. */
   @Test
   public void isUserInGroupTest() throws Exception {
@@ -1022,6 +1365,174 @@ public class SecurityServiceTest {
     securityService.reloadUserDirectories();
   }
 
+  /** Test the effective authorization functionality. */
+  @Test
+  public void userAuthorizationTest() throws Exception {
+    Tenant tenant = getTestTenantDetails();
+
+    Optional<UserDirectory> userDirectoryOptional = securityService.createTenant(tenant, true);
+
+    if (userDirectoryOptional.isEmpty()) {
+      fail("Failed to retrieve the new user directory for the new tenant");
+    }
+
+    UserDirectory userDirectory = userDirectoryOptional.get();
+
+    Group group = getTestGroupDetails(userDirectory.getId());
+
+    securityService.createGroup(group);
+
+    User user = getTestUserDetails(userDirectory.getId());
+
+    securityService.createUser(user, false, false);
+    securityService.addUserToGroup(userDirectory.getId(), group.getName(), user.getUsername());
+
+    UserAuthorization userAuthorization = securityService.getUserAuthorization(user.getUsername());
+
+    assertEquals(
+        userDirectory.getId(),
+        userAuthorization.getUserDirectoryId(),
+        "The correct user directory ID was not retrieved for the user");
+    assertEquals(
+        List.of(tenant.getId()),
+        userAuthorization.getTenantIds(),
+        "The correct tenant IDs were not retrieved for the user");
+    assertEquals(
+        List.of(userDirectory.getId()),
+        userAuthorization.getUserDirectoryIdsForTenants(),
+        "The correct user directory IDs for the tenants were not retrieved for the user");
+    assertTrue(
+        userAuthorization.getRoleCodes().isEmpty(),
+        "The correct role codes were not retrieved for the user");
+
+    assertSame(
+        userAuthorization,
+        securityService.getUserAuthorization(user.getUsername()),
+        "The cached effective authorization was not retrieved for the user");
+
+    securityService.addRoleToGroup(
+        userDirectory.getId(), group.getName(), SecurityService.ADMINISTRATOR_ROLE_CODE);
+
+    userAuthorization = securityService.getUserAuthorization(user.getUsername());
+
+    assertEquals(
+        List.of(SecurityService.ADMINISTRATOR_ROLE_CODE),
+        userAuthorization.getRoleCodes(),
+        "The effective authorization for the user was not invalidated when a role was added");
+
+    securityService.removeUserFromGroup(userDirectory.getId(), group.getName(), user.getUsername());
+
+    assertTrue(
+        securityService.getUserAuthorization(user.getUsername()).getRoleCodes().isEmpty(),
+        "The effective authorization for the user was not invalidated when the user was removed "
+            + "from a group");
+  }
+
+  /** Test the notification of the user authorization change listeners. */
+  @Test
+  public void userAuthorizationChangeListenerTest() throws Exception {
+    List<String> changes = new CopyOnWriteArrayList<>();
+
+    securityService.addUserAuthorizationChangeListener(
+        username -> changes.add(String.valueOf(username)));
+
+    Tenant tenant = getTestTenantDetails();
+
+    Optional<UserDirectory> userDirectoryOptional = securityService.createTenant(tenant, true);
+
+    if (userDirectoryOptional.isEmpty()) {
+      fail("Failed to retrieve the new user directory for the new tenant");
+    }
+
+    UserDirectory userDirectory = userDirectoryOptional.get();
+
+    Group group = getTestGroupDetails(userDirectory.getId());
+
+    securityService.createGroup(group);
+
+    User user = getTestUserDetails(userDirectory.getId());
+
+    securityService.createUser(user, false, false);
+
+    changes.clear();
+
+    securityService.addUserToGroup(userDirectory.getId(), group.getName(), user.getUsername());
+
+    assertTrue(
+        changes.contains("null"),
+        "The listeners were not notified when the user was added to a group");
+
+    changes.clear();
+
+    user.setName("Updated " + user.getName());
+
+    securityService.updateUser(user, false, false);
+
+    assertTrue(
+        changes.contains(user.getUsername()),
+        "The listeners were not notified when the user was updated");
+
+    changes.clear();
+
+    securityService.deleteUser(userDirectory.getId(), user.getUsername());
+
+    assertTrue(
+        changes.contains(user.getUsername()),
+        "The listeners were not notified when the user was deleted");
+  }
+
+  /** Test the caching of the user directory IDs for users. */
+  @Test
+  public void userDirectoryIdCacheTest() throws Exception {
+    Tenant tenant = getTestTenantDetails();
+
+    Optional<UserDirectory> userDirectoryOptional = securityService.createTenant(tenant, true);
+
+    if (userDirectoryOptional.isEmpty()) {
+      fail("Failed to retrieve the new user directory for the new tenant");
+    }
+
+    UserDirectory userDirectory = userDirectoryOptional.get();
+
+    User user = getTestUserDetails(userDirectory.getId());
+
+    String password = user.getPassword();
+
+    assertTrue(
+        securityService.getUserDirectoryIdForUser(user.getUsername()).isEmpty(),
+        "Retrieved a user directory ID for a user that does not exist");
+
+    securityService.createUser(user, false, false);
+
+    assertEquals(
+        Optional.of(userDirectory.getId()),
+        securityService.getUserDirectoryIdForUser(user.getUsername()),
+        "The correct user directory ID was not retrieved for the new user");
+
+    assertEquals(
+        Optional.of(userDirectory.getId()),
+        securityService.getUserDirectoryIdForUser(user.getUsername().toUpperCase()),
+        "The correct cached user directory ID was not retrieved for the user");
+
+    assertEquals(
+        userDirectory.getId(),
+        securityService.authenticate(user.getUsername(), password),
+        "The correct user directory ID was not returned when authenticating the user");
+
+    securityService.reloadUserDirectories();
+
+    assertEquals(
+        Optional.of(userDirectory.getId()),
+        securityService.getUserDirectoryIdForUser(user.getUsername()),
+        "The correct user directory ID was not retrieved after reloading the user directories");
+
+    securityService.deleteUser(userDirectory.getId(), user.getUsername());
+
+    assertTrue(
+        securityService.getUserDirectoryIdForUser(user.getUsername()).isEmpty(),
+        "Retrieved a user directory ID for a user that was deleted");
+  }
+
   /** Test the functionality to remove a user from a group. */
   @Test
   public void removeUserFromGroupTest() throws Exception {